@@ -23,14 +23,19 @@ import boofcv.abst.fiducial.calib.ConfigCircleAsymmetricGrid;
 import boofcv.abst.fiducial.calib.ConfigCircleRegularGrid;
 import boofcv.abst.fiducial.calib.ConfigSquareGrid;
 import boofcv.abst.geo.calibration.CalibrateMonoPlanar;
+import boofcv.abst.geo.calibration.CalibrationDetectionBatch;
 import boofcv.abst.geo.calibration.DetectorFiducialCalibration;
+import boofcv.abst.geo.calibration.ImageObservation;
 import boofcv.app.calib.AssistedCalibration;
 import boofcv.app.calib.AssistedCalibrationGui;
 import boofcv.app.calib.ComputeGeometryScore;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.fiducial.FactoryFiducialCalibration;
 import boofcv.gui.calibration.MonoPlanarPanel;
 import boofcv.gui.image.ShowImages;
 import boofcv.io.calibration.CalibrationIO;
+import boofcv.io.calibration.CalibrationImageFiles;
+import boofcv.io.calibration.CalibrationObservationCache;
 import boofcv.io.image.ConvertBufferedImage;
 import boofcv.io.image.UtilImageIO;
 import boofcv.io.webcamcapture.UtilWebcamCapture;
@@ -41,9 +46,6 @@ import com.github.sarxos.webcam.Webcam;
 import javax.swing.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 
 import static boofcv.app.calib.AssistedCalibration.IMAGE_DIRECTORY;
 import static boofcv.app.calib.AssistedCalibration.OUTPUT_DIRECTORY;
@@ -58,6 +60,9 @@ public class CameraCalibration extends BaseStandardInputApp {
 	protected String inputDirectory;
 	protected String outputFileName = "intrinsic.yaml";
 	protected DetectorFiducialCalibration detector;
+	protected CalibrationDetectionBatch.DetectorFactory detectorFactory;
+	protected String cacheDirectory;
+	protected int numThreads = 0;
 	protected boolean zeroSkew = true;
 	protected int numRadial = 2;
 	protected boolean tangential = false;
@@ -75,6 +80,10 @@ public class CameraCalibration extends BaseStandardInputApp {
 		System.out.println("  --Directory=<path>                 Directory containing calibration images");
 		System.out.println("  --Visualize=<true/false>           Should it visualize the results?");
 		System.out.println("                                     DEFAULT: true");
+		System.out.println("  --Threads=<int>                    Number of threads used to detect calibration targets");
+		System.out.println("                                     DEFAULT: 0 = number of processors");
+		System.out.println("  --Cache=<path>                     Directory where detected targets are saved and reused");
+		System.out.println("                                     on the next run.  Delete it if the images change.");
 		System.out.println();
 		System.out.println("Input: Webcam Options:  ");
 		System.out.println();
@@ -134,6 +143,10 @@ public class CameraCalibration extends BaseStandardInputApp {
 						inputType = InputType.IMAGE;
 					} else if( flagName.compareToIgnoreCase("Visualize") == 0 ) {
 						visualize = Boolean.parseBoolean(parameters);
+					} else if( flagName.compareToIgnoreCase("Threads") == 0 ) {
+						numThreads = Integer.parseInt(parameters);
+					} else if( flagName.compareToIgnoreCase("Cache") == 0 ) {
+						cacheDirectory = parameters;
 					} else if( flagName.compareToIgnoreCase("ZeroSkew") == 0 ) {
 						zeroSkew = Boolean.parseBoolean(parameters);
 					} else if( flagName.compareToIgnoreCase("NumRadial") == 0 ) {
@@ -191,9 +204,15 @@ public class CameraCalibration extends BaseStandardInputApp {
 
 		System.out.println("chessboard: "+numRows+" x "+numColumns);
 
-		ConfigChessboard config = new ConfigChessboard(numRows, numColumns, 1);
+		final ConfigChessboard config = new ConfigChessboard(numRows, numColumns, 1);
 
-		detector = FactoryFiducialCalibration.chessboard(config);
+		detectorFactory = new CalibrationDetectionBatch.DetectorFactory() {
+			@Override
+			public DetectorFiducialCalibration create() {
+				return FactoryFiducialCalibration.chessboard(config);
+			}
+		};
+		detector = detectorFactory.create();
 	}
 
 	protected void parseSquareGrid( int index , String []args ) {
@@ -232,9 +251,15 @@ public class CameraCalibration extends BaseStandardInputApp {
 
 		System.out.println("squaregrid: "+numRows+" x "+numColumns+" square/space = "+(square/space));
 
-		ConfigSquareGrid config = new ConfigSquareGrid(numRows, numColumns, square,space);
+		final ConfigSquareGrid config = new ConfigSquareGrid(numRows, numColumns, square,space);
 
-		detector = FactoryFiducialCalibration.squareGrid(config);
+		detectorFactory = new CalibrationDetectionBatch.DetectorFactory() {
+			@Override
+			public DetectorFiducialCalibration create() {
+				return FactoryFiducialCalibration.squareGrid(config);
+			}
+		};
+		detector = detectorFactory.create();
 	}
 
 	protected void parseCircle( int index , String []args , boolean asymmetric) {
@@ -272,15 +297,26 @@ public class CameraCalibration extends BaseStandardInputApp {
 
 		if( asymmetric ) {
 			System.out.println("circle asymmetric: "+numRows+" x "+numColumns+" diameter = "+diameter+" center distance = "+centerDistance);
-			ConfigCircleAsymmetricGrid config = new ConfigCircleAsymmetricGrid(numRows, numColumns, diameter, centerDistance);
+			final ConfigCircleAsymmetricGrid config = new ConfigCircleAsymmetricGrid(numRows, numColumns, diameter, centerDistance);
 
-			detector = FactoryFiducialCalibration.circleAsymmGrid(config);
+			detectorFactory = new CalibrationDetectionBatch.DetectorFactory() {
+				@Override
+				public DetectorFiducialCalibration create() {
+					return FactoryFiducialCalibration.circleAsymmGrid(config);
+				}
+			};
 		} else {
 			System.out.println("circle regular: "+numRows+" x "+numColumns+" diameter = "+diameter+" center distance = "+centerDistance);
-			ConfigCircleRegularGrid config = new ConfigCircleRegularGrid(numRows, numColumns, diameter, centerDistance);
+			final ConfigCircleRegularGrid config = new ConfigCircleRegularGrid(numRows, numColumns, diameter, centerDistance);
 
-			detector = FactoryFiducialCalibration.circleRegularGrid(config);
+			detectorFactory = new CalibrationDetectionBatch.DetectorFactory() {
+				@Override
+				public DetectorFiducialCalibration create() {
+					return FactoryFiducialCalibration.circleRegularGrid(config);
+				}
+			};
 		}
+		detector = detectorFactory.create();
 	}
 
 	public void process() {
@@ -321,38 +357,48 @@ public class CameraCalibration extends BaseStandardInputApp {
 			System.err.println("  "+inputDirectory);
 			System.exit(0);
 		}
-		List<File> files = Arrays.asList(directory.listFiles());
-		Collections.sort(files);
+		CalibrationImageFiles images = CalibrationImageFiles.fromDirectory(directory);
 
 		final MonoPlanarPanel gui = visualize ? new MonoPlanarPanel() : null;
 
-		if( files.isEmpty() ) {
+		if( images.size() == 0 ) {
 			System.err.println("No image files found!");
 			System.err.println(inputDirectory);
 			System.exit(0);
 		}
 
-		boolean first = true;
-		for( File f : files ){
-			if( f.isDirectory() || f.isHidden())
-				continue;
+		// detect calibration targets in all the images at once
+		BoofConcurrency.USE_CONCURRENT = numThreads != 1;
+		if( numThreads > 1 )
+			BoofConcurrency.setMaxThreads(numThreads);
 
-			BufferedImage buffered = UtilImageIO.loadImage(f.getPath());
-			if( buffered == null )
-				continue;
+		CalibrationDetectionBatch batch = new CalibrationDetectionBatch(detectorFactory);
+		if( cacheDirectory != null )
+			batch.setCache(new CalibrationObservationCache(new File(cacheDirectory)));
+		batch.process(images);
 
-			GrayF32 image = ConvertBufferedImage.convertFrom(buffered,(GrayF32)null);
+		if( cacheDirectory != null )
+			System.out.println("Detections for "+batch.getTotalCached()+" images loaded from cache");
+
+		boolean first = true;
+		for( int i = 0; i < images.size(); i++ ) {
+			ImageObservation results = batch.getResult(i);
+			if( results == null )
+				continue;
 
 			if( gui != null ) {
-				gui.addImage(f.getName(),buffered);
-				if( first ) {
-					first = false;
-					ShowImages.showWindow(gui,"Monocular Calibration",true);
+				BufferedImage buffered = UtilImageIO.loadImage(images.getFiles().get(i).getPath());
+				if( buffered != null ) {
+					gui.addImage(images.getName(i), buffered);
+					if (first) {
+						first = false;
+						ShowImages.showWindow(gui, "Monocular Calibration", true);
+					}
 				}
 			}
 
-			if( !calibrationAlg.addImage(image) )
-				System.err.println("Failed to detect target in "+f.getName());
+			if( !calibrationAlg.addObservation(results) )
+				System.err.println("Failed to detect target in "+images.getName(i));
 		}
 
 		// process and compute intrinsic parameters
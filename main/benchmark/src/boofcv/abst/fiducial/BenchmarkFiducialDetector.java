@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.fiducial;
+
+import boofcv.factory.fiducial.ConfigFiducialBinary;
+import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.factory.filter.binary.ConfigThreshold;
+import boofcv.factory.filter.binary.ThresholdType;
+import boofcv.io.UtilIO;
+import boofcv.io.image.UtilImageIO;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for detecting square binary fiducials in the example images.  Requires the data/example directory.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkFiducialDetector {
+
+	@Param({"FIXED","LOCAL_SQUARE"})
+	public String threshold;
+
+	FiducialDetector<GrayU8> detector;
+	List<GrayU8> images = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		String directory = UtilIO.pathExample("fiducial/binary/");
+
+		ConfigThreshold configThreshold;
+		if( ThresholdType.valueOf(threshold) == ThresholdType.FIXED )
+			configThreshold = ConfigThreshold.fixed(100);
+		else
+			configThreshold = ConfigThreshold.local(ThresholdType.valueOf(threshold),10);
+
+		detector = FactoryFiducial.squareBinary(new ConfigFiducialBinary(0.2), configThreshold, GrayU8.class);
+
+		images.clear();
+		for (int i = 0; i < 3; i++) {
+			String path = String.format("%simage%04d.jpg",directory,i);
+			GrayU8 image = UtilImageIO.loadImage(path,GrayU8.class);
+			if( image == null )
+				throw new IllegalArgumentException("Can't find image "+path);
+			images.add(image);
+		}
+	}
+
+	/**
+	 * Processes every image once.  Throughput is in units of image sets per second
+	 */
+	@Benchmark
+	public int detect() {
+		int total = 0;
+		for (int i = 0; i < images.size(); i++) {
+			detector.detect(images.get(i));
+			total += detector.totalFound();
+		}
+		return total;
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.filter.convolve.ConvolveWithBorder;
+import boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB;
+import boofcv.alg.filter.convolve.noborder.ConvolveImageUnrolled_SB_F32_F32;
+import boofcv.alg.filter.convolve.noborder.ConvolveImageUnrolled_SB_U8_I16;
+import boofcv.alg.filter.convolve.noborder.ConvolveImageUnrolled_SB_U8_I8_Div;
+import boofcv.alg.filter.convolve.noborder.ImplConvolveBox;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_S32;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_S32;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for different convolution operations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkConvolve {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"1","2","5"})
+	public int radius;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	Kernel2D_F32 kernel2D_F32;
+	Kernel1D_F32 kernelF32;
+	Kernel1D_S32 kernelI32;
+	Kernel2D_S32 kernel2D_I32;
+
+	GrayF32 input_F32 = new GrayF32(1,1);
+	GrayF32 out_F32 = new GrayF32(1,1);
+	GrayU8 input_U8 = new GrayU8(1,1);
+	GrayS16 input_S16 = new GrayS16(1,1);
+	GrayU8 out_U8 = new GrayU8(1,1);
+	GrayS16 out_S16 = new GrayS16(1,1);
+	GrayS32 out_S32 = new GrayS32(1,1);
+
+	ImageBorder1D_S32 border = new ImageBorder1D_S32(BorderIndex1D_Extend.class);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		Random rand = new Random(234);
+		for( ImageGray image : new ImageGray[]{input_F32,out_F32,input_U8,input_S16,out_U8,out_S16,out_S32}) {
+			image.reshape(width,height);
+		}
+		ImageMiscOps.fillUniform(input_U8,rand,0,20);
+		ImageMiscOps.fillUniform(input_S16,rand,0,20);
+		ImageMiscOps.fillUniform(input_F32,rand,0,20);
+
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
+		kernel2D_I32 = FactoryKernelGaussian.gaussian(Kernel2D_S32.class, -1, radius);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void horizontal_F32() {
+		ConvolveImageNoBorder.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void horizontalStandard_F32() {
+		ConvolveImageStandard_SB.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void horizontalUnrolled_F32() {
+		ConvolveImageUnrolled_SB_F32_F32.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void vertical_F32() {
+		ConvolveImageNoBorder.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void verticalStandard_F32() {
+		ConvolveImageStandard_SB.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void verticalUnrolled_F32() {
+		ConvolveImageUnrolled_SB_F32_F32.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void convolve2D_F32() {
+		ConvolveImageNoBorder.convolve(kernel2D_F32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void convolve2DStandard_F32() {
+		ConvolveImageStandard_SB.convolve(kernel2D_F32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void horizontalNormalized_F32() {
+		ConvolveNormalized.horizontal(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void verticalNormalized_F32() {
+		ConvolveNormalized.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void horizontal_U8_I16() {
+		ConvolveImageNoBorder.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void horizontalUnrolled_U8_I16() {
+		ConvolveImageUnrolled_SB_U8_I16.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void vertical_U8_I16() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void verticalUnrolled_U8_I16() {
+		ConvolveImageUnrolled_SB_U8_I16.vertical(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void horizontal_S16_I16() {
+		ConvolveImageNoBorder.horizontal(kernelI32, input_S16, out_S16);
+	}
+
+	@Benchmark
+	public void vertical_U8_I8_div() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void verticalUnrolled_U8_I8_div() {
+		ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernelI32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void convolve2D_U8_I16() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void convolve2D_U8_I8_div() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void convolve2DExtend_U8_I16() {
+		ConvolveWithBorder.convolve(kernel2D_I32, input_U8, out_S16, border);
+	}
+
+	@Benchmark
+	public void box_U8_S32_vertical() {
+		ImplConvolveBox.vertical(input_U8, out_S32, radius);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.filter.convolve.FactoryConvolve;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of going through the abstracted convolution filter instead of calling the
+ * convolution function directly, with and without creating the filter each time.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkConvolveAbstracted {
+
+	@Param({"1","2","5","9"})
+	public int radius;
+
+	Kernel1D_S32 kernelI32;
+	GrayU8 imgInt8 = new GrayU8(640,480);
+	GrayS16 out_I16 = new GrayS16(640,480);
+
+	FilterImageInterface<GrayU8,GrayS16> filter;
+
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(imgInt8,new Random(234),0,100);
+		kernelI32 = FactoryKernel.table1D_I32(radius);
+		filter = FactoryConvolve.convolve(kernelI32,
+				ImageType.single(GrayU8.class),ImageType.single(GrayS16.class),BorderType.SKIP,false);
+	}
+
+	@Benchmark
+	public void convolve_Vertical_I8_I16() {
+		ConvolveImageNoBorder.vertical(kernelI32,imgInt8,out_I16);
+	}
+
+	@Benchmark
+	public void abstracted_Vertical_I8_I16() {
+		FilterImageInterface<GrayU8,GrayS16> filter =
+				FactoryConvolve.convolve(kernelI32,
+						ImageType.single(GrayU8.class),ImageType.single(GrayS16.class),BorderType.SKIP,false);
+		filter.process(imgInt8,out_I16);
+	}
+
+	@Benchmark
+	public void pre_Vertical_I8_I16() {
+		filter.process(imgInt8,out_I16);
+	}
+}
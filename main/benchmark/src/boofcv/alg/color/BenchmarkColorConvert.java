@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.Planar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting between RGB and other color spaces
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkColorConvert {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	Planar<GrayF32> src_F32 = new Planar<>(GrayF32.class,1,1,3);
+	Planar<GrayF32> dst_F32 = new Planar<>(GrayF32.class,1,1,3);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		src_F32.reshape(width,height);
+		dst_F32.reshape(width,height);
+
+		GImageMiscOps.addUniform(src_F32,new Random(234),0,255);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void rgbToHsv_F32() {
+		ColorHsv.rgbToHsv_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void hsvToRgb_F32() {
+		ColorHsv.hsvToRgb_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void rgbToYuv_F32() {
+		ColorYuv.rgbToYuv_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void yuvToRgb_F32() {
+		ColorYuv.yuvToRgb_F32(src_F32,dst_F32);
+	}
+}
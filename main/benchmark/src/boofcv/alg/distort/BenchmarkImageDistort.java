@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import georegression.struct.homography.Homography2D_F32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for rendering a distorted image with and without the cached transform.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkImageDistort {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"U8","F32"})
+	public String dataType;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	int width,height;
+
+	ImageGray src,dst;
+
+	ImageDistort distort;
+	ImageDistort distortCached;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		width = Integer.parseInt(dimen[0]);
+		height = Integer.parseInt(dimen[1]);
+
+		Class imageType = ImageDataType.typeToSingleClass(ImageDataType.valueOf(dataType));
+		src = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		dst = GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(src,rand,0,200);
+
+		// small rotation and perspective distortion so that most of the image is inside the source image
+		Homography2D_F32 H = new Homography2D_F32(
+				0.98f,-0.05f,10f,
+				0.05f,0.98f,-5f,
+				1e-5f,1e-5f,1f);
+		PixelTransform2_F32 tran = new PixelTransformHomography_F32(H);
+
+		distort = createDistort(imageType, false);
+		distort.setModel(tran);
+		distortCached = createDistort(imageType, true);
+		distortCached.setModel(tran);
+	}
+
+	private static ImageDistort createDistort( Class imageType , boolean cached ) {
+		InterpolatePixelS interp = FactoryInterpolation.bilinearPixelS(imageType, BorderType.EXTENDED);
+		return FactoryDistort.distortSB(cached, interp, imageType);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void homographyBilinear() {
+		distort.apply(src, dst);
+	}
+
+	@Benchmark
+	public void homographyBilinearCrop() {
+		distort.apply(src, dst, 0, 0, width/2, height/2);
+	}
+
+	@Benchmark
+	public void cachedBilinear() {
+		distortCached.apply(src, dst);
+	}
+}
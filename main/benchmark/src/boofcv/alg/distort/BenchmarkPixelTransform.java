@@ -18,53 +18,35 @@
 
 package boofcv.alg.distort;
 
-import boofcv.misc.Performer;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.distort.PixelTransform2_F32;
 import georegression.struct.affine.Affine2D_F32;
 import georegression.struct.homography.Homography2D_F32;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Benchmark for applying pixel transforms to every pixel in a 640x480 image
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
 public class BenchmarkPixelTransform {
 
-
 	public static final int imgWidth = 640;
 	public static final int imgHeight = 480;
-	
-	public static final int TEST_TIME = 1000;
-
-	public static class TestPixelTransform_F32 implements Performer {
-		PixelTransform2_F32 alg;
-		String name;
-
-		public TestPixelTransform_F32(PixelTransform2_F32 alg, String name ) {
-			this.alg = alg;
-			this.name = name;
-		}
 
-		@Override
-		public void process() {
-			for (int y = 0; y < imgHeight; y++ )
-				for (int x = 0; x < imgWidth; x++)
-					alg.compute(x, y);
-		}
+	PixelTransform2_F32 homography;
+	PixelTransform2_F32 affine;
 
-		@Override
-		public String getName() {
-			return name;
-		}
-	}
-
-	
-	private static void benchmark(PixelTransform2_F32 alg , String name ) {
-		ProfileOperation.printOpsPerSec(new TestPixelTransform_F32(alg,name), TEST_TIME);
-	}
-	
-	public static void main( String args[] ) {
+	@Setup
+	public void setup() {
 		Random rand = new Random(234);
 
 		Affine2D_F32 affine = new Affine2D_F32((float)rand.nextGaussian(),(float)rand.nextGaussian(),
@@ -76,11 +58,28 @@ public class BenchmarkPixelTransform {
 				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
 				(float)rand.nextGaussian());
 
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
+		this.homography = new PixelTransformHomography_F32(homography);
+		this.affine = new PixelTransformAffine_F32(affine);
+	}
 
-		benchmark(new PixelTransformHomography_F32(homography), "Homography");
-		benchmark(new PixelTransformAffine_F32(affine), "Affine");
+	private static float computeAll( PixelTransform2_F32 alg ) {
+		float total = 0;
+		for (int y = 0; y < imgHeight; y++) {
+			for (int x = 0; x < imgWidth; x++) {
+				alg.compute(x, y);
+				total += alg.distX;
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public float homography() {
+		return computeAll(homography);
+	}
 
+	@Benchmark
+	public float affine() {
+		return computeAll(affine);
 	}
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.AssociateDescription;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for associating BRIEF-like binary descriptors.  The destination set is a shuffled copy of the
+ * source set with a fraction of the bits flipped, so every feature has a true match.  The recall of each
+ * algorithm is printed at the end of each trial.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkAssociationSpeedBrief {
+
+	// number of bits in a BRIEF descriptor
+	public static final int BITS = 512;
+
+	@Param({"1000","5000"})
+	public int numFeatures;
+
+	// probability of a bit being flipped in the true match
+	@Param({"0.1"})
+	public double noise;
+
+	FastQueue<TupleDesc_B> listA;
+	FastQueue<TupleDesc_B> listB;
+
+	AssociateDescription<TupleDesc_B> greedy;
+	AssociateDescription<TupleDesc_B> greedyPairwise;
+	AssociateDescription<TupleDesc_B> greedyBackwards;
+	AssociateDescription<TupleDesc_B> multiIndexHash;
+	AssociateDescription<TupleDesc_B> multiIndexHashRadius1;
+	AssociateDescription<TupleDesc_B> multiIndexHashBackwards;
+
+	// index of the true match in listB for each feature in listA
+	int[] truth;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		listA = new FastQueue<>(numFeatures, TupleDesc_B.class, false);
+		listB = new FastQueue<>(numFeatures, TupleDesc_B.class, false);
+
+		for (int i = 0; i < numFeatures; i++) {
+			TupleDesc_B a = new TupleDesc_B(BITS);
+			for (int j = 0; j < a.data.length; j++) {
+				a.data[j] = rand.nextInt();
+			}
+			listA.add(a);
+		}
+
+		List<Integer> shuffled = new ArrayList<>();
+		for (int i = 0; i < numFeatures; i++) {
+			shuffled.add(i);
+		}
+		Collections.shuffle(shuffled,rand);
+		truth = new int[numFeatures];
+		for (int i = 0; i < numFeatures; i++) {
+			truth[shuffled.get(i)] = i;
+			TupleDesc_B b = listA.get(shuffled.get(i)).copy();
+			for (int bit = 0; bit < BITS; bit++) {
+				if( rand.nextDouble() < noise )
+					b.data[bit/32] ^= 1 << (bit%32);
+			}
+			listB.add(b);
+		}
+
+		final ScoreAssociation<TupleDesc_B> score = FactoryAssociation.scoreHamming(TupleDesc_B.class);
+		// hides the bulk interface so that each pair is scored individually
+		ScoreAssociation<TupleDesc_B> scorePairwise = new ScoreAssociation<TupleDesc_B>() {
+			@Override
+			public double score(TupleDesc_B a, TupleDesc_B b) {
+				return score.score(a, b);
+			}
+
+			@Override
+			public MatchScoreType getScoreType() {
+				return score.getScoreType();
+			}
+		};
+
+		greedy = FactoryAssociation.greedy(score, Double.MAX_VALUE, false);
+		greedyPairwise = FactoryAssociation.greedy(scorePairwise, Double.MAX_VALUE, false);
+		greedyBackwards = FactoryAssociation.greedy(score, Double.MAX_VALUE, true);
+		multiIndexHash = FactoryAssociation.greedyMultiIndexHash(-1, 0, Double.MAX_VALUE, false);
+		multiIndexHashRadius1 = FactoryAssociation.greedyMultiIndexHash(-1, 1, Double.MAX_VALUE, false);
+		multiIndexHashBackwards = FactoryAssociation.greedyMultiIndexHash(-1, 0, Double.MAX_VALUE, true);
+	}
+
+	@TearDown
+	public void printRecall() {
+		printRecall("greedy", greedy);
+		printRecall("greedyPairwise", greedyPairwise);
+		printRecall("greedyBackwards", greedyBackwards);
+		printRecall("multiIndexHash", multiIndexHash);
+		printRecall("multiIndexHashRadius1", multiIndexHashRadius1);
+		printRecall("multiIndexHashBackwards", multiIndexHashBackwards);
+	}
+
+	private void printRecall( String name , AssociateDescription<TupleDesc_B> alg ) {
+		associate(alg, listA, listB);
+		System.out.printf("recall %-28s %6.4f%n", name,
+				BenchmarkAssociationSpeedSurf.recall(alg.getMatches(), truth));
+	}
+
+	private static int associate( AssociateDescription<TupleDesc_B> alg ,
+								  FastQueue<TupleDesc_B> listA, FastQueue<TupleDesc_B> listB ) {
+		alg.setSource(listA);
+		alg.setDestination(listB);
+		alg.associate();
+		return alg.getMatches().size;
+	}
+
+	@Benchmark
+	public int greedy() {
+		return associate(greedy, listA, listB);
+	}
+
+	@Benchmark
+	public int greedyPairwise() {
+		return associate(greedyPairwise, listA, listB);
+	}
+
+	@Benchmark
+	public int greedyBackwards() {
+		return associate(greedyBackwards, listA, listB);
+	}
+
+	@Benchmark
+	public int multiIndexHash() {
+		return associate(multiIndexHash, listA, listB);
+	}
+
+	@Benchmark
+	public int multiIndexHashRadius1() {
+		return associate(multiIndexHashRadius1, listA, listB);
+	}
+
+	@Benchmark
+	public int multiIndexHashBackwards() {
+		return associate(multiIndexHashBackwards, listA, listB);
+	}
+}
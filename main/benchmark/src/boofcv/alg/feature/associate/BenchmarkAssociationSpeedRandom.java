@@ -21,51 +21,50 @@ package boofcv.alg.feature.associate;
 import boofcv.abst.feature.associate.AssociateDescription;
 import boofcv.abst.feature.associate.ScoreAssociation;
 import boofcv.factory.feature.associate.FactoryAssociation;
-import boofcv.misc.Performer;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Benchmark for associating two sets of unrelated descriptors with uniformly distributed random values.
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
 public class BenchmarkAssociationSpeedRandom {
 
-	static final long TEST_TIME = 1000;
-	static final Random rand = new Random(234234);
 	static final int DOF = 50;
 	static final int NUM_FEATURES = 1000;
 
-	static final FastQueue<TupleDesc_F64> listA = createSet();
-	static final FastQueue<TupleDesc_F64> listB = createSet();
-
-	public static class General implements Performer {
+	FastQueue<TupleDesc_F64> listA;
+	FastQueue<TupleDesc_F64> listB;
 
-		AssociateDescription<TupleDesc_F64> alg;
-		String name;
+	AssociateDescription<TupleDesc_F64> greedy;
+	AssociateDescription<TupleDesc_F64> greedyBackwards;
+	AssociateDescription<TupleDesc_F64> randomForest;
 
-		public General(String name, AssociateDescription<TupleDesc_F64> alg) {
-			this.alg = alg;
-			this.name = name;
-		}
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+		listA = createSet(rand);
+		listB = createSet(rand);
 
-		@Override
-		public void process() {
-			alg.setSource(listA);
-			alg.setDestination(listB);
-			alg.associate();
-		}
+		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
 
-		@Override
-		public String getName() {
-			return name;
-		}
+		greedy = FactoryAssociation.greedy(score, Double.MAX_VALUE, false);
+		greedyBackwards = FactoryAssociation.greedy(score, Double.MAX_VALUE, true);
+		randomForest = FactoryAssociation.kdRandomForest(DOF,500,15,5,1233445565);
 	}
 
-	private static FastQueue<TupleDesc_F64> createSet() {
+	private static FastQueue<TupleDesc_F64> createSet( Random rand ) {
 		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
 				@Override
 				protected TupleDesc_F64 createInstance() {
@@ -82,15 +81,25 @@ public class BenchmarkAssociationSpeedRandom {
 		return ret;
 	}
 
-	public static void main( String argsp[ ] ) {
-		System.out.println("=========  Profile Description Length "+DOF+" ========== Num Features "+NUM_FEATURES);
-		System.out.println();
+	private int associate( AssociateDescription<TupleDesc_F64> alg ) {
+		alg.setSource(listA);
+		alg.setDestination(listB);
+		alg.associate();
+		return alg.getMatches().size;
+	}
 
-		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
+	@Benchmark
+	public int greedy() {
+		return associate(greedy);
+	}
+
+	@Benchmark
+	public int greedyBackwards() {
+		return associate(greedyBackwards);
+	}
 
-		ProfileOperation.printOpsPerSec(new General("Greedy", FactoryAssociation.greedy(score, Double.MAX_VALUE, false)),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new General("Greedy Backwards", FactoryAssociation.greedy(score, Double.MAX_VALUE, true)),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new General("Random Forest", FactoryAssociation.kdRandomForest(DOF,500,15,5,1233445565)),TEST_TIME);
-		
+	@Benchmark
+	public int randomForest() {
+		return associate(randomForest);
 	}
 }
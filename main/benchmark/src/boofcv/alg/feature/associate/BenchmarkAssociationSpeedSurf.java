@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.AssociateDescription;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for associating SURF-like descriptors.  The destination set is a shuffled copy of the source set
+ * with noise added, so every feature has a true match.  Descriptors are synthetic so that the benchmark
+ * doesn't depend on example data.  The recall of each algorithm, the fraction of features which are
+ * associated with their true match, is printed at the end of each trial.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkAssociationSpeedSurf {
+
+	// length of a SURF descriptor
+	public static final int DOF = 64;
+
+	@Param({"1000","5000"})
+	public int numFeatures;
+
+	FastQueue<TupleDesc_F64> listA;
+	FastQueue<TupleDesc_F64> listB;
+
+	AssociateDescription<TupleDesc_F64> greedy;
+	AssociateDescription<TupleDesc_F64> greedyBackwards;
+	AssociateDescription<TupleDesc_F64> randomForest;
+	AssociateDescription<TupleDesc_F64> greedyRandomForest;
+	AssociateDescription<TupleDesc_F64> greedyRandomForestBackwards;
+
+	// index of the true match in listB for each feature in listA
+	int[] truth;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		listA = new FastQueue<>(numFeatures, TupleDesc_F64.class, false);
+		listB = new FastQueue<>(numFeatures, TupleDesc_F64.class, false);
+
+		for (int i = 0; i < numFeatures; i++) {
+			TupleDesc_F64 a = new TupleDesc_F64(DOF);
+			for (int j = 0; j < DOF; j++) {
+				a.value[j] = rand.nextGaussian();
+			}
+			normalize(a);
+			listA.add(a);
+		}
+
+		List<Integer> shuffled = new ArrayList<>();
+		for (int i = 0; i < numFeatures; i++) {
+			shuffled.add(i);
+		}
+		Collections.shuffle(shuffled,rand);
+		truth = new int[numFeatures];
+		for (int i = 0; i < numFeatures; i++) {
+			truth[shuffled.get(i)] = i;
+			TupleDesc_F64 b = listA.get(shuffled.get(i)).copy();
+			for (int j = 0; j < DOF; j++) {
+				b.value[j] += rand.nextGaussian()*0.02;
+			}
+			normalize(b);
+			listB.add(b);
+		}
+
+		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
+
+		greedy = FactoryAssociation.greedy(score, Double.MAX_VALUE, false);
+		greedyBackwards = FactoryAssociation.greedy(score, Double.MAX_VALUE, true);
+		randomForest = FactoryAssociation.kdRandomForest(DOF, 500, 15, 5, 1233445565);
+		greedyRandomForest = FactoryAssociation.greedyKdRandomForest(
+				DOF, 500, 15, 5, 1233445565, Double.MAX_VALUE, false);
+		greedyRandomForestBackwards = FactoryAssociation.greedyKdRandomForest(
+				DOF, 500, 15, 5, 1233445565, Double.MAX_VALUE, true);
+	}
+
+	@TearDown
+	public void printRecall() {
+		printRecall("greedy", greedy);
+		printRecall("greedyBackwards", greedyBackwards);
+		printRecall("randomForest", randomForest);
+		printRecall("greedyRandomForest", greedyRandomForest);
+		printRecall("greedyRandomForestBackwards", greedyRandomForestBackwards);
+	}
+
+	private void printRecall( String name , AssociateDescription<TupleDesc_F64> alg ) {
+		associate(alg, listA, listB);
+		System.out.printf("recall %-28s %6.4f%n", name, recall(alg.getMatches(), truth));
+	}
+
+	/**
+	 * Fraction of source features which were associated with their true match
+	 */
+	static double recall( FastQueue<AssociatedIndex> matches , int[] truth ) {
+		int correct = 0;
+		for (int i = 0; i < matches.size; i++) {
+			AssociatedIndex a = matches.get(i);
+			if( truth[a.src] == a.dst )
+				correct++;
+		}
+		return correct/(double)truth.length;
+	}
+
+	private static void normalize( TupleDesc_F64 desc ) {
+		double norm = 0;
+		for (int i = 0; i < desc.value.length; i++) {
+			norm += desc.value[i]*desc.value[i];
+		}
+		norm = Math.sqrt(norm);
+		for (int i = 0; i < desc.value.length; i++) {
+			desc.value[i] /= norm;
+		}
+	}
+
+	private static int associate( AssociateDescription<TupleDesc_F64> alg ,
+								  FastQueue<TupleDesc_F64> listA, FastQueue<TupleDesc_F64> listB ) {
+		alg.setSource(listA);
+		alg.setDestination(listB);
+		alg.associate();
+		return alg.getMatches().size;
+	}
+
+	@Benchmark
+	public int greedy() {
+		return associate(greedy, listA, listB);
+	}
+
+	@Benchmark
+	public int greedyBackwards() {
+		return associate(greedyBackwards, listA, listB);
+	}
+
+	@Benchmark
+	public int randomForest() {
+		return associate(randomForest, listA, listB);
+	}
+
+	@Benchmark
+	public int greedyRandomForest() {
+		return associate(greedyRandomForest, listA, listB);
+	}
+
+	@Benchmark
+	public int greedyRandomForestBackwards() {
+		return associate(greedyRandomForestBackwards, listA, listB);
+	}
+}
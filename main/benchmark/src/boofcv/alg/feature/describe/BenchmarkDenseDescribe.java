@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.feature.dense.DescribeImageDense;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.dense.ConfigDenseHoG;
+import boofcv.factory.feature.dense.FactoryDescribeImageDense;
+import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for computing dense image descriptors across an entire image
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkDenseDescribe {
+
+	int width = 640;
+	int height = 480;
+
+	GrayF32 gray = new GrayF32(width, height);
+
+	DescribeImageDense<GrayF32, TupleDesc_F64> hogFast;
+	DescribeImageDense<GrayF32, TupleDesc_F64> hog;
+	DescribeImageDense<GrayF32, TupleDesc_F64> surfFast;
+	DescribeImageDense<GrayF32, TupleDesc_F64> surfStable;
+	DescribeImageDense<GrayF32, TupleDesc_F64> sift;
+
+	@Setup
+	public void setup() {
+		GImageMiscOps.fillUniform( gray , new Random(234234) , 0 , 200);
+
+		ConfigDenseHoG config = new ConfigDenseHoG();
+		config.fastVariant = true;
+		hogFast = FactoryDescribeImageDense.hog(config, ImageType.single(GrayF32.class));
+		hog = FactoryDescribeImageDense.hog(null, ImageType.single(GrayF32.class));
+		surfFast = FactoryDescribeImageDense.surfFast(null, GrayF32.class);
+		surfStable = FactoryDescribeImageDense.surfStable(null, GrayF32.class);
+		sift = FactoryDescribeImageDense.sift(null, GrayF32.class);
+	}
+
+	@Benchmark
+	public void hogFast() {
+		hogFast.process(gray);
+	}
+
+	@Benchmark
+	public void hog() {
+		hog.process(gray);
+	}
+
+	@Benchmark
+	public void surfFast() {
+		surfFast.process(gray);
+	}
+
+	@Benchmark
+	public void surfStable() {
+		surfStable.process(gray);
+	}
+
+	@Benchmark
+	public void sift() {
+		sift.process(gray);
+	}
+}
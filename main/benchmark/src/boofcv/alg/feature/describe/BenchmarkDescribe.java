@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.feature.describe.ConfigSurfDescribe;
+import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GConvertImage;
+import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
+import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.Planar;
+import georegression.struct.point.Point2D_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for describing a fixed set of random points in a {@link GrayF32} image, and in a color image
+ * for the descriptors which have a color variant.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class BenchmarkDescribe {
+
+	static int NUM_POINTS = 512;
+
+	final static int width = 640;
+	final static int height = 480;
+
+	GrayF32 gray;
+	Planar<GrayF32> colorMS;
+
+	Point2D_I32 pts[];
+	double scales[];
+	double yaws[];
+
+	DescribeRegionPoint surfFast;
+	DescribeRegionPoint surfFastColor;
+	DescribeRegionPoint surfStable;
+	DescribeRegionPoint surfStableColor;
+
+	int briefRadius = 16;
+	DescribePointBrief<GrayF32> brief;
+	DescribePointBriefSO<GrayF32> briefSO;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+
+		colorMS = new Planar<>(GrayF32.class, width, height, 3);
+		GImageMiscOps.fillUniform(colorMS, rand, 0, 100);
+
+		gray = GConvertImage.average(colorMS,gray);
+
+		pts = new Point2D_I32[ NUM_POINTS ];
+		scales = new double[ NUM_POINTS ];
+		yaws = new double[ NUM_POINTS ];
+		int border = 20;
+		for( int i = 0; i < NUM_POINTS; i++ ) {
+			int x = rand.nextInt(width-border*2)+border;
+			int y = rand.nextInt(height-border*2)+border;
+			pts[i] = new Point2D_I32(x,y);
+			scales[i] = rand.nextDouble()*3+1;
+			yaws[i] = 2.0*(rand.nextDouble()-0.5)*Math.PI;
+		}
+
+		ConfigSurfDescribe.Speed surfSpeed = new ConfigSurfDescribe.Speed();
+		ConfigSurfDescribe.Stability surfStable = new ConfigSurfDescribe.Stability();
+
+		surfFast = FactoryDescribeRegionPoint.surfFast(surfSpeed, GrayF32.class);
+		surfFastColor = FactoryDescribeRegionPoint.surfColorFast(surfSpeed, ImageType.pl(3, GrayF32.class));
+		this.surfStable = FactoryDescribeRegionPoint.surfStable(surfStable, GrayF32.class);
+		surfStableColor = FactoryDescribeRegionPoint.surfColorStable(surfStable, ImageType.pl(3, GrayF32.class));
+
+		brief = FactoryDescribePointAlgs.brief(FactoryBriefDefinition.gaussian2(new Random(123), 16, 512),
+				FactoryBlurFilter.gaussian(ImageType.single(GrayF32.class), 0, 4));
+		briefSO = FactoryDescribePointAlgs.briefso(FactoryBriefDefinition.gaussian2(new Random(123), briefRadius, 512),
+				FactoryBlurFilter.gaussian(ImageType.single(GrayF32.class), 0, 4));
+	}
+
+	private void describe( DescribeRegionPoint alg ) {
+		if( alg.getImageType().getFamily() == ImageType.Family.GRAY)
+			alg.setImage(gray);
+		else
+			alg.setImage(colorMS);
+
+		TupleDesc d = alg.createDescription();
+		for( int i = 0; i < pts.length; i++ ) {
+			Point2D_I32 p = pts[i];
+			alg.process(p.x,p.y,yaws[i],scales[i],d);
+		}
+	}
+
+	@Benchmark
+	public void surfFast() {
+		describe(surfFast);
+	}
+
+	@Benchmark
+	public void surfFastColor() {
+		describe(surfFastColor);
+	}
+
+	@Benchmark
+	public void surfStable() {
+		describe(surfStable);
+	}
+
+	@Benchmark
+	public void surfStableColor() {
+		describe(surfStableColor);
+	}
+
+	@Benchmark
+	public void brief512() {
+		brief.setImage(gray);
+		TupleDesc_B f = brief.createFeature();
+		for( int i = 0; i < pts.length; i++ ) {
+			Point2D_I32 p = pts[i];
+			brief.process(p.x,p.y,f);
+		}
+	}
+
+	@Benchmark
+	public void briefSO512() {
+		briefSO.setImage(gray);
+		TupleDesc_B f = briefSO.createFeature();
+		for( int i = 0; i < pts.length; i++ ) {
+			Point2D_I32 p = pts[i];
+			briefSO.process(p.x,p.y,(float)yaws[i],(float)(briefRadius*scales[i]),f);
+		}
+	}
+}
@@ -20,27 +20,40 @@ package boofcv.alg.feature.detect.edge;
 
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.feature.detect.edge.FactoryEdgeDetectors;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Benchmark for the Canny edge detector on an image composed of random rectangles, with and without
+ * tracing the edges into contours.
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
 public class BenchmarkDetectEdge {
-	static final long TEST_TIME = 1000;
 
 	int width = 640;
 	int height = 480;
 
-	Random rand = new Random(234);
-
 	GrayF32 input = new GrayF32(width,height);
+	GrayU8 output = new GrayU8(width,height);
+
+	CannyEdge<GrayF32,GrayF32> cannyMark = FactoryEdgeDetectors.canny(2,false, false, GrayF32.class, GrayF32.class);
+	CannyEdge<GrayF32,GrayF32> cannyTrace = FactoryEdgeDetectors.canny(2,true, false, GrayF32.class, GrayF32.class);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
 
-	public void createImage() {
 		for( int i = 0; i < 1000; i++ ) {
 			int width = 10+rand.nextInt(50);
 			int height = 10+rand.nextInt(50);
@@ -60,41 +73,13 @@ public class BenchmarkDetectEdge {
 		}
 	}
 
-	public class CannyMark extends PerformerBase {
-
-		CannyEdge<GrayF32,GrayF32> alg = FactoryEdgeDetectors.canny(2,false, false, GrayF32.class, GrayF32.class);
-		GrayU8 output = new GrayU8(width,height);
-
-		@Override
-		public void process() {
-			alg.process(input,5,10,output);
-		}
+	@Benchmark
+	public void cannyMark() {
+		cannyMark.process(input,5,10,output);
 	}
 
-	public class CannyTrace extends PerformerBase {
-
-		CannyEdge<GrayF32,GrayF32> alg = FactoryEdgeDetectors.canny(2,true, false, GrayF32.class, GrayF32.class);
-		GrayU8 output = new GrayU8(width,height);
-
-		@Override
-		public void process() {
-			alg.process(input,5,10,output);
-		}
-	}
-
-	public void performTests() {
-		createImage();
-
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new CannyMark(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new CannyTrace(), TEST_TIME);
-	}
-
-	public static void main( String args[] ) {
-		BenchmarkDetectEdge benchmark = new BenchmarkDetectEdge();
-		benchmark.performTests();
+	@Benchmark
+	public void cannyTrace() {
+		cannyTrace.process(input,5,10,output);
 	}
-
 }
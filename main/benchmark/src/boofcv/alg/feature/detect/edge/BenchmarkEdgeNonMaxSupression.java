@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.alg.feature.detect.edge.impl.ImplEdgeNonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the naive implementation of edge non-maximum suppression against the one which is used.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkEdgeNonMaxSupression {
+
+	final static int width = 640;
+	final static int height = 480;
+
+	GrayF32 intensity = new GrayF32(width,height);
+	GrayF32 output = new GrayF32(width,height);
+	GrayS8 direction4 = new GrayS8(width,height);
+	GrayS8 direction8 = new GrayS8(width,height);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+		ImageMiscOps.fillUniform(intensity, rand, 0, 100);
+		ImageMiscOps.fillUniform(direction4, rand, -1, 3);
+		ImageMiscOps.fillUniform(direction8, rand, -3, 5);
+	}
+
+	@Benchmark
+	public void naive4_F32() {
+		ImplEdgeNonMaxSuppression.naive4(intensity, direction4,output);
+	}
+
+	@Benchmark
+	public void main4_F32() {
+		GradientToEdgeFeatures.nonMaxSuppression4(intensity, direction4,output);
+	}
+
+	@Benchmark
+	public void naive8_F32() {
+		ImplEdgeNonMaxSuppression.naive8(intensity,direction8,output);
+	}
+
+	@Benchmark
+	public void main8_F32() {
+		GradientToEdgeFeatures.nonMaxSuppression8(intensity,direction8,output);
+	}
+}
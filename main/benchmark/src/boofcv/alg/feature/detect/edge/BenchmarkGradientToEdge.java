@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting the image gradient into edge intensity and orientation
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkGradientToEdge {
+
+	final static int width = 640;
+	final static int height = 480;
+
+	GrayF32 derivX_F32 = new GrayF32(width,height);
+	GrayF32 derivY_F32 = new GrayF32(width,height);
+
+	GrayF32 intensity_F32 = new GrayF32(width,height);
+	GrayF32 orientation_F32 = new GrayF32(width,height);
+
+	GrayS8 direction = new GrayS8(width,height);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+		ImageMiscOps.fillUniform(derivX_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivY_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(orientation_F32, rand, (float)(-Math.PI/2.0), (float)(Math.PI/2.0));
+	}
+
+	@Benchmark
+	public void euclidian_F32() {
+		GradientToEdgeFeatures.intensityE(derivX_F32,derivY_F32,intensity_F32);
+	}
+
+	@Benchmark
+	public void abs_F32() {
+		GradientToEdgeFeatures.intensityAbs(derivX_F32,derivY_F32,intensity_F32);
+	}
+
+	@Benchmark
+	public void orientation_F32() {
+		GradientToEdgeFeatures.direction(derivX_F32,derivY_F32,orientation_F32);
+	}
+
+	@Benchmark
+	public void orientation2_F32() {
+		GradientToEdgeFeatures.direction2(derivX_F32,derivY_F32,orientation_F32);
+	}
+
+	@Benchmark
+	public void discretize4() {
+		GradientToEdgeFeatures.discretizeDirection4(orientation_F32,direction);
+	}
+
+	@Benchmark
+	public void discretize8() {
+		GradientToEdgeFeatures.discretizeDirection8(orientation_F32,direction);
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.detect.extract.WrapperNonMaximumBlock;
+import boofcv.abst.feature.detect.extract.WrapperNonMaximumNaive;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the different non-maximum suppression algorithms which extract local extremes from
+ * an intensity image.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkExtractors {
+
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+	static float threshold = 1.0f;
+
+	@Param({"1","2","5","10"})
+	public int windowRadius;
+
+	GrayF32 intensity = new GrayF32(imgWidth, imgHeight);
+	QueueCorner corners = new QueueCorner(imgWidth * imgHeight);
+
+	NonMaxSuppression blockStrict;
+	NonMaxSuppression blockStrictMinMax;
+	NonMaxSuppression naiveStrict;
+	NonMaxSuppression blockRelaxed;
+	NonMaxSuppression naiveRelaxed;
+
+	@Setup
+	public void setup() {
+		// have about 1/20 the image below threshold
+		ImageMiscOps.fillUniform(intensity, new Random(33456), 0, threshold * 20.0f);
+
+		blockStrict = configure(new WrapperNonMaximumBlock(new NonMaxBlockStrict.Max()));
+		blockStrictMinMax = configure(new WrapperNonMaximumBlock(new NonMaxBlockStrict.MinMax()));
+		naiveStrict = configure(new WrapperNonMaximumNaive(new NonMaxExtractorNaive(true)));
+		blockRelaxed = configure(new WrapperNonMaximumBlock(new NonMaxBlockRelaxed.Max()));
+		naiveRelaxed = configure(new WrapperNonMaximumNaive(new NonMaxExtractorNaive(false)));
+	}
+
+	private NonMaxSuppression configure( NonMaxSuppression alg ) {
+		alg.setThresholdMaximum(threshold);
+		alg.setSearchRadius(windowRadius);
+		return alg;
+	}
+
+	private int extract( NonMaxSuppression alg ) {
+		corners.reset();
+		alg.process(intensity, null,null,corners,corners);
+		return corners.size;
+	}
+
+	@Benchmark
+	public int blockStrict() {
+		return extract(blockStrict);
+	}
+
+	@Benchmark
+	public int blockStrictMinMax() {
+		return extract(blockStrictMinMax);
+	}
+
+	@Benchmark
+	public int naiveStrict() {
+		return extract(naiveStrict);
+	}
+
+	@Benchmark
+	public int blockRelaxed() {
+		return extract(blockRelaxed);
+	}
+
+	@Benchmark
+	public int naiveRelaxed() {
+		return extract(naiveRelaxed);
+	}
+}
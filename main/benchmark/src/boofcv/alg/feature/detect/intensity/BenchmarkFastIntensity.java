@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.alg.feature.detect.intensity.impl.ImplFastHelper_U8;
+import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity12;
+import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity9;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the FAST corner intensity.  {@link DetectorFastNaive} is in the boofcv-feature benchmark
+ * directory because its tests use it as a reference.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkFastIntensity {
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+
+	GrayU8 input = new GrayU8(imgWidth,imgHeight);
+	GrayF32 intensity = new GrayF32(imgWidth,imgHeight);
+
+	DetectorFastNaive naive9 = new DetectorFastNaive(3,9,60);
+	ImplFastIntensity9<GrayU8> fast9 = new ImplFastIntensity9<>(new ImplFastHelper_U8(60));
+	ImplFastIntensity12<GrayU8> fast12 = new ImplFastIntensity12<>(new ImplFastHelper_U8(60));
+
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 255);
+	}
+
+	@Benchmark
+	public void fastNaive9() {
+		naive9.process(input);
+	}
+
+	@Benchmark
+	public void fast9() {
+		fast9.process(input,intensity);
+	}
+
+	@Benchmark
+	public void fast12() {
+		fast12.process(input,intensity);
+	}
+}
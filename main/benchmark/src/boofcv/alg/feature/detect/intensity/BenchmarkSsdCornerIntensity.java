@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.alg.feature.detect.intensity.impl.*;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for corner intensity algorithms which are computed from image derivatives.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkSsdCornerIntensity {
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+	static int windowRadius = 2;
+
+	GrayF32 intensity = new GrayF32(imgWidth,imgHeight);
+
+	GrayF32 derivX_F32 = new GrayF32(imgWidth, imgHeight);
+	GrayF32 derivY_F32 = new GrayF32(imgWidth, imgHeight);
+	GrayF32 derivXX_F32 = new GrayF32(imgWidth, imgHeight);
+	GrayF32 derivYY_F32 = new GrayF32(imgWidth, imgHeight);
+	GrayF32 derivXY_F32 = new GrayF32(imgWidth, imgHeight);
+	GrayS16 derivX_I16 = new GrayS16(imgWidth, imgHeight);
+	GrayS16 derivY_I16 = new GrayS16(imgWidth, imgHeight);
+	GrayS16 derivXX_I16 = new GrayS16(imgWidth, imgHeight);
+	GrayS16 derivYY_I16 = new GrayS16(imgWidth, imgHeight);
+	GrayS16 derivXY_I16 = new GrayS16(imgWidth, imgHeight);
+
+	ImplShiTomasiCorner_F32 klt_F32 = new ImplShiTomasiCorner_F32(windowRadius);
+	ImplShiTomasiCornerWeighted_F32 kltWeight_F32 = new ImplShiTomasiCornerWeighted_F32(windowRadius);
+	ImplShiTomasiCorner_S16 klt_I16 = new ImplShiTomasiCorner_S16(windowRadius);
+	ImplShiTomasiCornerWeighted_S16 kltWeight_I16 = new ImplShiTomasiCornerWeighted_S16(windowRadius);
+	ImplSsdCornerNaive kltNaive_I16 = new ImplSsdCornerNaive(imgWidth, imgHeight, windowRadius,false);
+	ImplHarrisCorner_F32 harris_F32 = new ImplHarrisCorner_F32(windowRadius, 0.04f);
+	ImplHarrisCorner_S16 harris_I16 = new ImplHarrisCorner_S16( windowRadius, 0.04f);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(derivX_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivY_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXX_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivYY_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXY_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivX_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivY_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXX_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivYY_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXY_I16, rand, 0, 255);
+	}
+
+	@Benchmark
+	public void klt_F32() {
+		klt_F32.process(derivX_F32, derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void kltWeight_F32() {
+		kltWeight_F32.process(derivX_F32, derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void harris_F32() {
+		harris_F32.process(derivX_F32, derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void kitRos_F32() {
+		KitRosCornerIntensity.process(intensity,derivX_F32, derivY_F32,derivXX_F32,derivYY_F32,derivXY_F32);
+	}
+
+	@Benchmark
+	public void klt_I16() {
+		klt_I16.process(derivX_I16, derivY_I16,intensity);
+	}
+
+	@Benchmark
+	public void kltWeight_I16() {
+		kltWeight_I16.process(derivX_I16, derivY_I16,intensity);
+	}
+
+	@Benchmark
+	public void harris_I16() {
+		harris_I16.process(derivX_I16, derivY_I16,intensity);
+	}
+
+	@Benchmark
+	public void kitRos_I16() {
+		KitRosCornerIntensity.process(intensity,derivX_I16, derivY_I16, derivXX_I16,derivYY_I16, derivXY_I16);
+	}
+
+	@Benchmark
+	public void kltNaive_I16() {
+		kltNaive_I16.process(derivX_I16, derivY_I16,intensity);
+	}
+}
@@ -22,55 +22,48 @@ import boofcv.alg.feature.detect.intensity.IntegralImageFeatureIntensity;
 import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Compares the naive and standard implementations of the Hessian intensity computed from an integral image,
+ * which is used by the Fast Hessian detector.
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
 public class BenchmarkFastHessianFeatureIntensity {
 	static int width = 640;
 	static int height = 480;
-	static long TEST_TIME = 1000;
 
 	static int skip = 1;
 	static int size = 15;
 
-	static Random rand = new Random(234);
-
-	static GrayF32 original = new GrayF32(width,height);
-	static GrayF32 integral = new GrayF32(width,height);
-	static GrayF32 intensity = new GrayF32(width,height);
+	GrayF32 original = new GrayF32(width,height);
+	GrayF32 integral = new GrayF32(width,height);
+	GrayF32 intensity = new GrayF32(width,height);
 
-	public static class Naive extends PerformerBase {
-
-		@Override
-		public void process() {
-			ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,intensity);
-		}
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(original,new Random(234),0,200);
+		IntegralImageOps.transform(original,integral);
 	}
 
-	public static class Standard extends PerformerBase {
-
-		@Override
-		public void process() {
-			IntegralImageFeatureIntensity.hessian(integral,skip,size,intensity);
-		}
+	@Benchmark
+	public void naive() {
+		ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,intensity);
 	}
 
-	public static void main(String args[]) {
-		ImageMiscOps.fillUniform(original,rand,0,200);
-		IntegralImageOps.transform(original,integral);
-
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println("     skip = "+skip+" size = "+size);
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new Naive(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Standard(), TEST_TIME);
+	@Benchmark
+	public void standard() {
+		IntegralImageFeatureIntensity.hessian(integral,skip,size,intensity);
 	}
 }
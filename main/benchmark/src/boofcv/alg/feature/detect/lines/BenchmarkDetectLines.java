@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.lines;
+
+import boofcv.abst.feature.detect.line.DetectLine;
+import boofcv.abst.feature.detect.line.DetectLineSegment;
+import boofcv.factory.feature.detect.line.ConfigHoughFoot;
+import boofcv.factory.feature.detect.line.ConfigHoughFootSubimage;
+import boofcv.factory.feature.detect.line.ConfigHoughPolar;
+import boofcv.factory.feature.detect.line.FactoryDetectLineAlgs;
+import boofcv.io.UtilIO;
+import boofcv.io.image.UtilImageIO;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the line detectors on an indoor image.  Requires the data/example directory.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkDetectLines {
+
+	float edgeThreshold = 30;
+	int maxLines = 10;
+
+	GrayF32 input;
+
+	DetectLine<GrayF32> houghPolar;
+	DetectLine<GrayF32> houghFoot;
+	DetectLine<GrayF32> houghFootSub;
+	DetectLineSegment<GrayF32> lineRansac;
+
+	@Setup
+	public void setup() {
+		input = UtilImageIO.loadImage(UtilIO.pathExample("lines_indoors.jpg"), GrayF32.class);
+		if( input == null )
+			throw new RuntimeException("Can't load lines_indoors.jpg.  Is the data/example directory missing?");
+
+		houghPolar = FactoryDetectLineAlgs.houghPolar(
+				new ConfigHoughPolar(3, 30, 4, Math.PI / 180, edgeThreshold, maxLines), GrayF32.class, GrayF32.class);
+		houghFoot = FactoryDetectLineAlgs.houghFoot(
+				new ConfigHoughFoot(3, 10, 5, edgeThreshold, maxLines), GrayF32.class, GrayF32.class);
+		houghFootSub = FactoryDetectLineAlgs.houghFootSub(
+				new ConfigHoughFootSubimage(3, 6, 5, edgeThreshold, maxLines, 2, 2), GrayF32.class, GrayF32.class);
+		lineRansac = FactoryDetectLineAlgs.lineRansac(40, 30, 2.36, true, GrayF32.class, GrayF32.class);
+	}
+
+	@Benchmark
+	public int houghPolar() {
+		return houghPolar.detect(input).size();
+	}
+
+	@Benchmark
+	public int houghFoot() {
+		return houghFoot.detect(input).size();
+	}
+
+	@Benchmark
+	public int houghFootSub() {
+		return houghFootSub.detect(input).size();
+	}
+
+	@Benchmark
+	public int lineRansac() {
+		return lineRansac.detect(input).size();
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detect.template.FactoryTemplateMatching;
+import boofcv.factory.feature.detect.template.TemplateScoreType;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for computing the template matching intensity across an entire image
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class BenchmarkTemplateIntensity {
+
+	int width = 320;
+	int height = 240;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"SUM_DIFF_SQ","NCC"})
+	public TemplateScoreType scoreType;
+
+	ImageGray image;
+	ImageGray template;
+
+	TemplateMatchingIntensity alg;
+
+	@Setup
+	public void setup() {
+		Class type = imageType.equals("U8") ? GrayU8.class : GrayF32.class;
+
+		image = GeneralizedImageOps.createSingleBand(type,width,height);
+		template = GeneralizedImageOps.createSingleBand(type,20,30);
+
+		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+		GImageMiscOps.fillUniform(template, rand, 0, 200);
+
+		alg = FactoryTemplateMatching.createIntensity(scoreType,type);
+	}
+
+	@Benchmark
+	public void process() {
+		alg.process(image,template);
+	}
+}
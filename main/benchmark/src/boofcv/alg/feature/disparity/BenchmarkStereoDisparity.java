@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.alg.feature.disparity.sgm.SgmCostAggregation;
+import boofcv.alg.feature.disparity.sgm.SgmDisparitySelector;
+import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.alg.transform.census.CensusVariants;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.disparity.FactoryStereoDisparityAlgs;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for dense stereo disparity on a rectified image pair where the right image is a shifted
+ * copy of the left.  Compares region based SAD against Semi-Global Matching.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkStereoDisparity {
+
+	@Param({"640x480","1280x720"})
+	public String size;
+
+	@Param({"64","128"})
+	public int maxDisparity;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	GrayU8 left = new GrayU8(1,1);
+	GrayU8 right = new GrayU8(1,1);
+	GrayU8 disparity = new GrayU8(1,1);
+
+	DisparityScoreSadRect<GrayU8,GrayU8> sadRect;
+	DisparityScoreWindowFive<GrayU8,GrayU8> sadRectFive;
+	SgmStereoDisparity sgm;
+
+	GrayS32 census = new GrayS32(1,1);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		left.reshape(width,height);
+		right.reshape(width,height);
+		disparity.reshape(width,height);
+
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(left,rand,0,200);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width-10; x++) {
+				right.set(x,y,left.get(x+10,y));
+			}
+		}
+
+		sadRect = FactoryStereoDisparityAlgs.scoreDisparitySadRect_U8(0,maxDisparity,3,3,
+				FactoryStereoDisparityAlgs.selectDisparity_S32(-1,2,0.1));
+		sadRectFive = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_U8(0,maxDisparity,2,2,
+				FactoryStereoDisparityAlgs.selectDisparity_S32(-1,2,0.1));
+		sgm = new SgmStereoDisparity(CensusVariants.BLOCK_5_5,0,maxDisparity,
+				new SgmCostAggregation(5,50,8),new SgmDisparitySelector(1,0.1));
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void sadRect() {
+		sadRect.process(left,right,disparity);
+	}
+
+	@Benchmark
+	public void sadRectFive() {
+		sadRectFive.process(left,right,disparity);
+	}
+
+	@Benchmark
+	public void census5x5() {
+		CensusTransform.region5x5(left,census);
+	}
+
+	@Benchmark
+	public void sgm() {
+		sgm.process(left,right,disparity);
+	}
+}
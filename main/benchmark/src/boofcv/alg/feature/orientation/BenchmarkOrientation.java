@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.orientation;
+
+import boofcv.abst.feature.orientation.*;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.orientation.FactoryOrientation;
+import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.struct.image.*;
+import georegression.struct.point.Point2D_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the orientation of randomly placed features with each of the orientation estimators.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class BenchmarkOrientation {
+
+	static final int NUM_POINTS = 1000;
+	static final int RADIUS = 6;
+	static final double OBJECT_TO_SCALE = 1.0/2.0;
+
+	static final int width = 640;
+	static final int height = 480;
+
+	@Param({"F32","U8"})
+	public String imageType;
+
+	ImageGray image;
+	ImageGray derivX;
+	ImageGray derivY;
+	ImageGray ii;
+
+	Point2D_I32 pts[];
+	double radiuses[];
+
+	Class imageClass;
+	Class derivClass;
+	Class integralClass;
+
+	OrientationImage algSift;
+	OrientationImage algNoGradient;
+	OrientationGradient algAverage;
+	OrientationGradient algAverageWeighted;
+	OrientationGradient algHistogram;
+	OrientationGradient algHistogramWeighted;
+	OrientationGradient algSliding;
+	OrientationGradient algSlidingWeighted;
+	OrientationIntegral algImageII;
+	OrientationIntegral algImageIIWeighted;
+	OrientationIntegral algAverageII;
+	OrientationIntegral algAverageIIWeighted;
+	OrientationIntegral algSlidingII;
+	OrientationIntegral algSlidingIIWeighted;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+
+		imageClass = imageType.equals("F32") ? GrayF32.class : GrayU8.class;
+		derivClass = imageType.equals("F32") ? GrayF32.class : GrayS16.class;
+		integralClass = imageType.equals("F32") ? GrayF32.class : GrayS32.class;
+
+		image = GeneralizedImageOps.createSingleBand(imageClass, width, height);
+		ii = GeneralizedImageOps.createSingleBand(integralClass, width, height);
+		derivX = GeneralizedImageOps.createSingleBand(derivClass, width, height);
+		derivY = GeneralizedImageOps.createSingleBand(derivClass, width, height);
+
+		GImageMiscOps.fillUniform(image, rand, 0, 100);
+		GIntegralImageOps.transform(image,ii);
+
+		ImageGradient gradient = FactoryDerivative.sobel(imageClass,derivClass);
+		gradient.process(image,derivX,derivY);
+
+		pts = new Point2D_I32[NUM_POINTS];
+		radiuses = new double[NUM_POINTS];
+		int border = 6;
+		for( int i = 0; i < NUM_POINTS; i++ ) {
+			int x = rand.nextInt(width-border*2)+border;
+			int y = rand.nextInt(height-border*2)+border;
+			pts[i] = new Point2D_I32(x,y);
+			radiuses[i] = rand.nextDouble()*100+10;
+		}
+
+		ConfigAverageIntegral confAverageIIW = new ConfigAverageIntegral();
+		confAverageIIW.weightSigma = -1;
+		ConfigSlidingIntegral confSlidingIIW = new ConfigSlidingIntegral();
+		confSlidingIIW.weightSigma = -1;
+
+		algSift = FactoryOrientation.sift(null,null,imageClass);
+		algNoGradient = FactoryOrientationAlgs.nogradient(OBJECT_TO_SCALE,RADIUS,imageClass);
+		algAverage = FactoryOrientationAlgs.average(OBJECT_TO_SCALE,RADIUS,false,derivClass);
+		algAverageWeighted = FactoryOrientationAlgs.average(OBJECT_TO_SCALE,RADIUS,true,derivClass);
+		algHistogram = FactoryOrientationAlgs.histogram(0.5,15,RADIUS,false,derivClass);
+		algHistogramWeighted = FactoryOrientationAlgs.histogram(0.5,15,RADIUS,true,derivClass);
+		algSliding = FactoryOrientationAlgs.sliding(OBJECT_TO_SCALE,15,Math.PI/3.0,RADIUS,false,derivClass);
+		algSlidingWeighted = FactoryOrientationAlgs.sliding(OBJECT_TO_SCALE,15,Math.PI/3.0,RADIUS,true,derivClass);
+		algImageII = FactoryOrientationAlgs.image_ii(OBJECT_TO_SCALE,RADIUS,1,4,0,integralClass);
+		algImageIIWeighted = FactoryOrientationAlgs.image_ii(OBJECT_TO_SCALE,RADIUS,1,4,-1,integralClass);
+		algAverageII = FactoryOrientationAlgs.average_ii(null,integralClass);
+		algAverageIIWeighted = FactoryOrientationAlgs.average_ii(confAverageIIW,integralClass);
+		algSlidingII = FactoryOrientationAlgs.sliding_ii(null,integralClass);
+		algSlidingIIWeighted = FactoryOrientationAlgs.sliding_ii(confSlidingIIW,integralClass);
+	}
+
+	private double gradient( OrientationGradient alg ) {
+		alg.setImage(derivX,derivY);
+		return computeAll(alg);
+	}
+
+	private double image( OrientationImage alg ) {
+		alg.setImage(image);
+		return computeAll(alg);
+	}
+
+	private double integral( OrientationIntegral alg ) {
+		alg.setImage(ii);
+		return computeAll(alg);
+	}
+
+	private double computeAll( RegionOrientation alg ) {
+		double total = 0;
+		for( int i = 0; i < pts.length; i++ ) {
+			Point2D_I32 p = pts[i];
+			alg.setObjectRadius(radiuses[i]);
+			total += alg.compute(p.x,p.y);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public double sift() {
+		return image(algSift);
+	}
+
+	@Benchmark
+	public double noGradient() {
+		return image(algNoGradient);
+	}
+
+	@Benchmark
+	public double average() {
+		return gradient(algAverage);
+	}
+
+	@Benchmark
+	public double averageWeighted() {
+		return gradient(algAverageWeighted);
+	}
+
+	@Benchmark
+	public double histogram() {
+		return gradient(algHistogram);
+	}
+
+	@Benchmark
+	public double histogramWeighted() {
+		return gradient(algHistogramWeighted);
+	}
+
+	@Benchmark
+	public double sliding() {
+		return gradient(algSliding);
+	}
+
+	@Benchmark
+	public double slidingWeighted() {
+		return gradient(algSlidingWeighted);
+	}
+
+	@Benchmark
+	public double imageII() {
+		return integral(algImageII);
+	}
+
+	@Benchmark
+	public double imageIIWeighted() {
+		return integral(algImageIIWeighted);
+	}
+
+	@Benchmark
+	public double averageII() {
+		return integral(algAverageII);
+	}
+
+	@Benchmark
+	public double averageIIWeighted() {
+		return integral(algAverageIIWeighted);
+	}
+
+	@Benchmark
+	public double slidingII() {
+		return integral(algSlidingII);
+	}
+
+	@Benchmark
+	public double slidingIIWeighted() {
+		return integral(algSlidingIIWeighted);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.peak;
+
+import boofcv.alg.feature.detect.peak.MeanShiftPeak;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.weights.WeightPixelGaussian_F32;
+import boofcv.alg.weights.WeightPixelUniform_F32;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import georegression.struct.point.Point2D_F32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for searching for the peak near a set of random locations using mean-shift
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class BenchmarkPeakFinding {
+
+	int width = 320;
+	int height = 240;
+	int radius = 2;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	ImageGray image;
+	List<Point2D_F32> locations = new ArrayList<>();
+
+	MeanShiftPeak gaussian;
+	MeanShiftPeak uniform;
+
+	@Setup
+	public void setup() {
+		Class type = imageType.equals("U8") ? GrayU8.class : GrayF32.class;
+
+		Random rand = new Random(234);
+		image = GeneralizedImageOps.createSingleBand(type,width,height);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+
+		for( int i = 0; i < 3000; i++ ) {
+			Point2D_F32 p = new Point2D_F32();
+			p.x = rand.nextFloat()*width;
+			p.y = rand.nextFloat()*height;
+			locations.add(p);
+		}
+
+		gaussian = new MeanShiftPeak(30,0.1f,new WeightPixelGaussian_F32(),type);
+		gaussian.setRadius(radius);
+		uniform = new MeanShiftPeak(30,0.1f,new WeightPixelUniform_F32(),type);
+		uniform.setRadius(radius);
+	}
+
+	private void search( MeanShiftPeak alg ) {
+		alg.setImage(image);
+		for( int i = 0; i < locations.size(); i++ ) {
+			Point2D_F32 p = locations.get(i);
+			alg.search(p.x,p.y);
+		}
+	}
+
+	@Benchmark
+	public void meanShiftGaussian() {
+		search(gaussian);
+	}
+
+	@Benchmark
+	public void meanShiftUniform() {
+		search(uniform);
+	}
+}
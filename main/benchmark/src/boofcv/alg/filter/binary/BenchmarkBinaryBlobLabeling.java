@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.LinearContourLabelTiled;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for labeling the blobs in a binary image with random noise.  The image border is set to zero.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkBinaryBlobLabeling {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	GrayU8 input = new GrayU8(1,1);
+	GrayS32 output = new GrayS32(1,1);
+
+	LinearContourLabelChang2004 chang8 = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+	LinearContourLabelChang2004 chang4 = new LinearContourLabelChang2004(ConnectRule.FOUR);
+	LinearContourLabelTiled tiled8 = new LinearContourLabelTiled(ConnectRule.EIGHT);
+	LinearContourLabelTiled tiled4 = new LinearContourLabelTiled(ConnectRule.FOUR);
+	FastQueue<Contour> contours = new FastQueue<>(Contour.class,true);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		input.reshape(width,height);
+		output.reshape(width,height);
+
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 2);
+		ImageMiscOps.fillBorder(input, 0, 1);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public int chang2004_8() {
+		chang8.process(input,output);
+		return chang8.getContours().size;
+	}
+
+	@Benchmark
+	public int chang2004_4() {
+		chang4.process(input,output);
+		return chang4.getContours().size;
+	}
+
+	@Benchmark
+	public int tiled_8() {
+		tiled8.process(input,output,contours);
+		return contours.size;
+	}
+
+	@Benchmark
+	public int tiled_4() {
+		tiled4.process(input,output,contours);
+		return contours.size;
+	}
+}
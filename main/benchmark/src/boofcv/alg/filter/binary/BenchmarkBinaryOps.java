@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.ImplBinaryInnerOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryNaiveOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayBinary;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for binary morphology on {@link GrayU8} images and bit packed {@link GrayBinary} images.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkBinaryOps {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	GrayU8 input = new GrayU8(1,1);
+	GrayU8 output = new GrayU8(1,1);
+	GrayBinary packedInput = new GrayBinary(1,1);
+	GrayBinary packedOutput = new GrayBinary(1,1);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		input.reshape(width,height);
+		output.reshape(width,height);
+		packedOutput.reshape(width,height);
+
+		// unstructured image.  naive is some times faster on these because it can escape earlier
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
+		BinaryPackedOps.convert(input, packedInput);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void naiveErode4() {
+		ImplBinaryNaiveOps.erode4(input, output);
+	}
+
+	@Benchmark
+	public void naiveErode8() {
+		ImplBinaryNaiveOps.erode8(input, output);
+	}
+
+	@Benchmark
+	public void naiveDilate4() {
+		ImplBinaryNaiveOps.dilate4(input, output);
+	}
+
+	@Benchmark
+	public void naiveDilate8() {
+		ImplBinaryNaiveOps.dilate8(input, output);
+	}
+
+	@Benchmark
+	public void naiveEdge4() {
+		ImplBinaryNaiveOps.edge4(input, output);
+	}
+
+	@Benchmark
+	public void naiveEdge8() {
+		ImplBinaryNaiveOps.edge8(input, output);
+	}
+
+	@Benchmark
+	public void naiveRemovePointNoise() {
+		ImplBinaryNaiveOps.removePointNoise(input, output);
+	}
+
+	@Benchmark
+	public void innerErode4() {
+		ImplBinaryInnerOps.erode4(input, output);
+	}
+
+	@Benchmark
+	public void innerErode8() {
+		ImplBinaryInnerOps.erode8(input, output);
+	}
+
+	@Benchmark
+	public void innerDilate4() {
+		ImplBinaryInnerOps.dilate4(input, output);
+	}
+
+	@Benchmark
+	public void innerDilate8() {
+		ImplBinaryInnerOps.dilate8(input, output);
+	}
+
+	@Benchmark
+	public void innerEdge4() {
+		ImplBinaryInnerOps.edge4(input, output);
+	}
+
+	@Benchmark
+	public void innerEdge8() {
+		ImplBinaryInnerOps.edge8(input, output);
+	}
+
+	@Benchmark
+	public void innerRemovePointNoise() {
+		ImplBinaryInnerOps.removePointNoise(input, output);
+	}
+
+	@Benchmark
+	public void erode4() {
+		BinaryImageOps.erode4(input, 1, output);
+	}
+
+	@Benchmark
+	public void erode8() {
+		BinaryImageOps.erode8(input, 1, output);
+	}
+
+	@Benchmark
+	public void dilate4() {
+		BinaryImageOps.dilate4(input, 1, output);
+	}
+
+	@Benchmark
+	public void dilate8() {
+		BinaryImageOps.dilate8(input, 1, output);
+	}
+
+	@Benchmark
+	public void edge4() {
+		BinaryImageOps.edge4(input, output);
+	}
+
+	@Benchmark
+	public void edge8() {
+		BinaryImageOps.edge8(input, output);
+	}
+
+	@Benchmark
+	public void removePointNoise() {
+		BinaryImageOps.removePointNoise(input, output);
+	}
+
+	@Benchmark
+	public void packedErode4() {
+		BinaryPackedOps.erode4(packedInput, 1, packedOutput);
+	}
+
+	@Benchmark
+	public void packedErode8() {
+		BinaryPackedOps.erode8(packedInput, 1, packedOutput);
+	}
+
+	@Benchmark
+	public void packedDilate4() {
+		BinaryPackedOps.dilate4(packedInput, 1, packedOutput);
+	}
+
+	@Benchmark
+	public void packedDilate8() {
+		BinaryPackedOps.dilate8(packedInput, 1, packedOutput);
+	}
+
+	@Benchmark
+	public void packedEdge4() {
+		BinaryPackedOps.edge4(packedInput, packedOutput);
+	}
+
+	@Benchmark
+	public void packedEdge8() {
+		BinaryPackedOps.edge8(packedInput, packedOutput);
+	}
+
+	@Benchmark
+	public void packedLogicAnd() {
+		BinaryPackedOps.logicAnd(packedInput, packedInput, packedOutput);
+	}
+
+	@Benchmark
+	public void packedConvert() {
+		BinaryPackedOps.convert(input, packedOutput);
+	}
+}
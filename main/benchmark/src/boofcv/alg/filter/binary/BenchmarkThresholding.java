@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.ThresholdSauvola;
+import boofcv.alg.filter.binary.impl.ThresholdSquareBlockMinMax_F32;
+import boofcv.alg.filter.binary.impl.ThresholdSquareBlockMinMax_U8;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for global and local thresholding.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkThresholding {
+
+	static int threshLower = 20;
+
+	static int adaptiveRadius = 6;
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	GrayU8 input = new GrayU8(1,1);
+	GrayF32 inputF32 = new GrayF32(1,1);
+	GrayU8 output_U8 = new GrayU8(1,1);
+	GrayU8 work = new GrayU8(1,1);
+	GrayU8 work2 = new GrayU8(1,1);
+
+	ThresholdSauvola sauvola = new ThresholdSauvola(adaptiveRadius,0.3f, true);
+	ThresholdSquareBlockMinMax_F32 blockMinMax_F32 =
+			new ThresholdSquareBlockMinMax_F32(2*adaptiveRadius+1,20,0.95f,true);
+	ThresholdSquareBlockMinMax_U8 blockMinMax_U8 =
+			new ThresholdSquareBlockMinMax_U8(2*adaptiveRadius+1,20,0.95,true);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		input.reshape(width,height);
+		inputF32.reshape(width,height);
+		output_U8.reshape(width,height);
+		work.reshape(width,height);
+		work2.reshape(width,height);
+
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+		ConvertImage.convert(input,inputF32);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void threshold() {
+		ThresholdImageOps.threshold(input, output_U8, threshLower, true);
+	}
+
+	@Benchmark
+	public void localSquare() {
+		ThresholdImageOps.localSquare(input, output_U8, adaptiveRadius, 0, true, work, work2);
+	}
+
+	@Benchmark
+	public void localGaussian() {
+		ThresholdImageOps.localGaussian(input, output_U8, adaptiveRadius, 0, true, work, work2);
+	}
+
+	@Benchmark
+	public void localSauvola() {
+		GThresholdImageOps.localSauvola(input, output_U8, adaptiveRadius, 0.3f, true);
+	}
+
+	@Benchmark
+	public void localSauvola_precreated() {
+		sauvola.process(inputF32,output_U8);
+	}
+
+	@Benchmark
+	public void squareBlockMinMax_F32() {
+		blockMinMax_F32.process(inputF32,output_U8);
+	}
+
+	@Benchmark
+	public void squareBlockMinMax_U8() {
+		blockMinMax_U8.process(input,output_U8);
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.filter.blur.impl.*;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the different median filter implementations. Not every implementation can handle every radius,
+ * or would finish in a reasonable amount of time, so each one is only run against the radii it's intended for.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+public class BenchmarkMedianFilter {
+
+	@State(Scope.Benchmark)
+	public static class Images {
+		@Param({"640x480","1920x1080"})
+		public String size;
+
+		@Param({"false","true"})
+		public boolean concurrent;
+
+		GrayU8 inputU8 = new GrayU8(1,1);
+		GrayU8 outputU8 = new GrayU8(1,1);
+		GrayF32 inputF32 = new GrayF32(1,1);
+		GrayF32 outputF32 = new GrayF32(1,1);
+
+		@Setup
+		public void setup() {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+
+			String[] dimen = size.split("x");
+			int width = Integer.parseInt(dimen[0]);
+			int height = Integer.parseInt(dimen[1]);
+
+			inputU8.reshape(width,height);
+			outputU8.reshape(width,height);
+			inputF32.reshape(width,height);
+			outputF32.reshape(width,height);
+
+			Random rand = new Random(234);
+			ImageMiscOps.fillUniform(inputU8,rand, 0, 100);
+			ImageMiscOps.fillUniform(inputF32,rand,0,200);
+		}
+
+		@TearDown
+		public void tearDown() {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+	}
+
+	/**
+	 * Radii for algorithms whose speed doesn't degrade badly as the region grows
+	 */
+	@State(Scope.Benchmark)
+	public static class Radius {
+		@Param({"1","2","5","10","25"})
+		public int radius;
+	}
+
+	/**
+	 * Radii for the brute force algorithms
+	 */
+	@State(Scope.Benchmark)
+	public static class NaiveRadius {
+		@Param({"1","2","5"})
+		public int naiveRadius;
+	}
+
+	/**
+	 * Sorting networks only exist for these radii
+	 */
+	@State(Scope.Benchmark)
+	public static class NetworkRadius {
+		@Param({"1","2"})
+		public int networkRadius;
+	}
+
+	@Benchmark
+	public void blurImageOps_U8( Images images , Radius r ) {
+		BlurImageOps.median(images.inputU8,images.outputU8,r.radius);
+	}
+
+	@Benchmark
+	public void blurImageOps_F32( Images images , Radius r ) {
+		BlurImageOps.median(images.inputF32,images.outputF32,r.radius);
+	}
+
+	@Benchmark
+	public void histogramNaive_U8( Images images , NaiveRadius r ) {
+		ImplMedianHistogramInnerNaive.process(images.inputU8,images.outputU8,r.naiveRadius,null,null);
+	}
+
+	@Benchmark
+	public void histogram_U8( Images images , Radius r ) {
+		ImplMedianHistogramInner.process(images.inputU8,images.outputU8,r.radius);
+	}
+
+	@Benchmark
+	public void sortNaive_U8( Images images , NaiveRadius r ) {
+		ImplMedianSortNaive.process(images.inputU8,images.outputU8,r.naiveRadius,null);
+	}
+
+	@Benchmark
+	public void sortNaive_F32( Images images , NaiveRadius r ) {
+		ImplMedianSortNaive.process(images.inputF32,images.outputF32,r.naiveRadius,null);
+	}
+
+	@Benchmark
+	public void constantTime_U8( Images images , Radius r ) {
+		ImplMedianConstantTime.process(images.inputU8,images.outputU8,r.radius);
+	}
+
+	@Benchmark
+	public void sortNetwork_U8( Images images , NetworkRadius r ) {
+		ImplMedianSortNetwork.process(images.inputU8,images.outputU8,r.networkRadius);
+	}
+
+	@Benchmark
+	public void sortNetwork_F32( Images images , NetworkRadius r ) {
+		ImplMedianSortNetwork.process(images.inputF32,images.outputF32,r.networkRadius);
+	}
+
+	@Benchmark
+	public void orderStatistic_F32( Images images , Radius r ) {
+		ImplMedianOrderStatistic.process(images.inputF32,images.outputF32,r.radius);
+	}
+}
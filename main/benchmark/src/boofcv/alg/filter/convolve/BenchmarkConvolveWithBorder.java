@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.*;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for convolutions which handle the image border by extending the image.  Interleaved and planar
+ * images have two bands.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkConvolveWithBorder {
+
+	static final int numBands = 2;
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"1","2","5"})
+	public int radius;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	Kernel2D_F32 kernel2D_F32;
+	Kernel1D_F32 kernelF32;
+	Kernel1D_S32 kernelI32;
+
+	GrayF32 src_SB_F32 = new GrayF32(1,1);
+	GrayF32 dst_SB_F32 = new GrayF32(1,1);
+	GrayU8 src_SB_U8 = new GrayU8(1,1);
+	GrayS16 src_SB_S16 = new GrayS16(1,1);
+	GrayS16 out_SB_I16 = new GrayS16(1,1);
+
+	InterleavedF32 src_IL_F32 = new InterleavedF32(1,1,numBands);
+	InterleavedF32 dst_IL_F32 = new InterleavedF32(1,1,numBands);
+
+	Planar<GrayF32> src_PL_F32 = new Planar<>(GrayF32.class,1,1,numBands);
+	Planar<GrayF32> dst_PL_F32 = new Planar<>(GrayF32.class,1,1,numBands);
+
+	ImageBorder_S32 border_I32 = new ImageBorder1D_S32(BorderIndex1D_Extend.class);
+	ImageBorder_F32 border_F32 = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+	ImageBorder_IL_F32 border_IL_F32 = new ImageBorder1D_IL_F32(BorderIndex1D_Extend.class);
+	ImageBorder<Planar<GrayF32>> border_PL_F32 = FactoryImageBorder.generic(BorderType.EXTENDED,
+			ImageType.pl(numBands,GrayF32.class));
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		src_SB_F32.reshape(width,height);
+		dst_SB_F32.reshape(width,height);
+		src_SB_U8.reshape(width,height);
+		src_SB_S16.reshape(width,height);
+		out_SB_I16.reshape(width,height);
+		src_IL_F32.reshape(width,height);
+		dst_IL_F32.reshape(width,height);
+		src_PL_F32.reshape(width,height);
+		dst_PL_F32.reshape(width,height);
+
+		Random rand = new Random(234234);
+		ImageMiscOps.fillUniform(src_SB_U8,rand, 0, 10);
+		ImageMiscOps.fillUniform(src_SB_S16,rand,0,20);
+		ImageMiscOps.fillUniform(src_SB_F32,rand,0,20);
+		ImageMiscOps.fillUniform(src_IL_F32,rand,0,20);
+		GImageMiscOps.fillUniform(src_PL_F32,rand,0,20);
+
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void horizontal_SB_U8() {
+		ConvolveWithBorder.horizontal(kernelI32, src_SB_U8, out_SB_I16,border_I32);
+	}
+
+	@Benchmark
+	public void vertical_SB_U8() {
+		ConvolveWithBorder.vertical(kernelI32, src_SB_U8, out_SB_I16,border_I32);
+	}
+
+	@Benchmark
+	public void horizontal_SB_U16() {
+		ConvolveWithBorder.horizontal(kernelI32, src_SB_S16, out_SB_I16,border_I32);
+	}
+
+	@Benchmark
+	public void vertical_SB_U16() {
+		ConvolveWithBorder.vertical(kernelI32, src_SB_S16, out_SB_I16,border_I32);
+	}
+
+	@Benchmark
+	public void horizontal_SB_F32() {
+		ConvolveWithBorder.horizontal(kernelF32, src_SB_F32, dst_SB_F32,border_F32);
+	}
+
+	@Benchmark
+	public void convolve2D_SB_F32() {
+		ConvolveWithBorder.convolve(kernel2D_F32, src_SB_F32, dst_SB_F32,border_F32);
+	}
+
+	@Benchmark
+	public void horizontal_IL_F32() {
+		ConvolveWithBorder.horizontal(kernelF32,src_IL_F32,dst_IL_F32,border_IL_F32);
+	}
+
+	@Benchmark
+	public void vertical_IL_F32() {
+		ConvolveWithBorder.vertical(kernelF32,src_IL_F32,dst_IL_F32,border_IL_F32);
+	}
+
+	@Benchmark
+	public void convolve2D_IL_F32() {
+		ConvolveWithBorder.convolve(kernel2D_F32,src_IL_F32,dst_IL_F32,border_IL_F32);
+	}
+
+	@Benchmark
+	public void horizontal_PL_F32() {
+		GConvolveImageOps.horizontal(kernelF32,src_PL_F32,dst_PL_F32,border_PL_F32);
+	}
+
+	@Benchmark
+	public void convolve2D_PL_F32() {
+		GConvolveImageOps.convolve(kernel2D_F32,src_PL_F32,dst_PL_F32,border_PL_F32);
+	}
+}
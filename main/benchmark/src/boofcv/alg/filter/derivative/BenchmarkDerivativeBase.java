@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.*;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Base class for benchmarking derivative classes.  Creates the input and derivative images and the borders
+ * which are used when the border is processed.
+ *
+ * @author Peter Abeles
+ */
+public abstract class BenchmarkDerivativeBase {
+	public static int imgWidth = 640;
+	public static int imgHeight = 480;
+
+	ImageBorder_S32 borderI32 = new ImageBorder1D_S32(BorderIndex1D_Extend.class);
+	ImageBorder_F32 borderF32 = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+
+	GrayF32 imgFloat32 = new GrayF32(imgWidth,imgHeight);
+	GrayF32 derivX_F32 = new GrayF32(imgWidth,imgHeight);
+	GrayF32 derivY_F32 = new GrayF32(imgWidth,imgHeight);
+	GrayF32 derivXY_F32 = new GrayF32(imgWidth,imgHeight);
+	GrayU8 imgInt8 = new GrayU8(imgWidth,imgHeight);
+	GrayS16 derivX_I16 = new GrayS16(imgWidth,imgHeight);
+	GrayS16 derivY_I16 = new GrayS16(imgWidth,imgHeight);
+	GrayS16 derivXY_I16 = new GrayS16(imgWidth,imgHeight);
+
+	@Setup
+	public void setupImages() {
+		Random rand = new Random(123);
+		GImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
+		GImageMiscOps.fillUniform(imgFloat32,rand,0,100);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for computing the Hessian using a Sobel kernel directly and from the image gradient
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkHessianSobel extends BenchmarkDerivativeBase {
+
+	GrayF32 tempA_F32 = new GrayF32(imgWidth,imgHeight);
+	GrayF32 tempB_F32 = new GrayF32(imgWidth,imgHeight);
+	GrayS16 tempA_I16 = new GrayS16(imgWidth,imgHeight);
+	GrayS16 tempB_I16 = new GrayS16(imgWidth,imgHeight);
+
+	@Benchmark
+	public void hessian_I8() {
+		HessianSobel.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16,borderI32);
+	}
+
+	@Benchmark
+	public void hessian_F32() {
+		HessianSobel.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void hessianFromDeriv_I8() {
+		GradientSobel.process(imgInt8,tempA_I16,tempB_I16,borderI32);
+		HessianFromGradient.hessianSobel(tempA_I16,tempB_I16,derivX_I16,derivY_I16,derivXY_I16,borderI32);
+	}
+
+	@Benchmark
+	public void hessianFromDeriv_F32() {
+		GradientSobel.process(imgFloat32,tempA_F32,tempB_F32,borderF32);
+		HessianFromGradient.hessianSobel(tempA_F32,tempB_F32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
+	}
+}
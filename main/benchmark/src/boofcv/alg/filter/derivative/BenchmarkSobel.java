@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.filter.derivative.impl.GradientSobel_Naive;
+import boofcv.alg.filter.derivative.impl.GradientSobel_Outer;
+import boofcv.alg.filter.derivative.impl.GradientSobel_UnrolledOuter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the different implementations of the Sobel gradient
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkSobel extends BenchmarkDerivativeBase {
+
+	@Benchmark
+	public void sobel_I8() {
+		GradientSobel.process(imgInt8,derivX_I16,derivY_I16,borderI32);
+	}
+
+	@Benchmark
+	public void sobel_F32() {
+		GradientSobel.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void sobelNaive_I8() {
+		GradientSobel_Naive.process(imgInt8,derivX_I16,derivY_I16);
+	}
+
+	@Benchmark
+	public void sobelNaive_F32() {
+		GradientSobel_Naive.process(imgFloat32,derivX_F32,derivY_F32);
+	}
+
+	@Benchmark
+	public void sobelOuter_I8() {
+		GradientSobel_Outer.process_I8(imgInt8,derivX_I16,derivY_I16);
+	}
+
+	@Benchmark
+	public void sobelOuter_I8_Sub() {
+		GradientSobel_Outer.process_I8_sub(imgInt8,derivX_I16,derivY_I16);
+	}
+
+	@Benchmark
+	public void sobelOuter_F32() {
+		GradientSobel_Outer.process_F32(imgFloat32,derivX_F32,derivY_F32);
+	}
+
+	@Benchmark
+	public void sobelUnrolledOuter_I8() {
+		GradientSobel_UnrolledOuter.process_I8(imgInt8,derivX_I16,derivY_I16);
+	}
+
+	@Benchmark
+	public void sobelUnrolledOuter_F32() {
+		GradientSobel_UnrolledOuter.process_F32(imgFloat32,derivX_F32,derivY_F32);
+	}
+
+	@Benchmark
+	public void sobelUnrolledOuter_F32_Sub() {
+		GradientSobel_UnrolledOuter.process_F32_sub(imgFloat32,derivX_F32,derivY_F32);
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.filter.derivative.impl.GradientThree_Standard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the different implementations of the three tap gradient
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkThree extends BenchmarkDerivativeBase {
+
+	@Benchmark
+	public void three_I8() {
+		GradientThree.process(imgInt8,derivX_I16,derivY_I16,borderI32);
+	}
+
+	@Benchmark
+	public void three_F32() {
+		GradientThree.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
+	}
+
+	@Benchmark
+	public void threeStandard_I8() {
+		GradientThree_Standard.process(imgInt8,derivX_I16,derivY_I16);
+	}
+
+	@Benchmark
+	public void threeStandard_F32() {
+		GradientThree_Standard.process(imgFloat32,derivX_F32,derivY_F32);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.misc;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayS8;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for down sampling an image by averaging square regions, comparing the general purpose
+ * implementation against the one which is specialized for a width of 2.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkAverageDownSample {
+	static final int width = 640;
+	static final int height = 480;
+
+	static int square = 4;
+
+	GrayU8 inputU8 = new GrayU8(width,height);
+	GrayS8 inputS8 = new GrayS8(width,height);
+	GrayU8 out2 = new GrayU8(1,1);
+	GrayU8 outN = new GrayU8(1,1);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+		ImageMiscOps.fillUniform(inputU8,rand,0,100);
+		ImageMiscOps.fillUniform(inputS8,rand,-50,50);
+
+		AverageDownSampleOps.reshapeDown(out2,width,height,2);
+		AverageDownSampleOps.reshapeDown(outN,width,height,square);
+	}
+
+	@Benchmark
+	public void general2() {
+		ImplAverageDownSampleN.down(inputU8, 2, out2);
+	}
+
+	@Benchmark
+	public void special2() {
+		ImplAverageDownSample2.down(inputU8, out2);
+	}
+
+	@Benchmark
+	public void general2S() {
+		ImplAverageDownSampleN.down(inputS8, 2, out2);
+	}
+
+	@Benchmark
+	public void generalN() {
+		ImplAverageDownSampleN.down(inputU8, square, outN);
+	}
+}
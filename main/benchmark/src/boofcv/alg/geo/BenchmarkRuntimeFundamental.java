@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EnumFundamental;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for estimating the fundamental and essential matrices from the minimum number of observations.
+ * The fundamental matrix is estimated from pixel observations and the essential matrix from normalized image
+ * coordinates.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkRuntimeFundamental {
+	public static final int NUM_POINTS = 500;
+
+	ArtificialStereoScene pixels = new ArtificialStereoScene();
+	ArtificialStereoScene normalized = new ArtificialStereoScene();
+
+	List<AssociatedPair> pixels8 = new ArrayList<>();
+	List<AssociatedPair> pixels7 = new ArrayList<>();
+	List<AssociatedPair> normalized8 = new ArrayList<>();
+	List<AssociatedPair> normalized7 = new ArrayList<>();
+	List<AssociatedPair> normalized6 = new ArrayList<>();
+
+	Estimate1ofEpipolar fundamentalLinear8;
+	Estimate1ofEpipolar fundamentalLinear7;
+	Estimate1ofEpipolar essentialLinear8;
+	Estimate1ofEpipolar essentialLinear7;
+	Estimate1ofEpipolar essentialNister5;
+
+	DMatrixRMaj found = new DMatrixRMaj(3,3);
+
+	@Setup
+	public void setup() {
+		pixels.init(NUM_POINTS,true,false);
+		normalized.init(NUM_POINTS,false,false);
+
+		for( int i = 0; i < 8; i++ ) {
+			pixels8.add(pixels.pairs.get(i));
+			normalized8.add(normalized.pairs.get(i));
+		}
+		pixels7.addAll(pixels8.subList(0,7));
+		normalized7.addAll(normalized8.subList(0,7));
+		normalized6.addAll(normalized8.subList(0,6));
+
+		fundamentalLinear8 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_8, 0);
+		fundamentalLinear7 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_7, 1);
+		essentialLinear8 = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_8, 0);
+		essentialLinear7 = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_7, 1);
+		essentialNister5 = FactoryMultiView.computeEssential_1(EnumEssential.NISTER_5, 1);
+	}
+
+	@Benchmark
+	public boolean fundamentalLinear8() {
+		return fundamentalLinear8.process(pixels8, found);
+	}
+
+	@Benchmark
+	public boolean fundamentalLinear7() {
+		return fundamentalLinear7.process(pixels7, found);
+	}
+
+	@Benchmark
+	public boolean essentialLinear8() {
+		return essentialLinear8.process(normalized8, found);
+	}
+
+	@Benchmark
+	public boolean essentialLinear7() {
+		return essentialLinear7.process(normalized7, found);
+	}
+
+	@Benchmark
+	public boolean essentialNister5() {
+		return essentialNister5.process(normalized6, found);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for estimating a homography from pixel observations of a planar scene, using the minimum number
+ * of observations and using every observation.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkRuntimeHomography extends ArtificialStereoScene {
+	public static final int NUM_POINTS = 500;
+
+	List<AssociatedPair> pairs4 = new ArrayList<>();
+
+	Estimate1ofEpipolar normalized;
+	Estimate1ofEpipolar unnormalized;
+
+	DMatrixRMaj H = new DMatrixRMaj(3,3);
+
+	@Setup
+	public void setup() {
+		init(NUM_POINTS, true, true);
+
+		for( int i = 0; i < 4; i++ ) {
+			pairs4.add(pairs.get(i));
+		}
+
+		normalized = FactoryMultiView.computeHomography(true);
+		unnormalized = FactoryMultiView.computeHomography(false);
+	}
+
+	@Benchmark
+	public boolean linear4_normalized() {
+		return normalized.process(pairs4, H);
+	}
+
+	@Benchmark
+	public boolean linear4_unnormalized() {
+		return unnormalized.process(pairs4, H);
+	}
+
+	@Benchmark
+	public boolean linearN_normalized() {
+		return normalized.process(pairs, H);
+	}
+}
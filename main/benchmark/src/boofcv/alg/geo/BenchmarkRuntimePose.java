@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofPnP;
+import boofcv.alg.geo.pose.PnPLepetitEPnP;
+import boofcv.factory.geo.EnumPNP;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.Point2D3D;
+import georegression.struct.se.Se3_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for estimating the camera's pose from the minimum number of observations of known 3D points.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkRuntimePose extends ArtificialStereoScene {
+	public static final int NUM_POINTS = 5;
+
+	PnPLepetitEPnP epnp0 = new PnPLepetitEPnP();
+	PnPLepetitEPnP epnp5 = new PnPLepetitEPnP();
+	Estimate1ofPnP grunert;
+	Estimate1ofPnP finster;
+
+	List<Point2D3D> obsGrunert = new ArrayList<>();
+	List<Point2D3D> obsFinster = new ArrayList<>();
+
+	Se3_F64 found = new Se3_F64();
+
+	@Setup
+	public void setup() {
+		init(NUM_POINTS, false, false);
+
+		epnp0.setNumIterations(0);
+		epnp5.setNumIterations(5);
+		grunert = FactoryMultiView.computePnP_1(EnumPNP.P3P_GRUNERT,-1,1);
+		finster = FactoryMultiView.computePnP_1(EnumPNP.P3P_FINSTERWALDER,-1,1);
+
+		obsGrunert.addAll(observationPose.subList(0,grunert.getMinimumPoints()));
+		obsFinster.addAll(observationPose.subList(0,finster.getMinimumPoints()));
+	}
+
+	@Benchmark
+	public Se3_F64 epnp_iterations0() {
+		epnp0.process(worldPoints,observationCurrent,found);
+		return found;
+	}
+
+	@Benchmark
+	public Se3_F64 epnp_iterations5() {
+		epnp5.process(worldPoints,observationCurrent,found);
+		return found;
+	}
+
+	@Benchmark
+	public boolean p3p_grunert() {
+		return grunert.process(obsGrunert,found);
+	}
+
+	@Benchmark
+	public boolean p3p_finsterwalder() {
+		return finster.process(obsFinster,found);
+	}
+}
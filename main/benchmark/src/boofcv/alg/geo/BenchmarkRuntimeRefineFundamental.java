@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.RefineEpipolar;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EpipolarError;
+import boofcv.factory.geo.FactoryMultiView;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for refining an essential matrix using every observation.  The initial estimate is found
+ * with the linear 8 algorithm and then perturbed.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkRuntimeRefineFundamental extends ArtificialStereoScene {
+	public static final int NUM_POINTS = 500;
+	public static final double TOL = 1e-16;
+	public static final int MAX_ITER = 100;
+
+	DMatrixRMaj initialF = new DMatrixRMaj(3,3);
+	DMatrixRMaj refinedF = new DMatrixRMaj(3,3);
+
+	RefineEpipolar sampson;
+	RefineEpipolar simple;
+	RefineEpipolar quasiNewtonSampson;
+
+	@Setup
+	public void setup() {
+		init(NUM_POINTS, false, false);
+
+		Estimate1ofEpipolar computeAlg = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_8, 0);
+		if( !computeAlg.process(pairs,initialF) )
+			throw new RuntimeException("Initial estimate failed");
+		initialF.data[0] += 0.1;
+		initialF.data[4] -= 0.15;
+		initialF.data[7] -= 0.2;
+
+		sampson = FactoryMultiView.refineFundamental(TOL, MAX_ITER, EpipolarError.SAMPSON);
+		simple = FactoryMultiView.refineFundamental(TOL, MAX_ITER, EpipolarError.SIMPLE);
+		quasiNewtonSampson = new QuasiNewtonFundamentalSampson(TOL, MAX_ITER);
+	}
+
+	@Benchmark
+	public boolean leastSquaresSampson() {
+		return sampson.fitModel(pairs, initialF, refinedF);
+	}
+
+	@Benchmark
+	public boolean leastSquaresSimple() {
+		return simple.fitModel(pairs, initialF, refinedF);
+	}
+
+	@Benchmark
+	public boolean quasiNewtonSampson() {
+		return quasiNewtonSampson.fitModel(pairs, initialF, refinedF);
+	}
+}
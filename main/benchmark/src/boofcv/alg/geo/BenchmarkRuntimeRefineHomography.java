@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.RefineEpipolar;
+import boofcv.alg.geo.h.HomographyLinear4;
+import boofcv.factory.geo.EpipolarError;
+import boofcv.factory.geo.FactoryMultiView;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for refining a homography using every observation of a planar scene.  The initial estimate is
+ * found with the linear algorithm and then perturbed.  The linear algorithm is included for comparison.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkRuntimeRefineHomography extends ArtificialStereoScene {
+	public static final int NUM_POINTS = 500;
+	public static final double TOL = 1e-16;
+	public static final int MAX_ITER = 200;
+
+	DMatrixRMaj initialH = new DMatrixRMaj(3,3);
+	DMatrixRMaj refinedH = new DMatrixRMaj(3,3);
+
+	RefineEpipolar simple;
+	RefineEpipolar sampson;
+	HomographyLinear4 linear4 = new HomographyLinear4(true);
+
+	@Setup
+	public void setup() {
+		init(NUM_POINTS, false, true);
+
+		Estimate1ofEpipolar computeAlg = FactoryMultiView.computeHomography(true);
+		if( !computeAlg.process(pairs,initialH) )
+			throw new RuntimeException("Initial estimate failed");
+		initialH.data[0] += 0.1;
+		initialH.data[4] -= 0.15;
+		initialH.data[7] -= 0.2;
+
+		simple = FactoryMultiView.refineHomography(TOL, MAX_ITER, EpipolarError.SIMPLE);
+		sampson = FactoryMultiView.refineHomography(TOL, MAX_ITER, EpipolarError.SAMPSON);
+	}
+
+	@Benchmark
+	public boolean simple() {
+		return simple.fitModel(pairs, initialH, refinedH);
+	}
+
+	@Benchmark
+	public boolean sampson() {
+		return sampson.fitModel(pairs, initialH, refinedH);
+	}
+
+	@Benchmark
+	public boolean linear4() {
+		return linear4.process(pairs, refinedH);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.alg.geo.triangulate.PixelDepthLinear;
+import boofcv.alg.geo.triangulate.TriangulateGeometric;
+import boofcv.alg.geo.triangulate.TriangulateLinearDLT;
+import boofcv.struct.geo.AssociatedPair;
+import georegression.struct.point.Point3D_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for triangulating points seen in two views.  Each operation triangulates every point in the scene.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkRuntimeTriangulate extends ArtificialStereoScene {
+	public static final int NUM_POINTS = 500;
+
+	TriangulateLinearDLT dlt = new TriangulateLinearDLT();
+	TriangulateGeometric geometric = new TriangulateGeometric();
+	PixelDepthLinear pixelDepth = new PixelDepthLinear();
+
+	Point3D_F64 found = new Point3D_F64();
+
+	@Setup
+	public void setup() {
+		init(NUM_POINTS, false, false);
+	}
+
+	@Benchmark
+	public Point3D_F64 linearDLT() {
+		for( int i = 0; i < pairs.size(); i++ ) {
+			AssociatedPair p = pairs.get(i);
+			dlt.triangulate(p.p1,p.p2,motion,found);
+		}
+		return found;
+	}
+
+	@Benchmark
+	public Point3D_F64 geometric() {
+		for( int i = 0; i < pairs.size(); i++ ) {
+			AssociatedPair p = pairs.get(i);
+			geometric.triangulate(p.p1,p.p2,motion,found);
+		}
+		return found;
+	}
+
+	@Benchmark
+	public double pixelDepthLinear() {
+		double total = 0;
+		for( int i = 0; i < pairs.size(); i++ ) {
+			AssociatedPair p = pairs.get(i);
+			total += pixelDepth.depth2View(p.p1,p.p2,motion);
+		}
+		return total;
+	}
+}
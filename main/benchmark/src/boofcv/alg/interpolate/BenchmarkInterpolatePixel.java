@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate;
+
+import boofcv.alg.interpolate.impl.ImplBilinearPixel_F32;
+import boofcv.alg.interpolate.impl.ImplInterpolatePixelConvolution_F32;
+import boofcv.alg.interpolate.impl.ImplPolynomialPixel_F32;
+import boofcv.alg.interpolate.impl.NearestNeighborPixel_F32;
+import boofcv.alg.interpolate.kernel.BicubicKernel_F32;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for interpolating on a per-pixel basis
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkInterpolatePixel {
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+
+	// defines the region its interpolation
+	static float start = 10.1f;
+	static float end = 310.1f;
+	static float step = 1f;
+
+	GrayF32 imgFloat32 = new GrayF32(imgWidth, imgHeight);
+
+	ImplBilinearPixel_F32 bilinear;
+	NearestNeighborPixel_F32 nearest;
+	ImplInterpolatePixelConvolution_F32 bicubic = new ImplInterpolatePixelConvolution_F32(new BicubicKernel_F32(-0.5f),0,255);
+	ImplPolynomialPixel_F32 polynomial = new ImplPolynomialPixel_F32(5,0,255);
+
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(imgFloat32, new Random(234), 0, 200);
+
+		bilinear = new ImplBilinearPixel_F32(imgFloat32);
+		nearest = new NearestNeighborPixel_F32(imgFloat32);
+	}
+
+	private static float sample( InterpolatePixelS<GrayF32> alg ) {
+		float total = 0;
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				total += alg.get(x, y);
+		return total;
+	}
+
+	@Benchmark
+	public float bilinear_Safe_F32() {
+		return sample(bilinear);
+	}
+
+	@Benchmark
+	public float bilinear_UnSafe_F32() {
+		float total = 0;
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				total += bilinear.get_fast(x, y);
+		return total;
+	}
+
+	@Benchmark
+	public float nearestNeighbor_Safe_F32() {
+		return sample(nearest);
+	}
+
+	@Benchmark
+	public float bilinearConvolution_Safe_F32() {
+		bicubic.setImage(imgFloat32);
+		return sample(bicubic);
+	}
+
+	@Benchmark
+	public float polynomial_Safe_F32() {
+		polynomial.setImage(imgFloat32);
+		return sample(polynomial);
+	}
+}
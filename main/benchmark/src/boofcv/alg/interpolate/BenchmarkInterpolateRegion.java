@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate;
+
+import boofcv.alg.interpolate.impl.BilinearRectangle_F32;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark interpolating rectangular regions into a regular image and into a sub-image
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkInterpolateRegion {
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+
+	// defines the region its interpolation
+	static float start = 10.1f;
+	static int regionSize = 300;
+
+	GrayF32 imgFloat32 = new GrayF32(imgWidth, imgHeight);
+	GrayF32 outputImage = new GrayF32(regionSize,regionSize);
+	GrayF32 outputSubImage;
+
+	BilinearRectangle_F32 alg;
+
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(imgFloat32, new Random(234), 0, 200);
+		outputSubImage = BoofTesting.createSubImageOf(outputImage);
+
+		alg = new BilinearRectangle_F32(imgFloat32);
+	}
+
+	@Benchmark
+	public void bilinear_F32() {
+		alg.region(start, start, outputImage);
+	}
+
+	@Benchmark
+	public void bilinear_SubImage_F32() {
+		alg.region(start, start, outputSubImage);
+	}
+}
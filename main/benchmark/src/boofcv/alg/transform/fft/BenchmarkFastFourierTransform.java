@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.abst.transform.fft.DiscreteFourierTransformHalf;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.InterleavedF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the forward and inverse Fourier transform on a whole image and on a batch of small patches.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkFastFourierTransform {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	DiscreteFourierTransformHalf<GrayF32,InterleavedF32> dft = DiscreteFourierTransformOps.createTransformF32();
+
+	GrayF32 input = new GrayF32(1,1);
+	InterleavedF32 fourier = new InterleavedF32(1,1,2);
+	InterleavedF32 fourierHalf = new InterleavedF32(1,1,2);
+	GrayF32 output = new GrayF32(1,1);
+
+	// batch of small patches, similar to what a tracker would process
+	int patchSize = 64;
+	List<GrayF32> patches = new ArrayList<>();
+	List<InterleavedF32> patchesFourier = new ArrayList<>();
+	List<GrayF32> patchesOutput = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		input.reshape(width,height);
+		fourier.reshape(width,height);
+		fourierHalf.reshape(width/2+1,height);
+		output.reshape(width,height);
+
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		patches.clear();
+		patchesFourier.clear();
+		patchesOutput.clear();
+		for( int i = 0; i < 8; i++ ) {
+			GrayF32 patch = new GrayF32(patchSize,patchSize);
+			ImageMiscOps.fillUniform(patch, rand, 0, 100);
+			patches.add(patch);
+			patchesFourier.add(new InterleavedF32(patchSize/2+1,patchSize,2));
+			patchesOutput.add(new GrayF32(patchSize,patchSize));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void full() {
+		dft.forward(input,fourier);
+		dft.inverse(fourier,output);
+	}
+
+	@Benchmark
+	public void half() {
+		dft.forwardHalf(input,fourierHalf);
+		dft.inverseHalf(fourierHalf,output);
+	}
+
+	@Benchmark
+	public void batch() {
+		dft.forward(patches,patchesFourier,true);
+		dft.inverse(patchesFourier,patchesOutput,true);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for computing the integral image and for convolving kernels across it
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkIntegralImage {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	GrayF32 input = new GrayF32(1,1);
+	GrayF32 integral = new GrayF32(1,1);
+	GrayF32 output = new GrayF32(1,1);
+
+	IntegralKernel kernel = DerivativeIntegralImage.kernelDerivXX(9,null);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		input.reshape(width,height);
+		integral.reshape(width,height);
+		output.reshape(width,height);
+
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+		IntegralImageOps.transform(input,integral);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void computeIntegral() {
+		IntegralImageOps.transform(input,integral);
+	}
+
+	@Benchmark
+	public void derivXX() {
+		DerivativeIntegralImage.derivXX(integral,output,9);
+		IntegralImageOps.convolveBorder(integral,kernel,output,4,4);
+	}
+
+	@Benchmark
+	public void genericDerivXX() {
+		IntegralImageOps.convolve(integral,kernel,output);
+	}
+}
@@ -21,71 +21,56 @@ package boofcv.alg.transform.pyramid;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.factory.transform.pyramid.FactoryPyramid;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidFloat;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 
 /**
  * Shows runtime performance difference of each type of image pyramid given similar configurations.
  *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
 public class BenchmarkImagePyramids {
 	static int width = 640;
 	static int height = 480;
-	static long TEST_TIME = 1000;
-
-	static GrayF32 input = new GrayF32(width,height);
 
 	static int scalesD[] = new int[]{1,2,4,8};
 	static double scalesF[] = new double[]{1,2,4,8};
 
-	static PyramidDiscrete<GrayF32> pyramidD;
-	static PyramidFloat<GrayF32> pyramidF;
-
-	static Class<GrayF32> imageType = GrayF32.class;
+	GrayF32 input = new GrayF32(width,height);
 
-	public static class Float_F32 extends PerformerBase {
+	PyramidDiscrete<GrayF32> pyramidD;
+	PyramidFloat<GrayF32> pyramidF;
 
-		@Override
-		public void process() {
-			pyramidF.process(input);
-		}
-	}
-
-	public static class Discrete_F32 extends PerformerBase {
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 100);
 
-		@Override
-		public void process() {
-			pyramidD.process(input);
-		}
-	}
-
-	private static void createUpdate() {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1.0,2);
 		pyramidD = new PyramidDiscreteSampleBlur<>(kernel,2, ImageType.single(GrayF32.class),true,scalesD);
 
 		pyramidF = FactoryPyramid.scaleSpacePyramid(scalesF, GrayF32.class);
-
 	}
 
-	public static void main(String args[]) {
-
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(input, rand, 0, 100);
-		createUpdate();
-
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println();
+	@Benchmark
+	public void float_F32() {
+		pyramidF.process(input);
+	}
 
-		ProfileOperation.printOpsPerSec(new Float_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Discrete_F32(), TEST_TIME);
+	@Benchmark
+	public void discrete_F32() {
+		pyramidD.process(input);
 	}
 }
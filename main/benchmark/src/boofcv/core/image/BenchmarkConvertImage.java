@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks related to functions inside of ConvertImage
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkConvertImage {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	GrayF32 imgFloat32 = new GrayF32(1,1);
+	GrayU8 imgUInt8 = new GrayU8(1,1);
+	GrayS8 imgSInt8 = new GrayS8(1,1);
+	GrayU16 imgUInt16 = new GrayU16(1,1);
+	GrayS16 imgSInt16 = new GrayS16(1,1);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		imgFloat32.reshape(width,height);
+		imgUInt8.reshape(width,height);
+		imgSInt8.reshape(width,height);
+		imgUInt16.reshape(width,height);
+		imgSInt16.reshape(width,height);
+
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(imgFloat32,rand,0,200);
+		ImageMiscOps.fillUniform(imgUInt8,rand,0,200);
+		ImageMiscOps.fillUniform(imgSInt8,rand,-100,100);
+		ImageMiscOps.fillUniform(imgUInt16,rand,0,200);
+		ImageMiscOps.fillUniform(imgSInt16,rand,-100,100);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void float32ToUInt8() {
+		ConvertImage.convert(imgFloat32,imgUInt8);
+	}
+
+	@Benchmark
+	public void sInt8ToFloat32() {
+		ConvertImage.convert(imgSInt8,imgFloat32);
+	}
+
+	@Benchmark
+	public void uInt8ToFloat32() {
+		ConvertImage.convert(imgUInt8,imgFloat32);
+	}
+
+	@Benchmark
+	public void sInt16ToFloat32() {
+		ConvertImage.convert(imgSInt16,imgFloat32);
+	}
+
+	@Benchmark
+	public void uInt16ToFloat32() {
+		ConvertImage.convert(imgUInt16,imgFloat32);
+	}
+
+	@Benchmark
+	public void sInt16ToUInt8() {
+		ConvertImage.convert(imgSInt16,imgUInt8);
+	}
+
+	@Benchmark
+	public void uInt16ToUInt8() {
+		ConvertImage.convert(imgUInt16,imgUInt8);
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of writing to an image through the {@link GImageGray} wrapper against writing to
+ * its array directly.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkGImageGray {
+
+	static int width = 640;
+	static int height = 480;
+
+	GrayF32 input = new GrayF32(width,height);
+
+	GrayF32 output_F32 = new GrayF32(width,height);
+	GrayU8 output_U8 = new GrayU8(width,height);
+
+	GImageGray wrapped_F32 = FactoryGImageGray.wrap(output_F32);
+	GImageGray wrapped_U8 = FactoryGImageGray.wrap(output_U8);
+
+	@Setup
+	public void setup() {
+		ImageMiscOps.fillUniform(input,new Random(234),0,50);
+	}
+
+	@Benchmark
+	public void indexDirect_U8() {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				output_U8.data[index] = (byte)input.data[index];
+			}
+		}
+	}
+
+	@Benchmark
+	public void indexDirect_F32() {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				output_F32.data[index] = input.data[index];
+			}
+		}
+	}
+
+	@Benchmark
+	public void indexAccess_U8() {
+		indexAccess(wrapped_U8);
+	}
+
+	@Benchmark
+	public void indexAccess_F32() {
+		indexAccess(wrapped_F32);
+	}
+
+	@Benchmark
+	public void pixelAccess_U8() {
+		pixelAccess(wrapped_U8);
+	}
+
+	@Benchmark
+	public void pixelAccess_F32() {
+		pixelAccess(wrapped_F32);
+	}
+
+	private void indexAccess( GImageGray output ) {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				output.set(index,input.data[index]);
+			}
+		}
+	}
+
+	private void pixelAccess( GImageGray output ) {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				output.set(x,y,input.data[index]);
+			}
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.io.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks related to converting to and from BufferedImage.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkConvertBufferedImage {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"false","true"})
+	public boolean concurrent;
+
+	@Param({"BYTE_GRAY","3BYTE_BGR","INT_RGB"})
+	public String bufferedType;
+
+	BufferedImage imgBuff;
+	// always TYPE_BYTE_GRAY since that's the only type extractGrayU8() can handle
+	BufferedImage imgBuffGray;
+	GrayU8 imgU8 = new GrayU8(1,1);
+	Planar<GrayU8> planarU8;
+	InterleavedU8 interU8 = new InterleavedU8(1,1,3);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] dimen = size.split("x");
+		int width = Integer.parseInt(dimen[0]);
+		int height = Integer.parseInt(dimen[1]);
+
+		Random rand = new Random(342543);
+
+		imgU8.reshape(width,height);
+		interU8.reshape(width,height);
+		GImageMiscOps.fillUniform(imgU8, rand, 0, 100);
+
+		int type;
+		switch( bufferedType ) {
+			case "BYTE_GRAY": type = BufferedImage.TYPE_BYTE_GRAY; break;
+			case "3BYTE_BGR": type = BufferedImage.TYPE_3BYTE_BGR; break;
+			case "INT_RGB": type = BufferedImage.TYPE_INT_RGB; break;
+			default: throw new IllegalArgumentException("Unknown type "+bufferedType);
+		}
+		imgBuff = createBufferedImage(width,height,type,rand);
+		imgBuffGray = createBufferedImage(width,height,BufferedImage.TYPE_BYTE_GRAY,rand);
+
+		// converting a Planar image into a BufferedImage requires the same number of bands
+		planarU8 = new Planar<>(GrayU8.class,width,height,imgBuff.getRaster().getNumBands());
+		GImageMiscOps.fillUniform(planarU8, rand, 0, 100);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	private static BufferedImage createBufferedImage( int width , int height , int type , Random rand ) {
+		BufferedImage img = new BufferedImage(width,height,type);
+
+		// randomize it to prevent some pathological condition
+		for( int i = 0; i < height; i++ ) {
+			for( int j = 0; j < width; j++ ) {
+				img.setRGB(j,i,rand.nextInt());
+			}
+		}
+		return img;
+	}
+
+	@Benchmark
+	public void convertFrom_GrayU8() {
+		ConvertBufferedImage.convertFrom(imgBuff,imgU8,true);
+	}
+
+	@Benchmark
+	public void convertTo_GrayU8() {
+		ConvertBufferedImage.convertTo(imgU8,imgBuff,true);
+	}
+
+	@Benchmark
+	public void convertFrom_Planar() {
+		ConvertBufferedImage.convertFrom(imgBuff,planarU8,true);
+	}
+
+	@Benchmark
+	public void convertTo_Planar() {
+		ConvertBufferedImage.convertTo(planarU8,imgBuff,true);
+	}
+
+	@Benchmark
+	public void convertFrom_InterleavedU8() {
+		ConvertBufferedImage.convertFrom(imgBuff,interU8,true);
+	}
+
+	@Benchmark
+	public void wrapGrayU8() {
+		ConvertBufferedImage.wrapGrayU8(imgBuff,imgU8);
+	}
+
+	@Benchmark
+	public void wrapInterleavedU8() {
+		ConvertBufferedImage.wrapInterleavedU8(imgBuff,false,interU8);
+	}
+
+	@Benchmark
+	public void grayToBuffered() {
+		ConvertRaster.grayToBuffered(imgU8,imgBuff);
+	}
+
+	@Benchmark
+	public GrayU8 extractGrayU8() {
+		return ConvertBufferedImage.extractGrayU8(imgBuffGray);
+	}
+
+	@Benchmark
+	public BufferedImage extractBuffered() {
+		return ConvertBufferedImage.extractBuffered(imgU8);
+	}
+}
@@ -42,7 +42,7 @@ import java.util.List;
  * <ol>
  * <li>{@link #configure}</li> 
  * <li>{@link #reset}</li>
- * <li>{@link #addImage}</li>
+ * <li>{@link #addImage} or {@link #addObservation}</li>
  * <li>{@link #process}</li>
  * <li>{@link #getIntrinsic}</li>
  * </ol>
@@ -122,12 +122,7 @@ public class CalibrateMonoPlanar {
 	 */
 	public boolean addImage( GrayF32 image ) {
 
-		if( widthImg == 0 ) {
-			widthImg = image.width;
-			heightImg = image.height;
-		} else if( widthImg != image.width || heightImg != image.height ) {
-			throw new IllegalArgumentException("All images must have the same shape");
-		}
+		checkImageShape(image.width, image.height);
 
 		if( !detector.process(image) )
 			return false;
@@ -137,6 +132,33 @@ public class CalibrateMonoPlanar {
 		}
 	}
 
+	/**
+	 * Adds a view of the calibration target which has already been processed, e.g. by
+	 * {@link CalibrationDetectionBatch}.  This allows calibration to be run again without detecting
+	 * the target again.
+	 *
+	 * @param image Observations from an image
+	 * @return true if the target was detected in the image or not
+	 */
+	public boolean addObservation( ImageObservation image ) {
+		checkImageShape(image.width, image.height);
+
+		if( !image.isDetected() )
+			return false;
+
+		observations.add(image.observation);
+		return true;
+	}
+
+	private void checkImageShape( int width , int height ) {
+		if( widthImg == 0 ) {
+			widthImg = width;
+			heightImg = height;
+		} else if( widthImg != width || heightImg != height ) {
+			throw new IllegalArgumentException("All images must have the same shape");
+		}
+	}
+
 	/**
 	 * Removes the most recently added image
 	 */
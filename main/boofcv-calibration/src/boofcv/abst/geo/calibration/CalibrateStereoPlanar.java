@@ -118,6 +118,22 @@ public class CalibrateStereoPlanar {
 		return true;
 	}
 
+	/**
+	 * Adds a pair of images that observed the same target and have already been processed, e.g. by
+	 * {@link CalibrationDetectionBatch}.  The pair is skipped unless the target was detected in both.
+	 *
+	 * @param left Observations in left image.
+	 * @param right Observations in right image.
+	 */
+	public boolean addPair( ImageObservation left , ImageObservation right ) {
+		if( !left.isDetected() || !right.isDetected() )
+			return false;
+
+		calibLeft.addObservation(left);
+		calibRight.addObservation(right);
+		return true;
+	}
+
 	/**
 	 * Compute stereo calibration parameters
 	 *
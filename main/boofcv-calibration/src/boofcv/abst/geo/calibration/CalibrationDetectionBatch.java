@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.geo.calibration;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Detects calibration targets in a large set of images.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+ * then the images are split into blocks which are processed concurrently, each by its own detector created
+ * using a {@link DetectorFactory}.  Images are loaded on demand by the thread which processes them so only
+ * a few images are in memory at any time.
+ * </p>
+ *
+ * <p>
+ * An optional {@link ObservationCache} can be provided.  Images which are in the cache are not loaded or
+ * processed, and results from new images are saved to it.  This allows calibration to be run again, for
+ * example with a different distortion model, without detecting the targets a second time.
+ * </p>
+ *
+ * <p>
+ * Results are always returned in the same order as the images, independent of how many threads are used.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CalibrationDetectionBatch {
+
+	/**
+	 * Minimum number of images in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_IMAGES = 1;
+
+	/**
+	 * Creates a new detector for each thread.  All detectors must be configured identically.
+	 */
+	public interface DetectorFactory {
+		DetectorFiducialCalibration create();
+	}
+
+	/**
+	 * Provides access to the images being processed.  Must be safe to call from multiple threads at once.
+	 */
+	public interface ImageSource {
+		/**
+		 * Number of images
+		 */
+		int size();
+
+		/**
+		 * Unique name of the image.  Used as the key in the cache
+		 */
+		String getName( int index );
+
+		/**
+		 * Loads the image.
+		 *
+		 * @return The image or null if it could not be loaded
+		 */
+		GrayF32 load( int index );
+	}
+
+	/**
+	 * Storage for previously processed images.  Must be safe to call from multiple threads at once.
+	 */
+	public interface ObservationCache {
+		/**
+		 * Returns the cached results for an image or null if it has not been processed
+		 */
+		ImageObservation load( String name );
+
+		/**
+		 * Saves the results from an image
+		 */
+		void save( String name , ImageObservation results );
+	}
+
+	// creates a detector for each thread
+	DetectorFactory factory;
+	// detector used when processing in a single thread
+	DetectorFiducialCalibration detector;
+	// detectors for each block of images
+	FastQueue<DetectorFiducialCalibration> detectors;
+
+	// optional cache of results
+	ObservationCache cache;
+
+	// results for each image.  null if the image could not be loaded
+	ImageObservation results[];
+
+	// number of images which were found in the cache in the most recent call to process
+	int totalCached;
+
+	/**
+	 * Specifies how detectors are created
+	 *
+	 * @param factory Creates a new target detector
+	 */
+	public CalibrationDetectionBatch( final DetectorFactory factory ) {
+		this.factory = factory;
+		this.detector = factory.create();
+		this.detectors = new FastQueue<DetectorFiducialCalibration>(1,DetectorFiducialCalibration.class,true) {
+			@Override
+			protected DetectorFiducialCalibration createInstance() {
+				return factory.create();
+			}
+		};
+	}
+
+	/**
+	 * Detects the calibration target in all the images
+	 *
+	 * @param images Images which are to be processed
+	 */
+	public void process( final ImageSource images ) {
+		int N = images.size();
+		results = new ImageObservation[N];
+		totalCached = 0;
+
+		if( cache != null ) {
+			for( int i = 0; i < N; i++ ) {
+				results[i] = cache.load(images.getName(i));
+				if( results[i] != null )
+					totalCached++;
+			}
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, N, MIN_BLOCK_IMAGES, detectors,
+					new IntRangeObjectTask<DetectorFiducialCalibration>() {
+				@Override
+				public void process(DetectorFiducialCalibration detector, int idx0, int idx1) {
+					processImages(detector, images, idx0, idx1);
+				}
+			});
+		} else {
+			processImages(detector, images, 0, N);
+		}
+	}
+
+	/**
+	 * Processes images in the range [idx0,idx1) which are not in the cache
+	 */
+	void processImages( DetectorFiducialCalibration detector , ImageSource images , int idx0 , int idx1 ) {
+		for( int i = idx0; i < idx1; i++ ) {
+			if( results[i] != null )
+				continue;
+
+			GrayF32 image = images.load(i);
+			if( image == null )
+				continue;
+
+			ImageObservation r = new ImageObservation();
+			r.width = image.width;
+			r.height = image.height;
+			if( detector.process(image) )
+				r.observation = detector.getDetectedPoints();
+
+			results[i] = r;
+			if( cache != null )
+				cache.save(images.getName(i), r);
+		}
+	}
+
+	/**
+	 * Returns the results for each image in the same order as the images.  An element is null if the image
+	 * could not be loaded.
+	 */
+	public List<ImageObservation> getResults() {
+		List<ImageObservation> list = new ArrayList<>();
+		for( int i = 0; i < results.length; i++ ) {
+			list.add(results[i]);
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the results for a single image
+	 */
+	public ImageObservation getResult( int index ) {
+		return results[index];
+	}
+
+	/**
+	 * Number of images which were found in the cache in the most recent call to {@link #process}
+	 */
+	public int getTotalCached() {
+		return totalCached;
+	}
+
+	/**
+	 * Returns the detector used when processing in a single thread.  Useful for accessing the target's layout.
+	 */
+	public DetectorFiducialCalibration getDetector() {
+		return detector;
+	}
+
+	public ObservationCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Specifies a cache for detection results.  If null then there is no cache.
+	 */
+	public void setCache(ObservationCache cache) {
+		this.cache = cache;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.geo.calibration;
+
+import boofcv.alg.geo.calibration.CalibrationObservation;
+
+/**
+ * Calibration target observed in a single image along with the image's shape.  If the target
+ * was not detected then {@link #observation} is null.
+ *
+ * @author Peter Abeles
+ */
+public class ImageObservation {
+	/**
+	 * Shape of the image
+	 */
+	public int width, height;
+
+	/**
+	 * Observed calibration points or null if the target was not detected
+	 */
+	public CalibrationObservation observation;
+
+	public ImageObservation( int width , int height , CalibrationObservation observation ) {
+		this.width = width;
+		this.height = height;
+		this.observation = observation;
+	}
+
+	public ImageObservation() {
+	}
+
+	/**
+	 * Returns true if the calibration target was detected in the image
+	 */
+	public boolean isDetected() {
+		return observation != null;
+	}
+}
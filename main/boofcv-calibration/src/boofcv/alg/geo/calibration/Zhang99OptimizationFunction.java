@@ -18,38 +18,50 @@
 
 package boofcv.alg.geo.calibration;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import georegression.geometry.ConvertRotation3D_F64;
 import georegression.struct.point.Point2D_F64;
-import georegression.struct.point.Point3D_F64;
-import georegression.struct.se.Se3_F64;
-import georegression.transform.se.SePointOps_F64;
+import georegression.struct.point.Vector3D_F64;
 import org.ddogleg.optimization.functions.FunctionNtoM;
+import org.ejml.data.DMatrixRMaj;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * <p>
  * Function for performing non-linear optimization on the Zhang99 calibration parameters.
+ * </p>
+ *
+ * <p>
+ * Observations are copied into a packed array when constructed.  The rotation matrix for each view is
+ * computed once and then the residuals for blocks of views are computed concurrently if
+ * {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
  *
  * @author Peter Abeles
  */
 public class Zhang99OptimizationFunction implements FunctionNtoM {
 
+	/**
+	 * Minimum number of views in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_VIEWS = 4;
+
 	private int N,M;
-	
-	// description of the calibration grid
-	private List<Point3D_F64> grid = new ArrayList<>();
+
 	// optimization parameters
 	private Zhang99ParamAll param;
 
-	// variables for storing intermediate results
-	private Se3_F64 se = new Se3_F64();
-
-	private Point3D_F64 cameraPt = new Point3D_F64();
-	private Point2D_F64 normPt = new Point2D_F64();
+	// for each observation the location on the calibration grid and in the image.
+	// Packed as (grid x, grid y, pixel x, pixel y).  z=0 on the grid
+	private double obsData[];
+	// index of the first observation in each view.  Has numViews+1 elements
+	private int viewObsStart[];
 
-	// observations
-	private List<CalibrationObservation> observations;
+	// rotation matrix for each view
+	private double viewR[];
+	private DMatrixRMaj R = new DMatrixRMaj(3,3);
 
 	/**
 	 * Configurations the optimization function.
@@ -66,14 +78,29 @@ public class Zhang99OptimizationFunction implements FunctionNtoM {
 			throw new IllegalArgumentException("For each view there should be one observation");
 
 		this.param = param;
-		this.observations = observations;
-
-		for( Point2D_F64 p : grid ) {
-			this.grid.add( new Point3D_F64(p.x,p.y,0) );
-		}
 
 		N = param.numParameters();
 		M = CalibrationPlanarGridZhang99.totalPoints(observations)*2;
+
+		int numViews = observations.size();
+		obsData = new double[M*2];
+		viewObsStart = new int[numViews+1];
+		viewR = new double[numViews*9];
+
+		int index = 0;
+		for( int indexView = 0; indexView < numViews; indexView++ ) {
+			viewObsStart[indexView] = index/4;
+			CalibrationObservation viewSet = observations.get(indexView);
+			for( int i = 0; i < viewSet.size(); i++ ) {
+				Point2D_F64 gridPt = grid.get(viewSet.get(i).index);
+				Point2D_F64 obs = viewSet.get(i);
+				obsData[index++] = gridPt.x;
+				obsData[index++] = gridPt.y;
+				obsData[index++] = obs.x;
+				obsData[index++] = obs.y;
+			}
+		}
+		viewObsStart[numViews] = index/4;
 	}
 
 	@Override
@@ -93,38 +120,59 @@ public class Zhang99OptimizationFunction implements FunctionNtoM {
 		process(param,output);
 	}
 
-	public void process( Zhang99ParamAll param , double []residuals ) {
-		int index = 0;
-		for( int indexView = 0; indexView < param.views.length; indexView++ ) {
-
-			Zhang99ParamAll.View v = param.views[indexView];
+	public void process( final Zhang99ParamAll param , final double []residuals ) {
+		int numViews = param.views.length;
+		for( int indexView = 0; indexView < numViews; indexView++ ) {
+			ConvertRotation3D_F64.rodriguesToMatrix(param.views[indexView].rotation,R);
+			System.arraycopy(R.data,0,viewR,indexView*9,9);
+		}
 
-			ConvertRotation3D_F64.rodriguesToMatrix(v.rotation,se.getR());
-			se.T = v.T;
+		BoofConcurrency.loopBlocks(0, numViews, MIN_BLOCK_VIEWS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				computeResiduals(param, idx0, idx1, residuals);
+			}
+		});
+	}
 
-			CalibrationObservation viewSet = observations.get(indexView);
+	/**
+	 * Computes the residuals for all observations in views from idx0 to idx1-1
+	 */
+	void computeResiduals( Zhang99ParamAll param , int idx0 , int idx1 , double []residuals ) {
+		final double[] radial = param.radial;
+		final double t1 = param.t1, t2 = param.t2;
 
-			for( int i = 0; i < viewSet.size(); i++ ) {
+		for( int indexView = idx0; indexView < idx1; indexView++ ) {
+			final double[] r = viewR;
+			final int indexR = indexView*9;
+			Vector3D_F64 T = param.views[indexView].T;
 
-				int gridIndex = viewSet.get(i).index;
-				Point2D_F64 obs = viewSet.get(i);
+			for( int k = viewObsStart[indexView]; k < viewObsStart[indexView+1]; k++ ) {
+				double X = obsData[k*4], Y = obsData[k*4+1];
 
 				// Put the point in the camera's reference frame
-				SePointOps_F64.transform(se,grid.get(gridIndex), cameraPt);
+				double cx = r[indexR  ]*X + r[indexR+1]*Y + T.x;
+				double cy = r[indexR+3]*X + r[indexR+4]*Y + T.y;
+				double cz = r[indexR+6]*X + r[indexR+7]*Y + T.z;
 
 				// normalized image coordinates
-				normPt.x = cameraPt.x/ cameraPt.z;
-				normPt.y = cameraPt.y/ cameraPt.z;
+				double x = cx/cz;
+				double y = cy/cz;
 
 				// apply distortion
-				CalibrationPlanarGridZhang99.applyDistortion(normPt, param.radial, param.t1, param.t2);
+				double r2 = x*x + y*y;
+				double r2i = r2;
+				double sum = 0;
+				for( int i = 0; i < radial.length; i++ ) {
+					sum += radial[i]*r2i;
+					r2i *= r2;
+				}
+				double dx = x + x*sum + 2*t1*x*y + t2*(r2 + 2*x*x);
+				double dy = y + y*sum + t1*(r2 + 2*y*y) + 2*t2*x*y;
 
 				// convert to pixel coordinates
-				double x = param.a * normPt.x + param.c * normPt.y + param.x0;
-				double y = param.b * normPt.y + param.y0;
-
-				residuals[index++] = x-obs.x;
-				residuals[index++] = y-obs.y;
+				residuals[k*2  ] = param.a*dx + param.c*dy + param.x0 - obsData[k*4+2];
+				residuals[k*2+1] = param.b*dy + param.y0 - obsData[k*4+3];
 			}
 		}
 	}
@@ -19,17 +19,14 @@
 package boofcv.alg.geo.calibration;
 
 import boofcv.alg.geo.RodriguesRotationJacobian;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import georegression.geometry.ConvertRotation3D_F64;
-import georegression.geometry.GeometryMath_F64;
 import georegression.struct.point.Point2D_F64;
-import georegression.struct.point.Point3D_F64;
-import georegression.struct.se.Se3_F64;
 import georegression.struct.so.Rodrigues_F64;
-import georegression.transform.se.SePointOps_F64;
 import org.ddogleg.optimization.functions.FunctionNtoMxN;
 import org.ejml.data.DMatrixRMaj;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,6 +35,12 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * Observations are copied into a packed array when constructed.  The rotation matrix and its Rodrigues
+ * derivatives are computed once for each view and then the rows for blocks of views are computed concurrently
+ * if {@link BoofConcurrency#USE_CONCURRENT} is true.  Only non-zero elements are written to the output.
+ * </p>
+ *
+ * <p>
  * NOTE: Accuracy is tested in a unit test using a numerical Jacobian.  A very crude tolerance
  * was required to make it pass. I think this implementation is correct, but hand computing the
  * Jacobian is error prone.  In practice it produces virtually the same final results as the numerical
@@ -48,40 +51,37 @@ import java.util.List;
  */
 public class Zhang99OptimizationJacobian implements FunctionNtoMxN {
 
+	/**
+	 * Minimum number of views in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_VIEWS = 4;
+
 	// used to compute the Jacobian from Rodrigues coordinates
 	RodriguesRotationJacobian rodJacobian = new RodriguesRotationJacobian();
 
 	// local variable which stores the predicted location of the feature in the camera frame
 	Rodrigues_F64 rodrigues = new Rodrigues_F64();
+	DMatrixRMaj R = new DMatrixRMaj(3,3);
 
 	// number of functions and parameters being optimized
 	private int numParam, numFuncs;
 
-	// description of the calibration grid
-	private List<Point3D_F64> grid = new ArrayList<>();
-
-	// List of observation sets.  Required so that it knows the total number of observations in each set
-	private List<CalibrationObservation> observationSets;
+	// number of views
+	private int numViews;
 
-	// variables for storing intermediate results
-	private Se3_F64 se = new Se3_F64();
+	// for each observation the location on the calibration grid.  Packed as (grid x, grid y).  z=0
+	private double obsGrid[];
+	// index of the first observation in each view.  Has numViews+1 elements
+	private int viewObsStart[];
 
-	// location of point in camera frame
-	private Point3D_F64 cameraPt = new Point3D_F64();
-	// observed point location in undistorted normalized image coordinates
-	private Point2D_F64 normPt = new Point2D_F64();
-	// observed point location in distorted normalized image coordinates
-	private Point2D_F64 dnormPt = new Point2D_F64();
+	// rotation matrix, its partial for each Rodrigues parameter, and translation for each view
+	private double viewR[];
+	private double viewRodJac[];
+	private double viewT[];
 
 	// stores the optimization parameters
 	private Zhang99ParamCamera param;
 
-	// output index for x and y
-	int indexJacX;
-	int indexJacY;
-
-	Point3D_F64 Xdot = new Point3D_F64();
-
 	/**
 	 * Configurations the optimization function.
 	 *
@@ -93,16 +93,31 @@ public class Zhang99OptimizationJacobian implements FunctionNtoMxN {
 									   List<CalibrationObservation> observationSets,
 									   List<Point2D_F64> grid ) {
 		this.param = new Zhang99ParamCamera(assumeZeroSkew,numRadial,includeTangential);
-		this.observationSets = observationSets;
-
-		for( Point2D_F64 p : grid ) {
-			this.grid.add( new Point3D_F64(p.x,p.y,0) );
-		}
 
-		numParam = param.numParameters()+(3+3)*observationSets.size();
+		numViews = observationSets.size();
+		numParam = param.numParameters()+(3+3)*numViews;
 
-		numFuncs = CalibrationPlanarGridZhang99.totalPoints(observationSets)*2;
+		int numPoints = CalibrationPlanarGridZhang99.totalPoints(observationSets);
+		numFuncs = numPoints*2;
 		param.zeroNotUsed();
+
+		obsGrid = new double[numPoints*2];
+		viewObsStart = new int[numViews+1];
+		viewR = new double[numViews*9];
+		viewRodJac = new double[numViews*27];
+		viewT = new double[numViews*3];
+
+		int index = 0;
+		for( int indexView = 0; indexView < numViews; indexView++ ) {
+			viewObsStart[indexView] = index/2;
+			CalibrationObservation set = observationSets.get(indexView);
+			for( int i = 0; i < set.size(); i++ ) {
+				Point2D_F64 gridPt = grid.get(set.points.get(i).index);
+				obsGrid[index++] = gridPt.x;
+				obsGrid[index++] = gridPt.y;
+			}
+		}
+		viewObsStart[numViews] = index/2;
 	}
 
 	@Override
@@ -116,91 +131,137 @@ public class Zhang99OptimizationJacobian implements FunctionNtoMxN {
 	}
 
 	@Override
-	public void process(double[] input, double[] output) {
+	public void process(double[] input, final double[] output) {
 		int index = param.setFromParam(input);
 
-		int indexPoint = 0;
-		for( int indexView = 0; indexView < observationSets.size(); indexView++ ) {
-			CalibrationObservation set = observationSets.get(indexView);
-
-			// extract rotation and translation parameters
+		// extract rotation and translation parameters
+		for( int indexView = 0; indexView < numViews; indexView++ ) {
 			double rodX = input[index++];
 			double rodY = input[index++];
 			double rodZ = input[index++];
-			double tranX = input[index++];
-			double tranY = input[index++];
-			double tranZ = input[index++];
+			viewT[indexView*3  ] = input[index++];
+			viewT[indexView*3+1] = input[index++];
+			viewT[indexView*3+2] = input[index++];
 
 			rodrigues.setParamVector(rodX,rodY,rodZ);
 			rodJacobian.process(rodX,rodY,rodZ);
+			ConvertRotation3D_F64.rodriguesToMatrix(rodrigues, R);
+
+			System.arraycopy(R.data,0,viewR,indexView*9,9);
+			System.arraycopy(rodJacobian.Rx.data,0,viewRodJac,indexView*27,9);
+			System.arraycopy(rodJacobian.Ry.data,0,viewRodJac,indexView*27+9,9);
+			System.arraycopy(rodJacobian.Rz.data,0,viewRodJac,indexView*27+18,9);
+		}
 
-			ConvertRotation3D_F64.rodriguesToMatrix(rodrigues, se.getR());
-			se.T.set(tranX, tranY, tranZ);
+		BoofConcurrency.loopBlocks(0, numViews, MIN_BLOCK_VIEWS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				processViews(idx0, idx1, output);
+			}
+		});
+	}
 
-			for( int i = 0; i < set.size(); i++ , indexPoint++ ) {
-				int gridIndex = set.points.get(i).index;
+	/**
+	 * Computes the gradient for all observations in views idx0 to idx1-1
+	 */
+	void processViews( int idx0 , int idx1 , double[] output ) {
+		final double[] radial = param.radial;
+		final double t1 = param.t1, t2 = param.t2;
+		final double[] r = viewR;
 
-				// index = (function index)*numParam
-				indexJacX = (2*indexPoint     )*numParam;
-				indexJacY = (2*indexPoint + 1 )*numParam;
+		for( int indexView = idx0; indexView < idx1; indexView++ ) {
+			int indexR = indexView*9;
+			double tranX = viewT[indexView*3], tranY = viewT[indexView*3+1], tranZ = viewT[indexView*3+2];
+
+			for( int k = viewObsStart[indexView]; k < viewObsStart[indexView+1]; k++ ) {
+				double X = obsGrid[k*2], Y = obsGrid[k*2+1];
 
 				// Put the point in the camera's reference frame
-				SePointOps_F64.transform(se, grid.get(gridIndex), cameraPt);
+				double cx = r[indexR  ]*X + r[indexR+1]*Y + tranX;
+				double cy = r[indexR+3]*X + r[indexR+4]*Y + tranY;
+				double cz = r[indexR+6]*X + r[indexR+7]*Y + tranZ;
 
 				// normalized pixel coordinates
-				normPt.x = cameraPt.x/ cameraPt.z;
-				normPt.y = cameraPt.y/ cameraPt.z;
+				double x = cx/cz;
+				double y = cy/cz;
+
+				// radial distortion and its derivative with respect to r^2
+				double r2 = x*x + y*y;
+				double r2i = r2;
+				double rdev = 1;
+				double sum = 0;
+				double sumdot = 0;
+				for( int i = 0; i < radial.length; i++ ) {
+					sum += radial[i]*r2i;
+					sumdot += radial[i]*2*(i+1)*rdev;
+					r2i *= r2;
+					rdev *= r2;
+				}
 
 				// apply distortion to the normalized coordinate
-				dnormPt.set(normPt);
-				CalibrationPlanarGridZhang99.applyDistortion(dnormPt, param.radial, param.t1, param.t2);
+				double dx = x + x*sum + 2*t1*x*y + t2*(r2 + 2*x*x);
+				double dy = y + y*sum + t1*(r2 + 2*y*y) + 2*t2*x*y;
+
+				// index = (function index)*numParam
+				int indexJacX = (2*k    )*numParam;
+				int indexJacY = (2*k + 1)*numParam;
 
-				calibrationGradient(dnormPt,output);
-				distortGradient(normPt,output);
+				indexJacX = calibrationGradient(dx, dy, output, indexJacX, indexJacY);
+				indexJacY += indexJacX - (2*k)*numParam;
 
-				indexJacX += indexView*6;
-				indexJacY += indexView*6;
+				int written = distortGradient(x, y, output, indexJacX, indexJacY);
+				indexJacX += written + indexView*6;
+				indexJacY += written + indexView*6;
 
-				rodriguesGradient(rodJacobian.Rx,grid.get(gridIndex),cameraPt, normPt,output);
-				rodriguesGradient(rodJacobian.Ry,grid.get(gridIndex),cameraPt, normPt,output);
-				rodriguesGradient(rodJacobian.Rz,grid.get(gridIndex),cameraPt, normPt,output);
+				for( int j = 0; j < 3; j++ ) {
+					rodriguesGradient(viewRodJac, indexView*27 + j*9, X, Y, cz, x, y, sum, sumdot,
+							output, indexJacX++, indexJacY++);
+				}
 
-				translateGradient(cameraPt, normPt,output);
+				translateGradient(cz, x, y, sum, sumdot, output, indexJacX, indexJacY);
 			}
 		}
 	}
 
 	/**
 	 * Gradient for calibration matrix
+	 *
+	 * @return index of the next element in row x
 	 */
-	private void calibrationGradient( Point2D_F64 distNorm , double[] output ) {
-		output[indexJacX++] = distNorm.x;
+	private int calibrationGradient( double distX , double distY , double[] output ,
+									 int indexJacX , int indexJacY ) {
+		output[indexJacX++] = distX;
 		output[indexJacX++] = 0;
 		if( !param.assumeZeroSkew )
-			output[indexJacX++] = distNorm.y;
+			output[indexJacX++] = distY;
 		output[indexJacX++] = 1;
 		output[indexJacX++] = 0;
 
 		output[indexJacY++] = 0;
-		output[indexJacY++] = distNorm.y;
+		output[indexJacY++] = distY;
 		if( !param.assumeZeroSkew )
 			output[indexJacY++] = 0;
 		output[indexJacY++] = 0;
-		output[indexJacY++] = 1;
+		output[indexJacY] = 1;
+
+		return indexJacX;
 	}
 
 	/**
 	 * Gradient for radial and tangential distortion
 	 *
-	 * @param norm undistorted normalized image coordinate
+	 * @param x undistorted normalized image coordinate
+	 * @param y undistorted normalized image coordinate
+	 * @return number of elements written to each row
 	 */
-	private void distortGradient( Point2D_F64 norm , double[] output ) {
+	private int distortGradient( double x , double y , double[] output , int indexJacX , int indexJacY ) {
+		int start = indexJacX;
 
-		double r2 = norm.x*norm.x + norm.y*norm.y;
+		double r2 = x*x + y*y;
 		double r2i = r2;
 		for( int i = 0; i < param.radial.length; i++ ) {
-			double xdot = norm.x*r2i;
-			double ydot = norm.y*r2i;
+			double xdot = x*r2i;
+			double ydot = y*r2i;
 
 			output[indexJacX++] = param.a*xdot + param.c*ydot;
 			output[indexJacY++] = param.b*ydot;
@@ -208,9 +269,9 @@ public class Zhang99OptimizationJacobian implements FunctionNtoMxN {
 		}
 
 		if( param.includeTangential ) {
-			double xy2 = 2.0*norm.x*norm.y;
-			double r2yy = r2 + 2*norm.y*norm.y;
-			double r2xx = r2 + 2*norm.x*norm.x;
+			double xy2 = 2.0*x*y;
+			double r2yy = r2 + 2*y*y;
+			double r2xx = r2 + 2*x*x;
 
 			output[indexJacX++] = param.a*xy2 + param.c*r2yy;
 			output[indexJacY++] = param.b*r2yy;
@@ -218,6 +279,8 @@ public class Zhang99OptimizationJacobian implements FunctionNtoMxN {
 			output[indexJacX++] = param.a*r2xx + param.c*xy2;
 			output[indexJacY++] = param.b*xy2;
 		}
+
+		return indexJacX - start;
 	}
 
 	/**
@@ -228,54 +291,36 @@ public class Zhang99OptimizationJacobian implements FunctionNtoMxN {
 	 * where R is rotation matrix, T is translation, z = z-coordinate of point in camera frame
 	 *
 	 * @param Rdot Jacobian for Rodrigues
-	 * @param X Location of point in world coordinates
+	 * @param indexRdot Index of the first element in Rdot
+	 * @param X Location of point in world coordinates.  z=0
 	 */
-	private void rodriguesGradient( DMatrixRMaj Rdot ,
-									Point3D_F64 X ,
-									Point3D_F64 cameraPt ,
-									Point2D_F64 normPt ,
-									double[] output ) {
-		// create short hand for normalized image coordinate
-		final double x = normPt.x;
-		final double y = normPt.y;
-
+	private void rodriguesGradient( double[] Rdot , int indexRdot , double X , double Y ,
+									double cameraZ , double x , double y , double sum , double sumdot ,
+									double[] output , int indexJacX , int indexJacY ) {
 		final double r2 = x*x + y*y;
-		double r2i = r2;
-		double rdev = 1;
-
-		double sum = 0;
-		double sumdot = 0;
-
-		for( int i = 0; i < param.radial.length; i++ ) {
-			sum += param.radial[i]*r2i;
-			sumdot += param.radial[i]*2*(i+1)*rdev;
 
-			r2i *= r2;
-			rdev *= r2;
-		}
-
-		GeometryMath_F64.mult(Rdot,X,Xdot);
+		double XdotX = Rdot[indexRdot  ]*X + Rdot[indexRdot+1]*Y;
+		double XdotY = Rdot[indexRdot+3]*X + Rdot[indexRdot+4]*Y;
+		double XdotZ = Rdot[indexRdot+6]*X + Rdot[indexRdot+7]*Y;
 
 		// part of radial distortion derivative
-		double r_dot = (x*Xdot.x + y*Xdot.y)/cameraPt.z - r2*Xdot.z/cameraPt.z;
+		double r_dot = (x*XdotX + y*XdotY)/cameraZ - r2*XdotZ/cameraZ;
 
 		// derivative of normPt
-		double n_dot_x = (-x*Xdot.z+Xdot.x)/cameraPt.z;
-		double n_dot_y = (-y*Xdot.z+Xdot.y)/cameraPt.z;
-//		double n_dot_z = 0;
+		double n_dot_x = (-x*XdotZ+XdotX)/cameraZ;
+		double n_dot_y = (-y*XdotZ+XdotY)/cameraZ;
 
 		// total partial derivative
 		double xdot = sumdot*r_dot*x + (1 + sum)*n_dot_x;
 		double ydot = sumdot*r_dot*y + (1 + sum)*n_dot_y;
-//		double zdot = 0;
 
 		if( param.includeTangential ) {
 			xdot += 2*param.t1*(n_dot_x*y + x*n_dot_y) + 6*param.t2*x*n_dot_x + 2*param.t2*y*n_dot_y;
 			ydot += 2*param.t1*x*n_dot_x + 6*param.t1*y*n_dot_y + 2*param.t2*(n_dot_x*y + x*n_dot_y);
 		}
 
-		output[indexJacX++] = param.a*xdot + param.c*ydot;
-		output[indexJacY++] = param.b*ydot;
+		output[indexJacX] = param.a*xdot + param.c*ydot;
+		output[indexJacY] = param.b*ydot;
 	}
 
 	/**
@@ -285,64 +330,46 @@ public class Zhang99OptimizationJacobian implements FunctionNtoMxN {
 	 *
 	 * where T is translation, z = z-coordinate of point in camera frame
 	 */
-	private void translateGradient( Point3D_F64 cameraPt ,
-									Point2D_F64 normPt ,
-									double[] output ) {
-
-		// create short hand for normalized image coordinate
-		final double x = normPt.x;
-		final double y = normPt.y;
+	private void translateGradient( double cameraZ , double x , double y , double sum , double sumdot ,
+									double[] output , int indexJacX , int indexJacY ) {
 
 		final double r2 = x*x + y*y;
-		double r2i = r2;
-		double rdev = 1;
-
-		double sum = 0;
-		double sumdot = 0;
 
-		for( int i = 0; i < param.radial.length; i++ ) {
-			sum += param.radial[i]*r2i;
-			sumdot += param.radial[i]*(i+1)*rdev;
-
-			r2i *= r2;
-			rdev *= r2;
-		}
 		// Partial T.x
-		double xdot = sumdot*2*x*x/cameraPt.z + (1+sum)/cameraPt.z;
-		double ydot = sumdot*2*x*y/cameraPt.z;
-		// double zdot = 0
+		double xdot = sumdot*x*x/cameraZ + (1+sum)/cameraZ;
+		double ydot = sumdot*x*y/cameraZ;
 		if( param.includeTangential ) {
-			xdot += (2*param.t1*y + param.t2*6*x)/cameraPt.z;
-			ydot += (2*param.t1*x + 2*y*param.t2)/cameraPt.z;
+			xdot += (2*param.t1*y + param.t2*6*x)/cameraZ;
+			ydot += (2*param.t1*x + 2*y*param.t2)/cameraZ;
 		}
 
 		output[indexJacX++] = param.a*xdot + param.c*ydot;
 		output[indexJacY++] = param.b*ydot;
 
 		// Partial T.y
-		xdot = sumdot*2*y*x/cameraPt.z;
-		ydot = sumdot*2*y*y/cameraPt.z + (1 + sum)/cameraPt.z;
+		xdot = sumdot*y*x/cameraZ;
+		ydot = sumdot*y*y/cameraZ + (1 + sum)/cameraZ;
 		if( param.includeTangential ) {
-			xdot += (2*param.t1*x + param.t2*2*y)/cameraPt.z;
-			ydot += (6*param.t1*y + 2*x*param.t2)/cameraPt.z;
+			xdot += (2*param.t1*x + param.t2*2*y)/cameraZ;
+			ydot += (6*param.t1*y + 2*x*param.t2)/cameraZ;
 		}
 
 		output[indexJacX++] = param.a*xdot + param.c*ydot;
 		output[indexJacY++] = param.b*ydot;
 
 		// Partial T.z
-		xdot = -sumdot*2*r2*x/cameraPt.z;
-		ydot = -sumdot*2*r2*y/cameraPt.z;
+		xdot = -sumdot*r2*x/cameraZ;
+		ydot = -sumdot*r2*y/cameraZ;
 
-		xdot += -(1 + sum)*x/cameraPt.z;
-		ydot += -(1 + sum)*y/cameraPt.z;
+		xdot += -(1 + sum)*x/cameraZ;
+		ydot += -(1 + sum)*y/cameraZ;
 
 		if( param.includeTangential ) {
-			xdot += -(4*param.t1*x*y + 6*param.t2*x*x + 2*param.t2*y*y)/cameraPt.z;
-			ydot += -(2*param.t1*x*x + 6*param.t1*y*y + 4*x*y*param.t2)/cameraPt.z;
+			xdot += -(4*param.t1*x*y + 6*param.t2*x*x + 2*param.t2*y*y)/cameraZ;
+			ydot += -(2*param.t1*x*x + 6*param.t1*y*y + 4*x*y*param.t2)/cameraZ;
 		}
 
-		output[indexJacX++] = param.a*xdot + param.c*ydot;
-		output[indexJacY++] = param.b*ydot;
+		output[indexJacX] = param.a*xdot + param.c*ydot;
+		output[indexJacY] = param.b*ydot;
 	}
 }
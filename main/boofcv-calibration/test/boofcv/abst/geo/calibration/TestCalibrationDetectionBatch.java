@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.geo.calibration;
+
+import boofcv.alg.geo.calibration.CalibrationObservation;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_F64;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCalibrationDetectionBatch {
+
+	int numImages = 23;
+
+	/**
+	 * Results should be identical when computed concurrently and be in the same order as the images
+	 */
+	@Test
+	public void concurrent() {
+		final Images images = new Images(numImages);
+
+		final CalibrationDetectionBatch alg = new CalibrationDetectionBatch(new Factory());
+
+		// serial results are added first then the concurrent results
+		final List<List<ImageObservation>> results = new ArrayList<>();
+		Runnable task = new Runnable() {
+			@Override
+			public void run() {
+				alg.process(images);
+				results.add(alg.getResults());
+			}
+		};
+		BoofTesting.checkConcurrent(task,task);
+		List<ImageObservation> expected = results.get(0);
+		List<ImageObservation> found = results.get(1);
+
+		assertEquals(numImages, expected.size());
+		assertEquals(numImages, found.size());
+		for( int i = 0; i < numImages; i++ ) {
+			checkResult(i, expected.get(i));
+			checkResult(i, found.get(i));
+		}
+	}
+
+	/**
+	 * Images in the cache should not be loaded and new results should be saved
+	 */
+	@Test
+	public void cache() {
+		Images images = new Images(numImages);
+		Cache cache = new Cache();
+
+		CalibrationDetectionBatch alg = new CalibrationDetectionBatch(new Factory());
+		alg.setCache(cache);
+
+		alg.process(images);
+		assertEquals(0, alg.getTotalCached());
+		assertEquals(numImages-1, cache.saved.size()); // one image can't be loaded
+		assertEquals(numImages, images.totalLoaded);
+
+		images.totalLoaded = 0;
+		alg.process(images);
+		assertEquals(numImages-1, alg.getTotalCached());
+		assertEquals(1, images.totalLoaded);
+		for( int i = 0; i < numImages; i++ ) {
+			checkResult(i, alg.getResult(i));
+		}
+	}
+
+	private void checkResult( int index , ImageObservation found ) {
+		if( index == 5 ) {
+			assertNull(found);
+			return;
+		}
+		assertEquals(20+index, found.width);
+		assertEquals(10, found.height);
+		if( index % 3 == 0 ) {
+			assertFalse(found.isDetected());
+		} else {
+			assertTrue(found.isDetected());
+			assertEquals(1, found.observation.size());
+			assertEquals(index, found.observation.get(0).x, 1e-8);
+		}
+	}
+
+	private static class Images implements CalibrationDetectionBatch.ImageSource {
+		int numImages;
+		int totalLoaded;
+
+		public Images(int numImages) {
+			this.numImages = numImages;
+		}
+
+		@Override
+		public int size() {
+			return numImages;
+		}
+
+		@Override
+		public String getName(int index) {
+			return "image"+index;
+		}
+
+		@Override
+		public synchronized GrayF32 load(int index) {
+			totalLoaded++;
+			// pretend this one isn't an image
+			if( index == 5 )
+				return null;
+
+			GrayF32 image = new GrayF32(20+index,10);
+			image.set(0,0,index);
+			return image;
+		}
+	}
+
+	private static class Cache implements CalibrationDetectionBatch.ObservationCache {
+		Map<String,ImageObservation> saved = new HashMap<>();
+
+		@Override
+		public synchronized ImageObservation load(String name) {
+			return saved.get(name);
+		}
+
+		@Override
+		public synchronized void save(String name, ImageObservation results) {
+			saved.put(name, results);
+		}
+	}
+
+	private static class Factory implements CalibrationDetectionBatch.DetectorFactory {
+		@Override
+		public DetectorFiducialCalibration create() {
+			return new Detector();
+		}
+	}
+
+	/**
+	 * Detects a single point with a value encoded in the image.  Every third image fails
+	 */
+	private static class Detector implements DetectorFiducialCalibration {
+		float value;
+
+		@Override
+		public boolean process(GrayF32 input) {
+			value = input.get(0,0);
+			return ((int)value) % 3 != 0;
+		}
+
+		@Override
+		public CalibrationObservation getDetectedPoints() {
+			CalibrationObservation ret = new CalibrationObservation();
+			ret.add(new Point2D_F64(value, 1), 0);
+			return ret;
+		}
+
+		@Override
+		public List<Point2D_F64> getLayout() {
+			List<Point2D_F64> layout = new ArrayList<>();
+			layout.add(new Point2D_F64());
+			return layout;
+		}
+	}
+}
@@ -18,6 +18,7 @@
 
 package boofcv.alg.geo.calibration;
 
+import boofcv.testing.BoofTesting;
 import georegression.geometry.ConvertRotation3D_F64;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point3D_F64;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -149,4 +151,57 @@ public class TestZhang99OptimizationFunction {
 		}
 	}
 
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		Zhang99ParamAll param = GenericCalibrationGrid.createStandardParam(false, 2, true, 8, rand);
+
+		List<Point2D_F64> gridPts = GenericCalibrationGrid.standardLayout();
+
+		List<CalibrationObservation> observations = new ArrayList<>();
+		for( int i = 0; i < param.views.length; i++ ) {
+			observations.add( estimate(param, param.views[i], gridPts) );
+		}
+
+		// perturb the parameters so that the residuals aren't zero
+		final double array[] = new double[ param.numParameters() ];
+		param.convertToParam(array);
+		for( int i = 0; i < array.length; i++ ) {
+			array[i] += rand.nextGaussian()*0.01;
+		}
+
+		final Zhang99OptimizationFunction alg =
+				new Zhang99OptimizationFunction( new Zhang99ParamAll(false,2,true,8),gridPts,observations );
+
+		final double expected[] = new double[ alg.getNumOfOutputsM()];
+		final double found[] = new double[ alg.getNumOfOutputsM()];
+
+		int oldMin = Zhang99OptimizationFunction.MIN_BLOCK_VIEWS;
+		try {
+			Zhang99OptimizationFunction.MIN_BLOCK_VIEWS = 1;
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(array, expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(array, found);
+				}
+			});
+		} finally {
+			Zhang99OptimizationFunction.MIN_BLOCK_VIEWS = oldMin;
+		}
+
+		double total = 0;
+		for( int i = 0; i < expected.length; i++ ) {
+			total += Math.abs(expected[i]);
+			assertEquals(expected[i],found[i],1e-12);
+		}
+		assertTrue(total > 1e-4);
+	}
 }
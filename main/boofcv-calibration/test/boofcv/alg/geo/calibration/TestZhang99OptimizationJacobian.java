@@ -19,6 +19,7 @@
 package boofcv.alg.geo.calibration;
 
 import boofcv.abst.fiducial.calib.CalibrationDetectorSquareGrid;
+import boofcv.testing.BoofTesting;
 import georegression.struct.point.Point2D_F64;
 import org.ddogleg.optimization.DerivativeChecker;
 import org.junit.Test;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Random;
 
 import static boofcv.alg.geo.calibration.TestZhang99OptimizationFunction.estimate;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -95,4 +97,51 @@ public class TestZhang99OptimizationJacobian {
 		assertTrue(DerivativeChecker.jacobianR(func, alg, dataParam, tol));
 	}
 
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		Zhang99ParamAll param = GenericCalibrationGrid.createStandardParam(false, 2, true, 8, rand);
+
+		List<Point2D_F64> gridPts = CalibrationDetectorSquareGrid.createLayout(3, 2, 30, 30);
+
+		List<CalibrationObservation> observations = new ArrayList<>();
+		for( int i = 0; i < param.views.length; i++ ) {
+			observations.add( estimate(param,param.views[i],gridPts));
+		}
+
+		final double dataParam[] = new double[ param.numParameters() ];
+		param.convertToParam(dataParam);
+
+		final Zhang99OptimizationJacobian alg = new Zhang99OptimizationJacobian(
+				false,param.radial.length,param.includeTangential,observations,gridPts);
+
+		int N = alg.getNumOfOutputsM()*alg.getNumOfInputsN();
+		final double expected[] = new double[N];
+		final double found[] = new double[N];
+
+		int oldMin = Zhang99OptimizationJacobian.MIN_BLOCK_VIEWS;
+		try {
+			Zhang99OptimizationJacobian.MIN_BLOCK_VIEWS = 1;
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(dataParam, expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(dataParam, found);
+				}
+			});
+		} finally {
+			Zhang99OptimizationJacobian.MIN_BLOCK_VIEWS = oldMin;
+		}
+
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(expected[i],found[i],1e-12);
+		}
+	}
 }
@@ -16,6 +16,7 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.feature.disparity.impl;
 
 import boofcv.misc.AutoTypeImage;
@@ -29,9 +30,13 @@ import java.io.FileNotFoundException;
 public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 
 	String typeInput;
-	String dataAbr;
-	String bitWise;
 	String sumType;
+	// integer scores are exact, so only they can be computed concurrently
+	boolean concurrent;
+
+	// radius of the region along each axis, as used in the generated code
+	String radiusX = "radiusX*2";
+	String radiusY = "2*radiusY";
 
 	@Override
 	public void generate() throws FileNotFoundException {
@@ -41,138 +46,181 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 	}
 
 	public void createFile( AutoTypeImage image ) throws FileNotFoundException {
+		className = null;
 		setOutputFile("ImplDisparityScoreSadRectFive_"+image.getAbbreviatedType());
 		typeInput = image.getSingleBandName();
-		bitWise = image.getBitWise();
 		sumType = image.getSumType();
-
-		dataAbr = image.isInteger() ? "S32" : "F32";
+		concurrent = image.isInteger();
 
 		printPreamble();
 		printProcess();
-		printFirstRow();
-		printComputeRemainingRows();
-		printScoreFive();
 		printTheRest();
-
-		out.println("}");
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.alg.InputSanityCheck;\n" +
-				"import boofcv.alg.feature.disparity.DisparityScoreWindowFive;\n" +
-				"import boofcv.alg.feature.disparity.DisparitySelect;\n" +
+		String modifier = concurrent ? "final " : "";
+
+		out.print("import boofcv.alg.feature.disparity.DisparityScoreWindowFive;\n" +
+				"import boofcv.alg.feature.disparity.DisparitySelect;\n");
+		if( concurrent ) {
+			out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+					"import boofcv.concurrency.IntRangeObjectTask;\n");
+		}
+		out.print("import boofcv.struct.image."+typeInput+";\n" +
 				"import boofcv.struct.image.ImageGray;\n" +
-				"import boofcv.struct.image."+typeInput+";\n" +
+				"import org.ddogleg.struct.FastQueue;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
 				" * Implementation of {@link boofcv.alg.feature.disparity.DisparityScoreWindowFive} for processing\n" +
 				" * images of type {@link "+typeInput+"}.\n" +
 				" * </p>\n" +
-				" *\n" +
+				" *\n");
+		if( concurrent ) {
+			out.print(" * <p>\n" +
+					" * If {@link BoofConcurrency#USE_CONCURRENT} is true then the image is split into horizontal strips which are\n" +
+					" * processed concurrently.  Each strip computes its own initial block of rows and has its own copy of\n" +
+					" * {@link DisparitySelect}, producing the same disparity image as when processed in a single thread.\n" +
+					" * </p>\n");
+		} else {
+			out.print(" * <p>\n" +
+					" * There is no concurrent implementation.  Restarting the running sums for each strip of rows would change\n" +
+					" * how the floating point scores are rounded and the disparity would no longer be identical.\n" +
+					" * </p>\n");
+		}
+		out.print(" *\n" +
 				" * <p>\n" +
 				" * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRectFive}.\n" +
 				" * </p>\n" +
 				" *\n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+"<Disparity extends ImageGray>\n" +
-				"\t\textends DisparityScoreWindowFive<"+typeInput+",Disparity>\n" +
+				"public class "+className+"<DI extends ImageGray<DI>>\n" +
+				"\t\textends DisparityScoreWindowFive<"+typeInput+", DI>\n" +
 				"{\n" +
 				"\n" +
 				"\t// Computes disparity from scores\n" +
-				"\tDisparitySelect<"+sumType+"[],Disparity> computeDisparity;\n" +
-				"\n" +
-				"\t// stores the local scores for the width of the region\n" +
-				"\t"+sumType+" elementScore[];\n" +
-				"\t// scores along horizontal axis for current block\n" +
-				"\t"+sumType+" horizontalScore[][];\n" +
-				"\t// summed scores along vertical axis\n" +
-				"\t// Save the last regionHeight scores in a rolling window\n" +
-				"\t"+sumType+" verticalScore[][];\n" +
-				"\t// In the rolling verticalScore window, which one is the active one\n" +
-				"\tint activeVerticalScore;\n" +
-				"\t// Where the final score it stored that has been computed from five regions\n" +
-				"\t"+sumType+" fiveScore[];\n" +
+				"\tDisparitySelect<"+sumType+"[], DI> computeDisparity;\n" +
+				"\n" +
+				"\t// storage for each strip of rows that's processed\n" +
+				"\tFastQueue<WorkSpace> workspace = new FastQueue<WorkSpace>((Class)WorkSpace.class,true) {\n" +
+				"\t\t@Override\n" +
+				"\t\tprotected WorkSpace createInstance() {\n" +
+				"\t\t\treturn new WorkSpace();\n" +
+				"\t\t}\n" +
+				"\t};\n" +
 				"\n" +
 				"\tpublic "+className+"(int minDisparity, int maxDisparity,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\tint regionRadiusX, int regionRadiusY,\n" +
-				"\t\t\t\t\t\t\t\t\t\t\tDisparitySelect<"+sumType+"[], Disparity> computeDisparity) {\n" +
+				"\t\t\t\t\t\t\t\t\t\t\tDisparitySelect<"+sumType+"[], DI> computeDisparity) {\n" +
 				"\t\tsuper(minDisparity,maxDisparity,regionRadiusX,regionRadiusY);\n" +
 				"\t\tthis.computeDisparity = computeDisparity;\n" +
-				"\t}\n\n");
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void _process( "+modifier+""+typeInput+" left , "+modifier+""+typeInput+" right , "+modifier+"DI disparity ) {\n");
 	}
 
 	private void printProcess() {
-		out.print("\t@Override\n" +
-				"\tpublic void _process( "+typeInput+" left , "+typeInput+" right , Disparity disparity ) {\n" +
-				"\t\tif( horizontalScore == null || verticalScore.length < lengthHorizontal ) {\n" +
-				"\t\t\thorizontalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
-				"\t\t\tverticalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
-				"\t\t\telementScore = new "+sumType+"[ left.width ];\n" +
-				"\t\t\tfiveScore = new "+sumType+"[ lengthHorizontal ];\n" +
-				"\t\t}\n" +
+		if( concurrent ) {
+			out.print("\t\tcomputeDisparity.configure(disparity,minDisparity,maxDisparity,"+radiusX+");\n" +
+					"\n" +
+					"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+					"\t\t\t// each strip of output rows has its own workspace and is initialized using the rows above it\n" +
+					"\t\t\tBoofConcurrency.loopBlocks("+radiusY+", left.height - "+radiusY+", BoofConcurrency.MIN_BAND_ROWS, workspace,\n" +
+					"\t\t\t\t\tnew IntRangeObjectTask<WorkSpace>() {\n" +
+					"\t\t\t\t@Override\n" +
+					"\t\t\t\tpublic void process(WorkSpace ws, int y0, int y1) {\n" +
+					"\t\t\t\t\tif( ws.computeDisparity == null )\n" +
+					"\t\t\t\t\t\tws.computeDisparity = computeDisparity.concurrentCopy();\n" +
+					"\t\t\t\t\tws.computeDisparity.configure(disparity,minDisparity,maxDisparity,"+radiusX+");\n" +
+					"\t\t\t\t\tprocessRows(ws, left, right, y0 - "+radiusY+", y1 + "+radiusY+");\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t});\n" +
+					"\t\t} else {\n" +
+					"\t\t\tworkspace.resize(1);\n" +
+					"\t\t\tWorkSpace ws = workspace.get(0);\n" +
+					"\t\t\tws.computeDisparity = computeDisparity;\n" +
+					"\t\t\tprocessRows(ws, left, right, 0, left.height);\n" +
+					"\t\t}\n");
+		} else {
+			out.print("\t\tcomputeDisparity.configure(disparity,minDisparity,maxDisparity,"+radiusX+");\n" +
+					"\n" +
+					"\t\tworkspace.resize(1);\n" +
+					"\t\tWorkSpace ws = workspace.get(0);\n" +
+					"\t\tws.computeDisparity = computeDisparity;\n" +
+					"\t\tprocessRows(ws, left, right, 0, left.height);\n");
+		}
+	}
+
+	private void printTheRest() {
+		out.print("\t}\n" +
 				"\n" +
-				"\t\tcomputeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);\n" +
+				"\t/**\n" +
+				"\t * Computes the disparity for a strip of rows in the input image.\n" +
+				"\t *\n" +
+				"\t * @param row0 First input row in the strip, inclusive\n" +
+				"\t * @param row1 Last input row in the strip, exclusive\n" +
+				"\t */\n" +
+				"\tprivate void processRows( WorkSpace ws , "+typeInput+" left , "+typeInput+" right , int row0 , int row1 ) {\n" +
+				"\t\tws.checkSize(left.width);\n" +
 				"\n" +
 				"\t\t// initialize computation\n" +
-				"\t\tcomputeFirstRow(left, right);\n" +
+				"\t\tcomputeFirstRow(ws, left, right, row0);\n" +
 				"\t\t// efficiently compute rest of the rows using previous results to avoid repeat computations\n" +
-				"\t\tcomputeRemainingRows(left, right);\n" +
-				"\t}\n\n");
-	}
-
-	private void printFirstRow() {
-		out.print("\t/**\n" +
+				"\t\tcomputeRemainingRows(ws, left, right, row0 + regionHeight, row1);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
 				"\t * Initializes disparity calculation by finding the scores for the initial block of horizontal\n" +
 				"\t * rows.\n" +
 				"\t */\n" +
-				"\tprivate void computeFirstRow( "+typeInput+" left, "+typeInput+" right ) {\n" +
-				"\t\t"+sumType+" firstRow[] = verticalScore[0];\n" +
-				"\t\tactiveVerticalScore = 1;\n" +
+				"\tprivate void computeFirstRow( WorkSpace ws , "+typeInput+" left, "+typeInput+" right , int row0 ) {\n" +
+				"\t\t"+sumType+" firstRow[] = ws.verticalScore[0];\n" +
+				"\t\tws.activeVerticalScore = 1;\n" +
 				"\n" +
 				"\t\t// compute horizontal scores for first row block\n" +
-				"\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
+				"\t\tfor( int row = row0; row < row0 + regionHeight; row++ ) {\n" +
 				"\n" +
-				"\t\t\t"+sumType+" scores[] = horizontalScore[row];\n" +
+				"\t\t\t"+sumType+" scores[] = ws.horizontalScore[row%regionHeight];\n" +
 				"\n" +
 				"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
-				"\t\t\t\t\tminDisparity, maxDisparity, regionWidth, elementScore);\n" +
+				"\t\t\t\t\tminDisparity, maxDisparity, regionWidth, ws.elementScore);\n" +
 				"\t\t}\n" +
 				"\n" +
 				"\t\t// compute score for the top possible row\n" +
 				"\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
 				"\t\t\t"+sumType+" sum = 0;\n" +
 				"\t\t\tfor( int row = 0; row < regionHeight; row++ ) {\n" +
-				"\t\t\t\tsum += horizontalScore[row][i];\n" +
+				"\t\t\t\tsum += ws.horizontalScore[row][i];\n" +
 				"\t\t\t}\n" +
 				"\t\t\tfirstRow[i] = sum;\n" +
 				"\t\t}\n" +
-				"\t}\n\n");
-	}
-
-	private void printComputeRemainingRows() {
-		out.print("\t/**\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
 				"\t * Using previously computed results it efficiently finds the disparity in the remaining rows.\n" +
 				"\t * When a new block is processes the last row/column is subtracted and the new row/column is\n" +
 				"\t * added.\n" +
 				"\t */\n" +
-				"\tprivate void computeRemainingRows( "+typeInput+" left, "+typeInput+" right )\n" +
+				"\tprivate void computeRemainingRows( WorkSpace ws , "+typeInput+" left, "+typeInput+" right , int row0 , int row1 )\n" +
 				"\t{\n" +
-				"\t\tfor( int row = regionHeight; row < left.height; row++ , activeVerticalScore++) {\n" +
+				"\t\t"+sumType+" verticalScore[][] = ws.verticalScore;\n" +
+				"\n" +
+				"\t\tfor( int row = row0; row < row1; row++ , ws.activeVerticalScore++) {\n" +
+				"\t\t\tint activeVerticalScore = ws.activeVerticalScore;\n" +
 				"\t\t\tint oldRow = row%regionHeight;\n" +
 				"\t\t\t"+sumType+" previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];\n" +
 				"\t\t\t"+sumType+" active[] = verticalScore[ activeVerticalScore % regionHeight ];\n" +
 				"\n" +
 				"\t\t\t// subtract first row from vertical score\n" +
-				"\t\t\t"+sumType+" scores[] = horizontalScore[oldRow];\n" +
+				"\t\t\t"+sumType+" scores[] = ws.horizontalScore[oldRow];\n" +
 				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
 				"\t\t\t\tactive[i] = previous[i] - scores[i];\n" +
 				"\t\t\t}\n" +
 				"\n" +
 				"\t\t\tUtilDisparityScore.computeScoreRow(left, right, row, scores,\n" +
-				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,elementScore);\n" +
+				"\t\t\t\t\tminDisparity,maxDisparity,regionWidth,ws.elementScore);\n" +
 				"\n" +
 				"\t\t\t// add the new score\n" +
 				"\t\t\tfor( int i = 0; i < lengthHorizontal; i++ ) {\n" +
@@ -184,15 +232,13 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t\t\t\t"+sumType+" middle[] = verticalScore[ (activeVerticalScore -radiusY) % regionHeight ];\n" +
 				"\t\t\t\t"+sumType+" bottom[] = verticalScore[ activeVerticalScore % regionHeight ];\n" +
 				"\n" +
-				"\t\t\t\tcomputeScoreFive(top,middle,bottom,fiveScore,left.width);\n" +
-				"\t\t\t\tcomputeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, fiveScore );\n" +
+				"\t\t\t\tcomputeScoreFive(top,middle,bottom,ws.fiveScore,left.width);\n" +
+				"\t\t\t\tws.computeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, ws.fiveScore );\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
-				"\t}\n\n");
-	}
-
-	private void printScoreFive() {
-		out.print("\t/**\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
 				"\t * Compute the final score by sampling the 5 regions.  Four regions are sampled around the center\n" +
 				"\t * region.  Out of those four only the two with the smallest score are used.\n" +
 				"\t */\n" +
@@ -206,7 +252,7 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t\t\tint indexDst = (d-minDisparity)*width + (d-minDisparity);\n" +
 				"\t\t\tint end = indexSrc + (width-d-4*radiusX);\n" +
 				"\t\t\twhile( indexSrc < end ) {\n" +
-				"\t\t\t\tint s = 0;\n" +
+				"\t\t\t\t"+sumType+" s = 0;\n" +
 				"\n" +
 				"\t\t\t\t// sample four outer regions at the corners around the center region\n" +
 				"\t\t\t\t"+sumType+" val0 = top[indexSrc-radiusX];\n" +
@@ -241,19 +287,48 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 				"\t\t\t\tscore[indexDst++] = s + middle[indexSrc++];\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
-				"\t}\n\n");
-	}
-
-	public void printTheRest() {
-		out.print("\t@Override\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Storage for processing a strip of rows\n" +
+				"\t */\n" +
+				"\tclass WorkSpace {\n" +
+				"\t\t// Computes disparity from scores\n" +
+				"\t\tDisparitySelect<"+sumType+"[], DI> computeDisparity;\n" +
+				"\n" +
+				"\t\t// stores the local scores for the width of the region\n" +
+				"\t\t"+sumType+" elementScore[];\n" +
+				"\t\t// scores along horizontal axis for current block\n" +
+				"\t\t"+sumType+" horizontalScore[][];\n" +
+				"\t\t// summed scores along vertical axis\n" +
+				"\t\t// Save the last regionHeight scores in a rolling window\n" +
+				"\t\t"+sumType+" verticalScore[][];\n" +
+				"\t\t// In the rolling verticalScore window, which one is the active one\n" +
+				"\t\tint activeVerticalScore;\n" +
+				"\t\t// Where the final score it stored that has been computed from five regions\n" +
+				"\t\t"+sumType+" fiveScore[];\n" +
+				"\n" +
+				"\t\tvoid checkSize( int width ) {\n" +
+				"\t\t\tif( fiveScore == null || fiveScore.length < lengthHorizontal ) {\n" +
+				"\t\t\t\thorizontalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
+				"\t\t\t\tverticalScore = new "+sumType+"[regionHeight][lengthHorizontal];\n" +
+				"\t\t\t\telementScore = new "+sumType+"[ width ];\n" +
+				"\t\t\t\tfiveScore = new "+sumType+"[ lengthHorizontal ];\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic Class<"+typeInput+"> getInputType() {\n" +
 				"\t\treturn "+typeInput+".class;\n" +
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
-				"\tpublic Class<Disparity> getDisparityType() {\n" +
+				"\tpublic Class<DI> getDisparityType() {\n" +
 				"\t\treturn computeDisparity.getDisparityType();\n" +
-				"\t}\n\n");
+				"\t}\n" +
+				"\n" +
+				"}\n");
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
@@ -261,4 +336,4 @@ public class GenerateDisparityScoreSadRectFive extends CodeGeneratorBase {
 
 		gen.generate();
 	}
-}
\ No newline at end of file
+}
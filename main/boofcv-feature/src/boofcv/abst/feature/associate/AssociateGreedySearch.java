@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.FindUnassociated;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Greedy association which uses a {@link DescriptorSearch} to find the best match instead of scoring every
+ * possible pair, like {@link AssociateGreedy} does.  Each source feature is associated with the closest
+ * destination feature.  Memory is linear in the number of features instead of quadratic and, when the search
+ * is approximate, run time is much less than quadratic.
+ * </p>
+ *
+ * <p>
+ * Backwards validation is optional and works the same way as in {@link AssociateGreedy}.  An association is
+ * rejected if a different source feature is at least as close to the destination feature, including ties.
+ * A second search over the source features, which skips the feature being validated, is used to check.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedySearch<D> implements AssociateDescription<D> {
+
+	// searches the destination list
+	private DescriptorSearch<D> searchDst;
+	// searches the source list.  Only used for backwards validation
+	private DescriptorSearch<D> searchSrc;
+
+	// worst allowed fit score to associate
+	private double maxFitError = Double.MAX_VALUE;
+
+	// reference to input list
+	private FastQueue<D> listSrc;
+	private FastQueue<D> listDst;
+
+	// List of final associated points
+	private FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
+
+	// indexes of unassociated features
+	private GrowQueue_I32 unassocSrc = new GrowQueue_I32();
+	// creates a list of unassociated features from the list of matches
+	private FindUnassociated unassociated = new FindUnassociated();
+
+	/**
+	 * Configures association
+	 *
+	 * @param searchDst Used to search the destination features
+	 * @param searchSrc Used to search the source features for backwards validation.  If null then backwards
+	 *                  validation is not performed.
+	 */
+	public AssociateGreedySearch(DescriptorSearch<D> searchDst, DescriptorSearch<D> searchSrc) {
+		this.searchDst = searchDst;
+		this.searchSrc = searchSrc;
+	}
+
+	@Override
+	public void setSource(FastQueue<D> listSrc) {
+		this.listSrc = listSrc;
+	}
+
+	@Override
+	public void setDestination(FastQueue<D> listDst) {
+		this.listDst = listDst;
+	}
+
+	@Override
+	public void associate() {
+		if( listSrc == null )
+			throw new IllegalArgumentException("source features not specified");
+		if( listDst == null )
+			throw new IllegalArgumentException("destination features not specified");
+
+		matches.reset();
+		unassocSrc.reset();
+
+		searchDst.setDescriptions(listDst);
+		if( searchSrc != null )
+			searchSrc.setDescriptions(listSrc);
+
+		for( int i = 0; i < listSrc.size; i++ ) {
+			int dst = searchDst.findNearest(listSrc.data[i], maxFitError);
+			if( dst < 0 ) {
+				unassocSrc.add(i);
+				continue;
+			}
+			double score = searchDst.getDistance();
+
+			if( searchSrc != null ) {
+				// see if any other source feature is at least as good a fit
+				if( searchSrc.findNearest(listDst.data[dst], score, i) >= 0 ) {
+					unassocSrc.add(i);
+					continue;
+				}
+			}
+
+			matches.grow().setAssociation(i,dst,score);
+		}
+	}
+
+	@Override
+	public FastQueue<AssociatedIndex> getMatches() {
+		return matches;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedSource() {
+		return unassocSrc;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedDestination() {
+		return unassociated.checkDestination(matches,listDst.size);
+	}
+
+	@Override
+	public void setThreshold(double score) {
+		this.maxFitError = score < 0 ? Double.MAX_VALUE : score;
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	@Override
+	public boolean uniqueSource() {
+		return true;
+	}
+
+	@Override
+	public boolean uniqueDestination() {
+		return searchSrc != null;
+	}
+}
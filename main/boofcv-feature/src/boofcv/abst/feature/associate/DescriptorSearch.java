@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.AssociateGreedy;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Searches a set of feature descriptions for the one which is closest to a query description.  Implementations
+ * are typically approximate and trade accuracy for speed by building an index when the set is specified.
+ * Distances are in the same units as the equivalent {@link ScoreAssociation}.  If two descriptions are
+ * equally close then the one with the higher index is selected, the same as {@link AssociateGreedy}.  Approximate
+ * searches are only required to do this for descriptions they actually consider.
+ *
+ * @see AssociateGreedySearch
+ *
+ * @author Peter Abeles
+ */
+public interface DescriptorSearch<Desc> {
+
+	/**
+	 * Specifies the set of descriptions which are searched.  Any index is built here.
+	 *
+	 * @param list Descriptions.  Must not be modified until this function is called again.
+	 */
+	void setDescriptions( FastQueue<Desc> list );
+
+	/**
+	 * Finds the description in the set which is closest to the query.
+	 *
+	 * @param query The description being searched for
+	 * @param maxDistance Maximum allowed distance.  Inclusive.
+	 * @return Index of the closest description in the set or -1 if none were found.
+	 */
+	int findNearest( Desc query , double maxDistance );
+
+	/**
+	 * Finds the description in the set which is closest to the query while ignoring one description in the set.
+	 *
+	 * @param query The description being searched for
+	 * @param maxDistance Maximum allowed distance.  Inclusive.
+	 * @param exclude Index of the description which is ignored.  If &lt; 0 then none are ignored.
+	 * @return Index of the closest description in the set or -1 if none were found.
+	 */
+	int findNearest( Desc query , double maxDistance , int exclude );
+
+	/**
+	 * Distance of the description found by the most recent call to {@link #findNearest}.  If nothing was
+	 * found then {@link Double#NaN} is returned.
+	 */
+	double getDistance();
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.nn.NearestNeighbor;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Searches for the closest description using a {@link NearestNeighbor} search from DDogleg, e.g. a K-D tree or
+ * a random forest of K-D trees.  Distance is Euclidean squared, the same as {@link ScoreAssociateEuclideanSq_F64}.
+ * {@link TupleDesc_F64} are searched without copying while other descriptor types are copied into double arrays.
+ *
+ * @author Peter Abeles
+ */
+public class DescriptorSearchNearestNeighbor<Desc extends TupleDesc>
+		implements DescriptorSearch<Desc>
+{
+	// Nearest Neighbor algorithm and storage for the results
+	private NearestNeighbor<Integer> alg;
+	private NnData<Integer> result = new NnData<>();
+	private FastQueue<NnData<Integer>> results = new FastQueue(NnData.class,true);
+
+	// storage for the points passed to the nearest neighbor search
+	private List<double[]> points = new ArrayList<>();
+	// storage for descriptions which need to be converted into double arrays
+	private List<double[]> converted = new ArrayList<>();
+	private List<Integer> indexes = new ArrayList<>();
+	private double[] query = new double[0];
+
+	// distance of the most recent match
+	private double distance = Double.NaN;
+
+	/**
+	 * @param alg Nearest neighbor search
+	 * @param featureDimension Number of elements in a description
+	 */
+	public DescriptorSearchNearestNeighbor(NearestNeighbor<Integer> alg , int featureDimension ) {
+		this.alg = alg;
+		alg.init(featureDimension);
+	}
+
+	@Override
+	public void setDescriptions(FastQueue<Desc> list) {
+		while( indexes.size() < list.size )
+			indexes.add(indexes.size());
+
+		points.clear();
+		for( int i = 0; i < list.size; i++ ) {
+			points.add( toArray(list.data[i], i) );
+		}
+
+		alg.setPoints(points,indexes.subList(0,list.size));
+	}
+
+	/**
+	 * Returns the array the description is stored in, copying it if needed
+	 */
+	private double[] toArray( Desc desc , int index ) {
+		if( desc instanceof TupleDesc_F64 )
+			return ((TupleDesc_F64)desc).value;
+
+		while( converted.size() <= index )
+			converted.add(new double[desc.size()]);
+		double[] array = converted.get(index);
+		if( array.length != desc.size() ) {
+			array = new double[desc.size()];
+			converted.set(index,array);
+		}
+		for( int i = 0; i < array.length; i++ ) {
+			array[i] = desc.getDouble(i);
+		}
+		return array;
+	}
+
+	@Override
+	public int findNearest(Desc desc, double maxDistance) {
+		return findNearest(desc, maxDistance, -1);
+	}
+
+	@Override
+	public int findNearest(Desc desc, double maxDistance, int exclude) {
+		double[] array;
+		if( desc instanceof TupleDesc_F64 ) {
+			array = ((TupleDesc_F64)desc).value;
+		} else {
+			if( query.length != desc.size() )
+				query = new double[desc.size()];
+			for( int i = 0; i < query.length; i++ ) {
+				query[i] = desc.getDouble(i);
+			}
+			array = query;
+		}
+
+		// a negative distance tells NN there is no maximum
+		if( maxDistance == Double.MAX_VALUE )
+			maxDistance = -1;
+
+		distance = Double.NaN;
+		if( exclude < 0 ) {
+			if( !alg.findNearest(array, maxDistance, result) )
+				return -1;
+			distance = result.distance;
+			return result.data;
+		}
+
+		// the excluded description can only take up one of the two closest
+		results.reset();
+		alg.findNearest(array, maxDistance, 2, results);
+		NnData<Integer> best = null;
+		for( int i = 0; i < results.size; i++ ) {
+			NnData<Integer> r = results.get(i);
+			if( r.data == exclude )
+				continue;
+			// on a tie the higher index wins, the same as AssociateGreedy
+			if( best == null || r.distance < best.distance ||
+					(r.distance == best.distance && r.data > best.data) )
+				best = r;
+		}
+		if( best == null )
+			return -1;
+		distance = best.distance;
+		return best.data;
+	}
+
+	@Override
+	public double getDistance() {
+		return distance;
+	}
+}
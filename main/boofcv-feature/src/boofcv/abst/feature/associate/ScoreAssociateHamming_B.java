@@ -20,21 +20,54 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * Score association between two BRIEF features.  Scoring is done using the Hamming distance.
  * Hamming distance is the number of bits in the descriptor which do not have the same value.
+ * Rows are scored by packing the descriptors into longs, see {@link PackedTupleArray_B}.
  *
  * @author Peter Abeles
  */
-public class ScoreAssociateHamming_B implements ScoreAssociation<TupleDesc_B>{
+public class ScoreAssociateHamming_B implements ScoreAssociationBulk<TupleDesc_B,PackedTupleArray_B> {
+
+	// storage for the packed row description
+	private long[] packed = new long[0];
+	// storage for the row's hamming distances
+	private int[] distances = new int[0];
 
 	@Override
 	public double score(TupleDesc_B a, TupleDesc_B b) {
 		return DescriptorDistance.hamming(a,b);
 	}
 
+	@Override
+	public PackedTupleArray_B createBlock() {
+		return new PackedTupleArray_B();
+	}
+
+	@Override
+	public void setBlock(FastQueue<TupleDesc_B> list, PackedTupleArray_B block) {
+		block.setTo(list);
+	}
+
+	@Override
+	public void scoreRow(TupleDesc_B a, PackedTupleArray_B block, double[] scores, int offset) {
+		if( packed.length < block.numWords )
+			packed = new long[block.numWords];
+		if( distances.length < block.size )
+			distances = new int[block.size];
+
+		PackedTupleArray_B.pack(a,packed,0);
+		DescriptorDistance.hamming(packed,block,distances);
+
+		for( int i = 0; i < block.size; i++ ) {
+			scores[offset+i] = distances[i];
+		}
+	}
+
 	@Override
 	public MatchScoreType getScoreType() {
 		return MatchScoreType.NORM_ERROR;
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * A {@link ScoreAssociation} which can score one description against a whole list of descriptions in a single
+ * call.  The list is first copied into a block, which stores it in a layout that's efficient to score against.
+ * Scores are identical to the ones returned by {@link #score}.
+ *
+ * @param <Desc> Feature description type.
+ * @param <Block> Storage for a list of descriptions.
+ *
+ * @author Peter Abeles
+ */
+public interface ScoreAssociationBulk<Desc,Block> extends ScoreAssociation<Desc> {
+
+	/**
+	 * Creates storage for a list of descriptions
+	 */
+	Block createBlock();
+
+	/**
+	 * Copies the list of descriptions into the block.
+	 *
+	 * @param list (Input) List of descriptions
+	 * @param block (Output) Storage for the descriptions
+	 */
+	void setBlock( FastQueue<Desc> list , Block block );
+
+	/**
+	 * Computes the fit score between the description and every description in the block.
+	 *
+	 * @param a (Input) The description
+	 * @param block (Input) Descriptions it's scored against
+	 * @param scores (Output) Storage for the scores. Must have space for every description in the block.
+	 * @param offset Index of the first element in scores that's written to
+	 */
+	void scoreRow( Desc a , Block block , double[] scores , int offset );
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.describe;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.image.ImageBase;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_F64;
+
+/**
+ * <p>
+ * Describes a list of points in a single call.  If {@link BoofConcurrency#USE_CONCURRENT} is true and the
+ * describer implements {@link DescribeRegionPointCopy} then blocks of points are described concurrently, with
+ * each block using its own copy of the describer.  Copies are saved and only created when the number of blocks
+ * grows.  Otherwise the points are described one at a time, in order.
+ * Either way the results are identical.
+ * </p>
+ *
+ * <p>
+ * Points which can't be described are removed from all the lists, preserving the order of the other points.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DescribeRegionPointBatch<T extends ImageBase<T>, Desc extends TupleDesc> {
+
+	/**
+	 * When processed concurrently, the minimum number of points in each block
+	 */
+	public static int MIN_BLOCK_POINTS = 100;
+
+	// describes each point
+	DescribeRegionPoint<T,Desc> describe;
+
+	// which points could be described
+	GrowQueue_B success = new GrowQueue_B();
+
+	// copy of the describer for each block.  Declared the first time points are described concurrently
+	FastQueue<DescribeRegionPoint<T,Desc>> workers;
+
+	public DescribeRegionPointBatch(DescribeRegionPoint<T, Desc> describe) {
+		this.describe = describe;
+	}
+
+	/**
+	 * Describes every point.  {@link DescribeRegionPoint#setImage} must be called on the describer first.
+	 *
+	 * @param locations (Input/Output) Location of each point
+	 * @param radii (Input/Output) Radius of each point
+	 * @param orientations (Input/Output) Orientation of each point
+	 * @param descs (Output) Description of each point.  Reset and grown to the number of described points.
+	 */
+	public void process( final FastQueue<Point2D_F64> locations ,
+						 final GrowQueue_F64 radii ,
+						 final GrowQueue_F64 orientations ,
+						 final FastQueue<Desc> descs )
+	{
+		final int N = locations.size;
+		descs.reset();
+		for (int i = 0; i < N; i++) {
+			descs.grow();
+		}
+		success.resize(N);
+
+		if( BoofConcurrency.USE_CONCURRENT && describe instanceof DescribeRegionPointCopy ) {
+			if( workers == null )
+				declareWorkers();
+			BoofConcurrency.loopBlocks(0,N,MIN_BLOCK_POINTS,workers,
+					new IntRangeObjectTask<DescribeRegionPoint<T,Desc>>() {
+				@Override
+				public void process(DescribeRegionPoint<T,Desc> alg, int idx0, int idx1) {
+					describe(alg,locations,radii,orientations,descs,idx0,idx1);
+				}
+			});
+		} else {
+			describe(describe,locations,radii,orientations,descs,0,N);
+		}
+
+		removeFailed(locations, radii, orientations, descs);
+	}
+
+	/**
+	 * Copies are created after the first image has been set, since a copy is only valid after that
+	 */
+	private void declareWorkers() {
+		final DescribeRegionPointCopy<T,Desc> original = (DescribeRegionPointCopy<T,Desc>)describe;
+		workers = new FastQueue<DescribeRegionPoint<T,Desc>>(1,(Class)DescribeRegionPoint.class,true) {
+			@Override
+			protected DescribeRegionPoint<T,Desc> createInstance() {
+				return original.copy();
+			}
+		};
+	}
+
+	private void describe( DescribeRegionPoint<T,Desc> alg ,
+						   FastQueue<Point2D_F64> locations , GrowQueue_F64 radii , GrowQueue_F64 orientations ,
+						   FastQueue<Desc> descs , int idx0 , int idx1 ) {
+		for (int i = idx0; i < idx1; i++) {
+			Point2D_F64 p = locations.get(i);
+			success.data[i] = alg.process(p.x,p.y,orientations.get(i),radii.get(i),descs.get(i));
+		}
+	}
+
+	/**
+	 * Shifts the described points down to fill the gaps left by points which couldn't be described
+	 */
+	private void removeFailed( FastQueue<Point2D_F64> locations , GrowQueue_F64 radii , GrowQueue_F64 orientations ,
+							   FastQueue<Desc> descs ) {
+		int N = locations.size;
+		int count = 0;
+		for (int i = 0; i < N; i++) {
+			if( !success.data[i] )
+				continue;
+			if( count != i ) {
+				swap(locations,count,i);
+				swap(descs,count,i);
+				radii.data[count] = radii.data[i];
+				orientations.data[count] = orientations.data[i];
+			}
+			count++;
+		}
+		locations.size = count;
+		descs.size = count;
+		radii.size = count;
+		orientations.size = count;
+	}
+
+	private static <E> void swap( FastQueue<E> queue , int i , int j ) {
+		E tmp = queue.data[i];
+		queue.data[i] = queue.data[j];
+		queue.data[j] = tmp;
+	}
+
+	public DescribeRegionPoint<T, Desc> getDescribe() {
+		return describe;
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.describe;
+
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * A {@link DescribeRegionPoint} which can create copies of itself.  A copy shares the image and all read only
+ * data with the original but has its own workspace, allowing features in the same image to be described from
+ * multiple threads at once.  A copy always describes the most recent image passed into the original's
+ * {@link #setImage}, so it can be reused across images.  Implementations do this by either sharing the data
+ * which {@link #setImage} modifies in place or by checking for a new image in the original before describing.
+ *
+ * @see DescribeRegionPointBatch
+ *
+ * @author Peter Abeles
+ */
+public interface DescribeRegionPointCopy<T extends ImageBase<T>, Desc extends TupleDesc>
+		extends DescribeRegionPoint<T,Desc>
+{
+	/**
+	 * Creates a copy which shares the original's image.  Can only be called after {@link #setImage} has been
+	 * called at least once.  {@link #setImage} should not be called on the copy.
+	 *
+	 * @return Copy of this describer
+	 */
+	DescribeRegionPointCopy<T,Desc> copy();
+}
@@ -36,7 +36,7 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class DescribeRegionPoint_SIFT <T extends ImageGray<T>>
-	implements DescribeRegionPoint<T,TupleDesc_F64>
+	implements DescribeRegionPointCopy<T,TupleDesc_F64>
 {
 	// expected type of input image.  All image types are converted to floats since that's what
 	// the scale-space requires
@@ -60,6 +60,17 @@ public class DescribeRegionPoint_SIFT <T extends ImageGray<T>>
 		this.imageType = ImageType.single(imageType);
 	}
 
+	/**
+	 * Used by {@link #copy()} to share the scale-space
+	 */
+	protected DescribeRegionPoint_SIFT(UnrollSiftScaleSpaceGradient scaleSpace,
+									   DescribePointSift<GrayF32> describe,
+									   ImageType<T> imageType ) {
+		this.scaleSpace = scaleSpace;
+		this.describe = describe;
+		this.imageType = imageType;
+	}
+
 	@Override
 	public void setImage(T image) {
 		GrayF32 input;
@@ -91,6 +102,11 @@ public class DescribeRegionPoint_SIFT <T extends ImageGray<T>>
 		return true;
 	}
 
+	@Override
+	public DescribeRegionPoint_SIFT<T> copy() {
+		return new DescribeRegionPoint_SIFT<>(scaleSpace,describe.copy(),imageType);
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return true;
@@ -19,6 +19,7 @@
 package boofcv.abst.feature.describe;
 
 import boofcv.alg.feature.describe.DescribePointBrief;
+import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -26,12 +27,17 @@ import boofcv.struct.image.ImageType;
 /**
  * @author Peter Abeles
  */
-public class WrapDescribeBrief<T extends ImageGray<T>> implements DescribeRegionPoint<T,TupleDesc_B> {
+public class WrapDescribeBrief<T extends ImageGray<T>> implements DescribeRegionPointCopy<T,TupleDesc_B> {
 
 	int length;
 	DescribePointBrief<T> alg;
 	ImageType<T> imageType;
 
+	// the describer this is a copy of, or null if it isn't a copy
+	WrapDescribeBrief<T> original;
+	// incremented each time the image changes
+	int imageCount;
+
 	public WrapDescribeBrief( DescribePointBrief<T> alg , Class<T> imageType) {
 		this.alg = alg;
 		this.length = alg.getDefinition().getLength();
@@ -46,14 +52,34 @@ public class WrapDescribeBrief<T extends ImageGray<T>> implements DescribeRegion
 	@Override
 	public void setImage(T image) {
 		alg.setImage(image);
+		imageCount++;
 	}
+
 	@Override
 	public boolean process(double x, double y, double orientation, double radius, TupleDesc_B storage)
 	{
+		// a copy follows the original to its most recent image
+		if( original != null && imageCount != original.imageCount ) {
+			alg.setImage(original.alg);
+			imageCount = original.imageCount;
+		}
 		alg.process(x, y, storage);
 		return true;
 	}
 
+	/**
+	 * The copy has its own {@link DescribePointBrief} which describes the original's image without blurring it again.
+	 */
+	@Override
+	public WrapDescribeBrief<T> copy() {
+		DescribePointBrief<T> a = FactoryDescribePointAlgs.brief(alg.getDefinition(),alg.getFilterBlur());
+		a.setImage(alg);
+		WrapDescribeBrief<T> ret = new WrapDescribeBrief<>(a,imageType.getImageClass());
+		ret.original = this;
+		ret.imageCount = imageCount;
+		return ret;
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return false;
@@ -26,7 +26,7 @@ import boofcv.struct.image.ImageType;
 /**
  * @author Peter Abeles
  */
-public class WrapDescribeBriefSo<T extends ImageGray<T>> implements DescribeRegionPoint<T,TupleDesc_B> {
+public class WrapDescribeBriefSo<T extends ImageGray<T>> implements DescribeRegionPointCopy<T,TupleDesc_B> {
 
 	int length;
 	DescribePointBriefSO<T> alg;
@@ -55,6 +55,11 @@ public class WrapDescribeBriefSo<T extends ImageGray<T>> implements DescribeRegi
 		return true;
 	}
 
+	@Override
+	public WrapDescribeBriefSo<T> copy() {
+		return new WrapDescribeBriefSo<>(alg.copy(),imageType.getImageClass());
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return true;
@@ -30,7 +30,7 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class WrapDescribeSurf<T extends ImageGray<T>, II extends ImageGray<II>>
-		implements DescribeRegionPoint<T,BrightFeature> {
+		implements DescribeRegionPointCopy<T,BrightFeature> {
 
 	// computes SURF feature descriptor
 	DescribePointSurf<II> surf;
@@ -39,6 +39,11 @@ public class WrapDescribeSurf<T extends ImageGray<T>, II extends ImageGray<II>>
 
 	ImageType<T> imageType;
 
+	// the describer this is a copy of, or null if it isn't a copy
+	WrapDescribeSurf<T,II> original;
+	// incremented each time the image changes
+	int imageCount;
+
 	public WrapDescribeSurf(DescribePointSurf<II> surf , Class<T> imageType)
 	{
 		this.surf = surf;
@@ -59,16 +64,32 @@ public class WrapDescribeSurf<T extends ImageGray<T>, II extends ImageGray<II>>
 		// compute integral image
 		ii = GIntegralImageOps.transform(image,ii);
 		surf.setImage(ii);
+		imageCount++;
 	}
 
 	@Override
 	public boolean process(double x, double y, double orientation , double radius, BrightFeature storage) {
+		// a copy follows the original to its most recent integral image
+		if( original != null && imageCount != original.imageCount ) {
+			ii = original.ii;
+			surf.setImage(ii);
+			imageCount = original.imageCount;
+		}
 
 		surf.describe(x,y, orientation, radius/ BoofDefaults.SURF_SCALE_TO_RADIUS, storage);
 
 		return true;
 	}
 
+	@Override
+	public WrapDescribeSurf<T,II> copy() {
+		WrapDescribeSurf<T,II> ret = new WrapDescribeSurf<>(surf.copy(),imageType.getImageClass());
+		ret.ii = ii;
+		ret.original = this;
+		ret.imageCount = imageCount;
+		return ret;
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return true;
@@ -19,6 +19,7 @@
 package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.describe.DescribeRegionPointBatch;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.OrientationImage;
 import boofcv.struct.feature.TupleDesc;
@@ -31,6 +32,7 @@ import org.ddogleg.struct.GrowQueue_F64;
  * Wrapper class around independent feature detectors, region orientation, and descriptors, that allow
  * them to be used as a single integrated unit. Providing an algorithm for estimating orientation is
  * optional.  If one is provided, any orientation estimate provided by the detector is ignored.
+ * Features are described using {@link DescribeRegionPointBatch}, which can describe them concurrently.
  *
  * @see InterestPointDetector
  * @see OrientationImage
@@ -47,6 +49,8 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 	private OrientationImage<T> orientation;
 	// describes each feature found
 	private DescribeRegionPoint<T, TD> describe;
+	// describes all the features at once
+	private DescribeRegionPointBatch<T, TD> batch;
 
 	// list of extracted feature descriptors
 	private FastQueue<TD> descs;
@@ -70,6 +74,7 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 		this.describe = describe;
 		this.orientation = orientation;
 		this.detector = detector;
+		this.batch = new DescribeRegionPointBatch<>(describe);
 
 		final DescribeRegionPoint<T, TD> locaDescribe = describe;
 
@@ -121,14 +126,12 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 				yaw = orientation.compute(p.x,p.y);
 			}
 
-			if( describe.process(p.x,p.y,yaw,radius,descs.grow()) ) {
-				featureRadiuses.push(radius);
-				featureAngles.push(yaw);
-				location.add(p);
-			} else {
-				descs.removeTail();
-			}
+			featureRadiuses.push(radius);
+			featureAngles.push(yaw);
+			location.add(p);
 		}
+
+		batch.process(location,featureRadiuses,featureAngles,descs);
 	}
 
 	@Override
@@ -19,6 +19,7 @@
 package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.describe.DescribeRegionPointBatch;
 import boofcv.abst.feature.detect.interest.DetectorInterestPointMulti;
 import boofcv.abst.feature.detect.interest.FoundPointSO;
 import boofcv.abst.feature.orientation.OrientationImage;
@@ -27,11 +28,13 @@ import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.point.Point2D_F64;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
 
 /**
  * Wrapper class around independent multi feature detectors, region orientation, and descriptors, that allow
  * them to be used as a single integrated unit. Providing an algorithm for estimating orientation is
  * optional.  If one is provided, any orientation estimate provided by the detector is ignored.
+ * Features are described using {@link DescribeRegionPointBatch}, which can describe them concurrently.
  *
  * @see boofcv.abst.feature.detect.interest.InterestPointDetector
  * @see OrientationImage
@@ -48,6 +51,12 @@ public class DetectDescribeMultiFusion<T extends ImageGray<T>, TD extends TupleD
 	private OrientationImage<T> orientation;
 	// describes each feature found
 	private DescribeRegionPoint<T,TD> describe;
+	// describes all the features in a set at once
+	private DescribeRegionPointBatch<T,TD> batch;
+
+	// storage for the radius and orientation of features in a set
+	private GrowQueue_F64 radiuses = new GrowQueue_F64();
+	private GrowQueue_F64 orientations = new GrowQueue_F64();
 
 	// storage for each set
 	private SetInfo<TD> info[];
@@ -58,6 +67,7 @@ public class DetectDescribeMultiFusion<T extends ImageGray<T>, TD extends TupleD
 		this.detector = detector;
 		this.orientation = orientation;
 		this.describe = describe;
+		this.batch = new DescribeRegionPointBatch<>(describe);
 
 		info = new SetInfo[ detector.getNumberOfSets() ];
 		for( int i = 0; i < info.length; i++ ) {
@@ -80,6 +90,8 @@ public class DetectDescribeMultiFusion<T extends ImageGray<T>, TD extends TupleD
 			FoundPointSO points = detector.getFeatureSet(i);
 			SetInfo<TD> setInfo = info[i];
 			setInfo.reset();
+			radiuses.reset();
+			orientations.reset();
 
 			// describe each detected feature
 			for( int j = 0; j < points.getNumberOfFeatures(); j++ ) {
@@ -92,14 +104,12 @@ public class DetectDescribeMultiFusion<T extends ImageGray<T>, TD extends TupleD
 					ori = orientation.compute(p.x,p.y);
 				}
 
-				TD d = setInfo.descriptors.grow();
-
-				if( describe.process(p.x,p.y,ori,radius,d)) {
-					setInfo.location.grow().set(p);
-				} else {
-					setInfo.descriptors.removeTail();
-				}
+				setInfo.location.grow().set(p);
+				radiuses.push(radius);
+				orientations.push(ori);
 			}
+
+			batch.process(setInfo.location,radiuses,orientations,setInfo.descriptors);
 		}
 	}
 
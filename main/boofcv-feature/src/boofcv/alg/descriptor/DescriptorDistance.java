@@ -205,17 +205,33 @@ public class DescriptorDistance {
 	/**
 	 * <p>Computes the hamming distance.  A bit = 0 is a match and 1 is not match<p>
 	 *
-	 * Based on code snippet from <a href="http://graphics.stanford.edu/~seander/bithacks.html">Sean Eron Anderson Bit Twiddling Hacks</a>.
+	 * The JIT replaces {@link Integer#bitCount} with a single instruction on CPUs that support it.
 	 *
 	 * @param val Hamming encoding
 	 * @return The hamming distance
 	 */
 	public static int hamming( int val ) {
-		int c;
-		int v = val;
-		v = v - ((v >> 1) & 0x55555555);
-		v = (v & 0x33333333) + ((v >> 2) & 0x33333333);
-		c = ((v + (v >> 4) & 0xF0F0F0F) * 0x1010101) >> 24;
-		return c;
+		return Integer.bitCount(val);
+	}
+
+	/**
+	 * Computes the hamming distance between a packed descriptor and every descriptor in a packed array.
+	 *
+	 * @param query Descriptor packed using {@link PackedTupleArray_B#pack}
+	 * @param block Descriptors which the query is compared against
+	 * @param output (Output) Hamming distance to each descriptor in the block.  Must be at least block.size long.
+	 */
+	public static void hamming( long[] query , PackedTupleArray_B block , int[] output ) {
+		final long[] data = block.data;
+		final int numWords = block.numWords;
+
+		int index = 0;
+		for( int i = 0; i < block.size; i++ ) {
+			int score = 0;
+			for( int j = 0; j < numWords; j++ ) {
+				score += Long.bitCount(query[j] ^ data[index++]);
+			}
+			output[i] = score;
+		}
 	}
 }
@@ -19,6 +19,7 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.associate.ScoreAssociationBulk;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
@@ -39,6 +40,10 @@ import org.ddogleg.struct.GrowQueue_I32;
  * associated with feature in src.
  * </p>
  *
+ * <p>
+ * If the score implements {@link ScoreAssociationBulk} then each row of scores is computed in a single call.
+ * </p>
+ *
  * @param <D> Feature description type.
  *
  * @author Peter Abeles
@@ -57,6 +62,8 @@ public class AssociateGreedy<D> {
 	private GrowQueue_F64 workBuffer = new GrowQueue_F64(100);
 	// if true backwardsValidation is done
 	private boolean backwardsValidation;
+	// storage for the destination list when scoring rows in bulk
+	private Object blockDst;
 
 	/**
 	 * Configure association
@@ -86,24 +93,28 @@ public class AssociateGreedy<D> {
 //		System.out.println("Associate: "+src.size+"*"+dst.size+" = "+(src.size*dst.size)+" or "+(src.size*dst.size*8/1024/1024)+"MB");
 		fitQuality.setMaxSize(src.size);
 		workBuffer.setMaxSize(src.size*dst.size);
-		for( int i = 0; i < src.size; i++ ) {
-			D a = src.data[i];
-			double bestScore = maxFitError;
-			int bestIndex = -1;
+		if( score instanceof ScoreAssociationBulk ) {
+			scoreBulk((ScoreAssociationBulk)score, src, dst);
+		} else {
+			for( int i = 0; i < src.size; i++ ) {
+				D a = src.data[i];
+				double bestScore = maxFitError;
+				int bestIndex = -1;
 
-			for( int j = 0; j < dst.size; j++ ) {
-				D b = dst.data[j];
+				for( int j = 0; j < dst.size; j++ ) {
+					D b = dst.data[j];
 
-				double fit = score.score(a,b);
-				workBuffer.push(fit);
+					double fit = score.score(a,b);
+					workBuffer.push(fit);
 
-				if( fit <= bestScore ) {
-					bestIndex = j;
-					bestScore = fit;
+					if( fit <= bestScore ) {
+						bestIndex = j;
+						bestScore = fit;
+					}
 				}
+				pairs.push(bestIndex);
+				fitQuality.push(bestScore);
 			}
-			pairs.push(bestIndex);
-			fitQuality.push(bestScore);
 		}
 
 		if( backwardsValidation ) {
@@ -125,6 +136,35 @@ public class AssociateGreedy<D> {
 		}
 	}
 
+	/**
+	 * Computes the score for every pair one row at a time and finds the best fit in each row
+	 */
+	private void scoreBulk( ScoreAssociationBulk bulk , FastQueue<D> src , FastQueue<D> dst ) {
+		if( blockDst == null )
+			blockDst = bulk.createBlock();
+		bulk.setBlock(dst,blockDst);
+
+		workBuffer.resize(src.size*dst.size);
+		for( int i = 0; i < src.size; i++ ) {
+			int offset = i*dst.size;
+			bulk.scoreRow(src.data[i],blockDst,workBuffer.data,offset);
+
+			double bestScore = maxFitError;
+			int bestIndex = -1;
+
+			for( int j = 0; j < dst.size; j++ ) {
+				double fit = workBuffer.data[offset+j];
+
+				if( fit <= bestScore ) {
+					bestIndex = j;
+					bestScore = fit;
+				}
+			}
+			pairs.push(bestIndex);
+			fitQuality.push(bestScore);
+		}
+	}
+
 	/**
 	 * Returns a list of association pairs.  Each element in the returned list corresponds
 	 * to an element in the src list.  The value contained in the index indicate which element
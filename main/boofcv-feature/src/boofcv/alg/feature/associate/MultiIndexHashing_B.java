@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.DescriptorSearch;
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Approximate nearest-neighbor search for binary descriptors using multi-index hashing [1].  Each description is
+ * broken up into 16-bit substrings and a table is built for each substring which maps the substring's value
+ * to every description with that value.  Only descriptions which share at least one substring with the query,
+ * or are within the substring search radius of one, are scored with the full hamming distance.
+ * </p>
+ *
+ * <p>
+ * If every substring has its own table then any description within a hamming distance of
+ * (numTables)*(radius+1)-1 is guaranteed to be found.  Using fewer tables, and a smaller radius, is faster
+ * but more likely to miss the closest description.  Tables are 16-bit so they can be directly indexed
+ * instead of hashed.
+ * </p>
+ *
+ * <p>
+ * [1] Norouzi, Mohammad, Ali Punjani, and David J. Fleet. "Fast search in hamming space with multi-index
+ * hashing." CVPR 2012
+ * </p>
+ *
+ * <p>
+ * Distance is hamming distance, the same as {@link boofcv.abst.feature.associate.ScoreAssociateHamming_B}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MultiIndexHashing_B implements DescriptorSearch<TupleDesc_B> {
+
+	// number of bits in a substring
+	public static final int SUBSTRING_BITS = 16;
+	// number of possible values for a substring
+	private static final int TABLE_SIZE = 1 << SUBSTRING_BITS;
+
+	// maximum number of tables.  if <= 0 then every substring will have a table
+	private int maxTables;
+	// number of bits which can be different in a substring when searching a table
+	private int radius;
+
+	// number of tables actually used
+	private int numTables;
+
+	// For each table, the index of the first entry for each substring value.  Length is TABLE_SIZE+1
+	private int[][] tableStart = new int[0][];
+	// For each table, indexes of descriptions sorted by their substring value
+	private int[][] tableEntries = new int[0][];
+
+	// list of descriptions being searched
+	private FastQueue<TupleDesc_B> list;
+
+	// used to avoid scoring the same description twice for a single query
+	private GrowQueue_I32 visited = new GrowQueue_I32();
+	private int queryID;
+
+	// best match found so far for the current query
+	private int bestIndex;
+	private double bestDistance;
+	// description which is skipped by the current query
+	private int excludeIndex;
+
+	/**
+	 * Configures the search
+	 *
+	 * @param maxTables Maximum number of substring tables.  If &le; 0 every substring will have a table.
+	 * @param radius Number of bits which can be different in a substring.  Can be 0 or 1.
+	 */
+	public MultiIndexHashing_B(int maxTables, int radius) {
+		if( radius < 0 || radius > 1 )
+			throw new IllegalArgumentException("Radius must be 0 or 1");
+		this.maxTables = maxTables;
+		this.radius = radius;
+	}
+
+	@Override
+	public void setDescriptions(FastQueue<TupleDesc_B> list) {
+		this.list = list;
+
+		numTables = 0;
+		if( list.size == 0 )
+			return;
+
+		int numSubstrings = list.get(0).data.length*32/SUBSTRING_BITS;
+		numTables = maxTables <= 0 ? numSubstrings : Math.min(maxTables,numSubstrings);
+
+		if( tableStart.length < numTables ) {
+			int[][] start = new int[numTables][];
+			int[][] entries = new int[numTables][];
+			System.arraycopy(tableStart,0,start,0,tableStart.length);
+			System.arraycopy(tableEntries,0,entries,0,tableEntries.length);
+			for( int i = tableStart.length; i < numTables; i++ ) {
+				start[i] = new int[TABLE_SIZE+1];
+				entries[i] = new int[0];
+			}
+			tableStart = start;
+			tableEntries = entries;
+		}
+
+		for( int table = 0; table < numTables; table++ ) {
+			int[] start = tableStart[table];
+			if( tableEntries[table].length < list.size )
+				tableEntries[table] = new int[list.size];
+			int[] entries = tableEntries[table];
+
+			// counting sort of descriptions by substring value
+			Arrays.fill(start,0);
+			for( int i = 0; i < list.size; i++ ) {
+				start[substring(list.data[i],table)+1]++;
+			}
+			for( int i = 1; i <= TABLE_SIZE; i++ ) {
+				start[i] += start[i-1];
+			}
+			for( int i = 0; i < list.size; i++ ) {
+				int value = substring(list.data[i],table);
+				// start[value] is used as a counter then restored below
+				entries[start[value]++] = i;
+			}
+			for( int i = TABLE_SIZE; i > 0; i-- ) {
+				start[i] = start[i-1];
+			}
+			start[0] = 0;
+		}
+
+		visited.resize(list.size);
+		visited.fill(-1);
+		queryID = 0;
+	}
+
+	/**
+	 * Extracts the value of a substring from the description
+	 */
+	private static int substring( TupleDesc_B desc , int which ) {
+		int word = desc.data[which/2];
+		return (which % 2 == 0 ? word : word >>> SUBSTRING_BITS) & 0xFFFF;
+	}
+
+	@Override
+	public int findNearest(TupleDesc_B query, double maxDistance) {
+		return findNearest(query, maxDistance, -1);
+	}
+
+	@Override
+	public int findNearest(TupleDesc_B query, double maxDistance, int exclude) {
+		if( queryID == Integer.MAX_VALUE ) {
+			visited.fill(-1);
+			queryID = 0;
+		}
+		queryID++;
+
+		bestIndex = -1;
+		bestDistance = maxDistance;
+		excludeIndex = exclude;
+
+		for( int table = 0; table < numTables; table++ ) {
+			int value = substring(query,table);
+
+			searchBucket(table, value, query);
+			if( radius == 1 ) {
+				for( int bit = 0; bit < SUBSTRING_BITS; bit++ ) {
+					searchBucket(table, value ^ (1 << bit), query);
+				}
+			}
+		}
+
+		if( bestIndex < 0 )
+			bestDistance = Double.NaN;
+
+		return bestIndex;
+	}
+
+	/**
+	 * Scores every description in the bucket which hasn't already been scored
+	 */
+	private void searchBucket( int table , int value , TupleDesc_B query ) {
+		int[] start = tableStart[table];
+		int[] entries = tableEntries[table];
+
+		for( int i = start[value]; i < start[value+1]; i++ ) {
+			int index = entries[i];
+			if( visited.data[index] == queryID )
+				continue;
+			visited.data[index] = queryID;
+			if( index == excludeIndex )
+				continue;
+
+			// on a tie the higher index wins, the same as AssociateGreedy
+			int d = DescriptorDistance.hamming(query,list.data[index]);
+			if( d < bestDistance || (d == bestDistance && index > bestIndex) ) {
+				bestDistance = d;
+				bestIndex = index;
+			}
+		}
+	}
+
+	@Override
+	public double getDistance() {
+		return bestDistance;
+	}
+
+	public int getNumTables() {
+		return numTables;
+	}
+}
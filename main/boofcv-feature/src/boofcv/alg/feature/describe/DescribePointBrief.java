@@ -88,6 +88,21 @@ public class DescribePointBrief<T extends ImageGray<T>> {
 		describe.process((int)c_x,(int)c_y,feature);
 	}
 
+	/**
+	 * Describes the same image as another instance which has already processed it, without blurring it again.
+	 * The blurred image is shared with the other instance.
+	 *
+	 * @param src Instance which {@link #setImage} has been called on.
+	 */
+	public void setImage( DescribePointBrief<T> src ) {
+		blur = src.blur;
+		describe.setImage(src.describe.image);
+	}
+
+	public BlurFilter<T> getFilterBlur() {
+		return filterBlur;
+	}
+
 	public BinaryCompareDefinition_I32 getDefinition() {
 		return describe.getDefinition();
 	}
@@ -112,6 +112,9 @@ public class DescribePointBriefSO<T extends ImageGray<T>> {
 				if( BoofMiscOps.checkInside(blur, x0, y0) ) {
 					// it might be inside the image but too close to the border for unsafe
 					values[i] = interp.get(x0,y0);
+				} else {
+					// don't let the value from the previous feature leak into this one
+					values[i] = 0;
 				}
 			}
 		}
@@ -125,6 +128,19 @@ public class DescribePointBriefSO<T extends ImageGray<T>> {
 		}
 	}
 
+	/**
+	 * Creates a copy with its own workspace.  The blurred image and interpolation are shared, so the copy can
+	 * describe features in the current image from a different thread.  The interpolation is only read from,
+	 * which is safe for bilinear and nearest-neighbor interpolation.
+	 *
+	 * @return Copy of this descriptor
+	 */
+	public DescribePointBriefSO<T> copy() {
+		DescribePointBriefSO<T> ret = new DescribePointBriefSO<>(definition,filterBlur,interp);
+		ret.blur = blur;
+		return ret;
+	}
+
 	public BinaryCompareDefinition_I32 getDefinition() {
 		return definition;
 	}
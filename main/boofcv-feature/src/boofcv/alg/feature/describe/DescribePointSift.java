@@ -63,6 +63,9 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 	// reference to user provided descriptor in which results are saved to
 	TupleDesc_F64 descriptor;
 
+	// type of derivative image
+	Class<Deriv> derivType;
+
 	/**
 	 * Configures the descriptor.
 	 *
@@ -78,6 +81,7 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 							 double maxDescriptorElementValue , Class<Deriv> derivType ) {
 		super(widthSubregion,widthGrid,numHistogramBins,weightingSigmaFraction,maxDescriptorElementValue);
 		this.sigmaToPixels = sigmaToPixels;
+		this.derivType = derivType;
 
 		imageDerivX = FactoryGImageGray.create(derivType);
 		imageDerivY = FactoryGImageGray.create(derivType);
@@ -95,6 +99,20 @@ public class DescribePointSift<Deriv extends ImageGray> extends DescribeSiftComm
 		this.imageDerivY.wrap(derivY);
 	}
 
+	/**
+	 * Creates a copy with the same configuration and its own workspace.  The image gradient is shared, so the
+	 * copy can describe features in the current gradient from a different thread.
+	 *
+	 * @return Copy of this descriptor
+	 */
+	public DescribePointSift<Deriv> copy() {
+		DescribePointSift<Deriv> ret = new DescribePointSift<>(widthSubregion,widthGrid,numHistogramBins,
+				sigmaToPixels,weightingSigmaFraction,maxDescriptorElementValue,derivType);
+		if( imageDerivX.getImage() != null )
+			ret.setImageGradient((Deriv)imageDerivX.getImage(),(Deriv)imageDerivY.getImage());
+		return ret;
+	}
+
 	/**
 	 * Computes the SIFT descriptor for the specified key point
 	 *
@@ -95,6 +95,11 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 	protected IntegralKernel kerXX;
 	protected IntegralKernel kerYY;
 
+	// configuration which is needed to create a copy
+	protected double weightSigma;
+	protected boolean useHaar;
+	protected Class<II> inputType;
+
 	/**
 	 * Creates a SURF descriptor of arbitrary dimension by changing how the local region is sampled.
 	 *
@@ -111,6 +116,9 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		this.widthLargeGrid = widthLargeGrid;
 		this.widthSubRegion = widthSubRegion;
 		this.widthSample = widthSample;
+		this.weightSigma = weightSigma;
+		this.useHaar = useHaar;
+		this.inputType = inputType;
 
 		int radius = (widthLargeGrid*widthSubRegion)/2;
 		weight = FactoryKernelGaussian.gaussianWidth(weightSigma, radius * 2);
@@ -305,6 +313,20 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		return lap > 0;
 	}
 
+	/**
+	 * Creates a copy with the same configuration and its own workspace.  The integral image is shared, so
+	 * the copy can describe features in the current image from a different thread.
+	 *
+	 * @return Copy of this descriptor
+	 */
+	public DescribePointSurf<II> copy() {
+		DescribePointSurf<II> ret = new DescribePointSurf<>(
+				widthLargeGrid,widthSubRegion,widthSample,weightSigma,useHaar,inputType);
+		if( ii != null )
+			ret.setImage(ii);
+		return ret;
+	}
+
 	public int getDescriptionLength() {
 		return featureDOF;
 	}
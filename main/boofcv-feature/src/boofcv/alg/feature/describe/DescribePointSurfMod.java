@@ -43,6 +43,8 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 
 	// how many sample points sub-regions overlap.
 	private int overLap;
+	private double sigmaLargeGrid;
+	private double sigmaSubRegion;
 
 	// used to weigh feature computation
 	private Kernel2D_F64 weightGrid;
@@ -70,6 +72,8 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 		super(widthLargeGrid, widthSubRegion, widthSample, 1, useHaar,imageType);
 
 		this.overLap = overLap;
+		this.sigmaLargeGrid = sigmaLargeGrid;
+		this.sigmaSubRegion = sigmaSubRegion;
 
 		weightGrid = FactoryKernelGaussian.gaussianWidth(sigmaLargeGrid, widthLargeGrid);
 		weightSub = FactoryKernelGaussian.gaussianWidth(sigmaSubRegion, widthSubRegion + 2 * overLap);
@@ -184,6 +188,15 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 		}
 	}
 
+	@Override
+	public DescribePointSurfMod<II> copy() {
+		DescribePointSurfMod<II> ret = new DescribePointSurfMod<>(widthLargeGrid,widthSubRegion,widthSample,
+				overLap,sigmaLargeGrid,sigmaSubRegion,useHaar,inputType);
+		if( ii != null )
+			ret.setImage(ii);
+		return ret;
+	}
+
 	@Override
 	public int getCanonicalWidth() {
 		return super.getCanonicalWidth() + 2*overLap;
@@ -73,7 +73,23 @@ public class CompleteSift extends SiftDetector
 						OrientationHistogramSift<GrayF32> orientation,
 						DescribePointSift<GrayF32> describe) {
 		super(scaleSpace, edgeR, extractor);
+		init(orientation, describe);
+	}
+
+	/**
+	 * Configures the detector so that the scales in an octave are searched for extremums concurrently.  The
+	 * orientation and description of each detection is still computed in a single thread.
+	 *
+	 * @see SiftDetector#SiftDetector(SiftScaleSpace, double, ExtractorFactory)
+	 */
+	public CompleteSift(SiftScaleSpace scaleSpace, double edgeR, ExtractorFactory extractors,
+						OrientationHistogramSift<GrayF32> orientation,
+						DescribePointSift<GrayF32> describe) {
+		super(scaleSpace, edgeR, extractors);
+		init(orientation, describe);
+	}
 
+	private void init( OrientationHistogramSift<GrayF32> orientation, DescribePointSift<GrayF32> describe ) {
 		this.orientation = orientation;
 		this.describe = describe;
 
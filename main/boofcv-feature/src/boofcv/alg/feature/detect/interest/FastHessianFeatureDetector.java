@@ -21,6 +21,8 @@ package boofcv.alg.feature.detect.interest;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.alg.feature.detect.extract.SelectNBestFeatures;
 import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.core.image.border.FactoryImageBorderAlgs;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.struct.QueueCorner;
@@ -74,6 +76,12 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * The intensity of each feature size inside an octave only depends on the integral image.  If
+ * {@link BoofConcurrency#USE_CONCURRENT} is true then they are computed concurrently.  Local maximums are then
+ * found one size at a time in order, so the output doesn't depend on the number of threads.
+ * </p>
+ *
+ * <p>
  * [1] Herbert Bay, Andreas Ess, Tinne Tuytelaars, and Luc Van Gool, "Speeded-Up Robust Features (SURF)",
  * CVIU June, 2008, Volume 110, Issue 3, pages 346-359
  * </p>
@@ -91,9 +99,8 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	// the maximum number of returned feature per scale
 	private int maxFeaturesPerScale;
 
-	// local sub-space
+	// feature intensity for each size in an octave
 	private GrayF32 intensity[];
-	private int spaceIndex = 0;
 	private QueueCorner foundFeatures = new QueueCorner(100);
 
 	// List of found feature points
@@ -155,7 +162,7 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	 */
 	public void detect( II integral ) {
 		if( intensity == null ) {
-			intensity = new GrayF32[3];
+			intensity = new GrayF32[sizes.length];
 			for( int i = 0; i < intensity.length; i++ ) {
 				intensity[i] = new GrayF32(integral.width,integral.height);
 			}
@@ -195,28 +202,29 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	 * @param skip Pixel skip factor
 	 * @param featureSize which feature sizes should be detected.
 	 */
-	protected void detectOctave( II integral , int skip , int ...featureSize ) {
+	protected void detectOctave( final II integral , final int skip , final int ...featureSize ) {
 
 		int w = integral.width/skip;
 		int h = integral.height/skip;
 
 		// resize the output intensity image taking in account subsampling
-		for( int i = 0; i < intensity.length; i++ ) {
+		for( int i = 0; i < featureSize.length; i++ ) {
 			intensity[i].reshape(w,h);
 		}
 
 		// compute feature intensity in each level
-		for( int i = 0; i < featureSize.length; i++ ) {
-			GIntegralImageFeatureIntensity.hessian(integral,skip,featureSize[i],intensity[spaceIndex]);
-
-			spaceIndex++;
-			if( spaceIndex >= 3 )
-				spaceIndex = 0;
-
-			// find maximum in scale space
-			if( i >= 2 ) {
-				findLocalScaleSpaceMax(featureSize,i-1,skip);
+		BoofConcurrency.loopBlocks(0, featureSize.length, 1, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				for( int i = idx0; i < idx1; i++ ) {
+					GIntegralImageFeatureIntensity.hessian(integral,skip,featureSize[i],intensity[i]);
+				}
 			}
+		});
+
+		// find maximum in scale space
+		for( int i = 1; i < featureSize.length-1; i++ ) {
+			findLocalScaleSpaceMax(featureSize,i,skip);
 		}
 	}
 
@@ -228,9 +236,9 @@ public class FastHessianFeatureDetector<II extends ImageGray<II>> {
 	 * @param skip How many pixels are skipped over.
 	 */
 	private void findLocalScaleSpaceMax(int []size, int level, int skip) {
-		int index0 = spaceIndex;
-		int index1 = (spaceIndex + 1) % 3;
-		int index2 = (spaceIndex + 2) % 3;
+		int index0 = level-1;
+		int index1 = level;
+		int index2 = level+1;
 
 		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index0], 0);
 		GrayF32 inten1 = intensity[index1];
@@ -21,6 +21,8 @@ package boofcv.alg.feature.detect.interest;
 import boofcv.abst.feature.detect.extract.NonMaxLimiter;
 import boofcv.abst.filter.convolve.ImageConvolveSparse;
 import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.core.image.border.BorderType;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
@@ -57,6 +59,12 @@ import static boofcv.alg.feature.detect.interest.FastHessianFeatureDetector.poly
  * </ol>
  * <p>Where N is the number of scale parameters.  There are N+3 scale images and N+2 DoG images in an octave.
  *
+ * <h2>Concurrency</h2>
+ * <p>If constructed with an {@link ExtractorFactory} and {@link BoofConcurrency#USE_CONCURRENT} is true, then
+ * steps 3 to 6 are applied to the scales in an octave concurrently.  Each thread has its own extractor and
+ * candidates are then passed to {@link #handleDetection} one scale at a time in the same order as the
+ * single threaded implementation, so the results are identical.</p>
+ *
  * <h2>Edge Detection</h2>
  * <p>Edges can also cause local extremes (false positives) in the DoG image.  To remove those false positives an
  * edge detector is proposed by Lowe.  The edge detector is turned with the parameter 'r' and a point is considered
@@ -109,6 +117,15 @@ public class SiftDetector {
 	// finds features from 2D intensity image
 	private NonMaxLimiter extractor;
 
+	// detectors which find candidates in a block of scales when processed concurrently.  null if not supported
+	FastQueue<SiftDetector> workers;
+	// candidates found concurrently in the current octave.  Ordered by scale
+	FastQueue<ScalePoint> candidates = new FastQueue<>(ScalePoint.class, true);
+	// index of the first candidate in each scale.  Scale 'j' is from candidateStart[j] to candidateStart[j+1]
+	int candidateStart[];
+	// true if the candidates in the current octave have already been found concurrently
+	boolean candidatesFound;
+
 	/**
 	 * Configures SIFT detector
 	 *
@@ -137,6 +154,27 @@ public class SiftDetector {
 		createSparseDerivatives();
 	}
 
+	/**
+	 * Configures SIFT detector so that the scales in an octave can be processed concurrently
+	 *
+	 * @param scaleSpace Provides the scale space
+	 * @param edgeR Threshold used to remove edge responses.  Larger values means its less strict.  Try 10
+	 * @param factory Creates the spatial feature detector.  One is created for each thread.
+	 */
+	public SiftDetector(SiftScaleSpace scaleSpace ,
+						final double edgeR ,
+						final ExtractorFactory factory ) {
+		this(scaleSpace, edgeR, factory.createExtractor());
+
+		candidateStart = new int[scaleSpace.getNumScales()+2];
+		workers = new FastQueue<SiftDetector>(1,SiftDetector.class,true) {
+			@Override
+			protected SiftDetector createInstance() {
+				return new SiftDetector(SiftDetector.this.scaleSpace, edgeR, factory.createExtractor());
+			}
+		};
+	}
+
 	/**
 	 * Define sparse image derivative operators.
 	 */
@@ -171,23 +209,69 @@ public class SiftDetector {
 			// scale from octave to input image
 			pixelScaleToInput = scaleSpace.pixelScaleCurrentToInput();
 
+			candidatesFound = BoofConcurrency.USE_CONCURRENT && workers != null;
+			if( candidatesFound )
+				findCandidatesConcurrent();
+
 			// detect features in the image
 			for (int j = 1; j < scaleSpace.getNumScales()+1; j++) {
-
-				// not really sure how to compute the scale for features found at a particular DoG image
-				// using the average resulted in less visually appealing circles in a test image
-				sigmaLower  = scaleSpace.computeSigmaScale( j - 1);
-				sigmaTarget = scaleSpace.computeSigmaScale( j    );
-				sigmaUpper  = scaleSpace.computeSigmaScale( j + 1);
-
-				// grab the local DoG scale space images
-				dogLower  = scaleSpace.getDifferenceOfGaussian(j-1);
-				dogTarget = scaleSpace.getDifferenceOfGaussian(j  );
-				dogUpper  = scaleSpace.getDifferenceOfGaussian(j+1);
-
+				setScale(j);
 				detectFeatures(j);
 			}
 		} while( scaleSpace.computeNextOctave() );
+		candidatesFound = false;
+	}
+
+	/**
+	 * Sets up the local scale space around the specified scale in the current octave
+	 */
+	void setScale( int scaleIndex ) {
+		// not really sure how to compute the scale for features found at a particular DoG image
+		// using the average resulted in less visually appealing circles in a test image
+		sigmaLower  = scaleSpace.computeSigmaScale( scaleIndex - 1);
+		sigmaTarget = scaleSpace.computeSigmaScale( scaleIndex    );
+		sigmaUpper  = scaleSpace.computeSigmaScale( scaleIndex + 1);
+
+		// grab the local DoG scale space images
+		dogLower  = scaleSpace.getDifferenceOfGaussian(scaleIndex-1);
+		dogTarget = scaleSpace.getDifferenceOfGaussian(scaleIndex  );
+		dogUpper  = scaleSpace.getDifferenceOfGaussian(scaleIndex+1);
+	}
+
+	/**
+	 * Finds the candidate detections in every scale of the current octave concurrently.  Each block of
+	 * scales is processed by its own worker, which saves its detections instead of handling them.
+	 */
+	private void findCandidatesConcurrent() {
+		final int numScales = scaleSpace.getNumScales();
+
+		BoofConcurrency.loopBlocks(1, numScales+1, 1, workers, new IntRangeObjectTask<SiftDetector>() {
+			@Override
+			public void process(SiftDetector worker, int idx0, int idx1) {
+				worker.pixelScaleToInput = pixelScaleToInput;
+				worker.detections.reset();
+				for (int j = idx0; j < idx1; j++) {
+					int before = worker.detections.size;
+					worker.setScale(j);
+					worker.detectFeatures(j);
+					candidateStart[j+1] = worker.detections.size - before;
+				}
+			}
+		});
+
+		// blocks are contiguous and in order, so appending them keeps the candidates ordered by scale
+		candidates.reset();
+		for (int i = 0; i < workers.size; i++) {
+			FastQueue<ScalePoint> found = workers.get(i).detections;
+			for (int j = 0; j < found.size; j++) {
+				candidates.grow().set(found.get(j));
+			}
+		}
+
+		candidateStart[1] = 0;
+		for (int j = 1; j < numScales+1; j++) {
+			candidateStart[j+1] += candidateStart[j];
+		}
 	}
 
 	/**
@@ -197,6 +281,15 @@ public class SiftDetector {
 	 *              Primarily provided here for use in child classes.
 	 */
 	protected void detectFeatures( int scaleIndex ) {
+		if( candidatesFound ) {
+			for (int i = candidateStart[scaleIndex]; i < candidateStart[scaleIndex+1]; i++) {
+				ScalePoint p = detections.grow();
+				p.set(candidates.get(i));
+				handleDetection(p);
+			}
+			return;
+		}
+
 		extractor.process(dogTarget);
 		FastQueue<NonMaxLimiter.LocalExtreme> found = extractor.getLocalExtreme();
 
@@ -333,4 +426,11 @@ public class SiftDetector {
 	public FastQueue<ScalePoint> getDetections() {
 		return detections;
 	}
+
+	/**
+	 * Creates a new spatial feature detector each time it's called.  Used to give each thread its own.
+	 */
+	public interface ExtractorFactory {
+		NonMaxLimiter createExtractor();
+	}
 }
@@ -18,15 +18,15 @@
 
 package boofcv.alg.feature.detect.interest;
 
-import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.filter.convolve.ConvolveNormalized;
 import boofcv.alg.interpolate.InterpolatePixelS;
-import boofcv.alg.misc.PixelMath;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.factory.interpolate.FactoryInterpolation;
-import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.image.GrayF32;
 
@@ -42,6 +42,11 @@ import boofcv.struct.image.GrayF32;
  * </ul>
  *
  * <p>
+ * Each scale image is blurred in bands of rows and its difference-of-Gaussian is computed in the same pass as
+ * the vertical blur.  If {@link BoofConcurrency#USE_CONCURRENT} is true then the bands are processed concurrently.
+ * </p>
+ *
+ * <p>
  * [1] Lowe, D. "Distinctive image features from scale-invariant keypoints".  International Journal of
  * Computer Vision, 60, 2 (2004), pp.91--110.
  * </p>
@@ -49,6 +54,7 @@ import boofcv.struct.image.GrayF32;
  * @author Peter Abeles
  */
 public class SiftScaleSpace {
+
 	// all the scale images across an octave
 	GrayF32 octaveImages[];
 	// images which are the difference between the scales
@@ -192,17 +198,25 @@ public class SiftScaleSpace {
 	}
 
 
+	/**
+	 * Returns true if there is another octave after the current one.  When false the images in the current
+	 * octave will not be modified until {@link #initialize} is called again.
+	 */
+	public boolean hasNextOctave() {
+		if( currentOctave+1 > lastOctave )
+			return false;
+
+		return octaveImages[numScales].width > 5 && octaveImages[numScales].height > 5;
+	}
+
 	/**
 	 * Computes the next octave.  If the last octave has already been computed false is returned.
 	 * @return true if an octave was computed or false if the last one was already reached
 	 */
 	public boolean computeNextOctave() {
+		boolean next = hasNextOctave();
 		currentOctave += 1;
-		if( currentOctave > lastOctave ) {
-			return false;
-		}
-
-		if( octaveImages[numScales].width <= 5 || octaveImages[numScales].height <= 5)
+		if( !next )
 			return false;
 
 		// the 2nd image from the top of the stack has 2x the sigma as the first
@@ -218,12 +232,8 @@ public class SiftScaleSpace {
 		octaveImages[0] = tempImage0;
 		for (int i = 1; i < numScales+3; i++) {
 			octaveImages[i].reshape(tempImage0.width, tempImage0.height);
-			applyGaussian(octaveImages[i - 1], octaveImages[i], kernelSigmaToK[i-1]);
-		}
-
-		for (int i = 1; i < numScales+3; i++) {
 			differenceOfGaussian[i-1].reshape(tempImage0.width, tempImage0.height);
-			PixelMath.subtract(octaveImages[i],octaveImages[i - 1],differenceOfGaussian[i-1]);
+			applyGaussian(octaveImages[i - 1], octaveImages[i], kernelSigmaToK[i-1], differenceOfGaussian[i-1]);
 		}
 	}
 
@@ -238,10 +248,92 @@ public class SiftScaleSpace {
 	/**
 	 * Applies the separable kernel to the input image and stores the results in the output image.
 	 */
-	void applyGaussian(GrayF32 input, GrayF32 output, Kernel1D kernel) {
+	void applyGaussian(GrayF32 input, GrayF32 output, Kernel1D_F32 kernel) {
+		applyGaussian(input, output, kernel, null);
+	}
+
+	/**
+	 * Applies the separable kernel to the input image and stores the results in the output image.  If not null,
+	 * the difference between the output and input is written to 'dog' while the vertical pass is computed.
+	 */
+	void applyGaussian(final GrayF32 input, final GrayF32 output, final Kernel1D_F32 kernel, final GrayF32 dog) {
 		tempBlur.reshape(input.width, input.height);
-		GConvolveImageOps.horizontalNormalized(kernel, input, tempBlur);
-		GConvolveImageOps.verticalNormalized(kernel, tempBlur,output);
+
+		// rows are independent in the horizontal pass so each band can be convolved as a sub-image
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ConvolveNormalized.horizontal(kernel,
+						input.subimage(0, y0, input.width, y1, null),
+						tempBlur.subimage(0, y0, input.width, y1, null));
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				verticalNormalized(kernel, tempBlur, output, input, dog, y0, y1);
+			}
+		});
+	}
+
+	/**
+	 * Normalized vertical convolution for rows y0 to y1-1.  Along the image border the kernel is
+	 * normalized by the sum of the weights inside the image.  Optionally computes the DoG.
+	 *
+	 * @param src Horizontally blurred image
+	 * @param dst Output blurred image
+	 * @param prev Image which is subtracted from dst to compute the DoG
+	 * @param dog Output DoG image. Can be null.
+	 */
+	static void verticalNormalized( Kernel1D_F32 kernel , GrayF32 src , GrayF32 dst ,
+									GrayF32 prev , GrayF32 dog , int y0 , int y1 ) {
+		final float k[] = kernel.data;
+		final int offset = kernel.offset;
+		final int width = src.width;
+		final int height = src.height;
+
+		for (int y = y0; y < y1; y++) {
+			// range of kernel elements which are inside the image
+			int kStart = Math.max(0, offset - y);
+			int kEnd = Math.min(kernel.width, height + offset - y);
+
+			int indexSrc = src.startIndex + (y - offset + kStart)*src.stride;
+			int indexDst = dst.startIndex + y*dst.stride;
+			int endDst = indexDst + width;
+
+			float w = k[kStart];
+			for (int i = indexDst, j = indexSrc; i < endDst; i++, j++) {
+				dst.data[i] = src.data[j]*w;
+			}
+			for (int kk = kStart+1; kk < kEnd; kk++) {
+				indexSrc += src.stride;
+				w = k[kk];
+				for (int i = indexDst, j = indexSrc; i < endDst; i++, j++) {
+					dst.data[i] += src.data[j]*w;
+				}
+			}
+
+			if( kStart != 0 || kEnd != kernel.width ) {
+				float weight = 0;
+				for (int kk = kStart; kk < kEnd; kk++) {
+					weight += k[kk];
+				}
+				for (int i = indexDst; i < endDst; i++) {
+					dst.data[i] /= weight;
+				}
+			}
+
+			if( dog != null ) {
+				int indexPrev = prev.startIndex + y*prev.stride;
+				int indexDog = dog.startIndex + y*dog.stride;
+				for (int i = indexDst; i < endDst; i++) {
+					dog.data[indexDog++] = dst.data[i] - prev.data[indexPrev++];
+				}
+			}
+		}
 	}
 
 	public int getNumScales() {
@@ -26,8 +26,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Precomputes the gradient for all scales in the scale-space and saves them in a list.  Since it saves the entire
- * scale space it can take up a bit of memory, but allows quick random look up of images.
+ * <p>
+ * Unrolls all scales in the scale-space and saves them in a list.  Since it saves the entire
+ * scale space it can take up a bit of memory, but allows quick random look up of images.  The gradient of
+ * a scale is computed the first time it's looked up, so scales which are never used are never processed.
+ * Look ups are thread safe and the gradient of different scales can be computed by different threads at the
+ * same time.
+ * </p>
+ *
+ * <p>
+ * The scale-space is owned by this class and must not be used by anything else.  Each octave overwrites the
+ * images of the previous one, so the scale images are copied into storage owned by this class.  The exception
+ * is the last octave.  Since the scale-space isn't advanced past it, its scales reference the scale-space's
+ * images directly and are valid until the next call to {@link #setImage}.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -41,9 +53,6 @@ public class UnrollSiftScaleSpaceGradient {
 	// storage for all possible scales
 	List<ImageScale> allScales = new ArrayList<>();
 
-	// used to compute the image gradient
-	ImageGradient<GrayF32,GrayF32> gradient = FactoryDerivative.three(GrayF32.class,null);
-
 	public UnrollSiftScaleSpaceGradient(SiftScaleSpace scaleSpace) {
 		this.scaleSpace = scaleSpace;
 
@@ -64,16 +73,23 @@ public class UnrollSiftScaleSpaceGradient {
 
 		usedScales.clear();
 		do {
+			// the last octave is never overwritten, so there's no need to copy it
+			boolean lastOctave = !scaleSpace.hasNextOctave();
+
 			for (int i = 0; i < scaleSpace.getNumScales(); i++) {
 				GrayF32 scaleImage = scaleSpace.getImageScale(i);
 				double sigma = scaleSpace.computeSigmaScale(i);
 				double pixelCurrentToInput = scaleSpace.pixelScaleCurrentToInput();
 
+				// the gradient is computed later since the scale image will be overwritten by the next octave
 				ImageScale scale = allScales.get(usedScales.size());
-				scale.derivX.reshape(scaleImage.width,scaleImage.height);
-				scale.derivY.reshape(scaleImage.width,scaleImage.height);
-
-				gradient.process(scaleImage,scale.derivX,scale.derivY);
+				if( lastOctave ) {
+					scale.image = scaleImage;
+				} else {
+					scale.storage.setTo(scaleImage);
+					scale.image = scale.storage;
+				}
+				scale.computed = false;
 				scale.imageToInput = pixelCurrentToInput;
 				scale.sigma = sigma;
 
@@ -84,7 +100,7 @@ public class UnrollSiftScaleSpaceGradient {
 
 
 	/**
-	 * Looks up the image which is closest specified sigma
+	 * Looks up the image which is closest specified sigma.  Its gradient is computed if it hasn't been already.
 	 */
 	public ImageScale lookup( double sigma ) {
 		ImageScale best = null;
@@ -98,6 +114,8 @@ public class UnrollSiftScaleSpaceGradient {
 				best = image;
 			}
 		}
+		if( best != null )
+			best.computeGradient();
 		return best;
 	}
 
@@ -106,5 +124,30 @@ public class UnrollSiftScaleSpaceGradient {
 		public GrayF32 derivY = new GrayF32(1,1);
 		public double imageToInput;
 		public double sigma;
+
+		// image at this scale.  Either storage or an image in the scale-space's last octave
+		GrayF32 image;
+		// copy of the image at this scale
+		GrayF32 storage = new GrayF32(1,1);
+		// true if the gradient has been computed for the current image
+		boolean computed;
+
+		// used to compute the image gradient
+		ImageGradient<GrayF32,GrayF32> gradient;
+
+		/**
+		 * Computes the image gradient if it hasn't already been computed
+		 */
+		public synchronized void computeGradient() {
+			if( computed )
+				return;
+			if( gradient == null )
+				gradient = FactoryDerivative.three(GrayF32.class,null);
+
+			derivX.reshape(image.width,image.height);
+			derivY.reshape(image.width,image.height);
+			gradient.process(image,derivX,derivY);
+			computed = true;
+		}
 	}
 }
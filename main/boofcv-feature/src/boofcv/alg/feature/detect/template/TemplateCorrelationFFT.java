@@ -18,7 +18,7 @@
 
 package boofcv.alg.feature.detect.template;
 
-import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.abst.transform.fft.DiscreteFourierTransformHalf;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.ImageStatistics;
 import boofcv.alg.misc.PixelMath;
@@ -34,7 +34,7 @@ import boofcv.struct.image.InterleavedF32;
 public class TemplateCorrelationFFT
 		implements TemplateMatchingIntensity<GrayF32>
 {
-	DiscreteFourierTransform<GrayF32,InterleavedF32> dft =
+	DiscreteFourierTransformHalf<GrayF32,InterleavedF32> dft =
 			DiscreteFourierTransformOps.createTransformF32();
 
 	// border which should be ignored
@@ -47,6 +47,7 @@ public class TemplateCorrelationFFT
 
 	GrayF32 enlargedTemplate = new GrayF32(1,1);
 
+	// only the left half of each transform is computed since the images are real
 	InterleavedF32 fftImage = new InterleavedF32(1,1,2);
 	InterleavedF32 fftTemplate = new InterleavedF32(1,1,2);
 	InterleavedF32 fftMult = new InterleavedF32(1,1,2);
@@ -60,9 +61,9 @@ public class TemplateCorrelationFFT
 	@Override
 	public void setInputImage(GrayF32 image) {
 		enlargedTemplate.reshape(image.width,image.height);
-		fftImage.reshape(image.width,image.height);
-		fftTemplate.reshape(image.width,image.height);
-		fftMult.reshape(image.width,image.height);
+		fftImage.reshape(image.width/2+1,image.height);
+		fftTemplate.reshape(image.width/2+1,image.height);
+		fftMult.reshape(image.width/2+1,image.height);
 		correlation.reshape(image.width,image.height);
 
 		normalizedImage.reshape(image.width,image.height);
@@ -73,7 +74,7 @@ public class TemplateCorrelationFFT
 		PixelMath.divide(image,maxValue,normalizedImage);
 		PixelMath.minus(normalizedImage,mean/maxValue,normalizedImage);
 
-		dft.forward(normalizedImage, fftImage);
+		dft.forwardHalf(normalizedImage, fftImage);
 	}
 
 	@Override
@@ -83,7 +84,7 @@ public class TemplateCorrelationFFT
 
 	@Override
 	public void process(GrayF32 template, GrayF32 mask) {
-		if( template.width >= fftImage.width || template.height >= fftImage.height )
+		if( template.width >= normalizedImage.width || template.height >= normalizedImage.height )
 			throw new IllegalArgumentException("Template must be smaller than the image");
 
 		// normalize the input image to reduce buffer overflow
@@ -129,11 +130,11 @@ public class TemplateCorrelationFFT
 			}
 		}
 
-		dft.forward(enlargedTemplate, fftTemplate);
+		dft.forwardHalf(enlargedTemplate, fftTemplate);
 
 		// compute the correlation
 		DiscreteFourierTransformOps.multiplyComplex(fftImage,fftTemplate,fftMult);
-		dft.inverse(fftMult,correlation);
+		dft.inverseHalf(fftMult,correlation);
 	}
 
 	@Override
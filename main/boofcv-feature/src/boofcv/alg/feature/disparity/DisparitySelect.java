@@ -58,6 +58,14 @@ public interface DisparitySelect<Array , T extends ImageGray> {
 	 */
 	public void process(int row, Array scoresArray);
 
+	/**
+	 * Creates a new instance with the same settings.  Used to process different rows of the same disparity
+	 * image concurrently.  {@link #configure} must still be called on the copy.
+	 *
+	 * @return New instance
+	 */
+	public DisparitySelect<Array,T> concurrentCopy();
+
 	/**
 	 * Type of image the disparity is
 	 *
@@ -22,6 +22,7 @@ import boofcv.alg.feature.disparity.DisparityScoreWindowFive;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -30,6 +31,11 @@ import boofcv.struct.image.ImageGray;
  * </p>
  *
  * <p>
+ * There is no concurrent implementation.  Restarting the running sums for each strip of rows would change
+ * how the floating point scores are rounded and the disparity would no longer be identical.
+ * </p>
+ *
+ * <p>
  * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRectFive}.
  * </p>
  *
@@ -42,17 +48,13 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 	// Computes disparity from scores
 	DisparitySelect<float[], DI> computeDisparity;
 
-	// stores the local scores for the width of the region
-	float elementScore[];
-	// scores along horizontal axis for current block
-	float horizontalScore[][];
-	// summed scores along vertical axis
-	// Save the last regionHeight scores in a rolling window
-	float verticalScore[][];
-	// In the rolling verticalScore window, which one is the active one
-	int activeVerticalScore;
-	// Where the final score it stored that has been computed from five regions
-	float fiveScore[];
+	// storage for each strip of rows that's processed
+	FastQueue<WorkSpace> workspace = new FastQueue<WorkSpace>((Class)WorkSpace.class,true) {
+		@Override
+		protected WorkSpace createInstance() {
+			return new WorkSpace();
+		}
+	};
 
 	public ImplDisparityScoreSadRectFive_F32(int minDisparity, int maxDisparity,
 											int regionRadiusX, int regionRadiusY,
@@ -62,44 +64,52 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 	}
 
 	@Override
-	public void _process(GrayF32 left , GrayF32 right , DI disparity ) {
-		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
-			horizontalScore = new float[regionHeight][lengthHorizontal];
-			verticalScore = new float[regionHeight][lengthHorizontal];
-			elementScore = new float[ left.width ];
-			fiveScore = new float[ lengthHorizontal ];
-		}
-
+	public void _process( GrayF32 left , GrayF32 right , DI disparity ) {
 		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
 
+		workspace.resize(1);
+		WorkSpace ws = workspace.get(0);
+		ws.computeDisparity = computeDisparity;
+		processRows(ws, left, right, 0, left.height);
+	}
+
+	/**
+	 * Computes the disparity for a strip of rows in the input image.
+	 *
+	 * @param row0 First input row in the strip, inclusive
+	 * @param row1 Last input row in the strip, exclusive
+	 */
+	private void processRows( WorkSpace ws , GrayF32 left , GrayF32 right , int row0 , int row1 ) {
+		ws.checkSize(left.width);
+
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(ws, left, right, row0);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(ws, left, right, row0 + regionHeight, row1);
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(GrayF32 left, GrayF32 right ) {
-		float firstRow[] = verticalScore[0];
-		activeVerticalScore = 1;
+	private void computeFirstRow( WorkSpace ws , GrayF32 left, GrayF32 right , int row0 ) {
+		float firstRow[] = ws.verticalScore[0];
+		ws.activeVerticalScore = 1;
 
 		// compute horizontal scores for first row block
-		for( int row = 0; row < regionHeight; row++ ) {
+		for( int row = row0; row < row0 + regionHeight; row++ ) {
 
-			float scores[] = horizontalScore[row];
+			float scores[] = ws.horizontalScore[row%regionHeight];
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity, maxDisparity, regionWidth, elementScore);
+					minDisparity, maxDisparity, regionWidth, ws.elementScore);
 		}
 
 		// compute score for the top possible row
 		for( int i = 0; i < lengthHorizontal; i++ ) {
 			float sum = 0;
 			for( int row = 0; row < regionHeight; row++ ) {
-				sum += horizontalScore[row][i];
+				sum += ws.horizontalScore[row][i];
 			}
 			firstRow[i] = sum;
 		}
@@ -110,21 +120,24 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows(GrayF32 left, GrayF32 right )
+	private void computeRemainingRows( WorkSpace ws , GrayF32 left, GrayF32 right , int row0 , int row1 )
 	{
-		for( int row = regionHeight; row < left.height; row++ , activeVerticalScore++) {
+		float verticalScore[][] = ws.verticalScore;
+
+		for( int row = row0; row < row1; row++ , ws.activeVerticalScore++) {
+			int activeVerticalScore = ws.activeVerticalScore;
 			int oldRow = row%regionHeight;
 			float previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];
 			float active[] = verticalScore[ activeVerticalScore % regionHeight ];
 
 			// subtract first row from vertical score
-			float scores[] = horizontalScore[oldRow];
+			float scores[] = ws.horizontalScore[oldRow];
 			for( int i = 0; i < lengthHorizontal; i++ ) {
 				active[i] = previous[i] - scores[i];
 			}
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,ws.elementScore);
 
 			// add the new score
 			for( int i = 0; i < lengthHorizontal; i++ ) {
@@ -136,8 +149,8 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 				float middle[] = verticalScore[ (activeVerticalScore -radiusY) % regionHeight ];
 				float bottom[] = verticalScore[ activeVerticalScore % regionHeight ];
 
-				computeScoreFive(top,middle,bottom,fiveScore,left.width);
-				computeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, fiveScore );
+				computeScoreFive(top,middle,bottom,ws.fiveScore,left.width);
+				ws.computeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, ws.fiveScore );
 			}
 		}
 	}
@@ -156,7 +169,7 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 			int indexDst = (d-minDisparity)*width + (d-minDisparity);
 			int end = indexSrc + (width-d-4*radiusX);
 			while( indexSrc < end ) {
-				int s = 0;
+				float s = 0;
 
 				// sample four outer regions at the corners around the center region
 				float val0 = top[indexSrc-radiusX];
@@ -193,6 +206,35 @@ public class ImplDisparityScoreSadRectFive_F32<DI extends ImageGray<DI>>
 		}
 	}
 
+	/**
+	 * Storage for processing a strip of rows
+	 */
+	class WorkSpace {
+		// Computes disparity from scores
+		DisparitySelect<float[], DI> computeDisparity;
+
+		// stores the local scores for the width of the region
+		float elementScore[];
+		// scores along horizontal axis for current block
+		float horizontalScore[][];
+		// summed scores along vertical axis
+		// Save the last regionHeight scores in a rolling window
+		float verticalScore[][];
+		// In the rolling verticalScore window, which one is the active one
+		int activeVerticalScore;
+		// Where the final score it stored that has been computed from five regions
+		float fiveScore[];
+
+		void checkSize( int width ) {
+			if( fiveScore == null || fiveScore.length < lengthHorizontal ) {
+				horizontalScore = new float[regionHeight][lengthHorizontal];
+				verticalScore = new float[regionHeight][lengthHorizontal];
+				elementScore = new float[ width ];
+				fiveScore = new float[ lengthHorizontal ];
+			}
+		}
+	}
+
 	@Override
 	public Class<GrayF32> getInputType() {
 		return GrayF32.class;
@@ -20,8 +20,11 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.alg.feature.disparity.DisparityScoreWindowFive;
 import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -30,6 +33,12 @@ import boofcv.struct.image.ImageGray;
  * </p>
  *
  * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then the image is split into horizontal strips which are
+ * processed concurrently.  Each strip computes its own initial block of rows and has its own copy of
+ * {@link DisparitySelect}, producing the same disparity image as when processed in a single thread.
+ * </p>
+ *
+ * <p>
  * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRectFive}.
  * </p>
  *
@@ -42,17 +51,13 @@ public class ImplDisparityScoreSadRectFive_U8<DI extends ImageGray<DI>>
 	// Computes disparity from scores
 	DisparitySelect<int[], DI> computeDisparity;
 
-	// stores the local scores for the width of the region
-	int elementScore[];
-	// scores along horizontal axis for current block
-	int horizontalScore[][];
-	// summed scores along vertical axis
-	// Save the last regionHeight scores in a rolling window
-	int verticalScore[][];
-	// In the rolling verticalScore window, which one is the active one
-	int activeVerticalScore;
-	// Where the final score it stored that has been computed from five regions
-	int fiveScore[];
+	// storage for each strip of rows that's processed
+	FastQueue<WorkSpace> workspace = new FastQueue<WorkSpace>((Class)WorkSpace.class,true) {
+		@Override
+		protected WorkSpace createInstance() {
+			return new WorkSpace();
+		}
+	};
 
 	public ImplDisparityScoreSadRectFive_U8(int minDisparity, int maxDisparity,
 											int regionRadiusX, int regionRadiusY,
@@ -62,44 +67,66 @@ public class ImplDisparityScoreSadRectFive_U8<DI extends ImageGray<DI>>
 	}
 
 	@Override
-	public void _process(GrayU8 left , GrayU8 right , DI disparity ) {
-		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
-			horizontalScore = new int[regionHeight][lengthHorizontal];
-			verticalScore = new int[regionHeight][lengthHorizontal];
-			elementScore = new int[ left.width ];
-			fiveScore = new int[ lengthHorizontal ];
+	public void _process( final GrayU8 left , final GrayU8 right , final DI disparity ) {
+		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			// each strip of output rows has its own workspace and is initialized using the rows above it
+			BoofConcurrency.loopBlocks(2*radiusY, left.height - 2*radiusY, BoofConcurrency.MIN_BAND_ROWS, workspace,
+					new IntRangeObjectTask<WorkSpace>() {
+				@Override
+				public void process(WorkSpace ws, int y0, int y1) {
+					if( ws.computeDisparity == null )
+						ws.computeDisparity = computeDisparity.concurrentCopy();
+					ws.computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
+					processRows(ws, left, right, y0 - 2*radiusY, y1 + 2*radiusY);
+				}
+			});
+		} else {
+			workspace.resize(1);
+			WorkSpace ws = workspace.get(0);
+			ws.computeDisparity = computeDisparity;
+			processRows(ws, left, right, 0, left.height);
 		}
+	}
 
-		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX*2);
+	/**
+	 * Computes the disparity for a strip of rows in the input image.
+	 *
+	 * @param row0 First input row in the strip, inclusive
+	 * @param row1 Last input row in the strip, exclusive
+	 */
+	private void processRows( WorkSpace ws , GrayU8 left , GrayU8 right , int row0 , int row1 ) {
+		ws.checkSize(left.width);
 
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(ws, left, right, row0);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(ws, left, right, row0 + regionHeight, row1);
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(GrayU8 left, GrayU8 right ) {
-		int firstRow[] = verticalScore[0];
-		activeVerticalScore = 1;
+	private void computeFirstRow( WorkSpace ws , GrayU8 left, GrayU8 right , int row0 ) {
+		int firstRow[] = ws.verticalScore[0];
+		ws.activeVerticalScore = 1;
 
 		// compute horizontal scores for first row block
-		for( int row = 0; row < regionHeight; row++ ) {
+		for( int row = row0; row < row0 + regionHeight; row++ ) {
 
-			int scores[] = horizontalScore[row];
+			int scores[] = ws.horizontalScore[row%regionHeight];
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity, maxDisparity, regionWidth, elementScore);
+					minDisparity, maxDisparity, regionWidth, ws.elementScore);
 		}
 
 		// compute score for the top possible row
 		for( int i = 0; i < lengthHorizontal; i++ ) {
 			int sum = 0;
 			for( int row = 0; row < regionHeight; row++ ) {
-				sum += horizontalScore[row][i];
+				sum += ws.horizontalScore[row][i];
 			}
 			firstRow[i] = sum;
 		}
@@ -110,21 +137,24 @@ public class ImplDisparityScoreSadRectFive_U8<DI extends ImageGray<DI>>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows(GrayU8 left, GrayU8 right )
+	private void computeRemainingRows( WorkSpace ws , GrayU8 left, GrayU8 right , int row0 , int row1 )
 	{
-		for( int row = regionHeight; row < left.height; row++ , activeVerticalScore++) {
+		int verticalScore[][] = ws.verticalScore;
+
+		for( int row = row0; row < row1; row++ , ws.activeVerticalScore++) {
+			int activeVerticalScore = ws.activeVerticalScore;
 			int oldRow = row%regionHeight;
 			int previous[] = verticalScore[ (activeVerticalScore -1) % regionHeight ];
 			int active[] = verticalScore[ activeVerticalScore % regionHeight ];
 
 			// subtract first row from vertical score
-			int scores[] = horizontalScore[oldRow];
+			int scores[] = ws.horizontalScore[oldRow];
 			for( int i = 0; i < lengthHorizontal; i++ ) {
 				active[i] = previous[i] - scores[i];
 			}
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,ws.elementScore);
 
 			// add the new score
 			for( int i = 0; i < lengthHorizontal; i++ ) {
@@ -136,8 +166,8 @@ public class ImplDisparityScoreSadRectFive_U8<DI extends ImageGray<DI>>
 				int middle[] = verticalScore[ (activeVerticalScore -radiusY) % regionHeight ];
 				int bottom[] = verticalScore[ activeVerticalScore % regionHeight ];
 
-				computeScoreFive(top,middle,bottom,fiveScore,left.width);
-				computeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, fiveScore );
+				computeScoreFive(top,middle,bottom,ws.fiveScore,left.width);
+				ws.computeDisparity.process(row - (1 + 4*radiusY) + 2*radiusY+1, ws.fiveScore );
 			}
 		}
 	}
@@ -193,6 +223,35 @@ public class ImplDisparityScoreSadRectFive_U8<DI extends ImageGray<DI>>
 		}
 	}
 
+	/**
+	 * Storage for processing a strip of rows
+	 */
+	class WorkSpace {
+		// Computes disparity from scores
+		DisparitySelect<int[], DI> computeDisparity;
+
+		// stores the local scores for the width of the region
+		int elementScore[];
+		// scores along horizontal axis for current block
+		int horizontalScore[][];
+		// summed scores along vertical axis
+		// Save the last regionHeight scores in a rolling window
+		int verticalScore[][];
+		// In the rolling verticalScore window, which one is the active one
+		int activeVerticalScore;
+		// Where the final score it stored that has been computed from five regions
+		int fiveScore[];
+
+		void checkSize( int width ) {
+			if( fiveScore == null || fiveScore.length < lengthHorizontal ) {
+				horizontalScore = new int[regionHeight][lengthHorizontal];
+				verticalScore = new int[regionHeight][lengthHorizontal];
+				elementScore = new int[ width ];
+				fiveScore = new int[ lengthHorizontal ];
+			}
+		}
+	}
+
 	@Override
 	public Class<GrayU8> getInputType() {
 		return GrayU8.class;
@@ -22,6 +22,7 @@ import boofcv.alg.feature.disparity.DisparityScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -29,9 +30,13 @@ import boofcv.struct.image.ImageGray;
  * input images of type {@link GrayF32}.
  * </p>
  * <p>
+ * There is no concurrent implementation.  Restarting the running sums for each strip of rows would change
+ * how the floating point scores are rounded and the disparity would no longer be identical.
+ * </p>
+ * <p>
  * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRect}.
  * </p>
- * 
+ *
  * @author Peter Abeles
  */
 public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
@@ -41,16 +46,13 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 	// Computes disparity from scores
 	DisparitySelect<float[], DI> computeDisparity;
 
-	// stores the local scores for the width of the region
-	float elementScore[];
-	// scores along horizontal axis for current block
-	// To allow right to left validation all disparity scores are stored for the entire row
-	// size = num columns * maxDisparity
-	// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
-	float horizontalScore[][];
-	// summed scores along vertical axis
-	// This is simply the sum of like elements in horizontal score
-	float verticalScore[];
+	// storage for each strip of rows that's processed
+	FastQueue<WorkSpace> workspace = new FastQueue<WorkSpace>((Class)WorkSpace.class,true) {
+		@Override
+		protected WorkSpace createInstance() {
+			return new WorkSpace();
+		}
+	};
 
 	public ImplDisparityScoreSadRect_F32( int minDisparity , int maxDisparity,
 										int regionRadiusX, int regionRadiusY,
@@ -61,46 +63,55 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 	}
 
 	@Override
-	public void _process(GrayF32 left , GrayF32 right , DI disparity ) {
-		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
-			horizontalScore = new float[regionHeight][lengthHorizontal];
-			verticalScore = new float[lengthHorizontal];
-			elementScore = new float[ left.width ];
-		}
-
+	public void _process( GrayF32 left , GrayF32 right , DI disparity ) {
 		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
 
+		workspace.resize(1);
+		WorkSpace ws = workspace.get(0);
+		ws.computeDisparity = computeDisparity;
+		processRows(ws, left, right, 0, left.height);
+	}
+
+	/**
+	 * Computes the disparity for a strip of rows in the input image.
+	 *
+	 * @param row0 First input row in the strip, inclusive
+	 * @param row1 Last input row in the strip, exclusive
+	 */
+	private void processRows( WorkSpace ws , GrayF32 left , GrayF32 right , int row0 , int row1 ) {
+		ws.checkSize(left.width);
+
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(ws, left, right, row0);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(ws, left, right, row0 + regionHeight, row1);
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(GrayF32 left, GrayF32 right ) {
+	private void computeFirstRow( WorkSpace ws , GrayF32 left, GrayF32 right , int row0 ) {
 		// compute horizontal scores for first row block
-		for( int row = 0; row < regionHeight; row++ ) {
+		for( int row = row0; row < row0 + regionHeight; row++ ) {
 
-			float scores[] = horizontalScore[row];
+			float scores[] = ws.horizontalScore[row%regionHeight];
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,ws.elementScore);
 		}
 
 		// compute score for the top possible row
 		for( int i = 0; i < lengthHorizontal; i++ ) {
 			float sum = 0;
 			for( int row = 0; row < regionHeight; row++ ) {
-				sum += horizontalScore[row][i];
+				sum += ws.horizontalScore[row][i];
 			}
-			verticalScore[i] = sum;
+			ws.verticalScore[i] = sum;
 		}
 
 		// compute disparity
-		computeDisparity.process(radiusY, verticalScore);
+		ws.computeDisparity.process(row0 + radiusY, ws.verticalScore);
 	}
 
 	/**
@@ -108,19 +119,21 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows(GrayF32 left, GrayF32 right )
+	private void computeRemainingRows( WorkSpace ws , GrayF32 left, GrayF32 right , int row0 , int row1 )
 	{
-		for( int row = regionHeight; row < left.height; row++ ) {
+		float verticalScore[] = ws.verticalScore;
+
+		for( int row = row0; row < row1; row++ ) {
 			int oldRow = row%regionHeight;
 
 			// subtract first row from vertical score
-			float scores[] = horizontalScore[oldRow];
+			float scores[] = ws.horizontalScore[oldRow];
 			for( int i = 0; i < lengthHorizontal; i++ ) {
 				verticalScore[i] -= scores[i];
 			}
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,ws.elementScore);
 
 			// add the new score
 			for( int i = 0; i < lengthHorizontal; i++ ) {
@@ -128,7 +141,34 @@ public class ImplDisparityScoreSadRect_F32<DI extends ImageGray<DI>>
 			}
 
 			// compute disparity
-			computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+			ws.computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+		}
+	}
+
+	/**
+	 * Storage for processing a strip of rows
+	 */
+	class WorkSpace {
+		// Computes disparity from scores
+		DisparitySelect<float[], DI> computeDisparity;
+
+		// stores the local scores for the width of the region
+		float elementScore[];
+		// scores along horizontal axis for current block
+		// To allow right to left validation all disparity scores are stored for the entire row
+		// size = num columns * maxDisparity
+		// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
+		float horizontalScore[][];
+		// summed scores along vertical axis
+		// This is simply the sum of like elements in horizontal score
+		float verticalScore[];
+
+		void checkSize( int width ) {
+			if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
+				horizontalScore = new float[regionHeight][lengthHorizontal];
+				verticalScore = new float[lengthHorizontal];
+				elementScore = new float[ width ];
+			}
 		}
 	}
 
@@ -20,8 +20,11 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.alg.feature.disparity.DisparityScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -29,9 +32,14 @@ import boofcv.struct.image.ImageGray;
  * input images of type {@link GrayS16}.
  * </p>
  * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then the image is split into horizontal strips which are
+ * processed concurrently.  Each strip computes its own initial block of rows and has its own copy of
+ * {@link DisparitySelect}, producing the same disparity image as when processed in a single thread.
+ * </p>
+ * <p>
  * DO NOT MODIFY. Generated by {@link GenerateDisparityScoreSadRect}.
  * </p>
- * 
+ *
  * @author Peter Abeles
  */
 public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
@@ -41,16 +49,13 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 	// Computes disparity from scores
 	DisparitySelect<int[], DI> computeDisparity;
 
-	// stores the local scores for the width of the region
-	int elementScore[];
-	// scores along horizontal axis for current block
-	// To allow right to left validation all disparity scores are stored for the entire row
-	// size = num columns * maxDisparity
-	// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
-	int horizontalScore[][];
-	// summed scores along vertical axis
-	// This is simply the sum of like elements in horizontal score
-	int verticalScore[];
+	// storage for each strip of rows that's processed
+	FastQueue<WorkSpace> workspace = new FastQueue<WorkSpace>((Class)WorkSpace.class,true) {
+		@Override
+		protected WorkSpace createInstance() {
+			return new WorkSpace();
+		}
+	};
 
 	public ImplDisparityScoreSadRect_S16( int minDisparity , int maxDisparity,
 										int regionRadiusX, int regionRadiusY,
@@ -61,46 +66,69 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 	}
 
 	@Override
-	public void _process(GrayS16 left , GrayS16 right , DI disparity ) {
-		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
-			horizontalScore = new int[regionHeight][lengthHorizontal];
-			verticalScore = new int[lengthHorizontal];
-			elementScore = new int[ left.width ];
+	public void _process( final GrayS16 left , final GrayS16 right , final DI disparity ) {
+		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			// each strip of output rows has its own workspace and is initialized using the rows above it
+			BoofConcurrency.loopBlocks(radiusY, left.height - radiusY, BoofConcurrency.MIN_BAND_ROWS, workspace,
+					new IntRangeObjectTask<WorkSpace>() {
+				@Override
+				public void process(WorkSpace ws, int y0, int y1) {
+					if( ws.computeDisparity == null )
+						ws.computeDisparity = computeDisparity.concurrentCopy();
+					ws.computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+					processRows(ws, left, right, y0 - radiusY, y1 + radiusY);
+				}
+			});
+		} else {
+			workspace.resize(1);
+			WorkSpace ws = workspace.get(0);
+			ws.computeDisparity = computeDisparity;
+			processRows(ws, left, right, 0, left.height);
 		}
+	}
 
-		computeDisparity.configure(disparity,minDisparity,maxDisparity,radiusX);
+	/**
+	 * Computes the disparity for a strip of rows in the input image.
+	 *
+	 * @param row0 First input row in the strip, inclusive
+	 * @param row1 Last input row in the strip, exclusive
+	 */
+	private void processRows( WorkSpace ws , GrayS16 left , GrayS16 right , int row0 , int row1 ) {
+		ws.checkSize(left.width);
 
 		// initialize computation
-		computeFirstRow(left, right);
+		computeFirstRow(ws, left, right, row0);
 		// efficiently compute rest of the rows using previous results to avoid repeat computations
-		computeRemainingRows(left, right);
+		computeRemainingRows(ws, left, right, row0 + regionHeight, row1);
 	}
 
 	/**
 	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
 	 * rows.
 	 */
-	private void computeFirstRow(GrayS16 left, GrayS16 right ) {
+	private void computeFirstRow( WorkSpace ws , GrayS16 left, GrayS16 right , int row0 ) {
 		// compute horizontal scores for first row block
-		for( int row = 0; row < regionHeight; row++ ) {
+		for( int row = row0; row < row0 + regionHeight; row++ ) {
 
-			int scores[] = horizontalScore[row];
+			int scores[] = ws.horizontalScore[row%regionHeight];
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,ws.elementScore);
 		}
 
 		// compute score for the top possible row
 		for( int i = 0; i < lengthHorizontal; i++ ) {
 			int sum = 0;
 			for( int row = 0; row < regionHeight; row++ ) {
-				sum += horizontalScore[row][i];
+				sum += ws.horizontalScore[row][i];
 			}
-			verticalScore[i] = sum;
+			ws.verticalScore[i] = sum;
 		}
 
 		// compute disparity
-		computeDisparity.process(radiusY, verticalScore);
+		ws.computeDisparity.process(row0 + radiusY, ws.verticalScore);
 	}
 
 	/**
@@ -108,19 +136,21 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 	 * When a new block is processes the last row/column is subtracted and the new row/column is
 	 * added.
 	 */
-	private void computeRemainingRows(GrayS16 left, GrayS16 right )
+	private void computeRemainingRows( WorkSpace ws , GrayS16 left, GrayS16 right , int row0 , int row1 )
 	{
-		for( int row = regionHeight; row < left.height; row++ ) {
+		int verticalScore[] = ws.verticalScore;
+
+		for( int row = row0; row < row1; row++ ) {
 			int oldRow = row%regionHeight;
 
 			// subtract first row from vertical score
-			int scores[] = horizontalScore[oldRow];
+			int scores[] = ws.horizontalScore[oldRow];
 			for( int i = 0; i < lengthHorizontal; i++ ) {
 				verticalScore[i] -= scores[i];
 			}
 
 			UtilDisparityScore.computeScoreRow(left, right, row, scores,
-					minDisparity,maxDisparity,regionWidth,elementScore);
+					minDisparity,maxDisparity,regionWidth,ws.elementScore);
 
 			// add the new score
 			for( int i = 0; i < lengthHorizontal; i++ ) {
@@ -128,7 +158,34 @@ public class ImplDisparityScoreSadRect_S16<DI extends ImageGray<DI>>
 			}
 
 			// compute disparity
-			computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+			ws.computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+		}
+	}
+
+	/**
+	 * Storage for processing a strip of rows
+	 */
+	class WorkSpace {
+		// Computes disparity from scores
+		DisparitySelect<int[], DI> computeDisparity;
+
+		// stores the local scores for the width of the region
+		int elementScore[];
+		// scores along horizontal axis for current block
+		// To allow right to left validation all disparity scores are stored for the entire row
+		// size = num columns * maxDisparity
+		// disparity for column i is stored in elements i*maxDisparity to (i+1)*maxDisparity
+		int horizontalScore[][];
+		// summed scores along vertical axis
+		// This is simply the sum of like elements in horizontal score
+		int verticalScore[];
+
+		void checkSize( int width ) {
+			if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
+				horizontalScore = new int[regionHeight][lengthHorizontal];
+				verticalScore = new int[lengthHorizontal];
+				elementScore = new int[ width ];
+			}
 		}
 	}
 
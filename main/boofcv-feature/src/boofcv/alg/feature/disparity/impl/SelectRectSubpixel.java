@@ -18,6 +18,7 @@
 
 package boofcv.alg.feature.disparity.impl;
 
+import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.struct.image.GrayF32;
 
 /**
@@ -63,6 +64,13 @@ public class SelectRectSubpixel {
 			}
 		}
 
+		@Override
+		public DisparitySelect<int[],GrayF32> concurrentCopy() {
+			S32_F32 copy = new S32_F32(maxError,rightToLeftTolerance,0);
+			copy.textureThreshold = textureThreshold;
+			return copy;
+		}
+
 		@Override
 		public Class<GrayF32> getDisparityType() {
 			return GrayF32.class;
@@ -93,6 +101,13 @@ public class SelectRectSubpixel {
 			}
 		}
 
+		@Override
+		public DisparitySelect<float[],GrayF32> concurrentCopy() {
+			F32_F32 copy = new F32_F32(maxError,rightToLeftTolerance,0);
+			copy.textureThreshold = textureThreshold;
+			return copy;
+		}
+
 		@Override
 		public Class<GrayF32> getDisparityType() {
 			return GrayF32.class;
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Aggregates the matching cost along 4 or 8 paths through the image using the Semi-Global Matching (SGM)
+ * recurrence from [1].  Along path r the cost at pixel p and disparity d is:<br>
+ * L<sub>r</sub>(p,d) = C(p,d) + min( L<sub>r</sub>(p-r,d) , L<sub>r</sub>(p-r,d&plusmn;1) + P1 ,
+ * min<sub>k</sub> L<sub>r</sub>(p-r,k) + P2 ) - min<sub>k</sub> L<sub>r</sub>(p-r,k)<br>
+ * where P1 is the penalty for a small change in disparity and P2 the penalty for a large change.  The aggregated
+ * cost is the sum of L<sub>r</sub> across all the paths.  The cost volume format is described in
+ * {@link SgmCostHamming}.  Aggregated costs are stored in the same format, but as 16-bit values.
+ * </p>
+ *
+ * <p>
+ * Paths are processed one after another.  Every pixel is on exactly one line for each path, so if
+ * {@link BoofConcurrency#USE_CONCURRENT} is true then blocks of lines are processed concurrently.  Integer
+ * arithmetic is used throughout so the result is identical to the single threaded result.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information."
+ * IEEE Transactions on pattern analysis and machine intelligence 30.2 (2008): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAggregation {
+
+	/**
+	 * When processed concurrently, the minimum number of lines in each block
+	 */
+	public static int MIN_BLOCK_LINES = 16;
+
+	// direction of each path. Horizontal and vertical first then diagonals
+	private static final int[][] PATHS = new int[][]{
+			{1,0},{-1,0},{0,1},{0,-1},{1,1},{-1,-1},{1,-1},{-1,1}};
+
+	// penalty for a change in disparity of one
+	int penaltySmallChange;
+	// penalty for a change in disparity of more than one
+	int penaltyLargeChange;
+	// number of paths which are considered. 4 or 8
+	int pathsConsidered;
+
+	// Input and output for the current call
+	GrayU8 costYXD;
+	GrayU16 aggregatedYXD;
+	int rangeDisparity;
+	int width,height;
+
+	// pixel that each line in the current path starts at, encoded as y*width + x
+	GrowQueue_I32 lineStarts = new GrowQueue_I32();
+
+	// storage for each block of lines
+	FastQueue<Work> workspace = new FastQueue<Work>(Work.class,true) {
+		@Override
+		protected Work createInstance() {
+			return new Work();
+		}
+	};
+
+	/**
+	 * Configures the aggregation
+	 *
+	 * @param penaltySmallChange Penalty for a change in disparity of one. &ge; 0
+	 * @param penaltyLargeChange Penalty for a change in disparity of more than one. &ge; penaltySmallChange
+	 * @param pathsConsidered Number of paths considered. 4 or 8.
+	 */
+	public SgmCostAggregation( int penaltySmallChange , int penaltyLargeChange , int pathsConsidered ) {
+		if( penaltySmallChange < 0 || penaltyLargeChange < penaltySmallChange )
+			throw new IllegalArgumentException("Penalties must be >= 0 and large >= small");
+		if( pathsConsidered != 4 && pathsConsidered != 8 )
+			throw new IllegalArgumentException("Paths considered must be 4 or 8");
+		this.penaltySmallChange = penaltySmallChange;
+		this.penaltyLargeChange = penaltyLargeChange;
+		this.pathsConsidered = pathsConsidered;
+	}
+
+	/**
+	 * Aggregates the cost along each path.
+	 *
+	 * @param costYXD (Input) Cost volume
+	 * @param rangeDisparity Number of disparities in the cost volume
+	 * @param maxCost Largest value in the cost volume
+	 * @param aggregatedYXD (Output) Aggregated cost volume. Reshaped.
+	 */
+	public void process( GrayU8 costYXD , int rangeDisparity , int maxCost , GrayU16 aggregatedYXD ) {
+		if( costYXD.width % rangeDisparity != 0 )
+			throw new IllegalArgumentException("Cost volume's width must be a multiple of the disparity range");
+		// the cost along a path is at most the pixel's cost plus the large penalty
+		if( pathsConsidered*(maxCost + penaltyLargeChange) > 0xFFFF )
+			throw new IllegalArgumentException("Aggregated cost can overflow. Reduce the large penalty.");
+
+		this.costYXD = costYXD;
+		this.aggregatedYXD = aggregatedYXD;
+		this.rangeDisparity = rangeDisparity;
+		this.width = costYXD.width/rangeDisparity;
+		this.height = costYXD.height;
+
+		aggregatedYXD.reshape(costYXD.width,costYXD.height);
+		// zero the data inside the image, which might be a sub-image
+		for( int y = 0; y < height; y++ ) {
+			int index = aggregatedYXD.startIndex + y*aggregatedYXD.stride;
+			Arrays.fill(aggregatedYXD.data,index,index+aggregatedYXD.width,(short)0);
+		}
+
+		for( int i = 0; i < pathsConsidered; i++ ) {
+			processPath(PATHS[i][0],PATHS[i][1]);
+		}
+	}
+
+	/**
+	 * Aggregates the cost along every line going in the specified direction
+	 */
+	void processPath( final int dx , final int dy ) {
+		findLineStarts(dx,dy);
+
+		BoofConcurrency.loopBlocks(0,lineStarts.size,MIN_BLOCK_LINES,BoofConcurrency.USE_CONCURRENT,workspace,
+				new IntRangeObjectTask<Work>() {
+			@Override
+			public void process(Work work, int idx0, int idx1) {
+				processLines(work,dx,dy,idx0,idx1);
+			}
+		});
+	}
+
+	/**
+	 * Finds every pixel which is the first pixel in a line.  The previous pixel in the line is outside the image.
+	 */
+	void findLineStarts( int dx , int dy ) {
+		lineStarts.reset();
+
+		// lines which start along the top or bottom row
+		if( dy != 0 ) {
+			int y = dy > 0 ? 0 : height-1;
+			for( int x = 0; x < width; x++ ) {
+				lineStarts.add(y*width + x);
+			}
+		}
+		// lines which start along the left or right column, skipping corners which have already been added
+		if( dx != 0 ) {
+			int x = dx > 0 ? 0 : width-1;
+			int y0 = dy > 0 ? 1 : 0;
+			int y1 = dy < 0 ? height-1 : height;
+			for( int y = y0; y < y1; y++ ) {
+				lineStarts.add(y*width + x);
+			}
+		}
+	}
+
+	void processLines( Work work , int dx , int dy , int idx0 , int idx1 ) {
+		work.checkSize(rangeDisparity);
+
+		for( int i = idx0; i < idx1; i++ ) {
+			int start = lineStarts.data[i];
+			processLine(work, start%width, start/width, dx, dy);
+		}
+	}
+
+	/**
+	 * Aggregates the cost along a single line
+	 */
+	void processLine( Work work , int x , int y , int dx , int dy ) {
+		final int range = rangeDisparity;
+		final byte[] cost = costYXD.data;
+		final short[] aggregated = aggregatedYXD.data;
+
+		int[] previous = work.previous;
+		int[] current = work.current;
+
+		// The first pixel has no previous pixel in the path
+		int indexCost = costYXD.startIndex + y*costYXD.stride + x*range;
+		int indexAgg = aggregatedYXD.startIndex + y*aggregatedYXD.stride + x*range;
+		int minPrevious = Integer.MAX_VALUE;
+		for( int d = 0; d < range; d++ ) {
+			int c = cost[indexCost+d] & 0xFF;
+			previous[d] = c;
+			aggregated[indexAgg+d] = (short)((aggregated[indexAgg+d] & 0xFFFF) + c);
+			if( c < minPrevious )
+				minPrevious = c;
+		}
+
+		x += dx;
+		y += dy;
+
+		while( x >= 0 && x < width && y >= 0 && y < height ) {
+			indexCost = costYXD.startIndex + y*costYXD.stride + x*range;
+			indexAgg = aggregatedYXD.startIndex + y*aggregatedYXD.stride + x*range;
+
+			final int largeChange = minPrevious + penaltyLargeChange;
+			int minCurrent = Integer.MAX_VALUE;
+
+			for( int d = 0; d < range; d++ ) {
+				int best = previous[d];
+				if( d > 0 && previous[d-1] + penaltySmallChange < best )
+					best = previous[d-1] + penaltySmallChange;
+				if( d < range-1 && previous[d+1] + penaltySmallChange < best )
+					best = previous[d+1] + penaltySmallChange;
+				if( largeChange < best )
+					best = largeChange;
+
+				int l = (cost[indexCost+d] & 0xFF) + best - minPrevious;
+				current[d] = l;
+				aggregated[indexAgg+d] = (short)((aggregated[indexAgg+d] & 0xFFFF) + l);
+				if( l < minCurrent )
+					minCurrent = l;
+			}
+
+			int[] tmp = previous;
+			previous = current;
+			current = tmp;
+			minPrevious = minCurrent;
+
+			x += dx;
+			y += dy;
+		}
+	}
+
+	/**
+	 * Storage for the path cost at the previous and current pixel along a line
+	 */
+	static class Work {
+		int[] previous = new int[0];
+		int[] current = new int[0];
+
+		void checkSize( int range ) {
+			if( previous.length < range ) {
+				previous = new int[range];
+				current = new int[range];
+			}
+		}
+	}
+
+	public int getPenaltySmallChange() {
+		return penaltySmallChange;
+	}
+
+	public int getPenaltyLargeChange() {
+		return penaltyLargeChange;
+	}
+
+	public int getPathsConsidered() {
+		return pathsConsidered;
+	}
+}
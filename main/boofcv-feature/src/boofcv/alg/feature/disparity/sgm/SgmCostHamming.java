@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Computes the matching cost for every pixel and disparity using the Hamming distance between the
+ * {@link boofcv.alg.transform.census.CensusTransform census transform} of the left and right images.  The
+ * pixel at x in the left image is matched against the pixel at x-d in the right image.  If x-d is outside
+ * the image then the cost is set to the maximum possible.
+ * </p>
+ *
+ * <p>
+ * Cost volume format: A {@link GrayU8} with the same number of rows as the input image and
+ * width*rangeDisparity columns.  The cost for pixel (x,y) at disparity d is stored in column
+ * x*rangeDisparity + d - minDisparity.  All the costs for a single pixel are next to each other in memory.
+ * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are processed concurrently.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostHamming {
+
+	// the minimum disparity that it will check
+	int minDisparity;
+	// number of disparities that are considered
+	int rangeDisparity;
+
+	/**
+	 * Configures disparity range
+	 *
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0
+	 * @param rangeDisparity Number of disparity values which are considered.  Must be &ge; 1
+	 */
+	public void configure( int minDisparity , int rangeDisparity ) {
+		if( minDisparity < 0 )
+			throw new IllegalArgumentException("Minimum disparity must be >= 0");
+		if( rangeDisparity <= 0 )
+			throw new IllegalArgumentException("Range must be > 0");
+
+		this.minDisparity = minDisparity;
+		this.rangeDisparity = rangeDisparity;
+	}
+
+	/**
+	 * Computes the cost volume
+	 *
+	 * @param left (Input) Census transform of left image.  {@link GrayU8}, {@link GrayS32}, or {@link GrayS64}
+	 * @param right (Input) Census transform of right image.  Same type as left.
+	 * @param maxCost Cost assigned to pixels outside the right image.  Typically the number of bits.  &lt; 256
+	 * @param costYXD (Output) Cost volume. Reshaped.
+	 */
+	public void process( final ImageGray left , final ImageGray right , final int maxCost , final GrayU8 costYXD ) {
+		InputSanityCheck.checkSameShape(left,right);
+		if( left.getClass() != right.getClass() )
+			throw new IllegalArgumentException("Left and right images must be the same type");
+		if( maxCost > 255 )
+			throw new IllegalArgumentException("Maximum cost must be less than 256");
+
+		costYXD.reshape(left.width*rangeDisparity,left.height);
+
+		BoofConcurrency.loopBlocks(0,left.height,BoofConcurrency.MIN_BAND_ROWS,BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				processRows(left,right,maxCost,costYXD,y0,y1);
+			}
+		});
+	}
+
+	private void processRows( ImageGray left , ImageGray right , int maxCost , GrayU8 costYXD , int y0 , int y1 ) {
+		for( int y = y0; y < y1; y++ ) {
+			if( left instanceof GrayU8 ) {
+				processRow((GrayU8)left,(GrayU8)right,maxCost,costYXD,y);
+			} else if( left instanceof GrayS32 ) {
+				processRow((GrayS32)left,(GrayS32)right,maxCost,costYXD,y);
+			} else if( left instanceof GrayS64 ) {
+				processRow((GrayS64)left,(GrayS64)right,maxCost,costYXD,y);
+			} else {
+				throw new IllegalArgumentException("Unsupported image type "+left.getClass().getSimpleName());
+			}
+		}
+	}
+
+	private void processRow( GrayU8 left , GrayU8 right , int maxCost , GrayU8 costYXD , int y ) {
+		int indexLeft = left.startIndex + y*left.stride;
+		int indexCost = costYXD.startIndex + y*costYXD.stride;
+		int rowRight = right.startIndex + y*right.stride;
+
+		for( int x = 0; x < left.width; x++ ) {
+			int valueLeft = left.data[indexLeft++] & 0xFF;
+
+			for( int d = 0; d < rangeDisparity; d++ ) {
+				int xr = x - minDisparity - d;
+				if( xr >= 0 ) {
+					int valueRight = right.data[rowRight + xr] & 0xFF;
+					costYXD.data[indexCost++] = (byte)Integer.bitCount(valueLeft ^ valueRight);
+				} else {
+					costYXD.data[indexCost++] = (byte)maxCost;
+				}
+			}
+		}
+	}
+
+	private void processRow( GrayS32 left , GrayS32 right , int maxCost , GrayU8 costYXD , int y ) {
+		int indexLeft = left.startIndex + y*left.stride;
+		int indexCost = costYXD.startIndex + y*costYXD.stride;
+		int rowRight = right.startIndex + y*right.stride;
+
+		for( int x = 0; x < left.width; x++ ) {
+			int valueLeft = left.data[indexLeft++];
+
+			for( int d = 0; d < rangeDisparity; d++ ) {
+				int xr = x - minDisparity - d;
+				if( xr >= 0 ) {
+					costYXD.data[indexCost++] = (byte)Integer.bitCount(valueLeft ^ right.data[rowRight + xr]);
+				} else {
+					costYXD.data[indexCost++] = (byte)maxCost;
+				}
+			}
+		}
+	}
+
+	private void processRow( GrayS64 left , GrayS64 right , int maxCost , GrayU8 costYXD , int y ) {
+		int indexLeft = left.startIndex + y*left.stride;
+		int indexCost = costYXD.startIndex + y*costYXD.stride;
+		int rowRight = right.startIndex + y*right.stride;
+
+		for( int x = 0; x < left.width; x++ ) {
+			long valueLeft = left.data[indexLeft++];
+
+			for( int d = 0; d < rangeDisparity; d++ ) {
+				int xr = x - minDisparity - d;
+				if( xr >= 0 ) {
+					costYXD.data[indexCost++] = (byte)Long.bitCount(valueLeft ^ right.data[rowRight + xr]);
+				} else {
+					costYXD.data[indexCost++] = (byte)maxCost;
+				}
+			}
+		}
+	}
+
+	public int getMinDisparity() {
+		return minDisparity;
+	}
+
+	public int getRangeDisparity() {
+		return rangeDisparity;
+	}
+}
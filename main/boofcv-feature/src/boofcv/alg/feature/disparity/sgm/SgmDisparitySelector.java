@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Selects the disparity with the smallest aggregated cost, winner takes all (WTA), and optionally rejects
+ * unreliable pixels.  The aggregated cost volume format is described in {@link SgmCostAggregation}.
+ * Disparities which would sample outside of the right image are not considered.
+ * </p>
+ *
+ * <p>
+ * Validation Filters:<br>
+ * <b>right To Left</b> validates the disparity by seeing if the matched pixel on the right has the same pixel on
+ * the left as its optimal solution, within tolerance.<br>
+ * <b>texture</b> Tolerance for how similar the best disparity's cost is to the second best, excluding its
+ * neighbors.  Reject if textureTol &ge; (C2-C1)/C1, where C2 = second best cost and C1 = best cost.
+ * </p>
+ *
+ * <p>
+ * The output follows the same format as {@link boofcv.abst.feature.disparity.StereoDisparity}.  The disparity
+ * written is relative to the minimum disparity and invalid pixels are set to rangeDisparity+1.  If the output
+ * is a {@link GrayF32} then sub-pixel accuracy is found by fitting a parabola to the cost of the best disparity
+ * and its two neighbors.  If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are processed
+ * concurrently.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmDisparitySelector {
+
+	// texture threshold, use an integer value for speed.
+	protected int textureThreshold;
+	protected static final int discretizer = 10000;
+
+	// tolerance for right to left validation. if < 0 then it's disabled
+	protected int rightToLeftTolerance;
+
+	/**
+	 * Configures validation
+	 *
+	 * @param rightToLeftTolerance Tolerance for how different the left to right associated values can be.
+	 *                             Disable with a value &lt; 0.  Try 1
+	 * @param texture Tolerance for how similar optimal disparity is to other disparities.  Disable with a
+	 *                value &le; 0. Closer to zero is more tolerant. Try 0.1
+	 */
+	public SgmDisparitySelector( int rightToLeftTolerance , double texture ) {
+		this.rightToLeftTolerance = rightToLeftTolerance;
+		setTexture(texture);
+	}
+
+	public void setTexture( double threshold ) {
+		textureThreshold = (int)(discretizer*threshold);
+	}
+
+	/**
+	 * Selects the disparity of each pixel
+	 *
+	 * @param aggregatedYXD (Input) Aggregated cost volume
+	 * @param minDisparity Minimum disparity
+	 * @param rangeDisparity Number of disparities in the cost volume
+	 * @param disparity (Output) Disparity image. {@link GrayU8} or {@link GrayF32}.  Must be the same shape as
+	 *                  the input images.
+	 */
+	public void select( final GrayU16 aggregatedYXD , final int minDisparity , final int rangeDisparity ,
+						final ImageGray disparity ) {
+		if( aggregatedYXD.width != disparity.width*rangeDisparity || aggregatedYXD.height != disparity.height )
+			throw new IllegalArgumentException("Disparity image isn't the same shape as the cost volume");
+		if( disparity instanceof GrayU8 ) {
+			if( rangeDisparity > 254 )
+				throw new IllegalArgumentException("(max - min) disparity must be <= 254");
+		} else if( !(disparity instanceof GrayF32) ) {
+			throw new IllegalArgumentException("Disparity image must be GrayU8 or GrayF32");
+		}
+
+		BoofConcurrency.loopBlocks(0,disparity.height,BoofConcurrency.MIN_BAND_ROWS,BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				selectRows(aggregatedYXD,minDisparity,rangeDisparity,disparity,y0,y1);
+			}
+		});
+	}
+
+	private void selectRows( GrayU16 aggregatedYXD , int minDisparity , int rangeDisparity ,
+							 ImageGray disparity , int y0 , int y1 ) {
+		final short[] data = aggregatedYXD.data;
+		final int width = disparity.width;
+		final int invalid = rangeDisparity + 1;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRow = aggregatedYXD.startIndex + y*aggregatedYXD.stride;
+
+			for( int x = 0; x < width; x++ ) {
+				// number of disparities which stay inside the right image
+				int localRange = Math.min(rangeDisparity, x - minDisparity + 1);
+				int indexPixel = indexRow + x*rangeDisparity;
+
+				int best = invalid;
+				int costBest = Integer.MAX_VALUE;
+				for( int d = 0; d < localRange; d++ ) {
+					int c = data[indexPixel+d] & 0xFFFF;
+					if( c < costBest ) {
+						costBest = c;
+						best = d;
+					}
+				}
+
+				if( best != invalid && rightToLeftTolerance >= 0 ) {
+					int bestR2L = selectRightToLeft(data,indexRow,x - minDisparity - best,minDisparity,
+							rangeDisparity,width);
+					if( Math.abs(bestR2L-best) > rightToLeftTolerance )
+						best = invalid;
+				}
+
+				if( best != invalid && textureThreshold > 0 && localRange >= 3 ) {
+					// find the second best disparity value and exclude its neighbors
+					int secondBest = Integer.MAX_VALUE;
+					for( int d = 0; d < best-1; d++ ) {
+						int c = data[indexPixel+d] & 0xFFFF;
+						if( c < secondBest )
+							secondBest = c;
+					}
+					for( int d = best+2; d < localRange; d++ ) {
+						int c = data[indexPixel+d] & 0xFFFF;
+						if( c < secondBest )
+							secondBest = c;
+					}
+
+					// similar scores indicate lack of texture
+					// C = (C2-C1)/C1
+					if( discretizer*(long)(secondBest-costBest) <= textureThreshold*(long)costBest )
+						best = invalid;
+				}
+
+				if( disparity instanceof GrayU8 ) {
+					GrayU8 out = (GrayU8)disparity;
+					out.data[out.startIndex + y*out.stride + x] = (byte)best;
+				} else {
+					GrayF32 out = (GrayF32)disparity;
+					out.data[out.startIndex + y*out.stride + x] = subpixel(data,indexPixel,best,localRange,invalid);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the best disparity going from the pixel at xr in the right image to the left image.
+	 */
+	private int selectRightToLeft( short[] data , int indexRow , int xr , int minDisparity ,
+								   int rangeDisparity , int width ) {
+		// the left image pixel is at xr + minDisparity + d and must be inside the image
+		int localRange = Math.min(rangeDisparity, width - xr - minDisparity);
+
+		int best = 0;
+		int costBest = Integer.MAX_VALUE;
+		for( int d = 0; d < localRange; d++ ) {
+			int xl = xr + minDisparity + d;
+			int c = data[indexRow + xl*rangeDisparity + d] & 0xFFFF;
+			if( c < costBest ) {
+				costBest = c;
+				best = d;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Refines the disparity estimate using a parabola fit to its neighbors. Same as
+	 * {@link boofcv.alg.feature.disparity.impl.SelectRectSubpixel}.
+	 */
+	private static float subpixel( short[] data , int indexPixel , int best , int localRange , int invalid ) {
+		if( best == invalid || best <= 0 || best >= localRange-1 )
+			return best;
+
+		int c0 = data[indexPixel+best-1] & 0xFFFF;
+		int c1 = data[indexPixel+best] & 0xFFFF;
+		int c2 = data[indexPixel+best+1] & 0xFFFF;
+
+		int denominator = 2*(c0-2*c1+c2);
+		if( denominator == 0 )
+			return best;
+
+		return best + (float)(c0-c2)/(float)denominator;
+	}
+
+	public int getRightToLeftTolerance() {
+		return rightToLeftTolerance;
+	}
+
+	public void setRightToLeftTolerance(int rightToLeftTolerance) {
+		this.rightToLeftTolerance = rightToLeftTolerance;
+	}
+}
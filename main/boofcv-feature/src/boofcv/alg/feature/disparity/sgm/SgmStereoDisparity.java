@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.alg.transform.census.CensusVariants;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Computes a dense disparity image using Semi-Global Matching (SGM) [1].  The pixel-wise matching cost is
+ * the Hamming distance between the {@link CensusTransform census transforms} of the left and right images.
+ * The costs are then aggregated along multiple 1D paths which penalize changes in disparity between
+ * neighboring pixels, approximating a global 2D smoothness constraint.  Finally, the disparity with the
+ * smallest aggregated cost is selected for each pixel.
+ * </p>
+ *
+ * <p>
+ * Each stage can be run concurrently, see {@link SgmCostHamming}, {@link SgmCostAggregation}, and
+ * {@link SgmDisparitySelector}.  Internal storage is recycled between calls when the image shape doesn't change.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, H. "Stereo Processing by Semiglobal Matching and Mutual Information"
+ * IEEE Transactions on Pattern Analysis and Machine Intelligence, 2008
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmStereoDisparity {
+
+	// which census transform is used to describe each pixel
+	CensusVariants variant;
+
+	// census transform of the left and right images
+	ImageGray censusLeft;
+	ImageGray censusRight;
+
+	// The cost and aggregated cost volumes
+	GrayU8 costYXD = new GrayU8(1,1);
+	GrayU16 aggregatedYXD = new GrayU16(1,1);
+
+	SgmCostHamming cost = new SgmCostHamming();
+	SgmCostAggregation aggregation;
+	SgmDisparitySelector selector;
+
+	int minDisparity;
+	int maxDisparity;
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param variant Which census transform is used to compute the per-pixel cost
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Exclusive.
+	 * @param aggregation Aggregates the cost along multiple paths
+	 * @param selector Selects the best disparity from the aggregated cost
+	 */
+	public SgmStereoDisparity( CensusVariants variant , int minDisparity , int maxDisparity ,
+							   SgmCostAggregation aggregation , SgmDisparitySelector selector ) {
+		if( minDisparity < 0 || minDisparity >= maxDisparity )
+			throw new IllegalArgumentException("Invalid disparity range. min = "+minDisparity+" max = "+maxDisparity);
+		this.variant = variant;
+		this.minDisparity = minDisparity;
+		this.maxDisparity = maxDisparity;
+		this.aggregation = aggregation;
+		this.selector = selector;
+
+		censusLeft = CensusTransform.createOutput(variant);
+		censusRight = CensusTransform.createOutput(variant);
+		cost.configure(minDisparity,maxDisparity-minDisparity);
+	}
+
+	/**
+	 * Computes the disparity between the two rectified images
+	 *
+	 * @param left (Input) Left rectified image
+	 * @param right (Input) Right rectified image
+	 * @param disparity (Output) Disparity image. {@link GrayU8} or {@link boofcv.struct.image.GrayF32}.
+	 */
+	public void process( GrayU8 left , GrayU8 right , ImageGray disparity ) {
+		if( left.width != right.width || left.height != right.height )
+			throw new IllegalArgumentException("Left and right images must have the same shape");
+		if( disparity.width != left.width || disparity.height != left.height )
+			throw new IllegalArgumentException("Disparity image must have the same shape as the input");
+
+		int rangeDisparity = maxDisparity - minDisparity;
+		int maxCost = variant.getBits();
+
+		CensusTransform.transform(left,variant,censusLeft);
+		CensusTransform.transform(right,variant,censusRight);
+
+		cost.process(censusLeft,censusRight,maxCost,costYXD);
+		aggregation.process(costYXD,rangeDisparity,maxCost,aggregatedYXD);
+		selector.select(aggregatedYXD,minDisparity,rangeDisparity,disparity);
+	}
+
+	public CensusVariants getVariant() {
+		return variant;
+	}
+
+	public int getMinDisparity() {
+		return minDisparity;
+	}
+
+	public int getMaxDisparity() {
+		return maxDisparity;
+	}
+
+	public SgmCostAggregation getAggregation() {
+		return aggregation;
+	}
+
+	public SgmDisparitySelector getSelector() {
+		return selector;
+	}
+
+	public GrayU16 getAggregatedYXD() {
+		return aggregatedYXD;
+	}
+}
@@ -20,6 +20,7 @@ package boofcv.factory.feature.associate;
 
 import boofcv.abst.feature.associate.*;
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.MultiIndexHashing_B;
 import boofcv.struct.feature.*;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
@@ -99,6 +100,66 @@ public class FactoryAssociation {
 		return new AssociateNearestNeighbor<>(nn, dimension);
 	}
 
+	/**
+	 * Greedy association which uses a random forest of K-D trees to find the closest feature instead of
+	 * brute force.  Suitable for large sets of descriptors with a high degree of freedom, e.g. SURF or SIFT.
+	 * Fit score is Euclidean distance squared.
+	 *
+	 * @see AssociateGreedySearch
+	 * @see org.ddogleg.nn.wrap.KdForestBbfSearch
+	 *
+	 * @param dimension Number of elements in the feature vector
+	 * @param maxNodesSearched  Maximum number of nodes it will search.  Controls speed and accuracy.
+	 * @param numTrees Number of trees that are considered.  Try 10 and tune.
+	 * @param numConsiderSplit Number of nodes that are considered when generating a tree.  Must be less than the
+	 *                         point's dimension.  Try 5
+	 * @param randomSeed Seed used by random number generator
+	 * @param maxError Maximum allowed Euclidean distance squared between two features.  To disable set to
+	 *                 Double.MAX_VALUE
+	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static <D extends TupleDesc> AssociateDescription<D>
+	greedyKdRandomForest( int dimension, int maxNodesSearched , int numTrees , int numConsiderSplit ,
+						  long randomSeed , double maxError , boolean backwardsValidation ) {
+		DescriptorSearch<D> searchDst = new DescriptorSearchNearestNeighbor<>(FactoryNearestNeighbor.
+				<Integer>kdRandomForest(maxNodesSearched,numTrees,numConsiderSplit,randomSeed),dimension);
+		DescriptorSearch<D> searchSrc = null;
+		if( backwardsValidation ) {
+			searchSrc = new DescriptorSearchNearestNeighbor<>(FactoryNearestNeighbor.
+					<Integer>kdRandomForest(maxNodesSearched,numTrees,numConsiderSplit,randomSeed),dimension);
+		}
+
+		AssociateGreedySearch<D> ret = new AssociateGreedySearch<>(searchDst,searchSrc);
+		ret.setThreshold(maxError);
+		return ret;
+	}
+
+	/**
+	 * Greedy association for binary descriptors which uses multi-index hashing to find the closest feature
+	 * instead of brute force.  Fit score is hamming distance.
+	 *
+	 * @see AssociateGreedySearch
+	 * @see MultiIndexHashing_B
+	 *
+	 * @param maxTables Maximum number of 16-bit substring tables.  If &le; 0 every substring has a table.  Try -1.
+	 * @param radius Number of bits a substring can differ by, 0 or 1.  1 finds more matches but is slower.  Try 0.
+	 * @param maxError Maximum allowed hamming distance between two features.  To disable set to Double.MAX_VALUE
+	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static AssociateDescription<TupleDesc_B>
+	greedyMultiIndexHash( int maxTables , int radius , double maxError , boolean backwardsValidation ) {
+		DescriptorSearch<TupleDesc_B> searchDst = new MultiIndexHashing_B(maxTables,radius);
+		DescriptorSearch<TupleDesc_B> searchSrc = null;
+		if( backwardsValidation )
+			searchSrc = new MultiIndexHashing_B(maxTables,radius);
+
+		AssociateGreedySearch<TupleDesc_B> ret = new AssociateGreedySearch<>(searchDst,searchSrc);
+		ret.setThreshold(maxError);
+		return ret;
+	}
+
 	/**
 	 * Given a feature descriptor type it returns a "reasonable" default {@link ScoreAssociation}.
 	 *
@@ -19,8 +19,6 @@
 package boofcv.factory.feature.detect.interest;
 
 import boofcv.abst.feature.describe.ConfigSiftScaleSpace;
-import boofcv.abst.feature.detect.extract.NonMaxLimiter;
-import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.interest.*;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.abst.filter.derivative.ImageHessian;
@@ -140,9 +138,8 @@ public class FactoryInterestPoint {
 
 		SiftScaleSpace scaleSpace =
 				new SiftScaleSpace(configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0);
-		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(configDet.extract);
-		NonMaxLimiter limiter = new NonMaxLimiter(nonmax,configDet.maxFeaturesPerScale);
-		SiftDetector detector = new SiftDetector(scaleSpace,configDet.edgeR,limiter);
+		SiftDetector detector = new SiftDetector(scaleSpace,configDet.edgeR,
+				FactoryInterestPointAlgs.siftExtractor(configDet));
 
 		return new WrapSiftDetector<>(detector, imageType);
 	}
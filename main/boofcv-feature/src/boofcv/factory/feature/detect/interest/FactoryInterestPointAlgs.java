@@ -191,10 +191,20 @@ public class FactoryInterestPointAlgs {
 		if( configDetector == null )
 			configDetector = new ConfigSiftDetector();
 
-		NonMaxLimiter nonmax = FactoryFeatureExtractor.nonmaxLimiter(
-				configDetector.extract,configDetector.maxFeaturesPerScale);
 		SiftScaleSpace ss = new SiftScaleSpace(configSS.firstOctave,configSS.lastOctave,
 				configSS.numScales,configSS.sigma0);
-		return new SiftDetector(ss,configDetector.edgeR,nonmax);
+		return new SiftDetector(ss,configDetector.edgeR,siftExtractor(configDetector));
+	}
+
+	/**
+	 * Creates a new SIFT spatial extractor each time it's called, so that each thread can have its own.
+	 */
+	public static SiftDetector.ExtractorFactory siftExtractor( final ConfigSiftDetector config ) {
+		return new SiftDetector.ExtractorFactory() {
+			@Override
+			public NonMaxLimiter createExtractor() {
+				return FactoryFeatureExtractor.nonmaxLimiter(config.extract,config.maxFeaturesPerScale);
+			}
+		};
 	}
 }
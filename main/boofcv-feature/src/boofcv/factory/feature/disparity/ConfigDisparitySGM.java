@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.disparity;
+
+import boofcv.alg.transform.census.CensusVariants;
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for {@link boofcv.alg.feature.disparity.sgm.SgmStereoDisparity Semi Global Matching}
+ *
+ * @author Peter Abeles
+ */
+public class ConfigDisparitySGM implements Configuration {
+	/**
+	 * Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 */
+	public int minDisparity = 0;
+	/**
+	 * Maximum disparity that it will calculate. Exclusive. Must be &gt; minDisparity and (max-min) &le; 254
+	 */
+	public int maxDisparity = 100;
+	/**
+	 * Which census transform is used to compute the cost of matching two pixels
+	 */
+	public CensusVariants censusVariant = CensusVariants.BLOCK_5_5;
+	/**
+	 * Number of paths the cost is aggregated along. 4 or 8
+	 */
+	public int paths = 8;
+	/**
+	 * Penalty applied when the disparity changes by one between neighbors.  Try 5
+	 */
+	public int penaltySmallChange = 5;
+	/**
+	 * Penalty applied when the disparity changes by more than one between neighbors.  Try 50
+	 */
+	public int penaltyLargeChange = 50;
+	/**
+	 * Tolerance for how difference the left to right associated values can be.  Disable with a value &lt; 0.
+	 * Try 1
+	 */
+	public int validateRtoL = 1;
+	/**
+	 * Tolerance for how similar the optimal disparity is to other disparities.  Disable with a value &le; 0.
+	 * Closer to zero is more tolerant. Try 0.1
+	 */
+	public double texture = 0.1;
+
+	@Override
+	public void checkValidity() {
+		if( minDisparity < 0 || minDisparity >= maxDisparity )
+			throw new IllegalArgumentException("Invalid disparity range");
+		if( maxDisparity - minDisparity > 254 )
+			throw new IllegalArgumentException("(max - min) disparity must be <= 254");
+		if( paths != 4 && paths != 8 )
+			throw new IllegalArgumentException("paths must be 4 or 8");
+		if( penaltySmallChange < 0 || penaltyLargeChange < penaltySmallChange )
+			throw new IllegalArgumentException("Penalties must be >= 0 and large >= small");
+	}
+}
@@ -21,11 +21,15 @@ package boofcv.factory.feature.disparity;
 import boofcv.abst.feature.disparity.StereoDisparity;
 import boofcv.abst.feature.disparity.StereoDisparitySparse;
 import boofcv.abst.feature.disparity.WrapDisparitySadRect;
+import boofcv.abst.feature.disparity.WrapDisparitySgm;
 import boofcv.abst.feature.disparity.WrapDisparitySparseSadRect;
 import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.feature.disparity.DisparitySparseScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySparseSelect;
+import boofcv.alg.feature.disparity.sgm.SgmCostAggregation;
+import boofcv.alg.feature.disparity.sgm.SgmDisparitySelector;
+import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayU8;
@@ -273,4 +277,41 @@ public class FactoryStereoDisparity {
 		} else
 			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
 	}
+
+	/**
+	 * <p>
+	 * Creates an algorithm for computing dense disparity images using Semi-Global Matching (SGM) with
+	 * a census transform based cost.  Unlike the region based WTA algorithms, SGM enforces smoothness along
+	 * multiple paths and produces a disparity estimate all the way to the image border.
+	 * </p>
+	 *
+	 * @param config Configuration. If null then the default is used.
+	 * @return SGM disparity algorithm with pixel level accuracy
+	 */
+	public static StereoDisparity<GrayU8,GrayU8> sgm( ConfigDisparitySGM config ) {
+		return new WrapDisparitySgm<>(createSgm(config),GrayU8.class);
+	}
+
+	/**
+	 * Same as {@link #sgm(ConfigDisparitySGM)} but with sub-pixel accuracy.
+	 *
+	 * @param config Configuration. If null then the default is used.
+	 * @return SGM disparity algorithm with sub-pixel accuracy
+	 */
+	public static StereoDisparity<GrayU8,GrayF32> sgmSubpixel( ConfigDisparitySGM config ) {
+		return new WrapDisparitySgm<>(createSgm(config),GrayF32.class);
+	}
+
+	private static SgmStereoDisparity createSgm( ConfigDisparitySGM config ) {
+		if( config == null )
+			config = new ConfigDisparitySGM();
+		config.checkValidity();
+
+		SgmCostAggregation aggregation = new SgmCostAggregation(
+				config.penaltySmallChange,config.penaltyLargeChange,config.paths);
+		SgmDisparitySelector selector = new SgmDisparitySelector(config.validateRtoL,config.texture);
+
+		return new SgmStereoDisparity(config.censusVariant,config.minDisparity,config.maxDisparity,
+				aggregation,selector);
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Stores a set of binary descriptors in a single contiguous array of longs.  Each descriptor is stored
+ * in {@link #numWords} consecutive elements.  This layout allows a descriptor to be compared against every
+ * descriptor in the set with a single pass through memory and 64-bit bit counts.
+ *
+ * @see TupleDesc_B
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_B {
+	// number of bits in each descriptor
+	public int numBits;
+	// number of longs used to store each descriptor
+	public int numWords;
+	// storage for all the descriptors
+	public long[] data = new long[0];
+	// number of descriptors
+	public int size;
+
+	/**
+	 * Packs every descriptor in the list into this array
+	 *
+	 * @param list List of descriptors.  All must be the same size.
+	 */
+	public void setTo( FastQueue<TupleDesc_B> list ) {
+		size = 0;
+		if( list.size == 0 )
+			return;
+
+		TupleDesc_B first = list.get(0);
+		numBits = first.numBits;
+		numWords = numWords(first);
+
+		if( data.length < list.size*numWords )
+			data = new long[list.size*numWords];
+
+		for( int i = 0; i < list.size; i++ ) {
+			pack(list.data[i],data,i*numWords);
+		}
+		size = list.size;
+	}
+
+	/**
+	 * Copies a descriptor out of the array
+	 *
+	 * @param index Which descriptor
+	 * @param storage (Output) Storage for the descriptor
+	 */
+	public void get( int index , TupleDesc_B storage ) {
+		int offset = index*numWords;
+		for( int i = 0; i < storage.data.length; i++ ) {
+			long word = data[offset + i/2];
+			storage.data[i] = (int)(i % 2 == 0 ? word : word >>> 32);
+		}
+	}
+
+	/**
+	 * Number of longs needed to store the descriptor
+	 */
+	public static int numWords( TupleDesc_B desc ) {
+		return (desc.data.length+1)/2;
+	}
+
+	/**
+	 * Packs the descriptor into an array of longs.  Each long stores two consecutive ints with the first
+	 * int in the lower bits.
+	 *
+	 * @param desc (Input) Descriptor
+	 * @param dst (Output) Array the descriptor is written into
+	 * @param offset Index of the first element that's written to
+	 */
+	public static void pack( TupleDesc_B desc , long[] dst , int offset ) {
+		final int[] src = desc.data;
+		final int N = src.length/2;
+		for( int i = 0; i < N; i++ ) {
+			dst[offset+i] = (src[i*2] & 0xFFFFFFFFL) | ((long)src[i*2+1] << 32);
+		}
+		if( src.length % 2 == 1 )
+			dst[offset+N] = src[src.length-1] & 0xFFFFFFFFL;
+	}
+}
@@ -36,6 +36,9 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 	FastQueue<Desc> listSrc;
 	FastQueue<Desc> listDst;
 
+	// true if the threshold is Euclidean distance squared instead of Euclidean distance
+	protected boolean distanceSquared = false;
+
 	protected StandardAssociateDescriptionChecks( Class<Desc> descType ) {
 		listSrc = new FastQueue<>(descType, false);
 		listDst = new FastQueue<>(descType, false);
@@ -55,6 +58,13 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 	 */
 	public abstract AssociateDescription<Desc> createAlg();
 
+	/**
+	 * Converts a Euclidean distance into the same units as the threshold
+	 */
+	protected double threshold( double distance ) {
+		return distanceSquared ? distance*distance : distance;
+	}
+
 	protected void init() {
 		listSrc.reset();
 		listDst.reset();
@@ -81,7 +91,7 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 		init();
 
 		AssociateDescription<Desc> alg = createAlg();
-		alg.setThreshold(0.01);
+		alg.setThreshold(threshold(0.01));
 
 		for( int i = 0; i < numFeatures; i++ ) {
 			listSrc.add(c(i+1) );
@@ -149,17 +159,17 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 		alg.setDestination(listDst);
 
 		// no matches should be found since the error is too large
-		alg.setThreshold(0.01);
+		alg.setThreshold(threshold(0.01));
 		alg.associate();
 		assertEquals(0,alg.getMatches().size);
 
 		// Test edge case for threshold.  If it is exactly the distance away then should be included
-		alg.setThreshold(1.1-1);
+		alg.setThreshold(threshold(1.1-1));
 		alg.associate();
 		assertEquals(1,alg.getMatches().size);
 
 		// Threshold is greater than the assoc error
-		alg.setThreshold(0.2);
+		alg.setThreshold(threshold(0.2));
 		alg.associate();
 		assertEquals(1,alg.getMatches().size);
 
@@ -184,7 +194,7 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 		listDst.add( c(20) );  // can't be paired with anything
 
 		// set threshold so that one pair won't be considered
-		alg.setThreshold(0.07);
+		alg.setThreshold(threshold(0.07));
 		alg.setSource(listSrc);
 		alg.setDestination(listDst);
 		alg.associate();
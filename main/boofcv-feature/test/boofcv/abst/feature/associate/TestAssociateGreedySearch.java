@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.nn.FactoryNearestNeighbor;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedySearch extends StandardAssociateDescriptionChecks<TupleDesc_F64> {
+
+	Random rand = new Random(234);
+
+	public TestAssociateGreedySearch() {
+		super(TupleDesc_F64.class);
+		distanceSquared = true;
+	}
+
+	@Override
+	public AssociateDescription<TupleDesc_F64> createAlg() {
+		return create(1,true);
+	}
+
+	/**
+	 * An exhaustive search will produce perfect results
+	 */
+	private AssociateGreedySearch<TupleDesc_F64> create( int dimension , boolean backwardsValidation ) {
+		DescriptorSearch<TupleDesc_F64> dst = new DescriptorSearchNearestNeighbor<>(
+				FactoryNearestNeighbor.<Integer>exhaustive(),dimension);
+		DescriptorSearch<TupleDesc_F64> src = backwardsValidation ? new DescriptorSearchNearestNeighbor<TupleDesc_F64>(
+				FactoryNearestNeighbor.<Integer>exhaustive(),dimension) : null;
+		return new AssociateGreedySearch<>(dst,src);
+	}
+
+	@Override
+	protected TupleDesc_F64 c(double value) {
+		TupleDesc_F64 s = new TupleDesc_F64(1);
+		s.value[0] = value;
+		return s;
+	}
+
+	/**
+	 * With an exhaustive search the results should be identical to brute force greedy association
+	 */
+	@Test
+	public void compareToGreedy() {
+		FastQueue<TupleDesc_F64> src = createRandom(50);
+		FastQueue<TupleDesc_F64> dst = createRandom(60);
+
+		for( boolean backwards : new boolean[]{false,true}) {
+			AssociateDescription<TupleDesc_F64> expected = FactoryAssociation.greedy(
+					new ScoreAssociateEuclideanSq_F64(),0.81,backwards);
+			AssociateDescription<TupleDesc_F64> found = create(5,backwards);
+			found.setThreshold(0.81);
+
+			for( AssociateDescription<TupleDesc_F64> alg : new AssociateDescription[]{expected,found}) {
+				alg.setSource(src);
+				alg.setDestination(dst);
+				alg.associate();
+			}
+
+			FastQueue<AssociatedIndex> e = expected.getMatches();
+			FastQueue<AssociatedIndex> f = found.getMatches();
+			assertEquals(e.size,f.size);
+			for( int i = 0; i < e.size; i++ ) {
+				assertEquals(e.get(i).src,f.get(i).src);
+				assertEquals(e.get(i).dst,f.get(i).dst);
+				assertEquals(e.get(i).fitScore,f.get(i).fitScore,1e-8);
+			}
+			assertEquals(expected.getUnassociatedSource().size,found.getUnassociatedSource().size);
+			assertEquals(expected.getUnassociatedDestination().size,found.getUnassociatedDestination().size);
+		}
+	}
+
+	/**
+	 * When two source features are equally good fits to the same destination, backwards validation should
+	 * reject both, the same as {@link boofcv.alg.feature.associate.AssociateGreedy}
+	 */
+	@Test
+	public void backwardsValidation_tie() {
+		FastQueue<TupleDesc_F64> src = new FastQueue<>(TupleDesc_F64.class,false);
+		src.add(c(1));
+		src.add(c(1));
+		src.add(c(5));
+		FastQueue<TupleDesc_F64> dst = new FastQueue<>(TupleDesc_F64.class,false);
+		dst.add(c(1.2));
+		dst.add(c(5.1));
+
+		AssociateDescription<TupleDesc_F64> expected = FactoryAssociation.greedy(
+				new ScoreAssociateEuclideanSq_F64(),Double.MAX_VALUE,true);
+		AssociateDescription<TupleDesc_F64> found = create(1,true);
+
+		for( AssociateDescription<TupleDesc_F64> alg : new AssociateDescription[]{expected,found}) {
+			alg.setSource(src);
+			alg.setDestination(dst);
+			alg.associate();
+
+			assertEquals(1,alg.getMatches().size);
+			assertEquals(2,alg.getMatches().get(0).src);
+			assertEquals(1,alg.getMatches().get(0).dst);
+			assertEquals(2,alg.getUnassociatedSource().size);
+		}
+	}
+
+	private FastQueue<TupleDesc_F64> createRandom( int N ) {
+		FastQueue<TupleDesc_F64> list = new FastQueue<>(TupleDesc_F64.class,false);
+		for( int i = 0; i < N; i++ ) {
+			TupleDesc_F64 d = new TupleDesc_F64(5);
+			for( int j = 0; j < d.value.length; j++ ) {
+				d.value[j] = rand.nextDouble();
+			}
+			list.add(d);
+		}
+		return list;
+	}
+}
@@ -20,7 +20,9 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -56,6 +58,37 @@ public class TestScoreAssociateHamming_B extends StandardScoreAssociationChecks<
 		}
 	}
 
+	@Test
+	public void scoreRow() {
+		ScoreAssociateHamming_B scorer = new ScoreAssociateHamming_B();
+
+		FastQueue<TupleDesc_B> list = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < 20; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(160);
+			for( int j = 0; j < d.data.length; j++ )
+				d.data[j] = rand.nextInt();
+			list.add(d);
+		}
+
+		PackedTupleArray_B block = scorer.createBlock();
+		scorer.setBlock(list,block);
+
+		TupleDesc_B a = createDescription160();
+		double[] scores = new double[list.size+2];
+		scorer.scoreRow(a,block,scores,2);
+
+		for( int i = 0; i < list.size; i++ ) {
+			assertEquals(scorer.score(a,list.get(i)),scores[i+2],1e-8);
+		}
+	}
+
+	private TupleDesc_B createDescription160() {
+		TupleDesc_B a = new TupleDesc_B(160);
+		for( int i = 0; i < a.data.length; i++ )
+			a.data[i] = rand.nextInt();
+		return a;
+	}
+
 	@Override
 	public ScoreAssociation<TupleDesc_B> createScore() {
 		return new ScoreAssociateHamming_B();
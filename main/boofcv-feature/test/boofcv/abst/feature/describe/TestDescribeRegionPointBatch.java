@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.describe;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDescribeRegionPointBatch {
+
+	Random rand = new Random(234);
+
+	GrayF32 image = new GrayF32(120,100);
+
+	FastQueue<Point2D_F64> locations = new FastQueue<>(Point2D_F64.class,true);
+	GrowQueue_F64 radii = new GrowQueue_F64();
+	GrowQueue_F64 orientations = new GrowQueue_F64();
+
+	/**
+	 * Describing the points concurrently should produce the same output as describing them one at a time
+	 */
+	@Test
+	public void concurrent_sameResults() {
+		List<DescribeRegionPoint> algs = new ArrayList<>();
+		algs.add(FactoryDescribeRegionPoint.surfFast(null,GrayF32.class));
+		algs.add(FactoryDescribeRegionPoint.surfStable(null,GrayF32.class));
+		algs.add(FactoryDescribeRegionPoint.sift(null,null,GrayF32.class));
+		algs.add(FactoryDescribeRegionPoint.brief(new ConfigBrief(true),GrayF32.class));
+		algs.add(FactoryDescribeRegionPoint.brief(new ConfigBrief(false),GrayF32.class));
+
+		int minBlock = DescribeRegionPointBatch.MIN_BLOCK_POINTS;
+		try {
+			DescribeRegionPointBatch.MIN_BLOCK_POINTS = 5;
+
+			for( DescribeRegionPoint alg : algs ) {
+				assertTrue(alg instanceof DescribeRegionPointCopy);
+				final DescribeRegionPointBatch batch = new DescribeRegionPointBatch<>(alg);
+
+				// the copies from the first image must describe the second image, which is a different size
+				for( int trial = 0; trial < 2; trial++ ) {
+					image = new GrayF32(120-trial*30,100+trial*10);
+					ImageMiscOps.fillUniform(image,rand,0,200);
+					alg.setImage(image);
+
+					// serial results are added first then the concurrent results
+					final List<FastQueue<TupleDesc>> results = new ArrayList<>();
+					Runnable task = new Runnable() {
+						@Override
+						public void run() {
+							results.add(describe(batch));
+						}
+					};
+					BoofTesting.checkConcurrent(task,task);
+					FastQueue<TupleDesc> expected = results.get(0);
+					FastQueue<TupleDesc> found = results.get(1);
+
+					assertEquals(40,expected.size);
+					assertEquals(expected.size,found.size);
+					for (int i = 0; i < expected.size; i++) {
+						TupleDesc a = expected.get(i);
+						TupleDesc b = found.get(i);
+						for (int j = 0; j < a.size(); j++) {
+							assertEquals(alg.getClass().getSimpleName()+" "+i,a.getDouble(j),b.getDouble(j),0);
+						}
+					}
+				}
+			}
+		} finally {
+			DescribeRegionPointBatch.MIN_BLOCK_POINTS = minBlock;
+		}
+	}
+
+	private FastQueue<TupleDesc> describe( DescribeRegionPointBatch batch ) {
+		final DescribeRegionPoint alg = batch.getDescribe();
+		Random rand = new Random(2345);
+		locations.reset();
+		radii.reset();
+		orientations.reset();
+		for (int i = 0; i < 40; i++) {
+			locations.grow().set(rand.nextDouble()*image.width,rand.nextDouble()*image.height);
+			radii.push(2+rand.nextDouble()*8);
+			orientations.push((rand.nextDouble()-0.5)*Math.PI);
+		}
+
+		FastQueue<TupleDesc> descs = new FastQueue<TupleDesc>(TupleDesc.class,true) {
+			@Override
+			protected TupleDesc createInstance() {
+				return alg.createDescription();
+			}
+		};
+
+		batch.process(locations,radii,orientations,descs);
+		return descs;
+	}
+
+	/**
+	 * Copies of the describer should only be created when the number of blocks grows
+	 */
+	@Test
+	public void concurrent_copiesReused() {
+		int minBlock = DescribeRegionPointBatch.MIN_BLOCK_POINTS;
+		try {
+			DescribeRegionPointBatch.MIN_BLOCK_POINTS = 5;
+
+			BoofTesting.runConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					CountCopies alg = new CountCopies();
+					DescribeRegionPointBatch<GrayF32,TupleDesc_F64> batch = new DescribeRegionPointBatch<>(alg);
+					alg.setImage(image);
+
+					int numBlocks = BoofConcurrency.numberOfBlocks(40,5);
+					for( int trial = 0; trial < 3; trial++ ) {
+						processEvenPoints(batch, 40);
+						assertEquals(numBlocks, alg.copies);
+					}
+
+					// fewer blocks shouldn't create copies
+					processEvenPoints(batch, 10);
+					assertEquals(numBlocks, alg.copies);
+					processEvenPoints(batch, 40);
+					assertEquals(numBlocks, alg.copies);
+				}
+			});
+		} finally {
+			DescribeRegionPointBatch.MIN_BLOCK_POINTS = minBlock;
+		}
+	}
+
+	private void processEvenPoints( DescribeRegionPointBatch<GrayF32,TupleDesc_F64> batch , int N ) {
+		locations.reset();
+		radii.reset();
+		orientations.reset();
+		for (int i = 0; i < N; i++) {
+			locations.grow().set(2*i,0);
+			radii.push(1);
+			orientations.push(0);
+		}
+		FastQueue<TupleDesc_F64> descs = new FastQueue<TupleDesc_F64>(TupleDesc_F64.class,true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(1);
+			}
+		};
+		batch.process(locations,radii,orientations,descs);
+		assertEquals(N,descs.size);
+	}
+
+	/**
+	 * Points which can't be described should be removed from all the lists while preserving the order
+	 */
+	@Test
+	public void removeFailed() {
+		locations.reset();
+		radii.reset();
+		orientations.reset();
+		for (int i = 0; i < 10; i++) {
+			locations.grow().set(i,0);
+			radii.push(i);
+			orientations.push(i);
+		}
+
+		FastQueue<TupleDesc_F64> descs = new FastQueue<TupleDesc_F64>(TupleDesc_F64.class,true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(1);
+			}
+		};
+
+		new DescribeRegionPointBatch<>(new OddFails()).process(locations,radii,orientations,descs);
+
+		assertEquals(5,locations.size);
+		assertEquals(5,radii.size);
+		assertEquals(5,orientations.size);
+		assertEquals(5,descs.size);
+		for (int i = 0; i < 5; i++) {
+			assertEquals(i*2,locations.get(i).x,0);
+			assertEquals(i*2,radii.get(i),0);
+			assertEquals(i*2,orientations.get(i),0);
+			assertEquals(i*2,descs.get(i).value[0],0);
+		}
+	}
+
+	/**
+	 * Counts the number of copies which have been created
+	 */
+	private static class CountCopies extends OddFails implements DescribeRegionPointCopy<GrayF32,TupleDesc_F64> {
+		int copies;
+
+		@Override
+		public synchronized DescribeRegionPointCopy<GrayF32, TupleDesc_F64> copy() {
+			copies++;
+			return new CountCopies();
+		}
+	}
+
+	/**
+	 * Fails to describe points with an odd x-coordinate
+	 */
+	private static class OddFails implements DescribeRegionPoint<GrayF32,TupleDesc_F64> {
+		@Override
+		public void setImage(GrayF32 image) {}
+
+		@Override
+		public boolean process(double x, double y, double orientation, double radius, TupleDesc_F64 description) {
+			description.value[0] = x;
+			return ((int)x) % 2 == 0;
+		}
+
+		@Override
+		public boolean requiresRadius() {return false;}
+
+		@Override
+		public boolean requiresOrientation() {return false;}
+
+		@Override
+		public ImageType<GrayF32> getImageType() {return ImageType.single(GrayF32.class);}
+
+		@Override
+		public double getCanonicalWidth() {return 1;}
+
+		@Override
+		public TupleDesc_F64 createDescription() {return new TupleDesc_F64(1);}
+
+		@Override
+		public Class<TupleDesc_F64> getDescriptionType() {return TupleDesc_F64.class;}
+	}
+}
@@ -19,6 +19,7 @@
 package boofcv.alg.descriptor;
 
 import boofcv.struct.feature.*;
+import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
 import java.util.Random;
@@ -187,6 +188,31 @@ public class TestDescriptorDistance {
 		assertEquals(8,DescriptorDistance.hamming(0xF000000F));
 	}
 
+	@Test
+	public void hamming_packed() {
+		// odd number of ints to test the partially filled last word
+		FastQueue<TupleDesc_B> list = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < 15; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(96);
+			for( int j = 0; j < d.data.length; j++ )
+				d.data[j] = rand.nextInt();
+			list.add(d);
+		}
+		PackedTupleArray_B block = new PackedTupleArray_B();
+		block.setTo(list);
+
+		TupleDesc_B a = list.get(3);
+		long[] query = new long[block.numWords];
+		PackedTupleArray_B.pack(a,query,0);
+
+		int[] found = new int[list.size];
+		DescriptorDistance.hamming(query,block,found);
+
+		for( int i = 0; i < list.size; i++ ) {
+			assertEquals(hamming(a,list.get(i)),found[i]);
+		}
+	}
+
 	private int hamming( TupleDesc_B a, TupleDesc_B b) {
 		int ret = 0;
 		for( int i = 0; i < a.data.length; i++ ) {
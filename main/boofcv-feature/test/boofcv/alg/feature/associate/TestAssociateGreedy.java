@@ -19,11 +19,16 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 
 
@@ -101,6 +106,55 @@ public class TestAssociateGreedy {
 		assertEquals(2,fitScore[3],1e-5);
 	}
 
+	/**
+	 * Scoring rows in bulk should produce the same results as scoring one pair at a time
+	 */
+	@Test
+	public void bulkScore() {
+		Random rand = new Random(234);
+		FastQueue<TupleDesc_B> a = createBinary(rand,80);
+		FastQueue<TupleDesc_B> b = createBinary(rand,95);
+
+		final ScoreAssociateHamming_B hamming = new ScoreAssociateHamming_B();
+		ScoreAssociation<TupleDesc_B> single = new ScoreAssociation<TupleDesc_B>() {
+			@Override
+			public double score(TupleDesc_B a, TupleDesc_B b) {return hamming.score(a,b);}
+
+			@Override
+			public MatchScoreType getScoreType() {return hamming.getScoreType();}
+		};
+
+		for( boolean backwards : new boolean[]{false,true}) {
+			AssociateGreedy<TupleDesc_B> expected = new AssociateGreedy<>(single, backwards);
+			AssociateGreedy<TupleDesc_B> found = new AssociateGreedy<>(hamming, backwards);
+			expected.setMaxFitError(28);
+			found.setMaxFitError(28);
+
+			// call it twice to make sure the block is correctly reused
+			for( int trial = 0; trial < 2; trial++ ) {
+				expected.associate(a,b);
+				found.associate(b,a);
+				found.associate(a,b);
+
+				for( int i = 0; i < a.size; i++ ) {
+					assertEquals(expected.getPairs()[i],found.getPairs()[i]);
+					assertEquals(expected.getFitQuality()[i],found.getFitQuality()[i],1e-8);
+				}
+			}
+		}
+	}
+
+	private FastQueue<TupleDesc_B> createBinary( Random rand , int total ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(64);
+			for( int j = 0; j < d.data.length; j++ )
+				d.data[j] = rand.nextInt();
+			ret.add(d);
+		}
+		return ret;
+	}
+
 	private FastQueue<TupleDesc_F64> createData( double ...values )
 	{
 		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
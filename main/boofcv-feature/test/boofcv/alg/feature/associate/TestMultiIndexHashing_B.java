@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMultiIndexHashing_B {
+
+	Random rand = new Random(234);
+
+	int numBits = 256;
+
+	/**
+	 * Every description within the guaranteed distance should be found
+	 */
+	@Test
+	public void findNearest_guaranteed() {
+		findNearest_guaranteed(-1,0);
+		findNearest_guaranteed(-1,1);
+		findNearest_guaranteed(5,0);
+		findNearest_guaranteed(5,1);
+	}
+
+	private void findNearest_guaranteed( int maxTables , int radius ) {
+		FastQueue<TupleDesc_B> list = createRandom(300);
+
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(maxTables,radius);
+		alg.setDescriptions(list);
+
+		int numTables = alg.getNumTables();
+		assertEquals(maxTables <= 0 ? numBits/16 : maxTables, numTables);
+
+		// maximum number of bits which can be different while guaranteeing that it will be found
+		int maxFlips = numTables*(radius+1)-1;
+
+		for( int i = 0; i < list.size; i++ ) {
+			TupleDesc_B query = list.get(i).copy();
+			// only flip bits covered by the tables
+			for( int j = 0; j < maxFlips; j++ ) {
+				int bit = rand.nextInt(numTables*16);
+				query.data[bit/32] ^= 1 << (bit%32);
+			}
+
+			int expected = bruteForce(list,query);
+			int found = alg.findNearest(query,Double.MAX_VALUE);
+			assertEquals(DescriptorDistance.hamming(query,list.get(expected)),
+					DescriptorDistance.hamming(query,list.get(found)));
+			assertEquals(DescriptorDistance.hamming(query,list.get(found)),alg.getDistance(),0);
+		}
+	}
+
+	/**
+	 * Nothing farther away than the maximum distance should be returned
+	 */
+	@Test
+	public void findNearest_maxDistance() {
+		FastQueue<TupleDesc_B> list = createRandom(100);
+
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(-1,0);
+		alg.setDescriptions(list);
+
+		TupleDesc_B query = list.get(10).copy();
+		query.data[0] ^= 0x07;
+
+		assertEquals(10,alg.findNearest(query,3));
+		assertEquals(3,alg.getDistance(),0);
+		assertEquals(-1,alg.findNearest(query,2));
+		assertTrue(Double.isNaN(alg.getDistance()));
+	}
+
+	/**
+	 * When descriptions are equally close the one with the higher index should win, the same as AssociateGreedy
+	 */
+	@Test
+	public void findNearest_tie() {
+		FastQueue<TupleDesc_B> list = createRandom(100);
+		list.get(60).setTo(list.get(10));
+		list.get(30).setTo(list.get(10));
+
+		for( int radius = 0; radius <= 1; radius++ ) {
+			MultiIndexHashing_B alg = new MultiIndexHashing_B(-1,radius);
+			alg.setDescriptions(list);
+
+			assertEquals(60,alg.findNearest(list.get(10),Double.MAX_VALUE));
+			assertEquals(60,alg.findNearest(list.get(10),Double.MAX_VALUE,30));
+			assertEquals(30,alg.findNearest(list.get(10),Double.MAX_VALUE,60));
+		}
+	}
+
+	/**
+	 * The excluded description should never be returned, even if it's a perfect match
+	 */
+	@Test
+	public void findNearest_exclude() {
+		FastQueue<TupleDesc_B> list = createRandom(100);
+		// a copy of description 10 which is one bit different
+		list.get(20).setTo(list.get(10));
+		list.get(20).data[0] ^= 0x01;
+
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(-1,1);
+		alg.setDescriptions(list);
+
+		assertEquals(10,alg.findNearest(list.get(10),Double.MAX_VALUE,-1));
+		assertEquals(20,alg.findNearest(list.get(10),Double.MAX_VALUE,10));
+		assertEquals(1,alg.getDistance(),0);
+		assertEquals(-1,alg.findNearest(list.get(10),0,10));
+	}
+
+	/**
+	 * Change the set of descriptions and make sure the old ones aren't used
+	 */
+	@Test
+	public void setDescriptions_multipleCalls() {
+		FastQueue<TupleDesc_B> listA = createRandom(100);
+		FastQueue<TupleDesc_B> listB = createRandom(50);
+
+		MultiIndexHashing_B alg = new MultiIndexHashing_B(-1,0);
+		alg.setDescriptions(listA);
+		alg.setDescriptions(listB);
+
+		for( int i = 0; i < listB.size; i++ ) {
+			assertEquals(i,alg.findNearest(listB.get(i),0));
+		}
+		for( int i = 0; i < listA.size; i++ ) {
+			assertTrue(alg.findNearest(listA.get(i),Double.MAX_VALUE) < listB.size);
+		}
+	}
+
+	private int bruteForce( FastQueue<TupleDesc_B> list , TupleDesc_B query ) {
+		int best = -1;
+		int bestDistance = Integer.MAX_VALUE;
+		for( int i = 0; i < list.size; i++ ) {
+			int d = DescriptorDistance.hamming(query,list.get(i));
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	private FastQueue<TupleDesc_B> createRandom( int N ) {
+		FastQueue<TupleDesc_B> list = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < N; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(numBits);
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+			list.add(d);
+		}
+		return list;
+	}
+}
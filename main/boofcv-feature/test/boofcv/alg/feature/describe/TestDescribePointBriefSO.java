@@ -247,4 +247,29 @@ public class TestDescribePointBriefSO {
 		// sanity check.  the description should not be zero
 		assertTrue(desc.data[0] != 0 );
 	}
+
+	/**
+	 * Samples outside the image are zero.  A description along the border should be the same no matter which
+	 * feature was described before it.
+	 */
+	@Test
+	public void checkBorder_independentOfPrevious() {
+		GrayF32 input = createImage(width,height);
+
+		DescribePointBriefSO<GrayF32> algA = createAlg();
+		DescribePointBriefSO<GrayF32> algB = createAlg();
+		algA.setImage(input);
+		algB.setImage(input);
+
+		TupleDesc_B expected = algA.createFeature();
+		TupleDesc_B found = algB.createFeature();
+
+		algA.process(1, 2, 0.1f, briefRadius*1.2f, expected);
+		algB.process(width/2, height/2, 0.5f, briefRadius*1.2f, found);
+		algB.process(1, 2, 0.1f, briefRadius*1.2f, found);
+
+		for( int i = 0; i < expected.data.length; i++ ) {
+			assertEquals(expected.data[i],found.data[i]);
+		}
+	}
 }
@@ -22,6 +22,7 @@ import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxLimiter;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftDetector;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
 import boofcv.alg.misc.GImageMiscOps;
@@ -29,6 +30,7 @@ import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
 import org.junit.Test;
@@ -70,17 +72,75 @@ public class TestCompleteSift {
 		assertEquals(orientations.size,descriptions.size);
 	}
 
+	/**
+	 * Locations, orientations, and descriptions should be identical when scales are searched concurrently
+	 */
+	@Test
+	public void concurrent() {
+		final GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		final CompleteSift serial = createAlg(true);
+		final CompleteSift concurrent = createAlg(true);
+
+		BoofTesting.checkConcurrent(new Runnable() {
+			@Override
+			public void run() {
+				serial.process(image);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				concurrent.process(image);
+			}
+		});
+
+		assertTrue(serial.getOrientations().size > 10);
+		assertEquals(serial.getOrientations().size,concurrent.getOrientations().size);
+		for (int i = 0; i < serial.getOrientations().size; i++) {
+			assertEquals(serial.getOrientations().get(i),concurrent.getOrientations().get(i),0);
+
+			ScalePoint e = serial.getLocations().get(i);
+			ScalePoint f = concurrent.getLocations().get(i);
+			assertEquals(e.x,f.x,0);
+			assertEquals(e.y,f.y,0);
+			assertEquals(e.scale,f.scale,0);
+
+			double[] descE = serial.getDescriptions().get(i).value;
+			double[] descF = concurrent.getDescriptions().get(i).value;
+			for (int j = 0; j < descE.length; j++) {
+				assertEquals(descE[j],descF[j],0);
+			}
+		}
+	}
+
 	private CompleteSift createAlg() {
+		return createAlg(false);
+	}
+
+	private CompleteSift createAlg( boolean factory ) {
 
 		SiftScaleSpace ss = new SiftScaleSpace(-1,4,3,1.6);
 
-		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(new ConfigExtract(1,0,1,true,true,true));
-		NonMaxLimiter limiter = new NonMaxLimiter(nonmax,300);
 		OrientationHistogramSift<GrayF32> ori =
 				new OrientationHistogramSift<>(36,1.5,GrayF32.class);
 		DescribePointSift<GrayF32> describe =
 				new DescribePointSift<>(4,4,8,1.5,0.5,0.2,GrayF32.class);
 
-		return new CompleteSift(ss,10,limiter,ori,describe);
+		if( factory ) {
+			return new CompleteSift(ss,10,new SiftDetector.ExtractorFactory() {
+				@Override
+				public NonMaxLimiter createExtractor() {
+					return createLimiter();
+				}
+			},ori,describe);
+		} else {
+			return new CompleteSift(ss,10,createLimiter(),ori,describe);
+		}
+	}
+
+	private static NonMaxLimiter createLimiter() {
+		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(new ConfigExtract(1,0,1,true,true,true));
+		return new NonMaxLimiter(nonmax,300);
 	}
 }
\ No newline at end of file
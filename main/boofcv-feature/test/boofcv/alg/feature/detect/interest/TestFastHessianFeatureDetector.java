@@ -20,9 +20,20 @@ package boofcv.alg.feature.detect.interest;
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -49,4 +60,52 @@ public class TestFastHessianFeatureDetector extends GenericFeatureDetectorTests
 
 		return alg.getFoundPoints().size();
 	}
+
+	/**
+	 * The same features should be found in the same order when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		Random rand = new Random(234);
+		GrayF32 input = new GrayF32(120,100);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		for( int i = 0; i < 20; i++ ) {
+			int x = rand.nextInt(input.width-10);
+			int y = rand.nextInt(input.height-10);
+			ImageMiscOps.fillRectangle(input,200,x,y,3+rand.nextInt(6),3+rand.nextInt(6));
+		}
+		final GrayF32 integral = IntegralImageOps.transform(input,null);
+
+		for( int maxFeatures : new int[]{-1,5} ) {
+			final FastHessianFeatureDetector<GrayF32> alg = (FastHessianFeatureDetector<GrayF32>)createDetector(maxFeatures);
+
+			final List<ScalePoint> expected = new ArrayList<>();
+			final List<ScalePoint> found = new ArrayList<>();
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.detect(integral);
+					for( ScalePoint p : alg.getFoundPoints() ) {
+						expected.add(p.copy());
+					}
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.detect(integral);
+					found.addAll(alg.getFoundPoints());
+				}
+			});
+
+			assertTrue(expected.size() > 0);
+			assertEquals(expected.size(), found.size());
+			for( int i = 0; i < expected.size(); i++ ) {
+				ScalePoint e = expected.get(i);
+				ScalePoint f = found.get(i);
+				assertEquals(e.x, f.x, 0);
+				assertEquals(e.y, f.y, 0);
+				assertEquals(e.scale, f.scale, 0);
+			}
+		}
+	}
 }
@@ -25,9 +25,12 @@ import boofcv.alg.misc.GImageMiscOps;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 /**
@@ -192,6 +195,55 @@ public class TestSiftDetector {
 		assertFalse(alg.isEdge(50,50));
 	}
 
+	/**
+	 * Detections should be identical and in the same order when scales are processed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		final GrayF32 input = new GrayF32(200,180);
+		GImageMiscOps.fillUniform(input,new Random(234),0,200);
+
+		final SiftDetector serial = createConcurrentDetector();
+		final SiftDetector concurrent = createConcurrentDetector();
+
+		BoofTesting.checkConcurrent(new Runnable() {
+			@Override
+			public void run() {
+				serial.process(input);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				concurrent.process(input);
+			}
+		});
+
+		FastQueue<ScalePoint> expected = serial.getDetections();
+		FastQueue<ScalePoint> found = concurrent.getDetections();
+
+		assertTrue(expected.size > 10);
+		assertEquals(expected.size,found.size);
+		for (int i = 0; i < expected.size; i++) {
+			ScalePoint e = expected.get(i);
+			ScalePoint f = found.get(i);
+			assertEquals(e.x,f.x,0);
+			assertEquals(e.y,f.y,0);
+			assertEquals(e.scale,f.scale,0);
+			assertEquals(e.white,f.white);
+		}
+	}
+
+	private SiftDetector createConcurrentDetector() {
+		SiftScaleSpace ss = new SiftScaleSpace(-1,5,3,1.6);
+		return new SiftDetector(ss,10,new SiftDetector.ExtractorFactory() {
+			@Override
+			public NonMaxLimiter createExtractor() {
+				NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(new ConfigExtract(1,0,1,true,true,true));
+				return new NonMaxLimiter(nonmax,1000);
+			}
+		});
+	}
+
 	private SiftDetector createDetector() {
 		SiftScaleSpace ss = new SiftScaleSpace(-1,5,3,1.6);
 		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(new ConfigExtract(1,0,1,true,true,true));
@@ -20,9 +20,14 @@ package boofcv.alg.feature.detect.interest;
 
 import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.PixelMath;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.Assert.*;
@@ -94,6 +99,81 @@ public class TestSiftScaleSpace {
 		}
 	}
 
+	/**
+	 * Each DoG image should be the difference between two sequential scale images
+	 */
+	@Test
+	public void checkDifferenceOfGaussian() {
+		GrayF32 original = new GrayF32(200,170);
+		GImageMiscOps.fillUniform(original,rand,0,100);
+
+		SiftScaleSpace alg = new SiftScaleSpace(-1,3,3,1.6);
+		alg.initialize(original);
+
+		GrayF32 expected = new GrayF32(1,1);
+		do {
+			for (int i = 0; i < alg.getNumScaleImages()-1; i++) {
+				GrayF32 lower = alg.getImageScale(i);
+				GrayF32 upper = alg.getImageScale(i+1);
+				expected.reshape(lower.width,lower.height);
+				PixelMath.subtract(upper,lower,expected);
+
+				BoofTesting.assertEquals(expected,alg.getDifferenceOfGaussian(i),0);
+			}
+		} while( alg.computeNextOctave() );
+	}
+
+	/**
+	 * The scale space should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		final GrayF32 original = new GrayF32(150,130);
+		GImageMiscOps.fillUniform(original,rand,0,100);
+
+		int oldRows = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			final List<GrayF32> expected = new ArrayList<>();
+			final List<GrayF32> found = new ArrayList<>();
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					computeAllOctaves(original,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					computeAllOctaves(original,found);
+				}
+			});
+
+			assertEquals(expected.size(),found.size());
+			for (int i = 0; i < expected.size(); i++) {
+				BoofTesting.assertEquals(expected.get(i),found.get(i),0);
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldRows;
+		}
+	}
+
+	/**
+	 * Saves a copy of every scale and difference of gaussian image in every octave
+	 */
+	private static void computeAllOctaves( GrayF32 original , List<GrayF32> images ) {
+		SiftScaleSpace alg = new SiftScaleSpace(-1,3,3,1.6);
+		alg.initialize(original);
+		do {
+			for (int i = 0; i < alg.getNumScaleImages(); i++) {
+				images.add(alg.getImageScale(i).clone());
+			}
+			for (int i = 0; i < alg.getNumScaleImages()-1; i++) {
+				images.add(alg.getDifferenceOfGaussian(i).clone());
+			}
+		} while( alg.computeNextOctave() );
+	}
+
 	@Test
 	public void computeSigmaScale() {
 		SiftScaleSpace alg = new SiftScaleSpace(-1,4,3,1.6);
@@ -161,4 +241,31 @@ public class TestSiftScaleSpace {
 
 
 	}
+
+	/**
+	 * hasNextOctave() should predict computeNextOctave() without modifying the current octave
+	 */
+	@Test
+	public void hasNextOctave() {
+		GrayF32 input = new GrayF32(60,50);
+		GImageMiscOps.fillUniform(input,rand,0,100);
+
+		// limited by the last octave and by the image size
+		for( int lastOctave : new int[]{2,5} ) {
+			SiftScaleSpace alg = new SiftScaleSpace(0,lastOctave,3,1.6);
+			alg.initialize(input);
+
+			int total = 1;
+			while( true ) {
+				GrayF32 before = alg.getImageScale(1).clone();
+				boolean expected = alg.hasNextOctave();
+				BoofTesting.assertEquals(before,alg.getImageScale(1),0);
+				assertEquals(expected,alg.computeNextOctave());
+				if( !expected )
+					break;
+				total++;
+			}
+			assertEquals(lastOctave == 2 ? 3 : 5, total);
+		}
+	}
 }
\ No newline at end of file
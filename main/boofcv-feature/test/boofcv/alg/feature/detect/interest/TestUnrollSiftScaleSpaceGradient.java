@@ -29,6 +29,8 @@ import org.junit.Test;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -47,6 +49,10 @@ public class TestUnrollSiftScaleSpaceGradient {
 
 
 		UnrollSiftScaleSpaceGradient alg = new UnrollSiftScaleSpaceGradient(new SiftScaleSpace(-1,3,3,2));
+		// storage from the first image must be fully replaced by the second image
+		GrayF32 other = new GrayF32(320,200);
+		GImageMiscOps.fillUniform(other,rand,0,200);
+		alg.setImage(other);
 		alg.setImage(image);
 
 		SiftScaleSpace ss = new SiftScaleSpace(-1,3,3,2);
@@ -66,6 +72,7 @@ public class TestUnrollSiftScaleSpaceGradient {
 				GImageDerivativeOps.gradient(DerivativeType.THREE,scaleImage,derivX,derivY, BorderType.EXTENDED);
 
 				UnrollSiftScaleSpaceGradient.ImageScale found = alg.usedScales.get(total);
+				found.computeGradient();
 
 				BoofTesting.assertEquals(derivX,found.derivX,1e-4);
 				BoofTesting.assertEquals(derivY,found.derivY,1e-4);
@@ -77,6 +84,38 @@ public class TestUnrollSiftScaleSpaceGradient {
 		} while( ss.computeNextOctave() );
 	}
 
+	/**
+	 * The gradient should only be computed for scales which are looked up
+	 */
+	@Test
+	public void lookup_lazy() {
+		GrayF32 image = new GrayF32(320,240);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		UnrollSiftScaleSpaceGradient alg = new UnrollSiftScaleSpaceGradient(new SiftScaleSpace(-1,3,3,2));
+		alg.setImage(image);
+
+		for( UnrollSiftScaleSpaceGradient.ImageScale s : alg.usedScales ) {
+			assertFalse(s.computed);
+		}
+
+		UnrollSiftScaleSpaceGradient.ImageScale found = alg.lookup(4);
+		assertTrue(found.computed);
+		assertEquals(found.image.width,found.derivX.width);
+		assertEquals(found.image.height,found.derivY.height);
+
+		int total = 0;
+		for( UnrollSiftScaleSpaceGradient.ImageScale s : alg.usedScales ) {
+			if( s.computed )
+				total++;
+		}
+		assertEquals(1,total);
+
+		// a new image should invalidate the gradient
+		alg.setImage(image);
+		assertFalse(found.computed);
+	}
+
 	@Test
 	public void lookup() {
 		SiftScaleSpace ss = new SiftScaleSpace(-1,3,3,2);
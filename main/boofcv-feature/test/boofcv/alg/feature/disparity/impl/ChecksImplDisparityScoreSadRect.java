@@ -21,6 +21,7 @@ package boofcv.alg.feature.disparity.impl;
 import boofcv.alg.feature.disparity.DisparityScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
@@ -133,4 +134,49 @@ public abstract class ChecksImplDisparityScoreSadRect<I extends ImageGray<I>, DI
 
 		BoofTesting.assertEquals(found, expected, 1);
 	}
+
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one.  Validation
+	 * is turned on so that each strip's copy of the disparity selector is used.
+	 */
+	@Test
+	public void concurrent() {
+		int w = 40, h = 83;
+		final I left = GeneralizedImageOps.createSingleBand(imageType,w, h);
+		final I right = GeneralizedImageOps.createSingleBand(imageType,w, h);
+		GImageMiscOps.fillUniform(left, rand, 0, 20);
+		GImageMiscOps.fillUniform(right, rand, 0, 20);
+
+		DisparitySelect select;
+		if( imageType == GrayF32.class ) {
+			select = new ImplSelectRectStandard_F32_U8(-1,2,0.1);
+		} else {
+			select = new ImplSelectRectStandard_S32_U8(-1,2,0.1);
+		}
+
+		int minRows = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 5;
+
+			final DisparityScoreSadRect<I, DI> alg = createAlg(2,10,2,3,select);
+			final DI expected = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+			final DI found = GeneralizedImageOps.createSingleBand(disparityType,w,h);
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(left,right,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(left,right,found);
+				}
+			});
+
+			BoofTesting.assertEquals(expected, found, 0);
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minRows;
+		}
+	}
 }
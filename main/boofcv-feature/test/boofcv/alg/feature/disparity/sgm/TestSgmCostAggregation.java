@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAggregation {
+
+	Random rand = new Random(234);
+
+	int width = 17, height = 13, rangeDisparity = 7;
+	int maxCost = 24;
+
+	int[][] paths = new int[][]{{1,0},{-1,0},{0,1},{0,-1},{1,1},{-1,-1},{1,-1},{-1,1}};
+
+	@Test
+	public void compareToNaive() {
+		GrayU8 cost = new GrayU8(width*rangeDisparity,height);
+		ImageMiscOps.fillUniform(cost,rand,0,maxCost+1);
+
+		for( int numPaths : new int[]{4,8} ) {
+			SgmCostAggregation alg = new SgmCostAggregation(5,40,numPaths);
+
+			GrayU16 found = new GrayU16(1,1);
+			alg.process(cost,rangeDisparity,maxCost,found);
+
+			assertEquals(cost.width,found.width);
+			assertEquals(cost.height,found.height);
+
+			int[][][] expected = new int[height][width][rangeDisparity];
+			for( int i = 0; i < numPaths; i++ ) {
+				naivePath(cost,5,40,paths[i][0],paths[i][1],expected);
+			}
+
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					for( int d = 0; d < rangeDisparity; d++ ) {
+						assertEquals(expected[y][x][d],found.get(x*rangeDisparity+d,y));
+					}
+				}
+			}
+
+			// sub-images should produce the same results
+			GrayU16 foundSub = new GrayU16(1,1);
+			alg.process(BoofTesting.createSubImageOf(cost),rangeDisparity,maxCost,foundSub);
+			BoofTesting.assertEquals(found,foundSub,0);
+		}
+	}
+
+	/**
+	 * With no penalty each path is just the sum of the costs along the line
+	 */
+	@Test
+	public void zeroPenalty() {
+		GrayU8 cost = new GrayU8(width*rangeDisparity,height);
+		ImageMiscOps.fill(cost,3);
+
+		SgmCostAggregation alg = new SgmCostAggregation(0,0,4);
+		GrayU16 found = new GrayU16(1,1);
+		alg.process(cost,rangeDisparity,maxCost,found);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int i = 0; i < found.width; i++ ) {
+				assertEquals(4*3,found.get(i,y));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void overflow() {
+		GrayU8 cost = new GrayU8(width*rangeDisparity,height);
+		new SgmCostAggregation(5,10000,8).process(cost,rangeDisparity,maxCost,new GrayU16(1,1));
+	}
+
+	@Test
+	public void concurrent() {
+		final GrayU8 cost = new GrayU8(width*3*rangeDisparity,height*3);
+		ImageMiscOps.fillUniform(cost,rand,0,maxCost+1);
+
+		final SgmCostAggregation alg = new SgmCostAggregation(5,40,8);
+
+		int minBlock = SgmCostAggregation.MIN_BLOCK_LINES;
+		try {
+			SgmCostAggregation.MIN_BLOCK_LINES = 5;
+
+			final GrayU16 expected = new GrayU16(1,1);
+			final GrayU16 found = new GrayU16(1,1);
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(cost,rangeDisparity,maxCost,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(cost,rangeDisparity,maxCost,found);
+				}
+			});
+
+			BoofTesting.assertEquals(expected,found,0);
+		} finally {
+			SgmCostAggregation.MIN_BLOCK_LINES = minBlock;
+		}
+	}
+
+	/**
+	 * Computes the cost along a single path direction directly from the equation and adds it to the sum
+	 */
+	private void naivePath( GrayU8 cost , int P1 , int P2 , int dx , int dy , int[][][] sum ) {
+		int[][][] L = new int[height][width][rangeDisparity];
+
+		// traverse the image so that the previous pixel along the path is always processed first
+		for( int i = 0; i < height; i++ ) {
+			int y = dy >= 0 ? i : height-1-i;
+			for( int j = 0; j < width; j++ ) {
+				int x = dx >= 0 ? j : width-1-j;
+
+				int px = x-dx, py = y-dy;
+				boolean first = px < 0 || px >= width || py < 0 || py >= height;
+
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int c = cost.get(x*rangeDisparity+d,y);
+					if( first ) {
+						L[y][x][d] = c;
+					} else {
+						int[] prev = L[py][px];
+						int minPrev = Integer.MAX_VALUE;
+						for( int k = 0; k < rangeDisparity; k++ )
+							minPrev = Math.min(minPrev,prev[k]);
+
+						int best = prev[d];
+						if( d > 0 ) best = Math.min(best,prev[d-1]+P1);
+						if( d < rangeDisparity-1 ) best = Math.min(best,prev[d+1]+P1);
+						best = Math.min(best,minPrev+P2);
+
+						L[y][x][d] = c + best - minPrev;
+					}
+					sum[y][x][d] += L[y][x][d];
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostHamming {
+
+	Random rand = new Random(234);
+
+	int width = 20, height = 15;
+	int minDisparity = 2, rangeDisparity = 6;
+
+	@Test
+	public void compareToNaive() {
+		compareToNaive(GrayU8.class,8,256);
+		compareToNaive(GrayS32.class,24,1 << 24);
+		compareToNaive(GrayS64.class,62,-1);
+	}
+
+	private <T extends ImageGray<T>> void compareToNaive( Class<T> type , int maxCost , long maxValue ) {
+		T left = GeneralizedImageOps.createSingleBand(type,width,height);
+		T right = GeneralizedImageOps.createSingleBand(type,width,height);
+		fillUniform(left,maxValue);
+		fillUniform(right,maxValue);
+
+		SgmCostHamming alg = new SgmCostHamming();
+		alg.configure(minDisparity,rangeDisparity);
+
+		GrayU8 found = new GrayU8(1,1);
+		alg.process(left,right,maxCost,found);
+
+		assertEquals(width*rangeDisparity,found.width);
+		assertEquals(height,found.height);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					int xr = x - minDisparity - d;
+					int expected;
+					if( xr < 0 ) {
+						expected = maxCost;
+					} else {
+						long a = getLong(left,x,y);
+						long b = getLong(right,xr,y);
+						expected = Long.bitCount(a ^ b);
+					}
+					assertEquals(expected,found.get(x*rangeDisparity+d,y));
+				}
+			}
+		}
+
+		// sub-images should produce the same result
+		T subLeft = BoofTesting.createSubImageOf(left);
+		T subRight = BoofTesting.createSubImageOf(right);
+		GrayU8 foundSub = new GrayU8(1,1);
+		alg.process(subLeft,subRight,maxCost,foundSub);
+		BoofTesting.assertEquals(found,foundSub,0);
+	}
+
+	@Test
+	public void concurrent() {
+		final GrayS32 left = new GrayS32(width,height*4);
+		final GrayS32 right = new GrayS32(width,height*4);
+		GImageMiscOps.fillUniform(left,rand,0,1 << 24);
+		GImageMiscOps.fillUniform(right,rand,0,1 << 24);
+
+		final SgmCostHamming alg = new SgmCostHamming();
+		alg.configure(minDisparity,rangeDisparity);
+
+		int minBlock = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 5;
+
+			final GrayU8 expected = new GrayU8(1,1);
+			final GrayU8 found = new GrayU8(1,1);
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(left,right,24,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(left,right,24,found);
+				}
+			});
+
+			BoofTesting.assertEquals(expected,found,0);
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minBlock;
+		}
+	}
+
+	/**
+	 * Fills the image with random values.  If maxValue &lt; 0 then all 64-bits are filled
+	 */
+	private void fillUniform( ImageGray image , long maxValue ) {
+		if( maxValue < 0 ) {
+			GrayS64 img = (GrayS64)image;
+			for( int i = 0; i < img.data.length; i++ ) {
+				img.data[i] = rand.nextLong() & 0x3FFFFFFFFFFFFFFFL;
+			}
+		} else {
+			GImageMiscOps.fillUniform(image,rand,0,maxValue);
+		}
+	}
+
+	private static long getLong( ImageGray image , int x , int y ) {
+		if( image instanceof GrayU8 )
+			return ((GrayU8)image).get(x,y);
+		else if( image instanceof GrayS32 )
+			return ((GrayS32)image).get(x,y);
+		else
+			return ((GrayS64)image).get(x,y);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmDisparitySelector {
+
+	Random rand = new Random(234);
+
+	int width = 20, height = 10;
+	int minDisparity = 2, rangeDisparity = 5;
+	int invalid = rangeDisparity + 1;
+
+	/**
+	 * Every pixel has a clear minimum at the same disparity
+	 */
+	@Test
+	public void simple() {
+		GrayU16 aggregated = createVolume(3);
+
+		SgmDisparitySelector alg = new SgmDisparitySelector(-1,0);
+		GrayU8 disparity = new GrayU8(width,height);
+		alg.select(aggregated,minDisparity,rangeDisparity,disparity);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int localRange = Math.min(rangeDisparity,x-minDisparity+1);
+				if( localRange <= 0 )
+					assertEquals(invalid,disparity.get(x,y));
+				else if( localRange <= 3 ) {
+					// the true disparity is outside the right image, so the closest allowed one is selected
+					assertEquals(localRange-1,disparity.get(x,y));
+				} else
+					assertEquals(3,disparity.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * Ambiguous matches should be rejected
+	 */
+	@Test
+	public void texture() {
+		GrayU16 aggregated = createVolume(1);
+		// add a second minimum which is almost as good
+		int x = 12, y = 4;
+		aggregated.set(x*rangeDisparity+4,y,11);
+
+		GrayU8 disparity = new GrayU8(width,height);
+		new SgmDisparitySelector(-1,0).select(aggregated,minDisparity,rangeDisparity,disparity);
+		assertEquals(1,disparity.get(x,y));
+
+		new SgmDisparitySelector(-1,0.5).select(aggregated,minDisparity,rangeDisparity,disparity);
+		assertEquals(invalid,disparity.get(x,y));
+		assertEquals(1,disparity.get(x+1,y));
+	}
+
+	/**
+	 * Left to right should be consistent when every pixel has the same disparity.  Make a pixel in the
+	 * right image prefer a different pixel in the left and see if it's rejected
+	 */
+	@Test
+	public void rightToLeft() {
+		GrayU16 aggregated = createVolume(2);
+
+		GrayU8 disparity = new GrayU8(width,height);
+		SgmDisparitySelector alg = new SgmDisparitySelector(0,0);
+		alg.select(aggregated,minDisparity,rangeDisparity,disparity);
+		int x = 12, y = 4;
+		assertEquals(2,disparity.get(x,y));
+
+		// right pixel xr = x - min - 2 will now prefer disparity 4 from left pixel xr + min + 4
+		int xl = x + 2;
+		aggregated.set(xl*rangeDisparity+4,y,1);
+
+		alg.select(aggregated,minDisparity,rangeDisparity,disparity);
+		assertEquals(invalid,disparity.get(x,y));
+
+		// increasing the tolerance should allow it
+		alg.setRightToLeftTolerance(2);
+		alg.select(aggregated,minDisparity,rangeDisparity,disparity);
+		assertEquals(2,disparity.get(x,y));
+	}
+
+	@Test
+	public void subpixel() {
+		GrayU16 aggregated = createVolume(2);
+		int x = 12, y = 4;
+		int index = x*rangeDisparity;
+		aggregated.set(index+1,y,30);
+		aggregated.set(index+2,y,10);
+		aggregated.set(index+3,y,20);
+
+		GrayF32 disparity = new GrayF32(width,height);
+		new SgmDisparitySelector(-1,0).select(aggregated,minDisparity,rangeDisparity,disparity);
+
+		// parabola fit to the three points
+		float expected = 2 + (30f-20f)/(2f*(30-2*10+20));
+		assertEquals(expected,disparity.get(x,y),1e-4f);
+		assertEquals(invalid,disparity.get(0,y),1e-4f);
+	}
+
+	@Test
+	public void concurrent() {
+		final GrayU16 aggregated = new GrayU16(width*rangeDisparity,height*5);
+		ImageMiscOps.fillUniform(aggregated,rand,0,500);
+
+		final SgmDisparitySelector alg = new SgmDisparitySelector(1,0.1);
+
+		int minBlock = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 5;
+
+			final GrayF32 expected = new GrayF32(width,aggregated.height);
+			final GrayF32 found = new GrayF32(width,aggregated.height);
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.select(aggregated,minDisparity,rangeDisparity,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.select(aggregated,minDisparity,rangeDisparity,found);
+				}
+			});
+
+			BoofTesting.assertEquals(expected,found,0);
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minBlock;
+		}
+	}
+
+	/**
+	 * Creates a volume where the cost of each pixel is proportional to its distance from the specified disparity
+	 */
+	private GrayU16 createVolume( int disparity ) {
+		GrayU16 aggregated = new GrayU16(width*rangeDisparity,height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int d = 0; d < rangeDisparity; d++ ) {
+					aggregated.set(x*rangeDisparity+d,y,10+Math.abs(d-disparity)*20);
+				}
+			}
+		}
+		return aggregated;
+	}
+}
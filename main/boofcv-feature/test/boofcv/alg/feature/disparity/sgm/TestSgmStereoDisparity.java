@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.census.CensusVariants;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmStereoDisparity {
+
+	Random rand = new Random(234);
+
+	int width = 60, height = 40;
+	int minDisparity = 2, maxDisparity = 20;
+
+	/**
+	 * The left image is the right image shifted by a known amount.  Nearly all the pixels should have
+	 * the correct disparity
+	 */
+	@Test
+	public void knownShift() {
+		int shift = 8;
+		GrayU8 left = new GrayU8(width,height);
+		GrayU8 right = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(right,rand,0,255);
+		ImageMiscOps.fillUniform(left,rand,0,255);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = shift; x < width; x++ ) {
+				left.set(x,y,right.get(x-shift,y));
+			}
+		}
+
+		for( CensusVariants variant : CensusVariants.values() ) {
+			SgmStereoDisparity alg = new SgmStereoDisparity(variant,minDisparity,maxDisparity,
+					new SgmCostAggregation(5,50,8),new SgmDisparitySelector(1,0.1));
+
+			GrayU8 disparity = new GrayU8(width,height);
+			alg.process(left,right,disparity);
+
+			GrayF32 disparitySub = new GrayF32(width,height);
+			alg.process(left,right,disparitySub);
+
+			int total = 0, correct = 0;
+			for( int y = 0; y < height; y++ ) {
+				// skip the left border where the true match is outside the right image
+				for( int x = shift + 5; x < width; x++ ) {
+					total++;
+					if( disparity.get(x,y) == shift - minDisparity ) {
+						correct++;
+						assertEquals(shift - minDisparity,disparitySub.get(x,y),0.5f);
+					}
+				}
+			}
+			assertTrue(variant+" "+correct+"/"+total, correct >= total*0.95);
+
+			// no disparity should be found when the match is outside the right image
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < minDisparity; x++ ) {
+					assertEquals(maxDisparity - minDisparity + 1,disparity.get(x,y));
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void differentShapes() {
+		SgmStereoDisparity alg = new SgmStereoDisparity(CensusVariants.BLOCK_5_5,minDisparity,maxDisparity,
+				new SgmCostAggregation(5,50,8),new SgmDisparitySelector(1,0.1));
+		alg.process(new GrayU8(width,height),new GrayU8(width+1,height),new GrayU8(width,height));
+	}
+}
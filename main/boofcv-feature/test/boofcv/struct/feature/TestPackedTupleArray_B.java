@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.feature;
+
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedTupleArray_B {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void setTo_get() {
+		// even and odd number of ints
+		setTo_get(64);
+		setTo_get(96);
+		setTo_get(20);
+	}
+
+	private void setTo_get( int numBits ) {
+		FastQueue<TupleDesc_B> list = new FastQueue<>(TupleDesc_B.class,false);
+		for( int i = 0; i < 12; i++ ) {
+			TupleDesc_B d = new TupleDesc_B(numBits);
+			for( int j = 0; j < d.data.length; j++ )
+				d.data[j] = rand.nextInt();
+			list.add(d);
+		}
+
+		PackedTupleArray_B alg = new PackedTupleArray_B();
+		alg.setTo(list);
+
+		assertEquals(list.size,alg.size);
+		assertEquals(numBits,alg.numBits);
+		assertEquals((list.get(0).data.length+1)/2,alg.numWords);
+
+		TupleDesc_B found = new TupleDesc_B(numBits);
+		for( int i = 0; i < list.size; i++ ) {
+			alg.get(i,found);
+			for( int j = 0; j < found.data.length; j++ ) {
+				assertEquals(list.get(i).data[j],found.data[j]);
+			}
+		}
+	}
+
+	@Test
+	public void pack() {
+		TupleDesc_B d = new TupleDesc_B(96);
+		d.data[0] = 0x80000001;
+		d.data[1] = 0x00000002;
+		d.data[2] = 0xF0000000;
+
+		long[] packed = new long[3];
+		PackedTupleArray_B.pack(d,packed,1);
+
+		assertEquals(0,packed[0]);
+		assertEquals(0x0000000280000001L,packed[1]);
+		assertEquals(0x00000000F0000000L,packed[2]);
+	}
+}
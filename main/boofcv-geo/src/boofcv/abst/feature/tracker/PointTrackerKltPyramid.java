@@ -23,24 +23,43 @@ import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.*;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import georegression.struct.point.Point2D_I16;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
 
 import java.util.ArrayList;
 import java.util.List;
 
 
 /**
+ * <p>
  * Wrapper around {@link boofcv.alg.tracker.klt.PyramidKltTracker} for {@link PointTracker}.  Every track
  * will have the same size and shaped descriptor.  If any fault is encountered the track will be dropped.
+ * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then tracks are updated and the descriptions of
+ * spawned tracks are computed concurrently.  Each thread has its own {@link PyramidKltTracker} while the
+ * image pyramid and its gradient are shared.  The order of tracks and the ID of new tracks are the same
+ * as when run in a single thread.  Tracks are processed in a single thread if the interpolation doesn't
+ * implement {@link boofcv.concurrency.ConcurrentCopy}.
+ * </p>
  *
  * @author Peter Abeles
  */
 public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D>>
 		implements PointTracker<I>
 {
+	/**
+	 * Minimum number of tracks in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_TRACKS = 50;
+
 	// reference to input image
 	protected I input;
 
@@ -70,6 +89,17 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 	// the tracker
 	protected PyramidKltTracker<I, D> tracker;
 
+	// used to create a tracker for each thread
+	protected InterpolateRectangle<I> interpInput;
+	protected InterpolateRectangle<D> interpDeriv;
+	// trackers for each block of tracks when processed concurrently
+	protected FastQueue<PyramidKltTracker<I,D>> trackers;
+
+	// true if the track at the same index in the active list was successfully tracked
+	protected GrowQueue_B trackSuccess = new GrowQueue_B();
+	// features which are being considered as new tracks
+	protected List<PyramidKltFeature> candidates = new ArrayList<>();
+
 	// selects point features
 	private GeneralFeatureDetector<I, D> detector;
 	// list of corners which should be ignored by the corner detector
@@ -104,10 +134,19 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		this.gradient = gradient;
 		this.basePyramid = pyramid;
 		this.derivType = derivType;
+		this.interpInput = interpInput;
+		this.interpDeriv = interpDeriv;
 
 		KltTracker<I, D> klt = new KltTracker<>(interpInput, interpDeriv, config);
 		tracker = new PyramidKltTracker<>(klt);
 
+		trackers = new FastQueue<PyramidKltTracker<I,D>>(1,(Class)PyramidKltTracker.class,true) {
+			@Override
+			protected PyramidKltTracker<I,D> createInstance() {
+				return createTracker();
+			}
+		};
+
 		if( detector != null) {
 			if (detector.getRequiresHessian())
 				throw new IllegalArgumentException("Hessian based feature detectors not yet supported");
@@ -116,6 +155,23 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		}
 	}
 
+	/**
+	 * Creates a new tracker which has its own interpolation and internal workspace
+	 */
+	protected PyramidKltTracker<I,D> createTracker() {
+		KltTracker<I, D> klt = new KltTracker<>(
+				BoofConcurrency.copy(interpInput), BoofConcurrency.copy(interpDeriv), config);
+		return new PyramidKltTracker<>(klt);
+	}
+
+	/**
+	 * Tracks are only processed concurrently if the interpolation can be copied for each thread
+	 */
+	private boolean isConcurrent() {
+		return BoofConcurrency.USE_CONCURRENT &&
+				BoofConcurrency.isCopySupported(interpInput) && BoofConcurrency.isCopySupported(interpDeriv);
+	}
+
 	private void addTrackToUnused() {
 		int numLayers = basePyramid.getNumLayers();
 		PyramidKltFeature t = new PyramidKltFeature(numLayers, templateRadius);
@@ -186,15 +242,32 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		while( unused.size() < found.size() )
 			addTrackToUnused();
 
-		for (int i = 0; i < found.size() && !unused.isEmpty(); i++) {
+		candidates.clear();
+		for (int i = 0; i < found.size(); i++) {
 			Point2D_I16 pt = found.get(i);
 
 			// set up pyramid description
 			PyramidKltFeature t = unused.remove(unused.size() - 1);
 			t.x = pt.x * scaleBottom;
 			t.y = pt.y * scaleBottom;
+			candidates.add(t);
+		}
 
-			tracker.setDescription(t);
+		if( isConcurrent() ) {
+			BoofConcurrency.loopBlocks(0, candidates.size(), MIN_BLOCK_TRACKS, trackers,
+					new IntRangeObjectTask<PyramidKltTracker<I,D>>() {
+				@Override
+				public void process(PyramidKltTracker<I,D> tracker, int idx0, int idx1) {
+					tracker.setImage(basePyramid,derivX,derivY);
+					describeCandidates(tracker, idx0, idx1);
+				}
+			});
+		} else {
+			describeCandidates(tracker, 0, candidates.size());
+		}
+
+		for (int i = 0; i < candidates.size(); i++) {
+			PyramidKltFeature t = candidates.get(i);
 
 			// set up point description
 			PointTrack p = t.getCookie();
@@ -212,6 +285,15 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		}
 	}
 
+	/**
+	 * Sets up the description of candidate tracks in the range [idx0,idx1)
+	 */
+	protected void describeCandidates( PyramidKltTracker<I,D> tracker , int idx0 , int idx1 ) {
+		for (int i = idx0; i < idx1; i++) {
+			tracker.setDescription(candidates.get(i));
+		}
+	}
+
 	/**
 	 * Returns true if a new track can be spawned here.  Intended to be overloaded
 	 */
@@ -240,7 +322,40 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 		// track features
 		tracker.setImage(basePyramid,derivX,derivY);
-		for( int i = 0; i < active.size(); ) {
+		trackSuccess.resize(active.size());
+		if( isConcurrent() ) {
+			BoofConcurrency.loopBlocks(0, active.size(), MIN_BLOCK_TRACKS, trackers,
+					new IntRangeObjectTask<PyramidKltTracker<I,D>>() {
+				@Override
+				public void process(PyramidKltTracker<I,D> tracker, int idx0, int idx1) {
+					tracker.setImage(basePyramid,derivX,derivY);
+					trackFeatures(tracker, idx0, idx1);
+				}
+			});
+		} else {
+			trackFeatures(tracker, 0, active.size());
+		}
+
+		// drop tracks which failed while preserving the order of the others
+		int numKept = 0;
+		for( int i = 0; i < active.size(); i++ ) {
+			PyramidKltFeature t = active.get(i);
+			if( trackSuccess.data[i] ) {
+				active.set(numKept++, t);
+			} else {
+				dropped.add( t );
+				unused.add( t );
+			}
+		}
+		active.subList(numKept, active.size()).clear();
+	}
+
+	/**
+	 * Tracks active features in the range [idx0,idx1) and updates their description.  Only modifies
+	 * the features in the range and their success flags.
+	 */
+	protected void trackFeatures( PyramidKltTracker<I,D> tracker , int idx0 , int idx1 ) {
+		for( int i = idx0; i < idx1; i++ ) {
 			PyramidKltFeature t = active.get(i);
 			KltTrackFault ret = tracker.track(t);
 
@@ -248,19 +363,14 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 			if( ret == KltTrackFault.SUCCESS ) {
 				// discard a track if its center drifts outside the image.
-				if( image.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
+				if( input.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
 					PointTrack p = t.getCookie();
 					p.set(t.x,t.y);
-					i++;
 					success = true;
 				}
 			}
 
-			if( !success ) {
-				active.remove(i);
-				dropped.add( t );
-				unused.add( t );
-			}
+			trackSuccess.data[i] = success;
 		}
 	}
 
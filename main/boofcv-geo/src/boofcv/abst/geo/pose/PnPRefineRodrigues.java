@@ -19,9 +19,8 @@
 package boofcv.abst.geo.pose;
 
 import boofcv.abst.geo.RefinePnP;
-import boofcv.abst.geo.optimization.ResidualsCodecToMatrix;
 import boofcv.alg.geo.pose.PnPJacobianRodrigues;
-import boofcv.alg.geo.pose.PnPResidualReprojection;
+import boofcv.alg.geo.pose.PnPResidualRodrigues;
 import boofcv.alg.geo.pose.PnPRodriguesCodec;
 import boofcv.struct.geo.Point2D3D;
 import georegression.struct.se.Se3_F64;
@@ -40,7 +39,7 @@ import java.util.List;
 public class PnPRefineRodrigues implements RefinePnP {
 
 	ModelCodec<Se3_F64> paramModel = new PnPRodriguesCodec();
-	ResidualsCodecToMatrix<Se3_F64,Point2D3D> func;
+	PnPResidualRodrigues func = new PnPResidualRodrigues();
 	PnPJacobianRodrigues jacobian = new PnPJacobianRodrigues();
 
 	double param[];
@@ -54,8 +53,6 @@ public class PnPRefineRodrigues implements RefinePnP {
 		this.convergenceTol = convergenceTol;
 		this.minimizer = FactoryOptimization.leastSquareLevenberg(1e-3);
 
-		func = new ResidualsCodecToMatrix<>(paramModel, new PnPResidualReprojection(), new Se3_F64());
-
 		param = new double[paramModel.getParamLength()];
 	}
 
@@ -18,20 +18,25 @@
 
 package boofcv.alg.distort;
 
+import boofcv.struct.distort.Point2Transform2Batch_F32;
 import boofcv.struct.distort.Point2Transform2_F32;
 import georegression.struct.point.Point2D_F32;
 
 /**
  * Applies a transform which outputs normalized image coordinates then converts that into
- * pixel coordinates
+ * pixel coordinates. Batches of points are passed to the first transform all at once if it
+ * implements {@link Point2Transform2Batch_F32}.
  *
  * @author Peter Abeles
  */
-public class Transform2ThenPixel_F32 implements Point2Transform2_F32 {
+public class Transform2ThenPixel_F32 implements Point2Transform2Batch_F32 {
 
 	float fx, fy, skew, cx, cy;
 	Point2Transform2_F32 first;
 
+	// storage for when the first transform processes one point at a time
+	Point2D_F32 work = new Point2D_F32();
+
 	public Transform2ThenPixel_F32(Point2Transform2_F32 first) {
 		this.first = first;
 	}
@@ -53,4 +58,23 @@ public class Transform2ThenPixel_F32 implements Point2Transform2_F32 {
 		out.x = fx*x + skew*y + cx;
 		out.y = fy*y + cy;
 	}
+
+	@Override
+	public void compute( float[] x, float[] y, int length ) {
+		if( first instanceof Point2Transform2Batch_F32 ) {
+			((Point2Transform2Batch_F32)first).compute(x,y,length);
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				first.compute(x[i],y[i],work);
+				x[i] = work.x;
+				y[i] = work.y;
+			}
+		}
+
+		for( int i = 0; i < length; i++ ) {
+			float nx = x[i], ny = y[i];
+			x[i] = fx*nx + skew*ny + cx;
+			y[i] = fy*ny + cy;
+		}
+	}
 }
@@ -18,20 +18,25 @@
 
 package boofcv.alg.distort;
 
+import boofcv.struct.distort.Point2Transform2Batch_F64;
 import boofcv.struct.distort.Point2Transform2_F64;
 import georegression.struct.point.Point2D_F64;
 
 /**
  * Applies a transform which outputs normalized image coordinates then converts that into
- * pixel coordinates
+ * pixel coordinates. Batches of points are passed to the first transform all at once if it
+ * implements {@link Point2Transform2Batch_F64}.
  *
  * @author Peter Abeles
  */
-public class Transform2ThenPixel_F64 implements Point2Transform2_F64 {
+public class Transform2ThenPixel_F64 implements Point2Transform2Batch_F64 {
 
 	double fx, fy, skew, cx, cy;
 	Point2Transform2_F64 first;
 
+	// storage for when the first transform processes one point at a time
+	Point2D_F64 work = new Point2D_F64();
+
 	public Transform2ThenPixel_F64(Point2Transform2_F64 first) {
 		this.first = first;
 	}
@@ -53,4 +58,23 @@ public class Transform2ThenPixel_F64 implements Point2Transform2_F64 {
 		out.x = fx*x + skew*y + cx;
 		out.y = fy*y + cy;
 	}
+
+	@Override
+	public void compute( double[] x, double[] y, int length ) {
+		if( first instanceof Point2Transform2Batch_F64 ) {
+			((Point2Transform2Batch_F64)first).compute(x,y,length);
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				first.compute(x[i],y[i],work);
+				x[i] = work.x;
+				y[i] = work.y;
+			}
+		}
+
+		for( int i = 0; i < length; i++ ) {
+			double nx = x[i], ny = y[i];
+			x[i] = fx*nx + skew*ny + cx;
+			y[i] = fy*ny + cy;
+		}
+	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.alg.distort.pinhole;
 
-import boofcv.struct.distort.Point2Transform2_F32;
+import boofcv.struct.distort.Point2Transform2Batch_F32;
 import georegression.struct.point.Point2D_F32;
 
 /**
@@ -26,7 +26,7 @@ import georegression.struct.point.Point2D_F32;
  *
  * @author Peter Abeles
  */
-public class PinholeNtoP_F32 implements Point2Transform2_F32 {
+public class PinholeNtoP_F32 implements Point2Transform2Batch_F32 {
 
 	// camera calibration matrix
 	private float fx, fy, skew, cx, cy;
@@ -46,4 +46,13 @@ public class PinholeNtoP_F32 implements Point2Transform2_F32 {
 		out.x = fx * x + skew * y + cx;
 		out.y = fy * y + cy;
 	}
+
+	@Override
+	public void compute( float[] x, float[] y, int length ) {
+		for( int i = 0; i < length; i++ ) {
+			float nx = x[i], ny = y[i];
+			x[i] = fx * nx + skew * ny + cx;
+			y[i] = fy * ny + cy;
+		}
+	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.alg.distort.pinhole;
 
-import boofcv.struct.distort.Point2Transform2_F64;
+import boofcv.struct.distort.Point2Transform2Batch_F64;
 import georegression.struct.point.Point2D_F64;
 
 /**
@@ -26,7 +26,7 @@ import georegression.struct.point.Point2D_F64;
  *
  * @author Peter Abeles
  */
-public class PinholeNtoP_F64 implements Point2Transform2_F64 {
+public class PinholeNtoP_F64 implements Point2Transform2Batch_F64 {
 
 	// camera calibration matrix
 	private double fx, fy, skew, cx, cy;
@@ -46,4 +46,13 @@ public class PinholeNtoP_F64 implements Point2Transform2_F64 {
 		out.x = fx * x + skew * y + cx;
 		out.y = fy * y + cy;
 	}
+
+	@Override
+	public void compute( double[] x, double[] y, int length ) {
+		for( int i = 0; i < length; i++ ) {
+			double nx = x[i], ny = y[i];
+			x[i] = fx * nx + skew * ny + cx;
+			y[i] = fy * ny + cy;
+		}
+	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.alg.distort.pinhole;
 
-import boofcv.struct.distort.Point2Transform2_F32;
+import boofcv.struct.distort.Point2Transform2Batch_F32;
 import georegression.struct.point.Point2D_F32;
 
 /**
@@ -27,7 +27,7 @@ import georegression.struct.point.Point2D_F32;
  *
  * @author Peter Abeles
  */
-public class PinholePtoN_F32 implements Point2Transform2_F32 {
+public class PinholePtoN_F32 implements Point2Transform2Batch_F32 {
 
 	// inverse of camera calibration matrix
 	// These are the upper triangular elements in a 3x3 matrix
@@ -49,4 +49,13 @@ public class PinholePtoN_F32 implements Point2Transform2_F32 {
 		out.x = a11*x + a12*y + a13;
 		out.y = a22*y + a23;
 	}
+
+	@Override
+	public void compute( float[] x, float[] y, int length ) {
+		for( int i = 0; i < length; i++ ) {
+			float px = x[i], py = y[i];
+			x[i] = a11*px + a12*py + a13;
+			y[i] = a22*py + a23;
+		}
+	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.alg.distort.pinhole;
 
-import boofcv.struct.distort.Point2Transform2_F64;
+import boofcv.struct.distort.Point2Transform2Batch_F64;
 import georegression.struct.point.Point2D_F64;
 
 /**
@@ -27,7 +27,7 @@ import georegression.struct.point.Point2D_F64;
  *
  * @author Peter Abeles
  */
-public class PinholePtoN_F64 implements Point2Transform2_F64 {
+public class PinholePtoN_F64 implements Point2Transform2Batch_F64 {
 
 	// inverse of camera calibration matrix
 	// These are the upper triangular elements in a 3x3 matrix
@@ -49,4 +49,13 @@ public class PinholePtoN_F64 implements Point2Transform2_F64 {
 		out.x = a11*x + a12*y + a13;
 		out.y = a22*y + a23;
 	}
+
+	@Override
+	public void compute( double[] x, double[] y, int length ) {
+		for( int i = 0; i < length; i++ ) {
+			double px = x[i], py = y[i];
+			x[i] = a11*px + a12*py + a13;
+			y[i] = a22*py + a23;
+		}
+	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.alg.distort.radtan;
 
-import boofcv.struct.distort.Point2Transform2_F64;
+import boofcv.struct.distort.Point2Transform2Batch_F64;
 import georegression.struct.point.Point2D_F64;
 
 /**
@@ -26,10 +26,13 @@ import georegression.struct.point.Point2D_F64;
  *
  * @author Peter Abeles
  */
-public class AddRadialNtoN_F64 implements Point2Transform2_F64 {
+public class AddRadialNtoN_F64 implements Point2Transform2Batch_F64 {
 
 	private RadialTangential_F64 params;
 
+	// storage for batches with more than three radial parameters
+	private Point2D_F64 work = new Point2D_F64();
+
 	public AddRadialNtoN_F64() {
 	}
 
@@ -72,4 +75,39 @@ public class AddRadialNtoN_F64 implements Point2Transform2_F64 {
 		out.x += 2*t1*x*y + t2*(r2 + 2*x*x);
 		out.y += t1*(r2 + 2*y*y) + 2*t2*x*y;
 	}
+
+	/**
+	 * Adds radial distortion to a batch of points. The common case of up to three radial parameters is handled
+	 * by a single branch free loop with the polynomial unrolled, which the JIT can optimize far better than
+	 * the general loop.
+	 */
+	@Override
+	public void compute( double[] x, double[] y, int length ) {
+		double[] radial = params.radial;
+		if( radial.length > 3 ) {
+			for( int i = 0; i < length; i++ ) {
+				compute(x[i],y[i],work);
+				x[i] = work.x;
+				y[i] = work.y;
+			}
+			return;
+		}
+
+		double k1 = radial.length > 0 ? radial[0] : 0;
+		double k2 = radial.length > 1 ? radial[1] : 0;
+		double k3 = radial.length > 2 ? radial[2] : 0;
+		double t1 = params.t1, t2 = params.t2;
+
+		for( int i = 0; i < length; i++ ) {
+			double nx = x[i], ny = y[i];
+
+			double r2 = nx*nx + ny*ny;
+			double r4 = r2*r2;
+			double r6 = r4*r2;
+			double sum = k1*r2 + k2*r4 + k3*r6;
+
+			x[i] = nx*(1 + sum) + (2*t1*nx*ny + t2*(r2 + 2*nx*nx));
+			y[i] = ny*(1 + sum) + (t1*(r2 + 2*ny*ny) + 2*t2*nx*ny);
+		}
+	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.alg.distort.radtan;
 
-import boofcv.struct.distort.Point2Transform2_F32;
+import boofcv.struct.distort.Point2Transform2Batch_F32;
 import georegression.struct.point.Point2D_F32;
 
 /**
@@ -26,7 +26,7 @@ import georegression.struct.point.Point2D_F32;
  *
  * @author Peter Abeles
  */
-public class AddRadialPtoN_F32 implements Point2Transform2_F32 {
+public class AddRadialPtoN_F32 implements Point2Transform2Batch_F32 {
 
 	// distortion parameters
 	protected RadialTangential_F32 params;
@@ -35,6 +35,9 @@ public class AddRadialPtoN_F32 implements Point2Transform2_F32 {
 	// These are the upper triangular elements in a 3x3 matrix
 	private float a11,a12,a13,a22,a23;
 
+	// storage for batches with more than three radial parameters
+	private Point2D_F32 work = new Point2D_F32();
+
 	public AddRadialPtoN_F32() {
 	}
 
@@ -102,4 +105,41 @@ public class AddRadialPtoN_F32 implements Point2Transform2_F32 {
 		out.x = out.x*(1 + sum) + tx;
 		out.y = out.y*(1 + sum) + ty;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Adds radial distortion to a batch of points. The common case of up to three radial parameters is handled
+	 * by a single branch free loop with the polynomial unrolled, which the JIT can optimize far better than
+	 * the general loop.
+	 */
+	@Override
+	public void compute( float[] x, float[] y, int length ) {
+		float[] radial = params.radial;
+		if( radial.length > 3 ) {
+			for( int i = 0; i < length; i++ ) {
+				compute(x[i],y[i],work);
+				x[i] = work.x;
+				y[i] = work.y;
+			}
+			return;
+		}
+
+		float k1 = radial.length > 0 ? radial[0] : 0;
+		float k2 = radial.length > 1 ? radial[1] : 0;
+		float k3 = radial.length > 2 ? radial[2] : 0;
+		float t1 = params.t1, t2 = params.t2;
+
+		for( int i = 0; i < length; i++ ) {
+			// undistorted normalized image coordinate
+			float nx = a11*x[i] + a12*y[i] + a13;
+			float ny = a22*y[i] + a23;
+
+			float r2 = nx*nx + ny*ny;
+			float r4 = r2*r2;
+			float r6 = r4*r2;
+			float sum = k1*r2 + k2*r4 + k3*r6;
+
+			x[i] = nx*(1 + sum) + (2*t1*nx*ny + t2*(r2 + 2*nx*nx));
+			y[i] = ny*(1 + sum) + (t1*(r2 + 2*ny*ny) + 2*t2*nx*ny);
+		}
+	}
+}
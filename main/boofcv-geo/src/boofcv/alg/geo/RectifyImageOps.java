@@ -19,8 +19,8 @@
 package boofcv.alg.geo;
 
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformHomography_F32;
 import boofcv.alg.distort.PointToPixelTransform_F32;
-import boofcv.alg.distort.PointTransformHomography_F32;
 import boofcv.alg.geo.impl.ImplRectifyImageOps_F32;
 import boofcv.alg.geo.impl.ImplRectifyImageOps_F64;
 import boofcv.alg.geo.rectify.RectifyCalibrated;
@@ -37,6 +37,8 @@ import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import georegression.struct.homography.Homography2D_F32;
+import georegression.struct.homography.UtilHomography_F32;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.data.FMatrixRMaj;
 import org.ejml.dense.row.CommonOps_FDRM;
@@ -386,13 +388,15 @@ public class RectifyImageOps {
 
 		FMatrixRMaj rectifyInv = new FMatrixRMaj(3,3);
 		CommonOps_FDRM.invert(rectify,rectifyInv);
-		PointTransformHomography_F32 rectifyTran = new PointTransformHomography_F32(rectifyInv);
+		Homography2D_F32 rectifyHomo = new Homography2D_F32();
+		UtilHomography_F32.convert(rectifyInv, rectifyHomo);
 
 		// don't bother caching the results since it is likely to only be applied once and is cheap to compute
 		ImageDistort<T,T> ret = FactoryDistort.distortSB(false, interp, imageType);
 		ret.setRenderAll(!skip);
 
-		ret.setModel(new PointToPixelTransform_F32(rectifyTran));
+		// pixel transform allows the image to be rendered concurrently
+		ret.setModel(new PixelTransformHomography_F32(rectifyHomo));
 
 		return ret;
 	}
@@ -18,9 +18,10 @@
 
 package boofcv.alg.geo.bundle;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import georegression.struct.point.Point3D_F64;
 import georegression.struct.se.Se3_F64;
-import georegression.transform.se.SePointOps_F64;
 import org.ddogleg.fitting.modelset.ModelCodec;
 import org.ddogleg.optimization.functions.FunctionNtoM;
 import org.ddogleg.struct.FastQueue;
@@ -37,11 +38,21 @@ import java.util.List;
  * cost(P) = (1/(m*n))*&sum;<sub>i</sub> &sum;<sub>j</sub> ||x<sub>j</sub> - (1/z)*[R<sub>i</sub>|T<sub>i</sub>]*X<sub>j</sub>||<sup>2</sup>
  * </p>
  *
+ * <p>
+ * Observations are split into blocks which are processed concurrently if {@link BoofConcurrency#USE_CONCURRENT}
+ * is true.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class CalibPoseAndPointResiduals
 	implements FunctionNtoM
 {
+	/**
+	 * Minimum number of observations in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_OBSERVATIONS = 1000;
+
 	// decodes parameterized model
 	ModelCodec<CalibratedPoseAndPoint> codec;
 
@@ -53,8 +64,8 @@ public class CalibPoseAndPointResiduals
 	// number of observations.  2 for each point in each view
 	int numObservations;
 
-	// local variable which stores the predicted location of the feature in the camera frame
-	Point3D_F64 cameraPt = new Point3D_F64();
+	// for each view, index of its first observed point.  Has numViews+1 elements
+	int viewObsStart[] = new int[0];
 
 	/**
 	 * Configures the residual function.
@@ -70,10 +81,16 @@ public class CalibPoseAndPointResiduals
 		this.codec = codec;
 		this.observations = obs;
 
+		int numViews = model.getNumViews();
+		if( viewObsStart.length < numViews+1 )
+			viewObsStart = new int[numViews+1];
+
 		numObservations = 0;
-		for( int view = 0; view < model.getNumViews(); view++ ) {
+		for( int view = 0; view < numViews; view++ ) {
+			viewObsStart[view] = numObservations/2;
 			numObservations += obs.get(view).getPoints().size()*2;
 		}
+		viewObsStart[numViews] = numObservations/2;
 	}
 
 	@Override
@@ -94,23 +111,51 @@ public class CalibPoseAndPointResiduals
 		process(model,output);
 	}
 
-	public void process(CalibratedPoseAndPoint model , double[] output) {
-		int outputIndex = 0;
+	public void process(final CalibratedPoseAndPoint model , final double[] output) {
+		int numPointObs = numObservations/2;
+
+		BoofConcurrency.loopBlocks(0, numPointObs, MIN_BLOCK_OBSERVATIONS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				computeResiduals(model, idx0, idx1, output);
+			}
+		});
+	}
+
+	/**
+	 * Computes the residuals for observations in the range [idx0,idx1), where observations are ordered by view.
+	 */
+	void computeResiduals( CalibratedPoseAndPoint model , int idx0 , int idx1 , double[] output ) {
+		int numViews = model.getNumViews();
+
+		// find the view which contains the first observation
+		int view = 0;
+		while( view < numViews && viewObsStart[view+1] <= idx0 )
+			view++;
 
-		for( int view = 0; view < model.getNumViews(); view++) {
+		int outputIndex = idx0*2;
+		int index = idx0;
+		for( ; view < numViews && index < idx1; view++ ) {
 			Se3_F64 worldToCamera = model.getWorldToCamera(view);
+			double[] R = worldToCamera.getR().data;
+			double tx = worldToCamera.getT().x, ty = worldToCamera.getT().y, tz = worldToCamera.getT().z;
 
 			FastQueue<PointIndexObservation> observedPts = observations.get(view).getPoints();
 
-			for( int i = 0; i < observedPts.size; i++ ) {
-				PointIndexObservation o = observedPts.data[i];
+			int end = Math.min(idx1,viewObsStart[view+1]);
+			for( ; index < end; index++ ) {
+				PointIndexObservation o = observedPts.data[index-viewObsStart[view]];
 
-				Point3D_F64 worldPt = model.getPoint(o.pointIndex);
+				Point3D_F64 p = model.getPoint(o.pointIndex);
 
-				SePointOps_F64.transform(worldToCamera, worldPt, cameraPt);
+				// location of the point in the camera frame
+				double x = R[0]*p.x + R[1]*p.y + R[2]*p.z + tx;
+				double y = R[3]*p.x + R[4]*p.y + R[5]*p.z + ty;
+				double z = R[6]*p.x + R[7]*p.y + R[8]*p.z + tz;
 
-				output[outputIndex++] = cameraPt.x/cameraPt.z - o.obs.x;
-				output[outputIndex++] = cameraPt.y/cameraPt.z - o.obs.y;
+				output[outputIndex++] = x/z - o.obs.x;
+				output[outputIndex++] = y/z - o.obs.y;
 			}
 		}
 	}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import boofcv.alg.geo.RodriguesRotationJacobian;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.se.Se3_F64;
+import georegression.struct.so.Rodrigues_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ejml.data.DMatrixRMaj;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Computes the same Jacobian as {@link CalibPoseAndPointRodriguesJacobian} but only stores its non-zero blocks.
+ * Each observation only depends on the extrinsic parameters of the view it was made in and the location of the
+ * point.  For observation 'k' the 2x6 block for the view and the 2x3 block for the point are saved in row-major
+ * order at index k*12 in {@link #getJacobianView()} and k*6 in {@link #getJacobianPoint()}.  The view block is
+ * not written if the view's extrinsic parameters are known.
+ * </p>
+ *
+ * <p>
+ * Observations are ordered by view, in the same order as the residuals.  They are split into blocks which
+ * are processed concurrently if {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CalibPoseAndPointRodriguesBlockJacobian {
+
+	/**
+	 * Minimum number of observations in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_OBSERVATIONS = 500;
+
+	// if the extrinsic parameters are known, specify them here
+	Se3_F64 extrinsic[];
+	// observed location of features in each view
+	List<ViewPointObservations> observations;
+
+	// number of camera views
+	int numViews;
+	// number of points in world coordinates
+	int numPoints;
+	// number of views with unknown extrinsic parameters
+	int numViewsUnknown;
+	// number of observations across all views
+	int numObservations;
+	// index in parameters of the first point
+	int indexFirstPoint;
+
+	// for each observation, the index of the unknown view it was made in or -1 if the view is known
+	int obsViewUnknown[] = new int[0];
+	// for each observation, the index of the point which was observed
+	int obsPoint[] = new int[0];
+	// for each view, index of its first observation.  Has numViews+1 elements
+	int viewObsStart[] = new int[0];
+
+	// Rotation matrix, its partials for each Rodrigues parameter, and translation for each view
+	double viewR[] = new double[0];
+	double viewRodJac[] = new double[0];
+	double viewT[] = new double[0];
+
+	// storage for the output
+	double jacView[] = new double[0];
+	double jacPoint[] = new double[0];
+
+	// used to compute the Jacobian from Rodrigues coordinates
+	RodriguesRotationJacobian rodJacobian = new RodriguesRotationJacobian();
+	Rodrigues_F64 rodrigues = new Rodrigues_F64();
+	DMatrixRMaj R = new DMatrixRMaj(3,3);
+
+	/**
+	 * Specifies the observations and which views are known.
+	 *
+	 * @param observations Observations in each view
+	 * @param numPoints Number of points
+	 * @param extrinsic Array with one element for each view.  If an element isn't null then the view is known.
+	 */
+	public void configure( List<ViewPointObservations> observations , int numPoints , Se3_F64 ...extrinsic) {
+		if( extrinsic.length < observations.size() )
+			throw new RuntimeException("knownExtrinsic length is less than the number of views in 'observations'");
+
+		this.observations = observations;
+		this.extrinsic = extrinsic;
+		this.numViews = observations.size();
+		this.numPoints = numPoints;
+
+		numViewsUnknown = 0;
+		numObservations = 0;
+		for( int i = 0; i < numViews; i++ ) {
+			if( extrinsic[i] == null )
+				numViewsUnknown++;
+			numObservations += observations.get(i).points.size;
+		}
+		indexFirstPoint = numViewsUnknown*6;
+
+		if( obsPoint.length < numObservations ) {
+			obsViewUnknown = new int[numObservations];
+			obsPoint = new int[numObservations];
+			jacView = new double[numObservations*12];
+			jacPoint = new double[numObservations*6];
+		}
+		if( viewObsStart.length < numViews+1 ) {
+			viewObsStart = new int[numViews+1];
+			viewR = new double[numViews*9];
+			viewRodJac = new double[numViews*27];
+			viewT = new double[numViews*3];
+		}
+
+		int indexObs = 0;
+		int indexUnknown = 0;
+		for( int i = 0; i < numViews; i++ ) {
+			viewObsStart[i] = indexObs;
+			int unknown = extrinsic[i] == null ? indexUnknown++ : -1;
+
+			FastQueue<PointIndexObservation> points = observations.get(i).points;
+			for( int j = 0; j < points.size; j++ , indexObs++ ) {
+				obsViewUnknown[indexObs] = unknown;
+				obsPoint[indexObs] = points.data[j].pointIndex;
+			}
+		}
+		viewObsStart[numViews] = indexObs;
+	}
+
+	/**
+	 * Computes the Jacobian blocks at the specified parameters
+	 *
+	 * @param input Parameters encoded using {@link CalibPoseAndPointRodriguesCodec}
+	 */
+	public void process( final double[] input ) {
+		// decode the rotation and translation of each view
+		int paramIndex = 0;
+		for( int i = 0; i < numViews; i++ ) {
+			if( extrinsic[i] == null ) {
+				double rodX = input[paramIndex++];
+				double rodY = input[paramIndex++];
+				double rodZ = input[paramIndex++];
+
+				viewT[i*3  ] = input[paramIndex++];
+				viewT[i*3+1] = input[paramIndex++];
+				viewT[i*3+2] = input[paramIndex++];
+
+				rodrigues.setParamVector(rodX,rodY,rodZ);
+				rodJacobian.process(rodX,rodY,rodZ);
+				ConvertRotation3D_F64.rodriguesToMatrix(rodrigues,R);
+
+				System.arraycopy(rodJacobian.Rx.data,0,viewRodJac,i*27,9);
+				System.arraycopy(rodJacobian.Ry.data,0,viewRodJac,i*27+9,9);
+				System.arraycopy(rodJacobian.Rz.data,0,viewRodJac,i*27+18,9);
+			} else {
+				R.set(extrinsic[i].getR());
+				viewT[i*3  ] = extrinsic[i].getT().x;
+				viewT[i*3+1] = extrinsic[i].getT().y;
+				viewT[i*3+2] = extrinsic[i].getT().z;
+			}
+			System.arraycopy(R.data,0,viewR,i*9,9);
+		}
+
+		BoofConcurrency.loopBlocks(0, numObservations, MIN_BLOCK_OBSERVATIONS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				processObservations(input, idx0, idx1);
+			}
+		});
+	}
+
+	/**
+	 * Computes the Jacobian blocks for observations in the range [idx0,idx1)
+	 */
+	void processObservations( double[] input , int idx0 , int idx1 ) {
+		int view = findView(idx0);
+
+		for( int k = idx0; k < idx1; k++ ) {
+			while( viewObsStart[view+1] <= k )
+				view++;
+
+			int indexPt = indexFirstPoint + obsPoint[k]*3;
+			double X = input[indexPt], Y = input[indexPt+1], Z = input[indexPt+2];
+
+			// location of the point in the camera frame
+			int indexR = view*9;
+			double[] r = viewR;
+			double cx = r[indexR  ]*X + r[indexR+1]*Y + r[indexR+2]*Z + viewT[view*3];
+			double cy = r[indexR+3]*X + r[indexR+4]*Y + r[indexR+5]*Z + viewT[view*3+1];
+			double cz = r[indexR+6]*X + r[indexR+7]*Y + r[indexR+8]*Z + viewT[view*3+2];
+
+			double divZ = 1.0/cz;
+			double divZ2 = divZ*divZ;
+
+			// gradient of the point's location
+			//   deriv [x,y] = -dot(z)*(R*X+T)/(z^2) + R*dot(X)/z
+			int indexP = k*6;
+			for( int i = 0; i < 3; i++ ) {
+				jacPoint[indexP+i  ] = -r[indexR+6+i]*divZ2*cx + r[indexR+i]*divZ;
+				jacPoint[indexP+3+i] = -r[indexR+6+i]*divZ2*cy + r[indexR+3+i]*divZ;
+			}
+
+			if( obsViewUnknown[k] < 0 )
+				continue;
+
+			// gradient of the Rodrigues parameters
+			//   deriv [x,y] = -dot(z)/(z^2)*(R*X+T) + (1/z)*dot(R)*X
+			int indexV = k*12;
+			for( int i = 0; i < 3; i++ ) {
+				int indexJ = view*27 + i*9;
+				double[] j = viewRodJac;
+				double Rx = (j[indexJ  ]*X + j[indexJ+1]*Y + j[indexJ+2]*Z)*divZ;
+				double Ry = (j[indexJ+3]*X + j[indexJ+4]*Y + j[indexJ+5]*Z)*divZ;
+				double zDot_div_z2 = (j[indexJ+6]*X + j[indexJ+7]*Y + j[indexJ+8]*Z)*divZ2;
+
+				jacView[indexV+i  ] = -zDot_div_z2*cx + Rx;
+				jacView[indexV+6+i] = -zDot_div_z2*cy + Ry;
+			}
+
+			// gradient of the translation
+			//   deriv [x,y] = -dot(z)*T/(z^2) + dot(T)/z
+			jacView[indexV+3] = divZ;
+			jacView[indexV+4] = 0;
+			jacView[indexV+5] = -cx*divZ2;
+			jacView[indexV+9] = 0;
+			jacView[indexV+10] = divZ;
+			jacView[indexV+11] = -cy*divZ2;
+		}
+	}
+
+	/**
+	 * Returns the view which contains the specified observation
+	 */
+	int findView( int indexObs ) {
+		int lower = 0, upper = numViews;
+		// find the last view which starts at or before the observation
+		while( upper - lower > 1 ) {
+			int middle = (lower+upper)/2;
+			if( viewObsStart[middle] <= indexObs )
+				lower = middle;
+			else
+				upper = middle;
+		}
+		return lower;
+	}
+
+	public int getNumViewsUnknown() {
+		return numViewsUnknown;
+	}
+
+	public int getNumPoints() {
+		return numPoints;
+	}
+
+	public int getNumObservations() {
+		return numObservations;
+	}
+
+	public int[] getObsViewUnknown() {
+		return obsViewUnknown;
+	}
+
+	public int[] getObsPoint() {
+		return obsPoint;
+	}
+
+	public double[] getJacobianView() {
+		return jacView;
+	}
+
+	public double[] getJacobianPoint() {
+		return jacPoint;
+	}
+}
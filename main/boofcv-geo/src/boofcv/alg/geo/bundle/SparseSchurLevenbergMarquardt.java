@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.IntRangeTask;
+import org.ddogleg.optimization.functions.FunctionNtoM;
+import org.ddogleg.struct.FastQueue;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.dense.row.factory.LinearSolverFactory_DDRM;
+import org.ejml.interfaces.linsol.LinearSolverDense;
+
+/**
+ * <p>
+ * Levenberg-Marquardt for bundle adjustment which takes advantage of the Jacobian's block sparse structure.
+ * Each observation only depends on one view and one point, so the normal equations have the form
+ * </p>
+ * <pre>
+ * [ U   W ] [ dv ]   [ -gv ]
+ * [ W^T V ] [ dp ] = [ -gp ]
+ * </pre>
+ * <p>
+ * where U is block diagonal with 6x6 blocks for views and V is block diagonal with 3x3 blocks for points.
+ * The points are marginalized with the Schur complement, (U - W*V<sup>-1</sup>*W<sup>T</sup>)*dv =
+ * -gv + W*V<sup>-1</sup>*gp, which is the reduced camera system.  It's dense but only has 6 rows for each
+ * unknown view and is solved with Cholesky decomposition.  Then the point steps are found by back
+ * substitution, dp = V<sup>-1</sup>*(-gp - W<sup>T</sup>*dv).  Only the non-zero blocks of the Jacobian are
+ * ever stored.
+ * </p>
+ *
+ * <p>
+ * Blocks for each point and each row of the reduced camera system are computed concurrently if
+ * {@link BoofConcurrency#USE_CONCURRENT} is true.  The diagonal of the normal equations is damped by
+ * lambda times the clamped diagonal.  Lambda is decreased after a step reduces the cost and increased otherwise.
+ * </p>
+ *
+ * <p>
+ * The API is modeled after {@link org.ddogleg.optimization.UnconstrainedLeastSquares}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SparseSchurLevenbergMarquardt {
+
+	/**
+	 * Minimum number of points in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_POINTS = 200;
+
+	// bounds on the damping parameter.  Once above the maximum it's assumed no better solution can be found
+	public static final double MIN_LAMBDA = 1e-16;
+	public static final double MAX_LAMBDA = 1e32;
+
+	// bounds on diagonal elements when used to scale the damping
+	static final double MIN_DIAGONAL = 1e-6;
+	static final double MAX_DIAGONAL = 1e32;
+
+	// computes the residuals
+	FunctionNtoM function;
+	// computes the non-zero blocks in the Jacobian
+	CalibPoseAndPointRodriguesBlockJacobian jacobian;
+
+	// number of views with unknown extrinsic parameters
+	int numViews;
+	int numPoints;
+	int numObservations;
+	// index of the first point parameter
+	int indexFirstPoint;
+
+	// unknown view and point for each observation.  unknown view is -1 if known
+	int obsView[];
+	int obsPoint[];
+	// observations of each point and unknown view.  Compressed row format
+	int pointObsStart[] = new int[0];
+	int pointObs[] = new int[0];
+	int viewObsStart[] = new int[0];
+	int viewObs[] = new int[0];
+
+	// current parameters and its residuals
+	double x[] = new double[0];
+	double residuals[] = new double[0];
+	// candidate parameters and its residuals
+	double candidate[] = new double[0];
+	double candidateResiduals[] = new double[0];
+	// change in parameters
+	double step[] = new double[0];
+
+	// blocks in the normal equations.  U = 6x6 per view, V = 3x3 per point, W = 6x3 per observation
+	double U[] = new double[0];
+	double V[] = new double[0];
+	double W[] = new double[0];
+	// gradient, J'*r
+	double gradient[] = new double[0];
+	// inverse of damped V blocks
+	double Vinv[] = new double[0];
+
+	// reduced camera system
+	DMatrixRMaj S = new DMatrixRMaj(1,1);
+	DMatrixRMaj B = new DMatrixRMaj(1,1);
+	DMatrixRMaj viewStep = new DMatrixRMaj(1,1);
+	LinearSolverDense<DMatrixRMaj> solver;
+	// storage for W*inv(V) for each block of views
+	FastQueue<double[]> workY = new FastQueue<double[]>(double[].class,true) {
+		@Override
+		protected double[] createInstance() {
+			return new double[18];
+		}
+	};
+
+	// damping parameter
+	double initialLambda;
+	double lambda;
+
+	// sum of squared residuals
+	double cost;
+	// convergence tolerances
+	double ftol;
+	double gtol;
+
+	// if true the Jacobian needs to be computed at the current parameters
+	boolean updateJacobian;
+
+	/**
+	 * Specifies the initial damping
+	 *
+	 * @param initialLambda Initial value of the damping parameter.  Try 1e-3
+	 */
+	public SparseSchurLevenbergMarquardt( double initialLambda ) {
+		this.initialLambda = initialLambda;
+	}
+
+	public SparseSchurLevenbergMarquardt() {
+		this(1e-3);
+	}
+
+	/**
+	 * Specifies the function being optimized and its Jacobian.  The Jacobian must already be configured
+	 * since it describes which views and points each observation belongs to.
+	 *
+	 * @param function Computes the residuals
+	 * @param jacobian Computes the non-zero blocks in the Jacobian
+	 */
+	public void setFunction( FunctionNtoM function , CalibPoseAndPointRodriguesBlockJacobian jacobian ) {
+		this.function = function;
+		this.jacobian = jacobian;
+
+		numViews = jacobian.getNumViewsUnknown();
+		numPoints = jacobian.getNumPoints();
+		numObservations = jacobian.getNumObservations();
+		obsView = jacobian.getObsViewUnknown();
+		obsPoint = jacobian.getObsPoint();
+		indexFirstPoint = numViews*6;
+
+		int numParam = numViews*6 + numPoints*3;
+		if( numParam != function.getNumOfInputsN() )
+			throw new IllegalArgumentException("Number of parameters doesn't match the function");
+		if( numObservations*2 != function.getNumOfOutputsM() )
+			throw new IllegalArgumentException("Number of observations doesn't match the function");
+
+		if( x.length < numParam ) {
+			x = new double[numParam];
+			candidate = new double[numParam];
+			step = new double[numParam];
+			gradient = new double[numParam];
+		}
+		if( residuals.length < numObservations*2 ) {
+			residuals = new double[numObservations*2];
+			candidateResiduals = new double[numObservations*2];
+			W = new double[numObservations*18];
+			pointObs = new int[numObservations];
+			viewObs = new int[numObservations];
+		}
+		if( V.length < numPoints*9 ) {
+			V = new double[numPoints*9];
+			Vinv = new double[numPoints*9];
+		}
+		if( U.length < numViews*36 ) {
+			U = new double[numViews*36];
+		}
+		if( pointObsStart.length < numPoints+1 )
+			pointObsStart = new int[numPoints+1];
+		if( viewObsStart.length < numViews+1 )
+			viewObsStart = new int[numViews+1];
+
+		S.reshape(numViews*6,numViews*6);
+		B.reshape(numViews*6,1);
+		viewStep.reshape(numViews*6,1);
+		solver = LinearSolverFactory_DDRM.chol(Math.max(1,numViews*6));
+
+		createLookup(obsPoint, numPoints, pointObsStart, pointObs);
+		createLookup(obsView, numViews, viewObsStart, viewObs);
+	}
+
+	/**
+	 * Creates a compressed row lookup table from an element to the observations which reference it.
+	 * Observations which reference -1 are skipped.
+	 */
+	private void createLookup( int[] obsToElement , int numElements , int[] start , int[] lookup ) {
+		for( int i = 0; i <= numElements; i++ )
+			start[i] = 0;
+		for( int k = 0; k < numObservations; k++ ) {
+			if( obsToElement[k] >= 0 )
+				start[obsToElement[k]+1]++;
+		}
+		for( int i = 0; i < numElements; i++ )
+			start[i+1] += start[i];
+
+		// use the start of each element as a counter, which shifts it to the start of the next element
+		for( int k = 0; k < numObservations; k++ ) {
+			int e = obsToElement[k];
+			if( e >= 0 )
+				lookup[start[e]++] = k;
+		}
+		for( int i = numElements; i > 0; i-- )
+			start[i] = start[i-1];
+		start[0] = 0;
+	}
+
+	/**
+	 * Specifies the initial parameters and convergence criteria
+	 *
+	 * @param initial Initial parameters.  Not modified.
+	 * @param ftol Relative tolerance for change in the cost. 0 &le; ftol &lt; 1
+	 * @param gtol Absolute tolerance for the largest element in the gradient. 0 &le; gtol
+	 */
+	public void initialize( double initial[] , double ftol , double gtol ) {
+		this.ftol = ftol;
+		this.gtol = gtol;
+
+		int numParam = numViews*6 + numPoints*3;
+		System.arraycopy(initial,0,x,0,numParam);
+
+		function.process(x,residuals);
+		cost = computeCost(residuals,numObservations*2);
+		lambda = initialLambda;
+		updateJacobian = true;
+	}
+
+	/**
+	 * Attempts a single step.  If the step reduced the cost then it is accepted, otherwise the damping is
+	 * increased.
+	 *
+	 * @return true if it has converged or can't make any more progress
+	 */
+	public boolean iterate() {
+		if( updateJacobian ) {
+			updateJacobian = false;
+			jacobian.process(x);
+			computeNormalBlocks();
+
+			if( cost == 0 || maxAbs(gradient, numViews*6 + numPoints*3) <= gtol )
+				return true;
+		}
+
+		if( !computeStep() ) {
+			lambda *= 10;
+			return lambda > MAX_LAMBDA;
+		}
+
+		int numParam = numViews*6 + numPoints*3;
+		for( int i = 0; i < numParam; i++ ) {
+			candidate[i] = x[i] + step[i];
+		}
+		function.process(candidate,candidateResiduals);
+		double candidateCost = computeCost(candidateResiduals,numObservations*2);
+
+		if( candidateCost < cost ) {
+			boolean converged = cost - candidateCost <= ftol*cost;
+
+			double[] tmp = x; x = candidate; candidate = tmp;
+			tmp = residuals; residuals = candidateResiduals; candidateResiduals = tmp;
+			cost = candidateCost;
+
+			lambda = Math.max(MIN_LAMBDA,lambda/10);
+			updateJacobian = true;
+			return converged;
+		} else {
+			lambda *= 10;
+			return lambda > MAX_LAMBDA;
+		}
+	}
+
+	/**
+	 * Computes the blocks in J'*J and the gradient J'*r at the current parameters
+	 */
+	void computeNormalBlocks() {
+		BoofConcurrency.loopBlocks(0, numPoints, MIN_BLOCK_POINTS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				computePointBlocks(idx0, idx1);
+			}
+		});
+		BoofConcurrency.loopBlocks(0, numViews, 1, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				computeViewBlocks(idx0, idx1);
+			}
+		});
+	}
+
+	/**
+	 * Computes V = B'*B and gp = B'*r for each point
+	 */
+	void computePointBlocks( int idx0 , int idx1 ) {
+		double[] jacPoint = jacobian.getJacobianPoint();
+
+		for( int p = idx0; p < idx1; p++ ) {
+			int indexV = p*9;
+			int indexG = indexFirstPoint + p*3;
+			for( int i = 0; i < 9; i++ )
+				V[indexV+i] = 0;
+			for( int i = 0; i < 3; i++ )
+				gradient[indexG+i] = 0;
+
+			for( int idx = pointObsStart[p]; idx < pointObsStart[p+1]; idx++ ) {
+				int k = pointObs[idx];
+				int indexB = k*6;
+				double rx = residuals[k*2], ry = residuals[k*2+1];
+
+				for( int i = 0; i < 3; i++ ) {
+					double bxi = jacPoint[indexB+i], byi = jacPoint[indexB+3+i];
+					for( int j = 0; j < 3; j++ ) {
+						V[indexV+i*3+j] += bxi*jacPoint[indexB+j] + byi*jacPoint[indexB+3+j];
+					}
+					gradient[indexG+i] += bxi*rx + byi*ry;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes U = A'*A and gv = A'*r for each unknown view, and W = A'*B for each of its observations
+	 */
+	void computeViewBlocks( int idx0 , int idx1 ) {
+		double[] jacView = jacobian.getJacobianView();
+		double[] jacPoint = jacobian.getJacobianPoint();
+
+		for( int v = idx0; v < idx1; v++ ) {
+			int indexU = v*36;
+			int indexG = v*6;
+			for( int i = 0; i < 36; i++ )
+				U[indexU+i] = 0;
+			for( int i = 0; i < 6; i++ )
+				gradient[indexG+i] = 0;
+
+			for( int idx = viewObsStart[v]; idx < viewObsStart[v+1]; idx++ ) {
+				int k = viewObs[idx];
+				int indexA = k*12;
+				int indexB = k*6;
+				int indexW = k*18;
+				double rx = residuals[k*2], ry = residuals[k*2+1];
+
+				for( int i = 0; i < 6; i++ ) {
+					double axi = jacView[indexA+i], ayi = jacView[indexA+6+i];
+					for( int j = 0; j < 6; j++ ) {
+						U[indexU+i*6+j] += axi*jacView[indexA+j] + ayi*jacView[indexA+6+j];
+					}
+					for( int j = 0; j < 3; j++ ) {
+						W[indexW+i*3+j] = axi*jacPoint[indexB+j] + ayi*jacPoint[indexB+3+j];
+					}
+					gradient[indexG+i] += axi*rx + ayi*ry;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Solves for the step using the damped normal equations
+	 *
+	 * @return true if successful or false if the reduced camera system is singular
+	 */
+	boolean computeStep() {
+		BoofConcurrency.loopBlocks(0, numPoints, MIN_BLOCK_POINTS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				invertPointBlocks(idx0, idx1);
+			}
+		});
+
+		if( numViews > 0 ) {
+			BoofConcurrency.loopBlocks(0, numViews, 1, BoofConcurrency.USE_CONCURRENT, workY,
+					new IntRangeObjectTask<double[]>() {
+				@Override
+				public void process(double[] Y, int idx0, int idx1) {
+					computeReducedRows(Y, idx0, idx1);
+				}
+			});
+
+			if( !solver.setA(S) )
+				return false;
+			solver.solve(B,viewStep);
+			System.arraycopy(viewStep.data,0,step,0,numViews*6);
+		}
+
+		BoofConcurrency.loopBlocks(0, numPoints, MIN_BLOCK_POINTS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				computePointSteps(idx0, idx1);
+			}
+		});
+
+		return true;
+	}
+
+	/**
+	 * Computes the inverse of the damped V block for each point.  If a block is singular then its inverse is
+	 * set to zero and the point isn't changed.
+	 */
+	void invertPointBlocks( int idx0 , int idx1 ) {
+		for( int p = idx0; p < idx1; p++ ) {
+			int i = p*9;
+
+			double a11 = V[i  ] + lambda*clamp(V[i  ]), a12 = V[i+1], a13 = V[i+2];
+			double a22 = V[i+4] + lambda*clamp(V[i+4]), a23 = V[i+5];
+			double a33 = V[i+8] + lambda*clamp(V[i+8]);
+
+			// cofactors of a symmetric matrix
+			double c11 = a22*a33 - a23*a23;
+			double c12 = a13*a23 - a12*a33;
+			double c13 = a12*a23 - a13*a22;
+			double c22 = a11*a33 - a13*a13;
+			double c23 = a12*a13 - a11*a23;
+			double c33 = a11*a22 - a12*a12;
+
+			double det = a11*c11 + a12*c12 + a13*c13;
+
+			if( det <= 0 || Double.isNaN(det) || Double.isInfinite(det) ) {
+				for( int j = 0; j < 9; j++ )
+					Vinv[i+j] = 0;
+				continue;
+			}
+
+			double s = 1.0/det;
+			Vinv[i  ] = c11*s; Vinv[i+1] = c12*s; Vinv[i+2] = c13*s;
+			Vinv[i+3] = c12*s; Vinv[i+4] = c22*s; Vinv[i+5] = c23*s;
+			Vinv[i+6] = c13*s; Vinv[i+7] = c23*s; Vinv[i+8] = c33*s;
+		}
+	}
+
+	/**
+	 * Computes rows in the reduced camera system S = U - W*V<sup>-1</sup>*W<sup>T</sup> and
+	 * b = -gv + W*V<sup>-1</sup>*gp for the specified views.  Each view only writes to its own rows.
+	 *
+	 * @param Y Storage for W*V<sup>-1</sup>.  18 elements.
+	 */
+	void computeReducedRows( double[] Y , int idx0 , int idx1 ) {
+		final int N = numViews*6;
+
+		for( int v = idx0; v < idx1; v++ ) {
+			// initialize rows with the damped U block
+			int indexRow = v*6*N;
+			for( int i = 0; i < 6*N; i++ )
+				S.data[indexRow+i] = 0;
+			for( int i = 0; i < 6; i++ ) {
+				for( int j = 0; j < 6; j++ ) {
+					S.data[indexRow + i*N + v*6 + j] = U[v*36+i*6+j];
+				}
+				double d = U[v*36+i*7];
+				S.data[indexRow + i*N + v*6 + i] += lambda*clamp(d);
+				B.data[v*6+i] = -gradient[v*6+i];
+			}
+
+			for( int idx = viewObsStart[v]; idx < viewObsStart[v+1]; idx++ ) {
+				int k = viewObs[idx];
+				int p = obsPoint[k];
+				int indexW = k*18;
+				int indexVinv = p*9;
+				int indexGp = indexFirstPoint + p*3;
+
+				// Y = W*inv(V)
+				for( int i = 0; i < 6; i++ ) {
+					for( int j = 0; j < 3; j++ ) {
+						Y[i*3+j] = W[indexW+i*3  ]*Vinv[indexVinv+j] +
+								W[indexW+i*3+1]*Vinv[indexVinv+3+j] +
+								W[indexW+i*3+2]*Vinv[indexVinv+6+j];
+					}
+					B.data[v*6+i] += Y[i*3]*gradient[indexGp] + Y[i*3+1]*gradient[indexGp+1] +
+							Y[i*3+2]*gradient[indexGp+2];
+				}
+
+				// subtract Y*W' for each view which also observed the point
+				for( int idx2 = pointObsStart[p]; idx2 < pointObsStart[p+1]; idx2++ ) {
+					int k2 = pointObs[idx2];
+					int u = obsView[k2];
+					if( u < 0 )
+						continue;
+					int indexW2 = k2*18;
+					for( int i = 0; i < 6; i++ ) {
+						int indexS = indexRow + i*N + u*6;
+						double y0 = Y[i*3], y1 = Y[i*3+1], y2 = Y[i*3+2];
+						for( int j = 0; j < 6; j++ ) {
+							S.data[indexS+j] -= y0*W[indexW2+j*3] + y1*W[indexW2+j*3+1] + y2*W[indexW2+j*3+2];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Back substitution for the point steps, dp = inv(V)*(-gp - W'*dv)
+	 */
+	void computePointSteps( int idx0 , int idx1 ) {
+		for( int p = idx0; p < idx1; p++ ) {
+			int indexGp = indexFirstPoint + p*3;
+			double b0 = -gradient[indexGp], b1 = -gradient[indexGp+1], b2 = -gradient[indexGp+2];
+
+			for( int idx = pointObsStart[p]; idx < pointObsStart[p+1]; idx++ ) {
+				int k = pointObs[idx];
+				int v = obsView[k];
+				if( v < 0 )
+					continue;
+				int indexW = k*18;
+				for( int i = 0; i < 6; i++ ) {
+					double dv = step[v*6+i];
+					b0 -= W[indexW+i*3  ]*dv;
+					b1 -= W[indexW+i*3+1]*dv;
+					b2 -= W[indexW+i*3+2]*dv;
+				}
+			}
+
+			int i = p*9;
+			step[indexGp  ] = Vinv[i  ]*b0 + Vinv[i+1]*b1 + Vinv[i+2]*b2;
+			step[indexGp+1] = Vinv[i+3]*b0 + Vinv[i+4]*b1 + Vinv[i+5]*b2;
+			step[indexGp+2] = Vinv[i+6]*b0 + Vinv[i+7]*b1 + Vinv[i+8]*b2;
+		}
+	}
+
+	private static double clamp( double d ) {
+		return Math.min(MAX_DIAGONAL,Math.max(MIN_DIAGONAL,d));
+	}
+
+	private static double computeCost( double[] residuals , int length ) {
+		double total = 0;
+		for( int i = 0; i < length; i++ ) {
+			total += residuals[i]*residuals[i];
+		}
+		return total;
+	}
+
+	private static double maxAbs( double[] v , int length ) {
+		double max = 0;
+		for( int i = 0; i < length; i++ ) {
+			max = Math.max(max,Math.abs(v[i]));
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the current best parameters
+	 */
+	public double[] getParameters() {
+		return x;
+	}
+
+	/**
+	 * Returns the sum of squared residuals at the current parameters
+	 */
+	public double getFunctionValue() {
+		return cost;
+	}
+}
@@ -19,29 +19,42 @@
 package boofcv.alg.geo.pose;
 
 import boofcv.alg.geo.RodriguesRotationJacobian;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.geo.Point2D3D;
 import georegression.geometry.ConvertRotation3D_F64;
 import georegression.struct.point.Point3D_F64;
-import georegression.struct.se.Se3_F64;
 import georegression.struct.so.Rodrigues_F64;
-import georegression.transform.se.SePointOps_F64;
 import org.ddogleg.optimization.functions.FunctionNtoMxN;
 import org.ejml.data.DMatrixRMaj;
 
 import java.util.List;
 
 /**
+ * <p>
  * Computes the Jacobian of the error function in {@link PnPResidualReprojection}.  For a calibrated
  * camera given observations in normalized image coordinates.  The rotation matrix is assumed to be
  * parameterized using {@link georegression.struct.so.Rodrigues_F64} coordinates.
+ * </p>
+ *
+ * <p>
+ * The location of each point is copied into a packed array when the observations are set.  The rotation
+ * matrix and its partials are computed once and then blocks of points are processed concurrently if
+ * {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
  *
  * @author Peter Abeles
  */
 public class PnPJacobianRodrigues implements FunctionNtoMxN {
 
-	// transformation from world to camera frame
-	private Se3_F64 worldToCamera = new Se3_F64();
-	private List<Point2D3D> observations;
+	/**
+	 * Minimum number of points in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_POINTS = 500;
+
+	// location of each point in world frame.  Packed as (x,y,z)
+	private double[] points = new double[0];
+	private int numPoints;
 
 	// used to compute the Jacobian from Rodrigues coordinates
 	private RodriguesRotationJacobian rodJacobian = new RodriguesRotationJacobian();
@@ -49,17 +62,20 @@ public class PnPJacobianRodrigues implements FunctionNtoMxN {
 	// local variable which stores the predicted location of the feature in the camera frame
 	private Rodrigues_F64 rodrigues = new Rodrigues_F64();
 
-	// 3D location of point in camera frame
-	private Point3D_F64 cameraPt = new Point3D_F64();
-
-	// output array
-	private double[] output;
-	// index for x component
-	private int indexX;
-	private int indexY;
+	// rotation matrix from world to camera frame
+	private DMatrixRMaj R = new DMatrixRMaj(3,3);
 
 	public void setObservations(List<Point2D3D> observations) {
-		this.observations = observations;
+		numPoints = observations.size();
+		if( points.length < numPoints*3 )
+			points = new double[numPoints*3];
+
+		for( int i = 0, index = 0; i < numPoints; i++ ) {
+			Point3D_F64 X = observations.get(i).location;
+			points[index++] = X.x;
+			points[index++] = X.y;
+			points[index++] = X.z;
+		}
 	}
 
 	@Override
@@ -69,40 +85,64 @@ public class PnPJacobianRodrigues implements FunctionNtoMxN {
 
 	@Override
 	public int getNumOfOutputsM() {
-		return observations.size()*2;
+		return numPoints*2;
 	}
 
 	@Override
-	public void process(double[] input, double[] output) {
-
-		this.output = output;
+	public void process(final double[] input, final double[] output) {
 
 		// initialize data structures
 		rodrigues.setParamVector(input[0],input[1],input[2]);
 		rodJacobian.process(input[0], input[1], input[2]);
 
-		worldToCamera.T.x = input[3];
-		worldToCamera.T.y = input[4];
-		worldToCamera.T.z = input[5];
-
-		ConvertRotation3D_F64.rodriguesToMatrix(rodrigues, worldToCamera.getR());
+		ConvertRotation3D_F64.rodriguesToMatrix(rodrigues, R);
 
 		// compute the gradient for each observation
-		for( int i = 0; i < observations.size(); i++ ) {
-			Point2D3D o = observations.get(i);
+		BoofConcurrency.loopBlocks(0, numPoints, MIN_BLOCK_POINTS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				processPoints(input, output, idx0, idx1);
+			}
+		});
+	}
 
-			SePointOps_F64.transform(worldToCamera,o.location, cameraPt);
+	/**
+	 * Computes the gradient for points in the range [idx0,idx1)
+	 */
+	void processPoints( double[] input , double[] output , int idx0 , int idx1 ) {
+		final double[] r = R.data;
+		final double tx = input[3], ty = input[4], tz = input[5];
 
-			indexX = 2*6*i;
-			indexY = indexX + 6;
+		for( int i = idx0; i < idx1; i++ ) {
+			double X = points[i*3], Y = points[i*3+1], Z = points[i*3+2];
+
+			// location of the point in the camera frame
+			double cx = r[0]*X + r[1]*Y + r[2]*Z + tx;
+			double cy = r[3]*X + r[4]*Y + r[5]*Z + ty;
+			double cz = r[6]*X + r[7]*Y + r[8]*Z + tz;
+
+			double divZ = 1.0/cz;
+			double divZ2 = divZ*divZ;
+
+			int indexX = 2*6*i;
+			int indexY = indexX + 6;
 
 			// add gradient from rotation
-			addRodriguesJacobian(rodJacobian.Rx,o.location,cameraPt);
-			addRodriguesJacobian(rodJacobian.Ry,o.location,cameraPt);
-			addRodriguesJacobian(rodJacobian.Rz,o.location,cameraPt);
+			addRodriguesJacobian(rodJacobian.Rx.data, X, Y, Z, cx, cy, divZ, divZ2, output, indexX++, indexY++);
+			addRodriguesJacobian(rodJacobian.Ry.data, X, Y, Z, cx, cy, divZ, divZ2, output, indexX++, indexY++);
+			addRodriguesJacobian(rodJacobian.Rz.data, X, Y, Z, cx, cy, divZ, divZ2, output, indexX++, indexY++);
 
 			// add gradient from translation
-			addTranslationJacobian(cameraPt);
+			//   deriv [x,y] = -dot(z)*T/(z^2) + dot(T)/z
+			// partial T.x
+			output[indexX++] = divZ;
+			output[indexY++] = 0;
+			// partial T.y
+			output[indexX++] = 0;
+			output[indexY++] = divZ;
+			// partial T.z
+			output[indexX] = -cx*divZ2;
+			output[indexY] = -cy*divZ2;
 		}
 	}
 
@@ -114,43 +154,19 @@ public class PnPJacobianRodrigues implements FunctionNtoMxN {
 	 * where R is rotation matrix, T is translation, z = z-coordinate of point in camera frame
 	 *
 	 * @param Rj Jacobian for Rodrigues
-	 * @param worldPt Location of point in world coordinates
-	 * @param cameraPt Location of point in camera coordinates
 	 */
-	private void addRodriguesJacobian( DMatrixRMaj Rj , Point3D_F64 worldPt , Point3D_F64 cameraPt )
+	private static void addRodriguesJacobian( double[] Rj , double X , double Y , double Z ,
+											  double cx , double cy , double divZ , double divZ2 ,
+											  double[] output , int indexX , int indexY )
 	{
 		// (1/z)*dot(R)*X
-		double Rx = (Rj.data[0]*worldPt.x + Rj.data[1]*worldPt.y + Rj.data[2]*worldPt.z)/cameraPt.z;
-		double Ry = (Rj.data[3]*worldPt.x + Rj.data[4]*worldPt.y + Rj.data[5]*worldPt.z)/cameraPt.z;
+		double Rx = (Rj[0]*X + Rj[1]*Y + Rj[2]*Z)*divZ;
+		double Ry = (Rj[3]*X + Rj[4]*Y + Rj[5]*Z)*divZ;
 
 		// dot(z)/(z^2)
-		double zDot_div_z2 = (Rj.data[6]*worldPt.x + Rj.data[7]*worldPt.y + Rj.data[8]*worldPt.z)/
-				(cameraPt.z*cameraPt.z);
-
-		output[indexX++] = -zDot_div_z2*cameraPt.x + Rx;
-		output[indexY++] = -zDot_div_z2*cameraPt.y + Ry;
-	}
+		double zDot_div_z2 = (Rj[6]*X + Rj[7]*Y + Rj[8]*Z)*divZ2;
 
-	/**
-	 * Derivative for translation element
-	 *
-	 * deriv [x,y] = -dot(z)*T/(z^2) + dot(T)/z
-	 *
-	 * where T is translation, z = z-coordinate of point in camera frame
-	 */
-	private void addTranslationJacobian( Point3D_F64 cameraPt )
-	{
-		double divZ = 1.0/cameraPt.z;
-		double divZ2 = 1.0/(cameraPt.z*cameraPt.z);
-
-		// partial T.x
-		output[indexX++] = divZ;
-		output[indexY++] = 0;
-		// partial T.y
-		output[indexX++] = 0;
-		output[indexY++] = divZ;
-		// partial T.z
-		output[indexX++] = -cameraPt.x*divZ2;
-		output[indexY++] = -cameraPt.y*divZ2;
+		output[indexX] = -zDot_div_z2*cx + Rx;
+		output[indexY] = -zDot_div_z2*cy + Ry;
 	}
 }
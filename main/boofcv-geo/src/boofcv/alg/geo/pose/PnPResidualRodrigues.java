@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.pose;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.geo.Point2D3D;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.so.Rodrigues_F64;
+import org.ddogleg.optimization.functions.FunctionNtoM;
+import org.ejml.data.DMatrixRMaj;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Computes the same residuals as {@link PnPResidualReprojection} directly from the parameters encoded by
+ * {@link PnPRodriguesCodec}.  Observations are copied into a packed array when set, the rotation matrix is
+ * computed once, and then blocks of points are processed concurrently if {@link BoofConcurrency#USE_CONCURRENT}
+ * is true.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PnPResidualRodrigues implements FunctionNtoM {
+
+	/**
+	 * Minimum number of points in a block which is processed by a single thread
+	 */
+	public static int MIN_BLOCK_POINTS = 500;
+
+	// observations packed as (X,Y,Z,obs x, obs y)
+	private double[] data = new double[0];
+	private int numPoints;
+
+	private Rodrigues_F64 rodrigues = new Rodrigues_F64();
+	// rotation matrix from world to camera frame
+	private DMatrixRMaj R = new DMatrixRMaj(3,3);
+
+	public void setObservations(List<Point2D3D> observations) {
+		numPoints = observations.size();
+		if( data.length < numPoints*5 )
+			data = new double[numPoints*5];
+
+		for( int i = 0, index = 0; i < numPoints; i++ ) {
+			Point2D3D p = observations.get(i);
+			data[index++] = p.location.x;
+			data[index++] = p.location.y;
+			data[index++] = p.location.z;
+			data[index++] = p.observation.x;
+			data[index++] = p.observation.y;
+		}
+	}
+
+	@Override
+	public int getNumOfInputsN() {
+		return 6;
+	}
+
+	@Override
+	public int getNumOfOutputsM() {
+		return numPoints*2;
+	}
+
+	@Override
+	public void process(final double[] input, final double[] output) {
+		rodrigues.setParamVector(input[0],input[1],input[2]);
+		ConvertRotation3D_F64.rodriguesToMatrix(rodrigues, R);
+
+		BoofConcurrency.loopBlocks(0, numPoints, MIN_BLOCK_POINTS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				computeResiduals(input, output, idx0, idx1);
+			}
+		});
+	}
+
+	/**
+	 * Computes the residuals for points in the range [idx0,idx1)
+	 */
+	void computeResiduals( double[] input , double[] output , int idx0 , int idx1 ) {
+		final double[] r = R.data;
+		final double tx = input[3], ty = input[4], tz = input[5];
+
+		for( int i = idx0; i < idx1; i++ ) {
+			int index = i*5;
+			double X = data[index], Y = data[index+1], Z = data[index+2];
+
+			double cx = r[0]*X + r[1]*Y + r[2]*Z + tx;
+			double cy = r[3]*X + r[4]*Y + r[5]*Z + ty;
+			double cz = r[6]*X + r[7]*Y + r[8]*Z + tz;
+
+			output[i*2  ] = cx/cz - data[index+3];
+			output[i*2+1] = cy/cz - data[index+4];
+		}
+	}
+}
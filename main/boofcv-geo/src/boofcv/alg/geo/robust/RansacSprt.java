@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.robust;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import org.ddogleg.fitting.modelset.DistanceFromModel;
+import org.ddogleg.fitting.modelset.ModelGenerator;
+import org.ddogleg.fitting.modelset.ModelManager;
+import org.ddogleg.fitting.modelset.ModelMatcher;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>
+ * RANSAC which uses the Sequential Probability Ratio Test (SPRT) to discard bad hypotheses after only a few points
+ * have been checked, instead of computing the distance to every point.  Points are checked in a random order and
+ * after each point the likelihood ratio between "the model is bad" and "the model is good" is updated.  Once the
+ * ratio exceeds a threshold the hypothesis is rejected.  The probability of a good model being consistent with
+ * a point (epsilon) is estimated from the best model found so far and the probability of a bad model being
+ * consistent (delta) from the rejected hypotheses.  The number of iterations is adapted to the inlier ratio
+ * of the best model so that it stops once the desired confidence has been reached.
+ * </p>
+ *
+ * <p>
+ * If the input points are sorted by quality, e.g. association score, then PROSAC style sampling can be turned on
+ * with {@link #setSortedByQuality(boolean)}.  Samples are drawn from a set of the best points which grows with
+ * each iteration, until it contains all the points.
+ * </p>
+ *
+ * <p>
+ * Hypotheses are generated and scored in batches of {@link #BATCH_SIZE}.  If constructed with a {@link Factory}
+ * then the hypotheses in a batch are processed concurrently when {@link BoofConcurrency#USE_CONCURRENT} is true,
+ * with each thread having its own generator and distance function.  The best model and SPRT parameters are only
+ * updated between batches and the samples are selected ahead of time, making the results independent of the
+ * number of threads.
+ * </p>
+ *
+ * <p>
+ * [1] J. Matas and O. Chum, "Randomized RANSAC with Sequential Probability Ratio Test" ICCV 2005<br>
+ * [2] O. Chum and J. Matas, "Matching with PROSAC - Progressive Sample Consensus" CVPR 2005
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class RansacSprt<Model,Point> implements ModelMatcher<Model,Point> {
+
+	/**
+	 * Number of hypotheses which are evaluated between updates of the best model
+	 */
+	public static final int BATCH_SIZE = 16;
+
+	/**
+	 * Creates a new generator and distance function for each thread.
+	 */
+	public interface Factory<Model,Point> {
+		ModelGenerator<Model,Point> createGenerator();
+
+		DistanceFromModel<Model,Point> createDistance();
+	}
+
+	// used to create and copy models
+	ModelManager<Model> manager;
+	// creates a generator and distance for each thread.  null if it can't be run concurrently
+	Factory<Model,Point> factory;
+
+	// used when processing hypotheses in a single thread
+	Worker mainWorker;
+	// workspace for each thread
+	FastQueue<Worker> workers;
+
+	// random number generator and its seed
+	long randSeed;
+	Random rand;
+
+	// maximum number of hypotheses
+	int maxIterations;
+	// points with a distance less than or equal to this are inliers
+	double thresholdFit;
+	// probability that a sample free of outliers has been drawn before it stops
+	double confidence = 0.99;
+	// time to generate a hypothesis relative to the time it takes to check a single point
+	double modelCost = 200;
+	// if true the input is sorted from best to worst and PROSAC sampling is used
+	boolean sortedByQuality = false;
+
+	// initial estimates of epsilon and delta
+	double initialEpsilon = 0.1;
+	double initialDelta = 0.01;
+
+	// number of points in a sample
+	int sampleSize;
+
+	// input points
+	List<Point> dataSet;
+	// order that points are checked in
+	int order[] = new int[0];
+
+	// SPRT parameters.  probability a point is consistent with a good and bad model
+	double epsilon, delta;
+	// log of the decision threshold
+	double logA;
+	// change in the log likelihood ratio after a consistent and inconsistent point
+	double logConsistent, logInconsistent;
+	// points tested and consistent points in rejected hypotheses.  Used to estimate delta
+	long rejectedTested;
+	long rejectedConsistent;
+
+	// PROSAC state. number of points being sampled from, T_n, and T'_n
+	int prosacN;
+	double prosacT;
+	int prosacTPrime;
+
+	// storage for the hypotheses in a batch
+	int batchSamples[] = new int[BATCH_SIZE];
+	List<Model> batchModels = new ArrayList<>();
+	boolean batchGenerated[] = new boolean[BATCH_SIZE];
+	boolean batchAccepted[] = new boolean[BATCH_SIZE];
+	int batchTested[] = new int[BATCH_SIZE];
+	int batchConsistent[] = new int[BATCH_SIZE];
+
+	// best model found so far and its number of inliers
+	Model bestModel;
+	int bestInliers;
+
+	// inliers of the best model
+	List<Point> matchSet = new ArrayList<>();
+	GrowQueue_I32 matchToInput = new GrowQueue_I32();
+	double distances[] = new double[0];
+
+	// number of hypotheses in the last call to process
+	int iterations;
+
+	/**
+	 * Creates RANSAC which is run in a single thread using the provided generator and distance function.
+	 *
+	 * @param randSeed Seed for the random number generator
+	 * @param manager Used to create and copy models
+	 * @param generator Generates a model from a sample
+	 * @param distance Computes the distance of a point from a model
+	 * @param maxIterations Maximum number of hypotheses
+	 * @param thresholdFit Points with a distance &le; this are inliers
+	 */
+	public RansacSprt(long randSeed, ModelManager<Model> manager,
+					  ModelGenerator<Model,Point> generator, DistanceFromModel<Model,Point> distance,
+					  int maxIterations, double thresholdFit) {
+		this.manager = manager;
+		this.mainWorker = new Worker(generator,distance);
+		init(randSeed, maxIterations, thresholdFit);
+	}
+
+	/**
+	 * Creates RANSAC which can evaluate hypotheses concurrently
+	 *
+	 * @param randSeed Seed for the random number generator
+	 * @param manager Used to create and copy models.  Shared between threads.
+	 * @param factory Creates the generator and distance function used by each thread
+	 * @param maxIterations Maximum number of hypotheses
+	 * @param thresholdFit Points with a distance &le; this are inliers
+	 */
+	@SuppressWarnings("unchecked")
+	public RansacSprt(long randSeed, ModelManager<Model> manager, Factory<Model,Point> factory,
+					  int maxIterations, double thresholdFit) {
+		this.manager = manager;
+		this.factory = factory;
+		this.mainWorker = new Worker(factory.createGenerator(),factory.createDistance());
+		this.workers = new FastQueue<Worker>(1,(Class)Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker(RansacSprt.this.factory.createGenerator(),
+						RansacSprt.this.factory.createDistance());
+			}
+		};
+		init(randSeed, maxIterations, thresholdFit);
+	}
+
+	private void init( long randSeed, int maxIterations, double thresholdFit ) {
+		this.randSeed = randSeed;
+		this.rand = new Random(randSeed);
+		this.maxIterations = maxIterations;
+		this.thresholdFit = thresholdFit;
+		this.sampleSize = mainWorker.generator.getMinimumPoints();
+
+		batchSamples = new int[BATCH_SIZE*sampleSize];
+		for( int i = 0; i < BATCH_SIZE; i++ ) {
+			batchModels.add(manager.createModelInstance());
+		}
+		bestModel = manager.createModelInstance();
+	}
+
+	@Override
+	public boolean process(List<Point> dataSet) {
+		matchSet.clear();
+		matchToInput.reset();
+		bestInliers = 0;
+		iterations = 0;
+
+		final int N = dataSet.size();
+		if( N < sampleSize )
+			return false;
+
+		this.dataSet = dataSet;
+
+		// points are checked in a random order so that SPRT isn't biased by the input's order
+		if( order.length < N )
+			order = new int[N];
+		for( int i = 0; i < N; i++ )
+			order[i] = i;
+		for( int i = N-1; i > 0; i-- ) {
+			int j = rand.nextInt(i+1);
+			int tmp = order[i]; order[i] = order[j]; order[j] = tmp;
+		}
+
+		epsilon = initialEpsilon;
+		delta = initialDelta;
+		rejectedTested = 0;
+		rejectedConsistent = 0;
+		updateSprtThreshold();
+		initializeProsac(N);
+
+		boolean found = false;
+		int limit = maxIterations;
+		while( iterations < limit ) {
+			int batch = Math.min(BATCH_SIZE, limit - iterations);
+
+			for( int i = 0; i < batch; i++ ) {
+				selectSample(iterations + i + 1, N, i*sampleSize);
+			}
+			evaluateBatch(batch);
+
+			// merge in the order the hypotheses were generated so the results don't depend on the threads
+			for( int i = 0; i < batch; i++ ) {
+				if( !batchGenerated[i] )
+					continue;
+				if( batchAccepted[i] ) {
+					if( batchConsistent[i] > bestInliers ) {
+						bestInliers = batchConsistent[i];
+						manager.copyModel(batchModels.get(i), bestModel);
+						found = true;
+					}
+				} else {
+					rejectedTested += batchTested[i];
+					rejectedConsistent += batchConsistent[i];
+				}
+			}
+			iterations += batch;
+
+			// update the SPRT parameters and the number of iterations needed
+			if( rejectedTested > 0 )
+				delta = Math.max(1e-4, rejectedConsistent/(double)rejectedTested);
+			if( found ) {
+				epsilon = Math.min(0.999, bestInliers/(double)N);
+			}
+			updateSprtThreshold();
+			if( found ) {
+				limit = Math.min(maxIterations, requiredIterations());
+			}
+		}
+
+		if( !found )
+			return false;
+
+		// find the inliers of the best model
+		if( distances.length < N )
+			distances = new double[N];
+		DistanceFromModel<Model,Point> distance = mainWorker.distance;
+		distance.setModel(bestModel);
+		distance.computeDistance(dataSet, distances);
+
+		for( int i = 0; i < N; i++ ) {
+			if( distances[i] <= thresholdFit ) {
+				matchSet.add(dataSet.get(i));
+				matchToInput.add(i);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Generates and scores the hypotheses in a batch
+	 */
+	void evaluateBatch( int batch ) {
+		if( factory != null && BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, batch, 1, workers, new IntRangeObjectTask<Worker>() {
+				@Override
+				public void process(Worker worker, int idx0, int idx1) {
+					worker.evaluate(idx0, idx1);
+				}
+			});
+		} else {
+			mainWorker.evaluate(0, batch);
+		}
+	}
+
+	/**
+	 * Selects the points in a sample.  If the input is sorted then PROSAC is used.
+	 *
+	 * @param t Number of the hypothesis, starting from 1
+	 * @param N Number of points
+	 * @param offset Index of the sample's first element in batchSamples
+	 */
+	void selectSample( int t , int N , int offset ) {
+		if( !sortedByQuality ) {
+			selectRandom(N, offset, sampleSize);
+			return;
+		}
+
+		// grow the set of points which are sampled from
+		if( t > prosacTPrime && prosacN < N ) {
+			double nextT = prosacT*(prosacN+1)/(prosacN+1-sampleSize);
+			prosacTPrime += (int)Math.ceil(nextT - prosacT);
+			prosacT = nextT;
+			prosacN++;
+		}
+
+		if( prosacTPrime < t ) {
+			selectRandom(prosacN, offset, sampleSize);
+		} else {
+			// always include the newest point
+			selectRandom(prosacN-1, offset, sampleSize-1);
+			batchSamples[offset+sampleSize-1] = prosacN-1;
+		}
+	}
+
+	/**
+	 * Randomly selects unique indexes from 0 to N-1
+	 */
+	private void selectRandom( int N , int offset , int length ) {
+		for( int i = 0; i < length; i++ ) {
+			int index;
+			boolean unique;
+			do {
+				index = rand.nextInt(N);
+				unique = true;
+				for( int j = 0; j < i; j++ ) {
+					if( batchSamples[offset+j] == index ) {
+						unique = false;
+						break;
+					}
+				}
+			} while( !unique );
+			batchSamples[offset+i] = index;
+		}
+	}
+
+	/**
+	 * Initializes the PROSAC growth function, T_n = maxIterations*prod_{i=0}^{m-1} (n-i)/(N-i) where n = m
+	 */
+	private void initializeProsac( int N ) {
+		prosacN = sampleSize;
+		prosacT = maxIterations;
+		for( int i = 0; i < sampleSize; i++ ) {
+			prosacT *= (sampleSize - i)/(double)(N - i);
+		}
+		prosacTPrime = 1;
+	}
+
+	/**
+	 * Computes the SPRT decision threshold, A, from epsilon and delta.  A is the solution to
+	 * A = K + 1 + log(A), where K is the model cost divided by the expected information gained from a point.
+	 */
+	void updateSprtThreshold() {
+		if( epsilon <= delta ) {
+			// a good model can't be distinguished from a bad one so never reject early
+			logA = Double.POSITIVE_INFINITY;
+			logConsistent = logInconsistent = 0;
+			return;
+		}
+		logConsistent = Math.log(delta/epsilon);
+		logInconsistent = Math.log((1-delta)/(1-epsilon));
+
+		double C = (1-delta)*logInconsistent + delta*logConsistent;
+		double K = modelCost/C;
+		double A = K + 1;
+		for( int i = 0; i < 20; i++ ) {
+			double next = K + 1 + Math.log(A);
+			if( Math.abs(next-A) <= 1e-6 ) {
+				A = next;
+				break;
+			}
+			A = next;
+		}
+		logA = Math.log(A);
+	}
+
+	/**
+	 * Number of hypotheses needed to find a sample free of outliers with the specified confidence, taking in
+	 * account the probability that a good model is rejected by SPRT.
+	 */
+	int requiredIterations() {
+		double probGood = Math.pow(epsilon, sampleSize)*(1.0 - Math.exp(-logA));
+		if( probGood <= 0 )
+			return maxIterations;
+		if( probGood >= 1 )
+			return 0;
+		double k = Math.log(1-confidence)/Math.log(1-probGood);
+		if( k >= maxIterations )
+			return maxIterations;
+		return (int)Math.ceil(k);
+	}
+
+	/**
+	 * Generates hypotheses and scores them with SPRT
+	 */
+	class Worker {
+		ModelGenerator<Model,Point> generator;
+		DistanceFromModel<Model,Point> distance;
+		List<Point> sample = new ArrayList<>();
+
+		Worker(ModelGenerator<Model, Point> generator, DistanceFromModel<Model, Point> distance) {
+			this.generator = generator;
+			this.distance = distance;
+		}
+
+		void evaluate( int idx0 , int idx1 ) {
+			final int N = dataSet.size();
+
+			for( int h = idx0; h < idx1; h++ ) {
+				sample.clear();
+				for( int i = 0; i < sampleSize; i++ ) {
+					sample.add(dataSet.get(batchSamples[h*sampleSize+i]));
+				}
+
+				Model model = batchModels.get(h);
+				batchGenerated[h] = generator.generate(sample, model);
+				if( !batchGenerated[h] )
+					continue;
+
+				distance.setModel(model);
+
+				double logLambda = 0;
+				int consistent = 0;
+				int tested = 0;
+				boolean accepted = true;
+				while( tested < N ) {
+					Point p = dataSet.get(order[tested++]);
+					if( distance.computeDistance(p) <= thresholdFit ) {
+						consistent++;
+						logLambda += logConsistent;
+					} else {
+						logLambda += logInconsistent;
+						if( logLambda > logA ) {
+							accepted = false;
+							break;
+						}
+					}
+				}
+				batchAccepted[h] = accepted;
+				batchTested[h] = tested;
+				batchConsistent[h] = consistent;
+			}
+		}
+	}
+
+	/**
+	 * Resets the random number generator to its initial seed
+	 */
+	public void reset() {
+		rand = new Random(randSeed);
+	}
+
+	@Override
+	public Model getModelParameters() {
+		return bestModel;
+	}
+
+	@Override
+	public List<Point> getMatchSet() {
+		return matchSet;
+	}
+
+	@Override
+	public int getInputIndex(int matchIndex) {
+		return matchToInput.get(matchIndex);
+	}
+
+	@Override
+	public double getFitQuality() {
+		return bestInliers;
+	}
+
+	@Override
+	public int getMinimumSize() {
+		return sampleSize;
+	}
+
+	public Class<Point> getPointType() {
+		return mainWorker.distance.getPointType();
+	}
+
+	public Class<Model> getModelType() {
+		return mainWorker.distance.getModelType();
+	}
+
+	/**
+	 * Number of hypotheses which were generated in the last call to {@link #process(List)}
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	public double getConfidence() {
+		return confidence;
+	}
+
+	/**
+	 * Probability that a sample free of outliers has been drawn before it stops.  Set to 1 to always
+	 * run for the maximum number of iterations.
+	 */
+	public void setConfidence(double confidence) {
+		this.confidence = confidence;
+	}
+
+	public double getModelCost() {
+		return modelCost;
+	}
+
+	/**
+	 * Time it takes to generate a hypothesis relative to the time it takes to compute the distance for a
+	 * single point.
+	 */
+	public void setModelCost(double modelCost) {
+		this.modelCost = modelCost;
+	}
+
+	public boolean isSortedByQuality() {
+		return sortedByQuality;
+	}
+
+	/**
+	 * If true then the input points are sorted from best to worst quality and PROSAC sampling is used.
+	 */
+	public void setSortedByQuality(boolean sortedByQuality) {
+		this.sortedByQuality = sortedByQuality;
+	}
+}
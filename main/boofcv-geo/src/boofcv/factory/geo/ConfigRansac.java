@@ -21,7 +21,8 @@ package boofcv.factory.geo;
 import boofcv.struct.Configuration;
 
 /**
- * Standard configuration for {@link org.ddogleg.fitting.modelset.ransac.Ransac RANSAC}.
+ * Standard configuration for {@link org.ddogleg.fitting.modelset.ransac.Ransac RANSAC} and
+ * {@link boofcv.alg.geo.robust.RansacSprt}.
  *
  * @author Peter Abeles
  */
@@ -38,6 +39,11 @@ public class ConfigRansac implements Configuration {
 	 * Inlier threshold.
 	 */
 	public double inlierThreshold;
+	/**
+	 * Probability that a sample free of outliers has been drawn before it stops early.  Only used by
+	 * {@link boofcv.alg.geo.robust.RansacSprt}.  Set to 1 to always run for the maximum number of iterations.
+	 */
+	public double confidence = 0.99;
 
 	public ConfigRansac(int maxIterations, double inlierThreshold) {
 		this.maxIterations = maxIterations;
@@ -49,6 +55,7 @@ public class ConfigRansac implements Configuration {
 
 	@Override
 	public void checkValidity() {
-
+		if( confidence <= 0 || confidence > 1 )
+			throw new IllegalArgumentException("confidence must be in the range (0,1]");
 	}
 }
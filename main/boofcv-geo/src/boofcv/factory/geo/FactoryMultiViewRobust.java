@@ -26,6 +26,7 @@ import boofcv.alg.geo.pose.PnPDistanceReprojectionSq;
 import boofcv.alg.geo.robust.DistanceHomographySq;
 import boofcv.alg.geo.robust.DistanceSe3SymmetricSq;
 import boofcv.alg.geo.robust.GenerateHomographyLinear;
+import boofcv.alg.geo.robust.RansacSprt;
 import boofcv.alg.geo.robust.Se3FromEssentialGenerator;
 import boofcv.struct.calib.CameraPinholeRadial;
 import boofcv.struct.geo.AssociatedPair;
@@ -37,8 +38,8 @@ import georegression.struct.se.Se3_F64;
 import org.ddogleg.fitting.modelset.DistanceFromModel;
 import org.ddogleg.fitting.modelset.ModelGenerator;
 import org.ddogleg.fitting.modelset.ModelManager;
+import org.ddogleg.fitting.modelset.ModelMatcher;
 import org.ddogleg.fitting.modelset.lmeds.LeastMedianOfSquares;
-import org.ddogleg.fitting.modelset.ransac.Ransac;
 
 /**
  * Factory for creating robust false-positive tolerant estimation algorithms in multi-view geometry.  These
@@ -77,7 +78,7 @@ public class FactoryMultiViewRobust {
 	}
 
 	/**
-	 * Robust solution to PnP problem using {@link Ransac}.  Input observations are in normalized
+	 * Robust solution to PnP problem using {@link RansacSprt}.  Input observations are in normalized
 	 * image coordinates.
 	 *
 	 * <p>See code for all the details.</p>
@@ -86,20 +87,31 @@ public class FactoryMultiViewRobust {
 	 * @param ransac Parameters for RANSAC.  Can't be null.
 	 * @return Robust Se3_F64 estimator
 	 */
-	public static Ransac<Se3_F64, Point2D3D> pnpRansac( ConfigPnP pnp,
-														ConfigRansac ransac)
+	public static ModelMatcher<Se3_F64, Point2D3D> pnpRansac( final ConfigPnP pnp,
+															 ConfigRansac ransac)
 	{
-		Estimate1ofPnP estimatorPnP = FactoryMultiView.computePnP_1(pnp.which, -1, pnp.numResolve);
-		DistanceModelMonoPixels<Se3_F64,Point2D3D> distance = new PnPDistanceReprojectionSq();
-		distance.setIntrinsic(pnp.intrinsic.fx,pnp.intrinsic.fy,pnp.intrinsic.skew);
 		ModelManagerSe3_F64 manager = new ModelManagerSe3_F64();
-		EstimatorToGenerator<Se3_F64,Point2D3D> generator =
-				new EstimatorToGenerator<>(estimatorPnP);
+
+		// each thread needs its own estimator and distance function
+		RansacSprt.Factory<Se3_F64,Point2D3D> factory = new RansacSprt.Factory<Se3_F64,Point2D3D>() {
+			@Override
+			public ModelGenerator<Se3_F64, Point2D3D> createGenerator() {
+				Estimate1ofPnP estimatorPnP = FactoryMultiView.computePnP_1(pnp.which, -1, pnp.numResolve);
+				return new EstimatorToGenerator<>(estimatorPnP);
+			}
+
+			@Override
+			public DistanceFromModel<Se3_F64, Point2D3D> createDistance() {
+				DistanceModelMonoPixels<Se3_F64,Point2D3D> distance = new PnPDistanceReprojectionSq();
+				distance.setIntrinsic(pnp.intrinsic.fx,pnp.intrinsic.fy,pnp.intrinsic.skew);
+				return distance;
+			}
+		};
 
 		// convert from pixels to pixels squared
 		double threshold = ransac.inlierThreshold*ransac.inlierThreshold;
 
-		return new Ransac<>(ransac.randSeed, manager, generator, distance, ransac.maxIterations, threshold);
+		return createRansac(manager, factory, ransac, threshold);
 	}
 
 	/**
@@ -159,7 +171,7 @@ public class FactoryMultiViewRobust {
 
 	/**
 	 * Robust solution for estimating {@link Se3_F64} using epipolar geometry from two views with
-	 * {@link Ransac}.  Input observations are in normalized image coordinates.
+	 * {@link RansacSprt}.  Input observations are in normalized image coordinates.
 	 *
 	 * <p>See code for all the details.</p>
 	 *
@@ -167,48 +179,67 @@ public class FactoryMultiViewRobust {
 	 * @param ransac Parameters for RANSAC.  Can't be null.
 	 * @return Robust Se3_F64 estimator
 	 */
-	public static Ransac<Se3_F64, AssociatedPair> essentialRansac( ConfigEssential essential,
-																   ConfigRansac ransac ) {
+	public static ModelMatcher<Se3_F64, AssociatedPair> essentialRansac( final ConfigEssential essential,
+																		 ConfigRansac ransac ) {
 
 		essential.checkValidity();
 		ransac.checkValidity();
 
-		Estimate1ofEpipolar essentialAlg = FactoryMultiView.
-				computeEssential_1(essential.which, essential.numResolve);
-
-		return epipolarRansac(essentialAlg, essential.intrinsic, ransac);
+		return epipolarRansac(new EpipolarFactory() {
+			@Override
+			public Estimate1ofEpipolar create() {
+				return FactoryMultiView.computeEssential_1(essential.which, essential.numResolve);
+			}
+		}, essential.intrinsic, ransac);
 	}
 
-	public static Ransac<Se3_F64, AssociatedPair> fundamentalRansac( ConfigFundamental essential,
-																	 ConfigRansac ransac ) {
+	public static ModelMatcher<Se3_F64, AssociatedPair> fundamentalRansac( final ConfigFundamental essential,
+																		   ConfigRansac ransac ) {
 
 		essential.checkValidity();
 		ransac.checkValidity();
 
-		Estimate1ofEpipolar essentialAlg = FactoryMultiView.
-				computeFundamental_1(essential.which, essential.numResolve);
-
-		return epipolarRansac(essentialAlg, essential.intrinsic, ransac);
+		return epipolarRansac(new EpipolarFactory() {
+			@Override
+			public Estimate1ofEpipolar create() {
+				return FactoryMultiView.computeFundamental_1(essential.which, essential.numResolve);
+			}
+		}, essential.intrinsic, ransac);
 	}
 
-	private static Ransac<Se3_F64, AssociatedPair> epipolarRansac(Estimate1ofEpipolar epipolar,
-																 CameraPinholeRadial intrinsic,
-																 ConfigRansac ransac ) {
+	private static ModelMatcher<Se3_F64, AssociatedPair> epipolarRansac(final EpipolarFactory epipolar,
+																		final CameraPinholeRadial intrinsic,
+																		ConfigRansac ransac ) {
 
-		TriangulateTwoViewsCalibrated triangulate = FactoryMultiView.triangulateTwoGeometric();
 		ModelManager<Se3_F64> manager = new ModelManagerSe3_F64();
-		ModelGenerator<Se3_F64, AssociatedPair> generateEpipolarMotion =
-				new Se3FromEssentialGenerator(epipolar, triangulate);
 
-		DistanceFromModel<Se3_F64, AssociatedPair> distanceSe3 =
-				new DistanceSe3SymmetricSq(triangulate,
+		// each thread needs its own estimator and distance function
+		RansacSprt.Factory<Se3_F64,AssociatedPair> factory = new RansacSprt.Factory<Se3_F64,AssociatedPair>() {
+			@Override
+			public ModelGenerator<Se3_F64, AssociatedPair> createGenerator() {
+				TriangulateTwoViewsCalibrated triangulate = FactoryMultiView.triangulateTwoGeometric();
+				return new Se3FromEssentialGenerator(epipolar.create(), triangulate);
+			}
+
+			@Override
+			public DistanceFromModel<Se3_F64, AssociatedPair> createDistance() {
+				TriangulateTwoViewsCalibrated triangulate = FactoryMultiView.triangulateTwoGeometric();
+				return new DistanceSe3SymmetricSq(triangulate,
 						intrinsic.fx, intrinsic.fy, intrinsic.skew,
 						intrinsic.fx, intrinsic.fy, intrinsic.skew);
+			}
+		};
 
 		double ransacTOL = ransac.inlierThreshold * ransac.inlierThreshold * 2.0;
 
-		return new Ransac<>(ransac.randSeed, manager, generateEpipolarMotion, distanceSe3,
-				ransac.maxIterations, ransacTOL);
+		return createRansac(manager, factory, ransac, ransacTOL);
+	}
+
+	/**
+	 * Creates a new instance of the epipolar estimator for each thread
+	 */
+	private interface EpipolarFactory {
+		Estimate1ofEpipolar create();
 	}
 
 	/**
@@ -241,7 +272,7 @@ public class FactoryMultiViewRobust {
 	}
 
 	/**
-	 * Robust solution for estimating {@link Homography2D_F64} with {@link Ransac}.  Input
+	 * Robust solution for estimating {@link Homography2D_F64} with {@link RansacSprt}.  Input
 	 * observations are in pixel coordinates.
 	 *
 	 * <ul>
@@ -255,19 +286,44 @@ public class FactoryMultiViewRobust {
 	 * @param ransac Parameters for RANSAC.  Can't be null.
 	 * @return Homography estimator
 	 */
-	public static Ransac<Homography2D_F64,AssociatedPair>
+	public static ModelMatcher<Homography2D_F64,AssociatedPair>
 	homographyRansac( ConfigHomography homography , ConfigRansac ransac )
 	{
 		if( homography == null )
 			homography = new ConfigHomography();
 
+		final boolean normalize = homography.normalize;
 		ModelManager<Homography2D_F64> manager = new ModelManagerHomography2D_F64();
-		GenerateHomographyLinear modelFitter = new GenerateHomographyLinear(homography.normalize);
-		DistanceHomographySq distance = new DistanceHomographySq();
+
+		// each thread needs its own estimator and distance function
+		RansacSprt.Factory<Homography2D_F64,AssociatedPair> factory =
+				new RansacSprt.Factory<Homography2D_F64,AssociatedPair>() {
+			@Override
+			public ModelGenerator<Homography2D_F64, AssociatedPair> createGenerator() {
+				return new GenerateHomographyLinear(normalize);
+			}
+
+			@Override
+			public DistanceFromModel<Homography2D_F64, AssociatedPair> createDistance() {
+				return new DistanceHomographySq();
+			}
+		};
 
 		double ransacTol = ransac.inlierThreshold*ransac.inlierThreshold;
 
-		return new Ransac<>
-				(ransac.randSeed, manager, modelFitter, distance, ransac.maxIterations, ransacTol);
+		return createRansac(manager, factory, ransac, ransacTol);
+	}
+
+	/**
+	 * Creates RANSAC with SPRT which evaluates hypotheses concurrently
+	 */
+	private static <Model,Point> RansacSprt<Model,Point>
+	createRansac( ModelManager<Model> manager , RansacSprt.Factory<Model,Point> factory ,
+				  ConfigRansac ransac , double threshold )
+	{
+		RansacSprt<Model,Point> alg = new RansacSprt<>
+				(ransac.randSeed, manager, factory, ransac.maxIterations, threshold);
+		alg.setConfidence(ransac.confidence);
+		return alg;
 	}
 }
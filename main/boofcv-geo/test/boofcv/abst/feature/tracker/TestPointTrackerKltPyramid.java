@@ -23,8 +23,12 @@ import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.tracker.klt.*;
 import boofcv.factory.feature.tracker.FactoryPointTracker;
 import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -157,6 +161,65 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<GrayF32> {
 
 	}
 
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		// shift the image by one pixel
+		final GrayF32 shifted = new GrayF32(width,height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 1; x < width; x++ ) {
+				shifted.set(x,y,image.get(x-1,y));
+			}
+		}
+
+		// serial results are added first then the concurrent results
+		final List<PointTracker<GrayF32>> results = new ArrayList<>();
+		int oldMin = PointTrackerKltPyramid.MIN_BLOCK_TRACKS;
+		try {
+			PointTrackerKltPyramid.MIN_BLOCK_TRACKS = 5;
+
+			Runnable task = new Runnable() {
+				@Override
+				public void run() {
+					results.add(trackSequence(shifted));
+				}
+			};
+			BoofTesting.checkConcurrent(task,task);
+		} finally {
+			PointTrackerKltPyramid.MIN_BLOCK_TRACKS = oldMin;
+		}
+		PointTracker<GrayF32> expected = results.get(0);
+		PointTracker<GrayF32> found = results.get(1);
+
+		compare(expected.getActiveTracks(null), found.getActiveTracks(null));
+		compare(expected.getDroppedTracks(null), found.getDroppedTracks(null));
+		compare(expected.getNewTracks(null), found.getNewTracks(null));
+		assertTrue(expected.getActiveTracks(null).size() > 20);
+	}
+
+	private PointTracker<GrayF32> trackSequence( GrayF32 shifted ) {
+		PointTracker<GrayF32> alg = createTracker();
+		alg.process(image);
+		alg.spawnTracks();
+		alg.process(shifted);
+		alg.spawnTracks();
+		alg.process(image);
+		return alg;
+	}
+
+	private void compare( List<PointTrack> expected , List<PointTrack> found ) {
+		assertEquals(expected.size(), found.size());
+		for( int i = 0; i < expected.size(); i++ ) {
+			PointTrack e = expected.get(i);
+			PointTrack f = found.get(i);
+			assertEquals(e.featureId, f.featureId);
+			assertEquals(e.x, f.x, 1e-8);
+			assertEquals(e.y, f.y, 1e-8);
+		}
+	}
+
 	/**
 	 * Don't change the track state
 	 */
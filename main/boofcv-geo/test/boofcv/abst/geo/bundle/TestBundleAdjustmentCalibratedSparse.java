@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.abst.geo.bundle;
+
+import boofcv.alg.geo.GeoTestingOps;
+import boofcv.alg.geo.bundle.CalibPoseAndPointResiduals;
+import boofcv.alg.geo.bundle.CalibratedPoseAndPoint;
+import boofcv.alg.geo.bundle.ViewPointObservations;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static boofcv.abst.geo.bundle.TestBundleAdjustmentCalibratedDense.createModel;
+import static boofcv.abst.geo.bundle.TestBundleAdjustmentCalibratedDense.createObservations;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBundleAdjustmentCalibratedSparse {
+
+	Random rand = new Random(234);
+	int numViews = 2;
+	int numPoints = 4;
+
+	/**
+	 * Perfect observations and model
+	 */
+	@Test
+	public void perfect() {
+		CalibratedPoseAndPoint model = createModel(numViews,numPoints,rand);
+		List<ViewPointObservations> observations = createObservations(model,numViews,numPoints);
+
+		BundleAdjustmentCalibratedSparse alg = new BundleAdjustmentCalibratedSparse(1e-8,500);
+
+		assertTrue(alg.process(model, observations));
+
+		// compute error, which should be zero
+		assertEquals(0,computeError(model,observations),1e-8);
+	}
+
+	/**
+	 * Perfect observations with a corrupted model.  See if the error decreases
+	 */
+	@Test
+	public void noisy() {
+		CalibratedPoseAndPoint model = createModel(numViews,numPoints,rand);
+		List<ViewPointObservations> observations = createObservations(model,numViews,numPoints);
+
+		BundleAdjustmentCalibratedSparse alg = new BundleAdjustmentCalibratedSparse(1e-12,500);
+
+		// add noise to the model
+		model.getWorldToCamera(0).getT().x += 0.02;
+		model.getWorldToCamera(1).getT().y -= 0.01;
+
+		double errorBefore = computeError(model,observations);
+
+		assertTrue(alg.process(model, observations));
+
+		double errorAfter = computeError(model,observations);
+
+		// the error should be less now
+		assertTrue(errorAfter<errorBefore*0.1);
+	}
+
+	/**
+	 * One view is known and the others are corrupted.  The known view should not be modified
+	 */
+	@Test
+	public void knownView() {
+		numViews = 4;
+		numPoints = 20;
+		CalibratedPoseAndPoint model = createModel(numViews,numPoints,rand);
+		List<ViewPointObservations> observations = createObservations(model,numViews,numPoints);
+		model.setViewKnown(0,true);
+
+		double expectedX = model.getWorldToCamera(0).getT().x;
+		model.getWorldToCamera(1).getT().x += 0.02;
+		model.getWorldToCamera(3).getT().y -= 0.01;
+		model.getPoint(2).z += 0.1;
+
+		double errorBefore = computeError(model,observations);
+
+		BundleAdjustmentCalibratedSparse alg = new BundleAdjustmentCalibratedSparse(1e-12,500);
+		assertTrue(alg.process(model, observations));
+
+		assertTrue(computeError(model,observations)<errorBefore*0.1);
+		assertEquals(expectedX,model.getWorldToCamera(0).getT().x,1e-12);
+	}
+
+	/**
+	 * Process a large problem then a smaller one with the same instance.  Storage from the larger problem
+	 * should not influence the solution to the smaller one.
+	 */
+	@Test
+	public void reuseSmallerProblem() {
+		BundleAdjustmentCalibratedSparse alg = new BundleAdjustmentCalibratedSparse(1e-12,50);
+
+		CalibratedPoseAndPoint large = createModel(4,50,rand);
+		List<ViewPointObservations> observationsLarge = createObservations(large,4,50);
+		// noisy observations so that the residuals are far from zero after optimization
+		for( ViewPointObservations v : observationsLarge ) {
+			for( int i = 0; i < v.getPoints().size; i++ ) {
+				v.getPoints().get(i).obs.x += rand.nextGaussian();
+			}
+		}
+		alg.process(large,observationsLarge);
+
+		CalibratedPoseAndPoint original = createModel(numViews,numPoints,rand);
+		List<ViewPointObservations> observations = createObservations(original,numViews,numPoints);
+		original.getWorldToCamera(0).getT().x += 0.02;
+		original.getWorldToCamera(1).getT().y -= 0.01;
+
+		CalibratedPoseAndPoint expected = copy(original);
+		new BundleAdjustmentCalibratedSparse(1e-12,50).process(expected,observations);
+
+		CalibratedPoseAndPoint found = copy(original);
+		alg.process(found,observations);
+
+		for( int i = 0; i < numViews; i++ ) {
+			assertEquals(0,expected.getWorldToCamera(i).getT().distance(found.getWorldToCamera(i).getT()),1e-12);
+		}
+		for( int i = 0; i < numPoints; i++ ) {
+			assertEquals(0,expected.getPoint(i).distance(found.getPoint(i)),1e-12);
+		}
+
+		// the cost should only include residuals from the smaller problem
+		CalibPoseAndPointResiduals func = new CalibPoseAndPointResiduals();
+		func.configure(null,found,observations);
+		double residuals[] = new double[ func.getNumOfOutputsM() ];
+		func.process(found,residuals);
+		double expectedCost = 0;
+		for( int i = 0; i < residuals.length; i++ )
+			expectedCost += residuals[i]*residuals[i];
+		assertEquals(expectedCost,alg.minimizer.getFunctionValue(),1e-12);
+	}
+
+	/**
+	 * Results should be the same when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		numViews = 6;
+		numPoints = 300;
+		final CalibratedPoseAndPoint original = createModel(numViews,numPoints,rand);
+		final List<ViewPointObservations> observations = createObservations(original,numViews,numPoints);
+		original.getWorldToCamera(2).getT().x += 0.02;
+		original.getWorldToCamera(4).getT().y -= 0.01;
+		original.getPoint(7).z += 0.1;
+
+		// serial results are added first then the concurrent results
+		final List<CalibratedPoseAndPoint> results = new ArrayList<>();
+		Runnable task = new Runnable() {
+			@Override
+			public void run() {
+				CalibratedPoseAndPoint refined = copy(original);
+				new BundleAdjustmentCalibratedSparse(1e-12,50).process(refined,observations);
+				results.add(refined);
+			}
+		};
+		BoofTesting.checkConcurrent(task,task);
+		CalibratedPoseAndPoint expected = results.get(0);
+		CalibratedPoseAndPoint found = results.get(1);
+
+		assertTrue(computeError(found,observations) < computeError(original,observations)*0.1);
+		for( int i = 0; i < numViews; i++ ) {
+			assertEquals(0,expected.getWorldToCamera(i).getT().distance(found.getWorldToCamera(i).getT()),1e-8);
+		}
+		for( int i = 0; i < numPoints; i++ ) {
+			assertEquals(0,expected.getPoint(i).distance(found.getPoint(i)),1e-8);
+		}
+	}
+
+	private CalibratedPoseAndPoint copy( CalibratedPoseAndPoint src ) {
+		CalibratedPoseAndPoint dst = new CalibratedPoseAndPoint();
+		dst.configure(src.getNumViews(),src.getNumPoints());
+		for( int i = 0; i < src.getNumViews(); i++ ) {
+			dst.getWorldToCamera(i).set(src.getWorldToCamera(i));
+			dst.setViewKnown(i,src.isViewKnown(i));
+		}
+		for( int i = 0; i < src.getNumPoints(); i++ ) {
+			dst.getPoint(i).set(src.getPoint(i));
+		}
+		return dst;
+	}
+
+	private double computeError( CalibratedPoseAndPoint model ,
+								 List<ViewPointObservations> observations )
+	{
+		CalibPoseAndPointResiduals func = new CalibPoseAndPointResiduals();
+		func.configure(null,model,observations);
+		double residuals[] = new double[ func.getNumOfOutputsM() ];
+
+		func.process(model,residuals);
+
+		return GeoTestingOps.residualError(residuals);
+	}
+}
@@ -24,6 +24,8 @@ import org.ejml.data.FMatrixRMaj;
 import org.ejml.dense.row.CommonOps_FDRM;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -58,4 +60,32 @@ public class TestPinholePtoN_F32 {
 		assertEquals(expected.x,out.x,1e-5);
 		assertEquals(expected.y, out.y, 1e-5);
 	}
+
+	/**
+	 * Compare the batch computation against transforming each point individually
+	 */
+	@Test
+	public void batch() {
+		Random rand = new Random(234);
+		PinholePtoN_F32 alg = new PinholePtoN_F32();
+		alg.set(fx,fy,skew,x_c,y_c);
+
+		float x[] = new float[20];
+		float y[] = new float[20];
+		for( int i = 0; i < x.length; i++ ) {
+			x[i] = (float)rand.nextFloat()*800;
+			y[i] = (float)rand.nextFloat()*900;
+		}
+		float origX[] = x.clone();
+		float origY[] = y.clone();
+
+		alg.compute(x,y,x.length);
+
+		Point2D_F32 expected = new Point2D_F32();
+		for( int i = 0; i < x.length; i++ ) {
+			alg.compute(origX[i],origY[i],expected);
+			assertEquals(expected.x,x[i],1e-5);
+			assertEquals(expected.y,y[i],1e-5);
+		}
+	}
 }
@@ -24,6 +24,8 @@ import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -58,4 +60,32 @@ public class TestPinholePtoN_F64 {
 		assertEquals(expected.x,out.x,1e-5);
 		assertEquals(expected.y, out.y, 1e-5);
 	}
+
+	/**
+	 * Compare the batch computation against transforming each point individually
+	 */
+	@Test
+	public void batch() {
+		Random rand = new Random(234);
+		PinholePtoN_F64 alg = new PinholePtoN_F64();
+		alg.set(fx,fy,skew,x_c,y_c);
+
+		double x[] = new double[20];
+		double y[] = new double[20];
+		for( int i = 0; i < x.length; i++ ) {
+			x[i] = (double)rand.nextDouble()*800;
+			y[i] = (double)rand.nextDouble()*900;
+		}
+		double origX[] = x.clone();
+		double origY[] = y.clone();
+
+		alg.compute(x,y,x.length);
+
+		Point2D_F64 expected = new Point2D_F64();
+		for( int i = 0; i < x.length; i++ ) {
+			alg.compute(origX[i],origY[i],expected);
+			assertEquals(expected.x,x[i],1e-5);
+			assertEquals(expected.y,y[i],1e-5);
+		}
+	}
 }
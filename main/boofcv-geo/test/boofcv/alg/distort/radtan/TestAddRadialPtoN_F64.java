@@ -24,6 +24,8 @@ import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.CommonOps_DDRM;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -84,4 +86,40 @@ public class TestAddRadialPtoN_F64 {
 		assertEquals(dnx,found.x,1e-4);
 		assertEquals(dny,found.y,1e-4);
 	}
+
+	/**
+	 * Compare the batch computation against transforming each point individually. Checks different
+	 * numbers of radial parameters, including the case which is handled one point at a time
+	 */
+	@Test
+	public void batch() {
+		Random rand = new Random(234);
+
+		for( int numRadial = 0; numRadial <= 4; numRadial++ ) {
+			/**/double radial[] = new /**/double[numRadial];
+			for( int i = 0; i < numRadial; i++ )
+				radial[i] = rand.nextGaussian()*0.05;
+
+			AddRadialPtoN_F64 alg = new AddRadialPtoN_F64().setK(600, 500, 2, 300, 350).
+					setDistortion(radial, 0.02, -0.01);
+
+			double x[] = new double[20];
+			double y[] = new double[20];
+			for( int i = 0; i < x.length; i++ ) {
+				x[i] = (double)rand.nextDouble()*600;
+				y[i] = (double)rand.nextDouble()*700;
+			}
+			double origX[] = x.clone();
+			double origY[] = y.clone();
+
+			alg.compute(x,y,x.length);
+
+			Point2D_F64 expected = new Point2D_F64();
+			for( int i = 0; i < x.length; i++ ) {
+				alg.compute(origX[i],origY[i],expected);
+				assertEquals(expected.x,x[i],1e-4);
+				assertEquals(expected.y,y[i],1e-4);
+			}
+		}
+	}
 }
@@ -19,6 +19,7 @@
 package boofcv.alg.geo.bundle;
 
 import boofcv.alg.geo.GeoTestingOps;
+import boofcv.testing.BoofTesting;
 import georegression.struct.point.Point2D_F64;
 import georegression.struct.point.Point3D_F64;
 import georegression.struct.se.Se3_F64;
@@ -29,6 +30,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import static boofcv.abst.geo.bundle.TestBundleAdjustmentCalibratedDense.createModel;
+import static boofcv.abst.geo.bundle.TestBundleAdjustmentCalibratedDense.createObservations;
 import static boofcv.alg.geo.bundle.TestCalibPoseAndPointRodiguesCodec.configure;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -96,4 +99,48 @@ public class TestCalibPoseAndPointResiduals {
 
 		assertTrue(GeoTestingOps.residualError(residuals) > 1e-8);
 	}
+
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		int numViews = 5;
+		int numPoints = 40;
+
+		final CalibratedPoseAndPoint model = createModel(numViews,numPoints,rand);
+		List<ViewPointObservations> obs = createObservations(model,numViews,numPoints);
+		model.getPoint(3).x += 0.1;
+		model.getWorldToCamera(2).getT().y += 0.05;
+
+		final CalibPoseAndPointResiduals alg = new CalibPoseAndPointResiduals();
+		alg.configure(null,model,obs);
+
+		final double expected[] = new double[alg.getNumOfOutputsM()];
+		final double found[] = new double[alg.getNumOfOutputsM()];
+
+		int oldMin = CalibPoseAndPointResiduals.MIN_BLOCK_OBSERVATIONS;
+		try {
+			CalibPoseAndPointResiduals.MIN_BLOCK_OBSERVATIONS = 7;
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(model,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(model,found);
+				}
+			});
+		} finally {
+			CalibPoseAndPointResiduals.MIN_BLOCK_OBSERVATIONS = oldMin;
+		}
+
+		assertTrue(GeoTestingOps.residualError(expected) > 1e-8);
+		for( int i = 0; i < expected.length; i++ ) {
+			assertEquals(expected[i],found[i],1e-12);
+		}
+	}
 }
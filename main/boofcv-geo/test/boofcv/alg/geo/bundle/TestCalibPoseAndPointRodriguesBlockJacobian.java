@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.bundle;
+
+import boofcv.testing.BoofTesting;
+import georegression.struct.se.Se3_F64;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static boofcv.abst.geo.bundle.TestBundleAdjustmentCalibratedDense.createModel;
+import static boofcv.abst.geo.bundle.TestBundleAdjustmentCalibratedDense.createObservations;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCalibPoseAndPointRodriguesBlockJacobian {
+
+	Random rand = new Random(48854);
+	int numViews = 3;
+	int numPoints = 4;
+
+	CalibPoseAndPointRodriguesCodec codec = new CalibPoseAndPointRodriguesCodec();
+
+	@Test
+	public void allUnknown() {
+		check(false,false,false);
+	}
+
+	@Test
+	public void allKnown() {
+		check(true,true,true);
+	}
+
+	@Test
+	public void mixed() {
+		check(false,true,false);
+	}
+
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		int oldMin = CalibPoseAndPointRodriguesBlockJacobian.MIN_BLOCK_OBSERVATIONS;
+		try {
+			CalibPoseAndPointRodriguesBlockJacobian.MIN_BLOCK_OBSERVATIONS = 1;
+			numViews = 5;
+			numPoints = 30;
+			Runnable task = new Runnable() {
+				@Override
+				public void run() {
+					check(false,true,false,false,true);
+				}
+			};
+			BoofTesting.checkConcurrent(task,task);
+		} finally {
+			CalibPoseAndPointRodriguesBlockJacobian.MIN_BLOCK_OBSERVATIONS = oldMin;
+		}
+	}
+
+	/**
+	 * Compares the blocks against the dense Jacobian, which has already been checked numerically
+	 */
+	private void check( boolean ...known ) {
+		CalibratedPoseAndPoint model = createModel(numViews,numPoints,rand);
+		List<ViewPointObservations> observations = createObservations(model,numViews,numPoints);
+
+		Se3_F64 extrinsic[] = new Se3_F64[known.length];
+
+		for( int i = 0; i < known.length; i++ ) {
+			model.setViewKnown(i,known[i]);
+			if( known[i] ) {
+				Se3_F64 e = new Se3_F64();
+				e.set(model.getWorldToCamera(i));
+				extrinsic[i] = e;
+			}
+		}
+
+		int numViewsUnknown = model.getNumUnknownViews();
+		codec.configure(numViews,numPoints,numViewsUnknown,known);
+
+		double []param = new double[ codec.getParamLength() ];
+		codec.encode(model,param);
+
+		CalibPoseAndPointRodriguesJacobian dense = new CalibPoseAndPointRodriguesJacobian();
+		dense.configure(observations,numPoints,extrinsic);
+		int N = dense.getNumOfInputsN();
+		double expected[] = new double[ dense.getNumOfOutputsM()*N ];
+		dense.process(param,expected);
+
+		CalibPoseAndPointRodriguesBlockJacobian alg = new CalibPoseAndPointRodriguesBlockJacobian();
+		alg.configure(observations,numPoints,extrinsic);
+		alg.process(param);
+
+		assertEquals(numViewsUnknown,alg.getNumViewsUnknown());
+		assertEquals(numViews*numPoints,alg.getNumObservations());
+
+		// expand the blocks into a dense matrix
+		double found[] = new double[ expected.length ];
+		int indexFirstPoint = numViewsUnknown*6;
+		for( int k = 0; k < alg.getNumObservations(); k++ ) {
+			int view = alg.getObsViewUnknown()[k];
+			int point = alg.getObsPoint()[k];
+			for( int row = 0; row < 2; row++ ) {
+				int indexRow = (k*2+row)*N;
+				for( int i = 0; i < 3; i++ ) {
+					found[indexRow + indexFirstPoint + point*3 + i] = alg.getJacobianPoint()[k*6+row*3+i];
+				}
+				if( view >= 0 ) {
+					for( int i = 0; i < 6; i++ ) {
+						found[indexRow + view*6 + i] = alg.getJacobianView()[k*12+row*6+i];
+					}
+				}
+			}
+		}
+
+		for( int i = 0; i < expected.length; i++ ) {
+			assertEquals(expected[i],found[i],1e-8);
+		}
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.alg.geo.pose;
 import boofcv.abst.geo.optimization.ResidualsCodecToMatrix;
 import boofcv.alg.geo.PerspectiveOps;
 import boofcv.struct.geo.Point2D3D;
+import boofcv.testing.BoofTesting;
 import georegression.geometry.ConvertRotation3D_F64;
 import georegression.struct.EulerType;
 import georegression.struct.se.Se3_F64;
@@ -31,6 +32,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -56,10 +58,70 @@ public class TestPnPJacobianRodrigues {
 
 	private void compareToNumerical(double noise) {
 
+		Se3_F64 worldToCamera = createWorldToCamera();
+		List<Point2D3D> observations = createObservations(worldToCamera, numPoints, noise);
+
+		PnPJacobianRodrigues alg = new PnPJacobianRodrigues();
+		alg.setObservations(observations);
+		func.setObservations(observations);
+
+		double []param = new double[ codec.getParamLength() ];
+
+		codec.encode(worldToCamera,param);
+
+//		DerivativeChecker.jacobianPrint(func, alg, param, 1e-6);
+		assertTrue(DerivativeChecker.jacobian(func, alg, param, 1e-6));
+	}
+
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		Se3_F64 worldToCamera = createWorldToCamera();
+		List<Point2D3D> observations = createObservations(worldToCamera, 50, 0.1);
+
+		final PnPJacobianRodrigues alg = new PnPJacobianRodrigues();
+		alg.setObservations(observations);
+
+		final double []param = new double[ codec.getParamLength() ];
+		codec.encode(worldToCamera,param);
+
+		final double expected[] = new double[alg.getNumOfOutputsM()*6];
+		final double found[] = new double[alg.getNumOfOutputsM()*6];
+
+		int oldMin = PnPJacobianRodrigues.MIN_BLOCK_POINTS;
+		try {
+			PnPJacobianRodrigues.MIN_BLOCK_POINTS = 7;
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(param,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(param,found);
+				}
+			});
+		} finally {
+			PnPJacobianRodrigues.MIN_BLOCK_POINTS = oldMin;
+		}
+
+		for( int i = 0; i < expected.length; i++ ) {
+			assertEquals(expected[i],found[i],1e-12);
+		}
+	}
+
+	static Se3_F64 createWorldToCamera() {
 		Se3_F64 worldToCamera = new Se3_F64();
 		ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ,0.1, 1, -0.2, worldToCamera.getR());
 		worldToCamera.getT().set(-0.3,0.4,1);
+		return worldToCamera;
+	}
 
+	List<Point2D3D> createObservations( Se3_F64 worldToCamera , int numPoints , double noise ) {
 		List<Point2D3D> observations = new ArrayList<>();
 
 		for( int i = 0; i < numPoints; i++ ) {
@@ -75,16 +137,6 @@ public class TestPnPJacobianRodrigues {
 
 			observations.add(p);
 		}
-
-		PnPJacobianRodrigues alg = new PnPJacobianRodrigues();
-		alg.setObservations(observations);
-		func.setObservations(observations);
-
-		double []param = new double[ codec.getParamLength() ];
-
-		codec.encode(worldToCamera,param);
-
-//		DerivativeChecker.jacobianPrint(func, alg, param, 1e-6);
-		assertTrue(DerivativeChecker.jacobian(func, alg, param, 1e-6));
+		return observations;
 	}
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.pose;
+
+import boofcv.abst.geo.optimization.ResidualsCodecToMatrix;
+import boofcv.alg.geo.PerspectiveOps;
+import boofcv.struct.geo.Point2D3D;
+import boofcv.testing.BoofTesting;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.EulerType;
+import georegression.struct.se.Se3_F64;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPnPResidualRodrigues {
+
+	Random rand = new Random(48854);
+
+	PnPRodriguesCodec codec = new PnPRodriguesCodec();
+
+	/**
+	 * Compare against the generic residual function
+	 */
+	@Test
+	public void compareToReprojection() {
+		List<Point2D3D> observations = createObservations(20);
+
+		ResidualsCodecToMatrix<Se3_F64,Point2D3D> func =
+				new ResidualsCodecToMatrix<>(codec, new PnPResidualReprojection(), new Se3_F64());
+		func.setObservations(observations);
+
+		PnPResidualRodrigues alg = new PnPResidualRodrigues();
+		alg.setObservations(observations);
+
+		assertEquals(func.getNumOfInputsN(), alg.getNumOfInputsN());
+		assertEquals(func.getNumOfOutputsM(), alg.getNumOfOutputsM());
+
+		double param[] = createParam();
+		double expected[] = new double[func.getNumOfOutputsM()];
+		double found[] = new double[alg.getNumOfOutputsM()];
+
+		func.process(param, expected);
+		alg.process(param, found);
+
+		for( int i = 0; i < expected.length; i++ ) {
+			assertEquals(expected[i], found[i], 1e-12);
+		}
+	}
+
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		List<Point2D3D> observations = createObservations(50);
+
+		final PnPResidualRodrigues alg = new PnPResidualRodrigues();
+		alg.setObservations(observations);
+
+		final double param[] = createParam();
+		final double expected[] = new double[alg.getNumOfOutputsM()];
+		final double found[] = new double[alg.getNumOfOutputsM()];
+
+		int oldMin = PnPResidualRodrigues.MIN_BLOCK_POINTS;
+		try {
+			PnPResidualRodrigues.MIN_BLOCK_POINTS = 7;
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(param, expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(param, found);
+				}
+			});
+		} finally {
+			PnPResidualRodrigues.MIN_BLOCK_POINTS = oldMin;
+		}
+
+		for( int i = 0; i < expected.length; i++ ) {
+			assertEquals(expected[i], found[i], 1e-12);
+		}
+	}
+
+	private Se3_F64 createWorldToCamera() {
+		Se3_F64 worldToCamera = new Se3_F64();
+		ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ,0.1, 1, -0.2, worldToCamera.getR());
+		worldToCamera.getT().set(-0.3,0.4,1);
+		return worldToCamera;
+	}
+
+	/**
+	 * Parameters which are slightly different from the truth so that residuals are not zero
+	 */
+	private double[] createParam() {
+		Se3_F64 worldToCamera = createWorldToCamera();
+		worldToCamera.getT().x += 0.05;
+
+		double param[] = new double[ codec.getParamLength() ];
+		codec.encode(worldToCamera, param);
+		return param;
+	}
+
+	private List<Point2D3D> createObservations( int numPoints ) {
+		Se3_F64 worldToCamera = createWorldToCamera();
+
+		List<Point2D3D> observations = new ArrayList<>();
+		for( int i = 0; i < numPoints; i++ ) {
+			Point2D3D p = new Point2D3D();
+
+			p.location.set( rand.nextGaussian()*0.1,
+					rand.nextGaussian()*0.2 , 3 + rand.nextGaussian() );
+
+			p.observation = PerspectiveOps.renderPixel(worldToCamera, null, p.location);
+
+			p.observation.x += rand.nextGaussian()*0.01;
+			p.observation.y += rand.nextGaussian()*0.01;
+
+			observations.add(p);
+		}
+		return observations;
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.geo.robust;
+
+import boofcv.struct.geo.AssociatedPair;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.fitting.modelset.DistanceFromModel;
+import org.ddogleg.fitting.modelset.ModelGenerator;
+import org.ddogleg.fitting.modelset.ModelManager;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRansacSprt {
+
+	Random rand = new Random(234);
+
+	// the true translation
+	double tranX = 2, tranY = -1;
+
+	/**
+	 * Finds the correct model and inliers when there are a lot of outliers
+	 */
+	@Test
+	public void outliers() {
+		List<AssociatedPair> points = createPoints(300, 0.4);
+
+		RansacSprt<Point2D_F64,AssociatedPair> alg = createSerial(1000);
+		assertTrue(alg.process(points));
+
+		checkSolution(alg, points);
+	}
+
+	/**
+	 * All the points are inliers so it should stop after the first batch
+	 */
+	@Test
+	public void earlyTermination() {
+		List<AssociatedPair> points = createPoints(100, 1.0);
+
+		RansacSprt<Point2D_F64,AssociatedPair> alg = createSerial(1000);
+		assertTrue(alg.process(points));
+
+		assertEquals(RansacSprt.BATCH_SIZE, alg.getIterations());
+		assertEquals(100, alg.getMatchSet().size());
+
+		// if the confidence is 1 then it will run until the maximum number of iterations
+		alg.setConfidence(1.0);
+		assertTrue(alg.process(points));
+		assertEquals(1000, alg.getIterations());
+	}
+
+	/**
+	 * Most points are outliers, but the input is sorted so that the inliers are first
+	 */
+	@Test
+	public void sortedByQuality() {
+		List<AssociatedPair> points = createPoints(300, 0.15);
+
+		// move the inliers to the front of the list
+		List<AssociatedPair> sorted = new ArrayList<>();
+		for( AssociatedPair p : points ) {
+			if( isInlier(p) )
+				sorted.add(p);
+		}
+		for( AssociatedPair p : points ) {
+			if( !isInlier(p) )
+				sorted.add(p);
+		}
+
+		RansacSprt<Point2D_F64,AssociatedPair> alg = createSerial(2000);
+		alg.setSortedByQuality(true);
+		assertTrue(alg.process(sorted));
+
+		checkSolution(alg, sorted);
+		assertTrue(alg.getIterations() < 2000);
+	}
+
+	@Test
+	public void tooFewPoints() {
+		List<AssociatedPair> points = createPoints(1, 1.0);
+
+		RansacSprt<Point2D_F64,AssociatedPair> alg = createSerial(100);
+		assertFalse(alg.process(points));
+		assertEquals(0, alg.getMatchSet().size());
+	}
+
+	/**
+	 * The results should be identical when run concurrently
+	 */
+	@Test
+	public void concurrent() {
+		final List<AssociatedPair> points = createPoints(500, 0.3);
+
+		// serial results are added first then the concurrent results
+		final List<RansacSprt<Point2D_F64,AssociatedPair>> results = new ArrayList<>();
+		Runnable task = new Runnable() {
+			@Override
+			public void run() {
+				RansacSprt<Point2D_F64,AssociatedPair> alg = createConcurrent(1000);
+				assertTrue(alg.process(points));
+				results.add(alg);
+			}
+		};
+		BoofTesting.checkConcurrent(task,task);
+		RansacSprt<Point2D_F64,AssociatedPair> expected = results.get(0);
+		RansacSprt<Point2D_F64,AssociatedPair> found = results.get(1);
+
+		checkSolution(found, points);
+		assertEquals(expected.getIterations(), found.getIterations());
+		assertEquals(expected.getModelParameters().x, found.getModelParameters().x, 0);
+		assertEquals(expected.getModelParameters().y, found.getModelParameters().y, 0);
+		assertEquals(expected.getMatchSet().size(), found.getMatchSet().size());
+		for( int i = 0; i < expected.getMatchSet().size(); i++ ) {
+			assertEquals(expected.getInputIndex(i), found.getInputIndex(i));
+		}
+	}
+
+	private void checkSolution( RansacSprt<Point2D_F64,AssociatedPair> alg , List<AssociatedPair> points ) {
+		Point2D_F64 found = alg.getModelParameters();
+		assertEquals(tranX, found.x, 0.05);
+		assertEquals(tranY, found.y, 0.05);
+
+		int numInliers = 0;
+		for( AssociatedPair p : points ) {
+			if( isInlier(p) )
+				numInliers++;
+		}
+		assertEquals(numInliers, alg.getMatchSet().size());
+		for( int i = 0; i < alg.getMatchSet().size(); i++ ) {
+			AssociatedPair p = alg.getMatchSet().get(i);
+			assertTrue(p == points.get(alg.getInputIndex(i)));
+			assertTrue(isInlier(p));
+		}
+	}
+
+	private boolean isInlier( AssociatedPair p ) {
+		double dx = p.p2.x - p.p1.x - tranX;
+		double dy = p.p2.y - p.p1.y - tranY;
+		return dx*dx + dy*dy <= 0.1;
+	}
+
+	private List<AssociatedPair> createPoints( int N , double fractionInliers ) {
+		List<AssociatedPair> points = new ArrayList<>();
+		for( int i = 0; i < N; i++ ) {
+			AssociatedPair p = new AssociatedPair();
+			p.p1.set(rand.nextGaussian()*10, rand.nextGaussian()*10);
+			if( i < N*fractionInliers ) {
+				p.p2.set(p.p1.x + tranX + rand.nextGaussian()*0.01, p.p1.y + tranY + rand.nextGaussian()*0.01);
+			} else {
+				p.p2.set(rand.nextGaussian()*10, rand.nextGaussian()*10);
+			}
+			points.add(p);
+		}
+		// shuffle so that inliers are not all at the start
+		for( int i = N-1; i > 0; i-- ) {
+			int j = rand.nextInt(i+1);
+			AssociatedPair tmp = points.get(i);
+			points.set(i, points.get(j));
+			points.set(j, tmp);
+		}
+		return points;
+	}
+
+	private RansacSprt<Point2D_F64,AssociatedPair> createSerial( int maxIterations ) {
+		return new RansacSprt<>(234, new Manager(), new Generator(), new Distance(), maxIterations, 0.1);
+	}
+
+	private RansacSprt<Point2D_F64,AssociatedPair> createConcurrent( int maxIterations ) {
+		RansacSprt.Factory<Point2D_F64,AssociatedPair> factory = new RansacSprt.Factory<Point2D_F64,AssociatedPair>() {
+			@Override
+			public ModelGenerator<Point2D_F64, AssociatedPair> createGenerator() {
+				return new Generator();
+			}
+
+			@Override
+			public DistanceFromModel<Point2D_F64, AssociatedPair> createDistance() {
+				return new Distance();
+			}
+		};
+		return new RansacSprt<>(234, new Manager(), factory, maxIterations, 0.1);
+	}
+
+	/**
+	 * Model is the translation between two points
+	 */
+	private static class Manager implements ModelManager<Point2D_F64> {
+		@Override
+		public Point2D_F64 createModelInstance() {
+			return new Point2D_F64();
+		}
+
+		@Override
+		public void copyModel(Point2D_F64 src, Point2D_F64 dst) {
+			dst.set(src);
+		}
+	}
+
+	private static class Generator implements ModelGenerator<Point2D_F64,AssociatedPair> {
+		@Override
+		public boolean generate(List<AssociatedPair> dataSet, Point2D_F64 output) {
+			output.set(0,0);
+			for( AssociatedPair p : dataSet ) {
+				output.x += p.p2.x - p.p1.x;
+				output.y += p.p2.y - p.p1.y;
+			}
+			output.x /= dataSet.size();
+			output.y /= dataSet.size();
+			return true;
+		}
+
+		@Override
+		public int getMinimumPoints() {
+			return 2;
+		}
+	}
+
+	private static class Distance implements DistanceFromModel<Point2D_F64,AssociatedPair> {
+		Point2D_F64 model;
+
+		@Override
+		public void setModel(Point2D_F64 model) {
+			this.model = model;
+		}
+
+		@Override
+		public double computeDistance(AssociatedPair pt) {
+			double dx = pt.p2.x - pt.p1.x - model.x;
+			double dy = pt.p2.y - pt.p1.y - model.y;
+			return dx*dx + dy*dy;
+		}
+
+		@Override
+		public void computeDistance(List<AssociatedPair> points, double[] distance) {
+			for( int i = 0; i < points.size(); i++ ) {
+				distance[i] = computeDistance(points.get(i));
+			}
+		}
+
+		@Override
+		public Class<AssociatedPair> getPointType() {
+			return AssociatedPair.class;
+		}
+
+		@Override
+		public Class<Point2D_F64> getModelType() {
+			return Point2D_F64.class;
+		}
+	}
+}
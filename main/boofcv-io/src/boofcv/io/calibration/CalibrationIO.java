@@ -18,13 +18,17 @@
 
 package boofcv.io.calibration;
 
+import boofcv.abst.geo.calibration.ImageObservation;
+import boofcv.alg.geo.calibration.CalibrationObservation;
 import boofcv.struct.calib.*;
+import boofcv.struct.geo.PointIndex2D_F64;
 import georegression.struct.se.Se3_F64;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.*;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +46,7 @@ public class CalibrationIO {
 	public static String MODEL_RIGID_BODY = "rigid_body";
 	public static String MODEL_VISUAL_DEPTH = "visual_depth";
 	public static String MODEL_MONO_PLANE = "monocular_plane";
+	public static String MODEL_IMAGE_OBSERVATION = "calibration_image_observation";
 
 	public static String VERSION = "version";
 
@@ -204,6 +209,54 @@ public class CalibrationIO {
 		out.close();
 	}
 
+	/**
+	 * Saves the calibration points observed in a single image
+	 *
+	 * @param observation Observations and image shape
+	 * @param outputWriter Stream to save the observations to
+	 */
+	public static void save( ImageObservation observation , Writer outputWriter ) {
+		Map<String, Object> map = new HashMap<>();
+		map.put("model",MODEL_IMAGE_OBSERVATION);
+		map.put(VERSION,0);
+		map.put("width",observation.width);
+		map.put("height",observation.height);
+		map.put("detected",observation.isDetected());
+
+		if( observation.isDetected() ) {
+			List<PointIndex2D_F64> points = observation.observation.points;
+			List<Integer> indexes = new ArrayList<>();
+			List<Double> pixels = new ArrayList<>();
+			for (int i = 0; i < points.size(); i++) {
+				PointIndex2D_F64 p = points.get(i);
+				indexes.add(p.index);
+				pixels.add(p.x);
+				pixels.add(p.y);
+			}
+			map.put("indexes",indexes);
+			map.put("pixels",pixels);
+		}
+
+		PrintWriter out = new PrintWriter(outputWriter);
+		out.println("# Calibration points observed in an image");
+		out.println("# indexes = index of each point on the target, pixels = (x,y) pixel coordinate of each point");
+		Yaml yaml = createYmlObject();
+		yaml.dump(map,out);
+		out.close();
+	}
+
+	public static void save( ImageObservation observation , String outputPath ) {
+		try {
+			save(observation,new FileWriter(outputPath));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public static void save( ImageObservation observation , File filePath ) {
+		save(observation, filePath.getPath());
+	}
+
 	public static <T> T load(URL path ) {
 		try {
 			return load( new InputStreamReader(path.openStream()) );
@@ -320,6 +373,8 @@ public class CalibrationIO {
 			return (T) parameters;
 		} else if( model.equals(MODEL_RIGID_BODY) ) {
 			return (T) loadSe3((Map<String, Object>)data.get("parameters"),null);
+		} else if( model.equals(MODEL_IMAGE_OBSERVATION) ) {
+			return (T) loadImageObservation(data);
 		} else {
 			throw new RuntimeException("Unknown camera model: "+model);
 		}
@@ -416,6 +471,23 @@ public class CalibrationIO {
 		parameters.cy = (double)map.get("cy");
 	}
 
+	private static ImageObservation loadImageObservation(Map<String,Object> map ) {
+		ImageObservation ret = new ImageObservation();
+		ret.width = (int)map.get("width");
+		ret.height = (int)map.get("height");
+
+		if( (boolean)map.get("detected") ) {
+			List<Integer> indexes = (List<Integer>)map.get("indexes");
+			List<Double> pixels = (List<Double>)map.get("pixels");
+
+			ret.observation = new CalibrationObservation();
+			for (int i = 0; i < indexes.size(); i++) {
+				ret.observation.points.add(new PointIndex2D_F64(pixels.get(i*2),pixels.get(i*2+1),indexes.get(i)));
+			}
+		}
+		return ret;
+	}
+
 	private static Se3_F64 loadSe3(Map<String,Object> map , Se3_F64 transform) {
 		if( transform == null )
 			transform = new Se3_F64();
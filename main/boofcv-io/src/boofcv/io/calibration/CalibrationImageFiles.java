@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.calibration;
+
+import boofcv.abst.geo.calibration.CalibrationDetectionBatch;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.UtilImageIO;
+import boofcv.struct.image.GrayF32;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Provides images stored in files to {@link CalibrationDetectionBatch}.  An image's name is its file name.
+ *
+ * @author Peter Abeles
+ */
+public class CalibrationImageFiles implements CalibrationDetectionBatch.ImageSource {
+
+	List<File> files;
+
+	public CalibrationImageFiles( List<File> files ) {
+		this.files = files;
+	}
+
+	/**
+	 * Creates a list of all the files inside of a directory, sorted by name.  Hidden files and directories
+	 * are skipped.
+	 *
+	 * @param directory Directory containing images
+	 */
+	public static CalibrationImageFiles fromDirectory( File directory ) {
+		File[] children = directory.listFiles();
+		if( children == null )
+			throw new IllegalArgumentException("Not a directory. "+directory.getPath());
+
+		List<File> files = new ArrayList<>();
+		for( File f : children ) {
+			if( f.isDirectory() || f.isHidden() )
+				continue;
+			files.add(f);
+		}
+		Collections.sort(files);
+
+		return new CalibrationImageFiles(files);
+	}
+
+	@Override
+	public int size() {
+		return files.size();
+	}
+
+	@Override
+	public String getName(int index) {
+		return files.get(index).getName();
+	}
+
+	@Override
+	public GrayF32 load(int index) {
+		BufferedImage buffered = UtilImageIO.loadImage(files.get(index).getPath());
+		if( buffered == null )
+			return null;
+		return ConvertBufferedImage.convertFrom(buffered,(GrayF32)null);
+	}
+
+	public List<File> getFiles() {
+		return files;
+	}
+}
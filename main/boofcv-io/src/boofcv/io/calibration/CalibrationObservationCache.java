@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.calibration;
+
+import boofcv.abst.geo.calibration.CalibrationDetectionBatch;
+import boofcv.abst.geo.calibration.ImageObservation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Saves the calibration target observed in each image to its own file inside of a directory, using
+ * {@link CalibrationIO}.  The file's name is the image's name with ".yaml" appended to it.  Each file is
+ * written to a temporary file in the same directory first and then renamed, so a file is either complete or
+ * doesn't exist when the program is killed while saving.  Files which can't be read are treated as not being
+ * cached.
+ * If the images or the calibration target change then the directory needs to be deleted.
+ *
+ * @author Peter Abeles
+ */
+public class CalibrationObservationCache implements CalibrationDetectionBatch.ObservationCache {
+
+	File directory;
+
+	/**
+	 * Specifies where the cache is stored
+	 *
+	 * @param directory Directory the files are stored in.  Created if it doesn't exist.
+	 */
+	public CalibrationObservationCache( File directory ) {
+		if( !directory.exists() && !directory.mkdirs() )
+			throw new IllegalArgumentException("Can't create cache directory "+directory.getPath());
+		if( !directory.isDirectory() )
+			throw new IllegalArgumentException("Cache must be a directory. "+directory.getPath());
+		this.directory = directory;
+	}
+
+	@Override
+	public ImageObservation load(String name) {
+		File file = getFile(name);
+		if( !file.exists() )
+			return null;
+
+		try {
+			Object found = CalibrationIO.load(file);
+			if( found instanceof ImageObservation )
+				return (ImageObservation)found;
+		} catch( RuntimeException ignore ) {
+			// the file is damaged. Process the image again
+		}
+		return null;
+	}
+
+	@Override
+	public void save(String name, ImageObservation results) {
+		File file = getFile(name);
+		File tmp = null;
+		try {
+			tmp = File.createTempFile("cache", ".tmp", directory);
+			CalibrationIO.save(results, tmp);
+			try {
+				Files.move(tmp.toPath(), file.toPath(),
+						StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch( AtomicMoveNotSupportedException e ) {
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch( IOException e ) {
+			throw new RuntimeException(e);
+		} finally {
+			if( tmp != null && tmp.exists() )
+				tmp.delete();
+		}
+	}
+
+	/**
+	 * Returns the file the results for the specified image are saved in
+	 */
+	public File getFile( String name ) {
+		return new File(directory, name+".yaml");
+	}
+
+	public File getDirectory() {
+		return directory;
+	}
+}
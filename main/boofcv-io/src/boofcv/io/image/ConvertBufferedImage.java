@@ -128,12 +128,13 @@ public class ConvertBufferedImage {
 
 			InterleavedU8 ret = new InterleavedU8();
 
+			// set the number of bands first since it would otherwise modify the other fields
+			ret.data = raster.getDataStorage();
+			ret.setNumBands( raster.getNumBands() );
 			ret.width = img.getWidth();
 			ret.height = img.getHeight();
 			ret.stride = raster.getScanlineStride();
-			ret.startIndex = raster.getDataOffset(0)-raster.getPixelStride()+1;
-			ret.setNumBands( raster.getNumBands() );
-			ret.data = raster.getDataStorage();
+			ret.startIndex = getDataOffset(raster);
 
 			return ret;
 		}
@@ -169,6 +170,109 @@ public class ConvertBufferedImage {
 		throw new IllegalArgumentException("Buffered image does not have a gray scale byte raster");
 	}
 
+	/**
+	 * <p>
+	 * Returns a {@link GrayU8} which shares its data with the BufferedImage when possible, otherwise the
+	 * BufferedImage is converted into 'storage'.  A shared image is returned when the raster is a single band
+	 * 8-bit raster, e.g. TYPE_BYTE_GRAY.  Sub-images of a BufferedImage are shared too, by setting the
+	 * stride and start index of the returned image, which is then marked as a sub-image.
+	 * </p>
+	 *
+	 * <p>
+	 * A shared image is a new instance which changes when the BufferedImage changes.  'storage' is only
+	 * written to when a copy is required, so it should never be an image previously returned by this function.
+	 * </p>
+	 *
+	 * @param src Input BufferedImage
+	 * @param storage (Optional) Storage used when the image needs to be copied.  If null a new image is declared.
+	 * @return Image which shares data with 'src' or is a copy of it
+	 */
+	public static GrayU8 wrapGrayU8( BufferedImage src , GrayU8 storage ) {
+		if( isWrappableU8(src,false) && src.getRaster().getNumBands() == 1 ) {
+			GrayU8 ret = extractGrayU8(src);
+			ret.subImage = ret.startIndex != 0 || ret.stride != ret.width;
+			return ret;
+		}
+		return convertFrom(src,storage);
+	}
+
+	/**
+	 * <p>
+	 * Returns a {@link InterleavedU8} which shares its data with the BufferedImage when possible, otherwise the
+	 * BufferedImage is converted into 'storage'.  A shared image is returned when the raster stores 8-bit pixels
+	 * with no padding between them, e.g. TYPE_3BYTE_BGR, TYPE_4BYTE_ABGR, and TYPE_BYTE_GRAY, and the bands
+	 * don't need to be reordered.  The output is always the same as
+	 * {@link #convertFromInterleaved(BufferedImage, ImageInterleaved, boolean)}.
+	 * </p>
+	 *
+	 * <p>
+	 * If 'orderRgb' is true then images with BGR encoded bands, e.g. TYPE_3BYTE_BGR, can't be shared and are copied.
+	 * Pass in false to avoid the copy and handle the band order in your own code.
+	 * </p>
+	 *
+	 * <p>
+	 * A shared image is a new instance which changes when the BufferedImage changes.  'storage' is only
+	 * written to when a copy is required, so it should never be an image previously returned by this function.
+	 * </p>
+	 *
+	 * @param src Input BufferedImage
+	 * @param orderRgb If true the bands will be in RGB order.  If false they will be in the order they are stored.
+	 * @param storage (Optional) Storage used when the image needs to be copied.  If null a new image is declared.
+	 * @return Image which shares data with 'src' or is a copy of it
+	 */
+	public static InterleavedU8 wrapInterleavedU8( BufferedImage src , boolean orderRgb , InterleavedU8 storage ) {
+		if( isWrappableU8(src,orderRgb) ) {
+			InterleavedU8 ret = extractInterleavedU8(src);
+			ret.subImage = ret.startIndex != 0 || ret.stride != ret.width*ret.numBands;
+			return ret;
+		}
+		if( storage == null )
+			storage = new InterleavedU8(1,1,1);
+		convertFromInterleaved(src,storage,orderRgb);
+		return storage;
+	}
+
+	/**
+	 * Checks to see if the BufferedImage's raster can be wrapped as an 8-bit BoofCV image without copying.  Requires
+	 * a byte raster with the bands of each pixel packed together and, if requested, in RGB order.
+	 */
+	private static boolean isWrappableU8( BufferedImage src , boolean orderRgb ) {
+		if( src.getType() == BufferedImage.TYPE_BYTE_INDEXED )
+			return false;
+
+		try {
+			if( !(src.getRaster() instanceof ByteInterleavedRaster) )
+				return false;
+			ByteInterleavedRaster raster = (ByteInterleavedRaster)src.getRaster();
+			int numBands = raster.getNumBands();
+			if( raster.getPixelStride() != numBands )
+				return false;
+
+			// the band offsets must all be inside a single pixel
+			int offset = getDataOffset(raster);
+			for( int i = 0; i < numBands; i++ ) {
+				if( raster.getDataOffset(i) - offset >= numBands )
+					return false;
+			}
+
+			return !orderRgb || !swapBandOrder(src);
+		} catch( java.security.AccessControlException e) {
+			// Applets don't allow access to the raster()
+			return false;
+		}
+	}
+
+	/**
+	 * Index of the first element in the raster's data array
+	 */
+	private static int getDataOffset( ByteInterleavedRaster raster ) {
+		int min = Integer.MAX_VALUE;
+		for (int i = 0; i < raster.getNumDataElements(); i++) {
+			min = Math.min(raster.getDataOffset(i),min);
+		}
+		return min;
+	}
+
 	/**
 	 * Creates a new BufferedImage that internally uses the same data as the provided
 	 * {@link InterleavedU8}.  If 3 bands then the image will be of type TYPE_3BYTE_BGR
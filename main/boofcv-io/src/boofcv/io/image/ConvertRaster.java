@@ -18,6 +18,8 @@
 
 package boofcv.io.image;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 import sun.awt.image.*;
 
@@ -27,8 +29,15 @@ import java.awt.image.DataBufferByte;
 import java.awt.image.WritableRaster;
 
 /**
+ * <p>
  * Routines for converting to and from {@link BufferedImage} that use its internal
  * raster for better performance.
+ * </p>
+ *
+ * <p>
+ * Conversions from 8-bit rasters into {@link GrayU8} and {@link InterleavedU8} process bands of rows
+ * concurrently if {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -48,14 +57,13 @@ public class ConvertRaster {
 
 		int srcStride = src.getScanlineStride();
 		int srcOffset = getOffset(src);
-		int srcStrideDiff = srcStride-src.getPixelStride()*dst.width;
 
 		if (numBands == 3) {
-			from_3BU8_to_U8(dst, srcData, data, srcOffset, srcStrideDiff);
+			from_3BU8_to_U8(dst, srcData, data, srcOffset, srcStride);
 		} else if (numBands == 1) {
-			from_1BU8_to_U8(dst, srcData, data, size, srcStride, srcOffset, srcStrideDiff);
+			from_1BU8_to_U8(dst, srcData, data, size, srcStride, srcOffset);
 		} else if (numBands == 4) {
-			from_4BU8_to_U8(dst, srcData, data, srcOffset, srcStrideDiff);
+			from_4BU8_to_U8(dst, srcData, data, srcOffset, srcStride);
 		} else {
 			throw new RuntimeException("Unexpected number of bands found. Bands = "+numBands);
 		}
@@ -133,16 +141,15 @@ public class ConvertRaster {
 
 		int srcStride = src.getWidth()*numBands;
 		int srcOffset = 0;
-		int srcStrideDiff = 0;
 
 		int size = dst.getWidth() * dst.getHeight();
 
 		if (numBands == 3) {
-			from_3BU8_to_U8(dst, srcData, dstData, srcOffset, srcStrideDiff);
+			from_3BU8_to_U8(dst, srcData, dstData, srcOffset, srcStride);
 		} else if (numBands == 1) {
-			from_1BU8_to_U8(dst, srcData, dstData, size, srcStride, srcOffset, srcStrideDiff);
+			from_1BU8_to_U8(dst, srcData, dstData, size, srcStride, srcOffset);
 		} else if (numBands == 4) {
-			from_4BU8_to_U8(dst, srcData, dstData, srcOffset, srcStrideDiff);
+			from_4BU8_to_U8(dst, srcData, dstData, srcOffset, srcStride);
 		} else {
 			throw new RuntimeException("Unexpected number of bands found. Bands = "+numBands);
 		}
@@ -177,54 +184,73 @@ public class ConvertRaster {
 		}
 	}
 
-	private static void from_4BU8_to_U8(GrayU8 dst, byte[] srcData, byte[] data, int srcOffset, int srcStrideDiff) {
-		int indexSrc = srcOffset;
-		for (int y = 0; y < dst.height; y++) {
-			int indexDst = dst.startIndex + dst.stride * y;
-			int indexDstEnd = indexDst + dst.width;
-			for (; indexDst < indexDstEnd; indexDst++) {
-				indexSrc++;
-				int r = srcData[indexSrc++] & 0xFF;
-				int g = srcData[indexSrc++] & 0xFF;
-				int b = srcData[indexSrc++] & 0xFF;
+	private static void from_4BU8_to_U8(final GrayU8 dst, final byte[] srcData, final byte[] data,
+										final int srcOffset, final int srcStride) {
+		BoofConcurrency.loopBlocks(0, dst.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = srcOffset + srcStride * y;
+					int indexDst = dst.startIndex + dst.stride * y;
+					int indexDstEnd = indexDst + dst.width;
+					for (; indexDst < indexDstEnd; indexDst++) {
+						indexSrc++;
+						int r = srcData[indexSrc++] & 0xFF;
+						int g = srcData[indexSrc++] & 0xFF;
+						int b = srcData[indexSrc++] & 0xFF;
 
-				int ave = (r + g + b) / 3;
+						int ave = (r + g + b) / 3;
 
-				data[indexDst] = (byte) ave;
+						data[indexDst] = (byte) ave;
+					}
+				}
 			}
-			indexSrc += srcStrideDiff;
-		}
+		});
 	}
 
-	private static void from_1BU8_to_U8(GrayU8 dst, byte[] srcData, byte[] data, int size, int srcStride, int srcOffset, int srcStrideDiff) {
-		if (dst.startIndex == 0 && dst.width == dst.stride && srcStrideDiff == 0 && srcOffset == 0 )
+	private static void from_1BU8_to_U8(final GrayU8 dst, final byte[] srcData, byte[] data, int size,
+										final int srcStride, final int srcOffset) {
+		if (dst.startIndex == 0 && dst.width == dst.stride && srcStride == dst.width && srcOffset == 0 )
 			System.arraycopy(srcData, 0, data, 0, size);
 		else {
-			for (int y = 0; y < dst.height; y++) {
-				int indexDst = dst.startIndex + dst.stride * y;
-				int indexSrc = srcOffset + srcStride * y;
-
-				System.arraycopy(srcData, indexSrc, dst.data, indexDst, dst.width);
-			}
+			BoofConcurrency.loopBlocks(0, dst.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexDst = dst.startIndex + dst.stride * y;
+						int indexSrc = srcOffset + srcStride * y;
+
+						System.arraycopy(srcData, indexSrc, dst.data, indexDst, dst.width);
+					}
+				}
+			});
 		}
 	}
 
-	private static void from_3BU8_to_U8(GrayU8 dst, byte[] srcData, byte[] dstData, int srcOffset, int srcStrideDiff) {
-		int indexSrc = srcOffset;
-		for (int y = 0; y < dst.height; y++) {
-			int indexDst = dst.startIndex + dst.stride * y;
-			int indexDstEnd = indexDst + dst.width;
-			for (; indexDst < indexDstEnd; indexDst++) {
-				int r = srcData[indexSrc++] & 0xFF;
-				int g = srcData[indexSrc++] & 0xFF;
-				int b = srcData[indexSrc++] & 0xFF;
+	private static void from_3BU8_to_U8(final GrayU8 dst, final byte[] srcData, final byte[] dstData,
+										final int srcOffset, final int srcStride) {
+		BoofConcurrency.loopBlocks(0, dst.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = srcOffset + srcStride * y;
+					int indexDst = dst.startIndex + dst.stride * y;
+					int indexDstEnd = indexDst + dst.width;
+					for (; indexDst < indexDstEnd; indexDst++) {
+						int r = srcData[indexSrc++] & 0xFF;
+						int g = srcData[indexSrc++] & 0xFF;
+						int b = srcData[indexSrc++] & 0xFF;
 
-				int ave = (r + g + b) / 3;
+						int ave = (r + g + b) / 3;
 
-				dstData[indexDst] = (byte) ave;
+						dstData[indexDst] = (byte) ave;
+					}
+				}
 			}
-			indexSrc += srcStrideDiff;
-		}
+		});
 	}
 
 	private static void from_4BU8_to_F32(GrayF32 dst, byte[] srcData, float[] data, int srcOffset, int srcStrideDiff) {
@@ -344,21 +370,25 @@ public class ConvertRaster {
 		}
 	}
 
-	public static void bufferedToInterleaved(ByteInterleavedRaster src, InterleavedU8 dst) {
-		byte[] srcData = src.getDataStorage();
+	public static void bufferedToInterleaved(ByteInterleavedRaster src, final InterleavedU8 dst) {
+		final byte[] srcData = src.getDataStorage();
 
-		int numBands = src.getNumBands();
-
-		int srcStride = src.getScanlineStride();
-		int srcOffset = getOffset(src);
+		final int srcStride = src.getScanlineStride();
+		final int srcOffset = getOffset(src);
 
-		int length = dst.width*dst.numBands;
-		for (int y = 0; y < dst.height; y++) {
-			int indexDst = dst.startIndex + y*dst.stride;
-			int indexSrc = srcOffset + y*srcStride;
+		final int length = dst.width*dst.numBands;
+		BoofConcurrency.loopBlocks(0, dst.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexDst = dst.startIndex + y*dst.stride;
+					int indexSrc = srcOffset + y*srcStride;
 
-			System.arraycopy(srcData,indexSrc,dst.data,indexDst,length);
-		}
+					System.arraycopy(srcData,indexSrc,dst.data,indexDst,length);
+				}
+			}
+		});
 	}
 
 	/**
@@ -588,32 +618,36 @@ public class ConvertRaster {
 	/**
 	 * A faster convert that works directly with a specific raster
 	 */
-	public static void bufferedToGray(IntegerInterleavedRaster src, GrayU8 dst) {
-		int[] srcData = src.getDataStorage();
+	public static void bufferedToGray(IntegerInterleavedRaster src, final GrayU8 dst) {
+		final int[] srcData = src.getDataStorage();
 
-		byte[] data = dst.data;
+		final byte[] data = dst.data;
 
-		int srcStride = src.getScanlineStride();
-		int srcOffset = getOffset(src);
-		int srcStrideDiff = srcStride-src.getPixelStride()*dst.width;
+		final int srcStride = src.getScanlineStride();
+		final int srcOffset = getOffset(src);
 
-		int indexSrc = srcOffset;
-		for (int y = 0; y < dst.height; y++) {
-			int indexDst = dst.startIndex + y * dst.stride;
-			for (int x = 0; x < dst.width; x++) {
+		BoofConcurrency.loopBlocks(0, dst.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = srcOffset + y * srcStride;
+					int indexDst = dst.startIndex + y * dst.stride;
+					for (int x = 0; x < dst.width; x++) {
 
-				int rgb = srcData[indexSrc++];
+						int rgb = srcData[indexSrc++];
 
-				int r = (rgb >>> 16) & 0xFF;
-				int g = (rgb >>> 8) & 0xFF;
-				int b = rgb & 0xFF;
+						int r = (rgb >>> 16) & 0xFF;
+						int g = (rgb >>> 8) & 0xFF;
+						int b = rgb & 0xFF;
 
-				int ave = (r + g + b) / 3;
+						int ave = (r + g + b) / 3;
 
-				data[indexDst++] = (byte) ave;
+						data[indexDst++] = (byte) ave;
+					}
+				}
 			}
-			indexSrc += srcStrideDiff;
-		}
+		});
 	}
 
 	/**
@@ -753,46 +787,52 @@ public class ConvertRaster {
 	/**
 	 * A faster convert that works directly with a specific raster
 	 */
-	public static void bufferedToInterleaved(IntegerInterleavedRaster src, InterleavedU8 dst) {
-		int[] srcData = src.getDataStorage();
+	public static void bufferedToInterleaved(IntegerInterleavedRaster src, final InterleavedU8 dst) {
+		final int[] srcData = src.getDataStorage();
 
-		int srcStride = src.getScanlineStride();
-		int srcOffset = getOffset(src);
-		int srcStrideDiff = srcStride-src.getPixelStride()*dst.width;
+		final int srcStride = src.getScanlineStride();
+		final int srcOffset = getOffset(src);
 
 		int numBands = src.getNumBands();
 		if( numBands == 3 ) {
-			int indexSrc = srcOffset;
-			for (int y = 0; y < dst.height; y++) {
-				int indexDst = dst.startIndex + y * dst.stride;
-				for (int x = 0; x < dst.width; x++) {
-
-					int rgb = srcData[indexSrc++];
-
-					dst.data[indexDst++] = (byte) (rgb >>> 16);
-					dst.data[indexDst++] = (byte) (rgb >>> 8);
-					dst.data[indexDst++] = (byte) rgb;
+			BoofConcurrency.loopBlocks(0, dst.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexSrc = srcOffset + y * srcStride;
+						int indexDst = dst.startIndex + y * dst.stride;
+						for (int x = 0; x < dst.width; x++) {
+
+							int rgb = srcData[indexSrc++];
+
+							dst.data[indexDst++] = (byte) (rgb >>> 16);
+							dst.data[indexDst++] = (byte) (rgb >>> 8);
+							dst.data[indexDst++] = (byte) rgb;
+						}
+					}
 				}
-
-				indexSrc += srcStrideDiff;
-			}
+			});
 		} else if( numBands == 4 ) {
-
-			int indexSrc = srcOffset;
-			for (int y = 0; y < dst.height; y++) {
-				int indexDst = dst.startIndex + y * dst.stride;
-				for (int x = 0; x < dst.width; x++) {
-
-					int rgb = srcData[indexSrc++];
-
-					dst.data[indexDst++] = (byte) (rgb >>> 24);
-					dst.data[indexDst++] = (byte) (rgb >>> 16);
-					dst.data[indexDst++] = (byte) (rgb >>> 8);
-					dst.data[indexDst++] = (byte) rgb;
+			BoofConcurrency.loopBlocks(0, dst.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexSrc = srcOffset + y * srcStride;
+						int indexDst = dst.startIndex + y * dst.stride;
+						for (int x = 0; x < dst.width; x++) {
+
+							int rgb = srcData[indexSrc++];
+
+							dst.data[indexDst++] = (byte) (rgb >>> 24);
+							dst.data[indexDst++] = (byte) (rgb >>> 16);
+							dst.data[indexDst++] = (byte) (rgb >>> 8);
+							dst.data[indexDst++] = (byte) rgb;
+						}
+					}
 				}
-
-				indexSrc += srcStrideDiff;
-			}
+			});
 		}
 	}
 
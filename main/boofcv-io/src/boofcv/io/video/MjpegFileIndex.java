@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import org.ddogleg.struct.GrowQueue_I64;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Index of the JPEG frames inside a MJPEG file.  The file is memory mapped one window at a time and
+ * scanned for SOI and EOI markers only as far as is needed to find the requested frame. Memory usage
+ * is constant with respect to the file size, except for the start and end location of each frame which
+ * has been found so far.
+ * </p>
+ *
+ * <p>
+ * A frame is returned as a read only view into the mapped file and is not copied. Frames which are missing
+ * their EOI marker at the end of the file are ignored. All functions are thread safe.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MjpegFileIndex implements Closeable {
+
+	/**
+	 * Default number of bytes which are mapped at once
+	 */
+	public static final int DEFAULT_WINDOW = 64*1024*1024;
+
+	RandomAccessFile file;
+	FileChannel channel;
+	long fileSize;
+
+	// number of bytes in a mapped window
+	int windowSize;
+
+	// location of the first byte in each frame and one past the last byte
+	GrowQueue_I64 frameStart = new GrowQueue_I64();
+	GrowQueue_I64 frameEnd = new GrowQueue_I64();
+
+	// location in the file of the next byte to be scanned
+	long scanPosition;
+	// if true then the previous byte scanned was 0xFF
+	boolean foundFF;
+	// if true then a SOI has been found but not the matching EOI
+	boolean insideFrame;
+	// start of the frame being scanned
+	long scanFrameStart;
+
+	// window used for scanning
+	MappedByteBuffer scanWindow;
+	long scanWindowStart;
+
+	// window used for reading frames
+	MappedByteBuffer readWindow;
+	long readWindowStart;
+
+	/**
+	 * Opens the file.  No data is read until a frame is requested.
+	 *
+	 * @param file MJPEG file
+	 * @param windowSize Maximum number of bytes which are mapped at once.  A window is enlarged
+	 *                   if a frame is larger than it.
+	 */
+	public MjpegFileIndex( File file , int windowSize ) throws IOException {
+		if( windowSize <= 0 )
+			throw new IllegalArgumentException("Window size must be positive");
+		this.file = new RandomAccessFile(file,"r");
+		this.channel = this.file.getChannel();
+		this.fileSize = channel.size();
+		this.windowSize = windowSize;
+	}
+
+	public MjpegFileIndex( File file ) throws IOException {
+		this(file,DEFAULT_WINDOW);
+	}
+
+	/**
+	 * Scans the file until the specified frame has been found or the end of the file is reached.
+	 *
+	 * @param index Index of the frame
+	 * @return true if the frame exists
+	 */
+	public synchronized boolean findFrame( int index ) {
+		while( frameStart.size <= index ) {
+			if( !scanNextFrame() )
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Scans the entire file and returns the total number of frames.
+	 */
+	public synchronized int countFrames() {
+		while( scanNextFrame() ) {}
+		return frameStart.size;
+	}
+
+	/**
+	 * Number of frames which have been found so far
+	 */
+	public synchronized int getFramesFound() {
+		return frameStart.size;
+	}
+
+	/**
+	 * Returns true if the entire file has been scanned
+	 */
+	public synchronized boolean isScanComplete() {
+		return scanPosition >= fileSize;
+	}
+
+	/**
+	 * Returns a read only view of the compressed data of a frame, from the SOI to EOI marker. Scans the file
+	 * if the frame hasn't been found yet.
+	 *
+	 * @param index Index of the frame
+	 * @return The frame's data or null if there is no such frame
+	 */
+	public synchronized ByteBuffer getFrame( int index ) {
+		if( !findFrame(index) )
+			return null;
+
+		long start = frameStart.get(index);
+		long end = frameEnd.get(index);
+
+		if( readWindow == null || start < readWindowStart || end > readWindowStart + readWindow.capacity() ) {
+			long length = Math.min(fileSize-start,Math.max(windowSize,end-start));
+			readWindow = map(start,length);
+			readWindowStart = start;
+		}
+
+		ByteBuffer frame = readWindow.duplicate();
+		frame.position((int)(start-readWindowStart));
+		frame.limit((int)(end-readWindowStart));
+		return frame.slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * Scans the file until the end of the next frame is found
+	 *
+	 * @return true if a frame was found or false if the end of the file was reached
+	 */
+	private boolean scanNextFrame() {
+		while( scanPosition < fileSize ) {
+			if( scanWindow == null || scanPosition >= scanWindowStart + scanWindow.capacity() ) {
+				scanWindowStart = scanPosition;
+				scanWindow = map(scanPosition,Math.min(windowSize,fileSize-scanPosition));
+			}
+
+			int offset = (int)(scanPosition-scanWindowStart);
+			int length = scanWindow.capacity();
+			while( offset < length ) {
+				byte b = scanWindow.get(offset++);
+				if( foundFF ) {
+					if( !insideFrame && b == VideoMjpegCodec.SOI ) {
+						insideFrame = true;
+						scanFrameStart = scanWindowStart + offset - 2;
+						foundFF = false;
+					} else if( insideFrame && b == VideoMjpegCodec.EOI ) {
+						insideFrame = false;
+						foundFF = false;
+						scanPosition = scanWindowStart + offset;
+						frameStart.push(scanFrameStart);
+						frameEnd.push(scanPosition);
+						return true;
+					} else if( b != (byte)0xFF ) {
+						foundFF = false;
+					}
+				} else if( b == (byte)0xFF ) {
+					foundFF = true;
+				}
+			}
+			scanPosition = scanWindowStart + length;
+		}
+		return false;
+	}
+
+	private MappedByteBuffer map( long position , long length ) {
+		try {
+			return channel.map(FileChannel.MapMode.READ_ONLY,position,length);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Closes the file. Frames which have already been returned remain valid.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		scanWindow = null;
+		readWindow = null;
+		file.close();
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+}
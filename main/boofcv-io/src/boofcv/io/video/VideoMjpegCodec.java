@@ -34,6 +34,13 @@ public class VideoMjpegCodec {
 	// end of image
 	public static final byte EOI = (byte)0xD9;
 
+	/**
+	 * Reads every frame into memory.
+	 *
+	 * @deprecated Memory usage grows with the length of the video.  Use {@link MjpegFileIndex} or
+	 * {@link boofcv.io.wrapper.images.MjpegFileSequence} for files and {@link #readFrame} for streams.
+	 */
+	@Deprecated
 	public List<byte[]> read( InputStream streamIn ) {
 		// read the whole movie in at once to make it faster
 
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.video.MjpegFileIndex;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Reads a MJPEG file using constant memory, independent of the file's size. Frames are located with a
+ * memory mapped {@link MjpegFileIndex} and decoded on a background thread which stays up to a fixed
+ * number of frames ahead of the consumer.  Each decoded frame is converted into the same output image.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link MjpegStreamSequence} this supports {@link #reset()}, looping, and seeking to an arbitrary
+ * frame with {@link #seek(int)}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MjpegFileSequence<T extends ImageBase<T>>
+		implements SimpleImageSequence<T>
+{
+	/**
+	 * Default number of frames which are decoded ahead of time
+	 */
+	public static final int DEFAULT_PREFETCH = 4;
+
+	MjpegFileIndex index;
+	// maximum number of decoded frames waiting to be read
+	int prefetchSize;
+
+	ImageType<T> imageType;
+	T image;
+	BufferedImage original;
+
+	// index of the most recently returned frame
+	int frameNumber = -1;
+	boolean loop = false;
+
+	// decodes frames in the background
+	Prefetch prefetch;
+	// the next frame. null if it hasn't been taken from the prefetch queue yet
+	Frame next;
+
+	public MjpegFileSequence( File file , int prefetchSize , int windowSize , ImageType<T> imageType )
+			throws IOException
+	{
+		if( prefetchSize <= 0 )
+			throw new IllegalArgumentException("Prefetch size must be positive");
+		this.index = new MjpegFileIndex(file,windowSize);
+		this.prefetchSize = prefetchSize;
+		this.imageType = imageType;
+		this.image = imageType.createImage(1,1);
+		startPrefetch(0);
+	}
+
+	public MjpegFileSequence( String fileName , ImageType<T> imageType ) throws IOException {
+		this(new File(fileName),DEFAULT_PREFETCH,MjpegFileIndex.DEFAULT_WINDOW,imageType);
+	}
+
+	/**
+	 * Changes the next frame which will be read.
+	 *
+	 * @param frame Index of the frame.  If past the end of the file, then there is no next image.
+	 */
+	public void seek( int frame ) {
+		if( frame < 0 )
+			throw new IllegalArgumentException("Frame must be non-negative");
+		stopPrefetch();
+		frameNumber = frame-1;
+		startPrefetch(frame);
+	}
+
+	/**
+	 * Total number of frames in the file. The first time this is called the remainder of the file is scanned.
+	 */
+	public int getTotalFrames() {
+		return index.countFrames();
+	}
+
+	private void startPrefetch( int frame ) {
+		next = null;
+		prefetch = new Prefetch(frame);
+		prefetch.start();
+	}
+
+	private void stopPrefetch() {
+		if( prefetch == null )
+			return;
+		prefetch.running = false;
+		try {
+			prefetch.join();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		prefetch = null;
+		next = null;
+	}
+
+	/**
+	 * Returns the next frame, waiting for it to be decoded if needed
+	 */
+	private Frame peek() {
+		while( true ) {
+			if( next == null ) {
+				try {
+					next = prefetch.queue.take();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				if( next.error != null )
+					throw new RuntimeException(next.error);
+			}
+
+			// looping could have been changed after the prefetch thread reached the end of the file
+			boolean wrapped = next.index <= frameNumber;
+			if( wrapped && !loop ) {
+				stopPrefetch();
+				startPrefetch(frameNumber+1);
+			} else if( next.image == null && loop && next.index > 0 ) {
+				stopPrefetch();
+				startPrefetch(0);
+			} else {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * Width of the next image.  If there is no next image then the width of the most recent image is returned.
+	 */
+	@Override
+	public int getNextWidth() {
+		Frame f = peek();
+		return f.image != null ? f.image.getWidth() : image.getWidth();
+	}
+
+	/**
+	 * Height of the next image.  If there is no next image then the height of the most recent image is returned.
+	 */
+	@Override
+	public int getNextHeight() {
+		Frame f = peek();
+		return f.image != null ? f.image.getHeight() : image.getHeight();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return peek().image != null;
+	}
+
+	@Override
+	public T next() {
+		Frame f = peek();
+		if( f.image == null )
+			throw new RuntimeException("No more frames");
+		next = null;
+
+		original = f.image;
+		frameNumber = f.index;
+		image.reshape(original.getWidth(),original.getHeight());
+		ConvertBufferedImage.convertFrom(original,image,true);
+		return image;
+	}
+
+	@Override
+	public BufferedImage getGuiImage() {
+		return original;
+	}
+
+	@Override
+	public void close() {
+		stopPrefetch();
+		try {
+			index.close();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public int getFrameNumber() {
+		return frameNumber;
+	}
+
+	/**
+	 * If true then it will go back to the first frame after the last frame has been read.  Frames which have
+	 * already been decoded are kept.
+	 */
+	@Override
+	public void setLoop(boolean loop) {
+		this.loop = loop;
+		if( prefetch != null )
+			prefetch.loop = loop;
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	@Override
+	public void reset() {
+		seek(0);
+	}
+
+	/**
+	 * A decoded frame. If the image is null then the end of the sequence has been reached.
+	 */
+	static class Frame {
+		int index;
+		BufferedImage image;
+		Exception error;
+
+		Frame(int index, BufferedImage image, Exception error) {
+			this.index = index;
+			this.image = image;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * Decodes frames in order until the end of the file or it's stopped. Blocks if the queue is full. Uses polling
+	 * instead of interrupts since an interrupt would close the file's channel.
+	 */
+	class Prefetch extends Thread {
+		BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(prefetchSize);
+		volatile boolean running = true;
+		int frame;
+		volatile boolean loop = MjpegFileSequence.this.loop;
+
+		ImageReader reader = ImageIO.getImageReadersByFormatName("jpeg").next();
+
+		Prefetch( int frame ) {
+			super("MJPEG Prefetch");
+			this.frame = frame;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			try {
+				while( running ) {
+					ByteBuffer data = index.getFrame(frame);
+					if( data == null ) {
+						if( loop && frame > 0 && index.getFramesFound() > 0 ) {
+							frame = 0;
+							continue;
+						}
+						add(new Frame(frame,null,null));
+						break;
+					}
+					if( !add(new Frame(frame,decode(data),null)) )
+						break;
+					frame++;
+				}
+			} catch( Exception e ) {
+				add(new Frame(frame,null,e));
+			} finally {
+				reader.dispose();
+			}
+		}
+
+		private BufferedImage decode( ByteBuffer data ) throws IOException {
+			MemoryCacheImageInputStream stream = new MemoryCacheImageInputStream(new ByteBufferInputStream(data));
+			try {
+				reader.setInput(stream, true, true);
+				return reader.read(0);
+			} finally {
+				stream.close();
+			}
+		}
+
+		/**
+		 * Adds the frame to the queue, waiting until there's room for it.  If interrupted the thread stops
+		 * and the interrupt status is restored.
+		 *
+		 * @return false if it was stopped before the frame could be added
+		 */
+		private boolean add( Frame f ) {
+			try {
+				while( running ) {
+					if( queue.offer(f,50,TimeUnit.MILLISECONDS) )
+						return true;
+				}
+			} catch (InterruptedException e) {
+				running = false;
+				Thread.currentThread().interrupt();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Reads from a {@link ByteBuffer} without copying it into an array first
+	 */
+	static class ByteBufferInputStream extends InputStream {
+		ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if( len == 0 )
+				return 0;
+			if( !buffer.hasRemaining() )
+				return -1;
+			len = Math.min(len,buffer.remaining());
+			buffer.get(b,off,len);
+			return len;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
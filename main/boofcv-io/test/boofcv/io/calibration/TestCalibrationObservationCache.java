@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.calibration;
+
+import boofcv.abst.geo.calibration.ImageObservation;
+import boofcv.alg.geo.calibration.CalibrationObservation;
+import boofcv.io.UtilIO;
+import georegression.struct.point.Point2D_F64;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCalibrationObservationCache {
+
+	@Test
+	public void saveLoad() throws IOException {
+		File directory = createDirectory();
+		try {
+			CalibrationObservationCache alg = new CalibrationObservationCache(directory);
+
+			CalibrationObservation obs = new CalibrationObservation();
+			obs.add(new Point2D_F64(1.5, 2.25), 3);
+			obs.add(new Point2D_F64(-0.1, 1e-4), 7);
+
+			alg.save("a.png", new ImageObservation(640, 480, obs));
+			alg.save("b.png", new ImageObservation(320, 240, null));
+
+			ImageObservation a = alg.load("a.png");
+			assertEquals(640, a.width);
+			assertEquals(480, a.height);
+			assertTrue(a.isDetected());
+			assertEquals(2, a.observation.size());
+			for( int i = 0; i < 2; i++ ) {
+				assertEquals(obs.get(i).index, a.observation.get(i).index);
+				assertEquals(obs.get(i).x, a.observation.get(i).x, 0);
+				assertEquals(obs.get(i).y, a.observation.get(i).y, 0);
+			}
+
+			ImageObservation b = alg.load("b.png");
+			assertEquals(320, b.width);
+			assertEquals(240, b.height);
+			assertFalse(b.isDetected());
+
+			// not in the cache
+			assertNull(alg.load("c.png"));
+
+			// a damaged file is the same as not being in the cache
+			FileWriter writer = new FileWriter(alg.getFile("d.png"));
+			writer.write("model: [ bad");
+			writer.close();
+			assertNull(alg.load("d.png"));
+		} finally {
+			UtilIO.deleteRecursive(directory);
+		}
+	}
+
+	/**
+	 * Saving over an existing file replaces it and no temporary files are left behind
+	 */
+	@Test
+	public void save_replace() throws IOException {
+		File directory = createDirectory();
+		try {
+			CalibrationObservationCache alg = new CalibrationObservationCache(directory);
+
+			alg.save("a.png", new ImageObservation(640, 480, null));
+			alg.save("a.png", new ImageObservation(320, 240, null));
+
+			ImageObservation a = alg.load("a.png");
+			assertEquals(320, a.width);
+			assertEquals(240, a.height);
+
+			String[] files = directory.list();
+			assertEquals(1, files.length);
+			assertEquals("a.png.yaml", files[0]);
+		} finally {
+			UtilIO.deleteRecursive(directory);
+		}
+	}
+
+	private File createDirectory() throws IOException {
+		File directory = File.createTempFile("calibcache",null);
+		assertTrue(directory.delete());
+		return directory;
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.io.image;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.ImageInterleavedTestingOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.*;
 import boofcv.testing.BoofTesting;
@@ -170,6 +171,77 @@ public class TestConvertBufferedImage {
 		}
 	}
 
+	@Test
+	public void wrapGrayU8() {
+		// shared with the raster, including sub-images
+		BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
+		for( BufferedImage img : new BufferedImage[]{origImg,origImg.getSubimage(1,2,5,6)}) {
+			GrayU8 storage = new GrayU8(1,1);
+			GrayU8 found = ConvertBufferedImage.wrapGrayU8(img, storage);
+
+			assertTrue(found != storage);
+			assertTrue(found.data == ConvertBufferedImage.extractGrayU8(origImg).data);
+			GrayU8 expected = ConvertBufferedImage.convertFrom(img,(GrayU8)null);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// operations which copy the whole array for non sub-images must read the correct pixels
+			assertEquals(img != origImg, found.isSubimage());
+			GrayU8 copy = new GrayU8(1,1);
+			copy.setTo(found);
+			BoofTesting.assertEquals(expected, copy, 0);
+			BoofTesting.assertEquals(expected, ConvertImage.convert(found,(GrayF32)null), 0);
+		}
+
+		// copied into storage
+		for( BufferedImage img : new BufferedImage[]{
+				TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand),
+				TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand),
+				TestConvertRaster.createByteIndexed(imgWidth, imgHeight, rand)}) {
+			GrayU8 storage = new GrayU8(1,1);
+			GrayU8 found = ConvertBufferedImage.wrapGrayU8(img, storage);
+
+			assertTrue(found == storage);
+			BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(img,(GrayU8)null), found, 0);
+		}
+	}
+
+	@Test
+	public void wrapInterleavedU8() {
+		int types[] = new int[]{BufferedImage.TYPE_3BYTE_BGR,BufferedImage.TYPE_4BYTE_ABGR,
+				BufferedImage.TYPE_BYTE_GRAY,BufferedImage.TYPE_INT_RGB,BufferedImage.TYPE_BYTE_INDEXED};
+
+		for( int type : types ) {
+			BufferedImage origImg = TestConvertRaster.createBufferedByType(imgWidth, imgHeight, type, rand);
+			boolean byteRaster = type != BufferedImage.TYPE_INT_RGB && type != BufferedImage.TYPE_BYTE_INDEXED;
+
+			for( BufferedImage img : new BufferedImage[]{origImg,origImg.getSubimage(1,2,5,6)}) {
+				for( boolean orderRgb : new boolean[]{false,true}) {
+					InterleavedU8 expected = new InterleavedU8(1,1,1);
+					ConvertBufferedImage.convertFromInterleaved(img, expected, orderRgb);
+
+					InterleavedU8 storage = new InterleavedU8(1,1,1);
+					InterleavedU8 found = ConvertBufferedImage.wrapInterleavedU8(img, orderRgb, storage);
+
+					boolean shared = byteRaster && (!orderRgb || type == BufferedImage.TYPE_BYTE_GRAY);
+					assertEquals(shared, found != storage);
+					BoofTesting.assertEquals(expected, found, 0);
+
+					// operations which copy the whole array for non sub-images must read the correct pixels
+					InterleavedU8 copy = new InterleavedU8(1,1,found.numBands);
+					copy.setTo(found);
+					BoofTesting.assertEquals(expected, copy, 0);
+					BoofTesting.assertEquals(expected, ConvertImage.convert(found,(InterleavedF32)null), 0);
+				}
+			}
+		}
+
+		// storage is optional
+		BufferedImage img = TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand);
+		InterleavedU8 found = ConvertBufferedImage.wrapInterleavedU8(img, true, null);
+		assertEquals(imgWidth, found.width);
+		assertEquals(imgHeight, found.height);
+	}
+
 	@Test
 	public void extractBuffered_InterleavedU8() {
 		// test it with 3 bands
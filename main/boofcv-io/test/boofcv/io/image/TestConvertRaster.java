@@ -78,12 +78,49 @@ public class TestConvertRaster {
 			throw new RuntimeException("Unexpected number of methods: Found " + numFound + "  expected " + numMethods);
 	}
 
+	/**
+	 * Conversions into 8-bit images should produce identical results when run concurrently
+	 */
+	@Test
+	public void concurrent() {
+		int types[] = new int[]{BufferedImage.TYPE_BYTE_GRAY,BufferedImage.TYPE_3BYTE_BGR,
+				BufferedImage.TYPE_4BYTE_ABGR,BufferedImage.TYPE_INT_RGB,BufferedImage.TYPE_INT_ARGB};
+
+		for( int type : types ) {
+			BufferedImage orig = createBufferedByType(30, 150, type, rand);
+			for( final BufferedImage img : new BufferedImage[]{orig,orig.getSubimage(2,3,25,140)}) {
+				final GrayU8 expectedGray = new GrayU8(1,1);
+				final InterleavedU8 expectedInter = new InterleavedU8(1,1,1);
+				final GrayU8 foundGray = new GrayU8(1,1);
+				final InterleavedU8 foundInter = new InterleavedU8(1,1,1);
+
+				BoofTesting.checkConcurrent(new Runnable() {
+					@Override
+					public void run() {
+						ConvertBufferedImage.convertFrom(img, expectedGray);
+						ConvertBufferedImage.convertFromInterleaved(img, expectedInter, false);
+					}
+				}, new Runnable() {
+					@Override
+					public void run() {
+						ConvertBufferedImage.convertFrom(img, foundGray);
+						ConvertBufferedImage.convertFromInterleaved(img, foundInter, false);
+					}
+				});
+
+				BoofTesting.assertEquals(expectedGray, foundGray, 0);
+				BoofTesting.assertEquals(expectedInter, foundInter, 0);
+			}
+		}
+	}
+
 	/**
 	 * There is a bug where gray scale images are mangled by getRGB().  There is a work around in
 	 * the code.
 	 * <p/>
 	 * Java Bug ID: 5051418
 	 */
+
 	@Test
 	public void checkGrayBug_To() {
 		BufferedImage img = new BufferedImage(5, 5, BufferedImage.TYPE_BYTE_GRAY);
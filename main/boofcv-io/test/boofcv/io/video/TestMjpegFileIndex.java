@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMjpegFileIndex {
+
+	/**
+	 * Windows which are much smaller than a frame force frames and markers to be split across windows
+	 */
+	@Test
+	public void findFrames() throws IOException {
+		for( int windowSize : new int[]{1,7,100,MjpegFileIndex.DEFAULT_WINDOW}) {
+			findFrames(windowSize);
+		}
+	}
+
+	private void findFrames( int windowSize ) throws IOException {
+		List<byte[]> frames = new ArrayList<>();
+		File file = createMjpeg(5,frames);
+		try {
+			MjpegFileIndex alg = new MjpegFileIndex(file,windowSize);
+
+			// it should only scan as far as needed
+			assertTrue(alg.findFrame(1));
+			assertEquals(2,alg.getFramesFound());
+			assertFalse(alg.isScanComplete());
+
+			// read them out of order
+			for( int i : new int[]{3,0,4,1,2} ) {
+				ByteBuffer found = alg.getFrame(i);
+				byte[] expected = frames.get(i);
+				assertEquals(expected.length,found.remaining());
+				for (int j = 0; j < expected.length; j++) {
+					assertEquals(expected[j],found.get(j));
+				}
+			}
+
+			assertNull(alg.getFrame(5));
+			assertFalse(alg.findFrame(5));
+			assertEquals(5,alg.countFrames());
+			assertTrue(alg.isScanComplete());
+			alg.close();
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	/**
+	 * A frame without an EOI at the end of the file should be ignored
+	 */
+	@Test
+	public void truncatedFrame() throws IOException {
+		List<byte[]> frames = new ArrayList<>();
+		File file = createMjpeg(2,frames);
+		try {
+			FileOutputStream out = new FileOutputStream(file,true);
+			out.write(frames.get(0),0,frames.get(0).length/2);
+			out.close();
+
+			MjpegFileIndex alg = new MjpegFileIndex(file,50);
+			assertEquals(2,alg.countFrames());
+			alg.close();
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	/**
+	 * Creates a MJPEG file where each frame has a different gray value
+	 *
+	 * @param frames (Output) JPEG data for each frame
+	 */
+	public static File createMjpeg( int numFrames , List<byte[]> frames ) throws IOException {
+		File file = File.createTempFile("boofcv",".mjpeg");
+		FileOutputStream out = new FileOutputStream(file);
+		for (int i = 0; i < numFrames; i++) {
+			BufferedImage image = new BufferedImage(30+i,20,BufferedImage.TYPE_BYTE_GRAY);
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					image.getRaster().setSample(x,y,0,i*40);
+				}
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ImageIO.write(image,"jpg",bytes);
+			frames.add(bytes.toByteArray());
+			out.write(bytes.toByteArray());
+		}
+		out.close();
+		return file;
+	}
+}
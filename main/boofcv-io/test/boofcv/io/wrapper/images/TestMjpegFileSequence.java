@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.io.video.TestMjpegFileIndex;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMjpegFileSequence {
+
+	ImageType<GrayU8> imageType = ImageType.single(GrayU8.class);
+
+	@Test
+	public void readAll() throws IOException {
+		File file = TestMjpegFileIndex.createMjpeg(6,new ArrayList<byte[]>());
+		try {
+			// the small prefetch queue and window will force it to wait and remap
+			MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file,1,200,imageType);
+
+			for (int i = 0; i < 6; i++) {
+				assertTrue(alg.hasNext());
+				assertEquals(30+i,alg.getNextWidth());
+				assertEquals(20,alg.getNextHeight());
+				checkFrame(alg.next(),i);
+				assertEquals(i,alg.getFrameNumber());
+				assertEquals(30+i,alg.getGuiImage().getWidth());
+			}
+			assertFalse(alg.hasNext());
+			// there is no next image so the size of the last one is returned
+			assertEquals(35,alg.getNextWidth());
+			assertEquals(20,alg.getNextHeight());
+			assertEquals(6,alg.getTotalFrames());
+			alg.close();
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	@Test
+	public void seek_reset() throws IOException {
+		File file = TestMjpegFileIndex.createMjpeg(6,new ArrayList<byte[]>());
+		try {
+			MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file,2,1000,imageType);
+
+			alg.seek(4);
+			checkFrame(alg.next(),4);
+			assertEquals(4,alg.getFrameNumber());
+			checkFrame(alg.next(),5);
+			assertFalse(alg.hasNext());
+
+			alg.seek(1);
+			checkFrame(alg.next(),1);
+
+			alg.reset();
+			checkFrame(alg.next(),0);
+
+			alg.seek(10);
+			assertFalse(alg.hasNext());
+			alg.close();
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	@Test
+	public void loop() throws IOException {
+		File file = TestMjpegFileIndex.createMjpeg(3,new ArrayList<byte[]>());
+		try {
+			MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file,2,1000,imageType);
+			alg.setLoop(true);
+
+			for (int i = 0; i < 8; i++) {
+				assertTrue(alg.hasNext());
+				checkFrame(alg.next(),i%3);
+			}
+			alg.close();
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	/**
+	 * Looping is turned on and off after the prefetch thread has already passed the end of the file
+	 */
+	@Test
+	public void loop_changed() throws IOException {
+		File file = TestMjpegFileIndex.createMjpeg(3,new ArrayList<byte[]>());
+		try {
+			MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file,5,1000,imageType);
+
+			checkFrame(alg.next(),0);
+			alg.setLoop(true);
+			for (int i = 1; i < 5; i++) {
+				assertTrue(alg.hasNext());
+				checkFrame(alg.next(),i%3);
+				assertEquals(i%3,alg.getFrameNumber());
+			}
+
+			alg.setLoop(false);
+			checkFrame(alg.next(),2);
+			assertFalse(alg.hasNext());
+
+			alg.setLoop(true);
+			assertTrue(alg.hasNext());
+			checkFrame(alg.next(),0);
+			alg.close();
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	private static void checkFrame( GrayU8 image , int frame ) {
+		assertEquals(30+frame,image.width);
+		assertEquals(frame*40,image.get(image.width/2,image.height/2),2);
+	}
+}
@@ -51,8 +51,9 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;\n" +
 				"import boofcv.struct.image.*;\n" +
-				"import boofcv.alg.filter.blur.BlurImageOps;\n" +
+				"import org.ddogleg.struct.FastQueue;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
@@ -132,8 +133,6 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 	public void printLocalSquare(AutoTypeImage imageIn) {
 
 		String imageName = imageIn.getSingleBandName();
-		String sumType = imageIn.getSumType();
-		String bitwise = imageIn.getBitWise();
 
 		out.print("\t/**\n" +
 				"\t * Thresholds the image using a locally adaptive threshold that is computed using a local square region centered\n" +
@@ -146,57 +145,35 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 				"\t * @param radius Radius of square region.\n" +
 				"\t * @param scale Scale factor used to adjust threshold.  Try 0.95\n" +
 				"\t * @param down Should it threshold up or down.\n" +
-				"\t * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.\n" +
-				"\t * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.\n" +
+				"\t * @param storage1 Not used. Can be null.\n" +
+				"\t * @param storage2 Not used. Can be null.\n" +
 				"\t * @return Thresholded image.\n" +
 				"\t */\n" +
 				"\tpublic static GrayU8 localSquare( "+imageName+" input , GrayU8 output ,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\t int radius , float scale , boolean down ,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\t "+imageName+" storage1 , "+imageName+" storage2 ) {\n" +
+				"\t\treturn localSquare(input,output,radius,scale,down,null);\n" +
+				"\t}\n\n");
+
+		out.print("\t/**\n" +
+				"\t * Same as {@link #localSquare("+imageName+", GrayU8, int, float, boolean, "+imageName+", "+imageName+")}\n" +
+				"\t * but with a workspace which can be recycled between calls.\n" +
+				"\t *\n" +
+				"\t * @param input Input image.\n" +
+				"\t * @param output (optional) Output binary image.  If null it will be declared internally.\n" +
+				"\t * @param radius Radius of square region.\n" +
+				"\t * @param scale Scale factor used to adjust threshold.  Try 0.95\n" +
+				"\t * @param down Should it threshold up or down.\n" +
+				"\t * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.\n" +
+				"\t * @return Thresholded image.\n" +
+				"\t */\n" +
+				"\tpublic static GrayU8 localSquare( "+imageName+" input , GrayU8 output ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t int radius , float scale , boolean down ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t FastQueue<ImplThresholdImageOps.BandWork> work ) {\n" +
 				"\n" +
 				"\t\toutput = InputSanityCheck.checkDeclare(input,output,GrayU8.class);\n" +
-				"\t\tstorage1 = InputSanityCheck.checkDeclare(input,storage1,"+imageName+".class);\n" +
-				"\t\tstorage2 = InputSanityCheck.checkDeclare(input,storage2,"+imageName+".class);\n" +
-				"\n" +
-				"\t\t"+imageName+" mean = storage1;\n" +
-				"\n" +
-				"\t\tBlurImageOps.mean(input,mean,radius,storage2);\n" +
-				"\n" +
-				"\t\tif( down ) {\n" +
-				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
-				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
-				"\t\t\t\tint indexMean = mean.startIndex + y*mean.stride;\n" +
-				"\n" +
-				"\t\t\t\tint end = indexIn + input.width;\n" +
-				"\n" +
-				"\t\t\t\tfor( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {\n" +
-				"\t\t\t\t\tfloat threshold = (mean.data[indexMean]"+bitwise+") * scale;\n" +
 				"\n" +
-				"\t\t\t\t\tif( (input.data[indexIn]"+bitwise+") <= threshold )\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 1;\n" +
-				"\t\t\t\t\telse\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 0;\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\t\t} else {\n" +
-				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
-				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
-				"\t\t\t\tint indexMean = mean.startIndex + y*mean.stride;\n" +
-				"\n" +
-				"\t\t\t\tint end = indexIn + input.width;\n" +
-				"\n" +
-				"\t\t\t\tfor( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {\n" +
-				"\t\t\t\t\t"+sumType+" threshold = (mean.data[indexMean]"+bitwise+");\n" +
-				"\n" +
-				"\t\t\t\t\tif( (input.data[indexIn]"+bitwise+") * scale > threshold )\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 1;\n" +
-				"\t\t\t\t\telse\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 0;\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\tImplThresholdImageOps.localSquare(input,output,radius,scale,down,work);\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -205,8 +182,6 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 	public void printLocalGaussian(AutoTypeImage imageIn) {
 
 		String imageName = imageIn.getSingleBandName();
-		String sumType = imageIn.getSumType();
-		String bitwise = imageIn.getBitWise();
 
 		out.print("\t/**\n" +
 				"\t * Thresholds the image using a locally adaptive threshold that is computed using a local square region centered\n" +
@@ -219,57 +194,35 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 				"\t * @param radius Radius of square region.\n" +
 				"\t * @param scale Scale factor used to adjust threshold.  Try 0.95\n" +
 				"\t * @param down Should it threshold up or down.\n" +
-				"\t * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.\n" +
-				"\t * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.\n" +
+				"\t * @param storage1 Not used. Can be null.\n" +
+				"\t * @param storage2 Not used. Can be null.\n" +
 				"\t * @return Thresholded image.\n" +
 				"\t */\n" +
 				"\tpublic static GrayU8 localGaussian( "+imageName+" input , GrayU8 output ,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\t   int radius , float scale , boolean down ,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\t   "+imageName+" storage1 , "+imageName+" storage2 ) {\n" +
+				"\t\treturn localGaussian(input,output,radius,scale,down,null);\n" +
+				"\t}\n\n");
+
+		out.print("\t/**\n" +
+				"\t * Same as {@link #localGaussian("+imageName+", GrayU8, int, float, boolean, "+imageName+", "+imageName+")}\n" +
+				"\t * but with a workspace which can be recycled between calls.\n" +
+				"\t *\n" +
+				"\t * @param input Input image.\n" +
+				"\t * @param output (optional) Output binary image.  If null it will be declared internally.\n" +
+				"\t * @param radius Radius of square region.\n" +
+				"\t * @param scale Scale factor used to adjust threshold.  Try 0.95\n" +
+				"\t * @param down Should it threshold up or down.\n" +
+				"\t * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.\n" +
+				"\t * @return Thresholded image.\n" +
+				"\t */\n" +
+				"\tpublic static GrayU8 localGaussian( "+imageName+" input , GrayU8 output ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t   int radius , float scale , boolean down ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t   FastQueue<ImplThresholdImageOps.BandWork> work ) {\n" +
 				"\n" +
 				"\t\toutput = InputSanityCheck.checkDeclare(input,output,GrayU8.class);\n" +
-				"\t\tstorage1 = InputSanityCheck.checkDeclare(input,storage1,"+imageName+".class);\n" +
-				"\t\tstorage2 = InputSanityCheck.checkDeclare(input,storage2,"+imageName+".class);\n" +
-				"\n" +
-				"\t\t"+imageName+" blur = storage1;\n" +
-				"\n" +
-				"\t\tBlurImageOps.gaussian(input,blur,-1,radius,storage2);\n" +
-				"\n" +
-				"\t\tif( down ) {\n" +
-				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
-				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
-				"\t\t\t\tint indexMean = blur.startIndex + y*blur.stride;\n" +
-				"\n" +
-				"\t\t\t\tint end = indexIn + input.width;\n" +
-				"\n" +
-				"\t\t\t\tfor( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {\n" +
-				"\t\t\t\t\tfloat threshold = (blur.data[indexMean]"+bitwise+") * scale;\n" +
 				"\n" +
-				"\t\t\t\t\tif( (input.data[indexIn]"+bitwise+") <= threshold )\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 1;\n" +
-				"\t\t\t\t\telse\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 0;\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\t\t} else {\n" +
-				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
-				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
-				"\t\t\t\tint indexMean = blur.startIndex + y*blur.stride;\n" +
-				"\n" +
-				"\t\t\t\tint end = indexIn + input.width;\n" +
-				"\n" +
-				"\t\t\t\tfor( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {\n" +
-				"\t\t\t\t\t"+sumType+" threshold = (blur.data[indexMean]"+bitwise+");\n" +
-				"\n" +
-				"\t\t\t\t\tif( (input.data[indexIn]"+bitwise+") * scale > threshold )\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 1;\n" +
-				"\t\t\t\t\telse\n" +
-				"\t\t\t\t\t\toutput.data[indexOut] = 0;\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\tImplThresholdImageOps.localGaussian(input,output,radius,scale,down,work);\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -117,7 +117,7 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 
 		totalFunctions++;
 
-		String divideArg = hasDivide ? ", int divisor" : "";
+		String divideArg = hasDivide ? ", final int divisor" : "";
 		String divideSuf = hasDivide ? "_Div" : "";
 		String divideInput = hasDivide ? ", divisor" : "";
 
@@ -135,17 +135,24 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 //			out.print("\t * @param divisor The value that the convolved image is divided by.\n");
 //		out.print("\t */\n" );
 
-		out.print("\tpublic static void "+name+"(Kernel"+dimen+"_"+kernelType+" kernel,\n" +
+		String bandArgs = name.equals("horizontal") ? "input, output" : "kernel, input, output";
+
+		out.print("\tpublic static void "+name+"(final Kernel"+dimen+"_"+kernelType+" kernel,\n" +
 				"\t\t\t\t\t\t\t\t  "+inputName+" input, "+outputName+" output"+divideArg+") {\n" +
 				"\t\tInputSanityCheck.checkSameShape(input, output);\n" +
-				"\n");
+				"\n" +
+				"\t\tnew ConvolveImageBands<"+inputName+","+outputName+">() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tprotected void band("+inputName+" input, "+outputName+" output) {\n");
 		if( singleBand ) {
-			out.print("\t\tif (!ConvolveImageUnrolled_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
-					"\t\t\tConvolveImageStandard_SB."+name+"(kernel, input, output"+divideInput+");\n");
+			out.print("\t\t\t\tif (!ConvolveImageUnrolled_SB_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
+					"\t\t\t\t\tConvolveImageStandard_SB."+name+"(kernel, input, output"+divideInput+");\n");
 		} else {
-			out.print("\t\tConvolveImageStandard_IL."+name+"(kernel, input, output"+divideInput+");\n");
+			out.print("\t\t\t\tConvolveImageStandard_IL."+name+"(kernel, input, output"+divideInput+");\n");
 		}
-		out.print("\t}\n\n");
+		out.print("\t\t\t}\n" +
+				"\t\t}."+name+"("+bandArgs+");\n" +
+				"\t}\n\n");
 	}
 
 	public static void main(String[] args) {
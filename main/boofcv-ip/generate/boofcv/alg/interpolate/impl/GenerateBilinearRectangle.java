@@ -64,6 +64,7 @@ public class GenerateBilinearRectangle extends CodeGeneratorBase {
 		out.print("package boofcv.alg.interpolate.impl;\n");
 		out.println();
 		out.print("import boofcv.alg.interpolate.InterpolateRectangle;\n" +
+				"import boofcv.concurrency.ConcurrentCopy;\n" +
 				"import boofcv.struct.image."+image.getSingleBandName()+";\n");
 		if( image.getSingleBandName().compareTo("GrayF32") != 0 )
 			out.println("import boofcv.struct.image.GrayF32;");
@@ -81,7 +82,8 @@ public class GenerateBilinearRectangle extends CodeGeneratorBase {
 				" *\n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+" implements InterpolateRectangle<"+image.getSingleBandName()+"> {\n" +
+				"public class "+className+" implements InterpolateRectangle<"+image.getSingleBandName()+">, " +
+				"ConcurrentCopy<InterpolateRectangle<"+image.getSingleBandName()+">> {\n" +
 				"\n" +
 				"\tprivate "+image.getSingleBandName()+" orig;\n" +
 				"\n" +
@@ -113,6 +115,14 @@ public class GenerateBilinearRectangle extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic InterpolateRectangle<"+image.getSingleBandName()+"> copy() {\n" +
+				"\t\t"+className+" out = new "+className+"();\n" +
+				"\t\tif( orig != null )\n" +
+				"\t\t\tout.setImage(orig);\n" +
+				"\t\treturn out;\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic void region(float tl_x, float tl_y, GrayF32 output ) {\n" +
 				"\t\tif( tl_x < 0 || tl_y < 0 || tl_x + output.width > orig.width || tl_y + output.height > orig.height ) {\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Region is outside of the image\");\n" +
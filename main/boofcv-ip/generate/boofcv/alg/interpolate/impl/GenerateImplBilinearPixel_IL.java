@@ -78,6 +78,9 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 		String sumType = image.getSumType();
 
 		out.print("import boofcv.alg.interpolate.BilinearPixelMB;\n" +
+				"import boofcv.alg.interpolate.InterpolatePixelMB;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.ConcurrentCopy;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
 				"import boofcv.struct.image." + image.getInterleavedName() + ";\n" +
 				"import boofcv.core.image.border.ImageBorder_IL_" + borderType + ";\n");
@@ -94,7 +97,7 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 				" *\n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class " + className + " extends BilinearPixelMB<" + imageName + "> {\n" +
+				"public class " + className + " extends BilinearPixelMB<" + imageName + "> implements ConcurrentCopy<InterpolatePixelMB<"+imageName+">> {\n" +
 				"\t"+sumType+" temp0[];\n" +
 				"\t"+sumType+" temp1[];\n" +
 				"\t"+sumType+" temp2[];\n" +
@@ -197,6 +200,16 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic InterpolatePixelMB<"+imageName+"> copy() {\n" +
+				"\t\tBilinearPixelMB<"+imageName+"> out = new "+className+"(temp0.length);\n" +
+				"\t\tif( border != null )\n" +
+				"\t\t\tout.setBorder(BoofConcurrency.copy(border));\n" +
+				"\t\tif( orig != null )\n" +
+				"\t\t\tout.setImage(orig);\n" +
+				"\t\treturn out;\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic ImageType<"+imageName+"> getImageType() {\n" +
 				"\t\treturn orig.getImageType();\n" +
 				"\t}\n\n");
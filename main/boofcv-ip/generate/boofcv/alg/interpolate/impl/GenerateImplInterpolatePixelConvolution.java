@@ -54,6 +54,8 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 
 	private void printPreamble( String fileName ) {
 		out.print("import boofcv.alg.interpolate.InterpolatePixelS;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.ConcurrentCopy;\n" +
 				"import boofcv.struct.convolve.KernelContinuous1D_F32;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
 				"import boofcv.struct.image.*;\n" +
@@ -73,7 +75,7 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 				" *\n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+fileName+" implements InterpolatePixelS<"+inputType.getSingleBandName()+">  {\n" +
+				"public class "+fileName+" implements InterpolatePixelS<"+inputType.getSingleBandName()+">, ConcurrentCopy<InterpolatePixelS<"+inputType.getSingleBandName()+">> {\n" +
 				"\n" +
 				"\t// used to read outside the image border\n" +
 				"\tprivate ImageBorder_"+borderType+" border;\n" +
@@ -245,7 +247,17 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 				"\t@Override\n" +
 				"\tpublic ImageBorder<"+inputType.getSingleBandName()+"> getBorder() {\n" +
 				"\t\treturn border;\n" +
-				"\t}" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic InterpolatePixelS<"+inputType.getSingleBandName()+"> copy() {\n" +
+				"\t\t"+className+" out = new "+className+"(kernel,min,max);\n" +
+				"\t\tif( border != null )\n" +
+				"\t\t\tout.setBorder(BoofConcurrency.copy(border));\n" +
+				"\t\tif( image != null )\n" +
+				"\t\t\tout.setImage(image);\n" +
+				"\t\treturn out;\n" +
+				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
 				"\tpublic ImageType<"+inputType.getSingleBandName()+"> getImageType() {\n" +
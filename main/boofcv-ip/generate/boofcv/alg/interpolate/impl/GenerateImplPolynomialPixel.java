@@ -56,6 +56,9 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.alg.interpolate.PolynomialPixel;\n" +
+				"import boofcv.alg.interpolate.InterpolatePixelS;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.ConcurrentCopy;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"import boofcv.core.image.border.ImageBorder_"+borderType+";\n");
 		out.println();
@@ -69,7 +72,7 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 				" * \n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+" extends PolynomialPixel<"+image.getSingleBandName()+"> {\n" +
+				"public class "+className+" extends PolynomialPixel<"+image.getSingleBandName()+"> implements ConcurrentCopy<InterpolatePixelS<"+image.getSingleBandName()+">> {\n" +
 				"\n" +
 				"\tpublic "+className+"(int maxDegree, float min, float max) {\n" +
 				"\t\tsuper(maxDegree, min, max);\n" +
@@ -180,6 +183,16 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 						"\t\treturn ret;\n" +
 						"\t}\n" +
 						"\t@Override\n" +
+						"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
+						"\t\t"+className+" out = new "+className+"(M,min,max);\n" +
+						"\t\tif( border != null )\n" +
+						"\t\t\tout.setBorder(BoofConcurrency.copy(border));\n" +
+						"\t\tif( image != null )\n" +
+						"\t\t\tout.setImage(image);\n" +
+						"\t\treturn out;\n" +
+						"\t}\n" +
+						"\n" +
+						"\t@Override\n" +
 						"\tpublic ImageType<"+image.getSingleBandName()+"> getImageType() {\n" +
 						"\t\treturn ImageType.single("+image.getSingleBandName()+".class);\n" +
 						"\t}\n\n"
@@ -64,6 +64,9 @@ public class GenerateNearestNeighborPixel_IL extends CodeGeneratorBase {
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.alg.interpolate.NearestNeighborPixelMB;\n" +
+				"import boofcv.alg.interpolate.InterpolatePixelMB;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.ConcurrentCopy;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
 				"import boofcv.struct.image." + image.getInterleavedName() + ";\n" +
 				"import boofcv.core.image.border.ImageBorder_" + borderType + ";\n");
@@ -80,7 +83,7 @@ public class GenerateNearestNeighborPixel_IL extends CodeGeneratorBase {
 				" *\n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+" extends NearestNeighborPixelMB<"+image.getInterleavedName()+"> {\n" +
+				"public class "+className+" extends NearestNeighborPixelMB<"+image.getInterleavedName()+"> implements ConcurrentCopy<InterpolatePixelMB<"+image.getInterleavedName()+">> {\n" +
 				"\n" +
 				"\tprivate "+image.getSumType()+" pixel[] = new "+image.getSumType()+"[3];" +
 				"\n" +
@@ -127,6 +130,15 @@ public class GenerateNearestNeighborPixel_IL extends CodeGeneratorBase {
 				"\t\tfor (int i = 0; i < pixel.length; i++) {\n" +
 				"\t\t\tvalues[i] = "+sumToFloat+"pixel[i];\n" +
 				"\t\t}\n" +
+				"\t}\n\n" +
+				"\t@Override\n" +
+				"\tpublic InterpolatePixelMB<"+image.getInterleavedName()+"> copy() {\n" +
+				"\t\tNearestNeighborPixelMB<"+image.getInterleavedName()+"> out = new "+className+"();\n" +
+				"\t\tif( border != null )\n" +
+				"\t\t\tout.setBorder(BoofConcurrency.copy(border));\n" +
+				"\t\tif( orig != null )\n" +
+				"\t\t\tout.setImage(orig);\n" +
+				"\t\treturn out;\n" +
 				"\t}\n\n");
 	}
 
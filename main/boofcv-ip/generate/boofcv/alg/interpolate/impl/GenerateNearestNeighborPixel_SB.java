@@ -64,6 +64,10 @@ public class GenerateNearestNeighborPixel_SB extends CodeGeneratorBase {
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.alg.interpolate.NearestNeighborPixel;\n" +
+				"import boofcv.alg.interpolate.InterpolatePixelS;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.ConcurrentCopy;\n" +
+				"import boofcv.alg.interpolate.NearestNeighborPixelS;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
 				"import boofcv.struct.image." + image.getSingleBandName() + ";\n" +
 				"import boofcv.core.image.border.ImageBorder_"+borderType+";\n");
@@ -80,7 +84,7 @@ public class GenerateNearestNeighborPixel_SB extends CodeGeneratorBase {
 				" *\n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+" extends NearestNeighborPixel<"+image.getSingleBandName()+"> {\n" +
+				"public class "+className+" extends NearestNeighborPixel<"+image.getSingleBandName()+"> implements ConcurrentCopy<InterpolatePixelS<"+image.getSingleBandName()+">> {\n" +
 				"\n" +
 				"\tprivate "+image.getDataType()+" data[];" +
 				"\n" +
@@ -123,6 +127,16 @@ public class GenerateNearestNeighborPixel_SB extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
+				"\t\tNearestNeighborPixelS<"+image.getSingleBandName()+"> out = new "+className+"();\n" +
+				"\t\tif( border != null )\n" +
+				"\t\t\tout.setBorder(BoofConcurrency.copy(border));\n" +
+				"\t\tif( orig != null )\n" +
+				"\t\t\tout.setImage(orig);\n" +
+				"\t\treturn out;\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic ImageType<"+image.getSingleBandName()+"> getImageType() {\n" +
 				"\t\treturn ImageType.single("+image.getSingleBandName()+".class);\n" +
 				"\t}\n\n");
@@ -62,6 +62,8 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		out.print("package boofcv.alg.transform.ii.impl;\n" +
 				"\n" +
 				"import boofcv.alg.transform.ii.IntegralKernel;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
 				"import boofcv.struct.ImageRectangle;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"\n" +
@@ -70,6 +72,12 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				" * <p>\n" +
 				" * Compute the integral image for different types of input images.\n" +
 				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * The integral image is computed in two passes.  First each row is summed, then the rows above are added.\n" +
+				" * If {@link BoofConcurrency#USE_CONCURRENT} is true then the rows and then the columns are split into blocks\n" +
+				" * which are processed concurrently.  Floating point results are identical to a single pass algorithm.\n" +
+				" * </p>\n" +
 				" * \n" +
 				" * <p>\n" +
 				" * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.\n" +
@@ -77,7 +85,11 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				" * \n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+" {\n\n");
+				"public class "+className+" {\n\n" +
+				"\t/**\n" +
+				"\t * Minimum number of columns summed by a single thread\n" +
+				"\t */\n" +
+				"\tpublic static int MIN_COLUMNS = 128;\n\n");
 	}
 
 	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
@@ -101,28 +113,39 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 
 		out.print("\tpublic static void transform( final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed )\n" +
 				"\t{\n" +
-				"\t\tint indexSrc = input.startIndex;\n" +
-				"\t\tint indexDst = transformed.startIndex;\n" +
-				"\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t"+sumType+" total = 0;\n" +
-				"\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
-				"\t\t\ttransformed.data[indexDst++] = "+typeCast+"total += input.data[indexSrc]"+bitWise+";\n" +
-				"\t\t}\n" +
+				"\t\t// sum along each row\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\t\t\tint end = indexSrc + input.width;\n" +
 				"\n" +
-				"\t\tfor( int y = 1; y < input.height; y++ ) {\n" +
-				"\t\t\tindexSrc = input.startIndex + input.stride*y;\n" +
-				"\t\t\tindexDst = transformed.startIndex + transformed.stride*y;\n" +
-				"\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\t\t\ttransformed.data[indexDst++] = "+typeCast+"total += input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
 				"\n" +
-				"\t\t\tend = indexSrc + input.width;\n" +
+				"\t\t// add the row above to get the sum along each column\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process(int x0, int x1) {\n" +
+				"\t\t\t\tfor( int y = 1; y < input.height; y++ ) {\n" +
+				"\t\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y + x0;\n" +
+				"\t\t\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\t\t\tint end = indexDst + x1 - x0;\n" +
 				"\n" +
-				"\t\t\ttotal = 0;\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
-				"\t\t\t\ttotal +=  input.data[indexSrc]"+bitWise+";\n" +
-				"\t\t\t\ttransformed.data[indexDst++] = transformed.data[indexPrev++] + total;\n" +
+				"\t\t\t\t\tfor( ; indexDst < end; indexDst++ ) {\n" +
+				"\t\t\t\t\t\ttransformed.data[indexDst] += transformed.data[indexPrev++];\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t});\n" +
 				"\t}\n\n");
 	}
 
@@ -32,6 +32,7 @@ public class GenerateConvertInterleavedToSingle extends CodeGeneratorBase {
 
 
 	public GenerateConvertInterleavedToSingle() throws FileNotFoundException {
+		super(false);
 		setOutputFile(className);
 	}
 
@@ -43,22 +44,27 @@ public class GenerateConvertInterleavedToSingle extends CodeGeneratorBase {
 			printAverage(in);
 		}
 
-		out.print("\n" +
-				"}\n");
+		out.print("}\n");
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.struct.image.*;\n" +
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * Low level implementations of different methods for converting {@link boofcv.struct.image.ImageInterleaved} into\n" +
-				" * {@link boofcv.struct.image.ImageGray}.\n" +
+				" * {@link ImageGray}.\n" +
 				" *\n" +
 				" * <ul>\n" +
 				" * <li>Average computes the average value of each pixel across the bands.\n" +
 				" * </ul>\n" +
 				" *\n" +
 				" * <p>\n" +
+				" * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are converted concurrently.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by {@link "+getClass().getName()+"}\n" +
 				" * </p>\n" +
 				" *\n" +
@@ -75,7 +81,7 @@ public class GenerateConvertInterleavedToSingle extends CodeGeneratorBase {
 		String typecast = in.getTypeCastFromSum();
 		String bitwise = in.getBitWise();
 
-		out.print("\tpublic static void average( "+inputType+" from , "+outputType+" to ) {\n" +
+		out.print("\tpublic static void average( final "+inputType+" from , final "+outputType+" to ) {\n" +
 				"\t\tfinal int numBands = from.getNumBands();\n" +
 				"\n" +
 				"\t\tif( numBands == 1 ) {\n" +
@@ -85,19 +91,25 @@ public class GenerateConvertInterleavedToSingle extends CodeGeneratorBase {
 				"\t\t\t\tSystem.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);\n" +
 				"\t\t\t}\n" +
 				"\t\t} else {\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
-				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
-				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
+				"\t\t\tBoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t\t@Override\n" +
+				"\t\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
+				"\t\t\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
-				"\t\t\t\tfor (int x = 0; x < from.width; x++ ) {\n" +
-				"\t\t\t\t\t"+sumType+" sum = 0;\n" +
-				"\t\t\t\t\tint indexFromEnd = indexFrom + numBands;\n" +
-				"\t\t\t\t\twhile( indexFrom < indexFromEnd ) {\n" +
-				"\t\t\t\t\t\tsum += from.data[indexFrom++]"+bitwise+";\n" +
+				"\t\t\t\t\t\tfor (int x = 0; x < from.width; x++ ) {\n" +
+				"\t\t\t\t\t\t\t"+sumType+" sum = 0;\n" +
+				"\t\t\t\t\t\t\tint indexFromEnd = indexFrom + numBands;\n" +
+				"\t\t\t\t\t\t\twhile( indexFrom < indexFromEnd ) {\n" +
+				"\t\t\t\t\t\t\t\tsum += from.data[indexFrom++]"+bitwise+";\n" +
+				"\t\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t\t\tto.data[indexTo++] = "+typecast+"(sum/numBands);\n" +
+				"\t\t\t\t\t\t}\n" +
 				"\t\t\t\t\t}\n" +
-				"\t\t\t\t\tto.data[indexTo++] = "+typecast+"(sum/numBands);\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				"\t\t\t});\n" +
 				"\t\t}\n" +
 				"\t}\n\n");
 	}
@@ -32,6 +32,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 	String className = "ImplConvertImage";
 
 	public GenerateImplConvertImage() throws FileNotFoundException {
+		super(false);
 		setOutputFile(className);
 	}
 
@@ -55,7 +56,9 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.struct.image.*;\n" +
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
@@ -64,6 +67,10 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				" * </p>\n" +
 				" *\n" +
 				" * <p>\n" +
+				" * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are converted concurrently.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by "+getClass().getSimpleName()+"\n" +
 				" * </p>\n" +
 				" *\n" +
@@ -87,29 +94,39 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		else if( sameTypes && imageIn.isSigned() )
 			typeCast = "";
 
-		out.print("\tpublic static void convert( "+imageIn.getSingleBandName()+" from, "+imageOut.getSingleBandName()+" to ) {\n" +
+		out.print("\tpublic static void convert( final "+imageIn.getSingleBandName()+" from, final "+imageOut.getSingleBandName()+" to ) {\n" +
 				"\n" +
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
+				"\t\t\tBoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t\t@Override\n" +
+				"\t\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
+				"\t\t\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
-				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
-				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
-				"\n" +
-				"\t\t\t\tfor (int x = 0; x < from.width; x++) {\n" +
-				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
+				"\t\t\t\t\t\tfor (int x = 0; x < from.width; x++) {\n" +
+				"\t\t\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
+				"\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\n" +
-				"\t\t} else {\n" +
-				"\t\t\tfinal int N = from.width * from.height;\n" +
-				"\n");
+				"\t\t\t});\n" +
+				"\t\t} else {\n");
 
 		if( sameTypes ) {
-			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
+			out.print("\t\t\tfinal int N = from.width * from.height;\n" +
+					"\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
 		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
-					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
+			out.print("\t\t\tBoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+					"\t\t\t\t\tnew IntRangeTask() {\n" +
+					"\t\t\t\t@Override\n" +
+					"\t\t\t\tpublic void process(int y0, int y1) {\n" +
+					"\t\t\t\t\tfinal int N = y1*from.width;\n" +
+					"\t\t\t\t\tfor (int i = y0*from.width; i < N; i++) {\n" +
+					"\t\t\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+					"\t\t\t\t\t}\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t});\n");
 		}
 		out.print("\t\t}\n" +
 				"\t}\n\n");
@@ -129,53 +146,72 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		else if( sameTypes && imageIn.isSigned() )
 			typeCast = "";
 
-		out.print("\tpublic static void convert( "+imageIn.getInterleavedName()+" from, "+imageOut.getInterleavedName()+" to ) {\n" +
+		out.print("\tpublic static void convert( final "+imageIn.getInterleavedName()+" from, final "+imageOut.getInterleavedName()+" to ) {\n" +
 				"\n" +
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
 				"\t\t\tfinal int N = from.width * from.getNumBands();\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
-				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
-				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
+				"\t\t\tBoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t\t@Override\n" +
+				"\t\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
+				"\t\t\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
-				"\t\t\t\tfor (int x = 0; x < N; x++) {\n" +
-				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
+				"\t\t\t\t\t\tfor (int x = 0; x < N; x++) {\n" +
+				"\t\t\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
+				"\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\n" +
-				"\t\t} else {\n" +
-				"\t\t\tfinal int N = from.width * from.height * from.getNumBands();\n" +
-				"\n");
+				"\t\t\t});\n" +
+				"\t\t} else {\n");
 
 		if( sameTypes ) {
-			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
+			out.print("\t\t\tfinal int N = from.width * from.height * from.getNumBands();\n" +
+					"\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
 		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
-					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
+			out.print("\t\t\tfinal int rowLength = from.width * from.getNumBands();\n" +
+					"\n" +
+					"\t\t\tBoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+					"\t\t\t\t\tnew IntRangeTask() {\n" +
+					"\t\t\t\t@Override\n" +
+					"\t\t\t\tpublic void process(int y0, int y1) {\n" +
+					"\t\t\t\t\tfinal int N = y1*rowLength;\n" +
+					"\t\t\t\t\tfor (int i = y0*rowLength; i < N; i++) {\n" +
+					"\t\t\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+					"\t\t\t\t\t}\n" +
+					"\t\t\t\t}\n" +
+					"\t\t\t});\n");
 		}
 		out.print("\t\t}\n" +
 				"\t}\n\n");
 	}
 
-		private void printInterleaveToMulti(AutoTypeImage imageIn) {
+	private void printInterleaveToMulti(AutoTypeImage imageIn) {
 		String inputName = imageIn.getInterleavedName();
 		String bandName = imageIn.getSingleBandName();
 
 		out.print(
-				"\tpublic static void convert( "+inputName+" input , Planar<"+bandName+"> output ) {\n" +
+				"\tpublic static void convert( final "+inputName+" input , final Planar<"+bandName+"> output ) {\n" +
 				"\n" +
 				"\t\tfinal int numBands = input.numBands;\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
-				"\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
-				"\t\t\t\n" +
-				"\t\t\tfor (int x = 0; x < input.width; x++, indexDst++ ) {\n" +
-				"\t\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
-				"\t\t\t\t\toutput.bands[i].data[indexDst] = input.data[indexSrc++];\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
+				"\t\t\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
+				"\n" +
+				"\t\t\t\t\tfor (int x = 0; x < input.width; x++, indexDst++ ) {\n" +
+				"\t\t\t\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
+				"\t\t\t\t\t\t\toutput.bands[i].data[indexDst] = input.data[indexSrc++];\n" +
+				"\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t});\n" +
 				"\t}\n\n");
 	}
 
@@ -184,19 +220,25 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		String bandName = imageIn.getSingleBandName();
 
 		out.print(
-				"\tpublic static void convert( Planar<"+bandName+"> input , "+outputName+" output ) {\n" +
+				"\tpublic static void convert( final Planar<"+bandName+"> input , final "+outputName+" output ) {\n" +
 				"\n" +
 				"\t\tfinal int numBands = input.getNumBands();\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
-				"\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
+				"\t\t\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
 				"\n" +
-				"\t\t\tfor (int x = 0; x < input.width; x++, indexSrc++ ) {\n" +
-				"\t\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
-				"\t\t\t\t\toutput.data[indexDst++] = input.bands[i].data[indexSrc];\n" +
+				"\t\t\t\t\tfor (int x = 0; x < input.width; x++, indexSrc++ ) {\n" +
+				"\t\t\t\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
+				"\t\t\t\t\t\t\toutput.data[indexDst++] = input.bands[i].data[indexSrc];\n" +
+				"\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t});\n" +
 				"\t}\n\n");
 	}
 
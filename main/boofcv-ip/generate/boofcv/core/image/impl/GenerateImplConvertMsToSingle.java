@@ -28,10 +28,11 @@ import java.io.FileNotFoundException;
  */
 public class GenerateImplConvertMsToSingle extends CodeGeneratorBase {
 
-	String className = "ImplConvertMsToSingle";
+	String className = "ImplConvertMsToGray";
 
 
 	public GenerateImplConvertMsToSingle() throws FileNotFoundException {
+		super(false);
 		setOutputFile(className);
 	}
 
@@ -43,22 +44,27 @@ public class GenerateImplConvertMsToSingle extends CodeGeneratorBase {
 			printAverage(in);
 		}
 
-		out.print("\n" +
-				"}\n");
+		out.print("}\n");
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.struct.image.*;\n" +
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * Low level implementations of different methods for converting {@link Planar} into\n" +
-				" * {@link boofcv.struct.image.ImageGray}.\n" +
+				" * {@link ImageGray}.\n" +
 				" * \n" +
 				" * <ul>\n" +
 				" * <li>Average computes the average value of each pixel across the bands.\n" +
 				" * </ul>\n" +
 				" * \n" +
 				" * <p>\n" +
+				" * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are converted concurrently.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by {@link boofcv.core.image.impl.GenerateImplConvertMsToSingle}\n" +
 				" * </p>\n" +
 				" *\n" +
@@ -74,41 +80,53 @@ public class GenerateImplConvertMsToSingle extends CodeGeneratorBase {
 		String typecast = in.getTypeCastFromSum();
 		String bitwise = in.getBitWise();
 
-		out.print("\tpublic static void average( Planar<"+imageType+"> from , "+imageType+" to ) {\n" +
-				"\t\tint numBands = from.getNumBands();\n" +
+		out.print("\tpublic static void average( final Planar<"+imageType+"> from , final "+imageType+" to ) {\n" +
+				"\t\tfinal int numBands = from.getNumBands();\n" +
 				"\n" +
 				"\t\tif( numBands == 1 ) {\n" +
 				"\t\t\tto.setTo(from.getBand(0));\n" +
 				"\t\t} else if( numBands == 3 ) {\n" +
-				"\t\t\t"+imageType+" band0 = from.getBand(0);\n" +
-				"\t\t\t"+imageType+" band1 = from.getBand(1);\n" +
-				"\t\t\t"+imageType+" band2 = from.getBand(2);\n" +
+				"\t\t\tfinal "+imageType+" band0 = from.getBand(0);\n" +
+				"\t\t\tfinal "+imageType+" band1 = from.getBand(1);\n" +
+				"\t\t\tfinal "+imageType+" band2 = from.getBand(2);\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
-				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
-				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
+				"\t\t\tBoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t\t@Override\n" +
+				"\t\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
+				"\t\t\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
-				"\t\t\t\tfor (int x = 0; x < from.width; x++ , indexFrom++ ) {\n" +
-				"\t\t\t\t\t"+sumType+" sum = band0.data[indexFrom]"+bitwise+";\n" +
-				"\t\t\t\t\tsum += band1.data[indexFrom]"+bitwise+";\n" +
-				"\t\t\t\t\tsum += band2.data[indexFrom]"+bitwise+";\n" +
+				"\t\t\t\t\t\tfor (int x = 0; x < from.width; x++ , indexFrom++ ) {\n" +
+				"\t\t\t\t\t\t\t"+sumType+" sum = band0.data[indexFrom]"+bitwise+";\n" +
+				"\t\t\t\t\t\t\tsum += band1.data[indexFrom]"+bitwise+";\n" +
+				"\t\t\t\t\t\t\tsum += band2.data[indexFrom]"+bitwise+";\n" +
 				"\n" +
-				"\t\t\t\t\tto.data[indexTo++] = "+typecast+"(sum/3);\n" +
+				"\t\t\t\t\t\t\tto.data[indexTo++] = "+typecast+"(sum/3);\n" +
+				"\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				"\t\t\t});\n" +
 				"\t\t} else {\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
-				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
-				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
+				"\t\t\tBoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,\n" +
+				"\t\t\t\t\tnew IntRangeTask() {\n" +
+				"\t\t\t\t@Override\n" +
+				"\t\t\t\tpublic void process(int y0, int y1) {\n" +
+				"\t\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
+				"\t\t\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
-				"\t\t\t\tfor (int x = 0; x < from.width; x++ , indexFrom++ ) {\n" +
-				"\t\t\t\t\t"+sumType+" sum = 0;\n" +
-				"\t\t\t\t\tfor( int b = 0; b < numBands; b++ ) {\n" +
-				"\t\t\t\t\t\tsum +=  from.bands[b].data[indexFrom]"+bitwise+";\n" +
+				"\t\t\t\t\t\tfor (int x = 0; x < from.width; x++ , indexFrom++ ) {\n" +
+				"\t\t\t\t\t\t\t"+sumType+" sum = 0;\n" +
+				"\t\t\t\t\t\t\tfor( int b = 0; b < numBands; b++ ) {\n" +
+				"\t\t\t\t\t\t\t\tsum +=  from.bands[b].data[indexFrom]"+bitwise+";\n" +
+				"\t\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t\t\tto.data[indexTo++] = "+typecast+"(sum/numBands);\n" +
+				"\t\t\t\t\t\t}\n" +
 				"\t\t\t\t\t}\n" +
-				"\t\t\t\t\tto.data[indexTo++] = "+typecast+"(sum/numBands);\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				"\t\t\t});\n" +
 				"\t\t}\n" +
 				"\t}\n\n");
 	}
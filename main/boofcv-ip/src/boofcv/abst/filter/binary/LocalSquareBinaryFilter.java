@@ -19,9 +19,11 @@
 package boofcv.abst.filter.binary;
 
 import boofcv.alg.filter.binary.GThresholdImageOps;
+import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * Adaptive/local threshold using a square region
@@ -34,13 +36,13 @@ public class LocalSquareBinaryFilter<T extends ImageGray<T>> implements InputToB
 
 	ImageType<T> inputType;
 
-	T work1;
-	ImageGray work2;
-
 	int radius;
 	double scale;
 	boolean down;
 
+	// row buffers recycled between calls
+	FastQueue<ImplThresholdImageOps.BandWork> work = ImplThresholdImageOps.createWorkspace();
+
 	/**
 	 * @see GThresholdImageOps#localSquare
 	 */
@@ -50,15 +52,11 @@ public class LocalSquareBinaryFilter<T extends ImageGray<T>> implements InputToB
 		this.scale = scale;
 		this.down = down;
 		this.inputType = inputType;
-		work1 = inputType.createImage(1,1);
-		work2 = inputType.createImage(1,1);
 	}
 
 	@Override
 	public void process(T input, GrayU8 output) {
-		work1.reshape(input.width,input.height);
-		work2.reshape(input.width,input.height);
-		GThresholdImageOps.localSquare(input, output, radius, scale, down, work1, work2);
+		GThresholdImageOps.localSquare(input, output, radius, scale, down, work);
 	}
 
 	@Override
@@ -18,6 +18,8 @@
 
 package boofcv.abst.filter.convolve;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.core.image.border.BorderType;
 import boofcv.struct.convolve.KernelBase;
 import boofcv.struct.image.ImageBase;
@@ -32,6 +34,10 @@ import java.lang.reflect.Method;
  * Can invoke different techniques for handling image borders.  The first pixel sampled is always (0,0) and the
  * sampled pixels are (x*skip,y*skip).
  *
+ * <p>If {@link BoofConcurrency#USE_CONCURRENT} is true then 1D kernels are processed concurrently.  A horizontal
+ * kernel is split into bands of rows and a vertical kernel into strips of columns.  Each output pixel
+ * only depends on input pixels in the same row or column, respectively, so the output is identical.</p>
+ *
  * @author Peter Abeles
  */
 public class GenericConvolveDown<Input extends ImageBase<Input>, Output extends ImageBase<Output>>
@@ -65,7 +71,29 @@ public class GenericConvolveDown<Input extends ImageBase<Input>, Output extends
 	}
 
 	@Override
-	public void process(Input input, Output output) {
+	public void process(final Input input, final Output output) {
+		if( !BoofConcurrency.USE_CONCURRENT || kernel.getDimension() != 1 ) {
+			invoke(input, output);
+		} else if( m.getName().equals("horizontal") ) {
+			BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.MIN_BAND_ROWS,new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					invoke(input.subimage(0,y0,input.width,y1,null),output.subimage(0,y0,output.width,y1,null));
+				}
+			});
+		} else {
+			// strips must be wider than the kernel or a different border algorithm could be selected
+			int minWidth = Math.max(BoofConcurrency.MIN_BAND_ROWS,kernel.width+1);
+			BoofConcurrency.loopBlocks(0,input.width,minWidth,new IntRangeTask() {
+				@Override
+				public void process(int x0, int x1) {
+					invoke(input.subimage(x0,0,x1,input.height,null),output.subimage(x0,0,x1,output.height,null));
+				}
+			});
+		}
+	}
+
+	private void invoke(Input input, Output output) {
 		try {
 			m.invoke(null,kernel,input,output,skip);
 		} catch (IllegalAccessException | InvocationTargetException e) {
@@ -20,6 +20,8 @@ package boofcv.abst.filter.interpolate;
 
 import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -28,11 +30,12 @@ import boofcv.struct.image.Planar;
 /**
  * Wrapper around {@link InterpolatePixelS} which allows it to interpolate {@link Planar} inside
  * a {@link InterpolatePixelMB}.  Performs the same calculations multiple times compared to a custom solution.
+ * Can only be copied if the wrapped interpolation implements {@link ConcurrentCopy}.
  *
  * @author Peter Abeles
  */
 public class InterpolatePixel_PL_using_SB<T extends ImageGray<T>>
-		implements InterpolatePixelMB<Planar<T>>
+		implements InterpolatePixelMB<Planar<T>>, ConcurrentCopy<InterpolatePixelMB<Planar<T>>>
 {
 	InterpolatePixelS<T> alg;
 
@@ -101,4 +104,12 @@ public class InterpolatePixel_PL_using_SB<T extends ImageGray<T>>
 	public ImageType<Planar<T>> getImageType() {
 		throw new RuntimeException("Image type isn't determined until it processes an image");
 	}
+
+	@Override
+	public InterpolatePixelMB<Planar<T>> copy() {
+		InterpolatePixel_PL_using_SB<T> out = new InterpolatePixel_PL_using_SB<>(BoofConcurrency.copy(alg));
+		if( image != null )
+			out.setImage(image);
+		return out;
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.transform.fft;
+
+import boofcv.struct.image.ImageBase;
+
+import java.util.List;
+
+/**
+ * <p>
+ * {@link DiscreteFourierTransform} which can also compute half transforms and process batches of images.
+ * </p>
+ * <p>
+ * HALF TRANSFORM: The transform of a real image is conjugate symmetric, F[y][x] = conj(F[(h-y)%h][(w-x)%w]), so
+ * only the left half of it needs to be computed.  See {@link #forwardHalf}.  Element-wise operations, such as those
+ * used in correlation and convolution, can be applied directly to half transforms.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface DiscreteFourierTransformHalf<I extends ImageBase<I>, T extends ImageBase>
+		extends DiscreteFourierTransform<I,T>
+{
+	/**
+	 * Applies forward transform to the input image but only computes the left half of the transform, which is all
+	 * that's needed to describe the transform of a real image.  Requires about half the computations and memory
+	 * of {@link #forward}.
+	 *
+	 * @param image (Input) Input image.  Default: Not modified.
+	 * @param transform (Output) Left half of the Fourier transform.  Width of image.width/2+1 and same height as
+	 *                  input.  Modified.
+	 */
+	public void forwardHalf( I image , T transform );
+
+	/**
+	 * Applies the inverse transform to a half transform computed by {@link #forwardHalf} to recover the original image
+	 *
+	 * @param transform (Input) Left half of the Fourier transform.  Width of image.width/2+1 and same height as
+	 *                  output.  Default: Not modified.
+	 * @param image (Output) reconstructed image.  Modified.
+	 */
+	public void inverseHalf( T transform , I image );
+
+	/**
+	 * Applies forward transform to a batch of images which all have the same shape, e.g. patches being tracked.
+	 * Images in the batch are processed in parallel when concurrency is turned on.
+	 *
+	 * @param images (Input) Input images. All must have the same shape.  Default: Not modified.
+	 * @param transforms (Output) Fourier transform of each image.  Modified.
+	 * @param half If true then only the left half of each transform is computed.  See {@link #forwardHalf}.
+	 */
+	public void forward( List<I> images , List<T> transforms , boolean half );
+
+	/**
+	 * Applies the inverse transform to a batch of transforms which all have the same shape.
+	 *
+	 * @param transforms (Input) Fourier transforms.  Default: Not modified.
+	 * @param images (Output) reconstructed images. All must have the same shape.  Modified.
+	 * @param half If true then the transforms were computed by {@link #forwardHalf}.
+	 */
+	public void inverse( List<T> transforms , List<I> images , boolean half );
+}
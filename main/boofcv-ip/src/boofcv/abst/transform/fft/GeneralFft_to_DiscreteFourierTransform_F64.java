@@ -20,53 +20,163 @@ package boofcv.abst.transform.fft;
 
 import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
 import boofcv.alg.transform.fft.GeneralPurposeFFT_F64_2D;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.InterleavedF64;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Wrapper around {@link GeneralPurposeFFT_F64_2D} which implements {@link DiscreteFourierTransform}
+ * Wrapper around {@link GeneralPurposeFFT_F64_2D} which implements {@link DiscreteFourierTransformHalf}.  The
+ * precomputed tables for recently seen image shapes are cached, so switching between a few image sizes doesn't
+ * require the tables to be computed again.
  *
  * @author Peter Abeles
  */
 public class GeneralFft_to_DiscreteFourierTransform_F64
-		implements DiscreteFourierTransform<GrayF64,InterleavedF64>
+		implements DiscreteFourierTransformHalf<GrayF64,InterleavedF64>
 {
-	// previous size of input image
-	private int prevWidth = -1;
-	private int prevHeight = -1;
+	/**
+	 * Minimum number of images in a batch which are processed by a single thread
+	 */
+	public static int MIN_BATCH = 1;
 
-	// performs the FFT
-	private GeneralPurposeFFT_F64_2D alg;
+	// maximum number of image shapes which are cached
+	private int maxPlans = 4;
+
+	// performs the FFT for each image shape, ordered from least to most recently used
+	private Map<Long,GeneralPurposeFFT_F64_2D> plans =
+			new LinkedHashMap<Long,GeneralPurposeFFT_F64_2D>(16,0.75f,true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, GeneralPurposeFFT_F64_2D> eldest) {
+					return size() > maxPlans;
+				}
+			};
 
 	// storage for temporary results
 	private InterleavedF64 tmp = new InterleavedF64(1,1,2);
 
+	// work space for each thread when processing a batch
+	private FastQueue<BatchWorker> workers = new FastQueue<BatchWorker>(BatchWorker.class,true) {
+		@Override
+		protected BatchWorker createInstance() {
+			return new BatchWorker();
+		}
+	};
+
 	// if true then it can modify the input images
 	private boolean modifyInputs = false;
 
 	@Override
 	public void forward(GrayF64 image, InterleavedF64 transform ) {
 		DiscreteFourierTransformOps.checkImageArguments(image,transform);
-		if( image.isSubimage() )
+		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
-		int N = image.width*image.height;
-		System.arraycopy(image.data,0,transform.data,0,N);
-
-		// the transform over writes the input data
-		alg.realForwardFull(transform.data);
+		forward(lookupPlan(image), image, transform);
 	}
 
 	@Override
 	public void inverse(InterleavedF64 transform, GrayF64 image ) {
 		DiscreteFourierTransformOps.checkImageArguments(image,transform);
-		if( image.isSubimage() )
+		if( image.isSubimage() || transform.isSubimage() )
+			throw new IllegalArgumentException("Subimages are not supported");
+
+		inverse(lookupPlan(image), transform, image, tmp);
+	}
+
+	@Override
+	public void forwardHalf(GrayF64 image, InterleavedF64 transform) {
+		DiscreteFourierTransformOps.checkImageArgumentsHalf(image,transform);
+		if( image.isSubimage() || transform.isSubimage() )
+			throw new IllegalArgumentException("Subimages are not supported");
+
+		forwardHalf(lookupPlan(image), image, transform);
+	}
+
+	@Override
+	public void inverseHalf(InterleavedF64 transform, GrayF64 image) {
+		DiscreteFourierTransformOps.checkImageArgumentsHalf(image,transform);
+		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
+		inverseHalf(lookupPlan(image), transform, image, tmp);
+	}
+
+	@Override
+	public void forward(final List<GrayF64> images, final List<InterleavedF64> transforms, final boolean half) {
+		checkBatch(images, transforms, half);
+		if( images.isEmpty() )
+			return;
+
+		final GeneralPurposeFFT_F64_2D plan = lookupPlan(images.get(0));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, images.size(), MIN_BATCH, workers, new IntRangeObjectTask<BatchWorker>() {
+				@Override
+				public void process(BatchWorker w, int idx0, int idx1) {
+					GeneralPurposeFFT_F64_2D alg = w.setPlan(plan);
+					for( int i = idx0; i < idx1; i++ ) {
+						if( half )
+							forwardHalf(alg, images.get(i), transforms.get(i));
+						else
+							forward(alg, images.get(i), transforms.get(i));
+					}
+				}
+			});
+		} else {
+			for( int i = 0; i < images.size(); i++ ) {
+				if( half )
+					forwardHalf(plan, images.get(i), transforms.get(i));
+				else
+					forward(plan, images.get(i), transforms.get(i));
+			}
+		}
+	}
+
+	@Override
+	public void inverse(final List<InterleavedF64> transforms, final List<GrayF64> images, final boolean half) {
+		checkBatch(images, transforms, half);
+		if( images.isEmpty() )
+			return;
+
+		final GeneralPurposeFFT_F64_2D plan = lookupPlan(images.get(0));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, images.size(), MIN_BATCH, workers, new IntRangeObjectTask<BatchWorker>() {
+				@Override
+				public void process(BatchWorker w, int idx0, int idx1) {
+					GeneralPurposeFFT_F64_2D alg = w.setPlan(plan);
+					for( int i = idx0; i < idx1; i++ ) {
+						if( half )
+							inverseHalf(alg, transforms.get(i), images.get(i), w.tmp);
+						else
+							inverse(alg, transforms.get(i), images.get(i), w.tmp);
+					}
+				}
+			});
+		} else {
+			for( int i = 0; i < images.size(); i++ ) {
+				if( half )
+					inverseHalf(plan, transforms.get(i), images.get(i), tmp);
+				else
+					inverse(plan, transforms.get(i), images.get(i), tmp);
+			}
+		}
+	}
+
+	private void forward( GeneralPurposeFFT_F64_2D alg , GrayF64 image, InterleavedF64 transform ) {
+		int N = image.width*image.height;
+		System.arraycopy(image.data,0,transform.data,0,N);
 
+		// the transform over writes the input data
+		alg.realForwardFull(transform.data);
+	}
+
+	private void inverse( GeneralPurposeFFT_F64_2D alg , InterleavedF64 transform, GrayF64 image ,
+						  InterleavedF64 tmp ) {
 		// If he user lets us, modify the transform
 		InterleavedF64 workImage;
 		if(modifyInputs) {
@@ -86,15 +196,76 @@ public class GeneralFft_to_DiscreteFourierTransform_F64
 		}
 	}
 
+	private void forwardHalf( GeneralPurposeFFT_F64_2D alg , GrayF64 image, InterleavedF64 transform ) {
+		// each row of the input is copied into the start of the corresponding row in the transform
+		for( int y = 0; y < image.height; y++ ) {
+			System.arraycopy(image.data,y*image.width,transform.data,y*transform.stride,image.width);
+		}
+
+		alg.realForwardHalf(transform.data);
+	}
+
+	private void inverseHalf( GeneralPurposeFFT_F64_2D alg , InterleavedF64 transform, GrayF64 image ,
+							  InterleavedF64 tmp ) {
+		InterleavedF64 workImage;
+		if(modifyInputs) {
+			workImage = transform;
+		} else {
+			tmp.reshape(transform.width,transform.height);
+			tmp.setTo(transform);
+			workImage = tmp;
+		}
+
+		alg.realInverseHalf(workImage.data, true);
+
+		// the output is at the start of each row
+		for( int y = 0; y < image.height; y++ ) {
+			System.arraycopy(workImage.data,y*workImage.stride,image.data,y*image.width,image.width);
+		}
+	}
+
+	private void checkBatch( List<GrayF64> images , List<InterleavedF64> transforms , boolean half ) {
+		if( images.size() != transforms.size() )
+			throw new IllegalArgumentException("Number of images and transforms must be the same");
+
+		for( int i = 0; i < images.size(); i++ ) {
+			GrayF64 image = images.get(i);
+			InterleavedF64 transform = transforms.get(i);
+			if( half )
+				DiscreteFourierTransformOps.checkImageArgumentsHalf(image,transform);
+			else
+				DiscreteFourierTransformOps.checkImageArguments(image,transform);
+			if( image.isSubimage() || transform.isSubimage() )
+				throw new IllegalArgumentException("Subimages are not supported");
+			if( image.width != images.get(0).width || image.height != images.get(0).height )
+				throw new IllegalArgumentException("All images in a batch must have the same shape");
+		}
+	}
+
 	/**
-	 * Declare the algorithm if the image size has changed
+	 * Returns the plan for the image's shape, creating it if it isn't in the cache
 	 */
-	private void checkDeclareAlg(GrayF64 image) {
-		if( prevWidth != image.width || prevHeight != image.height ) {
-			prevWidth = image.width;
-			prevHeight = image.height;
+	private GeneralPurposeFFT_F64_2D lookupPlan(GrayF64 image) {
+		long key = ((long)image.width << 32) | image.height;
+		GeneralPurposeFFT_F64_2D alg = plans.get(key);
+		if( alg == null ) {
 			alg = new GeneralPurposeFFT_F64_2D(image.height,image.width);
+			plans.put(key,alg);
 		}
+		return alg;
+	}
+
+	/**
+	 * Specifies the maximum number of image shapes which will have their plans cached
+	 */
+	public void setMaxPlans(int maxPlans) {
+		if( maxPlans < 1 )
+			throw new IllegalArgumentException("Must cache at least one plan");
+		this.maxPlans = maxPlans;
+	}
+
+	public int getMaxPlans() {
+		return maxPlans;
 	}
 
 	@Override
@@ -106,4 +277,21 @@ public class GeneralFft_to_DiscreteFourierTransform_F64
 	public boolean isModifyInputs() {
 		return modifyInputs;
 	}
+
+	/**
+	 * Storage for a thread processing a batch.  Each thread needs its own copy of the plan.
+	 */
+	private static class BatchWorker {
+		GeneralPurposeFFT_F64_2D plan;
+		GeneralPurposeFFT_F64_2D alg;
+		InterleavedF64 tmp = new InterleavedF64(1,1,2);
+
+		GeneralPurposeFFT_F64_2D setPlan( GeneralPurposeFFT_F64_2D plan ) {
+			if( this.plan != plan ) {
+				this.plan = plan;
+				alg = new GeneralPurposeFFT_F64_2D(plan);
+			}
+			return alg;
+		}
+	}
 }
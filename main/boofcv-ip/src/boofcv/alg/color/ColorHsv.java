@@ -19,7 +19,10 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 
 /**
@@ -279,67 +282,73 @@ public class ColorHsv {
 	 * @param hsv (Input) Image in HSV format
 	 * @param rgb (Output) Image in RGB format
 	 */
-	public static void hsvToRgb_F32(Planar<GrayF32> hsv , Planar<GrayF32> rgb ) {
+	public static void hsvToRgb_F32(final Planar<GrayF32> hsv , final Planar<GrayF32> rgb ) {
 
 		InputSanityCheck.checkSameShape(hsv, rgb);
 
-		GrayF32 H = hsv.getBand(0);
-		GrayF32 S = hsv.getBand(1);
-		GrayF32 V = hsv.getBand(2);
-
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		for( int row = 0; row < hsv.height; row++ ) {
-			int indexHsv = hsv.startIndex + row*hsv.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb++) {
-				float h = H.data[indexHsv];
-				float s = S.data[indexHsv];
-				float v = V.data[indexHsv];
-
-				if( s == 0 ) {
-					R.data[indexRgb] = v;
-					G.data[indexRgb] = v;
-					B.data[indexRgb] = v;
-					continue;
-				}
-				h /= d60_F32;
-				int h_int = (int)h;
-				float remainder = h - h_int;
-				float p = v * ( 1 - s );
-				float q = v * ( 1 - s * remainder );
-				float t = v * ( 1 - s * ( 1 - remainder ) );
-
-				if( h_int < 1 ) {
-					R.data[indexRgb] = v;
-					G.data[indexRgb] = t;
-					B.data[indexRgb] = p;
-				} else if( h_int < 2 ) {
-					R.data[indexRgb] = q;
-					G.data[indexRgb] = v;
-					B.data[indexRgb] = p;
-				} else if( h_int < 3 ) {
-					R.data[indexRgb] = p;
-					G.data[indexRgb] = v;
-					B.data[indexRgb] = t;
-				} else if( h_int < 4 ) {
-					R.data[indexRgb] = p;
-					G.data[indexRgb] = q;
-					B.data[indexRgb] = v;
-				} else if( h_int < 5 ) {
-					R.data[indexRgb] = t;
-					G.data[indexRgb] = p;
-					B.data[indexRgb] = v;
-				} else {
-					R.data[indexRgb] = v;
-					G.data[indexRgb] = p;
-					B.data[indexRgb] = q;
+		final GrayF32 H = hsv.getBand(0);
+		final GrayF32 S = hsv.getBand(1);
+		final GrayF32 V = hsv.getBand(2);
+
+		final GrayF32 R = rgb.getBand(0);
+		final GrayF32 G = rgb.getBand(1);
+		final GrayF32 B = rgb.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, hsv.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexHsv = hsv.startIndex + row*hsv.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb++) {
+						float h = H.data[indexHsv];
+						float s = S.data[indexHsv];
+						float v = V.data[indexHsv];
+
+						if( s == 0 ) {
+							R.data[indexRgb] = v;
+							G.data[indexRgb] = v;
+							B.data[indexRgb] = v;
+							continue;
+						}
+						h /= d60_F32;
+						int h_int = (int)h;
+						float remainder = h - h_int;
+						float p = v * ( 1 - s );
+						float q = v * ( 1 - s * remainder );
+						float t = v * ( 1 - s * ( 1 - remainder ) );
+
+						if( h_int < 1 ) {
+							R.data[indexRgb] = v;
+							G.data[indexRgb] = t;
+							B.data[indexRgb] = p;
+						} else if( h_int < 2 ) {
+							R.data[indexRgb] = q;
+							G.data[indexRgb] = v;
+							B.data[indexRgb] = p;
+						} else if( h_int < 3 ) {
+							R.data[indexRgb] = p;
+							G.data[indexRgb] = v;
+							B.data[indexRgb] = t;
+						} else if( h_int < 4 ) {
+							R.data[indexRgb] = p;
+							G.data[indexRgb] = q;
+							B.data[indexRgb] = v;
+						} else if( h_int < 5 ) {
+							R.data[indexRgb] = t;
+							G.data[indexRgb] = p;
+							B.data[indexRgb] = v;
+						} else {
+							R.data[indexRgb] = v;
+							G.data[indexRgb] = p;
+							B.data[indexRgb] = q;
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
 	/**
@@ -348,57 +357,128 @@ public class ColorHsv {
 	 * @param rgb (Input) Image in RGB format
 	 * @param hsv (Output) Image in HSV format
 	 */
-	public static void rgbToHsv_F32(Planar<GrayF32> rgb , Planar<GrayF32> hsv ) {
+	public static void rgbToHsv_F32(final Planar<GrayF32> rgb , final Planar<GrayF32> hsv ) {
 
 		InputSanityCheck.checkSameShape(rgb, hsv);
 
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		GrayF32 H = hsv.getBand(0);
-		GrayF32 S = hsv.getBand(1);
-		GrayF32 V = hsv.getBand(2);
-
-		for( int row = 0; row < hsv.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indexHsv = hsv.startIndex + row*hsv.stride;
-
-			for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb++) {
-
-				float r = R.data[indexRgb];
-				float g = G.data[indexRgb];
-				float b = B.data[indexRgb];
-
-				float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
-				float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
-
-				float delta = max - min;
-
-				V.data[indexHsv] = max;
-
-				if( max != 0 )
-					S.data[indexHsv] = delta / max;
-				else {
-					H.data[indexHsv] = Float.NaN;
-					S.data[indexHsv] = 0;
-					continue;
+		final GrayF32 R = rgb.getBand(0);
+		final GrayF32 G = rgb.getBand(1);
+		final GrayF32 B = rgb.getBand(2);
+
+		final GrayF32 H = hsv.getBand(0);
+		final GrayF32 S = hsv.getBand(1);
+		final GrayF32 V = hsv.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, hsv.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indexHsv = hsv.startIndex + row*hsv.stride;
+
+					for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb++) {
+
+						float r = R.data[indexRgb];
+						float g = G.data[indexRgb];
+						float b = B.data[indexRgb];
+
+						float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+						float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+						float delta = max - min;
+
+						V.data[indexHsv] = max;
+
+						if( max != 0 )
+							S.data[indexHsv] = delta / max;
+						else {
+							H.data[indexHsv] = Float.NaN;
+							S.data[indexHsv] = 0;
+							continue;
+						}
+
+						float h;
+						if( r == max )
+							h = ( g - b ) / delta;
+						else if( g == max )
+							h = 2 + ( b - r ) / delta;
+						else
+							h = 4 + ( r - g ) / delta;
+
+						h *= d60_F32;
+						if( h < 0 )
+							h += PI2_F32;
+
+						H.data[indexHsv] = h;
+					}
 				}
+			}
+		});
+	}
 
-				float h;
-				if( r == max )
-					h = ( g - b ) / delta;
-				else if( g == max )
-					h = 2 + ( b - r ) / delta;
-				else
-					h = 4 + ( r - g ) / delta;
-
-				h *= d60_F32;
-				if( h < 0 )
-					h += PI2_F32;
+	/**
+	 * Converts a 3-channel {@link InterleavedU8} RGB image into a {@link Planar} HSV image in a single pass.
+	 * Hue and saturation are the same as {@link #rgbToHsv_F32} and value has a range of 0 to 255.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param hsv (Output) HSV encoded image
+	 */
+	public static void rgbToHsv_U8(final InterleavedU8 rgb , final Planar<GrayF32> hsv ) {
 
-				H.data[indexHsv] = h;
+		InputSanityCheck.checkSameShape(rgb, hsv);
+		if( rgb.numBands != 3 )
+			throw new IllegalArgumentException("Input must have 3 bands");
+
+		final GrayF32 H = hsv.getBand(0);
+		final GrayF32 S = hsv.getBand(1);
+		final GrayF32 V = hsv.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, hsv.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indexHsv = hsv.startIndex + row*hsv.stride;
+
+					for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb += 3) {
+
+						float r = rgb.data[indexRgb]&0xFF;
+						float g = rgb.data[indexRgb+1]&0xFF;
+						float b = rgb.data[indexRgb+2]&0xFF;
+
+						float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+						float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+						float delta = max - min;
+
+						V.data[indexHsv] = max;
+
+						if( max != 0 )
+							S.data[indexHsv] = delta / max;
+						else {
+							H.data[indexHsv] = Float.NaN;
+							S.data[indexHsv] = 0;
+							continue;
+						}
+
+						float h;
+						if( r == max )
+							h = ( g - b ) / delta;
+						else if( g == max )
+							h = 2 + ( b - r ) / delta;
+						else
+							h = 4 + ( r - g ) / delta;
+
+						h *= d60_F32;
+						if( h < 0 )
+							h += PI2_F32;
+
+						H.data[indexHsv] = h;
+					}
+				}
 			}
-		}
+		});
 	}
 }
@@ -19,8 +19,11 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 
 /**
@@ -36,6 +39,12 @@ import boofcv.struct.image.Planar;
  * </ul>
  * </p>
  *
+ * <p>
+ * Image conversions avoid calling Math.pow() for each pixel. The cube root is found using a lookup table
+ * refined by a single Newton step and 8-bit input is converted into XYZ using the lookup tables in
+ * {@link ColorXyz}. Bands of rows are converted concurrently if {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class ColorLab {
@@ -56,6 +65,16 @@ public class ColorLab {
 	public static final float Yr_f = 1.0f;		//reference white
 	public static final float Zr_f = 1.088754f;	//reference white
 
+	// cube root sampled from 0 to 1. An extra element is added so that 1 can be interpolated
+	private static final int CBRT_SAMPLES = 1024;
+	private static final float[] CBRT_TABLE = new float[CBRT_SAMPLES+2];
+
+	static {
+		for( int i = 0; i < CBRT_TABLE.length; i++ ) {
+			CBRT_TABLE[i] = (float)Math.cbrt(i/(double)CBRT_SAMPLES);
+		}
+	}
+
 	/**
 	 * Conversion from normalized RGB into LAB.  Normalized RGB values have a range of 0:1
 	 */
@@ -120,48 +139,50 @@ public class ColorLab {
 	 * @param rgb (Input) RGB encoded image
 	 * @param lab (Output) LAB encoded image. L = channel 0, A = channel 1, B = channel 2
 	 */
-	public static void rgbToLab_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
+	public static void rgbToLab_U8(final Planar<GrayU8> rgb , final Planar<GrayF32> lab ) {
 
 		InputSanityCheck.checkSameShape(lab, rgb);
 
-		GrayU8 R = rgb.getBand(0);
-		GrayU8 G = rgb.getBand(1);
-		GrayU8 B = rgb.getBand(2);
-
-		GrayF32 L_ = lab.getBand(0);
-		GrayF32 A_ = lab.getBand(1);
-		GrayF32 B_ = lab.getBand(2);
-
-		for( int row = 0; row < lab.height; row++ ) {
-			int indexLab = lab.startIndex + row*lab.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
-				float r = (R.data[indexRgb]&0xFF)/255f;
-				float g = (G.data[indexRgb]&0xFF)/255f;
-				float b = (B.data[indexRgb]&0xFF)/255f;
-
-				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-
-				float xr = X/Xr_f;
-				float yr = Y/Yr_f;
-				float zr = Z/Zr_f;
-
-				float fx, fy, fz;
-				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
-				else				fx = (kappa_f*xr + 16.0f)/116.0f;
-				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
-				else				fy = (kappa_f*yr + 16.0f)/116.0f;
-				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
-				else				fz = (kappa_f*zr + 16.0f)/116.0f;
-
-				L_.data[indexLab] = 116.0f*fy-16.0f;
-				A_.data[indexLab] = 500.0f*(fx-fy);
-				B_.data[indexLab] = 200.0f*(fy-fz);
+		final GrayU8 R = rgb.getBand(0);
+		final GrayU8 G = rgb.getBand(1);
+		final GrayU8 B = rgb.getBand(2);
+
+		final GrayF32 L_ = lab.getBand(0);
+		final GrayF32 A_ = lab.getBand(1);
+		final GrayF32 B_ = lab.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, lab.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexLab = lab.startIndex + row*lab.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+						int r = R.data[indexRgb]&0xFF;
+						int g = 256 + (G.data[indexRgb]&0xFF);
+						int b = 512 + (B.data[indexRgb]&0xFF);
+
+						float X = ColorXyz.TABLE_X[r] + ColorXyz.TABLE_X[g] + ColorXyz.TABLE_X[b];
+						float Y = ColorXyz.TABLE_Y[r] + ColorXyz.TABLE_Y[g] + ColorXyz.TABLE_Y[b];
+						float Z = ColorXyz.TABLE_Z[r] + ColorXyz.TABLE_Z[g] + ColorXyz.TABLE_Z[b];
+
+						float xr = X/Xr_f;
+						float yr = Y/Yr_f;
+						float zr = Z/Zr_f;
+
+						float fx = f(xr);
+						float fy = f(yr);
+						float fz = f(zr);
+
+						L_.data[indexLab] = 116.0f*fy-16.0f;
+						A_.data[indexLab] = 500.0f*(fx-fy);
+						B_.data[indexLab] = 200.0f*(fy-fz);
+					}
+				}
 			}
-		}
+		});
 	}
 
 	/**
@@ -173,47 +194,113 @@ public class ColorLab {
 	 * @param rgb (Input) RGB encoded image
 	 * @param lab (Output) LAB encoded image.  L = channel 0, A = channel 1, B = channel 2
 	 */
-	public static void rgbToLab_F32(Planar<GrayF32> rgb , Planar<GrayF32> lab ) {
+	public static void rgbToLab_F32(final Planar<GrayF32> rgb , final Planar<GrayF32> lab ) {
 
 		InputSanityCheck.checkSameShape(lab, rgb);
 
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		GrayF32 L_ = lab.getBand(0);
-		GrayF32 A_ = lab.getBand(1);
-		GrayF32 B_ = lab.getBand(2);
-
-		for( int row = 0; row < lab.height; row++ ) {
-			int indexLab = lab.startIndex + row*lab.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
-				float r = R.data[indexRgb]/255f;
-				float g = G.data[indexRgb]/255f;
-				float b = B.data[indexRgb]/255f;
-
-				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-
-				float xr = X/Xr_f;
-				float yr = Y/Yr_f;
-				float zr = Z/Zr_f;
-
-				float fx, fy, fz;
-				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
-				else				fx = (kappa_f*xr + 16.0f)/116.0f;
-				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
-				else				fy = (kappa_f*yr + 16.0f)/116.0f;
-				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
-				else				fz = (kappa_f*zr + 16.0f)/116.0f;
-
-				L_.data[indexLab] = 116.0f*fy-16.0f;
-				A_.data[indexLab] = 500.0f*(fx-fy);
-				B_.data[indexLab] = 200.0f*(fy-fz);
+		final GrayF32 R = rgb.getBand(0);
+		final GrayF32 G = rgb.getBand(1);
+		final GrayF32 B = rgb.getBand(2);
+
+		final GrayF32 L_ = lab.getBand(0);
+		final GrayF32 A_ = lab.getBand(1);
+		final GrayF32 B_ = lab.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, lab.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexLab = lab.startIndex + row*lab.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+						float r = R.data[indexRgb]/255f;
+						float g = G.data[indexRgb]/255f;
+						float b = B.data[indexRgb]/255f;
+
+						float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
+						float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
+						float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
+
+						float xr = X/Xr_f;
+						float yr = Y/Yr_f;
+						float zr = Z/Zr_f;
+
+						float fx = f(xr);
+						float fy = f(yr);
+						float fz = f(zr);
+
+						L_.data[indexLab] = 116.0f*fy-16.0f;
+						A_.data[indexLab] = 500.0f*(fx-fy);
+						B_.data[indexLab] = 200.0f*(fy-fz);
+					}
+				}
 			}
-		}
+		});
+	}
+
+	/**
+	 * Convert a 3-channel {@link InterleavedU8} image from RGB into a {@link Planar} LAB image in a single pass.
+	 * RGB is assumed to have a range from 0:255
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image. L = channel 0, A = channel 1, B = channel 2
+	 */
+	public static void rgbToLab_U8(final InterleavedU8 rgb , final Planar<GrayF32> lab ) {
+
+		InputSanityCheck.checkSameShape(lab, rgb);
+		if( rgb.numBands != 3 )
+			throw new IllegalArgumentException("Input must have 3 bands");
+
+		final GrayF32 L_ = lab.getBand(0);
+		final GrayF32 A_ = lab.getBand(1);
+		final GrayF32 B_ = lab.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, lab.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexLab = lab.startIndex + row*lab.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb += 3) {
+						int r = rgb.data[indexRgb]&0xFF;
+						int g = 256 + (rgb.data[indexRgb+1]&0xFF);
+						int b = 512 + (rgb.data[indexRgb+2]&0xFF);
+
+						float X = ColorXyz.TABLE_X[r] + ColorXyz.TABLE_X[g] + ColorXyz.TABLE_X[b];
+						float Y = ColorXyz.TABLE_Y[r] + ColorXyz.TABLE_Y[g] + ColorXyz.TABLE_Y[b];
+						float Z = ColorXyz.TABLE_Z[r] + ColorXyz.TABLE_Z[g] + ColorXyz.TABLE_Z[b];
+
+						float fx = f(X/Xr_f);
+						float fy = f(Y/Yr_f);
+						float fz = f(Z/Zr_f);
+
+						L_.data[indexLab] = 116.0f*fy-16.0f;
+						A_.data[indexLab] = 500.0f*(fx-fy);
+						B_.data[indexLab] = 200.0f*(fy-fz);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * The non-linear function applied to each normalized XYZ value, i.e. the cube root for values above epsilon.
+	 * Inside of 0 to 1 the cube root is interpolated from a table and refined with one Newton-Raphson iteration.
+	 */
+	static float f( float t ) {
+		if( t <= epsilon_f )
+			return (kappa_f*t + 16.0f)/116.0f;
+		if( t > 1.0f )
+			return (float)Math.cbrt(t);
+
+		float s = t*CBRT_SAMPLES;
+		int i = (int)s;
+		float a = CBRT_TABLE[i] + (s-i)*(CBRT_TABLE[i+1]-CBRT_TABLE[i]);
+
+		return a - (a*a*a - t)/(3.0f*a*a);
 	}
 }
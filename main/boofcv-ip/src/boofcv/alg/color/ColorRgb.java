@@ -18,6 +18,8 @@
 
 package boofcv.alg.color;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 
 /**
@@ -65,106 +67,141 @@ public class ColorRgb {
 		throw new IllegalArgumentException("Unknown image type");
 	}
 
-	public static void rgbToGray_Weighted_U8(Planar<GrayU8> rgb , GrayU8 gray ) {
-		GrayU8 R = rgb.getBand(0);
-		GrayU8 G = rgb.getBand(1);
-		GrayU8 B = rgb.getBand(2);
-
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
-				double r = R.data[indexRgb]&0xFF;
-				double g = G.data[indexRgb]&0xFF;
-				double b = B.data[indexRgb]&0xFF;
-
-				gray.data[indedGra] = (byte)(0.299*r + 0.587*g + 0.114*b);
+	public static void rgbToGray_Weighted_U8(final Planar<GrayU8> rgb , final GrayU8 gray ) {
+		final GrayU8 R = rgb.getBand(0);
+		final GrayU8 G = rgb.getBand(1);
+		final GrayU8 B = rgb.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indedGra = gray.startIndex + row*gray.stride;
+
+					for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
+						double r = R.data[indexRgb]&0xFF;
+						double g = G.data[indexRgb]&0xFF;
+						double b = B.data[indexRgb]&0xFF;
+
+						gray.data[indedGra] = (byte)(0.299*r + 0.587*g + 0.114*b);
+					}
+				}
 			}
-		}
+		});
 	}
 
-	public static void rgbToGray_Weighted_F32(Planar<GrayF32> rgb , GrayF32 gray ) {
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
-				float r = R.data[indexRgb];
-				float g = G.data[indexRgb];
-				float b = B.data[indexRgb];
-
-				gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
+	public static void rgbToGray_Weighted_F32(final Planar<GrayF32> rgb , final GrayF32 gray ) {
+		final GrayF32 R = rgb.getBand(0);
+		final GrayF32 G = rgb.getBand(1);
+		final GrayF32 B = rgb.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indedGra = gray.startIndex + row*gray.stride;
+
+					for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
+						float r = R.data[indexRgb];
+						float g = G.data[indexRgb];
+						float b = B.data[indexRgb];
+
+						gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
+					}
+				}
 			}
-		}
+		});
 	}
 
-	public static void rgbToGray_Weighted_F64(Planar<GrayF64> rgb , GrayF64 gray ) {
-		GrayF64 R = rgb.getBand(0);
-		GrayF64 G = rgb.getBand(1);
-		GrayF64 B = rgb.getBand(2);
-
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
-				double r = R.data[indexRgb];
-				double g = G.data[indexRgb];
-				double b = B.data[indexRgb];
-
-				gray.data[indedGra] = 0.299*r + 0.587*g + 0.114*b;
+	public static void rgbToGray_Weighted_F64(final Planar<GrayF64> rgb , final GrayF64 gray ) {
+		final GrayF64 R = rgb.getBand(0);
+		final GrayF64 G = rgb.getBand(1);
+		final GrayF64 B = rgb.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indedGra = gray.startIndex + row*gray.stride;
+
+					for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
+						double r = R.data[indexRgb];
+						double g = G.data[indexRgb];
+						double b = B.data[indexRgb];
+
+						gray.data[indedGra] = 0.299*r + 0.587*g + 0.114*b;
+					}
+				}
 			}
-		}
+		});
 	}
 
-	public static void rgbToGray_Weighted(InterleavedU8 rgb , GrayU8 gray ) {
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
-				double r = rgb.data[indexRgb++]&0xFF;
-				double g = rgb.data[indexRgb++]&0xFF;
-				double b = rgb.data[indexRgb++]&0xFF;
-
-				gray.data[indedGra] = (byte)(0.299*r + 0.587*g + 0.114*b);
+	public static void rgbToGray_Weighted(final InterleavedU8 rgb , final GrayU8 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indedGra = gray.startIndex + row*gray.stride;
+
+					for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
+						double r = rgb.data[indexRgb++]&0xFF;
+						double g = rgb.data[indexRgb++]&0xFF;
+						double b = rgb.data[indexRgb++]&0xFF;
+
+						gray.data[indedGra] = (byte)(0.299*r + 0.587*g + 0.114*b);
+					}
+				}
 			}
-		}
+		});
 	}
 
-	public static void rgbToGray_Weighted(InterleavedF32 rgb , GrayF32 gray ) {
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
-				float r = rgb.data[indexRgb++];
-				float g = rgb.data[indexRgb++];
-				float b = rgb.data[indexRgb++];
-
-				gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
+	public static void rgbToGray_Weighted(final InterleavedF32 rgb , final GrayF32 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indedGra = gray.startIndex + row*gray.stride;
+
+					for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
+						float r = rgb.data[indexRgb++];
+						float g = rgb.data[indexRgb++];
+						float b = rgb.data[indexRgb++];
+
+						gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
+					}
+				}
 			}
-		}
+		});
 	}
 
-	public static void rgbToGray_Weighted(InterleavedF64 rgb , GrayF64 gray ) {
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
-				double r = rgb.data[indexRgb++];
-				double g = rgb.data[indexRgb++];
-				double b = rgb.data[indexRgb++];
-
-				gray.data[indedGra] = 0.299*r + 0.587*g + 0.114*b;
+	public static void rgbToGray_Weighted(final InterleavedF64 rgb , final GrayF64 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+					int indedGra = gray.startIndex + row*gray.stride;
+
+					for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
+						double r = rgb.data[indexRgb++];
+						double g = rgb.data[indexRgb++];
+						double b = rgb.data[indexRgb++];
+
+						gray.data[indedGra] = 0.299*r + 0.587*g + 0.114*b;
+					}
+				}
 			}
-		}
+		});
 	}
-
 }
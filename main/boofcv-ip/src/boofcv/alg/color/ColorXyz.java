@@ -19,8 +19,11 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 
 /**
@@ -42,10 +45,30 @@ import boofcv.struct.image.Planar;
  * [2] David Rogers. Procedural Elements for Computer Graphics. McGraw-Hill, 1985.
  * </p>
  *
+ * <p>
+ * 8-bit images are converted using lookup tables which contain the contribution of each possible channel
+ * value to X, Y, and Z. Images are processed in bands of rows, concurrently if
+ * {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class ColorXyz {
 
+	// Contribution of an 8-bit R, G, or B value to X, Y, and Z.  index = band*256 + value
+	static final float[] TABLE_X = new float[3*256];
+	static final float[] TABLE_Y = new float[3*256];
+	static final float[] TABLE_Z = new float[3*256];
+
+	static {
+		for( int i = 0; i < 256; i++ ) {
+			float v = i/255f;
+			TABLE_X[i] = 0.412453f*v; TABLE_X[256+i] = 0.35758f*v;  TABLE_X[512+i] = 0.180423f*v;
+			TABLE_Y[i] = 0.212671f*v; TABLE_Y[256+i] = 0.71516f*v;  TABLE_Y[512+i] = 0.072169f*v;
+			TABLE_Z[i] = 0.019334f*v; TABLE_Z[256+i] = 0.119193f*v; TABLE_Z[512+i] = 0.950227f*v;
+		}
+	}
+
 
 	/**
 	 * Conversion from 8-bit RGB into XYZ.  8-bit = range of 0 to 255.
@@ -106,32 +129,38 @@ public class ColorXyz {
 	 * @param rgb (Input) RGB encoded image
 	 * @param xyz (Output) XYZ encoded image
 	 */
-	public static void rgbToXyz_F32(Planar<GrayF32> rgb , Planar<GrayF32> xyz ) {
+	public static void rgbToXyz_F32(final Planar<GrayF32> rgb , final Planar<GrayF32> xyz ) {
 
 		InputSanityCheck.checkSameShape(xyz, rgb);
 
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		GrayF32 X = xyz.getBand(0);
-		GrayF32 Y = xyz.getBand(1);
-		GrayF32 Z = xyz.getBand(2);
-
-		for( int row = 0; row < xyz.height; row++ ) {
-			int indexXyz = xyz.startIndex + row*xyz.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
-				float r = R.data[indexRgb]/255f;
-				float g = G.data[indexRgb]/255f;
-				float b = B.data[indexRgb]/255f;
-
-				X.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				Y.data[indexXyz] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				Z.data[indexXyz] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
+		final GrayF32 R = rgb.getBand(0);
+		final GrayF32 G = rgb.getBand(1);
+		final GrayF32 B = rgb.getBand(2);
+
+		final GrayF32 X = xyz.getBand(0);
+		final GrayF32 Y = xyz.getBand(1);
+		final GrayF32 Z = xyz.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, xyz.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexXyz = xyz.startIndex + row*xyz.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
+						float r = R.data[indexRgb]/255f;
+						float g = G.data[indexRgb]/255f;
+						float b = B.data[indexRgb]/255f;
+
+						X.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
+						Y.data[indexXyz] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
+						Z.data[indexXyz] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
+					}
+				}
 			}
-		}
+		});
 	}
 
 	/**
@@ -143,31 +172,76 @@ public class ColorXyz {
 	 * @param rgb (Input) RGB encoded image
 	 * @param xyz (Output) XYZ encoded image
 	 */
-	public static void rgbToXyz_U8(Planar<GrayU8> rgb , Planar<GrayF32> xyz ) {
+	public static void rgbToXyz_U8(final Planar<GrayU8> rgb , final Planar<GrayF32> xyz ) {
 
 		InputSanityCheck.checkSameShape(xyz, rgb);
 
-		GrayU8 R = rgb.getBand(0);
-		GrayU8 G = rgb.getBand(1);
-		GrayU8 B = rgb.getBand(2);
-
-		GrayF32 X = xyz.getBand(0);
-		GrayF32 Y = xyz.getBand(1);
-		GrayF32 Z = xyz.getBand(2);
-
-		for( int row = 0; row < xyz.height; row++ ) {
-			int indexXyz = xyz.startIndex + row*xyz.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+		final GrayU8 R = rgb.getBand(0);
+		final GrayU8 G = rgb.getBand(1);
+		final GrayU8 B = rgb.getBand(2);
+
+		final GrayF32 X = xyz.getBand(0);
+		final GrayF32 Y = xyz.getBand(1);
+		final GrayF32 Z = xyz.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, xyz.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexXyz = xyz.startIndex + row*xyz.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
+						int r = R.data[indexRgb]&0xFF;
+						int g = 256 + (G.data[indexRgb]&0xFF);
+						int b = 512 + (B.data[indexRgb]&0xFF);
+
+						X.data[indexXyz] = TABLE_X[r] + TABLE_X[g] + TABLE_X[b];
+						Y.data[indexXyz] = TABLE_Y[r] + TABLE_Y[g] + TABLE_Y[b];
+						Z.data[indexXyz] = TABLE_Z[r] + TABLE_Z[g] + TABLE_Z[b];
+					}
+				}
+			}
+		});
+	}
 
-			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
-				float r = (R.data[indexRgb]&0xFF)/255f;
-				float g = (G.data[indexRgb]&0xFF)/255f;
-				float b = (B.data[indexRgb]&0xFF)/255f;
+	/**
+	 * Convert a 3-channel {@link InterleavedU8} image from RGB into a {@link Planar} XYZ image in a single pass.
+	 * RGB is assumed to have a range from 0:255
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param xyz (Output) XYZ encoded image
+	 */
+	public static void rgbToXyz_U8(final InterleavedU8 rgb , final Planar<GrayF32> xyz ) {
 
-				X.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				Y.data[indexXyz] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				Z.data[indexXyz] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
+		InputSanityCheck.checkSameShape(xyz, rgb);
+		if( rgb.numBands != 3 )
+			throw new IllegalArgumentException("Input must have 3 bands");
+
+		final GrayF32 X = xyz.getBand(0);
+		final GrayF32 Y = xyz.getBand(1);
+		final GrayF32 Z = xyz.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, xyz.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexXyz = xyz.startIndex + row*xyz.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb += 3) {
+						int r = rgb.data[indexRgb]&0xFF;
+						int g = 256 + (rgb.data[indexRgb+1]&0xFF);
+						int b = 512 + (rgb.data[indexRgb+2]&0xFF);
+
+						X.data[indexXyz] = TABLE_X[r] + TABLE_X[g] + TABLE_X[b];
+						Y.data[indexXyz] = TABLE_Y[r] + TABLE_Y[g] + TABLE_Y[b];
+						Z.data[indexXyz] = TABLE_Z[r] + TABLE_Z[g] + TABLE_Z[b];
+					}
+				}
 			}
-		}
+		});
 	}
 }
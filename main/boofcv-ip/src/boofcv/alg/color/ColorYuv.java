@@ -19,8 +19,11 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 
 /**
@@ -141,32 +144,38 @@ public class ColorYuv {
 	 * @param rgb (Input) RGB encoded image
 	 * @param yuv (Output) YUV encoded image
 	 */
-	public static void yuvToRgb_F32(Planar<GrayF32> yuv , Planar<GrayF32> rgb ) {
+	public static void yuvToRgb_F32(final Planar<GrayF32> yuv , final Planar<GrayF32> rgb ) {
 
 		InputSanityCheck.checkSameShape(yuv,rgb);
 
-		GrayF32 Y = yuv.getBand(0);
-		GrayF32 U = yuv.getBand(1);
-		GrayF32 V = yuv.getBand(2);
-
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		for( int row = 0; row < yuv.height; row++ ) {
-			int indexYuv = yuv.startIndex + row*yuv.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
-				float y = Y.data[indexYuv];
-				float u = U.data[indexYuv];
-				float v = V.data[indexYuv];
-
-				R.data[indexRgb] = y + 1.13983f*v;
-				G.data[indexRgb] = y - 0.39465f*u - 0.58060f*v;
-				B.data[indexRgb] = y + 2.032f*u;
+		final GrayF32 Y = yuv.getBand(0);
+		final GrayF32 U = yuv.getBand(1);
+		final GrayF32 V = yuv.getBand(2);
+
+		final GrayF32 R = rgb.getBand(0);
+		final GrayF32 G = rgb.getBand(1);
+		final GrayF32 B = rgb.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, yuv.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexYuv = yuv.startIndex + row*yuv.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+						float y = Y.data[indexYuv];
+						float u = U.data[indexYuv];
+						float v = V.data[indexYuv];
+
+						R.data[indexRgb] = y + 1.13983f*v;
+						G.data[indexRgb] = y - 0.39465f*u - 0.58060f*v;
+						B.data[indexRgb] = y + 2.032f*u;
+					}
+				}
 			}
-		}
+		});
 	}
 
 	/**
@@ -177,34 +186,40 @@ public class ColorYuv {
 	 * @param rgb (Input) RGB encoded image
 	 * @param yuv (Output) YUV encoded image
 	 */
-	public static void rgbToYuv_F32(Planar<GrayF32> rgb , Planar<GrayF32> yuv ) {
+	public static void rgbToYuv_F32(final Planar<GrayF32> rgb , final Planar<GrayF32> yuv ) {
 
 		InputSanityCheck.checkSameShape(yuv,rgb);
 
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		GrayF32 Y = yuv.getBand(0);
-		GrayF32 U = yuv.getBand(1);
-		GrayF32 V = yuv.getBand(2);
-
-		for( int row = 0; row < yuv.height; row++ ) {
-			int indexYuv = yuv.startIndex + row*yuv.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
-				float r = R.data[indexRgb];
-				float g = G.data[indexRgb];
-				float b = B.data[indexRgb];
-
-				float y = 0.299f*r + 0.587f*g + 0.114f*b;
-
-				Y.data[indexYuv] = y;
-				U.data[indexYuv] = 0.492f*(b-y);
-				V.data[indexYuv] = 0.877f*(r-y);
+		final GrayF32 R = rgb.getBand(0);
+		final GrayF32 G = rgb.getBand(1);
+		final GrayF32 B = rgb.getBand(2);
+
+		final GrayF32 Y = yuv.getBand(0);
+		final GrayF32 U = yuv.getBand(1);
+		final GrayF32 V = yuv.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, yuv.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexYuv = yuv.startIndex + row*yuv.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+						float r = R.data[indexRgb];
+						float g = G.data[indexRgb];
+						float b = B.data[indexRgb];
+
+						float y = 0.299f*r + 0.587f*g + 0.114f*b;
+
+						Y.data[indexYuv] = y;
+						U.data[indexYuv] = 0.492f*(b-y);
+						V.data[indexYuv] = 0.877f*(r-y);
+					}
+				}
 			}
-		}
+		});
 	}
 
 	/**
@@ -215,43 +230,89 @@ public class ColorYuv {
 	 * @param yuv YCbCr encoded 8-bit image
 	 * @param rgb RGB encoded 8-bit image
 	 */
-	public static void ycbcrToRgb_U8(Planar<GrayU8> yuv , Planar<GrayU8> rgb ) {
-
-		GrayU8 Y = yuv.getBand(0);
-		GrayU8 U = yuv.getBand(1);
-		GrayU8 V = yuv.getBand(2);
-
-		GrayU8 R = rgb.getBand(0);
-		GrayU8 G = rgb.getBand(1);
-		GrayU8 B = rgb.getBand(2);
-
-		for( int row = 0; row < yuv.height; row++ ) {
-			int indexYuv = yuv.startIndex + row*yuv.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
-				int y = 1191*((Y.data[indexYuv]&0xFF) - 16);
-				int cb = (U.data[indexYuv]&0xFF) - 128;
-				int cr = (V.data[indexYuv]&0xFF) - 128;
-
-				if( y < 0 ) y = 0;
-
-				int r = (y + 1836*cr) >> 10;
-				int g = (y - 547*cr - 218*cb) >> 10;
-				int b = (y + 2165*cb) >> 10;
+	public static void ycbcrToRgb_U8(final Planar<GrayU8> yuv , final Planar<GrayU8> rgb ) {
+
+		final GrayU8 Y = yuv.getBand(0);
+		final GrayU8 U = yuv.getBand(1);
+		final GrayU8 V = yuv.getBand(2);
+
+		final GrayU8 R = rgb.getBand(0);
+		final GrayU8 G = rgb.getBand(1);
+		final GrayU8 B = rgb.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, yuv.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexYuv = yuv.startIndex + row*yuv.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+						int y = 1191*((Y.data[indexYuv]&0xFF) - 16);
+						int cb = (U.data[indexYuv]&0xFF) - 128;
+						int cr = (V.data[indexYuv]&0xFF) - 128;
+
+						if( y < 0 ) y = 0;
+
+						int r = (y + 1836*cr) >> 10;
+						int g = (y - 547*cr - 218*cb) >> 10;
+						int b = (y + 2165*cb) >> 10;
+
+						if( r < 0 ) r = 0;
+						else if( r > 255 ) r = 255;
+						if( g < 0 ) g = 0;
+						else if( g > 255 ) g = 255;
+						if( b < 0 ) b = 0;
+						else if( b > 255 ) b = 255;
+
+						R.data[indexRgb] = (byte)r;
+						G.data[indexRgb] = (byte)g;
+						B.data[indexRgb] = (byte)b;
+					}
+				}
+			}
+		});
+	}
 
-				if( r < 0 ) r = 0;
-				else if( r > 255 ) r = 255;
-				if( g < 0 ) g = 0;
-				else if( g > 255 ) g = 255;
-				if( b < 0 ) b = 0;
-				else if( b > 255 ) b = 255;
+	/**
+	 * Convert a 3-channel {@link InterleavedU8} image from RGB into a {@link Planar} YUV image. Saves the
+	 * cost of first splitting the interleaved image into bands.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param yuv (Output) YUV encoded image
+	 */
+	public static void rgbToYuv_U8(final InterleavedU8 rgb , final Planar<GrayF32> yuv ) {
 
-				R.data[indexRgb] = (byte)r;
-				G.data[indexRgb] = (byte)g;
-				B.data[indexRgb] = (byte)b;
+		InputSanityCheck.checkSameShape(yuv,rgb);
+		if( rgb.numBands != 3 )
+			throw new IllegalArgumentException("Input must have 3 bands");
+
+		final GrayF32 Y = yuv.getBand(0);
+		final GrayF32 U = yuv.getBand(1);
+		final GrayF32 V = yuv.getBand(2);
+
+		BoofConcurrency.loopBlocks(0, yuv.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int row = y0; row < y1; row++ ) {
+					int indexYuv = yuv.startIndex + row*yuv.stride;
+					int indexRgb = rgb.startIndex + row*rgb.stride;
+
+					for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb += 3) {
+						float r = rgb.data[indexRgb]&0xFF;
+						float g = rgb.data[indexRgb+1]&0xFF;
+						float b = rgb.data[indexRgb+2]&0xFF;
+
+						float y = 0.299f*r + 0.587f*g + 0.114f*b;
+
+						Y.data[indexYuv] = y;
+						U.data[indexYuv] = 0.492f*(b-y);
+						V.data[indexYuv] = 0.877f*(r-y);
+					}
+				}
 			}
-		}
+		});
 	}
-
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.distort;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.distort.PixelTransform2_F32;
 
 /**
@@ -25,10 +26,17 @@ import boofcv.struct.distort.PixelTransform2_F32;
  *
  * @author Peter Abeles
  */
-public class DoNothingPixelTransform_F32 extends PixelTransform2_F32 {
+public class DoNothingPixelTransform_F32 extends PixelTransform2_F32
+		implements ConcurrentCopy<PixelTransform2_F32>
+{
 	@Override
 	public void compute(int x, int y) {
 		distX = x;
 		distY = y;
 	}
+
+	@Override
+	public PixelTransform2_F32 copy() {
+		return new DoNothingPixelTransform_F32();
+	}
 }
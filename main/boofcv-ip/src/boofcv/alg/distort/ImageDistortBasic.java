@@ -19,12 +19,25 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageBase;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * Most basic implementation of {@link ImageDistort}. Computes the distortion from the dst to src image
- * for each pixel.  The dst pixel value is then set to the interpolated value of the src image.
+ * for each pixel.  The dst pixel value is then set to the interpolated value of the src image. The distortion
+ * is computed for an entire row at once using {@link PixelTransform2_F32#computeRow}.
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true and the transform, interpolation, and interpolation border
+ * all implement {@link ConcurrentCopy}, then bands of rows are rendered concurrently.
+ * Each band is given its own copy of the transform and a {@link RowWork} with its own interpolation algorithm and
+ * row buffers.  The workspace is recycled between calls, so only the transform is copied each time.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -45,6 +58,11 @@ public abstract class ImageDistortBasic
 	protected Input srcImg;
 	protected Output dstImg;
 
+	// workspace used when rendering in a single thread
+	protected RowWork work;
+	// workspace for each band when rendered concurrently
+	protected FastQueue<RowWork> bandWork;
+
 	/**
 	 * Specifies configuration parameters
 	 *
@@ -52,6 +70,13 @@ public abstract class ImageDistortBasic
 	 */
 	public ImageDistortBasic( Interpolate interp ) {
 		this.interp = interp;
+		this.work = new RowWork(interp);
+		this.bandWork = new FastQueue<RowWork>(1,(Class)RowWork.class,true) {
+			@Override
+			protected RowWork createInstance() {
+				return new RowWork(BoofConcurrency.copy(ImageDistortBasic.this.interp));
+			}
+		};
 	}
 
 	@Override
@@ -65,10 +90,7 @@ public abstract class ImageDistortBasic
 
 		x0 = 0;y0 = 0;x1 = dstImg.width;y1 = dstImg.height;
 
-		if(renderAll)
-			applyAll();
-		else
-			applyOnlyInside();
+		render();
 	}
 
 	@Override
@@ -77,10 +99,7 @@ public abstract class ImageDistortBasic
 
 		x0 = dstX0;y0 = dstY0;x1 = dstX1;y1 = dstY1;
 
-		if(renderAll)
-			applyAll();
-		else
-			applyOnlyInside();
+		render();
 	}
 
 	protected void init(Input srcImg, Output dstImg) {
@@ -89,9 +108,55 @@ public abstract class ImageDistortBasic
 		interp.setImage(srcImg);
 	}
 
-	protected abstract void applyAll();
+	/**
+	 * Renders the crop region, splitting it into bands of rows if possible
+	 */
+	protected void render() {
+		if( BoofConcurrency.USE_CONCURRENT && BoofConcurrency.isCopySupported(dstToSrc) && isCopySupported(interp) ) {
+			BoofConcurrency.loopBlocks(y0, y1, BoofConcurrency.MIN_BAND_ROWS, bandWork,
+					new IntRangeObjectTask<RowWork>() {
+				@Override
+				public void process(RowWork band, int row0, int row1) {
+					band.interp.setImage(srcImg);
+					renderRows(row0, row1, BoofConcurrency.copy(dstToSrc), band);
+				}
+			});
+		} else {
+			renderRows(y0, y1, dstToSrc, work);
+		}
+	}
 
-	protected abstract void applyOnlyInside();
+	/**
+	 * Returns true if the interpolation and its border can be copied for use by a different thread
+	 */
+	static boolean isCopySupported( InterpolatePixel interp ) {
+		ImageBorder border = interp.getBorder();
+		return BoofConcurrency.isCopySupported(interp) &&
+				(border == null || BoofConcurrency.isCopySupported(border));
+	}
+
+	private void renderRows( int row0 , int row1 , PixelTransform2_F32 dstToSrc , RowWork work ) {
+		work.resize(x1-x0, srcImg.getImageType().getNumBands());
+		if(renderAll)
+			applyAll(row0, row1, dstToSrc, work);
+		else
+			applyOnlyInside(row0, row1, dstToSrc, work);
+	}
+
+	/**
+	 * Renders all the pixels in the crop region which are inside the specified rows
+	 *
+	 * @param row0 First row, inclusive
+	 * @param row1 Last row, exclusive
+	 * @param dstToSrc Transform which is exclusive to these rows
+	 * @param work Interpolation and storage which are exclusive to these rows
+	 */
+	protected abstract void applyAll( int row0 , int row1 , PixelTransform2_F32 dstToSrc , RowWork work );
+
+	/**
+	 * Same as {@link #applyAll} but only pixels which map to the inside of the source image are rendered
+	 */
+	protected abstract void applyOnlyInside( int row0 , int row1 , PixelTransform2_F32 dstToSrc , RowWork work );
 
 	@Override
 	public void setRenderAll(boolean renderAll) {
@@ -102,4 +167,30 @@ public abstract class ImageDistortBasic
 	public boolean getRenderAll() {
 		return renderAll;
 	}
+
+	/**
+	 * Interpolation and row buffers used to render a band of rows
+	 */
+	protected class RowWork {
+		// interpolation which is exclusive to this band
+		public Interpolate interp;
+		// location of each pixel in the row inside the source image
+		public float distX[] = new float[0];
+		public float distY[] = new float[0];
+		// storage for interpolated pixel values of multi-band images
+		public float values[] = new float[0];
+
+		public RowWork( Interpolate interp ) {
+			this.interp = interp;
+		}
+
+		public void resize( int width , int numBands ) {
+			if( distX.length < width ) {
+				distX = new float[width];
+				distY = new float[width];
+			}
+			if( values.length != numBands )
+				values = new float[numBands];
+		}
+	}
 }
@@ -19,6 +19,7 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageInterleaved;
 
 /**
@@ -31,9 +32,6 @@ public abstract class ImageDistortBasic_IL
 		<Input extends ImageInterleaved<Input>,Output extends ImageInterleaved<Output>>
 		extends ImageDistortBasic<Input,Output,InterpolatePixelMB<Input>> {
 
-	// storage for interpolated pixel values
-	float values[] = new float[0];
-
 	/**
 	 * Specifies configuration parameters
 	 *
@@ -44,43 +42,45 @@ public abstract class ImageDistortBasic_IL
 	}
 
 	@Override
-	protected void init(Input srcImg, Output dstImg) {
-		super.init(srcImg,dstImg);
-		if( values.length != srcImg.getNumBands() ) {
-			values = new float[ srcImg.getNumBands() ];
-		}
-	}
-
-	@Override
-	public void applyAll() {
+	protected void applyAll( int row0 , int row1 , PixelTransform2_F32 dstToSrc , RowWork work ) {
+		final InterpolatePixelMB<Input> interp = work.interp;
+		final float distX[] = work.distX;
+		final float distY[] = work.distY;
+		final float values[] = work.values;
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
-		for( int y = y0; y < y1; y++ ) {
-			int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
-			for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands ) {
-				dstToSrc.compute(x,y);
+		for( int y = row0; y < row1; y++ ) {
+			dstToSrc.computeRow(y,x0,x1,distX,distY);
 
-				interp.get(dstToSrc.distX, dstToSrc.distY, values);
+			int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
+			for( int i = 0; i < x1-x0; i++ , indexDst += dstImg.numBands ) {
+				interp.get(distX[i], distY[i], values);
 				assign(indexDst,values);
 			}
 		}
 	}
 
 	@Override
-	public void applyOnlyInside() {
+	protected void applyOnlyInside( int row0 , int row1 , PixelTransform2_F32 dstToSrc , RowWork work ) {
+		final InterpolatePixelMB<Input> interp = work.interp;
+		final float distX[] = work.distX;
+		final float distY[] = work.distY;
+		final float values[] = work.values;
 
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
-		for( int y = y0; y < y1; y++ ) {
+		for( int y = row0; y < row1; y++ ) {
+			dstToSrc.computeRow(y,x0,x1,distX,distY);
+
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
-			for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands ) {
-				dstToSrc.compute(x,y);
+			for( int i = 0; i < x1-x0; i++ , indexDst += dstImg.numBands ) {
+				float sx = distX[i];
+				float sy = distY[i];
 
-				if( dstToSrc.distX >= 0 && dstToSrc.distX <= maxWidth &&
-						dstToSrc.distY >= 0 && dstToSrc.distY <= maxHeight ) {
-					interp.get(dstToSrc.distX, dstToSrc.distY, values);
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+					interp.get(sx, sy, values);
 					assign(indexDst,values);
 				}
 			}
@@ -19,6 +19,7 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageGray;
 
 /**
@@ -40,34 +41,42 @@ public abstract class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output
 	}
 
 	@Override
-	public void applyAll() {
+	protected void applyAll( int row0 , int row1 , PixelTransform2_F32 dstToSrc , RowWork work ) {
+		final InterpolatePixelS<Input> interp = work.interp;
+		final float distX[] = work.distX;
+		final float distY[] = work.distY;
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
-		for( int y = y0; y < y1; y++ ) {
-			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				dstToSrc.compute(x,y);
+		for( int y = row0; y < row1; y++ ) {
+			dstToSrc.computeRow(y,x0,x1,distX,distY);
 
-				assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
+			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			for( int i = 0; i < x1-x0; i++ , indexDst++ ) {
+				assign(indexDst,interp.get(distX[i], distY[i]));
 			}
 		}
 	}
 
 	@Override
-	public void applyOnlyInside() {
+	protected void applyOnlyInside( int row0 , int row1 , PixelTransform2_F32 dstToSrc , RowWork work ) {
+		final InterpolatePixelS<Input> interp = work.interp;
+		final float distX[] = work.distX;
+		final float distY[] = work.distY;
 
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
-		for( int y = y0; y < y1; y++ ) {
+		for( int y = row0; y < row1; y++ ) {
+			dstToSrc.computeRow(y,x0,x1,distX,distY);
+
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				dstToSrc.compute(x,y);
+			for( int i = 0; i < x1-x0; i++ , indexDst++ ) {
+				float sx = distX[i];
+				float sy = distY[i];
 
-				if( dstToSrc.distX >= 0 && dstToSrc.distX <= maxWidth &&
-						dstToSrc.distY >= 0 && dstToSrc.distY <= maxHeight ) {
-					assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+					assign(indexDst,interp.get(sx, sy));
 				}
 			}
 		}
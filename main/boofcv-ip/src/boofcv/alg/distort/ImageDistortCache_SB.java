@@ -19,14 +19,26 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageGray;
-import georegression.struct.point.Point2D_F32;
+import org.ddogleg.struct.FastQueue;
 
 /**
+ * <p>
  * Except for very simple functions, computing the per pixel distortion is an expensive operation.
  * To overcome this problem the distortion is computed once and cached.  Then when the image is distorted
  * again the save results are simply recalled and not computed again.
+ * </p>
+ *
+ * <p>
+ * The cache is a lookup table with two floats (x,y) for each pixel in the destination image, stored row
+ * by row. If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are rendered concurrently,
+ * each with its own copy of the interpolation algorithm. The table is also computed concurrently if the
+ * transform implements {@link ConcurrentCopy}.  Each band's interpolation and row buffers are recycled
+ * between calls.  If the interpolation or its border can't be copied the image is rendered in a single thread.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -35,7 +47,8 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 	// size of output image
 	private int width=-1,height=-1;
-	private Point2D_F32 map[];
+	// location of each destination pixel in the source image. (x,y) interleaved for each pixel
+	private float map[] = new float[0];
 	// sub pixel interpolation
 	private InterpolatePixelS<Input> interp;
 
@@ -52,6 +65,11 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 	protected boolean dirty;
 
+	// workspace used when processing in a single thread
+	private BandWork work;
+	// workspace for each band when processed concurrently
+	private FastQueue<BandWork> bandWork;
+
 	/**
 	 * Specifies configuration parameters
 	 *
@@ -59,6 +77,13 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 	 */
 	public ImageDistortCache_SB(InterpolatePixelS<Input> interp) {
 		this.interp = interp;
+		this.work = new BandWork(interp);
+		this.bandWork = new FastQueue<BandWork>(1,(Class)BandWork.class,true) {
+			@Override
+			protected BandWork createInstance() {
+				return new BandWork(BoofConcurrency.copy(ImageDistortCache_SB.this.interp));
+			}
+		};
 	}
 
 	@Override
@@ -73,10 +98,7 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 		x0 = 0;y0 = 0;x1 = dstImg.width;y1 = dstImg.height;
 
-		if( renderAll )
-			renderAll();
-		else
-			applyOnlyInside();
+		render();
 	}
 
 	@Override
@@ -85,62 +107,115 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 
 		x0 = dstX0;y0 = dstY0;x1 = dstX1;y1 = dstY1;
 
-		if( renderAll )
-			renderAll();
-		else
-			applyOnlyInside();
+		render();
 	}
 
 	private void init(Input srcImg, Output dstImg) {
 		if( dirty || width != dstImg.width || height != dstImg.height) {
 			width = dstImg.width;
 			height = dstImg.height;
-			map = new Point2D_F32[width*height];
-			for( int i = 0; i < map.length; i++ ) {
-				map[i] = new Point2D_F32();
-			}
+			if( map.length != width*height*2 )
+				map = new float[width*height*2];
 
-			int index = 0;
-			for( int y = 0; y < height; y++ ) {
-				for( int x = 0; x < width; x++ ) {
-					dstToSrc.compute(x,y);
-					map[index++].set(dstToSrc.distX,dstToSrc.distY);
-				}
+			if( BoofConcurrency.USE_CONCURRENT && BoofConcurrency.isCopySupported(dstToSrc) ) {
+				BoofConcurrency.loopBlocks(0, height, BoofConcurrency.MIN_BAND_ROWS, bandWork,
+						new IntRangeObjectTask<BandWork>() {
+					@Override
+					public void process(BandWork band, int row0, int row1) {
+						computeMap(row0, row1, BoofConcurrency.copy(dstToSrc), band);
+					}
+				});
+			} else {
+				computeMap(0, height, dstToSrc, work);
 			}
 			dirty = false;
-		} else if( dstImg.width != width || dstImg.height != height )
-			throw new IllegalArgumentException("Unexpected dstImg dimension");
+		}
 
 		this.srcImg = srcImg;
 		this.dstImg = dstImg;
 		interp.setImage(srcImg);
 	}
 
-	public void renderAll() {
+	/**
+	 * Computes the location of each destination pixel in the specified rows in the source image
+	 */
+	private void computeMap( int row0 , int row1 , PixelTransform2_F32 dstToSrc , BandWork work ) {
+		work.resize(width);
+		final float distX[] = work.distX;
+		final float distY[] = work.distY;
+
+		int index = row0*width*2;
+		for( int y = row0; y < row1; y++ ) {
+			dstToSrc.computeRow(y,0,width,distX,distY);
+			for( int x = 0; x < width; x++ ) {
+				map[index++] = distX[x];
+				map[index++] = distY[x];
+			}
+		}
+	}
+
+	/**
+	 * Renders the crop region, splitting it into bands of rows if concurrency is turned on
+	 */
+	private void render() {
+		if( BoofConcurrency.USE_CONCURRENT && ImageDistortBasic.isCopySupported(interp) ) {
+			BoofConcurrency.loopBlocks(y0, y1, BoofConcurrency.MIN_BAND_ROWS, bandWork,
+					new IntRangeObjectTask<BandWork>() {
+				@Override
+				public void process(BandWork band, int row0, int row1) {
+					band.interp.setImage(srcImg);
+					renderRows(row0, row1, band.interp);
+				}
+			});
+		} else {
+			renderRows(y0, y1, interp);
+		}
+	}
+
+	private void renderRows( int row0 , int row1 , InterpolatePixelS<Input> interp ) {
+		if( renderAll )
+			renderAll(row0, row1, interp);
+		else
+			applyOnlyInside(row0, row1, interp);
+	}
+
+	/**
+	 * Renders all the pixels in the crop region which are inside the specified rows
+	 *
+	 * @param row0 First row, inclusive
+	 * @param row1 Last row, exclusive
+	 * @param interp Interpolation which is exclusive to these rows
+	 */
+	protected void renderAll( int row0 , int row1 , InterpolatePixelS<Input> interp ) {
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
-		for( int y = y0; y < y1; y++ ) {
+		for( int y = row0; y < row1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
-
-				assign(indexDst,interp.get(s.x, s.y));
+			int indexMap = (y*width + x0)*2;
+			for( int x = x0; x < x1; x++ , indexDst++ , indexMap += 2 ) {
+				assign(indexDst,interp.get(map[indexMap], map[indexMap+1]));
 			}
 		}
 	}
 
-	public void applyOnlyInside() {
+	/**
+	 * Same as {@link #renderAll(int, int, InterpolatePixelS)} but only pixels which map to the inside of the
+	 * source image are rendered
+	 */
+	protected void applyOnlyInside( int row0 , int row1 , InterpolatePixelS<Input> interp ) {
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
-		for( int y = y0; y < y1; y++ ) {
+		for( int y = row0; y < row1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
+			int indexMap = (y*width + x0)*2;
+			for( int x = x0; x < x1; x++ , indexDst++ , indexMap += 2 ) {
+				float sx = map[indexMap];
+				float sy = map[indexMap+1];
 
-				if( s.x >= 0 && s.x <= maxWidth && s.y >= 0 && s.y <= maxHeight ) {
-					assign(indexDst,interp.get(s.x, s.y));
+				if( sx >= 0 && sx <= maxWidth && sy >= 0 && sy <= maxHeight ) {
+					assign(indexDst,interp.get(sx, sy));
 				}
 			}
 		}
@@ -157,4 +232,26 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 	public boolean getRenderAll() {
 		return renderAll;
 	}
+
+	/**
+	 * Interpolation and row buffers used to process a band of rows
+	 */
+	private class BandWork {
+		// interpolation which is exclusive to this band
+		InterpolatePixelS<Input> interp;
+		// location of each pixel in the row inside the source image
+		float distX[] = new float[0];
+		float distY[] = new float[0];
+
+		BandWork( InterpolatePixelS<Input> interp ) {
+			this.interp = interp;
+		}
+
+		void resize( int width ) {
+			if( distX.length < width ) {
+				distX = new float[width];
+				distY = new float[width];
+			}
+		}
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.distort;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.distort.PixelTransform2_F32;
 import georegression.struct.affine.Affine2D_F32;
 import georegression.struct.point.Point2D_F32;
@@ -29,7 +30,9 @@ import georegression.transform.affine.AffinePointOps_F32;
  *
  * @author Peter Abeles
  */
-public class PixelTransformAffine_F32 extends PixelTransform2_F32 {
+public class PixelTransformAffine_F32 extends PixelTransform2_F32
+		implements ConcurrentCopy<PixelTransform2_F32>
+{
 
 	Affine2D_F32 affine = new Affine2D_F32();
 	Point2D_F32 tran = new Point2D_F32();
@@ -53,6 +56,29 @@ public class PixelTransformAffine_F32 extends PixelTransform2_F32 {
 		distY = tran.y;
 	}
 
+	/**
+	 * The terms which depend on y are the same for the entire row and are computed once. Operations are
+	 * done in the same order as {@link #compute(int, int)} so that the results are identical.
+	 */
+	@Override
+	public void computeRow( int y, int x0, int x1, float[] outX, float[] outY ) {
+		float a11 = affine.a11, a21 = affine.a21, tx = affine.tx, ty = affine.ty;
+		float rowX = affine.a12*y;
+		float rowY = affine.a22*y;
+
+		for( int x = x0, i = 0; x < x1; x++, i++ ) {
+			outX[i] = tx + a11*x + rowX;
+			outY[i] = ty + a21*x + rowY;
+		}
+	}
+
+	@Override
+	public PixelTransform2_F32 copy() {
+		PixelTransformAffine_F32 out = new PixelTransformAffine_F32();
+		out.set(affine);
+		return out;
+	}
+
 	public Affine2D_F32 getModel() {
 		return affine;
 	}
@@ -53,6 +53,22 @@ public class PixelTransformAffine_F64 extends PixelTransform2_F64 {
 		distY = tran.y;
 	}
 
+	/**
+	 * The terms which depend on y are the same for the entire row and are computed once. Operations are
+	 * done in the same order as {@link #compute(int, int)} so that the results are identical.
+	 */
+	@Override
+	public void computeRow( int y, int x0, int x1, double[] outX, double[] outY ) {
+		double a11 = affine.a11, a21 = affine.a21, tx = affine.tx, ty = affine.ty;
+		double rowX = affine.a12*y;
+		double rowY = affine.a22*y;
+
+		for( int x = x0, i = 0; x < x1; x++, i++ ) {
+			outX[i] = tx + a11*x + rowX;
+			outY[i] = ty + a21*x + rowY;
+		}
+	}
+
 	public Affine2D_F64 getModel() {
 		return affine;
 	}
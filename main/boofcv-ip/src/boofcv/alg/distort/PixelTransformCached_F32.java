@@ -18,19 +18,23 @@
 
 package boofcv.alg.distort;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.distort.Point2Transform2_F32;
-import georegression.struct.point.Point2D_F32;
 
 /**
  * Precomputes transformations for each pixel in the image.  Doesn't check bounds and will give an incorrect result
- * or crash if outside pixels are requested.
+ * or crash if outside pixels are requested. The transform is stored in a single array with (x,y)
+ * interleaved for each pixel. The table is read only after construction and is shared by
+ * {@link #copy() concurrent copies}.
  *
  * @author Peter Abeles
  */
-public class PixelTransformCached_F32 extends PixelTransform2_F32 {
+public class PixelTransformCached_F32 extends PixelTransform2_F32
+		implements ConcurrentCopy<PixelTransform2_F32>
+{
 
-	Point2D_F32 map[];
+	float map[];
 	int width,height;
 
 	public PixelTransformCached_F32(int width, int height, Point2Transform2_F32 transform ) {
@@ -41,23 +45,46 @@ public class PixelTransformCached_F32 extends PixelTransform2_F32 {
 		this.width = width+1; // add one to the width since some stuff checks the outside border
 		this.height = height+1;
 
-		map = new Point2D_F32[this.width*this.height];
+		map = new float[this.width*this.height*2];
+		float rowX[] = new float[this.width];
+		float rowY[] = new float[this.width];
 		int index = 0;
 		for (int y = 0; y < this.height; y++) {
+			transform.computeRow(y,0,this.width,rowX,rowY);
 			for (int x = 0; x < this.width; x++) {
-				transform.compute(x,y);
-				map[index++] = new Point2D_F32(transform.distX,transform.distY);
+				map[index++] = rowX[x];
+				map[index++] = rowY[x];
 			}
 		}
 	}
 
+	private PixelTransformCached_F32( PixelTransformCached_F32 original ) {
+		this.width = original.width;
+		this.height = original.height;
+		this.map = original.map;
+	}
+
 	@Override
 	public void compute(int x, int y) {
 //		if( x < 0 || y < 0 || x >= width || y >= height )
 //			throw new IllegalArgumentException("Out of bounds");
 
-		Point2D_F32 p = map[y*width+x];
-		distX = p.x;
-		distY = p.y;
+		int index = (y*width+x)*2;
+		distX = map[index];
+		distY = map[index+1];
+	}
+
+	@Override
+	public void computeRow( int y, int x0, int x1, float[] outX, float[] outY ) {
+		int index = (y*width+x0)*2;
+		for( int i = 0; i < x1-x0; i++ ) {
+			outX[i] = map[index++];
+			outY[i] = map[index++];
+		}
+	}
+
+	@Override
+	public PixelTransform2_F32 copy() {
+		return new PixelTransformCached_F32(this);
 	}
 }
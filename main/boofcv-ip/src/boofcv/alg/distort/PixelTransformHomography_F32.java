@@ -18,6 +18,7 @@
 
 package boofcv.alg.distort;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.distort.PixelTransform2_F32;
 import georegression.struct.homography.Homography2D_F32;
 import georegression.struct.homography.Homography2D_F64;
@@ -30,7 +31,9 @@ import georegression.transform.homography.HomographyPointOps_F32;
  *
  * @author Peter Abeles
  */
-public class PixelTransformHomography_F32 extends PixelTransform2_F32 {
+public class PixelTransformHomography_F32 extends PixelTransform2_F32
+		implements ConcurrentCopy<PixelTransform2_F32>
+{
 
 	Homography2D_F32 homo = new Homography2D_F32();
 	Point2D_F32 tran = new Point2D_F32();
@@ -68,6 +71,32 @@ public class PixelTransformHomography_F32 extends PixelTransform2_F32 {
 		distY = tran.y;
 	}
 
+	/**
+	 * The terms which depend on y are the same for the entire row and are computed once. Operations are
+	 * done in the same order as {@link #compute(int, int)} so that the results are identical.
+	 */
+	@Override
+	public void computeRow( int y, int x0, int x1, float[] outX, float[] outY ) {
+		Homography2D_F32 H = homo;
+		float a11 = H.a11, a13 = H.a13, a21 = H.a21, a23 = H.a23, a31 = H.a31, a33 = H.a33;
+		float rowX = H.a12*y;
+		float rowY = H.a22*y;
+		float rowZ = H.a32*y;
+
+		for( int x = x0, i = 0; x < x1; x++, i++ ) {
+			float z = a31*x + rowZ + a33;
+			outX[i] = (a11*x + rowX + a13)/z;
+			outY[i] = (a21*x + rowY + a23)/z;
+		}
+	}
+
+	@Override
+	public PixelTransform2_F32 copy() {
+		PixelTransformHomography_F32 out = new PixelTransformHomography_F32();
+		out.set(homo);
+		return out;
+	}
+
 	public Homography2D_F32 getModel() {
 		return homo;
 	}
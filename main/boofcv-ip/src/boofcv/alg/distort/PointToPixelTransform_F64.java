@@ -19,11 +19,13 @@
 package boofcv.alg.distort;
 
 import boofcv.struct.distort.PixelTransform2_F64;
+import boofcv.struct.distort.Point2Transform2Batch_F64;
 import boofcv.struct.distort.Point2Transform2_F64;
 import georegression.struct.point.Point2D_F64;
 
 /**
- * Allows a {@link PointToPixelTransform_F64} to be invoked as a {@link PixelTransform2_F64}.
+ * Allows a {@link PointToPixelTransform_F64} to be invoked as a {@link PixelTransform2_F64}. If the point transform
+ * implements {@link Point2Transform2Batch_F64} then {@link #computeRow} transforms the entire row in a single call.
  *
  * @author Peter Abeles
  */
@@ -49,4 +51,22 @@ public class PointToPixelTransform_F64 extends PixelTransform2_F64 {
 		distX = point.x;
 		distY = point.y;
 	}
+
+	@Override
+	public void computeRow( int y, int x0, int x1, double[] outX, double[] outY ) {
+		int length = x1-x0;
+		if( alg instanceof Point2Transform2Batch_F64 ) {
+			for( int i = 0; i < length; i++ ) {
+				outX[i] = x0+i;
+				outY[i] = y;
+			}
+			((Point2Transform2Batch_F64)alg).compute(outX,outY,length);
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				alg.compute(x0+i,y,point);
+				outX[i] = point.x;
+				outY[i] = point.y;
+			}
+		}
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.distort;
 
+import boofcv.struct.distort.Point2Transform2Batch_F32;
 import boofcv.struct.distort.Point2Transform2Model_F32;
 import georegression.struct.homography.Homography2D_F32;
 import georegression.struct.homography.UtilHomography_F32;
@@ -32,7 +33,8 @@ import org.ejml.data.FMatrixRMaj;
  *
  * @author Peter Abeles
  */
-public class PointTransformHomography_F32 implements Point2Transform2Model_F32<Homography2D_F32> {
+public class PointTransformHomography_F32
+		implements Point2Transform2Model_F32<Homography2D_F32>, Point2Transform2Batch_F32 {
 
 	Homography2D_F32 homo = new Homography2D_F32();
 
@@ -56,6 +58,17 @@ public class PointTransformHomography_F32 implements Point2Transform2Model_F32<H
 		HomographyPointOps_F32.transform(homo, x, y, out);
 	}
 
+	@Override
+	public void compute( float[] x, float[] y, int length ) {
+		final Homography2D_F32 H = homo;
+		for( int i = 0; i < length; i++ ) {
+			float xx = x[i], yy = y[i];
+			float z = H.a31*xx + H.a32*yy + H.a33;
+			x[i] = (H.a11*xx + H.a12*yy + H.a13)/z;
+			y[i] = (H.a21*xx + H.a22*yy + H.a23)/z;
+		}
+	}
+
 	@Override
 	public void setModel(Homography2D_F32 o) {
 		homo.set(o);
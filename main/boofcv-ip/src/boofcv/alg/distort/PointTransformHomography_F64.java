@@ -18,6 +18,7 @@
 
 package boofcv.alg.distort;
 
+import boofcv.struct.distort.Point2Transform2Batch_F64;
 import boofcv.struct.distort.Point2Transform2Model_F64;
 import georegression.struct.homography.Homography2D_F64;
 import georegression.struct.homography.UtilHomography_F64;
@@ -32,7 +33,8 @@ import org.ejml.data.DMatrixRMaj;
  *
  * @author Peter Abeles
  */
-public class PointTransformHomography_F64 implements Point2Transform2Model_F64<Homography2D_F64> {
+public class PointTransformHomography_F64
+		implements Point2Transform2Model_F64<Homography2D_F64>, Point2Transform2Batch_F64 {
 
 	Homography2D_F64 homo = new Homography2D_F64();
 
@@ -56,6 +58,17 @@ public class PointTransformHomography_F64 implements Point2Transform2Model_F64<H
 		HomographyPointOps_F64.transform(homo, x, y, out);
 	}
 
+	@Override
+	public void compute( double[] x, double[] y, int length ) {
+		final Homography2D_F64 H = homo;
+		for( int i = 0; i < length; i++ ) {
+			double xx = x[i], yy = y[i];
+			double z = H.a31*xx + H.a32*yy + H.a33;
+			x[i] = (H.a11*xx + H.a12*yy + H.a13)/z;
+			y[i] = (H.a21*xx + H.a22*yy + H.a23)/z;
+		}
+	}
+
 	@Override
 	public void setModel(Homography2D_F64 o) {
 		homo.set(o);
@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.GrayBinary;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Operations on bit packed binary images, {@link GrayBinary}.  Each operation processes 64 pixels at once
+ * using bitwise operations on whole words.  The output of each operation is identical to the equivalent
+ * function in {@link BinaryImageOps} or {@link ThresholdImageOps}, including how the image border is handled.
+ * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are processed concurrently.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BinaryPackedOps {
+
+	private static final int ERODE = 0;
+	private static final int DILATE = 1;
+	private static final int EDGE = 2;
+
+	/**
+	 * Converts a {@link GrayU8} binary image into a packed binary image.  Pixels which are not zero are set to 1.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image.  Reshaped to match input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayBinary convert( final GrayU8 input , GrayBinary output ) {
+		final GrayBinary out = declare(input.width,input.height,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + y*input.stride;
+					int indexOut = y*out.stride;
+
+					for( int x0 = 0; x0 < input.width; x0 += 64 ) {
+						int length = Math.min(64,input.width-x0);
+						long word = 0;
+						for( int i = 0; i < length; i++ ) {
+							if( input.data[indexIn++] != 0 )
+								word |= 1L << i;
+						}
+						out.data[indexOut++] = word;
+					}
+				}
+			}
+		});
+		return out;
+	}
+
+	/**
+	 * Converts a packed binary image into a {@link GrayU8} binary image with values of 0 and 1.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image.  Reshaped to match input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayU8 convert( final GrayBinary input , GrayU8 output ) {
+		if( output == null )
+			output = new GrayU8(input.width,input.height);
+		else if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width,input.height);
+		final GrayU8 out = output;
+
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = y*input.stride;
+					int indexOut = out.startIndex + y*out.stride;
+
+					for( int x0 = 0; x0 < input.width; x0 += 64 ) {
+						int length = Math.min(64,input.width-x0);
+						long word = input.data[indexIn++];
+						for( int i = 0; i < length; i++ ) {
+							out.data[indexOut++] = (byte)((word >>> i) & 1);
+						}
+					}
+				}
+			}
+		});
+		return out;
+	}
+
+	/**
+	 * Applies a global threshold and writes the results directly into a packed binary image.  See
+	 * {@link ThresholdImageOps#threshold(GrayU8, GrayU8, int, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static GrayBinary threshold( final GrayU8 input , GrayBinary output ,
+										final int threshold , final boolean down )
+	{
+		final GrayBinary out = declare(input.width,input.height,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				// bit is 1 if threshold-value is negative, i.e. value > threshold
+				final long flip = down ? 1 : 0;
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + y*input.stride;
+					int indexOut = y*out.stride;
+
+					for( int x0 = 0; x0 < input.width; x0 += 64 ) {
+						int length = Math.min(64,input.width-x0);
+						long word = 0;
+						for( int i = 0; i < length; i++ ) {
+							long bit = ((threshold - (input.data[indexIn++] & 0xFF)) >>> 31) ^ flip;
+							word |= bit << i;
+						}
+						out.data[indexOut++] = word;
+					}
+				}
+			}
+		});
+		return out;
+	}
+
+	/**
+	 * Applies a global threshold and writes the results directly into a packed binary image.  See
+	 * {@link ThresholdImageOps#threshold(GrayF32, GrayU8, float, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static GrayBinary threshold( final GrayF32 input , GrayBinary output ,
+										final float threshold , final boolean down )
+	{
+		final GrayBinary out = declare(input.width,input.height,output);
+
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + y*input.stride;
+					int indexOut = y*out.stride;
+
+					for( int x0 = 0; x0 < input.width; x0 += 64 ) {
+						int length = Math.min(64,input.width-x0);
+						long word = 0;
+						if( down ) {
+							for( int i = 0; i < length; i++ ) {
+								if( input.data[indexIn++] <= threshold )
+									word |= 1L << i;
+							}
+						} else {
+							for( int i = 0; i < length; i++ ) {
+								if( input.data[indexIn++] > threshold )
+									word |= 1L << i;
+							}
+						}
+						out.data[indexOut++] = word;
+					}
+				}
+			}
+		});
+		return out;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'and' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output (Optional) Output image. Can be the same as either input. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static GrayBinary logicAnd( GrayBinary inputA , GrayBinary inputB , GrayBinary output ) {
+		checkSameShape(inputA, inputB);
+		output = declare(inputA.width,inputA.height,output);
+
+		int N = inputA.stride*inputA.height;
+		for( int i = 0; i < N; i++ ) {
+			output.data[i] = inputA.data[i] & inputB.data[i];
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'or' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output (Optional) Output image. Can be the same as either input. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static GrayBinary logicOr( GrayBinary inputA , GrayBinary inputB , GrayBinary output ) {
+		checkSameShape(inputA, inputB);
+		output = declare(inputA.width,inputA.height,output);
+
+		int N = inputA.stride*inputA.height;
+		for( int i = 0; i < N; i++ ) {
+			output.data[i] = inputA.data[i] | inputB.data[i];
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'xor' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output (Optional) Output image. Can be the same as either input. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static GrayBinary logicXor( GrayBinary inputA , GrayBinary inputB , GrayBinary output ) {
+		checkSameShape(inputA, inputB);
+		output = declare(inputA.width,inputA.height,output);
+
+		int N = inputA.stride*inputA.height;
+		for( int i = 0; i < N; i++ ) {
+			output.data[i] = inputA.data[i] ^ inputB.data[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Inverts each pixel from true to false and false to true.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image. Can be the same as the input. Modified.
+	 * @return Output of logical operation.
+	 */
+	public static GrayBinary invert( GrayBinary input , GrayBinary output ) {
+		output = declare(input.width,input.height,output);
+		if( input.stride == 0 )
+			return output;
+
+		long lastMask = input.lastWordMask();
+		for( int y = 0; y < input.height; y++ ) {
+			int index = y*input.stride;
+			int end = index + input.stride - 1;
+			for( ; index < end; index++ ) {
+				output.data[index] = ~input.data[index];
+			}
+			output.data[end] = ~input.data[end] & lastMask;
+		}
+		return output;
+	}
+
+	/**
+	 * Counts the number of pixels which are true
+	 */
+	public static int countOnes( GrayBinary input ) {
+		int total = 0;
+		int N = input.stride*input.height;
+		for( int i = 0; i < N; i++ ) {
+			total += Long.bitCount(input.data[i]);
+		}
+		return total;
+	}
+
+	/**
+	 * Erodes an image according to a 4-neighborhood.  See {@link BinaryImageOps#erode4(GrayU8, int, GrayU8)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output (Optional) Output image.  Can't be the same as the input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayBinary erode4( GrayBinary input , int numTimes , GrayBinary output ) {
+		return morph(input, numTimes, output, ERODE, false);
+	}
+
+	/**
+	 * Dilates an image according to a 4-neighborhood.  See {@link BinaryImageOps#dilate4(GrayU8, int, GrayU8)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output (Optional) Output image.  Can't be the same as the input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayBinary dilate4( GrayBinary input , int numTimes , GrayBinary output ) {
+		return morph(input, numTimes, output, DILATE, false);
+	}
+
+	/**
+	 * Removes all pixels but ones on the edge of an object using a 4-neighborhood.
+	 * See {@link BinaryImageOps#edge4(GrayU8, GrayU8)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image.  Can't be the same as the input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayBinary edge4( GrayBinary input , GrayBinary output ) {
+		return morph(input, 1, output, EDGE, false);
+	}
+
+	/**
+	 * Erodes an image according to an 8-neighborhood.  See {@link BinaryImageOps#erode8(GrayU8, int, GrayU8)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output (Optional) Output image.  Can't be the same as the input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayBinary erode8( GrayBinary input , int numTimes , GrayBinary output ) {
+		return morph(input, numTimes, output, ERODE, true);
+	}
+
+	/**
+	 * Dilates an image according to an 8-neighborhood.  See {@link BinaryImageOps#dilate8(GrayU8, int, GrayU8)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output (Optional) Output image.  Can't be the same as the input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayBinary dilate8( GrayBinary input , int numTimes , GrayBinary output ) {
+		return morph(input, numTimes, output, DILATE, true);
+	}
+
+	/**
+	 * Removes all pixels but ones on the edge of an object using an 8-neighborhood.
+	 * See {@link BinaryImageOps#edge8(GrayU8, GrayU8)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Output image.  Can't be the same as the input. Modified.
+	 * @return Output image.
+	 */
+	public static GrayBinary edge8( GrayBinary input , GrayBinary output ) {
+		return morph(input, 1, output, EDGE, true);
+	}
+
+	/**
+	 * Applies a morphological operation one or more times, swapping between the output and a work image
+	 */
+	private static GrayBinary morph( GrayBinary input , int numTimes , GrayBinary output ,
+									 int op , boolean eight ) {
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+		if( input == output )
+			throw new IllegalArgumentException("The output image can't be the same as the input image");
+		output = declare(input.width,input.height,output);
+
+		morph(input, output, op, eight);
+
+		if( numTimes > 1 ) {
+			GrayBinary tmp1 = new GrayBinary(input.width,input.height);
+			GrayBinary tmp2 = output;
+
+			for( int i = 1; i < numTimes; i++ ) {
+				morph(tmp2, tmp1, op, eight);
+
+				GrayBinary a = tmp1;
+				tmp1 = tmp2;
+				tmp2 = a;
+			}
+
+			if( tmp2 != output ) {
+				output.setTo(tmp2);
+			}
+		}
+		return output;
+	}
+
+	private static void morph( final GrayBinary input , final GrayBinary output ,
+							   final int op , final boolean eight ) {
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				morphRows(input, output, op, eight, y0, y1);
+			}
+		});
+	}
+
+	/**
+	 * Applies the operation to a band of rows.  For each word the value of every neighbor is found by shifting
+	 * the words in the row above, the same row, and the row below.  The image border is handled the same
+	 * as in {@link BinaryImageOps}.  Pixels outside the image are treated as 0 for dilate and 1 for erode and
+	 * edge, except that a 4-connect erode always sets pixels with two or more neighbors outside the image to 0,
+	 * e.g. the corners.
+	 */
+	static void morphRows( GrayBinary input , GrayBinary output , int op , boolean eight , int y0 , int y1 ) {
+		final int stride = input.stride;
+		if( stride == 0 )
+			return;
+
+		final long fill = op == DILATE ? 0L : ~0L;
+		final long lastMask = input.lastWordMask();
+		final long padding = fill & ~lastMask;
+		final long data[] = input.data;
+
+		for( int y = y0; y < y1; y++ ) {
+			int rowC = y*stride;
+			int rowU = y > 0 ? rowC - stride : -1;
+			int rowD = y < input.height-1 ? rowC + stride : -1;
+
+			// words to the left, at, and right of the current word in the row above, current, and below
+			long cl = fill, cc = word(data,rowC,0,stride,fill,padding);
+			long ul = fill, uc = word(data,rowU,0,stride,fill,padding);
+			long dl = fill, dc = word(data,rowD,0,stride,fill,padding);
+
+			int indexOut = rowC;
+			for( int k = 0; k < stride; k++ ) {
+				long cr = word(data,rowC,k+1,stride,fill,padding);
+				long ur = word(data,rowU,k+1,stride,fill,padding);
+				long dr = word(data,rowD,k+1,stride,fill,padding);
+
+				// bit x contains the value of pixel x-1 and x+1
+				long left = (cc << 1) | (cl >>> 63);
+				long right = (cc >>> 1) | (cr << 63);
+
+				long result;
+				if( op == DILATE ) {
+					long neighbors = left | right | uc | dc;
+					if( eight ) {
+						neighbors |= (uc << 1) | (ul >>> 63);
+						neighbors |= (uc >>> 1) | (ur << 63);
+						neighbors |= (dc << 1) | (dl >>> 63);
+						neighbors |= (dc >>> 1) | (dr << 63);
+					}
+					result = cc | neighbors;
+				} else {
+					long neighbors = left & right & uc & dc;
+					if( eight ) {
+						neighbors &= (uc << 1) | (ul >>> 63);
+						neighbors &= (uc >>> 1) | (ur << 63);
+						neighbors &= (dc << 1) | (dl >>> 63);
+						neighbors &= (dc >>> 1) | (dr << 63);
+					}
+					result = op == ERODE ? cc & neighbors : cc & ~neighbors;
+				}
+
+				if( k == stride-1 )
+					result &= lastMask;
+				if( op == ERODE && !eight )
+					result &= erodeBorderMask(input,y,k);
+				output.data[indexOut++] = result;
+
+				cl = cc; cc = cr;
+				ul = uc; uc = ur;
+				dl = dc; dc = dr;
+			}
+		}
+	}
+
+	/**
+	 * Mask which clears the pixels in word 'k' of row 'y' that have two or more 4-neighbors outside the image.
+	 */
+	private static long erodeBorderMask( GrayBinary input , int y , int k ) {
+		if( input.width == 1 || input.height == 1 )
+			return 0;
+		if( y != 0 && y != input.height-1 )
+			return ~0L;
+		long mask = ~0L;
+		if( k == 0 )
+			mask &= ~1L;
+		if( k == input.stride-1 )
+			mask &= ~(1L << ((input.width-1) % 64));
+		return mask;
+	}
+
+	/**
+	 * Returns the word at index 'k' in the row.  Outside the image, including bits past the end of the row,
+	 * pixels have the fill value.
+	 */
+	private static long word( long data[] , int row , int k , int stride , long fill , long padding ) {
+		if( row < 0 || k >= stride )
+			return fill;
+		if( k == stride-1 )
+			return data[row+k] | padding;
+		return data[row+k];
+	}
+
+	private static GrayBinary declare( int width , int height , GrayBinary output ) {
+		if( output == null )
+			return new GrayBinary(width,height);
+		output.reshape(width,height);
+		return output;
+	}
+
+	private static void checkSameShape( GrayBinary a , GrayBinary b ) {
+		if( a.width != b.width || a.height != b.height )
+			throw new IllegalArgumentException("Image shapes are not the same");
+	}
+}
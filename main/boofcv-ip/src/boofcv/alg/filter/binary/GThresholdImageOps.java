@@ -19,10 +19,12 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.LocalSquareBlockMinMaxBinaryFilter;
+import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;
 import boofcv.alg.filter.binary.impl.ThresholdSauvola;
 import boofcv.alg.misc.GImageStatistics;
 import boofcv.core.image.GConvertImage;
 import boofcv.struct.image.*;
+import org.ddogleg.struct.FastQueue;
 
 
 /**
@@ -239,18 +241,13 @@ public class GThresholdImageOps {
 	 * b(x,y) = I(x,y) &gt; T(x,y) * scale ? 0 : 1
 	 * </p>
 	 *
-	 * <p>
-	 * NOTE: Internally, images are declared to store intermediate results.  If more control is needed over memory
-	 * call the type specific function.
-	 * </p>
-	 *
 	 * @param input Input image.
 	 * @param output (optional) Output binary image.  If null it will be declared internally.
 	 * @param radius Radius of square region.
 	 * @param scale Scale factor used to adjust threshold
 	 * @param down Should it threshold up or down.
-	 * @param work1 (Optional) Internal workspace.  Can be null
-	 * @param work2 (Optional) Internal workspace.  Can be null
+	 * @param work1 Not used.  Can be null
+	 * @param work2 Not used.  Can be null
 	 * @return binary image.
 	 */
 	public static <T extends ImageGray<T>>
@@ -268,6 +265,26 @@ public class GThresholdImageOps {
 		}
 	}
 
+	/**
+	 * Same as {@link #localSquare(ImageGray, GrayU8, int, double, boolean, ImageGray, ImageGray)} but with a
+	 * workspace which can be recycled between calls.
+	 *
+	 * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 localSquare(T input, GrayU8 output,
+					   int radius, double scale, boolean down,
+					   FastQueue<ImplThresholdImageOps.BandWork> work)
+	{
+		if( input instanceof GrayF32) {
+			return ThresholdImageOps.localSquare((GrayF32) input, output, radius, (float) scale, down, work);
+		} else if( input instanceof GrayU8) {
+			return ThresholdImageOps.localSquare((GrayU8) input, output, radius, (float) scale, down, work);
+		} else {
+			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * <p>
 	 * Thresholds the image using a locally adaptive threshold that is computed using a local square region centered
@@ -276,18 +293,13 @@ public class GThresholdImageOps {
 	 * b(x,y) = I(x,y) &gt; T(x,y) * scale ? 0 : 1
 	 * </p>
 	 *
-	 * <p>
-	 * NOTE: Internally, images are declared to store intermediate results.  If more control is needed over memory
-	 * call the type specific function.
-	 * </p>
-	 *
 	 * @param input Input image.
 	 * @param output (optional) Output binary image.  If null it will be declared internally.
 	 * @param radius Radius of square region.
 	 * @param scale Scale factor used to adjust threshold
 	 * @param down Should it threshold up or down.
-	 * @param work1 (Optional) Internal workspace.  Can be null
-	 * @param work2 (Optional) Internal workspace.  Can be null
+	 * @param work1 Not used.  Can be null
+	 * @param work2 Not used.  Can be null
 	 * @return binary image.
 	 */
 	public static <T extends ImageGray<T>>
@@ -306,6 +318,26 @@ public class GThresholdImageOps {
 		}
 	}
 
+	/**
+	 * Same as {@link #localGaussian(ImageGray, GrayU8, int, double, boolean, ImageGray, ImageGray)} but with a
+	 * workspace which can be recycled between calls.
+	 *
+	 * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.
+	 */
+	public static <T extends ImageGray<T>>
+	GrayU8 localGaussian(T input, GrayU8 output,
+						 int radius, double scale, boolean down,
+						 FastQueue<ImplThresholdImageOps.BandWork> work)
+	{
+		if( input instanceof GrayF32) {
+			return ThresholdImageOps.localGaussian((GrayF32) input, output, radius, (float) scale, down, work);
+		} else if( input instanceof GrayU8) {
+			return ThresholdImageOps.localGaussian((GrayU8) input, output, radius, (float) scale, down, work);
+		} else {
+			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * Applies {@link boofcv.alg.filter.binary.impl.ThresholdSauvola Sauvola} thresholding to the input image.
 	 * Intended for use with text image.
@@ -18,7 +18,9 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.alg.filter.binary.impl.LinearContourLabelTiled;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
@@ -48,6 +50,11 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true the work is done by {@link LinearContourLabelTiled}, which
+ * produces the same output using multiple threads.
+ * </p>
+ *
+ * <p>
  * [1] Fu Chang and Chun-jen Chen and Chi-jen Lu, "A linear-time component-labeling algorithm using contour
  * tracing technique" Computer Vision and Image Understanding, 2004
  * </p>
@@ -67,6 +74,10 @@ public class LinearContourLabelChang2004 {
 	private FastQueue<List<Point2D_I32>> storageLists = new FastQueue<>((Class) ArrayList.class, true);
 	private FastQueue<Contour> contours = new FastQueue<>(Contour.class, true);
 
+	// concurrent implementation. Created when first needed
+	private LinearContourLabelTiled concurrent;
+	private ConnectRule rule;
+
 	// internal book keeping variables
 	private int x,y,indexIn,indexOut;
 
@@ -77,6 +88,7 @@ public class LinearContourLabelChang2004 {
 	 */
 	public LinearContourLabelChang2004( ConnectRule rule ) {
 		tracer = new ContourTracer(rule);
+		this.rule = rule;
 	}
 
 	/**
@@ -86,6 +98,13 @@ public class LinearContourLabelChang2004 {
 	 * @param labeled Output. Labeled image.  Modified.
 	 */
 	public void process(GrayU8 binary , GrayS32 labeled ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( concurrent == null )
+				concurrent = new LinearContourLabelTiled(rule);
+			concurrent.process(binary,labeled,contours);
+			return;
+		}
+
 		// initialize data structures
 
 		// ensure that the image border pixels are filled with zero by enlarging the image
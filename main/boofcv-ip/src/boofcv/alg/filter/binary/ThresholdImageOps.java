@@ -19,8 +19,9 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;
 import boofcv.struct.image.*;
+import org.ddogleg.struct.FastQueue;
 
 /**
  * <p>
@@ -340,58 +341,35 @@ public class ThresholdImageOps {
 	 * @param radius Radius of square region.
 	 * @param scale Scale factor used to adjust threshold.  Try 0.95
 	 * @param down Should it threshold up or down.
-	 * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.
-	 * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.
+	 * @param storage1 Not used. Can be null.
+	 * @param storage2 Not used. Can be null.
 	 * @return Thresholded image.
 	 */
 	public static GrayU8 localSquare(GrayU8 input , GrayU8 output ,
 									 int radius , float scale , boolean down ,
 									 GrayU8 storage1 , GrayU8 storage2 ) {
+		return localSquare(input,output,radius,scale,down,null);
+	}
 
-		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
-		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayU8.class);
-		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayU8.class);
-
-		GrayU8 mean = storage1;
-
-		BlurImageOps.mean(input,mean,radius,storage2);
-
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = mean.startIndex + y*mean.stride;
-
-				int end = indexIn + input.width;
-
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {
-					float threshold = (mean.data[indexMean]& 0xFF) * scale;
-
-					if( (input.data[indexIn]& 0xFF) <= threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = mean.startIndex + y*mean.stride;
-
-				int end = indexIn + input.width;
+	/**
+	 * Same as {@link #localSquare(GrayU8, GrayU8, int, float, boolean, GrayU8, GrayU8)}
+	 * but with a workspace which can be recycled between calls.
+	 *
+	 * @param input Input image.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param radius Radius of square region.
+	 * @param scale Scale factor used to adjust threshold.  Try 0.95
+	 * @param down Should it threshold up or down.
+	 * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.
+	 * @return Thresholded image.
+	 */
+	public static GrayU8 localSquare(GrayU8 input , GrayU8 output ,
+									 int radius , float scale , boolean down ,
+									 FastQueue<ImplThresholdImageOps.BandWork> work ) {
 
-				int x = 0;
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ , x++) {
-					int threshold = (mean.data[indexMean]& 0xFF);
+		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-					if( (input.data[indexIn]& 0xFF) * scale > threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		}
+		ImplThresholdImageOps.localSquare(input,output,radius,scale,down,work);
 
 		return output;
 	}
@@ -407,57 +385,35 @@ public class ThresholdImageOps {
 	 * @param radius Radius of square region.
 	 * @param scale Scale factor used to adjust threshold.  Try 0.95
 	 * @param down Should it threshold up or down.
-	 * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.
-	 * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.
+	 * @param storage1 Not used. Can be null.
+	 * @param storage2 Not used. Can be null.
 	 * @return Thresholded image.
 	 */
 	public static GrayU8 localGaussian(GrayU8 input , GrayU8 output ,
 									   int radius , float scale , boolean down ,
 									   GrayU8 storage1 , GrayU8 storage2 ) {
+		return localGaussian(input,output,radius,scale,down,null);
+	}
 
-		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
-		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayU8.class);
-		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayU8.class);
-
-		GrayU8 blur = storage1;
-
-		BlurImageOps.gaussian(input,blur,-1,radius,storage2);
-
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = blur.startIndex + y*blur.stride;
-
-				int end = indexIn + input.width;
-
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {
-					float threshold = (blur.data[indexMean]& 0xFF) * scale;
-
-					if( (input.data[indexIn]& 0xFF) <= threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = blur.startIndex + y*blur.stride;
-
-				int end = indexIn + input.width;
+	/**
+	 * Same as {@link #localGaussian(GrayU8, GrayU8, int, float, boolean, GrayU8, GrayU8)}
+	 * but with a workspace which can be recycled between calls.
+	 *
+	 * @param input Input image.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param radius Radius of square region.
+	 * @param scale Scale factor used to adjust threshold.  Try 0.95
+	 * @param down Should it threshold up or down.
+	 * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.
+	 * @return Thresholded image.
+	 */
+	public static GrayU8 localGaussian(GrayU8 input , GrayU8 output ,
+									   int radius , float scale , boolean down ,
+									   FastQueue<ImplThresholdImageOps.BandWork> work ) {
 
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {
-					int threshold = (blur.data[indexMean]& 0xFF);
+		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-					if( (input.data[indexIn]& 0xFF) * scale > threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		}
+		ImplThresholdImageOps.localGaussian(input,output,radius,scale,down,work);
 
 		return output;
 	}
@@ -473,57 +429,35 @@ public class ThresholdImageOps {
 	 * @param radius Radius of square region.
 	 * @param scale Scale factor used to adjust threshold.  Try 0.95
 	 * @param down Should it threshold up or down.
-	 * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.
-	 * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.
+	 * @param storage1 Not used. Can be null.
+	 * @param storage2 Not used. Can be null.
 	 * @return Thresholded image.
 	 */
 	public static GrayU8 localSquare(GrayF32 input , GrayU8 output ,
 									 int radius , float scale , boolean down ,
 									 GrayF32 storage1 , GrayF32 storage2 ) {
+		return localSquare(input,output,radius,scale,down,null);
+	}
 
-		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
-		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayF32.class);
-		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayF32.class);
-
-		GrayF32 mean = storage1;
-
-		BlurImageOps.mean(input,mean,radius,storage2);
-
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = mean.startIndex + y*mean.stride;
-
-				int end = indexIn + input.width;
-
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {
-					float threshold = (mean.data[indexMean]) * scale;
-
-					if( (input.data[indexIn]) <= threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = mean.startIndex + y*mean.stride;
-
-				int end = indexIn + input.width;
+	/**
+	 * Same as {@link #localSquare(GrayF32, GrayU8, int, float, boolean, GrayF32, GrayF32)}
+	 * but with a workspace which can be recycled between calls.
+	 *
+	 * @param input Input image.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param radius Radius of square region.
+	 * @param scale Scale factor used to adjust threshold.  Try 0.95
+	 * @param down Should it threshold up or down.
+	 * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.
+	 * @return Thresholded image.
+	 */
+	public static GrayU8 localSquare(GrayF32 input , GrayU8 output ,
+									 int radius , float scale , boolean down ,
+									 FastQueue<ImplThresholdImageOps.BandWork> work ) {
 
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {
-					float threshold = (mean.data[indexMean]);
+		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-					if( (input.data[indexIn]) * scale > threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		}
+		ImplThresholdImageOps.localSquare(input,output,radius,scale,down,work);
 
 		return output;
 	}
@@ -539,57 +473,35 @@ public class ThresholdImageOps {
 	 * @param radius Radius of square region.
 	 * @param scale Scale factor used to adjust threshold.  Try 0.95
 	 * @param down Should it threshold up or down.
-	 * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.
-	 * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.
+	 * @param storage1 Not used. Can be null.
+	 * @param storage2 Not used. Can be null.
 	 * @return Thresholded image.
 	 */
 	public static GrayU8 localGaussian(GrayF32 input , GrayU8 output ,
 									   int radius , float scale , boolean down ,
 									   GrayF32 storage1 , GrayF32 storage2 ) {
+		return localGaussian(input,output,radius,scale,down,null);
+	}
 
-		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
-		storage1 = InputSanityCheck.checkDeclare(input,storage1,GrayF32.class);
-		storage2 = InputSanityCheck.checkDeclare(input,storage2,GrayF32.class);
-
-		GrayF32 blur = storage1;
-
-		BlurImageOps.gaussian(input,blur,-1,radius,storage2);
-
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = blur.startIndex + y*blur.stride;
-
-				int end = indexIn + input.width;
-
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {
-					float threshold = (blur.data[indexMean]) * scale;
-
-					if( (input.data[indexIn]) <= threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-				int indexMean = blur.startIndex + y*blur.stride;
-
-				int end = indexIn + input.width;
+	/**
+	 * Same as {@link #localGaussian(GrayF32, GrayU8, int, float, boolean, GrayF32, GrayF32)}
+	 * but with a workspace which can be recycled between calls.
+	 *
+	 * @param input Input image.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param radius Radius of square region.
+	 * @param scale Scale factor used to adjust threshold.  Try 0.95
+	 * @param down Should it threshold up or down.
+	 * @param work (Optional) Row buffers from {@link ImplThresholdImageOps#createWorkspace()}.  Can be null.
+	 * @return Thresholded image.
+	 */
+	public static GrayU8 localGaussian(GrayF32 input , GrayU8 output ,
+									   int radius , float scale , boolean down ,
+									   FastQueue<ImplThresholdImageOps.BandWork> work ) {
 
-				for( ; indexIn < end; indexIn++ , indexOut++, indexMean++ ) {
-					float threshold = (blur.data[indexMean]);
+		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-					if( (input.data[indexIn]) * scale > threshold )
-						output.data[indexOut] = 1;
-					else
-						output.data[indexOut] = 0;
-				}
-			}
-		}
+		ImplThresholdImageOps.localGaussian(input,output,radius,scale,down,work);
 
 		return output;
 	}
@@ -19,6 +19,8 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageInterleaved;
@@ -49,6 +51,9 @@ import boofcv.struct.image.ImageInterleaved;
  *
  * <p>The block based approach used were was inspired by a high level description found in AprilTags.</p>
  *
+ * <p>If {@link BoofConcurrency#USE_CONCURRENT} is true then rows of blocks are processed concurrently.  Implementations
+ * of {@link #thresholdBlock} and {@link #computeMinMaxBlock} must not modify shared state.</p>
+ *
  * @author Peter Abeles
  */
 public abstract class ThresholdSquareBlockMinMax
@@ -118,40 +123,58 @@ public abstract class ThresholdSquareBlockMinMax
 	/**
 	 * Computes the min-max value for each block in the image
 	 */
-	private void computeMinMax(T input, int innerWidth, int innerHeight) {
-		int indexMinMax = 0;
-		for (int y = 0; y < innerHeight; y += blockHeight) {
-			for (int x = 0; x < innerWidth; x += blockWidth, indexMinMax += 2) {
-				computeMinMaxBlock(x,y,blockWidth,blockHeight,indexMinMax,input);
-			}
-			// handle the case where the image's width isn't evenly divisible by the block's width
-			if( innerWidth != input.width ) {
-				computeMinMaxBlock(innerWidth,y,input.width-innerWidth,blockHeight,indexMinMax,input);
-				indexMinMax += 2;
+	private void computeMinMax(final T input, final int innerWidth, final int innerHeight) {
+		BoofConcurrency.loopBlocks(0, minmax.height, minBlockRows(), BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int blockY = y0; blockY < y1; blockY++) {
+					computeMinMaxRow(input, innerWidth, innerHeight, blockY);
+				}
 			}
-		}
+		});
+	}
+
+	/**
+	 * Computes the min-max value for each block in a row of blocks
+	 */
+	private void computeMinMaxRow(T input, int innerWidth, int innerHeight, int blockY) {
+		int y = blockY*blockHeight;
 		// handle the case where the image's height isn't evenly divisible by the block's height
-		if( innerHeight != input.height ) {
-			int y = innerHeight;
-			int blockHeight = input.height-innerHeight;
-			for (int x = 0; x < innerWidth; x += blockWidth, indexMinMax += 2) {
-				computeMinMaxBlock(x,y,blockWidth,blockHeight,indexMinMax,input);
-			}
-			if( innerWidth != input.width ) {
-				computeMinMaxBlock(innerWidth,y,input.width-innerWidth,blockHeight,indexMinMax,input);
-			}
+		int blockHeight = y < innerHeight ? this.blockHeight : input.height-innerHeight;
+		int indexMinMax = blockY*minmax.width*2;
+
+		for (int x = 0; x < innerWidth; x += blockWidth, indexMinMax += 2) {
+			computeMinMaxBlock(x,y,blockWidth,blockHeight,indexMinMax,input);
+		}
+		// handle the case where the image's width isn't evenly divisible by the block's width
+		if( innerWidth != input.width ) {
+			computeMinMaxBlock(innerWidth,y,input.width-innerWidth,blockHeight,indexMinMax,input);
 		}
 	}
 
 	/**
 	 * Applies the dynamically computed threshold to each pixel in the image, one block at a time
 	 */
-	private void applyThreshold( T input, GrayU8 output ) {
-		for (int blockY = 0; blockY < minmax.height; blockY++) {
-			for (int blockX = 0; blockX < minmax.width; blockX++) {
-				thresholdBlock(blockX,blockY,input,output);
+	private void applyThreshold( final T input, final GrayU8 output ) {
+		BoofConcurrency.loopBlocks(0, minmax.height, minBlockRows(), BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int blockY = y0; blockY < y1; blockY++) {
+					for (int blockX = 0; blockX < minmax.width; blockX++) {
+						thresholdBlock(blockX,blockY,input,output);
+					}
+				}
 			}
-		}
+		});
+	}
+
+	/**
+	 * Number of rows of blocks which is processed by a single thread
+	 */
+	private int minBlockRows() {
+		return Math.max(1,BoofConcurrency.MIN_BAND_ROWS/blockHeight);
 	}
 
 	/**
@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Implementations of locally adaptive thresholds which never create the blurred image.  Each band of rows
+ * keeps a rolling window of horizontally blurred rows, with column sums for the mean, and thresholds an
+ * output row as soon as its neighborhood is complete.  Memory is proportional to the image width times
+ * the region size instead of two full sized images, and the input is only read once.
+ * </p>
+ *
+ * <p>
+ * Results are identical to blurring with {@link boofcv.alg.filter.blur.BlurImageOps} and then thresholding,
+ * except for the floating point mean where sums are accumulated in double and can differ in the last bit.
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are processed concurrently.  The row
+ * buffers of each band are stored in a {@link BandWork}.  Pass in the same workspace to recycle them between calls.
+ * </p>
+ *
+ * @see ThresholdImageOps#localSquare(GrayU8, GrayU8, int, float, boolean, GrayU8, GrayU8)
+ * @see ThresholdImageOps#localGaussian(GrayU8, GrayU8, int, float, boolean, GrayU8, GrayU8)
+ *
+ * @author Peter Abeles
+ */
+public class ImplThresholdImageOps {
+
+	/**
+	 * Creates a workspace which can be passed in to the thresholding functions to recycle memory
+	 */
+	public static FastQueue<BandWork> createWorkspace() {
+		return new FastQueue<>(BandWork.class,true);
+	}
+
+	public static void localSquare( final GrayU8 input , final GrayU8 output ,
+									final int radius , final float scale , final boolean down ,
+									FastQueue<BandWork> work ) {
+		if( work == null )
+			work = createWorkspace();
+		BoofConcurrency.loopBlocks(0, input.height, minBandRows(radius), BoofConcurrency.USE_CONCURRENT, work,
+				new IntRangeObjectTask<BandWork>() {
+			@Override
+			public void process(BandWork work, int y0, int y1) {
+				localSquareBand(input, output, radius, scale, down, work, y0, y1);
+			}
+		});
+	}
+
+	static void localSquareBand( GrayU8 input , GrayU8 output ,
+								 int radius , float scale , boolean down , BandWork work ,
+								 int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int windowRows = radius*2+1;
+
+		// horizontal mean of each row inside the vertical window
+		if( work.rowsU8.length < windowRows*width )
+			work.rowsU8 = new byte[windowRows*width];
+		if( work.sumsS32.length < width )
+			work.sumsS32 = new int[width];
+		final byte[] rows = work.rowsU8;
+		final int[] sums = work.sumsS32;
+		Arrays.fill(sums,0,width,0);
+
+		for( int y = Math.max(0,y0-radius); y <= Math.min(height-1,y0+radius); y++ ) {
+			int offset = (y%windowRows)*width;
+			horizontalMean(input, y, radius, rows, offset);
+			for( int x = 0; x < width; x++ ) {
+				sums[x] += rows[offset+x] & 0xFF;
+			}
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				// slide the window down by one row
+				int removed = y-radius-1;
+				if( removed >= 0 ) {
+					int offset = (removed%windowRows)*width;
+					for( int x = 0; x < width; x++ ) {
+						sums[x] -= rows[offset+x] & 0xFF;
+					}
+				}
+				int added = y+radius;
+				if( added < height ) {
+					int offset = (added%windowRows)*width;
+					horizontalMean(input, added, radius, rows, offset);
+					for( int x = 0; x < width; x++ ) {
+						sums[x] += rows[offset+x] & 0xFF;
+					}
+				}
+			}
+
+			final int count = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+			final int half = count/2;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			if( down ) {
+				for( int x = 0; x < width; x++ ) {
+					int mean = (sums[x] + half)/count;
+					output.data[indexOut++] = (byte)((input.data[indexIn++] & 0xFF) <= mean*scale ? 1 : 0);
+				}
+			} else {
+				for( int x = 0; x < width; x++ ) {
+					int mean = (sums[x] + half)/count;
+					output.data[indexOut++] = (byte)((input.data[indexIn++] & 0xFF)*scale > mean ? 1 : 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the mean along a row using a running sum.  Near the image border only pixels inside the image
+	 * are used.  Rounding is the same as {@link boofcv.alg.filter.convolve.ConvolveImageMean}.
+	 */
+	static void horizontalMean( GrayU8 input , int y , int radius , byte[] output , int offset ) {
+		final int width = input.width;
+		final int start = input.startIndex + y*input.stride;
+
+		int total = 0;
+		int end = Math.min(width,radius+1);
+		for( int i = 0; i < end; i++ ) {
+			total += input.data[start+i] & 0xFF;
+		}
+
+		// left border and images which are smaller than the region
+		int x = 0;
+		int innerEnd = width-radius;
+		for( ; x < width && (x < radius || x >= innerEnd); x++ ) {
+			int lower = x-radius;
+			int upper = x+radius;
+			int count = Math.min(width-1,upper) - Math.max(0,lower) + 1;
+			output[offset+x] = (byte)((total + count/2)/count);
+
+			if( upper+1 < width )
+				total += input.data[start+upper+1] & 0xFF;
+			if( lower >= 0 )
+				total -= input.data[start+lower] & 0xFF;
+		}
+
+		// inner image where the entire region is inside the image
+		final int divisor = radius*2+1;
+		final int halfDivisor = divisor/2;
+		for( ; x < innerEnd; x++ ) {
+			output[offset+x] = (byte)((total + halfDivisor)/divisor);
+			if( x+radius+1 < width )
+				total += input.data[start+x+radius+1] & 0xFF;
+			total -= input.data[start+x-radius] & 0xFF;
+		}
+
+		// right border
+		for( ; x < width; x++ ) {
+			int lower = x-radius;
+			int count = width - Math.max(0,lower);
+			output[offset+x] = (byte)((total + count/2)/count);
+			if( lower >= 0 )
+				total -= input.data[start+lower] & 0xFF;
+		}
+	}
+
+	public static void localSquare( final GrayF32 input , final GrayU8 output ,
+									final int radius , final float scale , final boolean down ,
+									FastQueue<BandWork> work ) {
+		if( work == null )
+			work = createWorkspace();
+		BoofConcurrency.loopBlocks(0, input.height, minBandRows(radius), BoofConcurrency.USE_CONCURRENT, work,
+				new IntRangeObjectTask<BandWork>() {
+			@Override
+			public void process(BandWork work, int y0, int y1) {
+				localSquareBand(input, output, radius, scale, down, work, y0, y1);
+			}
+		});
+	}
+
+	static void localSquareBand( GrayF32 input , GrayU8 output ,
+								 int radius , float scale , boolean down , BandWork work ,
+								 int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int windowRows = radius*2+1;
+
+		if( work.rowsF32.length < windowRows*width )
+			work.rowsF32 = new float[windowRows*width];
+		if( work.sumsF64.length < width )
+			work.sumsF64 = new double[width];
+		final float[] rows = work.rowsF32;
+		final double[] sums = work.sumsF64;
+		Arrays.fill(sums,0,width,0);
+
+		for( int y = Math.max(0,y0-radius); y <= Math.min(height-1,y0+radius); y++ ) {
+			int offset = (y%windowRows)*width;
+			horizontalMean(input, y, radius, rows, offset);
+			for( int x = 0; x < width; x++ ) {
+				sums[x] += rows[offset+x];
+			}
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				int removed = y-radius-1;
+				if( removed >= 0 ) {
+					int offset = (removed%windowRows)*width;
+					for( int x = 0; x < width; x++ ) {
+						sums[x] -= rows[offset+x];
+					}
+				}
+				int added = y+radius;
+				if( added < height ) {
+					int offset = (added%windowRows)*width;
+					horizontalMean(input, added, radius, rows, offset);
+					for( int x = 0; x < width; x++ ) {
+						sums[x] += rows[offset+x];
+					}
+				}
+			}
+
+			final double count = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			if( down ) {
+				for( int x = 0; x < width; x++ ) {
+					float mean = (float)(sums[x]/count);
+					output.data[indexOut++] = (byte)(input.data[indexIn++] <= mean*scale ? 1 : 0);
+				}
+			} else {
+				for( int x = 0; x < width; x++ ) {
+					float mean = (float)(sums[x]/count);
+					output.data[indexOut++] = (byte)(input.data[indexIn++]*scale > mean ? 1 : 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the mean along a row using a running sum.  Near the image border only pixels inside the image
+	 * are used.
+	 */
+	static void horizontalMean( GrayF32 input , int y , int radius , float[] output , int offset ) {
+		final int width = input.width;
+		final int start = input.startIndex + y*input.stride;
+
+		double total = 0;
+		int end = Math.min(width,radius+1);
+		for( int i = 0; i < end; i++ ) {
+			total += input.data[start+i];
+		}
+
+		for( int x = 0; x < width; x++ ) {
+			int lower = x-radius;
+			int upper = x+radius;
+			int count = Math.min(width-1,upper) - Math.max(0,lower) + 1;
+			output[offset+x] = (float)(total/count);
+
+			if( upper+1 < width )
+				total += input.data[start+upper+1];
+			if( lower >= 0 )
+				total -= input.data[start+lower];
+		}
+	}
+
+	public static void localGaussian( final GrayU8 input , final GrayU8 output ,
+									  final int radius , final float scale , final boolean down ,
+									  FastQueue<BandWork> work ) {
+		if( work == null )
+			work = createWorkspace();
+		final Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+
+		BoofConcurrency.loopBlocks(0, input.height, minBandRows(radius), BoofConcurrency.USE_CONCURRENT, work,
+				new IntRangeObjectTask<BandWork>() {
+			@Override
+			public void process(BandWork work, int y0, int y1) {
+				localGaussianBand(input, output, kernel, scale, down, work, y0, y1);
+			}
+		});
+	}
+
+	static void localGaussianBand( GrayU8 input , GrayU8 output , Kernel1D_S32 kernel ,
+								   float scale , boolean down , BandWork work ,
+								   int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int radius = kernel.getOffset();
+		final int windowRows = kernel.getWidth();
+
+		if( work.rowsU8.length < windowRows*width )
+			work.rowsU8 = new byte[windowRows*width];
+		if( work.sumsS32.length < width )
+			work.sumsS32 = new int[width];
+		final byte[] rows = work.rowsU8;
+		final int[] totals = work.sumsS32;
+
+		// next row which needs to be blurred horizontally
+		int nextRow = Math.max(0,y0-radius);
+
+		for( int y = y0; y < y1; y++ ) {
+			int rowEnd = Math.min(height,y+radius+1);
+			for( ; nextRow < rowEnd; nextRow++ ) {
+				horizontal(kernel, input, nextRow, rows, (nextRow%windowRows)*width);
+			}
+
+			// vertical convolution. Only rows inside the image are used
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(windowRows,height-y+radius);
+
+			int weight = 0;
+			for( int x = 0; x < width; x++ ) {
+				totals[x] = 0;
+			}
+			for( int k = k0; k < k1; k++ ) {
+				int w = kernel.data[k];
+				int offset = ((y-radius+k)%windowRows)*width;
+				weight += w;
+				for( int x = 0; x < width; x++ ) {
+					totals[x] += (rows[offset+x] & 0xFF)*w;
+				}
+			}
+			final int half = weight/2;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			if( down ) {
+				for( int x = 0; x < width; x++ ) {
+					int blur = (totals[x] + half)/weight;
+					output.data[indexOut++] = (byte)((input.data[indexIn++] & 0xFF) <= blur*scale ? 1 : 0);
+				}
+			} else {
+				for( int x = 0; x < width; x++ ) {
+					int blur = (totals[x] + half)/weight;
+					output.data[indexOut++] = (byte)((input.data[indexIn++] & 0xFF)*scale > blur ? 1 : 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Normalized horizontal convolution along a single row.  Rounding is the same as
+	 * {@link boofcv.alg.filter.convolve.ConvolveNormalized}.
+	 */
+	static void horizontal( Kernel1D_S32 kernel , GrayU8 input , int y , byte[] output , int offset ) {
+		final int width = input.width;
+		final int radius = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int start = input.startIndex + y*input.stride;
+
+		for( int x = 0; x < width; x++ ) {
+			int k0 = Math.max(0,radius-x);
+			int k1 = Math.min(kernelWidth,width-x+radius);
+
+			int total = 0;
+			int weight = 0;
+			int indexIn = start + x - radius + k0;
+			for( int k = k0; k < k1; k++ ) {
+				int w = kernel.data[k];
+				weight += w;
+				total += (input.data[indexIn++] & 0xFF)*w;
+			}
+			output[offset+x] = (byte)((total + weight/2)/weight);
+		}
+	}
+
+	public static void localGaussian( final GrayF32 input , final GrayU8 output ,
+									  final int radius , final float scale , final boolean down ,
+									  FastQueue<BandWork> work ) {
+		if( work == null )
+			work = createWorkspace();
+		final Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+
+		BoofConcurrency.loopBlocks(0, input.height, minBandRows(radius), BoofConcurrency.USE_CONCURRENT, work,
+				new IntRangeObjectTask<BandWork>() {
+			@Override
+			public void process(BandWork work, int y0, int y1) {
+				localGaussianBand(input, output, kernel, scale, down, work, y0, y1);
+			}
+		});
+	}
+
+	static void localGaussianBand( GrayF32 input , GrayU8 output , Kernel1D_F32 kernel ,
+								   float scale , boolean down , BandWork work ,
+								   int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int radius = kernel.getOffset();
+		final int windowRows = kernel.getWidth();
+		// ConvolveNormalized always divides by the weight when the kernel is as large as the image
+		final boolean alwaysDivide = windowRows >= height;
+
+		if( work.rowsF32.length < windowRows*width )
+			work.rowsF32 = new float[windowRows*width];
+		if( work.sumsF32.length < width )
+			work.sumsF32 = new float[width];
+		final float[] rows = work.rowsF32;
+		final float[] totals = work.sumsF32;
+
+		int nextRow = Math.max(0,y0-radius);
+
+		for( int y = y0; y < y1; y++ ) {
+			int rowEnd = Math.min(height,y+radius+1);
+			for( ; nextRow < rowEnd; nextRow++ ) {
+				horizontal(kernel, input, nextRow, rows, (nextRow%windowRows)*width);
+			}
+
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(windowRows,height-y+radius);
+
+			// sum in the same order as ConvolveNormalized so that the results are identical
+			float weight = 0;
+			for( int x = 0; x < width; x++ ) {
+				totals[x] = 0;
+			}
+			for( int k = k0; k < k1; k++ ) {
+				float w = kernel.data[k];
+				int offset = ((y-radius+k)%windowRows)*width;
+				weight += w;
+				for( int x = 0; x < width; x++ ) {
+					totals[x] += rows[offset+x]*w;
+				}
+			}
+			if( alwaysDivide || k0 != 0 || k1 != windowRows ) {
+				for( int x = 0; x < width; x++ ) {
+					totals[x] /= weight;
+				}
+			}
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			if( down ) {
+				for( int x = 0; x < width; x++ ) {
+					output.data[indexOut++] = (byte)(input.data[indexIn++] <= totals[x]*scale ? 1 : 0);
+				}
+			} else {
+				for( int x = 0; x < width; x++ ) {
+					output.data[indexOut++] = (byte)(input.data[indexIn++]*scale > totals[x] ? 1 : 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Normalized horizontal convolution along a single row.  The order of operations is the same as
+	 * {@link boofcv.alg.filter.convolve.ConvolveNormalized} so that the results are identical.
+	 */
+	static void horizontal( Kernel1D_F32 kernel , GrayF32 input , int y , float[] output , int offset ) {
+		final int width = input.width;
+		final int radius = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int start = input.startIndex + y*input.stride;
+		final boolean alwaysDivide = kernelWidth >= width;
+
+		for( int x = 0; x < width; x++ ) {
+			int k0 = Math.max(0,radius-x);
+			int k1 = Math.min(kernelWidth,width-x+radius);
+
+			float total = 0;
+			float weight = 0;
+			int indexIn = start + x - radius + k0;
+			for( int k = k0; k < k1; k++ ) {
+				float w = kernel.data[k];
+				weight += w;
+				total += input.data[indexIn++]*w;
+			}
+			if( alwaysDivide || k0 != 0 || k1 != kernelWidth )
+				total /= weight;
+			output[offset+x] = total;
+		}
+	}
+
+	/**
+	 * Minimum number of rows in a band which is processed by a single thread.  Each band blurs the rows inside
+	 * the region's radius above and below it again, so bands are at least as tall as the region.
+	 */
+	private static int minBandRows( int radius ) {
+		return Math.max(BoofConcurrency.MIN_BAND_ROWS,radius*2+1);
+	}
+
+	/**
+	 * Row buffers used by a single band of rows.  Arrays are grown as needed and only the ones for the image type
+	 * being processed are used.
+	 */
+	public static class BandWork {
+		// horizontally blurred rows inside the vertical window
+		public byte[] rowsU8 = new byte[0];
+		public float[] rowsF32 = new float[0];
+		// sum or weighted total of each column inside the vertical window
+		public int[] sumsS32 = new int[0];
+		public float[] sumsF32 = new float[0];
+		public double[] sumsF64 = new double[0];
+	}
+}
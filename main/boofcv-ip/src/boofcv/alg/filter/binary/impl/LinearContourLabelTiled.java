@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.binary.Contour;
+import boofcv.alg.filter.binary.ContourTracer;
+import boofcv.alg.filter.binary.LinearContourLabelChang2004;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link LinearContourLabelChang2004}.  The output is identical to the
+ * single threaded algorithm, including the label assigned to each blob and the order of contours.
+ * </p>
+ *
+ * <p>
+ * Labeling is done in horizontal bands of rows.  Each band is labeled independently using provisional labels.
+ * A provisional label is the index of the pixel which created it, so labels are unique across bands and
+ * the smallest label in a blob belongs to its first pixel in raster order.  Labels which touch across band
+ * boundaries are then merged using union-find and final labels are assigned in raster order of each blob's
+ * first pixel, which is the same order blobs are encountered in by the single threaded algorithm.
+ * </p>
+ *
+ * <p>
+ * Contours are then traced for each blob concurrently.  Tracing marks pixels, so each thread traces inside its
+ * own copy of the binary image.  The external contour is traced starting at the first pixel
+ * and gives the blob's bounding box.  Internal contours are found by applying the same rules as the single
+ * threaded algorithm to an image which contains only the blob, so that pixels marked while tracing one blob
+ * can't influence a different blob.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearContourLabelTiled {
+
+	/**
+	 * Minimum number of blobs whose contours are traced by a single thread
+	 */
+	public static int MIN_BLOBS = 16;
+
+	private ConnectRule rule;
+
+	// binary image with a border of zero.  Copied by each block of blobs to trace external contours
+	private GrayU8 border = new GrayU8(1,1);
+
+	// union-find parent of each provisional label.  After merging it stores the final label of each root
+	private GrowQueue_I32 parent = new GrowQueue_I32();
+
+	// first pixel in each band
+	private GrowQueue_I32 bandStarts = new GrowQueue_I32();
+	// provisional labels of blobs which start inside each band
+	private FastQueue<GrowQueue_I32> bandRoots = new FastQueue<>(GrowQueue_I32.class, true);
+
+	// index of the first pixel in each blob, ordered by label
+	private GrowQueue_I32 firstPixel = new GrowQueue_I32();
+
+	// storage for each block of blobs being traced
+	private FastQueue<Work> workspace;
+
+	/**
+	 * Configures the algorithm.
+	 *
+	 * @param rule Connectivity rule.  4 or 8
+	 */
+	public LinearContourLabelTiled( final ConnectRule rule ) {
+		if( rule != ConnectRule.FOUR && rule != ConnectRule.EIGHT )
+			throw new IllegalArgumentException("Connectivity rule must be 4 or 8 not "+rule);
+		this.rule = rule;
+		workspace = new FastQueue<Work>(Work.class,true) {
+			@Override
+			protected Work createInstance() {
+				return new Work(rule);
+			}
+		};
+	}
+
+	/**
+	 * Processes the binary image to find the contour of and label blobs.
+	 *
+	 * @param binary Input binary image. Not modified.
+	 * @param labeled Output. Labeled image.  Modified.
+	 * @param contours Output. Contour of each blob.  Modified.
+	 */
+	public void process( final GrayU8 binary , final GrayS32 labeled , final FastQueue<Contour> contours ) {
+		final int width = binary.width;
+		final int height = binary.height;
+
+		contours.reset();
+		firstPixel.reset();
+		if( width == 0 || height == 0 )
+			return;
+
+		// split the image into bands
+		int numBands = BoofConcurrency.numberOfBlocks(height,BoofConcurrency.MIN_BAND_ROWS);
+		bandStarts.resize(numBands+1);
+		for( int i = 0; i <= numBands; i++ ) {
+			bandStarts.data[i] = (int)(height*(long)i/numBands);
+		}
+		bandRoots.resize(numBands);
+		parent.resize(width*height);
+
+		if( border.width != width+2 || border.height != height+2)  {
+			border.reshape(width + 2, height + 2);
+			ImageMiscOps.fillBorder(border, 0, 1);
+		}
+
+		// label each band independently
+		BoofConcurrency.loopBlocks(0, numBands, 1, numBands > 1, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				for( int band = idx0; band < idx1; band++ ) {
+					labelBand(binary, labeled, bandStarts.data[band], bandStarts.data[band+1]);
+				}
+			}
+		});
+
+		// merge labels which touch along the top row of each band
+		for( int band = 1; band < numBands; band++ ) {
+			mergeSeam(labeled, bandStarts.data[band]);
+		}
+
+		// replace provisional labels with the root label and find where each blob starts
+		BoofConcurrency.loopBlocks(0, numBands, 1, numBands > 1, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				for( int band = idx0; band < idx1; band++ ) {
+					resolveBand(labeled, bandStarts.data[band], bandStarts.data[band+1], bandRoots.get(band));
+				}
+			}
+		});
+
+		// Bands are in order and roots inside a band are in raster order, so this is the order blobs were
+		// encountered in by the single threaded algorithm
+		for( int band = 0; band < numBands; band++ ) {
+			GrowQueue_I32 roots = bandRoots.get(band);
+			for( int i = 0; i < roots.size; i++ ) {
+				int root = roots.data[i];
+				firstPixel.add(root);
+				parent.data[root] = firstPixel.size;
+			}
+		}
+
+		BoofConcurrency.loopBlocks(0, numBands, 1, numBands > 1, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				for( int band = idx0; band < idx1; band++ ) {
+					relabelBand(labeled, bandStarts.data[band], bandStarts.data[band+1]);
+				}
+			}
+		});
+
+		// trace the contours of each blob
+		for( int i = 0; i < firstPixel.size; i++ ) {
+			Contour c = contours.grow();
+			c.reset();
+			c.id = contours.size;
+		}
+
+		BoofConcurrency.loopBlocks(0, firstPixel.size, MIN_BLOBS, workspace, new IntRangeObjectTask<Work>() {
+			@Override
+			public void process(Work work, int idx0, int idx1) {
+				work.storagePoints.reset();
+				work.storageLists.reset();
+				work.border.setTo(border);
+				for( int i = idx0; i < idx1; i++ ) {
+					traceBlob(work, labeled, contours.get(i));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Assigns provisional labels to rows y0 to y1-1 and copies the rows into the border image.  Only pixels
+	 * inside the band are considered.
+	 */
+	void labelBand( GrayU8 binary , GrayS32 labeled , int y0 , int y1 ) {
+		final int width = binary.width;
+		final boolean eight = rule == ConnectRule.EIGHT;
+		final int stride = labeled.stride;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = binary.startIndex + y*binary.stride;
+			int indexOut = labeled.startIndex + y*labeled.stride;
+			System.arraycopy(binary.data,indexIn,border.data,border.startIndex+(y+1)*border.stride+1,width);
+
+			for( int x = 0; x < width; x++ , indexIn++ , indexOut++ ) {
+				if( binary.data[indexIn] != 1 ) {
+					labeled.data[indexOut] = 0;
+					continue;
+				}
+
+				int label = 0;
+				if( x > 0 )
+					label = labeled.data[indexOut-1];
+				if( y > y0 ) {
+					label = connect(label, labeled.data[indexOut-stride]);
+					if( eight ) {
+						if( x > 0 )
+							label = connect(label, labeled.data[indexOut-stride-1]);
+						if( x < width-1 )
+							label = connect(label, labeled.data[indexOut-stride+1]);
+					}
+				}
+				if( label == 0 ) {
+					int id = y*width + x;
+					parent.data[id] = id;
+					label = id+1;
+				}
+				labeled.data[indexOut] = label;
+			}
+		}
+	}
+
+	/**
+	 * Merges the labels of pixels in row y with connected pixels in the row above it
+	 */
+	void mergeSeam( GrayS32 labeled , int y ) {
+		final int width = labeled.width;
+		final boolean eight = rule == ConnectRule.EIGHT;
+		final int stride = labeled.stride;
+
+		int index = labeled.startIndex + y*stride;
+		for( int x = 0; x < width; x++ , index++ ) {
+			int label = labeled.data[index];
+			if( label == 0 )
+				continue;
+			connect(label, labeled.data[index-stride]);
+			if( eight ) {
+				if( x > 0 )
+					connect(label, labeled.data[index-stride-1]);
+				if( x < width-1 )
+					connect(label, labeled.data[index-stride+1]);
+			}
+		}
+	}
+
+	/**
+	 * Replaces each label with its root label.  The parent array isn't modified so bands can be processed at
+	 * the same time.
+	 */
+	void resolveBand( GrayS32 labeled , int y0 , int y1 , GrowQueue_I32 roots ) {
+		final int width = labeled.width;
+		roots.reset();
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = labeled.startIndex + y*labeled.stride;
+			for( int x = 0; x < width; x++ , index++ ) {
+				int label = labeled.data[index];
+				if( label == 0 )
+					continue;
+				int root = find(label-1);
+				labeled.data[index] = root+1;
+				// the first pixel in a blob created the root label
+				if( root == y*width + x )
+					roots.add(root);
+			}
+		}
+	}
+
+	/**
+	 * Replaces root labels with the final label
+	 */
+	void relabelBand( GrayS32 labeled , int y0 , int y1 ) {
+		final int width = labeled.width;
+		for( int y = y0; y < y1; y++ ) {
+			int index = labeled.startIndex + y*labeled.stride;
+			for( int x = 0; x < width; x++ , index++ ) {
+				int label = labeled.data[index];
+				if( label != 0 )
+					labeled.data[index] = parent.data[label-1];
+			}
+		}
+	}
+
+	/**
+	 * Connects two labels.  Returns the label which should be assigned to the pixel
+	 */
+	private int connect( int label , int neighbor ) {
+		if( neighbor == 0 )
+			return label;
+		if( label == 0 )
+			return neighbor;
+		if( label != neighbor )
+			union(label-1, neighbor-1);
+		return label;
+	}
+
+	/**
+	 * Merges two sets.  The root is always the smallest label so that it belongs to the first pixel in a blob.
+	 */
+	private void union( int a , int b ) {
+		int rootA = findCompress(a);
+		int rootB = findCompress(b);
+		if( rootA < rootB )
+			parent.data[rootB] = rootA;
+		else if( rootB < rootA )
+			parent.data[rootA] = rootB;
+	}
+
+	private int find( int a ) {
+		while( parent.data[a] != a )
+			a = parent.data[a];
+		return a;
+	}
+
+	private int findCompress( int a ) {
+		int root = find(a);
+		while( parent.data[a] != root ) {
+			int next = parent.data[a];
+			parent.data[a] = root;
+			a = next;
+		}
+		return root;
+	}
+
+	/**
+	 * Traces the external and internal contours of a single blob
+	 */
+	void traceBlob( Work work , GrayS32 labeled , Contour contour ) {
+		final int width = labeled.width;
+		final int label = contour.id;
+		final int first = firstPixel.data[label-1];
+		final int firstX = first%width;
+		final int firstY = first/width;
+
+		// External contour. Marks left in the border image don't change the path of external contours
+		work.tracer.setInputs(work.border,labeled,work.storagePoints);
+		work.tracer.trace(label,firstX+1,firstY+1,true,contour.external);
+
+		int x0 = firstX, x1 = firstX, y1 = firstY;
+		for( int i = 0; i < contour.external.size(); i++ ) {
+			Point2D_I32 p = contour.external.get(i);
+			if( p.x < x0 ) x0 = p.x;
+			if( p.x > x1 ) x1 = p.x;
+			if( p.y > y1 ) y1 = p.y;
+		}
+		final int y0 = firstY;
+
+		// an isolated pixel or a blob which is one pixel wide or tall can't have internal contours
+		if( x1-x0 < 2 || y1-y0 < 2 )
+			return;
+
+		// image containing only this blob with a border of zeros
+		GrayU8 crop = work.crop;
+		crop.reshape(x1-x0+3, y1-y0+3);
+		work.cropLabels.reshape(crop.width-2, crop.height-2);
+		ImageMiscOps.fill(work.cropLabels, 0);
+		ImageMiscOps.fillBorder(crop, 0, 1);
+		for( int y = y0; y <= y1; y++ ) {
+			int indexLabel = labeled.startIndex + y*labeled.stride + x0;
+			int indexCrop = (y-y0+1)*crop.stride + 1;
+			for( int x = x0; x <= x1; x++ ) {
+				crop.data[indexCrop++] = (byte)(labeled.data[indexLabel++] == label ? 1 : 0);
+			}
+		}
+
+		// trace the external contour again so that the same pixels are marked as in the single threaded algorithm
+		work.scratchPoints.reset();
+		work.scratchContour.clear();
+		work.tracer.setInputs(crop, work.cropLabels, work.scratchPoints);
+		work.tracer.trace(label, firstX-x0+1, 1, true, work.scratchContour);
+
+		// Step 2 in the single threaded algorithm.  A blob pixel with an unmarked white pixel below it starts
+		// an internal contour
+		work.tracer.setInputs(crop, work.cropLabels, work.storagePoints);
+		for( int y = 1; y < crop.height-1; y++ ) {
+			int index = y*crop.stride + 1;
+			for( int x = 1; x < crop.width-1; x++ , index++ ) {
+				if( crop.data[index] != 1 || crop.data[index+crop.stride] != 0 )
+					continue;
+
+				List<Point2D_I32> inner = work.storageLists.grow();
+				inner.clear();
+				int start = work.storagePoints.size;
+				work.tracer.trace(label, x, y, false, inner);
+
+				// convert from crop to image coordinates
+				for( int i = start; i < work.storagePoints.size; i++ ) {
+					Point2D_I32 p = work.storagePoints.data[i];
+					p.x += x0;
+					p.y += y0;
+				}
+				contour.internal.add(inner);
+			}
+		}
+	}
+
+	static class Work {
+		ContourTracer tracer;
+		// copy of the binary image with a border.  Tracing marks pixels in it
+		GrayU8 border = new GrayU8(1,1);
+		FastQueue<Point2D_I32> storagePoints = new FastQueue<>(Point2D_I32.class, true);
+		FastQueue<List<Point2D_I32>> storageLists = new FastQueue<>((Class) ArrayList.class, true);
+
+		// image of a single blob and its labels
+		GrayU8 crop = new GrayU8(1,1);
+		GrayS32 cropLabels = new GrayS32(1,1);
+
+		// storage for the external contour when it's traced inside the crop
+		FastQueue<Point2D_I32> scratchPoints = new FastQueue<>(Point2D_I32.class, true);
+		List<Point2D_I32> scratchContour = new ArrayList<>();
+
+		Work( ConnectRule rule ) {
+			tracer = new ContourTracer(rule);
+		}
+	}
+}
@@ -18,9 +18,9 @@
 
 package boofcv.alg.filter.binary.impl;
 
-import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.misc.ImageStatistics;
-import boofcv.alg.misc.PixelMath;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 
@@ -50,14 +50,9 @@ public class ThresholdSauvola {
 	boolean down;
 
 	// storage for intermediate results
-	GrayF32 inputPow2 = new GrayF32(1,1); // I^2
 	GrayF32 inputMean = new GrayF32(1,1); // local mean of I
-	GrayF32 inputMeanPow2 = new GrayF32(1,1); // pow2 of local mean of I
-	GrayF32 inputPow2Mean = new GrayF32(1,1); // local mean of I^2
 	GrayF32 stdev = new GrayF32(1,1); // computed standard deviation
 
-	GrayF32 tmp = new GrayF32(1,1); // work space
-
 	/**
 	 * Configures the algorithm.
 	 * @param radius size of local radius.  Try 15
@@ -76,29 +71,125 @@ public class ThresholdSauvola {
 	 * @param input Input image.  Not modified.
 	 * @param output Output binary image.  Modified.
 	 */
-	public void process(GrayF32 input , GrayU8 output ) {
-		inputPow2.reshape(input.width,input.height);
+	public void process(final GrayF32 input , final GrayU8 output ) {
 		inputMean.reshape(input.width,input.height);
-		inputMeanPow2.reshape(input.width,input.height);
-		inputPow2Mean.reshape(input.width,input.height);
 		stdev.reshape(input.width,input.height);
-		tmp.reshape(input.width,input.height);
-		inputPow2.reshape(input.width,input.height);
 
-		// mean of input image = E[X]
-		BlurImageOps.mean(input, inputMean, radius, tmp);
+		// The local mean and standard deviation are found together using a rolling window of column sums.
+		// The threshold can't be applied at the same time since it depends on the maximum standard deviation
+		BoofConcurrency.loopBlocks(0, input.height, Math.max(BoofConcurrency.MIN_BAND_ROWS, radius*2+1),
+				BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				computeStatistics(input, y0, y1);
+			}
+		});
+
+		final float R = ImageStatistics.max(stdev);
+
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				applyThreshold(input, output, R, y0, y1);
+			}
+		});
+	}
+
+	/**
+	 * Computes the local mean, E[X], and standard deviation, sqrt( E[X^2] - E[X]^2 ), for rows y0 to y1-1
+	 */
+	void computeStatistics( GrayF32 input , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int windowRows = radius*2+1;
+
+		// horizontal means of I and I^2 for rows inside the vertical window
+		float[] rows = new float[windowRows*width];
+		float[] rowsPow2 = new float[windowRows*width];
+		double[] sums = new double[width];
+		double[] sumsPow2 = new double[width];
+
+		for( int y = Math.max(0,y0-radius); y <= Math.min(height-1,y0+radius); y++ ) {
+			int offset = (y%windowRows)*width;
+			horizontalMean(input, y, rows, rowsPow2, offset);
+			for( int x = 0; x < width; x++ ) {
+				sums[x] += rows[offset+x];
+				sumsPow2[x] += rowsPow2[offset+x];
+			}
+		}
 
-		// standard deviation = sqrt( E[X^2] + E[X]^2)
-		PixelMath.pow2(input, inputPow2);
-		BlurImageOps.mean(inputPow2,inputPow2Mean,radius,tmp);
-		PixelMath.pow2(inputMean,inputMeanPow2);
-		PixelMath.subtract(inputPow2Mean, inputMeanPow2, stdev);
-		PixelMath.sqrt(stdev, stdev);
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				int removed = y-radius-1;
+				if( removed >= 0 ) {
+					int offset = (removed%windowRows)*width;
+					for( int x = 0; x < width; x++ ) {
+						sums[x] -= rows[offset+x];
+						sumsPow2[x] -= rowsPow2[offset+x];
+					}
+				}
+				int added = y+radius;
+				if( added < height ) {
+					int offset = (added%windowRows)*width;
+					horizontalMean(input, added, rows, rowsPow2, offset);
+					for( int x = 0; x < width; x++ ) {
+						sums[x] += rows[offset+x];
+						sumsPow2[x] += rowsPow2[offset+x];
+					}
+				}
+			}
 
-		float R = ImageStatistics.max(stdev);
+			final double count = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+
+			int index = y*width;
+			for( int x = 0; x < width; x++ , index++ ) {
+				double mean = sums[x]/count;
+				double variance = sumsPow2[x]/count - mean*mean;
+				inputMean.data[index] = (float)mean;
+				stdev.data[index] = variance > 0 ? (float)Math.sqrt(variance) : 0;
+			}
+		}
+	}
+
+	/**
+	 * Computes the mean of I and I^2 along a row using running sums.  Only pixels inside the image are used.
+	 */
+	void horizontalMean( GrayF32 input , int y , float[] mean , float[] meanPow2 , int offset ) {
+		final int width = input.width;
+		final int start = input.startIndex + y*input.stride;
+
+		double total = 0, totalPow2 = 0;
+		int end = Math.min(width,radius+1);
+		for( int i = 0; i < end; i++ ) {
+			float v = input.data[start+i];
+			total += v;
+			totalPow2 += v*v;
+		}
+
+		for( int x = 0; x < width; x++ ) {
+			int lower = x-radius;
+			int upper = x+radius;
+			int count = Math.min(width-1,upper) - Math.max(0,lower) + 1;
+			mean[offset+x] = (float)(total/count);
+			meanPow2[offset+x] = (float)(totalPow2/count);
+
+			if( upper+1 < width ) {
+				float v = input.data[start+upper+1];
+				total += v;
+				totalPow2 += v*v;
+			}
+			if( lower >= 0 ) {
+				float v = input.data[start+lower];
+				total -= v;
+				totalPow2 -= v*v;
+			}
+		}
+	}
 
+	void applyThreshold( GrayF32 input , GrayU8 output , float R , int y0 , int y1 ) {
 		if( down ) {
-			for (int y = 0; y < input.height; y++) {
+			for (int y = y0; y < y1; y++) {
 				int i = y * stdev.width;
 				int indexIn = input.startIndex + y * input.stride;
 				int indexOut = output.startIndex + y * output.stride;
@@ -110,7 +201,7 @@ public class ThresholdSauvola {
 				}
 			}
 		} else {
-			for (int y = 0; y < input.height; y++) {
+			for (int y = y0; y < y1; y++) {
 				int i = y * stdev.width;
 				int indexIn = input.startIndex + y * input.stride;
 				int indexOut = output.startIndex + y * output.stride;
@@ -19,9 +19,7 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
-import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
-import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.blur.impl.*;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveNormalized;
 import boofcv.core.image.GeneralizedImageOps;
@@ -63,7 +61,9 @@ public class BlurImageOps {
 	}
 
 	/**
-	 * Applies a median filter.
+	 * Applies a median filter.  The algorithm is selected based on the radius.  A sorting network is used for
+	 * a radius of 1, a sliding histogram for small regions, and {@link ImplMedianConstantTime} for large regions
+	 * since its speed doesn't depend on the radius.
 	 *
 	 * @param input Input image.  Not modified.
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
@@ -76,12 +76,15 @@ public class BlurImageOps {
 
 		output = InputSanityCheck.checkDeclare(input,output);
 
-		int w = radius*2+1;
-		int offset[] = new int[ w*w ];
-		int histogram[] = new int[ 256 ];
-
-		ImplMedianHistogramInner.process(input, output, radius, offset, histogram);
-		ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+		if( radius >= 4 || input.width <= 2*radius || input.height <= 2*radius ) {
+			ImplMedianConstantTime.process(input, output, radius);
+		} else {
+			if( radius == 1 )
+				ImplMedianSortNetwork.process(input, output, radius);
+			else
+				ImplMedianHistogramInner.process(input, output, radius);
+			ImplMedianSortEdgeNaive.process(input, output, radius, null);
+		}
 
 		return output;
 	}
@@ -195,7 +198,8 @@ public class BlurImageOps {
 	}
 
 	/**
-	 * Applies a median filter.
+	 * Applies a median filter.  A sorting network is used for a radius of 1 or 2, otherwise
+	 * {@link ImplMedianOrderStatistic} is used.
 	 *
 	 * @param input Input image.  Not modified.
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
@@ -209,7 +213,12 @@ public class BlurImageOps {
 
 		output = InputSanityCheck.checkDeclare(input,output);
 
-		ImplMedianSortNaive.process(input,output,radius,null);
+		if( radius >= 3 || input.width <= 2*radius || input.height <= 2*radius ) {
+			ImplMedianOrderStatistic.process(input, output, radius);
+		} else {
+			ImplMedianSortNetwork.process(input, output, radius);
+			ImplMedianSortEdgeNaive.process(input, output, radius, null);
+		}
 
 		return output;
 	}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.GrayU8;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter for {@link GrayU8} images whose cost per pixel doesn't depend on the radius.  A histogram is
+ * maintained for each column which contains the pixels inside the region's rows.  Moving down one row only requires
+ * one pixel to be added and removed from each column histogram.  The region's histogram is then updated by adding
+ * and removing entire column histograms as it slides along a row.  To reduce the cost of adding histograms together
+ * two tiers of bins are used, 16 coarse bins and 256 fine bins.  The coarse bins are always kept up to date while
+ * the fine bins are only updated when the median lies inside their coarse bin. See [1] for more details.
+ * </p>
+ *
+ * <p>
+ * Pixels along the image border are handled by truncating the region to be inside the image.  The median of
+ * N values is the value at index N/2 of the sorted list, the same as {@link ImplMedianSortNaive}.
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are processed concurrently.
+ * </p>
+ *
+ * <p>
+ * [1] Perreault, S., and Hebert, P. "Median filtering in constant time." IEEE Transactions on
+ * Image Processing 16.9 (2007): 2389-2394.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianConstantTime {
+
+	/**
+	 * Applies a median image filter to the entire image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 */
+	public static void process( final GrayU8 input , final GrayU8 output , final int radius ) {
+		if( input.height == 0 )
+			return;
+
+		// each band needs to initialize its column histograms, so bands shouldn't be too small
+		BoofConcurrency.loopBlocks(0, input.height, Math.max(BoofConcurrency.MIN_BAND_ROWS, radius),
+				BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				processBand(input, output, radius, y0, y1);
+			}
+		});
+	}
+
+	/**
+	 * Applies the median filter to rows y0 to y1-1
+	 */
+	static void processBand( GrayU8 input , GrayU8 output , int radius , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+
+		// histogram of each column and the region
+		int colFine[] = new int[ width*256 ];
+		int colCoarse[] = new int[ width*16 ];
+		int fine[] = new int[ 256 ];
+		int coarse[] = new int[ 16 ];
+		// the x-coordinate of the region which the fine bins in each coarse bin have been updated to
+		int fineX[] = new int[ 16 ];
+
+		for( int row = Math.max(0, y0-radius); row <= Math.min(height-1, y0+radius); row++ ) {
+			updateColumns(input, row, 1, colFine, colCoarse);
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				if( y-radius-1 >= 0 )
+					updateColumns(input, y-radius-1, -1, colFine, colCoarse);
+				if( y+radius < height )
+					updateColumns(input, y+radius, 1, colFine, colCoarse);
+			}
+			int numRows = Math.min(height-1, y+radius) - Math.max(0, y-radius) + 1;
+
+			// initialize the coarse histogram for the first pixel in the row
+			Arrays.fill(coarse, 0);
+			Arrays.fill(fineX, -1);
+			int colEnd = Math.min(width-1, radius);
+			for( int col = 0; col <= colEnd; col++ ) {
+				addHistogram(colCoarse, col*16, coarse, 0, 16, 1);
+			}
+
+			int indexOut = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				int colMin = Math.max(0, x-radius);
+				int colMax = Math.min(width-1, x+radius);
+
+				// find the median using the coarse histogram and then the fine histogram
+				int target = numRows*(colMax-colMin+1)/2;
+				int total = 0;
+				int bin = 0;
+				while( total + coarse[bin] <= target ) {
+					total += coarse[bin++];
+				}
+				updateFine(colFine, fine, fineX, bin, x, radius, width);
+
+				int value = bin*16;
+				while( total + fine[value] <= target ) {
+					total += fine[value++];
+				}
+				output.data[indexOut++] = (byte)value;
+
+				// slide the region to the next pixel
+				if( x+radius+1 < width )
+					addHistogram(colCoarse, (x+radius+1)*16, coarse, 0, 16, 1);
+				if( x-radius >= 0 )
+					addHistogram(colCoarse, (x-radius)*16, coarse, 0, 16, -1);
+			}
+		}
+	}
+
+	/**
+	 * Updates the fine bins inside the specified coarse bin so that they match the region at x
+	 */
+	private static void updateFine( int colFine[] , int fine[] , int fineX[] , int bin ,
+									int x , int radius , int width ) {
+		int last = fineX[bin];
+		if( last == x )
+			return;
+
+		int offset = bin*16;
+		if( last < 0 || x-last > radius ) {
+			// faster to compute it from scratch
+			Arrays.fill(fine, offset, offset+16, 0);
+			int colMax = Math.min(width-1, x+radius);
+			for( int col = Math.max(0, x-radius); col <= colMax; col++ ) {
+				addHistogram(colFine, col*256+offset, fine, offset, 16, 1);
+			}
+		} else {
+			for( int s = last+1; s <= x; s++ ) {
+				if( s+radius < width )
+					addHistogram(colFine, (s+radius)*256+offset, fine, offset, 16, 1);
+				if( s-radius-1 >= 0 )
+					addHistogram(colFine, (s-radius-1)*256+offset, fine, offset, 16, -1);
+			}
+		}
+		fineX[bin] = x;
+	}
+
+	private static void addHistogram( int src[] , int srcOffset , int dst[] , int dstOffset , int length , int sign ) {
+		if( sign > 0 ) {
+			for( int i = 0; i < length; i++ ) {
+				dst[dstOffset+i] += src[srcOffset+i];
+			}
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				dst[dstOffset+i] -= src[srcOffset+i];
+			}
+		}
+	}
+
+	/**
+	 * Adds or removes the pixels in a row from the column histograms
+	 */
+	private static void updateColumns( GrayU8 input , int row , int delta , int colFine[] , int colCoarse[] ) {
+		int index = input.startIndex + row*input.stride;
+		for( int x = 0; x < input.width; x++ ) {
+			int value = input.data[index++] & 0xFF;
+			colFine[x*256 + value] += delta;
+			colCoarse[x*16 + (value >> 4)] += delta;
+		}
+	}
+}
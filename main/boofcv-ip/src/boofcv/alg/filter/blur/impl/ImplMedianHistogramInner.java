@@ -18,6 +18,8 @@
 
 package boofcv.alg.filter.blur.impl;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayU8;
 
 /**
@@ -35,6 +37,33 @@ import boofcv.struct.image.GrayU8;
  */
 public class ImplMedianHistogramInner {
 
+	/**
+	 * Applies a median image filter to the inner portion of the image.  If {@link BoofConcurrency#USE_CONCURRENT}
+	 * is true then bands of rows are processed concurrently, each with its own histogram.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 */
+	public static void process(final GrayU8 input, final GrayU8 output , final int radius ) {
+		if( input.height <= 2*radius )
+			return;
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(radius, input.height - radius, BoofConcurrency.MIN_BAND_ROWS,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					// the band's inner rows are y0 to y1-1 when the region above and below is included
+					GrayU8 bandIn = input.subimage(0, y0 - radius, input.width, y1 + radius, null);
+					GrayU8 bandOut = output.subimage(0, y0 - radius, output.width, y1 + radius, null);
+					ImplMedianHistogramInner.process(bandIn, bandOut, radius, null, null);
+				}
+			});
+		} else {
+			process(input, output, radius, null, null);
+		}
+	}
 
 	/**
 	 * Applies a median image filter.
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter for {@link GrayF32} images which uses a sliding window order-statistic structure.  Each band of
+ * rows is sorted once and every pixel is replaced by its rank.  The ranks inside the region are stored in a
+ * Fenwick tree, which allows a value to be added or removed and the k-th smallest value to be found in
+ * O(log N) time.  As the region slides along a row only the columns entering and leaving it are updated,
+ * so the cost per pixel is O(r log N) instead of the O(r<sup>2</sup>) of selecting from scratch.
+ * </p>
+ *
+ * <p>
+ * Pixels along the image border are handled by truncating the region to be inside the image.  The median of
+ * N values is the value at index N/2 of the sorted list, the same as {@link ImplMedianSortNaive}.
+ * </p>
+ *
+ * <p>
+ * Rows are processed in bands of at most {@link #MAX_BAND_ROWS} rows, or the region's height if larger,
+ * so the memory used is proportional to the band height and not the image height.  If
+ * {@link BoofConcurrency#USE_CONCURRENT} is true then blocks of bands are processed concurrently, each with its
+ * own {@link Workspace}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianOrderStatistic {
+
+	/**
+	 * Maximum number of rows which are sorted together, unless the region is taller.  Bounds the memory used by
+	 * each {@link Workspace}.
+	 */
+	public static int MAX_BAND_ROWS = 128;
+
+	/**
+	 * Applies a median image filter to the entire image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 */
+	public static void process( GrayF32 input , GrayF32 output , int radius ) {
+		process(input, output, radius, null);
+	}
+
+	/**
+	 * Applies a median image filter to the entire image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param workspace (Optional) Storage for each thread's workspace.  Can be null.
+	 */
+	public static void process( final GrayF32 input , final GrayF32 output , final int radius ,
+								FastQueue<Workspace> workspace ) {
+		if( input.height == 0 || input.width == 0 )
+			return;
+		if( workspace == null )
+			workspace = new FastQueue<>(Workspace.class,true);
+
+		// the rows in the region above and below each block are sorted again, so blocks shouldn't be too small
+		BoofConcurrency.loopBlocks(0, input.height, Math.max(BoofConcurrency.MIN_BAND_ROWS, radius*2+1),
+				BoofConcurrency.USE_CONCURRENT, workspace, new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace work, int y0, int y1) {
+				processBlock(input, output, radius, work, y0, y1);
+			}
+		});
+	}
+
+	/**
+	 * Applies the median filter to rows y0 to y1-1 by splitting them into bands of bounded height
+	 */
+	static void processBlock( GrayF32 input , GrayF32 output , int radius , Workspace work , int y0 , int y1 ) {
+		int bandRows = Math.max(MAX_BAND_ROWS, radius*2+1);
+		for( int y = y0; y < y1; y += bandRows ) {
+			processBand(input, output, radius, work, y, Math.min(y1, y+bandRows));
+		}
+	}
+
+	/**
+	 * Applies the median filter to rows y0 to y1-1
+	 */
+	static void processBand( GrayF32 input , GrayF32 output , int radius , Workspace work , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+
+		// rows which are inside the region for at least one pixel in the band
+		final int stripY0 = Math.max(0, y0-radius);
+		final int stripY1 = Math.min(height, y1+radius);
+		final int N = (stripY1-stripY0)*width;
+
+		work.resize(N);
+		final long keys[] = work.keys;
+		final int rank[] = work.rank;
+		final float sorted[] = work.sorted;
+		final int tree[] = work.tree;
+
+		// sort by value then by index so that every pixel has a unique rank
+		for( int y = stripY0, i = 0; y < stripY1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			for( int x = 0; x < width; x++ , i++ ) {
+				int bits = Float.floatToRawIntBits(input.data[indexIn++]);
+				// flip the bits of negative numbers so that they are sorted correctly as integers
+				bits ^= (bits >> 31) & 0x7FFFFFFF;
+				keys[i] = ((long)bits << 32) | i;
+			}
+		}
+		Arrays.sort(keys, 0, N);
+
+		for( int i = 0; i < N; i++ ) {
+			int index = (int)keys[i];
+			rank[index] = i;
+			sorted[i] = input.data[input.startIndex + (stripY0 + index/width)*input.stride + index%width];
+		}
+
+		// Fenwick tree with a count for each rank
+		Arrays.fill(tree, 0, N+1, 0);
+		int topBit = Integer.highestOneBit(N);
+
+		for( int y = y0; y < y1; y++ ) {
+			int rowMin = Math.max(0, y-radius) - stripY0;
+			int rowMax = Math.min(height-1, y+radius) - stripY0;
+			int numRows = rowMax-rowMin+1;
+
+			for( int x = 0; x <= Math.min(width-1, radius); x++ ) {
+				updateColumn(tree, N, rank, width, x, rowMin, rowMax, 1);
+			}
+
+			int indexOut = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				int numCols = Math.min(width-1, x+radius) - Math.max(0, x-radius) + 1;
+				int target = numRows*numCols/2;
+
+				output.data[indexOut++] = sorted[select(tree, N, topBit, target)];
+
+				if( x+radius+1 < width )
+					updateColumn(tree, N, rank, width, x+radius+1, rowMin, rowMax, 1);
+				if( x-radius >= 0 )
+					updateColumn(tree, N, rank, width, x-radius, rowMin, rowMax, -1);
+			}
+
+			// remove what's left so that the tree is empty for the next row
+			for( int x = Math.max(0, width-radius); x < width; x++ ) {
+				updateColumn(tree, N, rank, width, x, rowMin, rowMax, -1);
+			}
+		}
+	}
+
+	private static void updateColumn( int tree[] , int N , int rank[] , int width , int x ,
+									  int rowMin , int rowMax , int delta ) {
+		for( int row = rowMin; row <= rowMax; row++ ) {
+			for( int i = rank[row*width + x] + 1; i <= N; i += i & (-i) ) {
+				tree[i] += delta;
+			}
+		}
+	}
+
+	/**
+	 * Finds the rank of the k-th smallest value in the tree, where k starts from zero
+	 */
+	private static int select( int tree[] , int N , int topBit , int k ) {
+		int pos = 0;
+		int remaining = k+1;
+		for( int step = topBit; step > 0; step >>= 1 ) {
+			int next = pos + step;
+			if( next <= N && tree[next] < remaining ) {
+				pos = next;
+				remaining -= tree[next];
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * Storage for processing a band of rows.  Arrays are only grown, never shrunk.
+	 */
+	public static class Workspace {
+		// pixel values combined with their index, used for sorting
+		long keys[] = new long[0];
+		// rank of each pixel in the band
+		int rank[] = new int[0];
+		// pixel values in sorted order
+		float sorted[] = new float[0];
+		// Fenwick tree with a count for each rank
+		int tree[] = new int[1];
+
+		/**
+		 * Ensures there is enough storage for N pixels
+		 */
+		void resize( int N ) {
+			if( keys.length < N ) {
+				keys = new long[N];
+				rank = new int[N];
+				sorted = new float[N];
+				tree = new int[N+1];
+			}
+		}
+	}
+}
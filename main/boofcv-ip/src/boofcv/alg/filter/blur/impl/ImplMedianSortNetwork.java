@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Median filter for small regions which uses a sorting network.  The network is Batcher's odd-even merge sort
+ * with all the comparisons removed which can't change the value at the median's index, which leaves a selection
+ * network.  Only the inner portion of the image is processed and only a radius of 1 or 2 is supported.  For
+ * larger regions the number of comparisons grows too quickly.
+ * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are processed concurrently.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianSortNetwork {
+
+	// selection networks for a region of radius 1 and 2.  Each comparison is a pair of indexes
+	private static final int NETWORK_3x3[] = createMedianNetwork(9);
+	private static final int NETWORK_5x5[] = createMedianNetwork(25);
+
+	/**
+	 * Applies a median image filter to the inner portion of the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region. 1 or 2
+	 */
+	public static void process( final GrayU8 input , final GrayU8 output , final int radius ) {
+		final int network[] = selectNetwork(radius);
+		final int w = 2*radius+1;
+
+		BoofConcurrency.loopBlocks(radius, input.height-radius, BoofConcurrency.MIN_BAND_ROWS,
+				BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				int values[] = new int[w*w];
+
+				for( int y = y0; y < y1; y++ ) {
+					int indexOut = output.startIndex + y*output.stride + radius;
+					for( int x = radius; x < input.width-radius; x++ ) {
+						int index = 0;
+						for( int i = -radius; i <= radius; i++ ) {
+							int indexIn = input.startIndex + (y+i)*input.stride + x - radius;
+							for( int j = 0; j < w; j++ ) {
+								values[index++] = input.data[indexIn++] & 0xFF;
+							}
+						}
+
+						for( int i = 0; i < network.length; i += 2 ) {
+							int a = values[network[i]];
+							int b = values[network[i+1]];
+							values[network[i]] = Math.min(a,b);
+							values[network[i+1]] = Math.max(a,b);
+						}
+						output.data[indexOut++] = (byte)values[values.length/2];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Applies a median image filter to the inner portion of the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region. 1 or 2
+	 */
+	public static void process( final GrayF32 input , final GrayF32 output , final int radius ) {
+		final int network[] = selectNetwork(radius);
+		final int w = 2*radius+1;
+
+		BoofConcurrency.loopBlocks(radius, input.height-radius, BoofConcurrency.MIN_BAND_ROWS,
+				BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				float values[] = new float[w*w];
+
+				for( int y = y0; y < y1; y++ ) {
+					int indexOut = output.startIndex + y*output.stride + radius;
+					for( int x = radius; x < input.width-radius; x++ ) {
+						int index = 0;
+						for( int i = -radius; i <= radius; i++ ) {
+							int indexIn = input.startIndex + (y+i)*input.stride + x - radius;
+							for( int j = 0; j < w; j++ ) {
+								values[index++] = input.data[indexIn++];
+							}
+						}
+
+						for( int i = 0; i < network.length; i += 2 ) {
+							float a = values[network[i]];
+							float b = values[network[i+1]];
+							values[network[i]] = Math.min(a,b);
+							values[network[i+1]] = Math.max(a,b);
+						}
+						output.data[indexOut++] = values[values.length/2];
+					}
+				}
+			}
+		});
+	}
+
+	private static int[] selectNetwork( int radius ) {
+		if( radius == 1 )
+			return NETWORK_3x3;
+		else if( radius == 2 )
+			return NETWORK_5x5;
+		else
+			throw new IllegalArgumentException("Only a radius of 1 or 2 is supported");
+	}
+
+	/**
+	 * Creates a network which will place the median of N values at index N/2.  Comparisons are
+	 * pairs of indexes, where the smaller value is moved to the first index.
+	 *
+	 * @param N Number of values
+	 * @return Array of comparisons
+	 */
+	static int[] createMedianNetwork( int N ) {
+		// Batcher's odd-even merge sort for the smallest power of two that's at least N.  Values beyond
+		// N are treated as positive infinity so comparisons with them never swap and can be skipped
+		int size = 1;
+		while( size < N )
+			size *= 2;
+
+		GrowQueue_I32 pairs = new GrowQueue_I32();
+		for( int p = 1; p < size; p += p ) {
+			for( int k = p; k >= 1; k /= 2 ) {
+				for( int j = k % p; j <= size-1-k; j += 2*k ) {
+					for( int i = 0; i <= Math.min(k-1, size-j-k-1); i++ ) {
+						if( (i+j)/(p*2) == (i+j+k)/(p*2) && i+j+k < N ) {
+							pairs.add(i+j);
+							pairs.add(i+j+k);
+						}
+					}
+				}
+			}
+		}
+
+		// work backwards from the median and only keep comparisons which can influence it
+		boolean needed[] = new boolean[N];
+		needed[N/2] = true;
+		boolean keep[] = new boolean[pairs.size/2];
+		int total = 0;
+		for( int i = pairs.size/2-1; i >= 0; i-- ) {
+			int a = pairs.get(i*2), b = pairs.get(i*2+1);
+			if( needed[a] || needed[b] ) {
+				needed[a] = needed[b] = true;
+				keep[i] = true;
+				total++;
+			}
+		}
+
+		int network[] = new int[total*2];
+		int index = 0;
+		for( int i = 0; i < keep.length; i++ ) {
+			if( keep[i] ) {
+				network[index++] = pairs.get(i*2);
+				network[index++] = pairs.get(i*2+1);
+			}
+		}
+		return network;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * <p>
+ * Splits a convolution which does not process the image border into horizontal bands of rows that are convolved
+ * concurrently.  Each band is a sub-image of the input and output images.  For vertical and 2D kernels the input
+ * band is expanded by the kernel's radius so that the rows along each band's seam are computed using the same
+ * pixels as the single threaded version, making the output identical.  Since the bands are views no additional
+ * storage is needed and each band only writes to its own rows.
+ * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is false or the image is too small then the whole image
+ * is processed in the calling thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public abstract class ConvolveImageBands<In extends ImageBase, Out extends ImageBase> {
+
+	/**
+	 * Convolves the entire input image, or a band inside of it.
+	 *
+	 * @param input Input image or band.
+	 * @param output Output image or band.
+	 */
+	protected abstract void band( In input , Out output );
+
+	/**
+	 * Processes a horizontal kernel.  Each output row only depends on the same row in the input image.
+	 */
+	public void horizontal( In input , Out output ) {
+		split(input,output,0,0);
+	}
+
+	/**
+	 * Processes a vertical or 2D kernel.  Rows along the top and bottom border are not written to.
+	 */
+	public void vertical( KernelBase kernel , In input , Out output ) {
+		split(input,output,kernel.offset,kernel.width-kernel.offset-1);
+	}
+
+	/**
+	 * Processes a 2D kernel.  Rows along the top and bottom border are not written to.
+	 */
+	public void convolve( KernelBase kernel , In input , Out output ) {
+		split(input,output,kernel.offset,kernel.width-kernel.offset-1);
+	}
+
+	/**
+	 * Splits the rows which are written to into bands and expands each band by the number of rows the kernel
+	 * reads above and below.
+	 *
+	 * @param offsetL Number of rows above which are read
+	 * @param offsetR Number of rows below which are read
+	 */
+	private void split( final In input , final Out output , final int offsetL , final int offsetR ) {
+		int y0 = offsetL;
+		int y1 = input.height - offsetR;
+
+		if( !BoofConcurrency.USE_CONCURRENT || y1-y0 < 2*BoofConcurrency.MIN_BAND_ROWS ) {
+			band(input,output);
+			return;
+		}
+
+		BoofConcurrency.loopBlocks(y0,y1,BoofConcurrency.MIN_BAND_ROWS,new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				In subIn = (In)input.subimage(0,idx0-offsetL,input.width,idx1+offsetR,null);
+				Out subOut = (Out)output.subimage(0,idx0-offsetL,output.width,idx1+offsetR,null);
+				band(subIn,subOut);
+			}
+		});
+	}
+}
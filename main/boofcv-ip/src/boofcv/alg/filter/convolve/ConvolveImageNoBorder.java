@@ -46,439 +46,729 @@ import boofcv.struct.image.*;
 @SuppressWarnings({"ForLoopReplaceableByForEach"})
 public class ConvolveImageNoBorder {
 
-	public static void horizontal(Kernel1D_F32 kernel,
+	public static void horizontal(final Kernel1D_F32 kernel,
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F32_F32.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		new ConvolveImageBands<GrayF32,GrayF32>() {
+			@Override
+			protected void band(GrayF32 input, GrayF32 output) {
+				if (!ConvolveImageUnrolled_SB_F32_F32.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_F32 kernel,
+	public static void vertical(final Kernel1D_F32 kernel,
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F32_F32.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		new ConvolveImageBands<GrayF32,GrayF32>() {
+			@Override
+			protected void band(GrayF32 input, GrayF32 output) {
+				if (!ConvolveImageUnrolled_SB_F32_F32.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_F32 kernel,
+	public static void convolve(final Kernel2D_F32 kernel,
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F32_F32.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		new ConvolveImageBands<GrayF32,GrayF32>() {
+			@Override
+			protected void band(GrayF32 input, GrayF32 output) {
+				if (!ConvolveImageUnrolled_SB_F32_F32.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_F32 kernel,
+	public static void horizontal(final Kernel1D_F32 kernel,
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output);
+		new ConvolveImageBands<InterleavedF32,InterleavedF32>() {
+			@Override
+			protected void band(InterleavedF32 input, InterleavedF32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_F32 kernel,
+	public static void vertical(final Kernel1D_F32 kernel,
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output);
+		new ConvolveImageBands<InterleavedF32,InterleavedF32>() {
+			@Override
+			protected void band(InterleavedF32 input, InterleavedF32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_F32 kernel,
+	public static void convolve(final Kernel2D_F32 kernel,
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output);
+		new ConvolveImageBands<InterleavedF32,InterleavedF32>() {
+			@Override
+			protected void band(InterleavedF32 input, InterleavedF32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_F64 kernel,
+	public static void horizontal(final Kernel1D_F64 kernel,
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F64_F64.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		new ConvolveImageBands<GrayF64,GrayF64>() {
+			@Override
+			protected void band(GrayF64 input, GrayF64 output) {
+				if (!ConvolveImageUnrolled_SB_F64_F64.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_F64 kernel,
+	public static void vertical(final Kernel1D_F64 kernel,
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F64_F64.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		new ConvolveImageBands<GrayF64,GrayF64>() {
+			@Override
+			protected void band(GrayF64 input, GrayF64 output) {
+				if (!ConvolveImageUnrolled_SB_F64_F64.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_F64 kernel,
+	public static void convolve(final Kernel2D_F64 kernel,
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F64_F64.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		new ConvolveImageBands<GrayF64,GrayF64>() {
+			@Override
+			protected void band(GrayF64 input, GrayF64 output) {
+				if (!ConvolveImageUnrolled_SB_F64_F64.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_F64 kernel,
+	public static void horizontal(final Kernel1D_F64 kernel,
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output);
+		new ConvolveImageBands<InterleavedF64,InterleavedF64>() {
+			@Override
+			protected void band(InterleavedF64 input, InterleavedF64 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_F64 kernel,
+	public static void vertical(final Kernel1D_F64 kernel,
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output);
+		new ConvolveImageBands<InterleavedF64,InterleavedF64>() {
+			@Override
+			protected void band(InterleavedF64 input, InterleavedF64 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_F64 kernel,
+	public static void convolve(final Kernel2D_F64 kernel,
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output);
+		new ConvolveImageBands<InterleavedF64,InterleavedF64>() {
+			@Override
+			protected void band(InterleavedF64 input, InterleavedF64 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I16.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		new ConvolveImageBands<GrayU8,GrayI16>() {
+			@Override
+			protected void band(GrayU8 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I16.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I16.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		new ConvolveImageBands<GrayU8,GrayI16>() {
+			@Override
+			protected void band(GrayU8 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I16.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I16.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		new ConvolveImageBands<GrayU8,GrayI16>() {
+			@Override
+			protected void band(GrayU8 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I16.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output);
+		new ConvolveImageBands<InterleavedU8,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output);
+		new ConvolveImageBands<InterleavedU8,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output);
+		new ConvolveImageBands<InterleavedU8,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-//		if (!ConvolveImageUnrolled_U8_S32.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		new ConvolveImageBands<GrayU8,GrayS32>() {
+			@Override
+			protected void band(GrayU8 input, GrayS32 output) {
+//				if (!ConvolveImageUnrolled_U8_S32.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-//		if (!ConvolveImageUnrolled_U8_S32.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		new ConvolveImageBands<GrayU8,GrayS32>() {
+			@Override
+			protected void band(GrayU8 input, GrayS32 output) {
+//				if (!ConvolveImageUnrolled_U8_S32.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-//		if (!ConvolveImageUnrolled_U8_S32.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		new ConvolveImageBands<GrayU8,GrayS32>() {
+			@Override
+			protected void band(GrayU8 input, GrayS32 output) {
+//				if (!ConvolveImageUnrolled_U8_S32.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output);
+		new ConvolveImageBands<InterleavedU8,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output);
+		new ConvolveImageBands<InterleavedU8,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output);
+		new ConvolveImageBands<InterleavedU8,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  GrayU16 input, GrayI8 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayU16 input, GrayI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-//		if (!ConvolveImageUnrolled_U16_I8_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayU16,GrayI8>() {
+			@Override
+			protected void band(GrayU16 input, GrayI8 output) {
+//				if (!ConvolveImageUnrolled_U16_I8_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  InterleavedU16 input, InterleavedI8 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedU16 input, InterleavedI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedU16,InterleavedI8>() {
+			@Override
+			protected void band(InterleavedU16 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		new ConvolveImageBands<GrayS16,GrayI16>() {
+			@Override
+			protected void band(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		new ConvolveImageBands<GrayS16,GrayI16>() {
+			@Override
+			protected void band(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		new ConvolveImageBands<GrayS16,GrayI16>() {
+			@Override
+			protected void band(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output);
+		new ConvolveImageBands<InterleavedS16,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output);
+		new ConvolveImageBands<InterleavedS16,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output);
+		new ConvolveImageBands<InterleavedS16,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
-								  GrayU8 input, GrayI8 output, int divisor) {
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayU8,GrayI8>() {
+			@Override
+			protected void band(GrayU8 input, GrayI8 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  GrayU8 input, GrayI8 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayU8,GrayI8>() {
+			@Override
+			protected void band(GrayU8 input, GrayI8 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
-								  GrayU8 input, GrayI8 output, int divisor) {
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayU8 input, GrayI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I8_Div.convolve(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayU8,GrayI8>() {
+			@Override
+			protected void band(GrayU8 input, GrayI8 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I8_Div.convolve(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
-								  InterleavedU8 input, InterleavedI8 output, int divisor) {
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedU8,InterleavedI8>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  InterleavedU8 input, InterleavedI8 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedU8,InterleavedI8>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
-								  InterleavedU8 input, InterleavedI8 output, int divisor) {
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedU8 input, InterleavedI8 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedU8,InterleavedI8>() {
+			@Override
+			protected void band(InterleavedU8 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
-								  GrayS16 input, GrayI16 output, int divisor) {
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayS16 input, GrayI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16_Div.horizontal(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayS16,GrayI16>() {
+			@Override
+			protected void band(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  GrayS16 input, GrayI16 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS16 input, GrayI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayS16,GrayI16>() {
+			@Override
+			protected void band(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
-								  GrayS16 input, GrayI16 output, int divisor) {
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayS16 input, GrayI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16_Div.convolve(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayS16,GrayI16>() {
+			@Override
+			protected void band(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16_Div.convolve(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
-								  InterleavedS16 input, InterleavedI16 output, int divisor) {
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedS16,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  InterleavedS16 input, InterleavedI16 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedS16,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
-								  InterleavedS16 input, InterleavedI16 output, int divisor) {
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedS16,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  GrayS32 input, GrayI16 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-//		if (!ConvolveImageUnrolled_S32_I16_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayS32,GrayI16>() {
+			@Override
+			protected void band(GrayS32 input, GrayI16 output) {
+//				if (!ConvolveImageUnrolled_S32_I16_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  InterleavedS32 input, InterleavedI16 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedI16 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedS32,InterleavedI16>() {
+			@Override
+			protected void band(InterleavedS32 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		new ConvolveImageBands<GrayS32,GrayS32>() {
+			@Override
+			protected void band(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		new ConvolveImageBands<GrayS32,GrayS32>() {
+			@Override
+			protected void band(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		new ConvolveImageBands<GrayS32,GrayS32>() {
+			@Override
+			protected void band(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
+	public static void horizontal(final Kernel1D_S32 kernel,
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output);
+		new ConvolveImageBands<InterleavedS32,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
+	public static void vertical(final Kernel1D_S32 kernel,
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output);
+		new ConvolveImageBands<InterleavedS32,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
+	public static void convolve(final Kernel2D_S32 kernel,
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output);
+		new ConvolveImageBands<InterleavedS32,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
-								  GrayS32 input, GrayS32 output, int divisor) {
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayS32 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32_Div.horizontal(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayS32,GrayS32>() {
+			@Override
+			protected void band(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  GrayS32 input, GrayS32 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayS32 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayS32,GrayS32>() {
+			@Override
+			protected void band(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
-								  GrayS32 input, GrayS32 output, int divisor) {
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayS32 input, GrayS32 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32_Div.convolve(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		new ConvolveImageBands<GrayS32,GrayS32>() {
+			@Override
+			protected void band(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32_Div.convolve(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+			}
+		}.convolve(kernel, input, output);
 	}
 
-	public static void horizontal(Kernel1D_S32 kernel,
-								  InterleavedS32 input, InterleavedS32 output, int divisor) {
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedS32,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+			}
+		}.horizontal(input, output);
 	}
 
-	public static void vertical(Kernel1D_S32 kernel,
-								  InterleavedS32 input, InterleavedS32 output, int divisor) {
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedS32,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		}.vertical(kernel, input, output);
 	}
 
-	public static void convolve(Kernel2D_S32 kernel,
-								  InterleavedS32 input, InterleavedS32 output, int divisor) {
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output, final int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+		new ConvolveImageBands<InterleavedS32,InterleavedS32>() {
+			@Override
+			protected void band(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+			}
+		}.convolve(kernel, input, output);
 	}
 
 }
@@ -18,6 +18,8 @@
 
 package boofcv.alg.filter.misc;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 
 /**
@@ -37,6 +39,7 @@ import boofcv.struct.image.*;
  * @author Peter Abeles
  */
 public class AverageDownSampleOps {
+
 	/**
 	 * Computes the length of a down sampled image based on the original length and the square width
 	 * @param length Length of side in input image
@@ -78,13 +81,32 @@ public class AverageDownSampleOps {
 	}
 
 	/**
-	 * Down samples image.  Type checking is done at runtime.
+	 * Down samples image.  Type checking is done at runtime.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+	 * then bands of output rows are computed concurrently.  Each band only reads the input rows inside its
+	 * square regions, so the output is identical.
 	 *
 	 * @param input Input image. Not modified.
 	 * @param sampleWidth Width of square region.
 	 * @param output Output image. Modified.
 	 */
-	public static void down(ImageGray input , int sampleWidth , ImageGray output ) {
+	public static void down(final ImageGray input , final int sampleWidth , final ImageGray output ) {
+		if( !BoofConcurrency.USE_CONCURRENT ) {
+			downBand(input, sampleWidth, output);
+			return;
+		}
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.MIN_BAND_ROWS,new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				int inputY1 = Math.min(input.height,y1*sampleWidth);
+				ImageGray subIn = (ImageGray)input.subimage(0,y0*sampleWidth,input.width,inputY1,null);
+				ImageGray subOut = (ImageGray)output.subimage(0,y0,output.width,y1,null);
+				downBand(subIn, sampleWidth, subOut);
+			}
+		});
+	}
+
+	private static void downBand(ImageGray input , int sampleWidth , ImageGray output ) {
 		if( sampleWidth == 2 ) {
 			if( input instanceof GrayU8) {
 				ImplAverageDownSample2.down((GrayU8) input, (GrayI8) output);
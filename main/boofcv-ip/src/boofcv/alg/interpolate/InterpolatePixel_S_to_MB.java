@@ -18,17 +18,21 @@
 
 package boofcv.alg.interpolate;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 
 /**
  * Wrapper that allows a {@link InterpolatePixelS} to be used as a {@link InterpolatePixelMB},
- * input image has to be {@link ImageGray}.
+ * input image has to be {@link ImageGray}.  Can only be copied if the wrapped interpolation implements
+ * {@link ConcurrentCopy}.
  *
  * @author Peter Abeles
  */
-public class InterpolatePixel_S_to_MB<T extends ImageGray<T>> implements InterpolatePixelMB<T>
+public class InterpolatePixel_S_to_MB<T extends ImageGray<T>> implements InterpolatePixelMB<T>,
+		ConcurrentCopy<InterpolatePixelMB<T>>
 {
 	InterpolatePixelS<T> interp;
 
@@ -85,4 +89,9 @@ public class InterpolatePixel_S_to_MB<T extends ImageGray<T>> implements Interpo
 	public ImageType<T> getImageType() {
 		return interp.getImageType();
 	}
+
+	@Override
+	public InterpolatePixelMB<T> copy() {
+		return new InterpolatePixel_S_to_MB<>(BoofConcurrency.copy(interp));
+	}
 }
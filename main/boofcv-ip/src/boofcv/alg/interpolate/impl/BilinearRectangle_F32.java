@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolateRectangle;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayF32;
 
 
@@ -34,7 +35,7 @@ import boofcv.struct.image.GrayF32;
  *
  * @author Peter Abeles
  */
-public class BilinearRectangle_F32 implements InterpolateRectangle<GrayF32> {
+public class BilinearRectangle_F32 implements InterpolateRectangle<GrayF32>, ConcurrentCopy<InterpolateRectangle<GrayF32>> {
 
 	private GrayF32 orig;
 
@@ -60,6 +61,14 @@ public class BilinearRectangle_F32 implements InterpolateRectangle<GrayF32> {
 		return orig;
 	}
 
+	@Override
+	public InterpolateRectangle<GrayF32> copy() {
+		BilinearRectangle_F32 out = new BilinearRectangle_F32();
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public void region(float tl_x, float tl_y, GrayF32 output ) {
 		if( tl_x < 0 || tl_y < 0 || tl_x + output.width > orig.width || tl_y + output.height > orig.height ) {
@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolateRectangle;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 
@@ -35,7 +36,7 @@ import boofcv.struct.image.GrayS16;
  *
  * @author Peter Abeles
  */
-public class BilinearRectangle_S16 implements InterpolateRectangle<GrayS16> {
+public class BilinearRectangle_S16 implements InterpolateRectangle<GrayS16>, ConcurrentCopy<InterpolateRectangle<GrayS16>> {
 
 	private GrayS16 orig;
 
@@ -61,6 +62,14 @@ public class BilinearRectangle_S16 implements InterpolateRectangle<GrayS16> {
 		return orig;
 	}
 
+	@Override
+	public InterpolateRectangle<GrayS16> copy() {
+		BilinearRectangle_S16 out = new BilinearRectangle_S16();
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public void region(float tl_x, float tl_y, GrayF32 output ) {
 		if( tl_x < 0 || tl_y < 0 || tl_x + output.width > orig.width || tl_y + output.height > orig.height ) {
@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolateRectangle;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 
@@ -35,7 +36,7 @@ import boofcv.struct.image.GrayU8;
  *
  * @author Peter Abeles
  */
-public class BilinearRectangle_U8 implements InterpolateRectangle<GrayU8> {
+public class BilinearRectangle_U8 implements InterpolateRectangle<GrayU8>, ConcurrentCopy<InterpolateRectangle<GrayU8>> {
 
 	private GrayU8 orig;
 
@@ -61,6 +62,14 @@ public class BilinearRectangle_U8 implements InterpolateRectangle<GrayU8> {
 		return orig;
 	}
 
+	@Override
+	public InterpolateRectangle<GrayU8> copy() {
+		BilinearRectangle_U8 out = new BilinearRectangle_U8();
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public void region(float tl_x, float tl_y, GrayF32 output ) {
 		if( tl_x < 0 || tl_y < 0 || tl_x + output.width > orig.width || tl_y + output.height > orig.height ) {
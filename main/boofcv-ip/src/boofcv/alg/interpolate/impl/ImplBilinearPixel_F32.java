@@ -19,6 +19,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_F32 extends BilinearPixelS<GrayF32> {
+public class ImplBilinearPixel_F32 extends BilinearPixelS<GrayF32> implements ConcurrentCopy<InterpolatePixelS<GrayF32>> {
 
 	public ImplBilinearPixel_F32() {
 	}
@@ -89,6 +92,16 @@ public class ImplBilinearPixel_F32 extends BilinearPixelS<GrayF32> {
 		return get_fast(x,y);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayF32> copy() {
+		BilinearPixelS<GrayF32> out = new ImplBilinearPixel_F32();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayF32> getImageType() {
 		return ImageType.single(GrayF32.class);
@@ -19,6 +19,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_F64;
 import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_F64 extends BilinearPixelS<GrayF64> {
+public class ImplBilinearPixel_F64 extends BilinearPixelS<GrayF64> implements ConcurrentCopy<InterpolatePixelS<GrayF64>> {
 
 	public ImplBilinearPixel_F64() {
 	}
@@ -89,6 +92,16 @@ public class ImplBilinearPixel_F64 extends BilinearPixelS<GrayF64> {
 		return get_fast(x,y);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayF64> copy() {
+		BilinearPixelS<GrayF64> out = new ImplBilinearPixel_F64();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayF64> getImageType() {
 		return ImageType.single(GrayF64.class);
@@ -18,6 +18,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelMB;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_F32;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.InterleavedF32;
@@ -34,7 +37,7 @@ import boofcv.struct.image.InterleavedF32;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_IL_F32 extends BilinearPixelMB<InterleavedF32> {
+public class ImplBilinearPixel_IL_F32 extends BilinearPixelMB<InterleavedF32> implements ConcurrentCopy<InterpolatePixelMB<InterleavedF32>> {
 	float temp0[];
 	float temp1[];
 	float temp2[];
@@ -122,6 +125,16 @@ public class ImplBilinearPixel_IL_F32 extends BilinearPixelMB<InterleavedF32> {
 			get_fast(x, y, values);
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedF32> copy() {
+		BilinearPixelMB<InterleavedF32> out = new ImplBilinearPixel_IL_F32(temp0.length);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<InterleavedF32> getImageType() {
 		return orig.getImageType();
@@ -18,6 +18,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelMB;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_F64;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.InterleavedF64;
@@ -34,7 +37,7 @@ import boofcv.struct.image.InterleavedF64;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_IL_F64 extends BilinearPixelMB<InterleavedF64> {
+public class ImplBilinearPixel_IL_F64 extends BilinearPixelMB<InterleavedF64> implements ConcurrentCopy<InterpolatePixelMB<InterleavedF64>> {
 	double temp0[];
 	double temp1[];
 	double temp2[];
@@ -122,6 +125,16 @@ public class ImplBilinearPixel_IL_F64 extends BilinearPixelMB<InterleavedF64> {
 			get_fast(x, y, values);
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedF64> copy() {
+		BilinearPixelMB<InterleavedF64> out = new ImplBilinearPixel_IL_F64(temp0.length);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<InterleavedF64> getImageType() {
 		return orig.getImageType();
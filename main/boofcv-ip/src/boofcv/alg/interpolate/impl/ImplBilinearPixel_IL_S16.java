@@ -18,6 +18,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelMB;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.InterleavedS16;
@@ -34,7 +37,7 @@ import boofcv.struct.image.InterleavedS16;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_IL_S16 extends BilinearPixelMB<InterleavedS16> {
+public class ImplBilinearPixel_IL_S16 extends BilinearPixelMB<InterleavedS16> implements ConcurrentCopy<InterpolatePixelMB<InterleavedS16>> {
 	int temp0[];
 	int temp1[];
 	int temp2[];
@@ -122,6 +125,16 @@ public class ImplBilinearPixel_IL_S16 extends BilinearPixelMB<InterleavedS16> {
 			get_fast(x, y, values);
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedS16> copy() {
+		BilinearPixelMB<InterleavedS16> out = new ImplBilinearPixel_IL_S16(temp0.length);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<InterleavedS16> getImageType() {
 		return orig.getImageType();
@@ -18,6 +18,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelMB;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.InterleavedS32;
@@ -34,7 +37,7 @@ import boofcv.struct.image.InterleavedS32;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_IL_S32 extends BilinearPixelMB<InterleavedS32> {
+public class ImplBilinearPixel_IL_S32 extends BilinearPixelMB<InterleavedS32> implements ConcurrentCopy<InterpolatePixelMB<InterleavedS32>> {
 	int temp0[];
 	int temp1[];
 	int temp2[];
@@ -122,6 +125,16 @@ public class ImplBilinearPixel_IL_S32 extends BilinearPixelMB<InterleavedS32> {
 			get_fast(x, y, values);
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedS32> copy() {
+		BilinearPixelMB<InterleavedS32> out = new ImplBilinearPixel_IL_S32(temp0.length);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<InterleavedS32> getImageType() {
 		return orig.getImageType();
@@ -18,6 +18,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelMB;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.InterleavedU8;
@@ -34,7 +37,7 @@ import boofcv.struct.image.InterleavedU8;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_IL_U8 extends BilinearPixelMB<InterleavedU8> {
+public class ImplBilinearPixel_IL_U8 extends BilinearPixelMB<InterleavedU8> implements ConcurrentCopy<InterpolatePixelMB<InterleavedU8>> {
 	int temp0[];
 	int temp1[];
 	int temp2[];
@@ -122,6 +125,16 @@ public class ImplBilinearPixel_IL_U8 extends BilinearPixelMB<InterleavedU8> {
 			get_fast(x, y, values);
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedU8> copy() {
+		BilinearPixelMB<InterleavedU8> out = new ImplBilinearPixel_IL_U8(temp0.length);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<InterleavedU8> getImageType() {
 		return orig.getImageType();
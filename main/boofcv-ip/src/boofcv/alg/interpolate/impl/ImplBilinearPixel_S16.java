@@ -19,6 +19,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_S16 extends BilinearPixelS<GrayS16> {
+public class ImplBilinearPixel_S16 extends BilinearPixelS<GrayS16> implements ConcurrentCopy<InterpolatePixelS<GrayS16>> {
 
 	public ImplBilinearPixel_S16() {
 	}
@@ -89,6 +92,16 @@ public class ImplBilinearPixel_S16 extends BilinearPixelS<GrayS16> {
 		return get_fast(x,y);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayS16> copy() {
+		BilinearPixelS<GrayS16> out = new ImplBilinearPixel_S16();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayS16> getImageType() {
 		return ImageType.single(GrayS16.class);
@@ -19,6 +19,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_S32 extends BilinearPixelS<GrayS32> {
+public class ImplBilinearPixel_S32 extends BilinearPixelS<GrayS32> implements ConcurrentCopy<InterpolatePixelS<GrayS32>> {
 
 	public ImplBilinearPixel_S32() {
 	}
@@ -89,6 +92,16 @@ public class ImplBilinearPixel_S32 extends BilinearPixelS<GrayS32> {
 		return get_fast(x,y);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayS32> copy() {
+		BilinearPixelS<GrayS32> out = new ImplBilinearPixel_S32();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayS32> getImageType() {
 		return ImageType.single(GrayS32.class);
@@ -19,6 +19,9 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplBilinearPixel_U8 extends BilinearPixelS<GrayU8> {
+public class ImplBilinearPixel_U8 extends BilinearPixelS<GrayU8> implements ConcurrentCopy<InterpolatePixelS<GrayU8>> {
 
 	public ImplBilinearPixel_U8() {
 	}
@@ -89,6 +92,16 @@ public class ImplBilinearPixel_U8 extends BilinearPixelS<GrayU8> {
 		return get_fast(x,y);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayU8> copy() {
+		BilinearPixelS<GrayU8> out = new ImplBilinearPixel_U8();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayU8> getImageType() {
 		return ImageType.single(GrayU8.class);
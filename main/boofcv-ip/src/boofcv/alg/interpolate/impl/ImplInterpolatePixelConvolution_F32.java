@@ -18,6 +18,8 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.struct.convolve.KernelContinuous1D_F32;
@@ -37,7 +39,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplInterpolatePixelConvolution_F32 implements InterpolatePixelS<GrayF32>  {
+public class ImplInterpolatePixelConvolution_F32 implements InterpolatePixelS<GrayF32>, ConcurrentCopy<InterpolatePixelS<GrayF32>> {
 
 	// used to read outside the image border
 	private ImageBorder_F32 border;
@@ -205,6 +207,17 @@ public class ImplInterpolatePixelConvolution_F32 implements InterpolatePixelS<Gr
 	public ImageBorder<GrayF32> getBorder() {
 		return border;
 	}
+
+	@Override
+	public InterpolatePixelS<GrayF32> copy() {
+		ImplInterpolatePixelConvolution_F32 out = new ImplInterpolatePixelConvolution_F32(kernel,min,max);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( image != null )
+			out.setImage(image);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayF32> getImageType() {
 		return ImageType.single(GrayF32.class);
@@ -18,6 +18,8 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.convolve.KernelContinuous1D_F32;
@@ -37,7 +39,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplInterpolatePixelConvolution_S16 implements InterpolatePixelS<GrayS16>  {
+public class ImplInterpolatePixelConvolution_S16 implements InterpolatePixelS<GrayS16>, ConcurrentCopy<InterpolatePixelS<GrayS16>> {
 
 	// used to read outside the image border
 	private ImageBorder_S32 border;
@@ -205,6 +207,17 @@ public class ImplInterpolatePixelConvolution_S16 implements InterpolatePixelS<Gr
 	public ImageBorder<GrayS16> getBorder() {
 		return border;
 	}
+
+	@Override
+	public InterpolatePixelS<GrayS16> copy() {
+		ImplInterpolatePixelConvolution_S16 out = new ImplInterpolatePixelConvolution_S16(kernel,min,max);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( image != null )
+			out.setImage(image);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayS16> getImageType() {
 		return ImageType.single(GrayS16.class);
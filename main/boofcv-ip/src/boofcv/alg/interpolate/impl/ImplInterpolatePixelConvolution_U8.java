@@ -18,6 +18,8 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.convolve.KernelContinuous1D_F32;
@@ -37,7 +39,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixelS<GrayU8>  {
+public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixelS<GrayU8>, ConcurrentCopy<InterpolatePixelS<GrayU8>> {
 
 	// used to read outside the image border
 	private ImageBorder_S32 border;
@@ -205,6 +207,17 @@ public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixelS<Gra
 	public ImageBorder<GrayU8> getBorder() {
 		return border;
 	}
+
+	@Override
+	public InterpolatePixelS<GrayU8> copy() {
+		ImplInterpolatePixelConvolution_U8 out = new ImplInterpolatePixelConvolution_U8(kernel,min,max);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( image != null )
+			out.setImage(image);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayU8> getImageType() {
 		return ImageType.single(GrayU8.class);
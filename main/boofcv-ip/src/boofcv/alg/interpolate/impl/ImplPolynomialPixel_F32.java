@@ -17,7 +17,10 @@
  */
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.PolynomialPixel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
@@ -32,7 +35,7 @@ import boofcv.struct.image.ImageType;
  * 
  * @author Peter Abeles
  */
-public class ImplPolynomialPixel_F32 extends PolynomialPixel<GrayF32> {
+public class ImplPolynomialPixel_F32 extends PolynomialPixel<GrayF32> implements ConcurrentCopy<InterpolatePixelS<GrayF32>> {
 
 	public ImplPolynomialPixel_F32(int maxDegree, float min, float max) {
 		super(maxDegree, min, max);
@@ -139,6 +142,16 @@ public class ImplPolynomialPixel_F32 extends PolynomialPixel<GrayF32> {
 		}
 		return ret;
 	}
+	@Override
+	public InterpolatePixelS<GrayF32> copy() {
+		ImplPolynomialPixel_F32 out = new ImplPolynomialPixel_F32(M,min,max);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( image != null )
+			out.setImage(image);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayF32> getImageType() {
 		return ImageType.single(GrayF32.class);
@@ -18,7 +18,10 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.PolynomialPixel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayI;
 import boofcv.struct.image.ImageType;
@@ -33,7 +36,7 @@ import boofcv.struct.image.ImageType;
  * 
  * @author Peter Abeles
  */
-public class ImplPolynomialPixel_I<T extends GrayI<T>> extends PolynomialPixel<T> {
+public class ImplPolynomialPixel_I<T extends GrayI<T>> extends PolynomialPixel<T> implements ConcurrentCopy<InterpolatePixelS<T>> {
 
 	public ImplPolynomialPixel_I(int maxDegree, float min, float max) {
 		super(maxDegree, min, max);
@@ -140,6 +143,16 @@ public class ImplPolynomialPixel_I<T extends GrayI<T>> extends PolynomialPixel<T
 		}
 		return ret;
 	}
+	@Override
+	public InterpolatePixelS<T> copy() {
+		ImplPolynomialPixel_I<T> out = new ImplPolynomialPixel_I<>(M,min,max);
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( image != null )
+			out.setImage(image);
+		return out;
+	}
+
 	@Override
 	public ImageType<T> getImageType() {
 		return ImageType.<T>single((Class)GrayI.class);
@@ -18,7 +18,10 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_F32 extends NearestNeighborPixelS<GrayF32> {
+public class NearestNeighborPixel_F32 extends NearestNeighborPixelS<GrayF32> implements ConcurrentCopy<InterpolatePixelS<GrayF32>> {
 
 	private float data[];
 	public NearestNeighborPixel_F32() {
@@ -70,6 +73,16 @@ public class NearestNeighborPixel_F32 extends NearestNeighborPixelS<GrayF32> {
 		return data[ orig.startIndex + yy*stride + xx];
 	}
 
+	@Override
+	public InterpolatePixelS<GrayF32> copy() {
+		NearestNeighborPixelS<GrayF32> out = new NearestNeighborPixel_F32();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayF32> getImageType() {
 		return ImageType.single(GrayF32.class);
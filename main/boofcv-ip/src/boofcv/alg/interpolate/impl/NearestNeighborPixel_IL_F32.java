@@ -18,7 +18,10 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_F32;
 import boofcv.struct.image.InterleavedF32;
 
@@ -34,7 +37,7 @@ import boofcv.struct.image.InterleavedF32;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_IL_F32 extends NearestNeighborPixelMB<InterleavedF32> {
+public class NearestNeighborPixel_IL_F32 extends NearestNeighborPixelMB<InterleavedF32> implements ConcurrentCopy<InterpolatePixelMB<InterleavedF32>> {
 
 	public NearestNeighborPixel_IL_F32() {
 	}
@@ -61,4 +64,13 @@ public class NearestNeighborPixel_IL_F32 extends NearestNeighborPixelMB<Interlea
 		orig.unsafe_get(xx,yy,values);
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedF32> copy() {
+		NearestNeighborPixelMB<InterleavedF32> out = new NearestNeighborPixel_IL_F32();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
 }
@@ -17,7 +17,10 @@
  */
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.InterleavedS16;
 
@@ -33,7 +36,7 @@ import boofcv.struct.image.InterleavedS16;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_IL_S16 extends NearestNeighborPixelMB<InterleavedS16> {
+public class NearestNeighborPixel_IL_S16 extends NearestNeighborPixelMB<InterleavedS16> implements ConcurrentCopy<InterpolatePixelMB<InterleavedS16>> {
 
 	private int pixel[] = new int[3];
 	public NearestNeighborPixel_IL_S16() {
@@ -74,4 +77,13 @@ public class NearestNeighborPixel_IL_S16 extends NearestNeighborPixelMB<Interlea
 		}
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedS16> copy() {
+		NearestNeighborPixelMB<InterleavedS16> out = new NearestNeighborPixel_IL_S16();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
 }
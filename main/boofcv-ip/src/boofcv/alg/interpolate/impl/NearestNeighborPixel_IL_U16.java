@@ -17,7 +17,10 @@
  */
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.InterleavedU16;
 
@@ -33,7 +36,7 @@ import boofcv.struct.image.InterleavedU16;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_IL_U16 extends NearestNeighborPixelMB<InterleavedU16> {
+public class NearestNeighborPixel_IL_U16 extends NearestNeighborPixelMB<InterleavedU16> implements ConcurrentCopy<InterpolatePixelMB<InterleavedU16>> {
 
 	private int pixel[] = new int[3];
 	public NearestNeighborPixel_IL_U16() {
@@ -74,4 +77,13 @@ public class NearestNeighborPixel_IL_U16 extends NearestNeighborPixelMB<Interlea
 		}
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedU16> copy() {
+		NearestNeighborPixelMB<InterleavedU16> out = new NearestNeighborPixel_IL_U16();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
 }
@@ -17,7 +17,10 @@
  */
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.InterleavedU8;
 
@@ -33,7 +36,7 @@ import boofcv.struct.image.InterleavedU8;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_IL_U8 extends NearestNeighborPixelMB<InterleavedU8> {
+public class NearestNeighborPixel_IL_U8 extends NearestNeighborPixelMB<InterleavedU8> implements ConcurrentCopy<InterpolatePixelMB<InterleavedU8>> {
 
 	private int pixel[] = new int[3];
 	public NearestNeighborPixel_IL_U8() {
@@ -74,4 +77,13 @@ public class NearestNeighborPixel_IL_U8 extends NearestNeighborPixelMB<Interleav
 		}
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedU8> copy() {
+		NearestNeighborPixelMB<InterleavedU8> out = new NearestNeighborPixel_IL_U8();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
 }
@@ -18,7 +18,10 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_S16 extends NearestNeighborPixelS<GrayS16> {
+public class NearestNeighborPixel_S16 extends NearestNeighborPixelS<GrayS16> implements ConcurrentCopy<InterpolatePixelS<GrayS16>> {
 
 	private short data[];
 	public NearestNeighborPixel_S16() {
@@ -70,6 +73,16 @@ public class NearestNeighborPixel_S16 extends NearestNeighborPixelS<GrayS16> {
 		return data[ orig.startIndex + yy*stride + xx];
 	}
 
+	@Override
+	public InterpolatePixelS<GrayS16> copy() {
+		NearestNeighborPixelS<GrayS16> out = new NearestNeighborPixel_S16();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayS16> getImageType() {
 		return ImageType.single(GrayS16.class);
@@ -18,7 +18,10 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_S32 extends NearestNeighborPixelS<GrayS32> {
+public class NearestNeighborPixel_S32 extends NearestNeighborPixelS<GrayS32> implements ConcurrentCopy<InterpolatePixelS<GrayS32>> {
 
 	private int data[];
 	public NearestNeighborPixel_S32() {
@@ -70,6 +73,16 @@ public class NearestNeighborPixel_S32 extends NearestNeighborPixelS<GrayS32> {
 		return data[ orig.startIndex + yy*stride + xx];
 	}
 
+	@Override
+	public InterpolatePixelS<GrayS32> copy() {
+		NearestNeighborPixelS<GrayS32> out = new NearestNeighborPixel_S32();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayS32> getImageType() {
 		return ImageType.single(GrayS32.class);
@@ -18,7 +18,10 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayU16;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_U16 extends NearestNeighborPixelS<GrayU16> {
+public class NearestNeighborPixel_U16 extends NearestNeighborPixelS<GrayU16> implements ConcurrentCopy<InterpolatePixelS<GrayU16>> {
 
 	private short data[];
 	public NearestNeighborPixel_U16() {
@@ -70,6 +73,16 @@ public class NearestNeighborPixel_U16 extends NearestNeighborPixelS<GrayU16> {
 		return data[ orig.startIndex + yy*stride + xx]& 0xFFFF;
 	}
 
+	@Override
+	public InterpolatePixelS<GrayU16> copy() {
+		NearestNeighborPixelS<GrayU16> out = new NearestNeighborPixel_U16();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayU16> getImageType() {
 		return ImageType.single(GrayU16.class);
@@ -18,7 +18,10 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageType;
@@ -35,7 +38,7 @@ import boofcv.struct.image.ImageType;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborPixel_U8 extends NearestNeighborPixelS<GrayU8> {
+public class NearestNeighborPixel_U8 extends NearestNeighborPixelS<GrayU8> implements ConcurrentCopy<InterpolatePixelS<GrayU8>> {
 
 	private byte data[];
 	public NearestNeighborPixel_U8() {
@@ -70,6 +73,16 @@ public class NearestNeighborPixel_U8 extends NearestNeighborPixelS<GrayU8> {
 		return data[ orig.startIndex + yy*stride + xx]& 0xFF;
 	}
 
+	@Override
+	public InterpolatePixelS<GrayU8> copy() {
+		NearestNeighborPixelS<GrayU8> out = new NearestNeighborPixel_U8();
+		if( border != null )
+			out.setBorder(BoofConcurrency.copy(border));
+		if( orig != null )
+			out.setImage(orig);
+		return out;
+	}
+
 	@Override
 	public ImageType<GrayU8> getImageType() {
 		return ImageType.single(GrayU8.class);
@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolateRectangle;
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayF32;
 
 
@@ -27,7 +28,7 @@ import boofcv.struct.image.GrayF32;
  *
  * @author Peter Abeles
  */
-public class NearestNeighborRectangle_F32 implements InterpolateRectangle<GrayF32>  {
+public class NearestNeighborRectangle_F32 implements InterpolateRectangle<GrayF32>, ConcurrentCopy<InterpolateRectangle<GrayF32>>  {
 
 	GrayF32 image;
 
@@ -41,6 +42,13 @@ public class NearestNeighborRectangle_F32 implements InterpolateRectangle<GrayF3
 		return image;
 	}
 
+	@Override
+	public InterpolateRectangle<GrayF32> copy() {
+		NearestNeighborRectangle_F32 out = new NearestNeighborRectangle_F32();
+		out.setImage(image);
+		return out;
+	}
+
 	@Override
 	public void region(float tl_x, float tl_y, GrayF32 dest) {
 
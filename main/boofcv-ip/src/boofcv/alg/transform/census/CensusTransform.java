@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * The Census Transform [1] describes each pixel using a bit string.  Each bit corresponds to a pixel in the
+ * region around it and is 1 if that pixel's value is greater than the center pixel and 0 otherwise.  Bits are
+ * assigned to pixels in row-major order starting with the least significant bit, with the center pixel skipped.
+ * Pixels outside the image are found by extending the image border.  The distance between two descriptors is
+ * the Hamming distance, which is insensitive to changes in brightness and contrast.
+ * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are processed concurrently.
+ * </p>
+ *
+ * <p>
+ * [1] Zabih, Ramin, and John Woodfill. "Non-parametric local transforms for computing visual correspondence."
+ * European conference on computer vision. 1994.
+ * </p>
+ *
+ * @see CensusVariants
+ *
+ * @author Peter Abeles
+ */
+public class CensusTransform {
+
+	/**
+	 * Creates an image which can store the census transform
+	 *
+	 * @param variant Which sampling pattern
+	 * @return Image of the appropriate type with a size of zero
+	 */
+	public static ImageGray createOutput( CensusVariants variant ) {
+		switch( variant ) {
+			case BLOCK_3_3: return new GrayU8(1,1);
+			case BLOCK_5_5: return new GrayS32(1,1);
+			case BLOCK_9_7: return new GrayS64(1,1);
+		}
+		throw new IllegalArgumentException("Unknown variant "+variant);
+	}
+
+	/**
+	 * Computes the census transform using the specified pattern.
+	 *
+	 * @param input (Input) Image
+	 * @param variant Which sampling pattern
+	 * @param output (Output) Census transform.  Must be of the type returned by {@link #createOutput}. Reshaped if needed.
+	 */
+	public static void transform( GrayU8 input , CensusVariants variant , ImageGray output ) {
+		switch( variant ) {
+			case BLOCK_3_3: region3x3(input,(GrayU8)output); break;
+			case BLOCK_5_5: region5x5(input,(GrayS32)output); break;
+			case BLOCK_9_7: region9x7(input,(GrayS64)output); break;
+			default: throw new IllegalArgumentException("Unknown variant "+variant);
+		}
+	}
+
+	/**
+	 * Census transform using a 3x3 region
+	 *
+	 * @param input (Input) Image
+	 * @param output (Output) 8-bit census transform. Reshaped if needed.
+	 */
+	public static void region3x3( GrayU8 input , GrayU8 output ) {
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width,input.height);
+		process(input,CensusVariants.BLOCK_3_3,output);
+	}
+
+	/**
+	 * Census transform using a 5x5 region
+	 *
+	 * @param input (Input) Image
+	 * @param output (Output) 24-bit census transform. Reshaped if needed.
+	 */
+	public static void region5x5( GrayU8 input , GrayS32 output ) {
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width,input.height);
+		process(input,CensusVariants.BLOCK_5_5,output);
+	}
+
+	/**
+	 * Census transform using a 9x7 region
+	 *
+	 * @param input (Input) Image
+	 * @param output (Output) 62-bit census transform. Reshaped if needed.
+	 */
+	public static void region9x7( GrayU8 input , GrayS64 output ) {
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width,input.height);
+		process(input,CensusVariants.BLOCK_9_7,output);
+	}
+
+	private static void process( final GrayU8 input , final CensusVariants variant , final ImageGray output ) {
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.MIN_BAND_ROWS,BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				processRows(input,variant,output,y0,y1);
+			}
+		});
+	}
+
+	/**
+	 * Computes the transform for rows y0 to y1-1
+	 */
+	private static void processRows( GrayU8 input , CensusVariants variant , ImageGray output , int y0 , int y1 ) {
+		final int rx = variant.radiusX, ry = variant.radiusY;
+		final int N = variant.getBits();
+
+		// offset of each sample from the center pixel's index
+		int[] offsets = new int[N];
+		for( int i = 0, y = -ry; y <= ry; y++ ) {
+			for( int x = -rx; x <= rx; x++ ) {
+				if( x != 0 || y != 0 )
+					offsets[i++] = y*input.stride + x;
+			}
+		}
+
+		long[] row = new long[input.width];
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y < ry || y >= input.height-ry ) {
+				for( int x = 0; x < input.width; x++ ) {
+					row[x] = describeBorder(input,rx,ry,x,y);
+				}
+			} else {
+				for( int x = 0; x < rx && x < input.width; x++ ) {
+					row[x] = describeBorder(input,rx,ry,x,y);
+				}
+				int indexIn = input.startIndex + y*input.stride + rx;
+				for( int x = rx; x < input.width-rx; x++, indexIn++ ) {
+					int center = input.data[indexIn] & 0xFF;
+
+					long bits = 0;
+					for( int i = 0; i < N; i++ ) {
+						if( (input.data[indexIn+offsets[i]] & 0xFF) > center )
+							bits |= 1L << i;
+					}
+					row[x] = bits;
+				}
+				for( int x = Math.max(rx,input.width-rx); x < input.width; x++ ) {
+					row[x] = describeBorder(input,rx,ry,x,y);
+				}
+			}
+
+			copyRow(row,y,output);
+		}
+	}
+
+	/**
+	 * Computes the descriptor for a pixel whose region extends outside the image
+	 */
+	private static long describeBorder( GrayU8 input , int rx , int ry , int cx , int cy ) {
+		int center = input.unsafe_get(cx,cy);
+
+		long bits = 0;
+		int i = 0;
+		for( int y = -ry; y <= ry; y++ ) {
+			int yy = Math.min(input.height-1,Math.max(0,cy+y));
+			for( int x = -rx; x <= rx; x++ ) {
+				if( x == 0 && y == 0 )
+					continue;
+				int xx = Math.min(input.width-1,Math.max(0,cx+x));
+				if( input.unsafe_get(xx,yy) > center )
+					bits |= 1L << i;
+				i++;
+			}
+		}
+		return bits;
+	}
+
+	private static void copyRow( long[] row , int y , ImageGray output ) {
+		int indexOut = output.startIndex + y*output.stride;
+		int width = output.width;
+		if( output instanceof GrayU8 ) {
+			byte[] data = ((GrayU8)output).data;
+			for( int x = 0; x < width; x++ )
+				data[indexOut++] = (byte)row[x];
+		} else if( output instanceof GrayS32 ) {
+			int[] data = ((GrayS32)output).data;
+			for( int x = 0; x < width; x++ )
+				data[indexOut++] = (int)row[x];
+		} else {
+			long[] data = ((GrayS64)output).data;
+			System.arraycopy(row,0,data,indexOut,width);
+		}
+	}
+}
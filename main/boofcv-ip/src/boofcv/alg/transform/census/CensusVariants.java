@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+/**
+ * Different sampling patterns for the {@link CensusTransform}.  The number of bits in the descriptor determines
+ * the type of image it's written into.
+ *
+ * @author Peter Abeles
+ */
+public enum CensusVariants {
+	/**
+	 * 3x3 square region.  8-bits stored in {@link boofcv.struct.image.GrayU8}
+	 */
+	BLOCK_3_3(1,1),
+	/**
+	 * 5x5 square region.  24-bits stored in {@link boofcv.struct.image.GrayS32}
+	 */
+	BLOCK_5_5(2,2),
+	/**
+	 * 9x7 rectangular region, 9 pixels wide.  62-bits stored in {@link boofcv.struct.image.GrayS64}
+	 */
+	BLOCK_9_7(4,3);
+
+	final int radiusX;
+	final int radiusY;
+
+	CensusVariants(int radiusX, int radiusY) {
+		this.radiusX = radiusX;
+		this.radiusY = radiusY;
+	}
+
+	public int getRadiusX() {
+		return radiusX;
+	}
+
+	public int getRadiusY() {
+		return radiusY;
+	}
+
+	/**
+	 * Number of bits in the descriptor, which is the number of pixels in the region minus the center
+	 */
+	public int getBits() {
+		return (radiusX*2+1)*(radiusY*2+1)-1;
+	}
+}
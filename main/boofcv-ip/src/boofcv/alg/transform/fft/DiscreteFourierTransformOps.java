@@ -19,6 +19,7 @@
 package boofcv.alg.transform.fft;
 
 import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.abst.transform.fft.DiscreteFourierTransformHalf;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F32;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F64;
 import boofcv.alg.InputSanityCheck;
@@ -36,9 +37,9 @@ public class DiscreteFourierTransformOps {
 	 *
 	 * @see GeneralPurposeFFT_F32_2D
 	 *
-	 * @return {@link DiscreteFourierTransform}
+	 * @return {@link DiscreteFourierTransformHalf}
 	 */
-	public static DiscreteFourierTransform<GrayF32,InterleavedF32>  createTransformF32() {
+	public static DiscreteFourierTransformHalf<GrayF32,InterleavedF32>  createTransformF32() {
 		return new GeneralFft_to_DiscreteFourierTransform_F32();
 	}
 
@@ -47,9 +48,9 @@ public class DiscreteFourierTransformOps {
 	 *
 	 * @see GeneralPurposeFFT_F64_2D
 	 *
-	 * @return {@link DiscreteFourierTransform}
+	 * @return {@link DiscreteFourierTransformHalf}
 	 */
-	public static DiscreteFourierTransform<GrayF64,InterleavedF64>  createTransformF64() {
+	public static DiscreteFourierTransformHalf<GrayF64,InterleavedF64>  createTransformF64() {
 		return new GeneralFft_to_DiscreteFourierTransform_F64();
 	}
 
@@ -101,6 +102,16 @@ public class DiscreteFourierTransformOps {
 			throw new IllegalArgumentException("The transform must have two bands");
 	}
 
+	/**
+	 * Checks the arguments for a half transform, which has a width of image.width/2+1
+	 */
+	public static void checkImageArgumentsHalf( ImageBase image , ImageInterleaved transform ) {
+		if( transform.width != image.width/2+1 || transform.height != image.height )
+			throw new IllegalArgumentException("Half transform must have a width of image.width/2+1 and the same height");
+		if( 2 != transform.getNumBands() )
+			throw new IllegalArgumentException("The transform must have two bands");
+	}
+
 	/**
 	 * Moves the zero-frequency component into the image center (width/2,height/2).   This function can
 	 * be called to undo the transform.
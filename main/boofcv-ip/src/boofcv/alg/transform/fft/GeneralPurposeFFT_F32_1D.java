@@ -144,6 +144,39 @@ public class GeneralPurposeFFT_F32_1D {
 		ch2 = new float[n*2];
 	}
 
+	/**
+	 * Creates a new instance which shares the precomputed tables in 'plan'.  Only the internal work space is
+	 * declared, making this much faster than computing the tables again.  The two instances can be used at the same
+	 * time by different threads.
+	 *
+	 * @param plan Instance whose tables are shared. Not modified.
+	 */
+	public GeneralPurposeFFT_F32_1D(GeneralPurposeFFT_F32_1D plan) {
+		this.n = plan.n;
+		this.nBluestein = plan.nBluestein;
+		this.ip = plan.ip;
+		this.w = plan.w;
+		this.nw = plan.nw;
+		this.nc = plan.nc;
+		this.wtable = plan.wtable;
+		this.wtable_r = plan.wtable_r;
+		this.bk1 = plan.bk1;
+		this.bk2 = plan.bk2;
+		this.plan = plan.plan;
+
+		if( this.plan == Plans.BLUESTEIN )
+			ak = new float[2 * nBluestein];
+		ch = new float[n];
+		ch2 = new float[n*2];
+	}
+
+	/**
+	 * Returns the size of the data being transformed
+	 */
+	public int getSize() {
+		return n;
+	}
+
 	/**
 	 * Computes 1D forward DFT of complex data leaving the result in
 	 * <code>a</code>. Complex number is stored as two float values in
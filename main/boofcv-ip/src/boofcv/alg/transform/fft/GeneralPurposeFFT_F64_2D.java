@@ -18,6 +18,10 @@
 
 package boofcv.alg.transform.fft;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import org.ddogleg.struct.FastQueue;
+
 /**
  * Computes 2D Discrete Fourier Transform (DFT) of complex and real, double
  * precision data. The size of the data can be an arbitrary number. The code originally comes from
@@ -26,8 +30,8 @@ package boofcv.alg.transform.fft;
  * <p></p>
  * This code has a bit of a history.  Originally from General Purpose FFT.  Which was then ported into
  * JFFTPack written by Baoshe Zhang (http://jfftpack.sourceforge.net/), and then into JTransforms by Piotr Wendykier.
- * The major modification from JTransforms is that the SMP code has been stripped out.  It might be added back in
- * once an SMP strategy has been finalized in BoofCV.
+ * The major modification from JTransforms is that the SMP code has been replaced by {@link BoofConcurrency}.  When
+ * concurrency is turned on, the row and column passes are split between threads, each with its own work space.
  * <p></p>
  * Code License:  The original license of General Purpose FFT Package is shown below.  This file will fall
  * under the same license:
@@ -44,20 +48,25 @@ package boofcv.alg.transform.fft;
  */
 public class GeneralPurposeFFT_F64_2D {
 
+	/**
+	 * Minimum number of rows or columns which are processed by a single thread
+	 */
+	public static int MIN_LINES = 16;
+
 	private int rows;
 
 	private int columns;
 
-	private double[] t;
-
 	private GeneralPurposeFFT_F64_1D fftColumns, fftRows;
 
 	private boolean isPowerOfTwo = false;
 
 	// local storage pre-declared
-	private double[] temp;
 	private double[][] temp2;
 
+	// work space for each thread
+	private FastQueue<Workspace> workspace;
+
 	/**
 	 * Creates new instance of DoubleFFT_2D.
 	 *
@@ -75,15 +84,6 @@ public class GeneralPurposeFFT_F64_2D {
 
 		if (DiscreteFourierTransformOps.isPowerOf2(rows) && DiscreteFourierTransformOps.isPowerOf2(columns)) {
 			isPowerOfTwo = true;
-
-			int oldNthreads = 1;
-			int nt = 8 * oldNthreads * rows;
-			if (2 * columns == 4 * oldNthreads) {
-				nt >>= 1;
-			} else if (2 * columns < 4 * oldNthreads) {
-				nt >>= 2;
-			}
-			t = new double[nt];
 		}
 
 		fftRows = new GeneralPurposeFFT_F64_1D(rows);
@@ -93,7 +93,52 @@ public class GeneralPurposeFFT_F64_2D {
 			fftColumns = new GeneralPurposeFFT_F64_1D(columns);
 		}
 
-		temp = new double[2 * rows];
+		declareWorkspace();
+	}
+
+	/**
+	 * Creates a new instance which shares the precomputed tables in 'plan'.  Only the internal work space is
+	 * declared, making this much faster than creating a new plan.  The two instances can be used at the same
+	 * time by different threads.
+	 *
+	 * @param plan Instance whose tables are shared. Not modified.
+	 */
+	public GeneralPurposeFFT_F64_2D( GeneralPurposeFFT_F64_2D plan ) {
+		this.rows = plan.rows;
+		this.columns = plan.columns;
+		this.isPowerOfTwo = plan.isPowerOfTwo;
+
+		fftRows = new GeneralPurposeFFT_F64_1D(plan.fftRows);
+		if (plan.fftColumns == plan.fftRows) {
+			fftColumns = fftRows;
+		} else {
+			fftColumns = new GeneralPurposeFFT_F64_1D(plan.fftColumns);
+		}
+
+		declareWorkspace();
+	}
+
+	private void declareWorkspace() {
+		workspace = new FastQueue<Workspace>(1,Workspace.class,true) {
+			@Override
+			protected Workspace createInstance() {
+				return new Workspace();
+			}
+		};
+	}
+
+	/**
+	 * Number of rows in the data being transformed
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Number of columns in the data being transformed
+	 */
+	public int getColumns() {
+		return columns;
 	}
 
 	/**
@@ -121,38 +166,17 @@ public class GeneralPurposeFFT_F64_2D {
 			return;
 		}
 
-		if (isPowerOfTwo) {
-			int oldn2 = columns;
-			columns = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexForward(a, r * columns);
-			}
-			cdft2d_sub(-1, a, true);
-			columns = oldn2;
-		} else {
-			final int rowStride = 2 * columns;
-
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexForward(a, r * rowStride);
-			}
-
-			for (int c = 0; c < columns; c++) {
-				int idx0 = 2 * c;
-				for (int r = 0; r < rows; r++) {
-					int idx1 = 2 * r;
-					int idx2 = r * rowStride + idx0;
-					temp[idx1] = a[idx2];
-					temp[idx1 + 1] = a[idx2 + 1];
-				}
-				fftRows.complexForward(temp);
-				for (int r = 0; r < rows; r++) {
-					int idx1 = 2 * r;
-					int idx2 = r * rowStride + idx0;
-					a[idx2] = temp[idx1];
-					a[idx2 + 1] = temp[idx1 + 1];
+		final int rowStride = 2 * columns;
+		BoofConcurrency.loopBlocks(0, rows, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int r0, int r1) {
+				for (int r = r0; r < r1; r++) {
+					w.fftColumns.complexForward(a, r * rowStride);
 				}
 			}
-		}
+		});
+		cdft2d_sub(-1, a, rowStride, columns, true);
 	}
 
 
@@ -184,37 +208,17 @@ public class GeneralPurposeFFT_F64_2D {
 			return;
 		}
 
-		if (isPowerOfTwo) {
-			int oldn2 = columns;
-			columns = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexInverse(a, r * columns, scale);
-			}
-			cdft2d_sub(1, a, scale);
-			columns = oldn2;
-		} else {
-			final int rowspan = 2 * columns;
-			for (int r = 0; r < rows; r++) {
-				fftColumns.complexInverse(a, r * rowspan, scale);
-			}
-
-			for (int c = 0; c < columns; c++) {
-				int idx1 = 2 * c;
-				for (int r = 0; r < rows; r++) {
-					int idx2 = 2 * r;
-					int idx3 = r * rowspan + idx1;
-					temp[idx2] = a[idx3];
-					temp[idx2 + 1] = a[idx3 + 1];
-				}
-				fftRows.complexInverse(temp, scale);
-				for (int r = 0; r < rows; r++) {
-					int idx2 = 2 * r;
-					int idx3 = r * rowspan + idx1;
-					a[idx3] = temp[idx2];
-					a[idx3 + 1] = temp[idx2 + 1];
+		final int rowStride = 2 * columns;
+		BoofConcurrency.loopBlocks(0, rows, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int r0, int r1) {
+				for (int r = r0; r < r1; r++) {
+					w.fftColumns.complexInverse(a, r * rowStride, scale);
 				}
 			}
-		}
+		});
+		cdft2d_sub(1, a, rowStride, columns, scale);
 	}
 
 	/**
@@ -249,7 +253,7 @@ public class GeneralPurposeFFT_F64_2D {
 	 * @param a
 	 *            data to transform
 	 */
-	public void realForward(double[] a) {
+	public void realForward(final double[] a) {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
@@ -262,10 +266,8 @@ public class GeneralPurposeFFT_F64_2D {
 		if (isPowerOfTwo == false) {
 			throw new IllegalArgumentException("rows and columns must be power of two numbers");
 		} else {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realForward(a, r * columns);
-			}
-			cdft2d_sub(-1, a, true);
+			realForwardRows(a, columns);
+			cdft2d_sub(-1, a, columns, columns/2, true);
 			rdft2d_sub(1, a);
 		}
 	}
@@ -282,7 +284,7 @@ public class GeneralPurposeFFT_F64_2D {
 	 * @param a
 	 *            data to transform
 	 */
-	public void realForwardFull(double[] a) {
+	public void realForwardFull(final double[] a) {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
@@ -293,10 +295,8 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 
 		if (isPowerOfTwo) {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realForward(a, r * columns);
-			}
-			cdft2d_sub(-1, a, true);
+			realForwardRows(a, columns);
+			cdft2d_sub(-1, a, columns, columns/2, true);
 			rdft2d_sub(1, a);
 			fillSymmetric(a);
 		} else {
@@ -339,7 +339,7 @@ public class GeneralPurposeFFT_F64_2D {
 	 * @param scale
 	 *            if true then scaling is performed
 	 */
-	public void realInverse(double[] a, boolean scale) {
+	public void realInverse(final double[] a, final boolean scale) {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
@@ -353,10 +353,16 @@ public class GeneralPurposeFFT_F64_2D {
 			throw new IllegalArgumentException("rows and columns must be power of two numbers");
 		} else {
 			rdft2d_sub(-1, a);
-			cdft2d_sub(1, a, scale);
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realInverse(a, r * columns, scale);
-			}
+			cdft2d_sub(1, a, columns, columns/2, scale);
+			BoofConcurrency.loopBlocks(0, rows, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+					new IntRangeObjectTask<Workspace>() {
+				@Override
+				public void process(Workspace w, int r0, int r1) {
+					for (int r = r0; r < r1; r++) {
+						w.fftColumns.realInverse(a, r * columns, scale);
+					}
+				}
+			});
 		}
 	}
 
@@ -374,7 +380,7 @@ public class GeneralPurposeFFT_F64_2D {
 	 * @param scale
 	 *            if true then scaling is performed
 	 */
-	public void realInverseFull(double[] a, boolean scale) {
+	public void realInverseFull(final double[] a, final boolean scale) {
 		// handle special case
 		if( rows == 1 || columns == 1 ) {
 			if( rows > 1 )
@@ -385,10 +391,8 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 
 		if (isPowerOfTwo) {
-			for (int r = 0; r < rows; r++) {
-				fftColumns.realInverse2(a, r * columns, scale);
-			}
-			cdft2d_sub(1, a, scale);
+			realInverse2Rows(a, scale);
+			cdft2d_sub(1, a, columns, columns/2, scale);
 			rdft2d_sub(1, a);
 			fillSymmetric(a);
 		} else {
@@ -397,6 +401,89 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 	}
 
+	/**
+	 * Computes 2D forward DFT of real data, but only the non-redundant half of the transform is computed and stored.
+	 * Works with any size.  Each row of the output contains <code>columns/2+1</code> complex numbers and the
+	 * remaining elements are given by the symmetry condition Re[k1][k2] = Re[rows-k1][columns-k2] and
+	 * Im[k1][k2] = -Im[rows-k1][columns-k2].  Compared to <code>realForwardFull</code> about half the work and
+	 * memory is required.  The physical layout of the input data has to be as follows, where n2d2 = columns/2+1:
+	 *
+	 * <pre>
+	 * a[k1*2*n2d2+k2] = input[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns
+	 * </pre>
+	 *
+	 * The physical layout of the output data is as follows:
+	 *
+	 * <pre>
+	 * a[k1*2*n2d2+2*k2] = Re[k1][k2],
+	 * a[k1*2*n2d2+2*k2+1] = Im[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;n2d2
+	 * </pre>
+	 *
+	 * To get back the original data, use <code>realInverseHalf</code> on the output of this method.
+	 *
+	 * @param a
+	 *            data to transform.  Must be at least rows*2*(columns/2+1) elements
+	 */
+	public void realForwardHalf(final double[] a) {
+		final int n2d2 = columns / 2 + 1;
+		final int rowStride = 2 * n2d2;
+
+		BoofConcurrency.loopBlocks(0, rows, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int r0, int r1) {
+				for (int r = r0; r < r1; r++) {
+					int offa = r * rowStride;
+					w.fftColumns.realForward(a, offa);
+
+					// unpack the last element, which is stored where the zero imaginary component is
+					double last = a[offa + 1];
+					a[offa + 1] = 0;
+					if (columns > 1) {
+						a[offa + columns] = last;
+						if (columns % 2 == 0)
+							a[offa + columns + 1] = 0;
+					}
+				}
+			}
+		});
+		cdft2d_sub(-1, a, rowStride, n2d2, true);
+	}
+
+	/**
+	 * Computes 2D inverse DFT of data produced by <code>realForwardHalf</code>, leaving the real result in
+	 * <code>a</code>.  The physical layout of the input data is described in <code>realForwardHalf</code> and the
+	 * output data is:
+	 *
+	 * <pre>
+	 * a[k1*2*n2d2+k2] = output[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns
+	 * </pre>
+	 *
+	 * @param a
+	 *            data to transform
+	 * @param scale
+	 *            if true then scaling is performed
+	 */
+	public void realInverseHalf(final double[] a, final boolean scale) {
+		final int n2d2 = columns / 2 + 1;
+		final int rowStride = 2 * n2d2;
+
+		cdft2d_sub(1, a, rowStride, n2d2, scale);
+		BoofConcurrency.loopBlocks(0, rows, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int r0, int r1) {
+				for (int r = r0; r < r1; r++) {
+					int offa = r * rowStride;
+					// pack the last element into the format used by the 1D transform
+					if (columns > 1)
+						a[offa + 1] = a[offa + columns];
+					w.fftColumns.realInverse(a, offa, scale);
+				}
+			}
+		});
+	}
+
 	private void declareRadixRealData() {
 		if( temp2 == null ) {
 			final int n2d2 = columns / 2 + 1;
@@ -409,42 +496,47 @@ public class GeneralPurposeFFT_F64_2D {
 		final int n2d2 = columns / 2 + 1;
 		final double[][] temp = temp2;
 
-		for (int r = 0; r < rows; r++) {
-			fftColumns.realForward(a, r * columns);
-		}
-		for (int r = 0; r < rows; r++) {
-			temp[0][r] = a[r * columns]; //first column is always real
-		}
-		fftRows.realForwardFull(temp[0]);
-
-		for (int c = 1; c < n2d2 - 1; c++) {
-			int idx0 = 2 * c;
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns + idx0;
-				temp[c][idx1] = a[idx2];
-				temp[c][idx1 + 1] = a[idx2 + 1];
-			}
-			fftRows.complexForward(temp[c]);
-		}
-
-		if ((columns % 2) == 0) {
-			for (int r = 0; r < rows; r++) {
-				temp[n2d2 - 1][r] = a[r * columns + 1];
-				//imaginary part = 0;
-			}
-			fftRows.realForwardFull(temp[n2d2 - 1]);
-
-		} else {
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns;
-				int idx3 = n2d2 - 1;
-				temp[idx3][idx1] = a[idx2 + 2 * idx3];
-				temp[idx3][idx1 + 1] = a[idx2 + 1];
+		realForwardRows(a, columns);
+
+		BoofConcurrency.loopBlocks(0, n2d2, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int c0, int c1) {
+				GeneralPurposeFFT_F64_1D fftRows = w.fftRows;
+				for (int c = c0; c < c1; c++) {
+					if (c == 0) {
+						for (int r = 0; r < rows; r++) {
+							temp[0][r] = a[r * columns]; //first column is always real
+						}
+						fftRows.realForwardFull(temp[0]);
+					} else if (c < n2d2 - 1) {
+						int idx0 = 2 * c;
+						for (int r = 0; r < rows; r++) {
+							int idx1 = 2 * r;
+							int idx2 = r * columns + idx0;
+							temp[c][idx1] = a[idx2];
+							temp[c][idx1 + 1] = a[idx2 + 1];
+						}
+						fftRows.complexForward(temp[c]);
+					} else if ((columns % 2) == 0) {
+						for (int r = 0; r < rows; r++) {
+							temp[n2d2 - 1][r] = a[r * columns + 1];
+							//imaginary part = 0;
+						}
+						fftRows.realForwardFull(temp[n2d2 - 1]);
+					} else {
+						for (int r = 0; r < rows; r++) {
+							int idx1 = 2 * r;
+							int idx2 = r * columns;
+							int idx3 = n2d2 - 1;
+							temp[idx3][idx1] = a[idx2 + 2 * idx3];
+							temp[idx3][idx1 + 1] = a[idx2 + 1];
+						}
+						fftRows.complexForward(temp[n2d2 - 1]);
+					}
+				}
 			}
-			fftRows.complexForward(temp[n2d2 - 1]);
-		}
+		});
 
 		for (int r = 0; r < rows; r++) {
 			int idx1 = 2 * r;
@@ -478,42 +570,47 @@ public class GeneralPurposeFFT_F64_2D {
 		final int n2d2 = columns / 2 + 1;
 		final double[][] temp = temp2;
 
-		for (int r = 0; r < rows; r++) {
-			fftColumns.realInverse2(a, r * columns, scale);
-		}
-		for (int r = 0; r < rows; r++) {
-			temp[0][r] = a[r * columns]; //first column is always real
-		}
-		fftRows.realInverseFull(temp[0], scale);
-
-		for (int c = 1; c < n2d2 - 1; c++) {
-			int idx0 = 2 * c;
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns + idx0;
-				temp[c][idx1] = a[idx2];
-				temp[c][idx1 + 1] = a[idx2 + 1];
-			}
-			fftRows.complexInverse(temp[c], scale);
-		}
-
-		if ((columns % 2) == 0) {
-			for (int r = 0; r < rows; r++) {
-				temp[n2d2 - 1][r] = a[r * columns + 1];
-				//imaginary part = 0;
-			}
-			fftRows.realInverseFull(temp[n2d2 - 1], scale);
-
-		} else {
-			for (int r = 0; r < rows; r++) {
-				int idx1 = 2 * r;
-				int idx2 = r * columns;
-				int idx3 = n2d2 - 1;
-				temp[idx3][idx1] = a[idx2 + 2 * idx3];
-				temp[idx3][idx1 + 1] = a[idx2 + 1];
+		realInverse2Rows(a, scale);
+
+		BoofConcurrency.loopBlocks(0, n2d2, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int c0, int c1) {
+				GeneralPurposeFFT_F64_1D fftRows = w.fftRows;
+				for (int c = c0; c < c1; c++) {
+					if (c == 0) {
+						for (int r = 0; r < rows; r++) {
+							temp[0][r] = a[r * columns]; //first column is always real
+						}
+						fftRows.realInverseFull(temp[0], scale);
+					} else if (c < n2d2 - 1) {
+						int idx0 = 2 * c;
+						for (int r = 0; r < rows; r++) {
+							int idx1 = 2 * r;
+							int idx2 = r * columns + idx0;
+							temp[c][idx1] = a[idx2];
+							temp[c][idx1 + 1] = a[idx2 + 1];
+						}
+						fftRows.complexInverse(temp[c], scale);
+					} else if ((columns % 2) == 0) {
+						for (int r = 0; r < rows; r++) {
+							temp[n2d2 - 1][r] = a[r * columns + 1];
+							//imaginary part = 0;
+						}
+						fftRows.realInverseFull(temp[n2d2 - 1], scale);
+					} else {
+						for (int r = 0; r < rows; r++) {
+							int idx1 = 2 * r;
+							int idx2 = r * columns;
+							int idx3 = n2d2 - 1;
+							temp[idx3][idx1] = a[idx2 + 2 * idx3];
+							temp[idx3][idx1 + 1] = a[idx2 + 1];
+						}
+						fftRows.complexInverse(temp[n2d2 - 1], scale);
+					}
+				}
 			}
-			fftRows.complexInverse(temp[n2d2 - 1], scale);
-		}
+		});
 
 		for (int r = 0; r < rows; r++) {
 			int idx1 = 2 * r;
@@ -573,298 +670,83 @@ public class GeneralPurposeFFT_F64_2D {
 		}
 	}
 
-	private void cdft2d_sub(int isgn, double[] a, boolean scale) {
-		int idx1, idx2, idx3, idx4, idx5;
-		if (isgn == -1) {
-			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[idx1];
-						t[idx2 + 1] = a[idx1 + 1];
-						t[idx3] = a[idx1 + 2];
-						t[idx3 + 1] = a[idx1 + 3];
-						t[idx4] = a[idx1 + 4];
-						t[idx4 + 1] = a[idx1 + 5];
-						t[idx5] = a[idx1 + 6];
-						t[idx5 + 1] = a[idx1 + 7];
-					}
-					fftRows.complexForward(t, 0);
-					fftRows.complexForward(t, 2 * rows);
-					fftRows.complexForward(t, 4 * rows);
-					fftRows.complexForward(t, 6 * rows);
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[idx1] = t[idx2];
-						a[idx1 + 1] = t[idx2 + 1];
-						a[idx1 + 2] = t[idx3];
-						a[idx1 + 3] = t[idx3 + 1];
-						a[idx1 + 4] = t[idx4];
-						a[idx1 + 5] = t[idx4 + 1];
-						a[idx1 + 6] = t[idx5];
-						a[idx1 + 7] = t[idx5 + 1];
-					}
-				}
-			} else if (columns == 4) {
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					t[idx2] = a[idx1];
-					t[idx2 + 1] = a[idx1 + 1];
-					t[idx3] = a[idx1 + 2];
-					t[idx3 + 1] = a[idx1 + 3];
-				}
-				fftRows.complexForward(t, 0);
-				fftRows.complexForward(t, 2 * rows);
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					a[idx1] = t[idx2];
-					a[idx1 + 1] = t[idx2 + 1];
-					a[idx1 + 2] = t[idx3];
-					a[idx1 + 3] = t[idx3 + 1];
-				}
-			} else if (columns == 2) {
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					t[idx2] = a[idx1];
-					t[idx2 + 1] = a[idx1 + 1];
-				}
-				fftRows.complexForward(t, 0);
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					a[idx1] = t[idx2];
-					a[idx1 + 1] = t[idx2 + 1];
+	/**
+	 * Applies the 1D transform along each column.  Columns are copied into a work buffer in groups of four so that
+	 * rows are read sequentially.
+	 *
+	 * @param isgn -1 for forward and 1 for inverse
+	 * @param a data being transformed
+	 * @param rowStride number of elements in each row of 'a'
+	 * @param numColumns number of complex columns which are transformed
+	 * @param scale if true then scaling is performed by the inverse
+	 */
+	private void cdft2d_sub(final int isgn, final double[] a, final int rowStride, final int numColumns,
+							final boolean scale) {
+		int numGroups = (numColumns + 3) / 4;
+		BoofConcurrency.loopBlocks(0, numGroups, Math.max(1, MIN_LINES / 4), BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int g0, int g1) {
+				for (int g = g0; g < g1; g++) {
+					int c = g * 4;
+					cdft2d_sub(isgn, a, rowStride, 2 * c, Math.min(4, numColumns - c), scale, w.t, w.fftRows);
 				}
 			}
-		} else {
-			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[idx1];
-						t[idx2 + 1] = a[idx1 + 1];
-						t[idx3] = a[idx1 + 2];
-						t[idx3 + 1] = a[idx1 + 3];
-						t[idx4] = a[idx1 + 4];
-						t[idx4 + 1] = a[idx1 + 5];
-						t[idx5] = a[idx1 + 6];
-						t[idx5 + 1] = a[idx1 + 7];
-					}
-					fftRows.complexInverse(t, 0, scale);
-					fftRows.complexInverse(t, 2 * rows, scale);
-					fftRows.complexInverse(t, 4 * rows, scale);
-					fftRows.complexInverse(t, 6 * rows, scale);
-					for (int r = 0; r < rows; r++) {
-						idx1 = r * columns + c;
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[idx1] = t[idx2];
-						a[idx1 + 1] = t[idx2 + 1];
-						a[idx1 + 2] = t[idx3];
-						a[idx1 + 3] = t[idx3 + 1];
-						a[idx1 + 4] = t[idx4];
-						a[idx1 + 5] = t[idx4 + 1];
-						a[idx1 + 6] = t[idx5];
-						a[idx1 + 7] = t[idx5 + 1];
-					}
-				}
-			} else if (columns == 4) {
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					t[idx2] = a[idx1];
-					t[idx2 + 1] = a[idx1 + 1];
-					t[idx3] = a[idx1 + 2];
-					t[idx3 + 1] = a[idx1 + 3];
-				}
-				fftRows.complexInverse(t, 0, scale);
-				fftRows.complexInverse(t, 2 * rows, scale);
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					a[idx1] = t[idx2];
-					a[idx1 + 1] = t[idx2 + 1];
-					a[idx1 + 2] = t[idx3];
-					a[idx1 + 3] = t[idx3 + 1];
-				}
-			} else if (columns == 2) {
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					t[idx2] = a[idx1];
-					t[idx2 + 1] = a[idx1 + 1];
-				}
-				fftRows.complexInverse(t, 0, scale);
-				for (int r = 0; r < rows; r++) {
-					idx1 = r * columns;
-					idx2 = 2 * r;
-					a[idx1] = t[idx2];
-					a[idx1 + 1] = t[idx2 + 1];
-				}
+		});
+	}
+
+	private void cdft2d_sub(int isgn, double[] a, int rowStride, int offset, int width, boolean scale,
+							double[] t, GeneralPurposeFFT_F64_1D fftRows) {
+		final int length = 2 * rows;
+		final int end = 2 * width;
+
+		for (int r = 0; r < rows; r++) {
+			int idx1 = r * rowStride + offset;
+			int idx2 = 2 * r;
+			for (int i = 0; i < end; i += 2, idx2 += length) {
+				t[idx2] = a[idx1 + i];
+				t[idx2 + 1] = a[idx1 + i + 1];
+			}
+		}
+		for (int i = 0; i < width; i++) {
+			if (isgn == -1) {
+				fftRows.complexForward(t, i * length);
+			} else {
+				fftRows.complexInverse(t, i * length, scale);
+			}
+		}
+		for (int r = 0; r < rows; r++) {
+			int idx1 = r * rowStride + offset;
+			int idx2 = 2 * r;
+			for (int i = 0; i < end; i += 2, idx2 += length) {
+				a[idx1 + i] = t[idx2];
+				a[idx1 + i + 1] = t[idx2 + 1];
 			}
 		}
 	}
 
-	private void cdft2d_sub(int isgn, double[][] a, boolean scale) {
-		int idx2, idx3, idx4, idx5;
-		if (isgn == -1) {
-			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[r][c];
-						t[idx2 + 1] = a[r][c + 1];
-						t[idx3] = a[r][c + 2];
-						t[idx3 + 1] = a[r][c + 3];
-						t[idx4] = a[r][c + 4];
-						t[idx4 + 1] = a[r][c + 5];
-						t[idx5] = a[r][c + 6];
-						t[idx5 + 1] = a[r][c + 7];
-					}
-					fftRows.complexForward(t, 0);
-					fftRows.complexForward(t, 2 * rows);
-					fftRows.complexForward(t, 4 * rows);
-					fftRows.complexForward(t, 6 * rows);
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[r][c] = t[idx2];
-						a[r][c + 1] = t[idx2 + 1];
-						a[r][c + 2] = t[idx3];
-						a[r][c + 3] = t[idx3 + 1];
-						a[r][c + 4] = t[idx4];
-						a[r][c + 5] = t[idx4 + 1];
-						a[r][c + 6] = t[idx5];
-						a[r][c + 7] = t[idx5 + 1];
-					}
-				}
-			} else if (columns == 4) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-					t[idx3] = a[r][2];
-					t[idx3 + 1] = a[r][3];
-				}
-				fftRows.complexForward(t, 0);
-				fftRows.complexForward(t, 2 * rows);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
-					a[r][2] = t[idx3];
-					a[r][3] = t[idx3 + 1];
-				}
-			} else if (columns == 2) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-				}
-				fftRows.complexForward(t, 0);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
+	private void realForwardRows(final double[] a, final int rowStride) {
+		BoofConcurrency.loopBlocks(0, rows, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int r0, int r1) {
+				for (int r = r0; r < r1; r++) {
+					w.fftColumns.realForward(a, r * rowStride);
 				}
 			}
-		} else {
-			if (columns > 4) {
-				for (int c = 0; c < columns; c += 8) {
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						t[idx2] = a[r][c];
-						t[idx2 + 1] = a[r][c + 1];
-						t[idx3] = a[r][c + 2];
-						t[idx3 + 1] = a[r][c + 3];
-						t[idx4] = a[r][c + 4];
-						t[idx4 + 1] = a[r][c + 5];
-						t[idx5] = a[r][c + 6];
-						t[idx5 + 1] = a[r][c + 7];
-					}
-					fftRows.complexInverse(t, 0, scale);
-					fftRows.complexInverse(t, 2 * rows, scale);
-					fftRows.complexInverse(t, 4 * rows, scale);
-					fftRows.complexInverse(t, 6 * rows, scale);
-					for (int r = 0; r < rows; r++) {
-						idx2 = 2 * r;
-						idx3 = 2 * rows + 2 * r;
-						idx4 = idx3 + 2 * rows;
-						idx5 = idx4 + 2 * rows;
-						a[r][c] = t[idx2];
-						a[r][c + 1] = t[idx2 + 1];
-						a[r][c + 2] = t[idx3];
-						a[r][c + 3] = t[idx3 + 1];
-						a[r][c + 4] = t[idx4];
-						a[r][c + 5] = t[idx4 + 1];
-						a[r][c + 6] = t[idx5];
-						a[r][c + 7] = t[idx5 + 1];
-					}
-				}
-			} else if (columns == 4) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-					t[idx3] = a[r][2];
-					t[idx3 + 1] = a[r][3];
-				}
-				fftRows.complexInverse(t, 0, scale);
-				fftRows.complexInverse(t, 2 * rows, scale);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					idx3 = 2 * rows + 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
-					a[r][2] = t[idx3];
-					a[r][3] = t[idx3 + 1];
-				}
-			} else if (columns == 2) {
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					t[idx2] = a[r][0];
-					t[idx2 + 1] = a[r][1];
-				}
-				fftRows.complexInverse(t, 0, scale);
-				for (int r = 0; r < rows; r++) {
-					idx2 = 2 * r;
-					a[r][0] = t[idx2];
-					a[r][1] = t[idx2 + 1];
+		});
+	}
+
+	private void realInverse2Rows(final double[] a, final boolean scale) {
+		BoofConcurrency.loopBlocks(0, rows, MIN_LINES, BoofConcurrency.USE_CONCURRENT, workspace,
+				new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void process(Workspace w, int r0, int r1) {
+				for (int r = r0; r < r1; r++) {
+					w.fftColumns.realInverse2(a, r * columns, scale);
 				}
 			}
-		}
+		});
 	}
 
 	private void fillSymmetric(final double[] a) {
@@ -915,4 +797,23 @@ public class GeneralPurposeFFT_F64_2D {
 		a[idx1 + 1] = 0;
 		a[idx1 + columns + 1] = 0;
 	}
+
+	/**
+	 * Storage used by a single thread.  Each has its own copy of the 1D transforms since they contain work space.
+	 */
+	private class Workspace {
+		GeneralPurposeFFT_F64_1D fftRows;
+		GeneralPurposeFFT_F64_1D fftColumns;
+		// columns which are being transformed
+		double[] t = new double[8 * rows];
+
+		Workspace() {
+			fftRows = new GeneralPurposeFFT_F64_1D(GeneralPurposeFFT_F64_2D.this.fftRows);
+			if (GeneralPurposeFFT_F64_2D.this.fftColumns == GeneralPurposeFFT_F64_2D.this.fftRows) {
+				fftColumns = fftRows;
+			} else {
+				fftColumns = new GeneralPurposeFFT_F64_1D(GeneralPurposeFFT_F64_2D.this.fftColumns);
+			}
+		}
+	}
 }
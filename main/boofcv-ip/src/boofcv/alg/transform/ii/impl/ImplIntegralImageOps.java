@@ -19,6 +19,8 @@
 package boofcv.alg.transform.ii.impl;
 
 import boofcv.alg.transform.ii.IntegralKernel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
 
@@ -27,6 +29,12 @@ import boofcv.struct.image.*;
  * <p>
  * Compute the integral image for different types of input images.
  * </p>
+ *
+ * <p>
+ * The integral image is computed in two passes.  First each row is summed, then the rows above are added.
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then the rows and then the columns are split into blocks
+ * which are processed concurrently.  Floating point results are identical to a single pass algorithm.
+ * </p>
  * 
  * <p>
  * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.
@@ -36,134 +44,194 @@ import boofcv.struct.image.*;
  */
 public class ImplIntegralImageOps {
 
-	public static void transform(final GrayF32 input , final GrayF32 transformed )
-	{
-		int indexSrc = input.startIndex;
-		int indexDst = transformed.startIndex;
-		int end = indexSrc + input.width;
-
-		float total = 0;
-		for( ; indexSrc < end; indexSrc++ ) {
-			transformed.data[indexDst++] = total += input.data[indexSrc];
-		}
-
-		for( int y = 1; y < input.height; y++ ) {
-			indexSrc = input.startIndex + input.stride*y;
-			indexDst = transformed.startIndex + transformed.stride*y;
-			int indexPrev = indexDst - transformed.stride;
+	/**
+	 * Minimum number of columns summed by a single thread
+	 */
+	public static int MIN_COLUMNS = 128;
 
-			end = indexSrc + input.width;
-
-			total = 0;
-			for( ; indexSrc < end; indexSrc++ ) {
-				total +=  input.data[indexSrc];
-				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+	public static void transform( final GrayF32 input , final GrayF32 transformed )
+	{
+		// sum along each row
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					float total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
 			}
-		}
+		});
+
+		// add the row above to get the sum along each column
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] += transformed.data[indexPrev++];
+					}
+				}
+			}
+		});
 	}
 
-	public static void transform(final GrayF64 input , final GrayF64 transformed )
+	public static void transform( final GrayF64 input , final GrayF64 transformed )
 	{
-		int indexSrc = input.startIndex;
-		int indexDst = transformed.startIndex;
-		int end = indexSrc + input.width;
-
-		double total = 0;
-		for( ; indexSrc < end; indexSrc++ ) {
-			transformed.data[indexDst++] = total += input.data[indexSrc];
-		}
-
-		for( int y = 1; y < input.height; y++ ) {
-			indexSrc = input.startIndex + input.stride*y;
-			indexDst = transformed.startIndex + transformed.stride*y;
-			int indexPrev = indexDst - transformed.stride;
-
-			end = indexSrc + input.width;
-
-			total = 0;
-			for( ; indexSrc < end; indexSrc++ ) {
-				total +=  input.data[indexSrc];
-				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+		// sum along each row
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					double total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
 			}
-		}
+		});
+
+		// add the row above to get the sum along each column
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] += transformed.data[indexPrev++];
+					}
+				}
+			}
+		});
 	}
 
-	public static void transform(final GrayU8 input , final GrayS32 transformed )
+	public static void transform( final GrayU8 input , final GrayS32 transformed )
 	{
-		int indexSrc = input.startIndex;
-		int indexDst = transformed.startIndex;
-		int end = indexSrc + input.width;
-
-		int total = 0;
-		for( ; indexSrc < end; indexSrc++ ) {
-			transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
-		}
-
-		for( int y = 1; y < input.height; y++ ) {
-			indexSrc = input.startIndex + input.stride*y;
-			indexDst = transformed.startIndex + transformed.stride*y;
-			int indexPrev = indexDst - transformed.stride;
-
-			end = indexSrc + input.width;
-
-			total = 0;
-			for( ; indexSrc < end; indexSrc++ ) {
-				total +=  input.data[indexSrc]& 0xFF;
-				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+		// sum along each row
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					int total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+					}
+				}
 			}
-		}
+		});
+
+		// add the row above to get the sum along each column
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] += transformed.data[indexPrev++];
+					}
+				}
+			}
+		});
 	}
 
-	public static void transform(final GrayS32 input , final GrayS32 transformed )
+	public static void transform( final GrayS32 input , final GrayS32 transformed )
 	{
-		int indexSrc = input.startIndex;
-		int indexDst = transformed.startIndex;
-		int end = indexSrc + input.width;
-
-		int total = 0;
-		for( ; indexSrc < end; indexSrc++ ) {
-			transformed.data[indexDst++] = total += input.data[indexSrc];
-		}
-
-		for( int y = 1; y < input.height; y++ ) {
-			indexSrc = input.startIndex + input.stride*y;
-			indexDst = transformed.startIndex + transformed.stride*y;
-			int indexPrev = indexDst - transformed.stride;
-
-			end = indexSrc + input.width;
-
-			total = 0;
-			for( ; indexSrc < end; indexSrc++ ) {
-				total +=  input.data[indexSrc];
-				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+		// sum along each row
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					int total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
 			}
-		}
+		});
+
+		// add the row above to get the sum along each column
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] += transformed.data[indexPrev++];
+					}
+				}
+			}
+		});
 	}
 
-	public static void transform(final GrayS64 input , final GrayS64 transformed )
+	public static void transform( final GrayS64 input , final GrayS64 transformed )
 	{
-		int indexSrc = input.startIndex;
-		int indexDst = transformed.startIndex;
-		int end = indexSrc + input.width;
-
-		long total = 0;
-		for( ; indexSrc < end; indexSrc++ ) {
-			transformed.data[indexDst++] = total += input.data[indexSrc];
-		}
-
-		for( int y = 1; y < input.height; y++ ) {
-			indexSrc = input.startIndex + input.stride*y;
-			indexDst = transformed.startIndex + transformed.stride*y;
-			int indexPrev = indexDst - transformed.stride;
-
-			end = indexSrc + input.width;
-
-			total = 0;
-			for( ; indexSrc < end; indexSrc++ ) {
-				total +=  input.data[indexSrc];
-				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+		// sum along each row
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					long total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
 			}
-		}
+		});
+
+		// add the row above to get the sum along each column
+		BoofConcurrency.loopBlocks(0, input.width, MIN_COLUMNS, BoofConcurrency.USE_CONCURRENT, new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] += transformed.data[indexPrev++];
+					}
+				}
+			}
+		});
 	}
 
 	public static void convolve( GrayF32 integral ,
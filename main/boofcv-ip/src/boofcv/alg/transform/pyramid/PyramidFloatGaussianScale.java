@@ -19,11 +19,16 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.abst.filter.blur.BlurStorageFilter;
+import boofcv.abst.filter.convolve.GenericConvolveDown;
 import boofcv.alg.distort.DistortImageOps;
 import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.distort.impl.DistortSupport;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.factory.filter.convolve.FactoryConvolveDown;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidFloat;
@@ -42,6 +47,12 @@ import boofcv.struct.pyramid.PyramidFloat;
  * with no sacrifices to improve speed.
  * </p>
  *
+ * <p>
+ * When a layer is an integer multiple smaller than the previous layer, every sample lands on a pixel in the
+ * previous layer.  In that situation the blur is only computed at the sampled pixels using a down sampling
+ * convolution and the full resolution blurred image is never created.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -59,6 +70,12 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 	// The effective amount of blur in each pyramid layer relative to the input image
 	protected double[] sigma;
 
+	// blur applied to the previous layer when it's re-sampled using interpolation
+	protected BlurStorageFilter<T>[] blur;
+	// blur and down sample in a single step when the change in scale is an integer
+	protected GenericConvolveDown<T,T>[] horizontal;
+	protected GenericConvolveDown<T,T>[] vertical;
+
 	/**
 	 * Configures the pyramid
 	 *
@@ -85,6 +102,11 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 			double effectiveSigma = sigmaLayers[i]*scales[i-1];
 			sigma[i] = Math.sqrt(sigma[i-1]*sigma[i-1] + effectiveSigma*effectiveSigma);
 		}
+
+		// filters are declared the first time they are needed
+		blur = new BlurStorageFilter[ scales.length ];
+		horizontal = new GenericConvolveDown[ scales.length ];
+		vertical = new GenericConvolveDown[ scales.length ];
 	}
 
 
@@ -103,21 +125,59 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 			T prev = i == 0 ? input : getLayer(i-1);
 			T layer = getLayer(i);
 
-			// Apply the requested blur to the previous layer
-			BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getImageType(), sigmaLayers[i],-1);
-			tempImage.reshape(prev.width,prev.height);
-			blur.process(prev,tempImage);
-
-			// Resample the blurred image
-			if( scale[i] == 1 ) {
-				layer.setTo(tempImage);
+			int skip = integerSkip(prev, layer);
+
+			if( skip == 1 ) {
+				// no re-sampling is needed, just blur
+				declareBlur(i).process(prev,layer);
+			} else if( skip > 1 ) {
+				// blur is only computed at the sampled pixels
+				declareConvolveDown(i);
+				horizontal[i].setSkip(skip);
+				vertical[i].setSkip(skip);
+				tempImage.reshape(prev.width/skip,prev.height);
+				horizontal[i].process(prev,tempImage);
+				vertical[i].process(tempImage,layer);
 			} else {
+				// Apply the requested blur to the previous layer
+				tempImage.reshape(prev.width,prev.height);
+				declareBlur(i).process(prev,tempImage);
+
+				// Resample the blurred image
 				PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage, null);
 				DistortImageOps.distortSingle(tempImage,layer, true, model,interpolate);
 			}
 		}
 	}
 
+	private BlurStorageFilter<T> declareBlur( int layer ) {
+		if( blur[layer] == null )
+			blur[layer] = FactoryBlurFilter.gaussian(getImageType(),sigmaLayers[layer],-1);
+		return blur[layer];
+	}
+
+	private void declareConvolveDown( int layer ) {
+		if( horizontal[layer] == null ) {
+			Class<T> imageClass = getImageType().getImageClass();
+			Kernel1D kernel = FactoryKernelGaussian.gaussian1D(imageClass,sigmaLayers[layer],-1);
+			horizontal[layer] = FactoryConvolveDown.convolveSB(kernel, BorderType.NORMALIZED, true, 1, imageClass, imageClass);
+			vertical[layer] = FactoryConvolveDown.convolveSB(kernel, BorderType.NORMALIZED, false, 1, imageClass, imageClass);
+		}
+	}
+
+	/**
+	 * If the layer is an integer multiple smaller than the previous layer then every sampled point lands exactly
+	 * on a pixel in the previous layer.
+	 *
+	 * @return The integer change in scale or -1 if it's not an integer
+	 */
+	static int integerSkip( ImageGray prev , ImageGray layer ) {
+		int skip = prev.width/layer.width;
+		if( skip >= 1 && prev.width == layer.width*skip && prev.height == layer.height*skip )
+			return skip;
+		return -1;
+	}
+
 	public InterpolatePixelS<T> getInterpolate() {
 		return interpolate;
 	}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Global settings and functions for running algorithms concurrently.  When {@link #USE_CONCURRENT} is true,
+ * algorithms which have a concurrent implementation will split their work into blocks which are processed
+ * on a shared {@link ForkJoinPool}.  All concurrent implementations produce the same output as their
+ * single threaded equivalent.
+ * </p>
+ *
+ * <p>
+ * A range is split into a fixed number of contiguous blocks that only depends on the size of the range
+ * and the number of threads.  If the range is too small to be worth splitting, then it's processed in the
+ * calling thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+
+	/**
+	 * If true then concurrent implementations of algorithms will be used, if available.
+	 */
+	public static boolean USE_CONCURRENT = false;
+
+	/**
+	 * Minimum number of rows in a band which is processed by a single thread.  Used by image operations
+	 * which split an image into horizontal bands of rows.
+	 */
+	public static int MIN_BAND_ROWS = 32;
+
+	// thread pool shared by all concurrent algorithms
+	private static ForkJoinPool pool = new ForkJoinPool();
+
+	/**
+	 * Changes the maximum number of threads used by concurrent algorithms.  A new thread pool is created.
+	 *
+	 * @param maxThreads Maximum number of threads. &ge; 1
+	 */
+	public static void setMaxThreads( int maxThreads ) {
+		if( maxThreads < 1 )
+			throw new IllegalArgumentException("Maximum number of threads must be at least one");
+		ForkJoinPool old = pool;
+		pool = new ForkJoinPool(maxThreads);
+		old.shutdown();
+	}
+
+	/**
+	 * Returns the maximum number of threads which will be used
+	 */
+	public static int getMaxThreads() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Returns the thread pool used by concurrent algorithms
+	 */
+	public static ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Returns true if the object can create a copy of itself for use by a different thread
+	 *
+	 * @see ConcurrentCopy
+	 */
+	public static boolean isCopySupported( Object o ) {
+		return o instanceof ConcurrentCopy;
+	}
+
+	/**
+	 * Creates a copy of the object for use by a different thread.
+	 *
+	 * @param original Object which implements {@link ConcurrentCopy}
+	 * @return The copy
+	 * @throws IllegalArgumentException If the object doesn't implement {@link ConcurrentCopy}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T copy( T original ) {
+		if( !(original instanceof ConcurrentCopy) )
+			throw new IllegalArgumentException(original.getClass().getSimpleName()+" doesn't implement ConcurrentCopy");
+		return ((ConcurrentCopy<T>)original).copy();
+	}
+
+	/**
+	 * Computes the number of blocks a range will be split into
+	 *
+	 * @param length Number of elements in the range
+	 * @param minBlock Minimum number of elements in a block. &ge; 1
+	 * @return Number of blocks. &ge; 1
+	 */
+	public static int numberOfBlocks( int length , int minBlock ) {
+		int maxBlocks = length/Math.max(1,minBlock);
+		return Math.max(1,Math.min(pool.getParallelism(),maxBlocks));
+	}
+
+	/**
+	 * Splits the range [start,end) into contiguous blocks and processes each block concurrently.  The function
+	 * returns after all the blocks have been processed.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param minBlock Minimum number of elements in a block
+	 * @param task The task which processes each block
+	 */
+	public static void loopBlocks( int start , int end , int minBlock , final IntRangeTask task ) {
+		final int numBlocks = numberOfBlocks(end-start,minBlock);
+
+		if( numBlocks <= 1 ) {
+			if( end > start )
+				task.process(start,end);
+			return;
+		}
+
+		RecursiveAction[] actions = new RecursiveAction[numBlocks];
+		for( int i = 0; i < numBlocks; i++ ) {
+			final int idx0 = blockStart(start,end,numBlocks,i);
+			final int idx1 = blockStart(start,end,numBlocks,i+1);
+			actions[i] = new RecursiveAction() {
+				@Override
+				protected void compute() {
+					task.process(idx0,idx1);
+				}
+			};
+		}
+		invokeAll(actions);
+	}
+
+	/**
+	 * If 'concurrent' is true then the range is processed by {@link #loopBlocks(int, int, int, IntRangeTask)},
+	 * otherwise the whole range is processed by the calling thread as a single block.  Typically 'concurrent'
+	 * is {@link #USE_CONCURRENT}.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param minBlock Minimum number of elements in a block
+	 * @param concurrent If true the blocks are processed concurrently
+	 * @param task The task which processes each block
+	 */
+	public static void loopBlocks( int start , int end , int minBlock , boolean concurrent ,
+								   IntRangeTask task ) {
+		if( concurrent ) {
+			loopBlocks(start,end,minBlock,task);
+		} else if( end > start ) {
+			task.process(start,end);
+		}
+	}
+
+	/**
+	 * Same as {@link #loopBlocks(int, int, int, IntRangeTask)} but each block is also provided with its own
+	 * workspace.  The workspace queue is resized to the number of blocks and element 'i' is always given to
+	 * block 'i', allowing the workspace to be recycled between calls.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param minBlock Minimum number of elements in a block
+	 * @param workspace Storage for each block's workspace.  Resized.
+	 * @param task The task which processes each block
+	 */
+	public static <T> void loopBlocks( int start , int end , int minBlock ,
+									   FastQueue<T> workspace , final IntRangeObjectTask<T> task ) {
+		final int numBlocks = numberOfBlocks(end-start,minBlock);
+
+		workspace.resize(numBlocks);
+
+		if( numBlocks <= 1 ) {
+			if( end > start )
+				task.process(workspace.get(0),start,end);
+			return;
+		}
+
+		RecursiveAction[] actions = new RecursiveAction[numBlocks];
+		for( int i = 0; i < numBlocks; i++ ) {
+			final int idx0 = blockStart(start,end,numBlocks,i);
+			final int idx1 = blockStart(start,end,numBlocks,i+1);
+			final T w = workspace.get(i);
+			actions[i] = new RecursiveAction() {
+				@Override
+				protected void compute() {
+					task.process(w,idx0,idx1);
+				}
+			};
+		}
+		invokeAll(actions);
+	}
+
+	/**
+	 * Same as {@link #loopBlocks(int, int, int, boolean, IntRangeTask)} but with a workspace for each block,
+	 * see {@link #loopBlocks(int, int, int, FastQueue, IntRangeObjectTask)}.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param minBlock Minimum number of elements in a block
+	 * @param concurrent If true the blocks are processed concurrently
+	 * @param workspace Storage for each block's workspace.  Resized.
+	 * @param task The task which processes each block
+	 */
+	public static <T> void loopBlocks( int start , int end , int minBlock , boolean concurrent ,
+									   FastQueue<T> workspace , IntRangeObjectTask<T> task ) {
+		if( concurrent ) {
+			loopBlocks(start,end,minBlock,workspace,task);
+		} else if( end > start ) {
+			workspace.resize(1);
+			task.process(workspace.get(0),start,end);
+		}
+	}
+
+	/**
+	 * Returns the first index in the specified block
+	 */
+	static int blockStart( int start , int end , int numBlocks , int block ) {
+		return start + (int)((end-start)*(long)block/numBlocks);
+	}
+
+	/**
+	 * Runs all the actions and waits for them to finish.  If called from inside the pool, e.g. by a nested
+	 * concurrent algorithm, then the calling thread participates instead of blocking.
+	 */
+	private static void invokeAll( final RecursiveAction[] actions ) {
+		if( ForkJoinTask.inForkJoinPool() ) {
+			ForkJoinTask.invokeAll(actions);
+		} else {
+			pool.invoke(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					ForkJoinTask.invokeAll(actions);
+				}
+			});
+		}
+	}
+}
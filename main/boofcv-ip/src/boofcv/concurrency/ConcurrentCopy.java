@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+/**
+ * Implemented by classes which can create a copy of themselves that can be used at the same time as the original
+ * from a different thread.  Read only data, e.g. the image being processed or a lookup table, may be shared
+ * by the copy.  Workspace is not shared.  Concurrent algorithms check for this interface and process in a
+ * single thread when it's missing.
+ *
+ * @see BoofConcurrency#copy
+ *
+ * @author Peter Abeles
+ */
+public interface ConcurrentCopy<T> {
+	/**
+	 * Creates a copy which can be used at the same time as this instance from a different thread
+	 *
+	 * @return New instance
+	 */
+	T copy();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+/**
+ * Task which processes a range of indexes and is provided its own workspace.  A workspace is never shared
+ * by two ranges which are processed at the same time.
+ *
+ * @author Peter Abeles
+ */
+public interface IntRangeObjectTask<T> {
+	/**
+	 * Processes the indexes from idx0 to idx1-1.
+	 *
+	 * @param workspace Storage which is exclusive to this range.
+	 * @param idx0 First index in the range, inclusive.
+	 * @param idx1 Last index in the range, exclusive.
+	 */
+	void process( T workspace , int idx0 , int idx1 );
+}
@@ -19,6 +19,8 @@
 package boofcv.core.image;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.InterleavedF32;
@@ -37,24 +39,30 @@ public class InterleavedImageOps {
 	 * @param band0 (Output) band 0
 	 * @param band1 (Output) band 1
 	 */
-	public static void split2(InterleavedF32 interleaved , GrayF32 band0 , GrayF32 band1 ) {
+	public static void split2(final InterleavedF32 interleaved , final GrayF32 band0 , final GrayF32 band1 ) {
 		if( interleaved.numBands != 2 )
 			throw new IllegalArgumentException("Input interleaved image must have 2 bands");
 		InputSanityCheck.checkSameShape(band0, interleaved);
 		InputSanityCheck.checkSameShape(band1, interleaved);
 
-		for( int y = 0; y < interleaved.height; y++ ) {
+		BoofConcurrency.loopBlocks(0, interleaved.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
 
-			int indexTran = interleaved.startIndex + y*interleaved.stride;
-			int indexReal = band0.startIndex + y*band0.stride;
-			int indexImg = band1.startIndex + y*band1.stride;
+					int indexTran = interleaved.startIndex + y*interleaved.stride;
+					int indexReal = band0.startIndex + y*band0.stride;
+					int indexImg = band1.startIndex + y*band1.stride;
 
-			for( int x = 0; x < interleaved.width; x++, indexTran += 2 ) {
+					for( int x = 0; x < interleaved.width; x++, indexTran += 2 ) {
 
-				band0.data[indexReal++] = interleaved.data[indexTran];
-				band1.data[indexImg++] = interleaved.data[indexTran+1];
+						band0.data[indexReal++] = interleaved.data[indexTran];
+						band1.data[indexImg++] = interleaved.data[indexTran+1];
+					}
+				}
 			}
-		}
+		});
 	}
 
 	/**
@@ -64,24 +72,30 @@ public class InterleavedImageOps {
 	 * @param band1 (Input) band 1
 	 * @param interleaved (Output) Interleaved image with 2 bands
 	 */
-	public static void merge2(GrayF32 band0 , GrayF32 band1 , InterleavedF32 interleaved ) {
+	public static void merge2(final GrayF32 band0 , final GrayF32 band1 , final InterleavedF32 interleaved ) {
 		if( interleaved.numBands != 2 )
 			throw new IllegalArgumentException("Output interleaved image must have 2 bands");
 
 		InputSanityCheck.checkSameShape(band0,interleaved);
 		InputSanityCheck.checkSameShape(band1,interleaved);
 
-		for( int y = 0; y < interleaved.height; y++ ) {
+		BoofConcurrency.loopBlocks(0, interleaved.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
 
-			int indexTran = interleaved.startIndex + y*interleaved.stride;
-			int indexReal = band0.startIndex + y*band0.stride;
-			int indexImg = band1.startIndex + y*band1.stride;
+					int indexTran = interleaved.startIndex + y*interleaved.stride;
+					int indexReal = band0.startIndex + y*band0.stride;
+					int indexImg = band1.startIndex + y*band1.stride;
 
-			for( int x = 0; x < interleaved.width; x++, indexTran += 2 ) {
+					for( int x = 0; x < interleaved.width; x++, indexTran += 2 ) {
 
-				interleaved.data[indexTran] = band0.data[indexReal++];
-				interleaved.data[indexTran+1] = band1.data[indexImg++];
+						interleaved.data[indexTran] = band0.data[indexReal++];
+						interleaved.data[indexTran+1] = band1.data[indexImg++];
+					}
+				}
 			}
-		}
+		});
 	}
 }
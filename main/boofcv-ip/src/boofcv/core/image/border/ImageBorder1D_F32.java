@@ -18,13 +18,16 @@
 
 package boofcv.core.image.border;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayF32;
 
 
 /**
  * @author Peter Abeles
  */
-public class ImageBorder1D_F32 extends ImageBorder_F32 {
+public class ImageBorder1D_F32 extends ImageBorder_F32
+		implements ConcurrentCopy<ImageBorder1D_F32>
+{
 	BorderIndex1D rowWrap;
 	BorderIndex1D colWrap;
 
@@ -66,4 +69,9 @@ public class ImageBorder1D_F32 extends ImageBorder_F32 {
 	public void setOutside(int x, int y, float val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_F32 copy() {
+		return new ImageBorder1D_F32(rowWrap.getClass());
+	}
 }
@@ -18,13 +18,16 @@
 
 package boofcv.core.image.border;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayF64;
 
 
 /**
  * @author Peter Abeles
  */
-public class ImageBorder1D_F64 extends ImageBorder_F64 {
+public class ImageBorder1D_F64 extends ImageBorder_F64
+		implements ConcurrentCopy<ImageBorder1D_F64>
+{
 	BorderIndex1D rowWrap;
 	BorderIndex1D colWrap;
 
@@ -66,4 +69,9 @@ public class ImageBorder1D_F64 extends ImageBorder_F64 {
 	public void setOutside(int x, int y, double val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_F64 copy() {
+		return new ImageBorder1D_F64(rowWrap.getClass());
+	}
 }
@@ -18,13 +18,16 @@
 
 package boofcv.core.image.border;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.InterleavedInteger;
 
 
 /**
  * @author Peter Abeles
  */
-public class ImageBorder1D_IL_S32<T extends InterleavedInteger<T>> extends ImageBorder_IL_S32<T> {
+public class ImageBorder1D_IL_S32<T extends InterleavedInteger<T>> extends ImageBorder_IL_S32<T>
+		implements ConcurrentCopy<ImageBorder1D_IL_S32<T>>
+{
 	BorderIndex1D rowWrap;
 	BorderIndex1D colWrap;
 
@@ -66,4 +69,9 @@ public class ImageBorder1D_IL_S32<T extends InterleavedInteger<T>> extends Image
 	public void setOutside(int x, int y, int[] pixel) {
 		image.unsafe_set(colWrap.getIndex(x), rowWrap.getIndex(y), pixel);
 	}
+
+	@Override
+	public ImageBorder1D_IL_S32<T> copy() {
+		return new ImageBorder1D_IL_S32<>(rowWrap.getClass());
+	}
 }
@@ -18,13 +18,16 @@
 
 package boofcv.core.image.border;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.InterleavedS64;
 
 
 /**
  * @author Peter Abeles
  */
-public class ImageBorder1D_IL_S64 extends ImageBorder_IL_S64 {
+public class ImageBorder1D_IL_S64 extends ImageBorder_IL_S64
+		implements ConcurrentCopy<ImageBorder1D_IL_S64>
+{
 	BorderIndex1D rowWrap;
 	BorderIndex1D colWrap;
 
@@ -66,4 +69,9 @@ public class ImageBorder1D_IL_S64 extends ImageBorder_IL_S64 {
 	public void setOutside(int x, int y, long[] pixel) {
 		image.unsafe_set(colWrap.getIndex(x), rowWrap.getIndex(y), pixel);
 	}
+
+	@Override
+	public ImageBorder1D_IL_S64 copy() {
+		return new ImageBorder1D_IL_S64(rowWrap.getClass());
+	}
 }
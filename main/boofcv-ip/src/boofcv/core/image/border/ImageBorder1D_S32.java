@@ -18,13 +18,16 @@
 
 package boofcv.core.image.border;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayI;
 
 
 /**
  * @author Peter Abeles
  */
-public class ImageBorder1D_S32<T extends GrayI<T>> extends ImageBorder_S32<T> {
+public class ImageBorder1D_S32<T extends GrayI<T>> extends ImageBorder_S32<T>
+		implements ConcurrentCopy<ImageBorder1D_S32<T>>
+{
 	BorderIndex1D rowWrap;
 	BorderIndex1D colWrap;
 
@@ -72,4 +75,9 @@ public class ImageBorder1D_S32<T extends GrayI<T>> extends ImageBorder_S32<T> {
 	public void setOutside(int x, int y, int val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_S32<T> copy() {
+		return new ImageBorder1D_S32<>(rowWrap.getClass());
+	}
 }
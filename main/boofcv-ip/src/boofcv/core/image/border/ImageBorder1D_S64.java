@@ -18,13 +18,16 @@
 
 package boofcv.core.image.border;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.GrayS64;
 
 
 /**
  * @author Peter Abeles
  */
-public class ImageBorder1D_S64 extends ImageBorder_S64 {
+public class ImageBorder1D_S64 extends ImageBorder_S64
+		implements ConcurrentCopy<ImageBorder1D_S64>
+{
 	BorderIndex1D rowWrap;
 	BorderIndex1D colWrap;
 
@@ -72,4 +75,9 @@ public class ImageBorder1D_S64 extends ImageBorder_S64 {
 	public void setOutside(int x, int y, long val) {
 		image.set(colWrap.getIndex(x) , rowWrap.getIndex(y),val);
 	}
+
+	@Override
+	public ImageBorder1D_S64 copy() {
+		return new ImageBorder1D_S64(rowWrap.getClass());
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.core.image.border;
 
+import boofcv.concurrency.ConcurrentCopy;
 import boofcv.struct.image.*;
 
 import java.util.Arrays;
@@ -72,7 +73,7 @@ public class ImageBorderValue {
 		return new Value_I(image,value);
 	}
 
-	public static class Value_I64 extends ImageBorder_S64 {
+	public static class Value_I64 extends ImageBorder_S64 implements ConcurrentCopy<Value_I64> {
 		long value;
 
 		public Value_I64(GrayS64 image , long value ) {
@@ -93,9 +94,14 @@ public class ImageBorderValue {
 		public void setOutside(int x, int y, long val) {
 			// do nothing since it is a constant value
 		}
+
+		@Override
+		public Value_I64 copy() {
+			return new Value_I64(value);
+		}
 	}
 
-	public static class Value_F64 extends ImageBorder_F64 {
+	public static class Value_F64 extends ImageBorder_F64 implements ConcurrentCopy<Value_F64> {
 		double value;
 
 		public Value_F64(GrayF64 image , double value ) {
@@ -116,9 +122,14 @@ public class ImageBorderValue {
 		public void setOutside(int x, int y, double val) {
 			// do nothing since it is a constant value
 		}
+
+		@Override
+		public Value_F64 copy() {
+			return new Value_F64(value);
+		}
 	}
 
-	public static class Value_F32 extends ImageBorder_F32 {
+	public static class Value_F32 extends ImageBorder_F32 implements ConcurrentCopy<Value_F32> {
 		float value;
 
 		public Value_F32(GrayF32 image , float value ) {
@@ -139,9 +150,14 @@ public class ImageBorderValue {
 		public void setOutside(int x, int y, float val) {
 			// do nothing since it is a constant value
 		}
+
+		@Override
+		public Value_F32 copy() {
+			return new Value_F32(value);
+		}
 	}
 
-	public static class Value_I extends ImageBorder_S32 {
+	public static class Value_I extends ImageBorder_S32 implements ConcurrentCopy<Value_I> {
 		int value;
 
 		public Value_I(GrayI image , int value ) {
@@ -162,9 +178,14 @@ public class ImageBorderValue {
 		public void setOutside(int x, int y, int value) {
 			// do nothing since it is a constant
 		}
+
+		@Override
+		public Value_I copy() {
+			return new Value_I(value);
+		}
 	}
 
-	public static class Value_IL_F32 extends ImageBorder_IL_F32 {
+	public static class Value_IL_F32 extends ImageBorder_IL_F32 implements ConcurrentCopy<Value_IL_F32> {
 		float value;
 
 		public Value_IL_F32(InterleavedF32 image, float value) {super(image); this.value = value; }
@@ -178,9 +199,14 @@ public class ImageBorderValue {
 
 		@Override
 		public void setOutside(int x, int y, float[] pixel) {}
+
+		@Override
+		public Value_IL_F32 copy() {
+			return new Value_IL_F32(value);
+		}
 	}
 
-	public static class Value_IL_F64 extends ImageBorder_IL_F64 {
+	public static class Value_IL_F64 extends ImageBorder_IL_F64 implements ConcurrentCopy<Value_IL_F64> {
 		double value;
 
 		public Value_IL_F64(InterleavedF64 image, double value) {super(image); this.value = value; }
@@ -194,9 +220,14 @@ public class ImageBorderValue {
 
 		@Override
 		public void setOutside(int x, int y, double[] pixel) {}
+
+		@Override
+		public Value_IL_F64 copy() {
+			return new Value_IL_F64(value);
+		}
 	}
 
-	public static class Value_IL_S32 extends ImageBorder_IL_S32 {
+	public static class Value_IL_S32 extends ImageBorder_IL_S32 implements ConcurrentCopy<Value_IL_S32> {
 		int value;
 
 		public Value_IL_S32(InterleavedInteger image, int value) {super(image); this.value = value; }
@@ -210,9 +241,14 @@ public class ImageBorderValue {
 
 		@Override
 		public void setOutside(int x, int y, int[] pixel) {}
+
+		@Override
+		public Value_IL_S32 copy() {
+			return new Value_IL_S32(value);
+		}
 	}
 
-	public static class Value_IL_S64 extends ImageBorder_IL_S64 {
+	public static class Value_IL_S64 extends ImageBorder_IL_S64 implements ConcurrentCopy<Value_IL_S64> {
 		long value;
 
 		public Value_IL_S64(InterleavedS64 image, long value) {super(image); this.value = value; }
@@ -226,5 +262,10 @@ public class ImageBorderValue {
 
 		@Override
 		public void setOutside(int x, int y, long[] pixel) {}
+
+		@Override
+		public Value_IL_S64 copy() {
+			return new Value_IL_S64(value);
+		}
 	}
 }
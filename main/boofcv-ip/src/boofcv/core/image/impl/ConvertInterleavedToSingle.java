@@ -17,6 +17,8 @@
  */
 package boofcv.core.image.impl;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 
 /**
@@ -28,6 +30,10 @@ import boofcv.struct.image.*;
  * </ul>
  *
  * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are converted concurrently.
+ * </p>
+ *
+ * <p>
  * DO NOT MODIFY: This class was automatically generated by {@link boofcv.core.image.impl.GenerateConvertInterleavedToSingle}
  * </p>
  *
@@ -35,7 +41,7 @@ import boofcv.struct.image.*;
  */
 public class ConvertInterleavedToSingle {
 
-	public static void average( InterleavedU8 from , GrayU8 to ) {
+	public static void average( final InterleavedU8 from , final GrayU8 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -45,23 +51,29 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					int sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++]& 0xFF;
+						for (int x = 0; x < from.width; x++ ) {
+							int sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++]& 0xFF;
+							}
+							to.data[indexTo++] = (byte)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (byte)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average( InterleavedS8 from , GrayS8 to ) {
+	public static void average( final InterleavedS8 from , final GrayS8 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -71,23 +83,29 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					int sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++];
+						for (int x = 0; x < from.width; x++ ) {
+							int sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++];
+							}
+							to.data[indexTo++] = (byte)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (byte)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average( InterleavedU16 from , GrayU16 to ) {
+	public static void average( final InterleavedU16 from , final GrayU16 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -97,23 +115,29 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					int sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++]& 0xFFFF;
+						for (int x = 0; x < from.width; x++ ) {
+							int sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++]& 0xFFFF;
+							}
+							to.data[indexTo++] = (short)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (short)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average( InterleavedS16 from , GrayS16 to ) {
+	public static void average( final InterleavedS16 from , final GrayS16 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -123,23 +147,29 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					int sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++];
+						for (int x = 0; x < from.width; x++ ) {
+							int sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++];
+							}
+							to.data[indexTo++] = (short)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (short)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average( InterleavedS32 from , GrayS32 to ) {
+	public static void average( final InterleavedS32 from , final GrayS32 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -149,23 +179,29 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					int sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++];
+						for (int x = 0; x < from.width; x++ ) {
+							int sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average( InterleavedS64 from , GrayS64 to ) {
+	public static void average( final InterleavedS64 from , final GrayS64 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -175,23 +211,29 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					long sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++];
+						for (int x = 0; x < from.width; x++ ) {
+							long sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average( InterleavedF32 from , GrayF32 to ) {
+	public static void average( final InterleavedF32 from , final GrayF32 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -201,23 +243,29 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					float sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++];
+						for (int x = 0; x < from.width; x++ ) {
+							float sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average( InterleavedF64 from , GrayF64 to ) {
+	public static void average( final InterleavedF64 from , final GrayF64 to ) {
 		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
@@ -227,21 +275,26 @@ public class ConvertInterleavedToSingle {
 				System.arraycopy(from.data,indexFrom,to.data,indexTo,from.width);
 			}
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < from.width; x++ ) {
-					double sum = 0;
-					int indexFromEnd = indexFrom + numBands;
-					while( indexFrom < indexFromEnd ) {
-						sum += from.data[indexFrom++];
+						for (int x = 0; x < from.width; x++ ) {
+							double sum = 0;
+							int indexFromEnd = indexFrom + numBands;
+							while( indexFrom < indexFromEnd ) {
+								sum += from.data[indexFrom++];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-
 }
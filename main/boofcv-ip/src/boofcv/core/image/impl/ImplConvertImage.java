@@ -18,6 +18,8 @@
 
 package boofcv.core.image.impl;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 
 /**
@@ -27,6 +29,10 @@ import boofcv.struct.image.*;
  * </p>
  *
  * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are converted concurrently.
+ * </p>
+ *
+ * <p>
  * DO NOT MODIFY: This class was automatically generated by GenerateImplConvertImage
  * </p>
  *
@@ -35,2208 +41,3172 @@ import boofcv.struct.image.*;
 @SuppressWarnings("Duplicates")
 public class ImplConvertImage {
 
-	public static void convert(GrayU8 from, GrayI8 to ) {
+	public static void convert( final GrayU8 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height;
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert( InterleavedU8 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedU8 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert(GrayU8 from, GrayI16 to ) {
+	public static void convert( final GrayU8 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU8 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedU8 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU8 from, GrayS32 to ) {
+	public static void convert( final GrayU8 from, final GrayS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU8 from, InterleavedS32 to ) {
+	public static void convert( final InterleavedU8 from, final InterleavedS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU8 from, GrayS64 to ) {
+	public static void convert( final GrayU8 from, final GrayS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU8 from, InterleavedS64 to ) {
+	public static void convert( final InterleavedU8 from, final InterleavedS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU8 from, GrayF32 to ) {
+	public static void convert( final GrayU8 from, final GrayF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU8 from, InterleavedF32 to ) {
+	public static void convert( final InterleavedU8 from, final InterleavedF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU8 from, GrayF64 to ) {
+	public static void convert( final GrayU8 from, final GrayF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU8 from, InterleavedF64 to ) {
+	public static void convert( final InterleavedU8 from, final InterleavedF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] & 0xFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] & 0xFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU8 input , Planar<GrayU8> output ) {
+	public static void convert( final InterleavedU8 input , final Planar<GrayU8> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayU8> input , InterleavedU8 output ) {
+	public static void convert( final Planar<GrayU8> input , final InterleavedU8 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
 
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(GrayS8 from, GrayI8 to ) {
+	public static void convert( final GrayS8 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height;
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert( InterleavedS8 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedS8 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert(GrayS8 from, GrayI16 to ) {
+	public static void convert( final GrayS8 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS8 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedS8 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS8 from, GrayS32 to ) {
+	public static void convert( final GrayS8 from, final GrayS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS8 from, InterleavedS32 to ) {
+	public static void convert( final InterleavedS8 from, final InterleavedS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS8 from, GrayS64 to ) {
+	public static void convert( final GrayS8 from, final GrayS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS8 from, InterleavedS64 to ) {
+	public static void convert( final InterleavedS8 from, final InterleavedS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS8 from, GrayF32 to ) {
+	public static void convert( final GrayS8 from, final GrayF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS8 from, InterleavedF32 to ) {
+	public static void convert( final InterleavedS8 from, final InterleavedF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS8 from, GrayF64 to ) {
+	public static void convert( final GrayS8 from, final GrayF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS8 from, InterleavedF64 to ) {
+	public static void convert( final InterleavedS8 from, final InterleavedF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS8 input , Planar<GrayS8> output ) {
+	public static void convert( final InterleavedS8 input , final Planar<GrayS8> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayS8> input , InterleavedS8 output ) {
+	public static void convert( final Planar<GrayS8> input , final InterleavedS8 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
 
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(GrayU16 from, GrayI8 to ) {
+	public static void convert( final GrayU16 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU16 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedU16 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU16 from, GrayI16 to ) {
+	public static void convert( final GrayU16 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height;
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert( InterleavedU16 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedU16 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert(GrayU16 from, GrayS32 to ) {
+	public static void convert( final GrayU16 from, final GrayS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU16 from, InterleavedS32 to ) {
+	public static void convert( final InterleavedU16 from, final InterleavedS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU16 from, GrayS64 to ) {
+	public static void convert( final GrayU16 from, final GrayS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU16 from, InterleavedS64 to ) {
+	public static void convert( final InterleavedU16 from, final InterleavedS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU16 from, GrayF32 to ) {
+	public static void convert( final GrayU16 from, final GrayF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU16 from, InterleavedF32 to ) {
+	public static void convert( final InterleavedU16 from, final InterleavedF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayU16 from, GrayF64 to ) {
+	public static void convert( final GrayU16 from, final GrayF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU16 from, InterleavedF64 to ) {
+	public static void convert( final InterleavedU16 from, final InterleavedF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFFFF);
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFFFF);
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] & 0xFFFF);
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] & 0xFFFF);
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedU16 input , Planar<GrayU16> output ) {
+	public static void convert( final InterleavedU16 input , final Planar<GrayU16> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayU16> input , InterleavedU16 output ) {
+	public static void convert( final Planar<GrayU16> input , final InterleavedU16 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
 
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(GrayS16 from, GrayI8 to ) {
+	public static void convert( final GrayS16 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS16 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedS16 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS16 from, GrayI16 to ) {
+	public static void convert( final GrayS16 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height;
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert( InterleavedS16 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedS16 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
-
 			System.arraycopy(from.data, 0, to.data, 0, N);
 		}
 	}
 
-	public static void convert(GrayS16 from, GrayS32 to ) {
+	public static void convert( final GrayS16 from, final GrayS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS16 from, InterleavedS32 to ) {
+	public static void convert( final InterleavedS16 from, final InterleavedS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS16 from, GrayS64 to ) {
+	public static void convert( final GrayS16 from, final GrayS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS16 from, InterleavedS64 to ) {
+	public static void convert( final InterleavedS16 from, final InterleavedS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS16 from, GrayF32 to ) {
+	public static void convert( final GrayS16 from, final GrayF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS16 from, InterleavedF32 to ) {
+	public static void convert( final InterleavedS16 from, final InterleavedF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS16 from, GrayF64 to ) {
+	public static void convert( final GrayS16 from, final GrayF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS16 from, InterleavedF64 to ) {
+	public static void convert( final InterleavedS16 from, final InterleavedF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS16 input , Planar<GrayS16> output ) {
+	public static void convert( final InterleavedS16 input , final Planar<GrayS16> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayS16> input , InterleavedS16 output ) {
+	public static void convert( final Planar<GrayS16> input , final InterleavedS16 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
 
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(GrayS32 from, GrayI8 to ) {
+	public static void convert( final GrayS32 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS32 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedS32 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS32 from, GrayI16 to ) {
+	public static void convert( final GrayS32 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS32 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedS32 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS32 from, GrayS64 to ) {
+	public static void convert( final GrayS32 from, final GrayS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS32 from, InterleavedS64 to ) {
+	public static void convert( final InterleavedS32 from, final InterleavedS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS32 from, GrayF32 to ) {
+	public static void convert( final GrayS32 from, final GrayF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS32 from, InterleavedF32 to ) {
+	public static void convert( final InterleavedS32 from, final InterleavedF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS32 from, GrayF64 to ) {
+	public static void convert( final GrayS32 from, final GrayF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS32 from, InterleavedF64 to ) {
+	public static void convert( final InterleavedS32 from, final InterleavedF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS32 input , Planar<GrayS32> output ) {
+	public static void convert( final InterleavedS32 input , final Planar<GrayS32> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayS32> input , InterleavedS32 output ) {
+	public static void convert( final Planar<GrayS32> input , final InterleavedS32 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
 
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(GrayS64 from, GrayI8 to ) {
+	public static void convert( final GrayS64 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS64 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedS64 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS64 from, GrayI16 to ) {
+	public static void convert( final GrayS64 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS64 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedS64 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS64 from, GrayS32 to ) {
+	public static void convert( final GrayS64 from, final GrayS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( int )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( int )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS64 from, InterleavedS32 to ) {
+	public static void convert( final InterleavedS64 from, final InterleavedS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( int )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( int )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS64 from, GrayF32 to ) {
+	public static void convert( final GrayS64 from, final GrayF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS64 from, InterleavedF32 to ) {
+	public static void convert( final InterleavedS64 from, final InterleavedF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayS64 from, GrayF64 to ) {
+	public static void convert( final GrayS64 from, final GrayF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS64 from, InterleavedF64 to ) {
+	public static void convert( final InterleavedS64 from, final InterleavedF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedS64 input , Planar<GrayS64> output ) {
+	public static void convert( final InterleavedS64 input , final Planar<GrayS64> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayS64> input , InterleavedS64 output ) {
+	public static void convert( final Planar<GrayS64> input , final InterleavedS64 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
 
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(GrayF32 from, GrayI8 to ) {
+	public static void convert( final GrayF32 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF32 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedF32 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF32 from, GrayI16 to ) {
+	public static void convert( final GrayF32 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF32 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedF32 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF32 from, GrayS32 to ) {
+	public static void convert( final GrayF32 from, final GrayS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( int )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( int )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF32 from, InterleavedS32 to ) {
+	public static void convert( final InterleavedF32 from, final InterleavedS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( int )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( int )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF32 from, GrayS64 to ) {
+	public static void convert( final GrayF32 from, final GrayS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( long )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( long )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF32 from, InterleavedS64 to ) {
+	public static void convert( final InterleavedF32 from, final InterleavedS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( long )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( long )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF32 from, GrayF64 to ) {
+	public static void convert( final GrayF32 from, final GrayF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF32 from, InterleavedF64 to ) {
+	public static void convert( final InterleavedF32 from, final InterleavedF64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( double )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( double )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( double )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF32 input , Planar<GrayF32> output ) {
+	public static void convert( final InterleavedF32 input , final Planar<GrayF32> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayF32> input , InterleavedF32 output ) {
+	public static void convert( final Planar<GrayF32> input , final InterleavedF32 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
 
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(GrayF64 from, GrayI8 to ) {
+	public static void convert( final GrayF64 from, final GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF64 from, InterleavedI8 to ) {
+	public static void convert( final InterleavedF64 from, final InterleavedI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( byte )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( byte )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF64 from, GrayI16 to ) {
+	public static void convert( final GrayF64 from, final GrayI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF64 from, InterleavedI16 to ) {
+	public static void convert( final InterleavedF64 from, final InterleavedI16 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( short )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( short )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( short )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF64 from, GrayS32 to ) {
+	public static void convert( final GrayF64 from, final GrayS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( int )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( int )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF64 from, InterleavedS32 to ) {
+	public static void convert( final InterleavedF64 from, final InterleavedS32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( int )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( int )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( int )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF64 from, GrayS64 to ) {
+	public static void convert( final GrayF64 from, final GrayS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( long )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( long )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF64 from, InterleavedS64 to ) {
+	public static void convert( final InterleavedF64 from, final InterleavedS64 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( long )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( long )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( long )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert(GrayF64 from, GrayF32 to ) {
+	public static void convert( final GrayF64 from, final GrayF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < from.width; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height;
-
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*from.width;
+					for (int i = y0*from.width; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF64 from, InterleavedF32 to ) {
+	public static void convert( final InterleavedF64 from, final InterleavedF32 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
 
-				for (int x = 0; x < N; x++) {
-					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						for (int x = 0; x < N; x++) {
+							to.data[indexTo++] = ( float )( from.data[indexFrom++] );
+						}
+					}
 				}
-			}
-
+			});
 		} else {
-			final int N = from.width * from.height * from.getNumBands();
+			final int rowLength = from.width * from.getNumBands();
 
-			for (int i = 0; i < N; i++) {
-				to.data[i] = ( float )( from.data[i] );
-			}
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					final int N = y1*rowLength;
+					for (int i = y0*rowLength; i < N; i++) {
+						to.data[i] = ( float )( from.data[i] );
+					}
+				}
+			});
 		}
 	}
 
-	public static void convert( InterleavedF64 input , Planar<GrayF64> output ) {
+	public static void convert( final InterleavedF64 input , final Planar<GrayF64> output ) {
 
 		final int numBands = input.numBands;
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-			
-			for (int x = 0; x < input.width; x++, indexDst++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.bands[i].data[indexDst] = input.data[indexSrc++];
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexDst++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.bands[i].data[indexDst] = input.data[indexSrc++];
+						}
+					}
 				}
 			}
-		}
+		});
 	}
 
-	public static void convert(Planar<GrayF64> input , InterleavedF64 output ) {
+	public static void convert( final Planar<GrayF64> input , final InterleavedF64 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int y = 0; y < input.height; y++) {
-			int indexSrc = y*input.stride + input.startIndex;
-			int indexDst = y*output.stride + output.startIndex;
-
-			for (int x = 0; x < input.width; x++, indexSrc++ ) {
-				for (int i = 0; i < numBands; i++) {
-					output.data[indexDst++] = input.bands[i].data[indexSrc];
-				}
-			}
-		}
+		BoofConcurrency.loopBlocks(0, input.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+				new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = y*input.stride + input.startIndex;
+					int indexDst = y*output.stride + output.startIndex;
+
+					for (int x = 0; x < input.width; x++, indexSrc++ ) {
+						for (int i = 0; i < numBands; i++) {
+							output.data[indexDst++] = input.bands[i].data[indexSrc];
+						}
+					}
+				}
+			}
+		});
 	}
 
 }
@@ -18,6 +18,8 @@
 
 package boofcv.core.image.impl;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 
 /**
@@ -29,6 +31,10 @@ import boofcv.struct.image.*;
  * </ul>
  * 
  * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then bands of rows are converted concurrently.
+ * </p>
+ *
+ * <p>
  * DO NOT MODIFY: This class was automatically generated by {@link boofcv.core.image.impl.GenerateImplConvertMsToSingle}
  * </p>
  *
@@ -36,309 +42,404 @@ import boofcv.struct.image.*;
  */
 public class ImplConvertMsToGray {
 
-	public static void average(Planar<GrayU8> from , GrayU8 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayU8> from , final GrayU8 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayU8 band0 = from.getBand(0);
-			GrayU8 band1 = from.getBand(1);
-			GrayU8 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = band0.data[indexFrom]& 0xFF;
-					sum += band1.data[indexFrom]& 0xFF;
-					sum += band2.data[indexFrom]& 0xFF;
-
-					to.data[indexTo++] = (byte)(sum/3);
+			final GrayU8 band0 = from.getBand(0);
+			final GrayU8 band1 = from.getBand(1);
+			final GrayU8 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = band0.data[indexFrom]& 0xFF;
+							sum += band1.data[indexFrom]& 0xFF;
+							sum += band2.data[indexFrom]& 0xFF;
+
+							to.data[indexTo++] = (byte)(sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom]& 0xFF;
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom]& 0xFF;
+							}
+							to.data[indexTo++] = (byte)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (byte)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average(Planar<GrayS8> from , GrayS8 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayS8> from , final GrayS8 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayS8 band0 = from.getBand(0);
-			GrayS8 band1 = from.getBand(1);
-			GrayS8 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = band0.data[indexFrom];
-					sum += band1.data[indexFrom];
-					sum += band2.data[indexFrom];
-
-					to.data[indexTo++] = (byte)(sum/3);
+			final GrayS8 band0 = from.getBand(0);
+			final GrayS8 band1 = from.getBand(1);
+			final GrayS8 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = band0.data[indexFrom];
+							sum += band1.data[indexFrom];
+							sum += band2.data[indexFrom];
+
+							to.data[indexTo++] = (byte)(sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom];
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom];
+							}
+							to.data[indexTo++] = (byte)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (byte)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average(Planar<GrayU16> from , GrayU16 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayU16> from , final GrayU16 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayU16 band0 = from.getBand(0);
-			GrayU16 band1 = from.getBand(1);
-			GrayU16 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = band0.data[indexFrom]& 0xFFFF;
-					sum += band1.data[indexFrom]& 0xFFFF;
-					sum += band2.data[indexFrom]& 0xFFFF;
-
-					to.data[indexTo++] = (short)(sum/3);
+			final GrayU16 band0 = from.getBand(0);
+			final GrayU16 band1 = from.getBand(1);
+			final GrayU16 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = band0.data[indexFrom]& 0xFFFF;
+							sum += band1.data[indexFrom]& 0xFFFF;
+							sum += band2.data[indexFrom]& 0xFFFF;
+
+							to.data[indexTo++] = (short)(sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom]& 0xFFFF;
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom]& 0xFFFF;
+							}
+							to.data[indexTo++] = (short)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (short)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average(Planar<GrayS16> from , GrayS16 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayS16> from , final GrayS16 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayS16 band0 = from.getBand(0);
-			GrayS16 band1 = from.getBand(1);
-			GrayS16 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = band0.data[indexFrom];
-					sum += band1.data[indexFrom];
-					sum += band2.data[indexFrom];
-
-					to.data[indexTo++] = (short)(sum/3);
+			final GrayS16 band0 = from.getBand(0);
+			final GrayS16 band1 = from.getBand(1);
+			final GrayS16 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = band0.data[indexFrom];
+							sum += band1.data[indexFrom];
+							sum += band2.data[indexFrom];
+
+							to.data[indexTo++] = (short)(sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom];
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom];
+							}
+							to.data[indexTo++] = (short)(sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (short)(sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average(Planar<GrayS32> from , GrayS32 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayS32> from , final GrayS32 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayS32 band0 = from.getBand(0);
-			GrayS32 band1 = from.getBand(1);
-			GrayS32 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = band0.data[indexFrom];
-					sum += band1.data[indexFrom];
-					sum += band2.data[indexFrom];
-
-					to.data[indexTo++] = (sum/3);
+			final GrayS32 band0 = from.getBand(0);
+			final GrayS32 band1 = from.getBand(1);
+			final GrayS32 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = band0.data[indexFrom];
+							sum += band1.data[indexFrom];
+							sum += band2.data[indexFrom];
+
+							to.data[indexTo++] = (sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					int sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom];
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							int sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average(Planar<GrayS64> from , GrayS64 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayS64> from , final GrayS64 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayS64 band0 = from.getBand(0);
-			GrayS64 band1 = from.getBand(1);
-			GrayS64 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					long sum = band0.data[indexFrom];
-					sum += band1.data[indexFrom];
-					sum += band2.data[indexFrom];
-
-					to.data[indexTo++] = (sum/3);
+			final GrayS64 band0 = from.getBand(0);
+			final GrayS64 band1 = from.getBand(1);
+			final GrayS64 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							long sum = band0.data[indexFrom];
+							sum += band1.data[indexFrom];
+							sum += band2.data[indexFrom];
+
+							to.data[indexTo++] = (sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					long sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom];
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							long sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average(Planar<GrayF32> from , GrayF32 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayF32> from , final GrayF32 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayF32 band0 = from.getBand(0);
-			GrayF32 band1 = from.getBand(1);
-			GrayF32 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					float sum = band0.data[indexFrom];
-					sum += band1.data[indexFrom];
-					sum += band2.data[indexFrom];
-
-					to.data[indexTo++] = (sum/3);
+			final GrayF32 band0 = from.getBand(0);
+			final GrayF32 band1 = from.getBand(1);
+			final GrayF32 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							float sum = band0.data[indexFrom];
+							sum += band1.data[indexFrom];
+							sum += band2.data[indexFrom];
+
+							to.data[indexTo++] = (sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					float sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom];
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							float sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-	public static void average(Planar<GrayF64> from , GrayF64 to ) {
-		int numBands = from.getNumBands();
+	public static void average( final Planar<GrayF64> from , final GrayF64 to ) {
+		final int numBands = from.getNumBands();
 
 		if( numBands == 1 ) {
 			to.setTo(from.getBand(0));
 		} else if( numBands == 3 ) {
-			GrayF64 band0 = from.getBand(0);
-			GrayF64 band1 = from.getBand(1);
-			GrayF64 band2 = from.getBand(2);
-
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					double sum = band0.data[indexFrom];
-					sum += band1.data[indexFrom];
-					sum += band2.data[indexFrom];
-
-					to.data[indexTo++] = (sum/3);
+			final GrayF64 band0 = from.getBand(0);
+			final GrayF64 band1 = from.getBand(1);
+			final GrayF64 band2 = from.getBand(2);
+
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							double sum = band0.data[indexFrom];
+							sum += band1.data[indexFrom];
+							sum += band2.data[indexFrom];
+
+							to.data[indexTo++] = (sum/3);
+						}
+					}
 				}
-			}
+			});
 		} else {
-			for (int y = 0; y < from.height; y++) {
-				int indexFrom = from.getIndex(0, y);
-				int indexTo = to.getIndex(0, y);
-
-				for (int x = 0; x < from.width; x++ , indexFrom++ ) {
-					double sum = 0;
-					for( int b = 0; b < numBands; b++ ) {
-						sum +=  from.bands[b].data[indexFrom];
+			BoofConcurrency.loopBlocks(0, from.height, BoofConcurrency.MIN_BAND_ROWS, BoofConcurrency.USE_CONCURRENT,
+					new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					for (int y = y0; y < y1; y++) {
+						int indexFrom = from.getIndex(0, y);
+						int indexTo = to.getIndex(0, y);
+
+						for (int x = 0; x < from.width; x++ , indexFrom++ ) {
+							double sum = 0;
+							for( int b = 0; b < numBands; b++ ) {
+								sum +=  from.bands[b].data[indexFrom];
+							}
+							to.data[indexTo++] = (sum/numBands);
+						}
 					}
-					to.data[indexTo++] = (sum/numBands);
 				}
-			}
+			});
 		}
 	}
 
-
 }
@@ -37,4 +37,23 @@ public abstract class PixelTransform2_F32 implements PixelTransform {
 	public float getDistY() {
 		return distY;
 	}
+
+	/**
+	 * Computes the distorted location of each pixel along a row, from x0 to x1-1. The result for pixel x is written
+	 * into index x-x0 of the output arrays. Transforms which can take advantage of the row structure should
+	 * override this function. The default implementation calls {@link #compute(int, int)} for each pixel.
+	 *
+	 * @param y y-coordinate of the row
+	 * @param x0 First x-coordinate, inclusive
+	 * @param x1 Last x-coordinate, exclusive
+	 * @param outX (Output) distorted x-coordinate of each pixel. Must have a length of at least x1-x0.
+	 * @param outY (Output) distorted y-coordinate of each pixel. Must have a length of at least x1-x0.
+	 */
+	public void computeRow( int y , int x0 , int x1 , float[] outX , float[] outY ) {
+		for( int x = x0, i = 0; x < x1; x++, i++ ) {
+			compute(x,y);
+			outX[i] = distX;
+			outY[i] = distY;
+		}
+	}
 }
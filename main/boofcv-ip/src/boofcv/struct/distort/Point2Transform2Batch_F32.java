@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.distort;
+
+/**
+ * A {@link Point2Transform2_F32} which can also be applied to a batch of points at once. The batch is processed
+ * with simple loops over the coordinate arrays instead of a method call per point, which lets transforms like
+ * lens distortion be applied to an entire row of pixels efficiently.
+ *
+ * @author Peter Abeles
+ */
+public interface Point2Transform2Batch_F32 extends Point2Transform2_F32 {
+
+	/**
+	 * Applies the transform to the points (x[i],y[i]) for i = 0 to length-1. The results are written back into
+	 * the same arrays. Equivalent to calling {@link #compute(float, float, georegression.struct.point.Point2D_F32)}
+	 * on each point.
+	 *
+	 * @param x x-coordinate of each point. Modified.
+	 * @param y y-coordinate of each point. Modified.
+	 * @param length Number of points in the batch
+	 */
+	void compute( float[] x , float[] y , int length );
+}
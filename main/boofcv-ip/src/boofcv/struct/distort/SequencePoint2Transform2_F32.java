@@ -21,13 +21,18 @@ package boofcv.struct.distort;
 import georegression.struct.point.Point2D_F32;
 
 /**
- * Combines together multiple {@link Point2Transform2_F32} as a sequence into a single transform.
+ * Combines together multiple {@link Point2Transform2_F32} as a sequence into a single transform. When applied
+ * to a batch of points, transforms in the sequence which implement {@link Point2Transform2Batch_F32} process the
+ * whole batch at once while the others are applied one point at a time.
  *
  * @author Peter Abeles
  */
-public class SequencePoint2Transform2_F32 implements Point2Transform2_F32 {
+public class SequencePoint2Transform2_F32 implements Point2Transform2Batch_F32 {
 	Point2Transform2_F32[] sequence;
 
+	// storage for transforms which process one point at a time
+	Point2D_F32 work = new Point2D_F32();
+
 	/**
 	 * Specifies the sequence of transforms.  Lower indexes are applied first.
 	 *
@@ -44,4 +49,20 @@ public class SequencePoint2Transform2_F32 implements Point2Transform2_F32 {
 			sequence[i].compute(out.x,out.y,out);
 		}
 	}
+
+	@Override
+	public void compute( float[] x, float[] y, int length ) {
+		for( int i = 0; i < sequence.length; i++ ) {
+			Point2Transform2_F32 t = sequence[i];
+			if( t instanceof Point2Transform2Batch_F32 ) {
+				((Point2Transform2Batch_F32)t).compute(x,y,length);
+			} else {
+				for( int j = 0; j < length; j++ ) {
+					t.compute(x[j],y[j],work);
+					x[j] = work.x;
+					y[j] = work.y;
+				}
+			}
+		}
+	}
 }
@@ -21,13 +21,18 @@ package boofcv.struct.distort;
 import georegression.struct.point.Point2D_F64;
 
 /**
- * Combines together multiple {@link Point2Transform2_F64} as a sequence into a single transform.
+ * Combines together multiple {@link Point2Transform2_F64} as a sequence into a single transform. When applied
+ * to a batch of points, transforms in the sequence which implement {@link Point2Transform2Batch_F64} process the
+ * whole batch at once while the others are applied one point at a time.
  *
  * @author Peter Abeles
  */
-public class SequencePoint2Transform2_F64 implements Point2Transform2_F64 {
+public class SequencePoint2Transform2_F64 implements Point2Transform2Batch_F64 {
 	Point2Transform2_F64[] sequence;
 
+	// storage for transforms which process one point at a time
+	Point2D_F64 work = new Point2D_F64();
+
 	/**
 	 * Specifies the sequence of transforms.  Lower indexes are applied first.
 	 *
@@ -44,4 +49,20 @@ public class SequencePoint2Transform2_F64 implements Point2Transform2_F64 {
 			sequence[i].compute(out.x,out.y,out);
 		}
 	}
+
+	@Override
+	public void compute( double[] x, double[] y, int length ) {
+		for( int i = 0; i < sequence.length; i++ ) {
+			Point2Transform2_F64 t = sequence[i];
+			if( t instanceof Point2Transform2Batch_F64 ) {
+				((Point2Transform2Batch_F64)t).compute(x,y,length);
+			} else {
+				for( int j = 0; j < length; j++ ) {
+					t.compute(x[j],y[j],work);
+					x[j] = work.x;
+					y[j] = work.y;
+				}
+			}
+		}
+	}
 }
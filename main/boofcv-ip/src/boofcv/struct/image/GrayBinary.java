@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Binary image where each pixel is stored as a single bit.  Each row is stored in an array of 64-bit words.
+ * Pixel 'x' is stored in word x/64 of the row at bit x%64, with bit 0 being the least significant bit.  Bits
+ * in the last word of a row which are past the image's width are always zero.
+ * </p>
+ *
+ * <p>
+ * Compared to a {@link GrayU8} binary image, this uses 1/8 the memory and allows operations to process 64
+ * pixels at once.  Operations are provided by {@link boofcv.alg.filter.binary.BinaryPackedOps}. Sub-images
+ * are not supported and it is not an {@link ImageBase}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GrayBinary implements Serializable {
+	/**
+	 * Pixel data.  Row 'y' starts at y*stride.
+	 */
+	public long data[] = new long[0];
+
+	/**
+	 * Number of words in a row
+	 */
+	public int stride;
+
+	/**
+	 * Number of columns in the image.
+	 */
+	public int width;
+	/**
+	 * Number of rows in the image.
+	 */
+	public int height;
+
+	/**
+	 * Creates a new image with all pixels set to zero
+	 *
+	 * @param width  number of columns in the image.
+	 * @param height number of rows in the image.
+	 */
+	public GrayBinary(int width, int height) {
+		reshape(width,height);
+	}
+
+	public GrayBinary() {
+	}
+
+	/**
+	 * Changes the width and height of the image.  If the data array isn't large enough then a new one is declared.
+	 * If the shape changes then every pixel is set to zero.
+	 *
+	 * @param width Desired image width
+	 * @param height Desired image height
+	 */
+	public void reshape( int width , int height ) {
+		if( this.width == width && this.height == height )
+			return;
+
+		int stride = wordsPerRow(width);
+		if( data.length < stride*height ) {
+			data = new long[ stride*height ];
+		} else {
+			// ensures that the bits past the end of each row are zero
+			Arrays.fill(data,0,stride*height,0);
+		}
+		this.stride = stride;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Returns the value of the specified pixel, 0 or 1.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @return Pixel value.
+	 */
+	public int get( int x , int y ) {
+		if( !isInBounds(x, y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+		return unsafe_get(x,y);
+	}
+
+	public int unsafe_get( int x , int y ) {
+		return (int)(data[y*stride + (x >> 6)] >>> (x & 0x3F)) & 1;
+	}
+
+	/**
+	 * Sets the value of the specified pixel.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @param value 0 for false. Any other value is true.
+	 */
+	public void set( int x , int y , int value ) {
+		if( !isInBounds(x, y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+		unsafe_set(x,y,value);
+	}
+
+	public void unsafe_set( int x , int y , int value ) {
+		int index = y*stride + (x >> 6);
+		long bit = 1L << (x & 0x3F);
+		if( value != 0 )
+			data[index] |= bit;
+		else
+			data[index] &= ~bit;
+	}
+
+	public final boolean isInBounds(int x, int y) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	/**
+	 * Sets every pixel to the same value
+	 *
+	 * @param value 0 for false. Any other value is true.
+	 */
+	public void fill( int value ) {
+		if( value == 0 ) {
+			Arrays.fill(data,0,stride*height,0);
+		} else if( stride > 0 ) {
+			long last = lastWordMask();
+			for (int y = 0; y < height; y++) {
+				int index = y*stride;
+				Arrays.fill(data,index,index+stride,~0L);
+				data[index+stride-1] = last;
+			}
+		}
+	}
+
+	/**
+	 * Bits in the last word of each row which are inside the image
+	 */
+	public long lastWordMask() {
+		int remainder = width & 0x3F;
+		return remainder == 0 ? ~0L : (1L << remainder) - 1;
+	}
+
+	/**
+	 * Changes this image so that it's identical to the passed in image.  Reshapes if needed.
+	 */
+	public void setTo( GrayBinary orig ) {
+		reshape(orig.width,orig.height);
+		System.arraycopy(orig.data,0,data,0,stride*height);
+	}
+
+	public GrayBinary createSameShape() {
+		return new GrayBinary(width,height);
+	}
+
+	public GrayBinary copy() {
+		GrayBinary ret = new GrayBinary();
+		ret.setTo(this);
+		return ret;
+	}
+
+	/**
+	 * Number of 64-bit words needed to store a row with the specified width
+	 */
+	public static int wordsPerRow( int width ) {
+		return (width+63) >> 6;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
@@ -18,6 +18,7 @@
 
 package boofcv.testing;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.*;
 import boofcv.struct.image.*;
 import sun.awt.image.ByteInterleavedRaster;
@@ -40,6 +41,12 @@ import java.util.List;
 @SuppressWarnings({"unchecked"})
 public class BoofTesting {
 
+	/**
+	 * Number of threads used by {@link #checkConcurrent} and {@link #runConcurrent}.  More than one block is
+	 * needed to test the code which merges their results.
+	 */
+	public static final int CONCURRENT_THREADS = 4;
+
 	public static <T> T convertToGenericType(Class<?> type) {
 		if (type == GrayS8.class || type == GrayU8.class)
 			return (T) GrayI8.class;
@@ -1105,4 +1112,39 @@ public class BoofTesting {
 			System.out.println();
 		}
 	}
+
+	/**
+	 * Runs 'serial' with concurrency turned off and then 'concurrent' with it turned on, using
+	 * {@link #CONCURRENT_THREADS} threads, so that the output of the two can be compared.  The global
+	 * concurrency settings are restored afterwards, even if a task fails.
+	 */
+	public static void checkConcurrent( Runnable serial , Runnable concurrent ) {
+		boolean oldConcurrent = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			serial.run();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = oldConcurrent;
+		}
+		runConcurrent(concurrent);
+	}
+
+	/**
+	 * Runs 'task' with concurrency turned on, using {@link #CONCURRENT_THREADS} threads.  The global
+	 * concurrency settings are restored afterwards, even if the task fails.
+	 */
+	public static void runConcurrent( Runnable task ) {
+		boolean oldConcurrent = BoofConcurrency.USE_CONCURRENT;
+		int oldThreads = BoofConcurrency.getMaxThreads();
+		try {
+			if( oldThreads != CONCURRENT_THREADS )
+				BoofConcurrency.setMaxThreads(CONCURRENT_THREADS);
+			BoofConcurrency.USE_CONCURRENT = true;
+			task.run();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = oldConcurrent;
+			if( oldThreads != CONCURRENT_THREADS )
+				BoofConcurrency.setMaxThreads(oldThreads);
+		}
+	}
 }
@@ -18,20 +18,71 @@
 
 package boofcv.abst.filter.convolve;
 
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.filter.convolve.FactoryConvolveDown;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.Random;
+
 
 /**
+ * Most of this class is tested by {@link boofcv.abst.filter.convolve.TestFactoryConvolveDown}, which does an
+ * exhaustive test of it.
+ *
  * @author Peter Abeles
  */
 public class TestGenericConvolveDown {
 
+	Random rand = new Random(234);
+
 	/**
-	 * No test is provided here since {@link boofcv.abst.filter.convolve.TestFactoryConvolveDown} already does an exhaustive test
-	 * of this class.
+	 * Processing the image in bands should produce the same output as processing it all at once
 	 */
 	@Test
-	public void emptyTest() {
-		// intentionally empty
+	public void process_concurrent() {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(7,3,-1,1,rand);
+		final GrayF32 input = new GrayF32(83,71);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		int minRows = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			for( BorderType border : new BorderType[]{BorderType.SKIP,BorderType.NORMALIZED}) {
+				for( boolean horizontal : new boolean[]{true,false}) {
+					for( int skip = 1; skip <= 3; skip++ ) {
+						final GenericConvolveDown<GrayF32,GrayF32> alg = FactoryConvolveDown.
+								convolveSB(kernel,border,horizontal,skip,GrayF32.class,GrayF32.class);
+
+						int w = horizontal ? input.width/skip : input.width;
+						int h = horizontal ? input.height : input.height/skip;
+						final GrayF32 expected = new GrayF32(w,h);
+						final GrayF32 found = new GrayF32(w,h);
+
+						BoofTesting.checkConcurrent(new Runnable() {
+							@Override
+							public void run() {
+								alg.process(input,expected);
+							}
+						}, new Runnable() {
+							@Override
+							public void run() {
+								alg.process(input,found);
+							}
+						});
+
+						BoofTesting.assertEquals(expected,found,0);
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minRows;
+		}
 	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.abst.filter.transform.fft;
 
-import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.abst.transform.fft.DiscreteFourierTransformHalf;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.GImageStatistics;
 import boofcv.core.image.GeneralizedImageOps;
@@ -27,6 +27,8 @@ import boofcv.struct.image.ImageInterleaved;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.Assert.*;
@@ -46,7 +48,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 		this.tolerance = tolerance;
 	}
 
-	public abstract DiscreteFourierTransform<T,I> createAlgorithm();
+	public abstract DiscreteFourierTransformHalf<T,I> createAlgorithm();
 
 	public abstract T createImage( int width , int height );
 
@@ -75,7 +77,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 
 		GImageMiscOps.fillUniform(input,rand,-20,20);
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 
 		alg.forward(input,transform);
 		alg.inverse(transform, found);
@@ -95,7 +97,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 		double value = GImageStatistics.sum(input);
 		// NOTE: the value probably depends on when the scaling is invoked.  Must need to be more robust here
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 
 		alg.forward(input, transform);
 
@@ -122,7 +124,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 	}
 
 	private void checkMultipleCalls(int[] sizes) {
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 
 		for( int s : sizes ) {
 			T input = createImage(s,s+1);
@@ -147,7 +149,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 		I transform = createTransform(10,1);
 		GImageMiscOps.fillUniform(input,rand,-20,20);
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 
 		alg.forward(input,transform);
 		assertEquals( GeneralizedImageOps.get(transform,4,0,0),GeneralizedImageOps.get(transform,6,0,0),tolerance);
@@ -163,7 +165,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 		I transform = createTransform(7,1);
 		GImageMiscOps.fillUniform(input,rand,-20,20);
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 
 		alg.forward(input,transform);
 		assertEquals( GeneralizedImageOps.get(transform,3,0,0),GeneralizedImageOps.get(transform,4,0,0),tolerance);
@@ -180,7 +182,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 
 		GImageMiscOps.fillUniform(input,rand,-20,20);
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 		alg.forward(input,transform);
 		alg.inverse(transform, found);
 
@@ -219,7 +221,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 
 		GImageMiscOps.fillUniform(input,rand,-20,20);
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 		T inputOrig = (T)input.clone();
 		alg.forward(input, transform);
 		I transformOrig = (I)transform.clone();
@@ -253,7 +255,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 
 		GImageMiscOps.fillUniform(input,rand,-20,20);
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 		assertFalse(alg.isModifyInputs());
 
 		alg.forward(input,transform);
@@ -280,7 +282,7 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 		int height = 25;
 		T input = createImage(width,height);
 
-		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
 
 		try {
 			alg.forward(input,createTransform(width-1,height) );
@@ -292,4 +294,120 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageGray<T>
 			fail("Should have thrown an exception");
 		} catch( IllegalArgumentException ignore ){}
 	}
+
+	/**
+	 * The half transform should be identical to the left side of the full transform and the original image
+	 * should be recovered by the inverse.
+	 */
+	@Test
+	public void half() {
+		for( int h = 1; h < 10; h++ ) {
+			for( int w = 1; w < 10; w++ ) {
+				checkHalf(w,h);
+			}
+		}
+
+		checkHalf(64,64);
+		checkHalf(71,97);
+	}
+
+	protected void checkHalf( int width , int height ) {
+		T input = createImage(width,height);
+		I transform = createTransform(width,height);
+		I transformHalf = createTransform(width/2+1,height);
+		T found = createImage(width,height);
+
+		GImageMiscOps.fillUniform(input,rand,-20,20);
+
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
+
+		alg.forward(input,transform);
+		alg.forwardHalf(input,transformHalf);
+
+		// the magnitude of the transform grows with the number of pixels
+		double tolTransform = tolerance*Math.sqrt(width*height);
+		BoofTesting.assertEquals(transform.subimage(0,0,transformHalf.width,height,null),transformHalf,tolTransform);
+
+		alg.inverseHalf(transformHalf, found);
+
+		BoofTesting.assertEquals(input, found, tolerance);
+	}
+
+	@Test
+	public void half_inputImageSize() {
+		int width = 20;
+		int height = 25;
+		T input = createImage(width,height);
+
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
+
+		try {
+			alg.forwardHalf(input,createTransform(width,height) );
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+
+		try {
+			alg.inverseHalf(createTransform(width,height),input );
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	/**
+	 * Compare batch processing against processing each image individually
+	 */
+	@Test
+	public void batch() {
+		for( boolean half : new boolean[]{false,true}) {
+			checkBatch(half);
+		}
+	}
+
+	/**
+	 * Batch processing should produce identical results when done concurrently
+	 */
+	@Test
+	public void batch_concurrent() {
+		BoofTesting.runConcurrent(new Runnable() {
+			@Override
+			public void run() {
+				for( boolean half : new boolean[]{false,true}) {
+					checkBatch(half);
+				}
+			}
+		});
+	}
+
+	private void checkBatch( boolean half ) {
+		int width = 30, height = 35;
+		int transformWidth = half ? width/2+1 : width;
+
+		List<T> inputs = new ArrayList<>();
+		List<I> transforms = new ArrayList<>();
+		List<T> found = new ArrayList<>();
+		for( int i = 0; i < 7; i++ ) {
+			T input = createImage(width,height);
+			GImageMiscOps.fillUniform(input,rand,-20,20);
+			inputs.add(input);
+			transforms.add(createTransform(transformWidth,height));
+			found.add(createImage(width,height));
+		}
+
+		DiscreteFourierTransformHalf<T,I> alg = createAlgorithm();
+		alg.forward(inputs,transforms,half);
+		alg.inverse(transforms,found,half);
+
+		I expectedTransform = createTransform(transformWidth,height);
+		T expectedImage = createImage(width,height);
+		for( int i = 0; i < inputs.size(); i++ ) {
+			if( half ) {
+				alg.forwardHalf(inputs.get(i), expectedTransform);
+				alg.inverseHalf(expectedTransform, expectedImage);
+			} else {
+				alg.forward(inputs.get(i), expectedTransform);
+				alg.inverse(expectedTransform, expectedImage);
+			}
+			BoofTesting.assertEquals(expectedTransform,transforms.get(i),0);
+			BoofTesting.assertEquals(expectedImage,found.get(i),0);
+		}
+	}
 }
@@ -18,7 +18,7 @@
 
 package boofcv.abst.filter.transform.fft;
 
-import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.abst.transform.fft.DiscreteFourierTransformHalf;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.InterleavedF32;
@@ -34,7 +34,7 @@ public class TestGeneralFft_to_DiscreteFourierTransform_F32
 	}
 
 	@Override
-	public DiscreteFourierTransform<GrayF32,InterleavedF32> createAlgorithm() {
+	public DiscreteFourierTransformHalf<GrayF32,InterleavedF32> createAlgorithm() {
 		return new GeneralFft_to_DiscreteFourierTransform_F32();
 	}
 
@@ -18,7 +18,7 @@
 
 package boofcv.abst.filter.transform.fft;
 
-import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.abst.transform.fft.DiscreteFourierTransformHalf;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F64;
 import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.InterleavedF64;
@@ -34,7 +34,7 @@ public class TestGeneralFft_to_DiscreteFourierTransform_F64
 	}
 
 	@Override
-	public DiscreteFourierTransform<GrayF64,InterleavedF64> createAlgorithm() {
+	public DiscreteFourierTransformHalf<GrayF64,InterleavedF64> createAlgorithm() {
 		return new GeneralFft_to_DiscreteFourierTransform_F64();
 	}
 
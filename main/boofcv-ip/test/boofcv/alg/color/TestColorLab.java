@@ -19,9 +19,12 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -98,4 +101,53 @@ public class TestColorLab {
 		}
 	}
 
+	@Test
+	public void rgbToLab_U8_Interleaved() {
+		InterleavedU8 input = new InterleavedU8(20,25,3);
+		Planar<GrayU8> planar = new Planar<>(GrayU8.class,20,25,3);
+		Planar<GrayF32> found = new Planar<>(GrayF32.class,20,25,3);
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,20,25,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ConvertImage.convert(input, planar);
+		ColorLab.rgbToLab_U8(planar, expected);
+		ColorLab.rgbToLab_U8(input, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * The cube root approximation should be indistinguishable from Math.cbrt() in single precision
+	 */
+	@Test
+	public void f() {
+		for( int i = 0; i <= 10000; i++ ) {
+			float t = i/10000f;
+			float expected = t > ColorLab.epsilon_f ? (float)Math.cbrt(t) : (ColorLab.kappa_f*t + 16.0f)/116.0f;
+			assertEquals(expected, ColorLab.f(t), 1e-6f);
+		}
+		assertEquals((float)Math.cbrt(1.2), ColorLab.f(1.2f), 1e-6f);
+	}
+
+	@Test
+	public void concurrent() {
+		final Planar<GrayU8> input = new Planar<>(GrayU8.class,30,150,3);
+		final Planar<GrayF32> expected = new Planar<>(GrayF32.class,30,150,3);
+		final Planar<GrayF32> found = new Planar<>(GrayF32.class,30,150,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		BoofTesting.checkConcurrent(new Runnable() {
+			@Override
+			public void run() {
+				ColorLab.rgbToLab_U8(input, expected);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ColorLab.rgbToLab_U8(input, found);
+			}
+		});
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
 }
@@ -19,9 +19,12 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -187,4 +190,18 @@ public class TestColorXyz {
 		}
 	}
 
+	@Test
+	public void rgbToXyz_U8_Interleaved() {
+		InterleavedU8 input = new InterleavedU8(20,25,3);
+		Planar<GrayU8> planar = new Planar<>(GrayU8.class,20,25,3);
+		Planar<GrayF32> found = new Planar<>(GrayF32.class,20,25,3);
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,20,25,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ConvertImage.convert(input, planar);
+		ColorXyz.rgbToXyz_U8(planar, expected);
+		ColorXyz.rgbToXyz_U8(input, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-6);
+	}
 }
@@ -19,9 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -174,4 +178,19 @@ public class TestColorYuv {
 		assertEquals(b,found[1],tol);
 		assertEquals(c, found[2], tol);
 	}
+
+	@Test
+	public void rgbToYuv_U8_Interleaved() {
+		InterleavedU8 input = new InterleavedU8(20,25,3);
+		Planar<GrayF32> planar = new Planar<>(GrayF32.class,20,25,3);
+		Planar<GrayF32> found = new Planar<>(GrayF32.class,20,25,3);
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,20,25,3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ConvertImage.convert(ConvertImage.convert(input,(InterleavedF32)null), planar);
+		ColorYuv.rgbToYuv_F32(planar, expected);
+		ColorYuv.rgbToYuv_U8(input, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
 }
@@ -22,6 +22,7 @@ import georegression.struct.affine.Affine2D_F32;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -48,4 +49,23 @@ public class TestPixelTransformCached_F32 {
 			}
 		}
 	}
+
+	@Test
+	public void copy() {
+		PixelTransformAffine_F32 orig = new PixelTransformAffine_F32();
+		orig.set(new Affine2D_F32(1f,0.1f,0.05f,2f,5f,6f));
+
+		PixelTransformCached_F32 alg = new PixelTransformCached_F32(width,height,orig);
+		PixelTransformCached_F32 copy = (PixelTransformCached_F32)alg.copy();
+
+		// the read only table is shared
+		assertTrue(alg.map == copy.map);
+
+		alg.compute(3,4);
+		copy.compute(5,6);
+		orig.compute(5,6);
+		assertEquals(orig.distX,copy.distX,1e-8);
+		assertEquals(orig.distY,copy.distY,1e-8);
+		assertTrue(alg.distX != copy.distX);
+	}
 }
\ No newline at end of file
@@ -64,4 +64,41 @@ public class TestPixelTransformHomography_F32 {
 		assertEquals(expected.x,alg.distX,1e-4);
 		assertEquals(expected.y,alg.distY,1e-4);
 	}
+
+	@Test
+	public void copy() {
+		Homography2D_F32 a = new Homography2D_F32(1,2,3,4,5,6,7,8,9);
+
+		PixelTransformHomography_F32 alg = new PixelTransformHomography_F32();
+		alg.set(a);
+
+		PixelTransformHomography_F32 copy = (PixelTransformHomography_F32)alg.copy();
+		// changing the original should not change the copy
+		alg.getModel().a11 = 10;
+
+		copy.compute(2,3);
+		Point2D_F32 expected = new Point2D_F32();
+		HomographyPointOps_F32.transform(a, new Point2D_F32(2,3), expected);
+
+		assertEquals(expected.x,copy.distX,1e-4);
+		assertEquals(expected.y,copy.distY,1e-4);
+	}
+
+	@Test
+	public void computeRow() {
+		Homography2D_F32 a = new Homography2D_F32(1,2,3,4,5,6,0.01f,0.02f,1);
+
+		PixelTransformHomography_F32 alg = new PixelTransformHomography_F32();
+		alg.set(a);
+
+		float outX[] = new float[20];
+		float outY[] = new float[20];
+		alg.computeRow(7,3,18,outX,outY);
+
+		for( int x = 3; x < 18; x++ ) {
+			alg.compute(x,7);
+			assertEquals(alg.distX,outX[x-3],1e-4);
+			assertEquals(alg.distY,outY[x-3],1e-4);
+		}
+	}
 }
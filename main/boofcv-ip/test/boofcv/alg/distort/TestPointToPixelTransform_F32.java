@@ -18,6 +18,7 @@
 
 package boofcv.alg.distort;
 
+import boofcv.struct.distort.Point2Transform2Batch_F32;
 import boofcv.struct.distort.Point2Transform2_F32;
 import georegression.struct.point.Point2D_F32;
 import org.junit.Test;
@@ -42,6 +43,30 @@ public class TestPointToPixelTransform_F32 {
 		assertEquals(expected.y,alg.distY,1e-6);
 	}
 
+	/**
+	 * Compute a row with transforms which do and do not support batch processing
+	 */
+	@Test
+	public void computeRow() {
+		computeRow(new Dummy());
+		computeRow(new DummyBatch());
+	}
+
+	private void computeRow( Point2Transform2_F32 p ) {
+		PointToPixelTransform_F32 alg = new PointToPixelTransform_F32(p);
+
+		float outX[] = new float[10];
+		float outY[] = new float[10];
+		alg.computeRow(4,2,9,outX,outY);
+
+		Point2D_F32 expected = new Point2D_F32();
+		for( int x = 2; x < 9; x++ ) {
+			p.compute(x,4,expected);
+			assertEquals(expected.x,outX[x-2],1e-6);
+			assertEquals(expected.y,outY[x-2],1e-6);
+		}
+	}
+
 	private static class Dummy implements Point2Transform2_F32 {
 
 		@Override
@@ -50,4 +75,15 @@ public class TestPointToPixelTransform_F32 {
 			out.y = y + 0.2f;
 		}
 	}
+
+	private static class DummyBatch extends Dummy implements Point2Transform2Batch_F32 {
+
+		@Override
+		public void compute(float[] x, float[] y, int length) {
+			for( int i = 0; i < length; i++ ) {
+				x[i] += 0.1f;
+				y[i] += 0.2f;
+			}
+		}
+	}
 }
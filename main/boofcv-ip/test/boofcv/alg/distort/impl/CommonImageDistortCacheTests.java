@@ -23,6 +23,7 @@ import boofcv.alg.distort.ImageDistortCache_SB;
 import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.core.image.border.FactoryImageBorder;
@@ -95,6 +96,65 @@ public abstract class CommonImageDistortCacheTests<T extends ImageGray<T>> {
 		BoofTesting.assertEquals(dst0, dst1, 1e-4);
 	}
 	
+	/**
+	 * The lookup table is indexed by pixel coordinate and should work when the output is a sub-image
+	 */
+	@Test
+	public void compareSubImage() {
+		ImageDistort<T,T> standard = FactoryDistort.distortSB(false, interp, imageType);
+		ImageDistortCache_SB<T,T> alg = create(interp,imageType);
+
+		standard.setModel(tran);
+		alg.setModel(tran);
+
+		T sub = BoofTesting.createSubImageOf(dst1);
+
+		standard.apply(src,dst0);
+		alg.apply(src,sub);
+
+		BoofTesting.assertEquals(dst0, sub, 1e-4);
+	}
+
+	/**
+	 * Computing the table and rendering concurrently should produce identical results
+	 */
+	@Test
+	public void concurrent() {
+		final ImageDistortCache_SB<T,T> algA = create(interp,imageType);
+		final ImageDistortCache_SB<T,T> algB = create(interp,imageType);
+
+		algA.setModel(tran);
+		algB.setModel(tran);
+
+		int minRows = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 5;
+
+			for( boolean renderAll : new boolean[]{true,false}) {
+				algA.setRenderAll(renderAll);
+				algB.setRenderAll(renderAll);
+				GImageMiscOps.fill(dst0, 2);
+				GImageMiscOps.fill(dst1, 2);
+
+				BoofTesting.checkConcurrent(new Runnable() {
+					@Override
+					public void run() {
+						algA.apply(src, dst0, 10, 30, 180, 260);
+					}
+				}, new Runnable() {
+					@Override
+					public void run() {
+						algB.apply(src, dst1, 10, 30, 180, 260);
+					}
+				});
+
+				BoofTesting.assertEquals(dst0, dst1, 0);
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minRows;
+		}
+	}
+
 	public abstract ImageDistortCache_SB<T,T>
 	create(InterpolatePixelS<T> interp, Class<T> imageType );
 }
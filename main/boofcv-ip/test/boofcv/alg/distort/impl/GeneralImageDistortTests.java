@@ -19,15 +19,19 @@
 package boofcv.alg.distort.impl;
 
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.alg.interpolate.InterpolationType;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
 import org.junit.Test;
 
 import java.util.Random;
@@ -222,6 +226,50 @@ public abstract class GeneralImageDistortTests<T extends ImageBase<T>> {
 		}
 	}
 
+	/**
+	 * Rendering bands of rows concurrently should produce the same output as the single threaded version
+	 */
+	@Test
+	public void concurrent() {
+		concurrent(true);
+		concurrent(false);
+	}
+
+	public void concurrent( boolean renderAll ) {
+		final T src = imageType.createImage(60,50);
+		final T expected = imageType.createImage(60,50);
+		final T found = imageType.createImage(60,50);
+
+		GImageMiscOps.fillUniform(src, rand, 0, 100);
+		GImageMiscOps.fill(expected, 50);
+		GImageMiscOps.fill(found, 50);
+
+		PixelTransformAffine_F32 affine = new PixelTransformAffine_F32(new Affine2D_F32(0.9f,0.1f,-0.05f,1.1f,3,-2));
+		final ImageDistort<T,T> tran = createDistort(affine,interp);
+		tran.setRenderAll(renderAll);
+
+		int minRows = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					tran.apply(src, expected, 2, 4, 55, 47);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					tran.apply(src, found, 2, 4, 55, 47);
+				}
+			});
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minRows;
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
 	public class BasicTransform extends PixelTransform2_F32 {
 
 
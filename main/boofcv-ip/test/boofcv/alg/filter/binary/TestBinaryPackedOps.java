@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayBinary;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBinaryPackedOps {
+
+	Random rand = new Random(234);
+
+	// widths which test partial words, exactly one word, and multiple words
+	int widths[] = new int[]{1,5,63,64,65,130};
+
+	@Test
+	public void convert() {
+		for( int width : widths ) {
+			GrayU8 input = BoofTesting.createSubImageOf(randomBinary(width,7));
+			input.set(0,0,5); // non-zero values which are not 1 should be true
+
+			GrayBinary packed = BinaryPackedOps.convert(input,(GrayBinary)null);
+			assertEquals(width,packed.width);
+			assertEquals(7,packed.height);
+			checkPadding(packed);
+
+			for( int y = 0; y < input.height; y++ ) {
+				for( int x = 0; x < input.width; x++ ) {
+					assertEquals(input.get(x,y) != 0 ? 1 : 0 , packed.get(x,y));
+				}
+			}
+
+			GrayU8 found = BinaryPackedOps.convert(packed,BoofTesting.createSubImageOf(new GrayU8(width,7)));
+			for( int y = 0; y < input.height; y++ ) {
+				for( int x = 0; x < input.width; x++ ) {
+					assertEquals(input.get(x,y) != 0 ? 1 : 0 , found.get(x,y));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void threshold_U8() {
+		for( int width : widths ) {
+			GrayU8 input = new GrayU8(width,6);
+			ImageMiscOps.fillUniform(input,rand,0,256);
+
+			for( int threshold : new int[]{-1,0,100,255} ) {
+				for( boolean down : new boolean[]{true,false}) {
+					GrayU8 expected = ThresholdImageOps.threshold(input,null,threshold,down);
+					GrayBinary found = BinaryPackedOps.threshold(input,null,threshold,down);
+					compare(expected,found);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void threshold_F32() {
+		for( int width : widths ) {
+			GrayF32 input = new GrayF32(width,6);
+			ImageMiscOps.fillUniform(input,rand,-10,10);
+
+			for( boolean down : new boolean[]{true,false}) {
+				GrayU8 expected = ThresholdImageOps.threshold(input,null,1.5f,down);
+				GrayBinary found = BinaryPackedOps.threshold(input,null,1.5f,down);
+				compare(expected,found);
+			}
+		}
+	}
+
+	@Test
+	public void logic() {
+		for( int width : widths ) {
+			GrayU8 a = randomBinary(width,5);
+			GrayU8 b = randomBinary(width,5);
+			GrayBinary pa = BinaryPackedOps.convert(a,(GrayBinary)null);
+			GrayBinary pb = BinaryPackedOps.convert(b,(GrayBinary)null);
+
+			compare(BinaryImageOps.logicAnd(a,b,null),BinaryPackedOps.logicAnd(pa,pb,null));
+			compare(BinaryImageOps.logicOr(a,b,null),BinaryPackedOps.logicOr(pa,pb,null));
+			compare(BinaryImageOps.logicXor(a,b,null),BinaryPackedOps.logicXor(pa,pb,null));
+			compare(BinaryImageOps.invert(a,null),BinaryPackedOps.invert(pa,null));
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void logic_shapeMismatch() {
+		BinaryPackedOps.logicAnd(new GrayBinary(10,5),new GrayBinary(11,5),null);
+	}
+
+	@Test
+	public void countOnes() {
+		for( int width : widths ) {
+			GrayU8 a = randomBinary(width,5);
+			GrayBinary pa = BinaryPackedOps.convert(a,(GrayBinary)null);
+			assertEquals(ImageStatistics.sum(a),BinaryPackedOps.countOnes(pa));
+		}
+	}
+
+	@Test
+	public void morphology() {
+		for( int width : widths ) {
+			for( int height : new int[]{1,2,9} ) {
+				GrayU8 input = randomBinary(width,height);
+				GrayBinary packed = BinaryPackedOps.convert(input,(GrayBinary)null);
+
+				for( int numTimes = 1; numTimes <= 3; numTimes++ ) {
+					compare(BinaryImageOps.erode4(input,numTimes,null),BinaryPackedOps.erode4(packed,numTimes,null));
+					compare(BinaryImageOps.dilate4(input,numTimes,null),BinaryPackedOps.dilate4(packed,numTimes,null));
+					compare(BinaryImageOps.erode8(input,numTimes,null),BinaryPackedOps.erode8(packed,numTimes,null));
+					compare(BinaryImageOps.dilate8(input,numTimes,null),BinaryPackedOps.dilate8(packed,numTimes,null));
+				}
+				compare(BinaryImageOps.edge4(input,null),BinaryPackedOps.edge4(packed,null));
+				compare(BinaryImageOps.edge8(input,null),BinaryPackedOps.edge8(packed,null));
+			}
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void morphology_sameImage() {
+		GrayBinary image = new GrayBinary(10,5);
+		BinaryPackedOps.erode4(image,1,image);
+	}
+
+	@Test
+	public void concurrent() {
+		int oldMin = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 2;
+
+			final GrayU8 input = randomBinary(130,23);
+			final GrayBinary packed = new GrayBinary(1,1);
+			final GrayBinary expectedErode = new GrayBinary(1,1);
+			final GrayBinary expectedDilate = new GrayBinary(1,1);
+			final GrayBinary expectedEdge = new GrayBinary(1,1);
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					BinaryPackedOps.convert(input,packed);
+					BinaryPackedOps.erode8(packed,2,expectedErode);
+					BinaryPackedOps.dilate4(packed,2,expectedDilate);
+					BinaryPackedOps.edge8(packed,expectedEdge);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					GrayBinary found = BinaryPackedOps.convert(input,(GrayBinary)null);
+					assertArrayEquals(packed.data,found.data);
+					assertArrayEquals(expectedErode.data,BinaryPackedOps.erode8(found,2,null).data);
+					assertArrayEquals(expectedDilate.data,BinaryPackedOps.dilate4(found,2,null).data);
+					assertArrayEquals(expectedEdge.data,BinaryPackedOps.edge8(found,null).data);
+				}
+			});
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldMin;
+		}
+	}
+
+	private GrayU8 randomBinary( int width , int height ) {
+		GrayU8 image = new GrayU8(width,height);
+		// bias towards true so that erode doesn't always produce an empty image
+		for( int i = 0; i < image.data.length; i++ ) {
+			image.data[i] = (byte)(rand.nextInt(5) == 0 ? 0 : 1);
+		}
+		return image;
+	}
+
+	private static void compare( GrayU8 expected , GrayBinary found ) {
+		assertEquals(expected.width,found.width);
+		assertEquals(expected.height,found.height);
+		checkPadding(found);
+		for( int y = 0; y < expected.height; y++ ) {
+			for( int x = 0; x < expected.width; x++ ) {
+				assertEquals(x+" "+y,expected.get(x,y),found.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * Bits past the end of each row must always be zero
+	 */
+	private static void checkPadding( GrayBinary image ) {
+		long mask = ~image.lastWordMask();
+		for( int y = 0; y < image.height; y++ ) {
+			assertEquals(0,image.data[y*image.stride+image.stride-1] & mask);
+		}
+	}
+}
@@ -18,6 +18,7 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;
 import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.GImageStatistics;
@@ -29,6 +30,7 @@ import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
 import java.lang.reflect.InvocationTargetException;
@@ -47,6 +49,9 @@ public class TestThresholdImageOps {
 
 	Random rand = new Random(234);
 
+	// recycled between calls to the functions which take in a workspace
+	FastQueue<ImplThresholdImageOps.BandWork> work = ImplThresholdImageOps.createWorkspace();
+
 	@Test
 	public void localSquare() {
 		int total = 0;
@@ -67,7 +72,7 @@ public class TestThresholdImageOps {
 			total++;
 		}
 
-		assertEquals(2, total);
+		assertEquals(4, total);
 	}
 
 	public void performLocalSquare(Method m , ImageGray input , GrayU8 output )
@@ -75,19 +80,19 @@ public class TestThresholdImageOps {
 	{
 		GrayU8 expected = new GrayU8(output.width,output.height);
 
-		for( int radius = 1; radius <= 5; radius++ ) {
+		for( int radius = 0; radius <= 5; radius++ ) {
 			for( int indexScale = 0; indexScale < 4; indexScale++ ) {
 				float scale = (float)(0.8+0.4*(indexScale/3.0));
 				ImageMiscOps.fillUniform(output,rand,0,200);
 				ImageMiscOps.fillUniform(expected,rand,0,200);
-				m.invoke(null,input,output,radius,scale,true,null,null);
+				invoke(m,input,output,radius,scale,true);
 				naiveLocalSquare(input, expected, radius, scale, true);
 
 				BoofTesting.assertEquals(expected,output,0);
 
 				ImageMiscOps.fillUniform(output,rand,0,200);
 				ImageMiscOps.fillUniform(expected,rand,0,200);
-				m.invoke(null,input,output,radius,scale,false,null,null);
+				invoke(m,input,output,radius,scale,false);
 				naiveLocalSquare(input, expected, radius, scale, false);
 
 				BoofTesting.assertEquals(expected,output,0);
@@ -95,6 +100,18 @@ public class TestThresholdImageOps {
 		}
 	}
 
+	/**
+	 * Calls either the version which takes in two work images or the one which takes in a row buffer workspace
+	 */
+	private void invoke( Method m , ImageGray input , GrayU8 output , int radius , float scale , boolean down )
+			throws InvocationTargetException, IllegalAccessException
+	{
+		if( m.getParameterTypes().length == 7 )
+			m.invoke(null,input,output,radius,scale,down,null,null);
+		else
+			m.invoke(null,input,output,radius,scale,down,work);
+	}
+
 	public void naiveLocalSquare(ImageGray input, GrayU8 output,
 								 int radius, double scale, boolean down) {
 
@@ -102,10 +119,10 @@ public class TestThresholdImageOps {
 		boolean isInt;
 		if( input instanceof GrayU8) {
 			isInt = true;
-			blur = BlurImageOps.mean((GrayU8)input,null,radius,null);
+			blur = radius == 0 ? input : BlurImageOps.mean((GrayU8)input,null,radius,null);
 		} else {
 			isInt = false;
-			blur = BlurImageOps.mean((GrayF32)input,null,radius,null);
+			blur = radius == 0 ? input : BlurImageOps.mean((GrayF32)input,null,radius,null);
 		}
 
 		float fscale = (float)scale;
@@ -160,7 +177,7 @@ public class TestThresholdImageOps {
 			total++;
 		}
 
-		assertEquals(2, total);
+		assertEquals(4, total);
 	}
 
 	public void performLocalGaussian(Method m , ImageGray input , GrayU8 output )
@@ -174,14 +191,14 @@ public class TestThresholdImageOps {
 
 				ImageMiscOps.fillUniform(output,rand,0,200);
 				ImageMiscOps.fillUniform(expected,rand,0,200);
-				m.invoke(null,input,output,radius,scale,true,null,null);
+				invoke(m,input,output,radius,scale,true);
 				naiveLocalGaussian(input, expected, radius, scale, true);
 
 				BoofTesting.assertEquals(expected,output,0);
 
 				ImageMiscOps.fillUniform(output, rand, 0, 200);
 				ImageMiscOps.fillUniform(expected,rand,0,200);
-				m.invoke(null, input, output, radius, scale, false, null, null);
+				invoke(m,input,output,radius,scale,false);
 				naiveLocalGaussian(input, expected, radius, scale, false);
 
 				BoofTesting.assertEquals(expected,output,0);
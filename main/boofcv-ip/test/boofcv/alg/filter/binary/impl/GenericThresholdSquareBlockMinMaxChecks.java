@@ -21,6 +21,7 @@ package boofcv.alg.filter.binary.impl;
 import boofcv.alg.filter.binary.ThresholdSquareBlockMinMax;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -121,4 +122,37 @@ public abstract class GenericThresholdSquareBlockMinMaxChecks
 
 		BoofTesting.assertEquals(expected,sub_output,0);
 	}
+
+	@Test
+	public void concurrent() {
+		int oldMin = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 1;
+
+			// image size isn't evenly divisible by the block size
+			final T input = GeneralizedImageOps.createSingleBand(imageType,101,123);
+			GImageMiscOps.fillUniform(input,rand,0,255);
+
+			final GrayU8 expected = new GrayU8(input.width,input.height);
+			final GrayU8 found = new GrayU8(input.width,input.height);
+
+			final ThresholdSquareBlockMinMax<T,?> alg = createAlg(10,7,1.0,true);
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(input,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(input,found);
+				}
+			});
+
+			BoofTesting.assertEquals(expected,found,0);
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldMin;
+		}
+	}
 }
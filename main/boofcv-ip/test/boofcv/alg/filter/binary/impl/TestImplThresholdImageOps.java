@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplThresholdImageOps {
+
+	Random rand = new Random(234);
+
+	// shapes which are smaller, about the same size, and larger than the region
+	int shapes[][] = new int[][]{{1,1},{3,9},{9,3},{20,30},{40,17}};
+
+	/**
+	 * Compares against blurring the entire image first.  Integer images should produce identical results.
+	 */
+	@Test
+	public void localSquare_U8() {
+		FastQueue<ImplThresholdImageOps.BandWork> work = ImplThresholdImageOps.createWorkspace();
+		for( int[] shape : shapes ) {
+			GrayU8 input = BoofTesting.createSubImageOf(new GrayU8(shape[0],shape[1]));
+			ImageMiscOps.fillUniform(input,rand,0,256);
+
+			for( int radius = 0; radius <= 6; radius++ ) {
+				// the mean of a single pixel is the pixel's value
+				GrayU8 mean = radius == 0 ? input : BlurImageOps.mean(input,null,radius,null);
+				for( boolean down : new boolean[]{true,false}) {
+					GrayU8 expected = new GrayU8(input.width,input.height);
+					GrayU8 found = BoofTesting.createSubImageOf(new GrayU8(input.width,input.height));
+
+					for( int y = 0; y < input.height; y++ ) {
+						for( int x = 0; x < input.width; x++ ) {
+							expected.set(x,y,threshold(input.get(x,y),mean.get(x,y),0.95f,down));
+						}
+					}
+
+					ImplThresholdImageOps.localSquare(input,found,radius,0.95f,down,work);
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void localSquare_F32() {
+		FastQueue<ImplThresholdImageOps.BandWork> work = ImplThresholdImageOps.createWorkspace();
+		for( int[] shape : shapes ) {
+			GrayF32 input = BoofTesting.createSubImageOf(new GrayF32(shape[0],shape[1]));
+			ImageMiscOps.fillUniform(input,rand,0,200);
+
+			for( int radius = 0; radius <= 6; radius++ ) {
+				// the mean of a single pixel is the pixel's value
+				GrayF32 mean = radius == 0 ? input : BlurImageOps.mean(input,null,radius,null);
+				for( boolean down : new boolean[]{true,false}) {
+					GrayU8 expected = new GrayU8(input.width,input.height);
+					GrayU8 found = new GrayU8(input.width,input.height);
+
+					for( int y = 0; y < input.height; y++ ) {
+						for( int x = 0; x < input.width; x++ ) {
+							expected.set(x,y,threshold(input.get(x,y),mean.get(x,y),0.95f,down));
+						}
+					}
+
+					ImplThresholdImageOps.localSquare(input,found,radius,0.95f,down,work);
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void localGaussian_U8() {
+		FastQueue<ImplThresholdImageOps.BandWork> work = ImplThresholdImageOps.createWorkspace();
+		for( int[] shape : shapes ) {
+			GrayU8 input = BoofTesting.createSubImageOf(new GrayU8(shape[0],shape[1]));
+			ImageMiscOps.fillUniform(input,rand,0,256);
+
+			for( int radius = 1; radius <= 6; radius++ ) {
+				GrayU8 blur = BlurImageOps.gaussian(input,null,-1,radius,null);
+				for( boolean down : new boolean[]{true,false}) {
+					GrayU8 expected = new GrayU8(input.width,input.height);
+					GrayU8 found = new GrayU8(input.width,input.height);
+
+					for( int y = 0; y < input.height; y++ ) {
+						for( int x = 0; x < input.width; x++ ) {
+							expected.set(x,y,threshold(input.get(x,y),blur.get(x,y),0.95f,down));
+						}
+					}
+
+					ImplThresholdImageOps.localGaussian(input,found,radius,0.95f,down,work);
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void localGaussian_F32() {
+		FastQueue<ImplThresholdImageOps.BandWork> work = ImplThresholdImageOps.createWorkspace();
+		for( int[] shape : shapes ) {
+			GrayF32 input = BoofTesting.createSubImageOf(new GrayF32(shape[0],shape[1]));
+			ImageMiscOps.fillUniform(input,rand,0,200);
+
+			for( int radius = 1; radius <= 6; radius++ ) {
+				GrayF32 blur = BlurImageOps.gaussian(input,null,-1,radius,null);
+				for( boolean down : new boolean[]{true,false}) {
+					GrayU8 expected = new GrayU8(input.width,input.height);
+					GrayU8 found = new GrayU8(input.width,input.height);
+
+					for( int y = 0; y < input.height; y++ ) {
+						for( int x = 0; x < input.width; x++ ) {
+							expected.set(x,y,threshold(input.get(x,y),blur.get(x,y),0.95f,down));
+						}
+					}
+
+					ImplThresholdImageOps.localGaussian(input,found,radius,0.95f,down,work);
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void concurrent() {
+		int oldMin = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			final GrayU8 inputU8 = new GrayU8(35,61);
+			final GrayF32 inputF32 = new GrayF32(35,61);
+			ImageMiscOps.fillUniform(inputU8,rand,0,256);
+			ImageMiscOps.fillUniform(inputF32,rand,0,200);
+
+			for( int radius = 1; radius <= 4; radius += 3 ) {
+				final GrayU8 expected = new GrayU8(35,61);
+				final GrayU8 found = new GrayU8(35,61);
+
+				for( int algorithm = 0; algorithm < 4; algorithm++ ) {
+					final int a = algorithm, r = radius;
+					BoofTesting.checkConcurrent(new Runnable() {
+						@Override
+						public void run() {
+							apply(a,inputU8,inputF32,expected,r);
+						}
+					}, new Runnable() {
+						@Override
+						public void run() {
+							apply(a,inputU8,inputF32,found,r);
+						}
+					});
+
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldMin;
+		}
+	}
+
+	private static void apply( int algorithm , GrayU8 inputU8 , GrayF32 inputF32 , GrayU8 output , int radius ) {
+		switch( algorithm ) {
+			case 0: ImplThresholdImageOps.localSquare(inputU8,output,radius,0.95f,true,null); break;
+			case 1: ImplThresholdImageOps.localSquare(inputF32,output,radius,0.95f,true,null); break;
+			case 2: ImplThresholdImageOps.localGaussian(inputU8,output,radius,0.95f,true,null); break;
+			case 3: ImplThresholdImageOps.localGaussian(inputF32,output,radius,0.95f,true,null); break;
+		}
+	}
+
+	private static int threshold( int value , int blur , float scale , boolean down ) {
+		if( down )
+			return value <= blur*scale ? 1 : 0;
+		else
+			return value*scale > blur ? 1 : 0;
+	}
+
+	private static int threshold( float value , float blur , float scale , boolean down ) {
+		if( down )
+			return value <= blur*scale ? 1 : 0;
+		else
+			return value*scale > blur ? 1 : 0;
+	}
+}
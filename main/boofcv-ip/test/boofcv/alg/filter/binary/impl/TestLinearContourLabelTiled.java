@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.binary.Contour;
+import boofcv.alg.filter.binary.LinearContourLabelChang2004;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearContourLabelTiled {
+
+	Random rand = new Random(234);
+
+	/**
+	 * The output should be identical to the single threaded algorithm
+	 */
+	@Test
+	public void compareToSingleThread() {
+		int oldRows = BoofConcurrency.MIN_BAND_ROWS;
+		int oldBlobs = LinearContourLabelTiled.MIN_BLOBS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+			LinearContourLabelTiled.MIN_BLOBS = 2;
+
+			for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+				final LinearContourLabelChang2004 serial = new LinearContourLabelChang2004(rule);
+				final LinearContourLabelTiled alg = new LinearContourLabelTiled(rule);
+				final FastQueue<Contour> found = new FastQueue<>(Contour.class,true);
+
+				for( int trial = 0; trial < 20; trial++ ) {
+					int width = 1+rand.nextInt(60);
+					int height = 1+rand.nextInt(60);
+					double fraction = 0.2 + 0.6*rand.nextDouble();
+
+					final GrayU8 binary = BoofTesting.createSubImageOf(new GrayU8(width,height));
+					for( int y = 0; y < height; y++ ) {
+						for( int x = 0; x < width; x++ ) {
+							binary.set(x,y, rand.nextDouble() < fraction ? 1 : 0);
+						}
+					}
+					GrayU8 original = binary.clone();
+
+					final GrayS32 expectedLabels = new GrayS32(width,height);
+					final GrayS32 foundLabels = BoofTesting.createSubImageOf(new GrayS32(width,height));
+					ImageMiscOps.fillUniform(foundLabels,rand,0,100);
+
+					BoofTesting.checkConcurrent(new Runnable() {
+						@Override
+						public void run() {
+							serial.process(binary,expectedLabels);
+						}
+					}, new Runnable() {
+						@Override
+						public void run() {
+							alg.process(binary,foundLabels,found);
+						}
+					});
+
+					BoofTesting.assertEquals(original,binary,0);
+					BoofTesting.assertEquals(expectedLabels,foundLabels,0);
+					compare(serial.getContours(),found);
+				}
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldRows;
+			LinearContourLabelTiled.MIN_BLOBS = oldBlobs;
+		}
+	}
+
+	/**
+	 * The same instance is called multiple times with images of different shapes
+	 */
+	@Test
+	public void multipleCalls() {
+		final LinearContourLabelChang2004 serial = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+		final LinearContourLabelTiled alg = new LinearContourLabelTiled(ConnectRule.EIGHT);
+		final FastQueue<Contour> found = new FastQueue<>(Contour.class,true);
+
+		int shapes[][] = new int[][]{{30,40},{10,5},{30,40},{1,1}};
+		for( int[] shape : shapes ) {
+			final GrayU8 binary = new GrayU8(shape[0],shape[1]);
+			ImageMiscOps.fillUniform(binary,rand,0,2);
+			final GrayS32 expectedLabels = new GrayS32(binary.width,binary.height);
+			final GrayS32 foundLabels = new GrayS32(binary.width,binary.height);
+
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					serial.process(binary, expectedLabels);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(binary,foundLabels,found);
+				}
+			});
+
+			BoofTesting.assertEquals(expectedLabels,foundLabels,0);
+			compare(serial.getContours(),found);
+		}
+	}
+
+	private static void compare( FastQueue<Contour> expected , FastQueue<Contour> found ) {
+		assertEquals(expected.size,found.size);
+		for( int i = 0; i < expected.size; i++ ) {
+			Contour e = expected.get(i);
+			Contour f = found.get(i);
+			assertEquals(e.id,f.id);
+			compare(e.external,f.external);
+			assertEquals(e.internal.size(),f.internal.size());
+			for( int j = 0; j < e.internal.size(); j++ ) {
+				compare(e.internal.get(j),f.internal.get(j));
+			}
+		}
+	}
+
+	private static void compare( List<Point2D_I32> expected , List<Point2D_I32> found ) {
+		assertEquals(expected.size(),found.size());
+		for( int i = 0; i < expected.size(); i++ ) {
+			assertEquals(expected.get(i).x,found.get(i).x);
+			assertEquals(expected.get(i).y,found.get(i).y);
+		}
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.alg.filter.binary.impl;
 import boofcv.alg.filter.binary.BinaryImageOps;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.testing.BoofTesting;
@@ -115,6 +116,36 @@ public class TestThresholdSauvola {
 		BoofTesting.assertEquals(expected, found, 0);
 	}
 
+	@Test
+	public void concurrent() {
+		int oldMin = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			final GrayF32 input = new GrayF32(35,61);
+			ImageMiscOps.fillUniform(input, rand, 0, 200);
+			final GrayU8 expected = new GrayU8(input.width,input.height);
+			final GrayU8 found = new GrayU8(input.width,input.height);
+
+			final ThresholdSauvola alg = new ThresholdSauvola(4,0.3f,true);
+			BoofTesting.checkConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					alg.process(input,expected);
+				}
+			}, new Runnable() {
+				@Override
+				public void run() {
+					alg.process(input,found);
+				}
+			});
+
+			BoofTesting.assertEquals(expected, found, 0);
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldMin;
+		}
+	}
+
 	private float mean(GrayF32 input , int c_x , int c_y , int radius ) {
 		int x0 = c_x - radius;
 		int x1 = x0 + radius*2 + 1;
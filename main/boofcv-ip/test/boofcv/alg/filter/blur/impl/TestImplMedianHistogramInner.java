@@ -19,6 +19,7 @@
 package boofcv.alg.filter.blur.impl;
 
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayU8;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
@@ -50,4 +51,37 @@ public class TestImplMedianHistogramInner {
 			BoofTesting.assertEquals(expected,found,radius);
 		}
 	}
+
+	@Test
+	public void concurrent() {
+		int oldMin = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			final GrayU8 input = new GrayU8(35,61);
+			ImageMiscOps.fillUniform(input,new Random(234),0,256);
+
+			for( int radius = 1; radius <= 4; radius++ ) {
+				final GrayU8 expected = new GrayU8(input.width,input.height);
+				final GrayU8 found = new GrayU8(input.width,input.height);
+
+				final int r = radius;
+				BoofTesting.checkConcurrent(new Runnable() {
+					@Override
+					public void run() {
+						ImplMedianHistogramInner.process(input,expected,r);
+					}
+				}, new Runnable() {
+					@Override
+					public void run() {
+						ImplMedianHistogramInner.process(input,found,r);
+					}
+				});
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldMin;
+		}
+	}
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianOrderStatistic {
+
+	Random rand = new Random(234);
+
+	// shapes which are smaller, about the same size, and larger than the region
+	int shapes[][] = new int[][]{{1,1},{3,9},{9,3},{20,30},{45,17}};
+
+	/**
+	 * Compare against the naive implementation, including along the image border
+	 */
+	@Test
+	public void compareToNaive() {
+		for( int[] shape : shapes ) {
+			GrayF32 input = BoofTesting.createSubImageOf(new GrayF32(shape[0],shape[1]));
+
+			for( int max : new int[]{4,200} ) {
+				ImageMiscOps.fillUniform(input,rand,0,max);
+
+				for( int radius = 1; radius <= 8; radius++ ) {
+					GrayF32 expected = new GrayF32(input.width,input.height);
+					GrayF32 found = BoofTesting.createSubImageOf(new GrayF32(input.width,input.height));
+
+					ImplMedianSortNaive.process(input,expected,radius,null);
+					ImplMedianOrderStatistic.process(input,found,radius);
+
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Split the image into many small bands and reuse the workspace for images of different sizes
+	 */
+	@Test
+	public void smallBands_reuseWorkspace() {
+		int oldMax = ImplMedianOrderStatistic.MAX_BAND_ROWS;
+		try {
+			ImplMedianOrderStatistic.MAX_BAND_ROWS = 2;
+
+			FastQueue<ImplMedianOrderStatistic.Workspace> workspace =
+					new FastQueue<>(ImplMedianOrderStatistic.Workspace.class,true);
+
+			for( int[] shape : new int[][]{{45,37},{20,30},{9,3}}) {
+				GrayF32 input = new GrayF32(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(input,rand,0,200);
+
+				for( int radius = 1; radius <= 5; radius += 2 ) {
+					GrayF32 expected = new GrayF32(input.width,input.height);
+					GrayF32 found = new GrayF32(input.width,input.height);
+
+					ImplMedianSortNaive.process(input,expected,radius,null);
+					ImplMedianOrderStatistic.process(input,found,radius,workspace);
+
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		} finally {
+			ImplMedianOrderStatistic.MAX_BAND_ROWS = oldMax;
+		}
+	}
+
+	@Test
+	public void concurrent() {
+		int oldMin = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			final GrayF32 input = new GrayF32(35,61);
+			ImageMiscOps.fillUniform(input,rand,-100,100);
+
+			for( int radius = 1; radius <= 10; radius += 3 ) {
+				final GrayF32 expected = new GrayF32(input.width,input.height);
+				final GrayF32 found = new GrayF32(input.width,input.height);
+
+				final int r = radius;
+				BoofTesting.checkConcurrent(new Runnable() {
+					@Override
+					public void run() {
+						ImplMedianOrderStatistic.process(input,expected,r);
+					}
+				}, new Runnable() {
+					@Override
+					public void run() {
+						ImplMedianOrderStatistic.process(input,found,r);
+					}
+				});
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldMin;
+		}
+	}
+}
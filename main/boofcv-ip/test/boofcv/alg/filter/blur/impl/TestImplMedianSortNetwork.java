@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianSortNetwork {
+
+	Random rand = new Random(234);
+
+	// ImplMedianSortEdgeNaive requires the image to be larger than the region
+	int shapes[][] = new int[][]{{5,5},{6,9},{9,6},{20,30},{45,17}};
+
+	/**
+	 * Apply the network to random lists and see if the median is found
+	 */
+	@Test
+	public void createMedianNetwork() {
+		for( int N : new int[]{9,25} ) {
+			int network[] = ImplMedianSortNetwork.createMedianNetwork(N);
+
+			for( int trial = 0; trial < 2000; trial++ ) {
+				int values[] = new int[N];
+				for( int i = 0; i < N; i++ ) {
+					values[i] = rand.nextInt(trial < 1000 ? 5 : 1000);
+				}
+				int expected[] = values.clone();
+				Arrays.sort(expected);
+
+				for( int i = 0; i < network.length; i += 2 ) {
+					int a = values[network[i]];
+					int b = values[network[i+1]];
+					values[network[i]] = Math.min(a,b);
+					values[network[i+1]] = Math.max(a,b);
+				}
+				assertEquals(expected[N/2],values[N/2]);
+			}
+		}
+	}
+
+	/**
+	 * Compare against the naive implementation inside the image
+	 */
+	@Test
+	public void compareToNaive() {
+		for( int[] shape : shapes ) {
+			GrayU8 inputU8 = BoofTesting.createSubImageOf(new GrayU8(shape[0],shape[1]));
+			GrayF32 inputF32 = BoofTesting.createSubImageOf(new GrayF32(shape[0],shape[1]));
+			ImageMiscOps.fillUniform(inputU8,rand,0,256);
+			ImageMiscOps.fillUniform(inputF32,rand,-100,100);
+
+			for( int radius = 1; radius <= 2; radius++ ) {
+				GrayU8 expectedU8 = new GrayU8(shape[0],shape[1]);
+				GrayU8 foundU8 = BoofTesting.createSubImageOf(new GrayU8(shape[0],shape[1]));
+				ImplMedianSortNaive.process(inputU8,expectedU8,radius,null);
+				ImplMedianSortNetwork.process(inputU8,foundU8,radius);
+				ImplMedianSortEdgeNaive.process(inputU8,foundU8,radius,null);
+				BoofTesting.assertEquals(expectedU8,foundU8,0);
+
+				GrayF32 expectedF32 = new GrayF32(shape[0],shape[1]);
+				GrayF32 foundF32 = BoofTesting.createSubImageOf(new GrayF32(shape[0],shape[1]));
+				ImplMedianSortNaive.process(inputF32,expectedF32,radius,null);
+				ImplMedianSortNetwork.process(inputF32,foundF32,radius);
+				ImplMedianSortEdgeNaive.process(inputF32,foundF32,radius,null);
+				BoofTesting.assertEquals(expectedF32,foundF32,0);
+			}
+		}
+	}
+
+	@Test
+	public void unsupportedRadius() {
+		try {
+			ImplMedianSortNetwork.process(new GrayU8(10,10),new GrayU8(10,10),3);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void concurrent() {
+		int oldMin = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 3;
+
+			final GrayU8 input = new GrayU8(35,61);
+			ImageMiscOps.fillUniform(input,rand,0,256);
+
+			for( int radius = 1; radius <= 2; radius++ ) {
+				final GrayU8 expected = new GrayU8(input.width,input.height);
+				final GrayU8 found = new GrayU8(input.width,input.height);
+
+				final int r = radius;
+				BoofTesting.checkConcurrent(new Runnable() {
+					@Override
+					public void run() {
+						ImplMedianSortNetwork.process(input,expected,r);
+					}
+				}, new Runnable() {
+					@Override
+					public void run() {
+						ImplMedianSortNetwork.process(input,found,r);
+					}
+				});
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldMin;
+		}
+	}
+}
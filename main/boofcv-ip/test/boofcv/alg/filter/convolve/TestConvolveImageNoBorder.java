@@ -18,6 +18,8 @@
 
 package boofcv.alg.filter.convolve;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 /**
@@ -48,4 +50,29 @@ public class TestConvolveImageNoBorder {
 		a.setOffset(3);
 		a.performTests(58);
 	}
+
+	/**
+	 * Split the image into many bands and see if the output is identical to the single threaded version
+	 */
+	@Test
+	public void compareToStandard_concurrent() {
+		int minRows = BoofConcurrency.MIN_BAND_ROWS;
+		BoofConcurrency.MIN_BAND_ROWS = 3;
+		try {
+			BoofTesting.runConcurrent(new Runnable() {
+				@Override
+				public void run() {
+					CompareToStandardConvolution a = new CompareToStandardConvolution(ConvolveImageNoBorder.class);
+					a.setKernelWidth(5);
+					a.setOffset(1);
+					a.performTests(58);
+					a.setKernelWidth(7);
+					a.setOffset(3);
+					a.performTests(58);
+				}
+			});
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minRows;
+		}
+	}
 }
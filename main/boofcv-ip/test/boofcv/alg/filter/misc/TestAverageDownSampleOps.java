@@ -19,6 +19,7 @@
 package boofcv.alg.filter.misc;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.*;
 import boofcv.testing.BoofTesting;
@@ -62,4 +63,46 @@ public class TestAverageDownSampleOps {
 			BoofTesting.assertEquals(expected,found,1e-4);
 		}
 	}
+
+	/**
+	 * Computing bands of rows concurrently should produce the same output
+	 */
+	@Test
+	public void down_concurrent() {
+		Class types[] = new Class[]{GrayU8.class, GrayU16.class,GrayF32.class, GrayF64.class};
+
+		int minRows = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 2;
+
+			for( Class type : types ) {
+				for( int sampleWidth = 2; sampleWidth <= 3; sampleWidth++ ) {
+					final ImageGray in = GeneralizedImageOps.createSingleBand(type,31,29);
+					GImageMiscOps.fillUniform(in,rand,0,100);
+
+					int w = AverageDownSampleOps.downSampleSize(in.width,sampleWidth);
+					int h = AverageDownSampleOps.downSampleSize(in.height,sampleWidth);
+					final ImageGray expected = GeneralizedImageOps.createSingleBand(type,w,h);
+					final ImageGray found = GeneralizedImageOps.createSingleBand(type,w,h);
+
+					final int s = sampleWidth;
+					BoofTesting.checkConcurrent(new Runnable() {
+						@Override
+						public void run() {
+							AverageDownSampleOps.down(in,s,expected);
+						}
+					}, new Runnable() {
+						@Override
+						public void run() {
+							AverageDownSampleOps.down(in,s,found);
+						}
+					});
+
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minRows;
+		}
+	}
 }
@@ -21,6 +21,7 @@ package boofcv.alg.interpolate.impl;
 import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
@@ -213,6 +214,28 @@ public abstract class GeneralChecksInterpolationPixelMB<T extends ImageMultiBand
 		assertTrue(img == interp.getImage());
 	}
 
+	/**
+	 * The copy should produce the same results but have its own border
+	 */
+	@Test
+	public void copy() {
+		T img = createImage(width, height, numBands);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+		InterpolatePixelMB<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.interleavedValue((Class) img.getClass(), 5));
+		interp.setImage(img);
+
+		InterpolatePixelMB<T> copy = BoofConcurrency.copy(interp);
+
+		assertTrue(img == copy.getImage());
+		assertTrue(interp.getBorder() != copy.getBorder());
+		interp.get(10.1f, 10.6f, tmp0);
+		copy.get(10.1f, 10.6f, tmp1);
+		for (int i = 0; i < numBands; i++) { assertEquals(tmp0[i],tmp1[i],1e-6); }
+		copy.get(-10, 23, tmp1);
+		for (int i = 0; i < numBands; i++) { assertEquals(5,tmp1[i],1e-4); }
+	}
+
 	/**
 	 * Scans through the whole image and for each pixel which is "safe" it compares the safe
 	 * value to the unsafe value.
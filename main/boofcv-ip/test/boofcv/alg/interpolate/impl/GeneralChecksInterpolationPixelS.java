@@ -20,6 +20,7 @@ package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.image.ImageGray;
@@ -181,6 +182,25 @@ public abstract class GeneralChecksInterpolationPixelS<T extends ImageGray<T>> {
 		assertTrue(img == interp.getImage());
 	}
 
+	/**
+	 * The copy should produce the same results but have its own border
+	 */
+	@Test
+	public void copy() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.singleValue(img.getClass(), 5));
+		interp.setImage(img);
+
+		InterpolatePixelS<T> copy = BoofConcurrency.copy(interp);
+
+		assertTrue(img == copy.getImage());
+		assertTrue(interp.getBorder() != copy.getBorder());
+		assertEquals(interp.get(10.1f, 10.6f), copy.get(10.1f, 10.6f), 1e-6);
+		assertEquals(5, copy.get(-10, 23), 1e-6);
+	}
+
 	/**
 	 * Scans through the whole image and for each pixel which is "safe" it compares the safe
 	 * value to the unsafe value.
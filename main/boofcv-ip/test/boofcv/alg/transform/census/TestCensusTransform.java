@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCensusTransform {
+
+	Random rand = new Random(234);
+
+	int width = 30, height = 25;
+
+	/**
+	 * Compare against a naive implementation which checks the bounds of every pixel
+	 */
+	@Test
+	public void compareToNaive() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		for( CensusVariants variant : CensusVariants.values() ) {
+			ImageGray found = CensusTransform.createOutput(variant);
+			found.reshape(width,height);
+			BoofTesting.checkSubImage(this,"compareToNaive",true,input,variant,found);
+		}
+	}
+
+	public void compareToNaive( GrayU8 input , CensusVariants variant , ImageGray found ) {
+		CensusTransform.transform(input,variant,found);
+
+		assertEquals(input.width,found.width);
+		assertEquals(input.height,found.height);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(variant+" "+x+" "+y,naive(input,variant,x,y),get(found,x,y));
+			}
+		}
+	}
+
+	/**
+	 * Small images where every pixel is along the border
+	 */
+	@Test
+	public void tinyImage() {
+		GrayU8 input = new GrayU8(3,2);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		for( CensusVariants variant : CensusVariants.values() ) {
+			ImageGray found = CensusTransform.createOutput(variant);
+			CensusTransform.transform(input,variant,found);
+
+			for( int y = 0; y < input.height; y++ ) {
+				for( int x = 0; x < input.width; x++ ) {
+					assertEquals(naive(input,variant,x,y),get(found,x,y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * A uniform image should have all the bits set to zero. A single bright pixel should only
+	 * set the bit which corresponds to it.
+	 */
+	@Test
+	public void bitOrder() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fill(input,50);
+		input.set(11,10,100);
+
+		GrayS32 found = new GrayS32(1,1);
+		CensusTransform.region5x5(input,found);
+
+		assertEquals(0,found.get(11,10));
+		assertEquals(0,found.get(0,0));
+		// bright pixel is at the top left corner of the pixel below and to the right
+		assertEquals(1,found.get(13,12));
+		// bright pixel is directly to the right, skipping the center pixel
+		assertEquals(1<<12,found.get(10,10));
+		// bottom right corner
+		assertEquals(1<<23,found.get(9,8));
+	}
+
+	@Test
+	public void concurrent() {
+		final GrayU8 input = new GrayU8(width,height*3);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		int minBlock = BoofConcurrency.MIN_BAND_ROWS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 5;
+
+			for( final CensusVariants variant : CensusVariants.values() ) {
+				final ImageGray expected = CensusTransform.createOutput(variant);
+				final ImageGray found = CensusTransform.createOutput(variant);
+
+				BoofTesting.checkConcurrent(new Runnable() {
+					@Override
+					public void run() {
+						CensusTransform.transform(input,variant,expected);
+					}
+				}, new Runnable() {
+					@Override
+					public void run() {
+						CensusTransform.transform(input,variant,found);
+					}
+				});
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = minBlock;
+		}
+	}
+
+	private static long naive( GrayU8 input , CensusVariants variant , int cx , int cy ) {
+		int rx = variant.getRadiusX(), ry = variant.getRadiusY();
+		int center = input.get(cx,cy);
+
+		long bits = 0;
+		int bit = 0;
+		for( int y = -ry; y <= ry; y++ ) {
+			for( int x = -rx; x <= rx; x++ ) {
+				if( x == 0 && y == 0 )
+					continue;
+				int xx = Math.min(input.width-1,Math.max(0,cx+x));
+				int yy = Math.min(input.height-1,Math.max(0,cy+y));
+				if( input.get(xx,yy) > center )
+					bits |= 1L << bit;
+				bit++;
+			}
+		}
+		assertEquals(variant.getBits(),bit);
+		return bits;
+	}
+
+	private static long get( ImageGray image , int x , int y ) {
+		if( image instanceof GrayU8 )
+			return ((GrayU8)image).get(x,y);
+		else if( image instanceof GrayS32 )
+			return ((GrayS32)image).get(x,y) & 0xFFFFFFFFL;
+		else
+			return ((GrayS64)image).get(x,y);
+	}
+}
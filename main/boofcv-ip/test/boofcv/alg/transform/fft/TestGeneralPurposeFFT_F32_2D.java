@@ -18,6 +18,7 @@
 
 package boofcv.alg.transform.fft;
 
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -114,4 +115,131 @@ public class TestGeneralPurposeFFT_F32_2D {
 		}
 	}
 
+	@Test
+	public void realHalf() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				checkRealHalf(sizes[i], sizes[j]);
+			}
+		}
+	}
+
+	/**
+	 * Compares the half transform against the complex transform then sees if it can recover the original input
+	 */
+	private void checkRealHalf(int numRows , int numColumns) {
+		int n2d2 = numColumns/2+1;
+		float input[] = new float[numRows*n2d2*2];
+		float expected[] = new float[numRows*numColumns*2];
+
+		for( int row = 0; row < numRows; row++ ) {
+			for( int col = 0; col < numColumns; col++ ) {
+				float val = (float)rand.nextGaussian();
+				input[row*n2d2*2+col] = val;
+				expected[(row*numColumns+col)*2] = val;
+			}
+		}
+		float original[] = input.clone();
+
+		GeneralPurposeFFT_F32_2D alg = new GeneralPurposeFFT_F32_2D(numRows,numColumns);
+		alg.realForwardHalf(input);
+		alg.complexForward(expected);
+
+		// errors grow with the number of elements, in particular for the real transform of large prime lengths
+		float tolForward = tol*(float)Math.sqrt(numRows*numColumns);
+		for( int row = 0; row < numRows; row++ ) {
+			for( int col = 0; col < n2d2; col++ ) {
+				int indexFound = row*n2d2*2 + col*2;
+				int indexExpected = (row*numColumns+col)*2;
+				assertEquals(expected[indexExpected],input[indexFound],tolForward);
+				assertEquals(expected[indexExpected+1],input[indexFound+1],tolForward);
+			}
+		}
+
+		alg.realInverseHalf(input, true);
+
+		for( int row = 0; row < numRows; row++ ) {
+			for( int col = 0; col < numColumns; col++ ) {
+				int index = row*n2d2*2+col;
+				assertEquals(original[index],input[index],tolForward);
+			}
+		}
+	}
+
+	/**
+	 * A copy should produce the same results as the original without modifying it
+	 */
+	@Test
+	public void copyPlan() {
+		for( int size : new int[]{16,100,103} ) {
+			GeneralPurposeFFT_F32_2D original = new GeneralPurposeFFT_F32_2D(size,size+3);
+			GeneralPurposeFFT_F32_2D copy = new GeneralPurposeFFT_F32_2D(original);
+
+			float input[] = new float[size*(size+3)*2];
+			for( int i = 0; i < input.length; i++ ) {
+				input[i] = (float)rand.nextGaussian();
+			}
+			float expected[] = input.clone();
+			float found[] = input.clone();
+
+			original.complexForward(expected);
+			copy.complexForward(found);
+
+			for( int i = 0; i < input.length; i++ ) {
+				assertEquals(expected[i],found[i],0);
+			}
+		}
+	}
+
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		int oldMin = GeneralPurposeFFT_F32_2D.MIN_LINES;
+		try {
+			GeneralPurposeFFT_F32_2D.MIN_LINES = 4;
+
+			for( int[] shape : new int[][]{{32,64},{100,103},{33,40}} ) {
+				int numRows = shape[0], numColumns = shape[1];
+				float input[] = new float[numRows*numColumns*2];
+				for( int i = 0; i < input.length; i++ ) {
+					input[i] = (float)rand.nextGaussian();
+				}
+
+				final GeneralPurposeFFT_F32_2D alg = new GeneralPurposeFFT_F32_2D(numRows,numColumns);
+				for( int operation = 0; operation < 3; operation++ ) {
+					final float expected[] = input.clone();
+					final float found[] = input.clone();
+
+					final int o = operation;
+					BoofTesting.checkConcurrent(new Runnable() {
+						@Override
+						public void run() {
+							apply(alg, o, expected);
+						}
+					}, new Runnable() {
+						@Override
+						public void run() {
+							apply(alg, o, found);
+						}
+					});
+
+					for( int i = 0; i < input.length; i++ ) {
+						assertEquals(expected[i],found[i],0);
+					}
+				}
+			}
+		} finally {
+			GeneralPurposeFFT_F32_2D.MIN_LINES = oldMin;
+		}
+	}
+
+	private static void apply( GeneralPurposeFFT_F32_2D alg , int operation , float[] data ) {
+		switch( operation ) {
+			case 0: alg.complexForward(data); alg.complexInverse(data,true); break;
+			case 1: alg.realForwardFull(data); alg.realInverseFull(data,true); break;
+			case 2: alg.realForwardHalf(data); alg.realInverseHalf(data,true); break;
+		}
+	}
 }
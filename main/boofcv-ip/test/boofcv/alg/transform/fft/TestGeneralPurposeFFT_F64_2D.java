@@ -18,6 +18,7 @@
 
 package boofcv.alg.transform.fft;
 
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -112,4 +113,129 @@ public class TestGeneralPurposeFFT_F64_2D {
 		}
 	}
 
+	@Test
+	public void realHalf() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				checkRealHalf(sizes[i], sizes[j]);
+			}
+		}
+	}
+
+	/**
+	 * Compares the half transform against the complex transform then sees if it can recover the original input
+	 */
+	private void checkRealHalf(int numRows , int numColumns) {
+		int n2d2 = numColumns/2+1;
+		double input[] = new double[numRows*n2d2*2];
+		double expected[] = new double[numRows*numColumns*2];
+
+		for( int row = 0; row < numRows; row++ ) {
+			for( int col = 0; col < numColumns; col++ ) {
+				double val = rand.nextGaussian();
+				input[row*n2d2*2+col] = val;
+				expected[(row*numColumns+col)*2] = val;
+			}
+		}
+		double original[] = input.clone();
+
+		GeneralPurposeFFT_F64_2D alg = new GeneralPurposeFFT_F64_2D(numRows,numColumns);
+		alg.realForwardHalf(input);
+		alg.complexForward(expected);
+
+		for( int row = 0; row < numRows; row++ ) {
+			for( int col = 0; col < n2d2; col++ ) {
+				int indexFound = row*n2d2*2 + col*2;
+				int indexExpected = (row*numColumns+col)*2;
+				assertEquals(expected[indexExpected],input[indexFound],1e-8);
+				assertEquals(expected[indexExpected+1],input[indexFound+1],1e-8);
+			}
+		}
+
+		alg.realInverseHalf(input, true);
+
+		for( int row = 0; row < numRows; row++ ) {
+			for( int col = 0; col < numColumns; col++ ) {
+				int index = row*n2d2*2+col;
+				assertEquals(original[index],input[index],1e-8);
+			}
+		}
+	}
+
+	/**
+	 * A copy should produce the same results as the original without modifying it
+	 */
+	@Test
+	public void copyPlan() {
+		for( int size : new int[]{16,100,103} ) {
+			GeneralPurposeFFT_F64_2D original = new GeneralPurposeFFT_F64_2D(size,size+3);
+			GeneralPurposeFFT_F64_2D copy = new GeneralPurposeFFT_F64_2D(original);
+
+			double input[] = new double[size*(size+3)*2];
+			for( int i = 0; i < input.length; i++ ) {
+				input[i] = rand.nextGaussian();
+			}
+			double expected[] = input.clone();
+			double found[] = input.clone();
+
+			original.complexForward(expected);
+			copy.complexForward(found);
+
+			for( int i = 0; i < input.length; i++ ) {
+				assertEquals(expected[i],found[i],0);
+			}
+		}
+	}
+
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		int oldMin = GeneralPurposeFFT_F64_2D.MIN_LINES;
+		try {
+			GeneralPurposeFFT_F64_2D.MIN_LINES = 4;
+
+			for( int[] shape : new int[][]{{32,64},{100,103},{33,40}} ) {
+				int numRows = shape[0], numColumns = shape[1];
+				double input[] = new double[numRows*numColumns*2];
+				for( int i = 0; i < input.length; i++ ) {
+					input[i] = rand.nextGaussian();
+				}
+
+				final GeneralPurposeFFT_F64_2D alg = new GeneralPurposeFFT_F64_2D(numRows,numColumns);
+				for( int operation = 0; operation < 3; operation++ ) {
+					final double expected[] = input.clone();
+					final double found[] = input.clone();
+
+					final int o = operation;
+					BoofTesting.checkConcurrent(new Runnable() {
+						@Override
+						public void run() {
+							apply(alg, o, expected);
+						}
+					}, new Runnable() {
+						@Override
+						public void run() {
+							apply(alg, o, found);
+						}
+					});
+
+					for( int i = 0; i < input.length; i++ ) {
+						assertEquals(expected[i],found[i],0);
+					}
+				}
+			}
+		} finally {
+			GeneralPurposeFFT_F64_2D.MIN_LINES = oldMin;
+		}
+	}
+
+	private static void apply( GeneralPurposeFFT_F64_2D alg , int operation , double[] data ) {
+		switch( operation ) {
+			case 0: alg.complexForward(data); alg.complexInverse(data,true); break;
+			case 1: alg.realForwardFull(data); alg.realInverseFull(data,true); break;
+			case 2: alg.realForwardHalf(data); alg.realInverseHalf(data,true); break;
+		}
+	}
 }
@@ -22,6 +22,7 @@ import boofcv.alg.filter.convolve.ConvolveWithBorder;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.alg.transform.ii.IntegralKernel;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.FactoryGImageGray;
 import boofcv.core.image.GConvertImage;
 import boofcv.core.image.GImageGray;
@@ -94,6 +95,58 @@ public class TestImplIntegralImageOps {
 		}
 	}
 
+	/**
+	 * Results should be identical when computed concurrently
+	 */
+	@Test
+	public void transform_concurrent() {
+		int oldRows = BoofConcurrency.MIN_BAND_ROWS;
+		int oldColumns = ImplIntegralImageOps.MIN_COLUMNS;
+		try {
+			BoofConcurrency.MIN_BAND_ROWS = 2;
+			ImplIntegralImageOps.MIN_COLUMNS = 2;
+
+			int numFound = BoofTesting.findMethodThenCall(this,"transform_concurrent",ImplIntegralImageOps.class,"transform");
+			Assert.assertEquals(5, numFound);
+		} finally {
+			BoofConcurrency.MIN_BAND_ROWS = oldRows;
+			ImplIntegralImageOps.MIN_COLUMNS = oldColumns;
+		}
+	}
+
+	public void transform_concurrent( final Method m ) {
+		Class paramType[] = m.getParameterTypes();
+
+		final ImageGray input = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		final ImageGray expected = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		final ImageGray found = BoofTesting.createSubImageOf(
+				GeneralizedImageOps.createSingleBand(paramType[1], width, height));
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		BoofTesting.checkConcurrent(new Runnable() {
+			@Override
+			public void run() {
+				invoke(m,input,expected);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				invoke(m,input,found);
+			}
+		});
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	private static void invoke( Method m , Object... args ) {
+		try {
+			m.invoke(null,args);
+		} catch( InvocationTargetException | IllegalAccessException e ) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	@Test
 	public void convolve() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolve",ImplIntegralImageOps.class,"convolve");
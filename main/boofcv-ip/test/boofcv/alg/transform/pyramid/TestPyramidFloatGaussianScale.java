@@ -21,6 +21,7 @@ package boofcv.alg.transform.pyramid;
 import boofcv.abst.distort.FDistort;
 import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.factory.interpolate.FactoryInterpolation;
@@ -86,6 +87,35 @@ public class TestPyramidFloatGaussianScale extends GenericPyramidTests<GrayF32>
 		BoofTesting.assertEquals(expected,found, 1e-4);
 	}
 
+	/**
+	 * When the change in scale is an integer the layers are computed by blurring only at the sampled pixels.
+	 * Compare against blurring the whole image and then sampling it.
+	 */
+	@Test
+	public void update_integerScale() {
+		double scales[] = new double[]{1,2,4};
+		double sigmas[] = new double[]{1,2,1.5};
+
+		GrayF32 img = new GrayF32(40,32);
+		ImageMiscOps.fillUniform(img,rand,0,100);
+
+		InterpolatePixelS<GrayF32> interp = FactoryInterpolation.bilinearPixelS(img, BorderType.EXTENDED);
+		PyramidFloatGaussianScale<GrayF32> alg = new PyramidFloatGaussianScale<>(interp,scales,sigmas,imageType);
+		alg.process(img);
+
+		GrayF32 prev = img;
+		for( int i = 0; i < scales.length; i++ ) {
+			BlurFilter<GrayF32> blur = FactoryBlurFilter.gaussian(ImageType.single(GrayF32.class),sigmas[i],-1);
+			GrayF32 blurrImg = new GrayF32(prev.width, prev.height);
+			blur.process(prev, blurrImg);
+			GrayF32 expected = new GrayF32(alg.getWidth(i),alg.getHeight(i));
+			new FDistort(blurrImg,expected).scaleExt().apply();
+
+			BoofTesting.assertEquals(expected,alg.getLayer(i),1e-4);
+			prev = expected;
+		}
+	}
+
 	@Override
 	protected ImagePyramid<GrayF32> createPyramid(int... scales) {
 		double a[] = BoofMiscOps.convertTo_F64(scales);
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	int maxThreads;
+
+	@Before
+	public void before() {
+		maxThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(maxThreads);
+	}
+
+	@Test
+	public void numberOfBlocks() {
+		assertEquals(1,BoofConcurrency.numberOfBlocks(0,10));
+		assertEquals(1,BoofConcurrency.numberOfBlocks(19,10));
+		assertEquals(2,BoofConcurrency.numberOfBlocks(20,10));
+		assertEquals(4,BoofConcurrency.numberOfBlocks(2000,10));
+	}
+
+	/**
+	 * Every index should be processed exactly once
+	 */
+	@Test
+	public void loopBlocks() {
+		for( int length : new int[]{0,5,21,103} ) {
+			final int[] counts = new int[length+3];
+			BoofConcurrency.loopBlocks(3, length + 3, 5, new IntRangeTask() {
+				@Override
+				public void process(int idx0, int idx1) {
+					for (int i = idx0; i < idx1; i++) {
+						synchronized (counts) {
+							counts[i]++;
+						}
+					}
+				}
+			});
+
+			for (int i = 0; i < counts.length; i++) {
+				assertEquals(i < 3 ? 0 : 1, counts[i]);
+			}
+		}
+	}
+
+	/**
+	 * When not concurrent the whole range should be processed as a single block
+	 */
+	@Test
+	public void loopBlocks_serial() {
+		final GrowQueue_I32 blocks = new GrowQueue_I32();
+		IntRangeTask task = new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				synchronized (blocks) {
+					blocks.add(idx0);
+					blocks.add(idx1);
+				}
+			}
+		};
+
+		BoofConcurrency.loopBlocks(3, 103, 5, false, task);
+		assertEquals(2,blocks.size);
+		assertEquals(3,blocks.get(0));
+		assertEquals(103,blocks.get(1));
+
+		// empty ranges are skipped
+		blocks.reset();
+		BoofConcurrency.loopBlocks(3, 3, 5, false, task);
+		assertEquals(0,blocks.size);
+
+		BoofConcurrency.loopBlocks(3, 103, 5, true, task);
+		assertEquals(8,blocks.size);
+	}
+
+	/**
+	 * Each block should be given its own workspace
+	 */
+	@Test
+	public void loopBlocks_workspace() {
+		FastQueue<GrowQueue_I32> workspace = new FastQueue<>(GrowQueue_I32.class,true);
+
+		BoofConcurrency.loopBlocks(0, 100, 5, workspace, new IntRangeObjectTask<GrowQueue_I32>() {
+			@Override
+			public void process(GrowQueue_I32 w, int idx0, int idx1) {
+				w.reset();
+				for (int i = idx0; i < idx1; i++) {
+					w.add(i);
+				}
+			}
+		});
+
+		assertEquals(4,workspace.size);
+		int expected = 0;
+		for (int i = 0; i < workspace.size; i++) {
+			GrowQueue_I32 w = workspace.get(i);
+			assertTrue(w.size > 0);
+			for (int j = 0; j < w.size; j++) {
+				assertEquals(expected++,w.get(j));
+			}
+		}
+		assertEquals(100,expected);
+	}
+
+	/**
+	 * Exceptions thrown inside a block should be passed to the caller
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void loopBlocks_exception() {
+		BoofConcurrency.loopBlocks(0, 100, 5, new IntRangeTask() {
+			@Override
+			public void process(int idx0, int idx1) {
+				throw new IllegalArgumentException("Egads");
+			}
+		});
+	}
+}
@@ -47,4 +47,48 @@ public class TestSequencePointTransform_F64 {
 		assertEquals(5,p.x,1e-8);
 		assertEquals(8,p.y,1e-8);
 	}
+
+	/**
+	 * Mix of transforms which do and do not support batch processing
+	 */
+	@Test
+	public void batch() {
+		Point2Transform2_F64 a = new Point2Transform2_F64() {
+			@Override
+			public void compute(double x, double y, Point2D_F64 out) {
+				out.x = x+1;
+				out.y = y+2;
+			}
+		};
+		Point2Transform2Batch_F64 b = new Point2Transform2Batch_F64() {
+			@Override
+			public void compute(double x, double y, Point2D_F64 out) {
+				out.x = x*2;
+				out.y = y*3;
+			}
+
+			@Override
+			public void compute(double[] x, double[] y, int length) {
+				for( int i = 0; i < length; i++ ) {
+					x[i] *= 2;
+					y[i] *= 3;
+				}
+			}
+		};
+
+		SequencePoint2Transform2_F64 alg = new SequencePoint2Transform2_F64(a,b,a);
+
+		double x[] = new double[]{3,-1,5};
+		double y[] = new double[]{4,2,0};
+
+		alg.compute(x,y,2);
+
+		assertEquals(9,x[0],1e-8);
+		assertEquals(20,y[0],1e-8);
+		assertEquals(1,x[1],1e-8);
+		assertEquals(14,y[1],1e-8);
+		// outside the batch and should not be modified
+		assertEquals(5,x[2],1e-8);
+		assertEquals(0,y[2],1e-8);
+	}
 }
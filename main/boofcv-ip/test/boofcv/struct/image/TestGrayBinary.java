@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGrayBinary {
+
+	@Test
+	public void reshape() {
+		GrayBinary image = new GrayBinary(65,3);
+		assertEquals(2,image.stride);
+		image.fill(1);
+
+		image.reshape(10,4);
+		assertEquals(1,image.stride);
+		assertEquals(10,image.width);
+		assertEquals(4,image.height);
+		for( int i = 0; i < image.stride*image.height; i++ )
+			assertEquals(0,image.data[i]);
+	}
+
+	@Test
+	public void get_set() {
+		GrayBinary image = new GrayBinary(130,4);
+
+		image.set(0,0,1);
+		image.set(63,1,1);
+		image.set(64,2,5);
+		image.set(129,3,1);
+
+		assertEquals(1,image.get(0,0));
+		assertEquals(1,image.get(63,1));
+		assertEquals(1,image.get(64,2));
+		assertEquals(1,image.get(129,3));
+		assertEquals(0,image.get(1,0));
+		assertEquals(0,image.get(64,1));
+
+		image.set(63,1,0);
+		assertEquals(0,image.get(63,1));
+		assertEquals(0,image.data[image.stride]);
+	}
+
+	@Test
+	public void get_outOfBounds() {
+		GrayBinary image = new GrayBinary(10,4);
+		try {
+			image.get(10,0);
+			fail("Should have thrown an exception");
+		} catch( ImageAccessException ignore ){}
+	}
+
+	@Test
+	public void fill() {
+		GrayBinary image = new GrayBinary(70,3);
+		image.fill(1);
+
+		for( int y = 0; y < image.height; y++ ) {
+			for( int x = 0; x < image.width; x++ ) {
+				assertEquals(1,image.get(x,y));
+			}
+			// padding must be zero
+			assertEquals(0,image.data[y*image.stride+1] & ~image.lastWordMask());
+		}
+
+		image.fill(0);
+		for( int i = 0; i < image.stride*image.height; i++ )
+			assertEquals(0,image.data[i]);
+	}
+
+	@Test
+	public void lastWordMask() {
+		assertEquals(1L,new GrayBinary(1,1).lastWordMask());
+		assertEquals(~0L,new GrayBinary(64,1).lastWordMask());
+		assertEquals(0x1FL,new GrayBinary(69,1).lastWordMask());
+	}
+
+	@Test
+	public void copy() {
+		GrayBinary image = new GrayBinary(70,3);
+		image.set(3,2,1);
+		image.set(68,0,1);
+
+		GrayBinary found = image.copy();
+		assertEquals(image.width,found.width);
+		assertEquals(image.height,found.height);
+		assertArrayEquals(image.data,found.data);
+	}
+}
@@ -19,7 +19,7 @@
 package boofcv.alg.tracker.circulant;
 
 import boofcv.abst.feature.detect.peak.SearchLocalPeak;
-import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.abst.transform.fft.DiscreteFourierTransformHalf;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.PixelMath;
 import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
@@ -30,6 +30,8 @@ import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.InterleavedF64;
 import georegression.struct.shapes.RectangleLength2D_F32;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -83,8 +85,8 @@ public class CirculantTracker<T extends ImageGray<T>> {
 	private double padding;
 
 	//----- Internal variables
-	// computes the FFT
-	private DiscreteFourierTransform<GrayF64,InterleavedF64> fft = DiscreteFourierTransformOps.createTransformF64();
+	// computes the FFT.  All the images are real so only the left half of each transform is computed
+	private DiscreteFourierTransformHalf<GrayF64,InterleavedF64> fft = DiscreteFourierTransformOps.createTransformF64();
 
 	// storage for subimage of input image
 	protected GrayF64 templateNew = new GrayF64(1,1);
@@ -121,6 +123,10 @@ public class CirculantTracker<T extends ImageGray<T>> {
 	private InterleavedF64 tmpFourier1 = new InterleavedF64(1,1,2);
 	private InterleavedF64 tmpFourier2 = new InterleavedF64(1,1,2);
 
+	// storage for transforming a batch of images at once
+	private List<GrayF64> batchImages = new ArrayList<>();
+	private List<InterleavedF64> batchTransforms = new ArrayList<>();
+
 	// interpolation used when sampling input image into work space
 	private InterpolatePixelS<T> interp;
 
@@ -222,7 +228,7 @@ public class CirculantTracker<T extends ImageGray<T>> {
 		// Kernel Regularized Least-Squares, calculate alphas (in Fourier domain)
 		//	k = dense_gauss_kernel(sigma, x);
 		dense_gauss_kernel(sigma, template, template,k);
-		fft.forward(k, kf);
+		fft.forwardHalf(k, kf);
 
 		// new_alphaf = yf ./ (fft2(k) + lambda);   %(Eq. 7)
 		computeAlphas(gaussianWeightDFT, kf, lambda, alphaf);
@@ -272,7 +278,7 @@ public class CirculantTracker<T extends ImageGray<T>> {
 			}
 		}
 
-		fft.forward(gaussianWeight,gaussianWeightDFT);
+		fft.forwardHalf(gaussianWeight,gaussianWeightDFT);
 	}
 
 
@@ -281,17 +287,17 @@ public class CirculantTracker<T extends ImageGray<T>> {
 		template.reshape(workRegionSize, workRegionSize);
 		cosine.reshape(workRegionSize,workRegionSize);
 		k.reshape(workRegionSize,workRegionSize);
-		kf.reshape(workRegionSize,workRegionSize);
-		alphaf.reshape(workRegionSize,workRegionSize);
-		newAlphaf.reshape(workRegionSize,workRegionSize);
+		kf.reshape(workRegionSize/2+1,workRegionSize);
+		alphaf.reshape(workRegionSize/2+1,workRegionSize);
+		newAlphaf.reshape(workRegionSize/2+1,workRegionSize);
 		response.reshape(workRegionSize,workRegionSize);
 		tmpReal0.reshape(workRegionSize,workRegionSize);
 		tmpReal1.reshape(workRegionSize,workRegionSize);
-		tmpFourier0.reshape(workRegionSize,workRegionSize);
-		tmpFourier1.reshape(workRegionSize,workRegionSize);
-		tmpFourier2.reshape(workRegionSize,workRegionSize);
+		tmpFourier0.reshape(workRegionSize/2+1,workRegionSize);
+		tmpFourier1.reshape(workRegionSize/2+1,workRegionSize);
+		tmpFourier2.reshape(workRegionSize/2+1,workRegionSize);
 		gaussianWeight.reshape(workRegionSize,workRegionSize);
-		gaussianWeightDFT.reshape(workRegionSize,workRegionSize);
+		gaussianWeightDFT.reshape(workRegionSize/2+1,workRegionSize);
 	}
 
 	/**
@@ -315,11 +321,11 @@ public class CirculantTracker<T extends ImageGray<T>> {
 		// matlab: k = dense_gauss_kernel(sigma, x, z);
 		dense_gauss_kernel(sigma, templateNew, template,k);
 
-		fft.forward(k,kf);
+		fft.forwardHalf(k,kf);
 
 		// response = real(ifft2(alphaf .* fft2(k)));   %(Eq. 9)
 		DiscreteFourierTransformOps.multiplyComplex(alphaf, kf, tmpFourier0);
-		fft.inverse(tmpFourier0, response);
+		fft.inverseHalf(tmpFourier0, response);
 
 		// find the pixel with the largest response
 		int N = response.width*response.height;
@@ -381,7 +387,7 @@ public class CirculantTracker<T extends ImageGray<T>> {
 		// Kernel Regularized Least-Squares, calculate alphas (in Fourier domain)
 		//	k = dense_gauss_kernel(sigma, x);
 		dense_gauss_kernel(sigma, templateNew, templateNew, k);
-		fft.forward(k,kf);
+		fft.forwardHalf(k,kf);
 
 		// new_alphaf = yf ./ (fft2(k) + lambda);   %(Eq. 7)
 		computeAlphas(gaussianWeightDFT, kf, lambda, newAlphaf);
@@ -419,17 +425,19 @@ public class CirculantTracker<T extends ImageGray<T>> {
 		GrayF64 xy = tmpReal0;
 		double yy;
 
-		// find x in Fourier domain
-		fft.forward(x, xf);
 		double xx = imageDotProduct(x);
 
 		if( x != y ) {
-			// general case, x and y are different
+			// general case, x and y are different.  Find both in Fourier domain as a batch
 			yf = tmpFourier1;
-			fft.forward(y,yf);
+			batchImages.clear(); batchTransforms.clear();
+			batchImages.add(x); batchTransforms.add(xf);
+			batchImages.add(y); batchTransforms.add(yf);
+			fft.forward(batchImages,batchTransforms,true);
 			yy = imageDotProduct(y);
 		} else {
 			// auto-correlation of x, avoid repeating a few operations
+			fft.forwardHalf(x, xf);
 			yf = xf;
 			yy = xx;
 		}
@@ -438,7 +446,7 @@ public class CirculantTracker<T extends ImageGray<T>> {
 		// cross-correlation term in Fourier domain
 		elementMultConjB(xf,yf,xyf);
 		// convert to spatial domain
-		fft.inverse(xyf,xy);
+		fft.inverseHalf(xyf,xy);
 		circshift(xy,tmpReal1);
 
 		// calculate gaussian response for all positions
@@ -120,7 +120,7 @@ public class TestCirculantTracker {
 		CirculantTracker<GrayF32> alg = new CirculantTracker<>(1f/16,0.2,1e-2,0.075,1.0,w,255,interp);
 
 		alg.gaussianWeight.reshape(w,w);
-		alg.gaussianWeightDFT.reshape(w, w);
+		alg.gaussianWeightDFT.reshape(w/2+1, w);
 
 		alg.computeGaussianWeights(w);
 
@@ -39,6 +39,7 @@ import boofcv.alg.feature.associate.AssociateMaxDistanceNaive;
 import boofcv.alg.feature.associate.AssociateStereo2D;
 import boofcv.alg.geo.DistanceModelMonoPixels;
 import boofcv.alg.geo.pose.*;
+import boofcv.alg.geo.robust.RansacSprt;
 import boofcv.alg.sfm.DepthSparse3D;
 import boofcv.alg.sfm.StereoSparse3D;
 import boofcv.alg.sfm.d3.*;
@@ -206,7 +207,7 @@ public class FactoryVisualOdometry {
 		double ransacTOL = inlierPixelTol * inlierPixelTol;
 
 		ModelMatcher<Se3_F64, Point2D3D> motion =
-				new Ransac<>(2323, manager, generator, distance, ransacIterations, ransacTOL);
+				new RansacSprt<>(2323, manager, generator, distance, ransacIterations, ransacTOL);
 
 		RefinePnP refine = null;
 
@@ -258,7 +259,7 @@ public class FactoryVisualOdometry {
 		double ransacTOL = inlierPixelTol * inlierPixelTol;
 
 		ModelMatcher<Se3_F64, Point2D3D> motion =
-				new Ransac<>(2323, manager, generator, distance, ransacIterations, ransacTOL);
+				new RansacSprt<>(2323, manager, generator, distance, ransacIterations, ransacTOL);
 
 		RefinePnP refine = null;
 
@@ -311,7 +312,7 @@ public class FactoryVisualOdometry {
 		double ransacTOL = 2*inlierPixelTol * inlierPixelTol;
 
 		ModelMatcher<Se3_F64, Stereo2D3D> motion =
-				new Ransac<>(2323, manager, generator, distanceStereo, ransacIterations, ransacTOL);
+				new RansacSprt<>(2323, manager, generator, distanceStereo, ransacIterations, ransacTOL);
 
 		RefinePnPStereo refinePnP = null;
 